@@ -19,6 +19,7 @@ package cbtModel;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Vector;
 
 import uchicago.src.sim.gui.Drawable;
@@ -27,7 +28,6 @@ import uchicago.src.sim.gui.SimGraphics;
 import uchicago.src.sim.gui.ColorMap;
 import uchicago.src.sim.space.Object2DGrid;
 import uchicago.src.sim.space.Object2DTorus;
-import uchicago.src.sim.util.Random;
 
 public class AlcoholAgent implements Drawable {
 
@@ -36,55 +36,51 @@ public class AlcoholAgent implements Drawable {
 		public static int		nextID = 0;	// to give each agent an ID
 		int						ID;
 		
-		// demographic characteristics and socio-economic status
-		public double 		age;
-		public int			agecat;			// 1 18-24, 2 25-34, 3 35-44, 4 45-54, 5 55-64, 6 65+
-		public int			lastagecat;		// age category (1-6) at last time step (to keep track of those changing age category)
-		public int		 	gender;	    	// 0 female, 1 male	
-		public int 			race;       	// 1 white, 2 black, 3 hispanic, 4 others
-		public int  		education;  	// 1 < high school, 2 high school, 3 > high school
-		public int          houseincome;  	// 1 < 20k, 2 $20k-$39k, 3 $40k-$74k, 4 $75k+ can change
-		public int			lastincome;		// income category (1-4) at last time step (to keep track of those changing income category)
+		// columnar store holding everything used or changed at every time step, and this agent's slot in it;
+		// the getters and setters below index into its columns and flags
+		AlcoholPopulation		pop;
+		int						slot;
+		
+		// agent's own random number stream, used for draws made during the time step
+		public AlcoholRandom	rng;
+		
+		// neighborhood whose running sums include this agent (null if none); setters of the characteristics
+		// summed by neighborhoods pass on the change to it
+		public AlcoholNeighborhood	residence;
+		
+		// position of agent in the agent sets it belongs to, one for each kind of set (-1 not in a set of that kind)
+		public int[]		setIndex = new int[AlcoholAgentSet.NUM_KINDS];
+		
+		// demographic characteristics and socio-economic status (age category, education and income category
+		// at this and the last time step are columns of the population store)
 		public int 			houseinc16;		// 1 < $10k, 2 $10k-$14k, 3 $15k-$19k, 4 $20k-$24k, 5 $25k-$29k
 											// 6 $30k-$34k, 7 $35k-$39k, 8 $40k-$44k, 9 $45k-$49k, 10 $50k-$59k
 											// 11 $60k-$74k, 12 $75k-$99k, 13 $100k-$124k, 14 $125k-$149k, 15 $150k-$199k, 16 $200k+
 		public int			baseinc16;		// 16 income categories -- stays the same during the model run
 		
-			// dummy variables
-			public int      age1, age2, age3, age4, age5, age6; 	// 18-24 is referent
-									// age2 (25-34), age3 (35-44), age4 (45-54), age5 (55-64), age6 (65+)
-			public int		white, black, hisp, otherRace;			// white is referent 
-			public int		lesshs, hs, morehs;						// < hs is referent
-			public int		inc1, inc2, inc3, inc4;					// <$20,000 is referent
-									// inc2 ($20k-$39k), inc3 ($40k-$74k), inc4 ($75k+)
+			// dummy variables (flags of the population store)
+			// age1-age6: 18-24 is referent; age2 (25-34), age3 (35-44), age4 (45-54), age5 (55-64), age6 (65+)
+			// white, black, hisp, otherRace: white is referent
+			// lesshs, hs, morehs: < hs is referent
+			// inc1-inc4: <$20,000 is referent; inc2 ($20k-$39k), inc3 ($40k-$74k), inc4 ($75k+)
 
 		// all-cause mortality
 		public double	pMortality;						// probability of dying at current time step
-		public int		died;							// agent died at this time step (1 yes, 0 no)
-		public int		lastdied;						// agent died at last time step (1 yes, 0 no)
-		public int		doNotCount;						// indicator to show agent was recycled at this time step and should not be counted
-														//		when calculating drinking transition probabilities
+		public int		mortStratum = -1;				// mortality stratum the agent is kept in (see AlcoholMortality)
+		// flags: died, lastdied (agent died at last time step), doNotCount (agent was recycled at this time step and
+		// should not be counted when calculating drinking transition probabilities)
 		
 		// moving 
-		public double	pMove;							// probability of agent moving to another neighborhood at current time step
-		public int		moved;							// agent moved at this time step (1 yes, 0 no)
-		public int		everHighInc;					// agent ever lived in high income neighborhood
-		public int		everLowInc;						// agent ever lived in low income neighborhood
-		public int		baseIncHood;					// income level of baseline neighborhood (1 = high, 2 = low)
+		// flags: moved (agent moved at this time step), everHighInc, everLowInc (agent ever lived in high / low
+		// income neighborhood)
 		public double[]	probDuration = new double[7];	// probabilities of categories of initial duration of residence
 		public int		durationCat;					// initial duration of residence category
-		public double	durationRes;					// number of time steps in current neighborhood
-			// dummy variables for duration of residence
-			public int	durRes1, durRes2, durRes3;		// durRes1 (0-5 yrs), durRes2 (6-10 yrs), durRes3 (11-20 yrs) (>20 yrs is referent)
+		// columns: pMove (probability of moving at current time step), baseIncHood (income level of baseline
+		// neighborhood), durationRes (number of time steps in current neighborhood); flags durRes1 (0-5 yrs),
+		// durRes2 (6-10 yrs), durRes3 (11-20 yrs) (>20 yrs is referent)
 			
 		// agent location and neighborhood
-		private int 			myX;
-		private int				myY;
-		public int				Agenthood;	// neighborhood ID of agent (0-58)
 		public int				cdcode;	// community district ID of agents (101-112; 201-218; 301-312; 401-414; 501-503)
-
-			// variables for assigning agents to neighborhoods
-			public double[] popDist = new double[60];	// probabilities of residing in each of 59 community districts
 		
 		// drinking
 		
@@ -92,24 +88,17 @@ public class AlcoholAgent implements Drawable {
 		public double	probNonDrk;					// probability of being a current non-drinker
 		public double	probLightDrk;				// probability of being a current light/moderate drinker
 		public double	probHeavyDrk;				// probability of being a current heavy drinker
-		public int		drinkStat;					// current drinking status (1 non-drinker, 2 light/mod drinker, 3 heavy drinker)
-		public int		lastDrinkStat;				// drinking status at last time step (1 non-drinker, 2 light/mod drinker, 3 heavy)
-		public int		nonDrinker;					// agent is a non-drinker (1 yes, 0 no)
-		public int		lightDrinker;				// agent is a light/moderate drinker (1 yes, 0 no)
-		public int		heavyDrinker;				// agent is a heavy drinker (1 yes, 0 no)
-		public int		everHeavyDrk;				// agent was ever a heavy drinker (1 yes, 0 no)
+		// column baseDrinkStat (drinking status at baseline); flags: nonDrinker, lightDrinker, heavyDrinker (agent is
+		// a non-, light/moderate or heavy drinker; -1 not yet set), everHeavyDrk (agent was ever a heavy drinker),
+		// and baseline drinking status
 		public double	probAnyBeer;				// probability agent drinks beer ever
 		public double	probAnyWine;				// probability agent drinks wine ever
 		public double	probAnySpirit;				// probability agent drinks spiris ever
-		public int		anyBeer;					// agent drinks beer (1 yes, 0 no)
-		public int		anyWine;					// agent drinks wine (1 yes, 0 no)
-		public int		anySpirit;					// agent drinks spirits (1 yes, 0 no)
+		// flags anyBeer, anyWine, anySpirit: agent drinks beer, wine, spirits
 		public double 	probBeer;					// probability of preferring beer 
 		public double	probWine;					// probability of preferring wine
 		public double 	probSpirit;					// probability of preferring spirits
-		public int		preferBeer;					// agent prefers beer (1 yes, 0 no)
-		public int		preferWine;					// agent prefers wine (1 yes, 0 no)
-		public int		preferSpirit;				// agent prefers spirits (1 yes, 0 no)
+		// flags preferBeer, preferWine, preferSpirit: agent prefers beer, wine, spirits
 		
 
 		
@@ -118,11 +107,7 @@ public class AlcoholAgent implements Drawable {
 		// social network variables
 		public int			finalfriendsize;
 		public ArrayList<AlcoholAgent> friendList = new ArrayList<AlcoholAgent>();
-		public int			numFrdNoDrk;			// number of friends who do not drink
-		public int			numFrdLightDrk;			// number of friends who are light/moderate drinkers
-		public int			numFrdHeavyDrk;			// number of friends who are heavy drinkers
-		public int			numFrdVictim;			// number of friends who were victimized at last time step
-		public int			numFrdPerp;				// number of friends who were perpetrators of violence at last time step
+		// numbers of friends by drinking status and violence at last time step are columns of the population store
 		
 			// variables used in creating social network links
 			public double friendAgeMean, friendAgeDiff;
@@ -150,37 +135,36 @@ public class AlcoholAgent implements Drawable {
 		//// violent victimization, perpetration, and homicide
 
 		// victimization
-		public double		pviolvict;		// probability of violent victimization
-		public int			potviolvict;	// potential to be violently victimized (1 yes, 0 no)
-		public int			violvict;	// any violent victimization at current time step (1 yes, 0 no)
-		public int			alcViol;	// alcohol-related violent victimization at current time step (1 yes, 0 no)
+		// column pviolvict: probability of violent victimization
 		
 		// perpetration
-		public double		pviolperp;		// probability of violent perpetration
-		public int			potviolperp;	// potential to commit violent perpetration (1 yes, 0 no)
-		public int			violperp;		// violent perpetration at current time step (1 yes, 0 no)
+		// column pviolperp: probability of violent perpetration
 		
-		// history of violent victimization and perpetration
-		public int			priorviolvict;	// prior violent victimization at any time in past (0 no, 1 yes)
-		public int			lastviolvict;	// violent victimization at last time step
-		public int			priorviolperp;	// prior violent perpetration at any time in past (0 no, 1 yes)
-		public int			lastviolperp;	// violent perpetration at last time step (0 no, 1 yes)	
+		// history of violent victimization and perpetration (flags): priorviolvict, priorviolperp (at any time in
+		// past), lastviolvict, lastviolperp (at last time step)
 		
 		// homicide
-		public double		probHomicide;	// probability of homicide
-		public int			pothomicide;	// potential to be killed (1 yes, 0 no)
-		public int			homicide;		// fatal violence at current time step (0 no, 1 yes)
-		public int			alcHomicide;	// fatal alcohol-related violence at current time step (0 no, 1 yes)
+		// column probHomicide: probability of homicide (flag pothomicide: potential to be killed)
 		
-		public double		probViolence;	// highest probability of violence (of homicide, victimization, perpetration)
+		// column probViolence: highest probability of violence (of homicide, victimization, perpetration)
 		
 		///////////// agent movement -- NEED TO ADD THESE VARIABLES!
 		
 		// the Agent constructor
+		// A stand-alone agent keeps its characteristics in its own one-slot store
 		public AlcoholAgent() {
+			this(new AlcoholPopulation(1));
+		}
+		
+		// Agent whose characteristics are kept in a shared population store
+		public AlcoholAgent(AlcoholPopulation population) {
 
-			// Assign agent ID number
+			// Assign agent ID number and slot in the population store
 			ID = nextID++;
+			pop = population;
+			slot = pop.allocate(this);
+			Arrays.fill(setIndex, -1);
+			rng = new AlcoholRandom(pop.getMasterSeed(), ID);
 
 			// Initialize age, race and gender 			
 			ageRaceSexDist();
@@ -191,33 +175,32 @@ public class AlcoholAgent implements Drawable {
 			// Initialize household income level, based on race
 			houseIncomeDist();
 			
-			// Initialize baseline probabilities of residing in each neighborhood
-			hoodProbDist();
-			hoodProbDist2();
-			
-			// Initialize mortality probability
-			mortalityProb();
+			// Initialize mortality probability (for the agent's mortality stratum)
+			mortalityStratum();
 			
 			// Initialize duration of residence
 			durationResProb();
-			double randDuration = Random.uniform.nextDoubleFromTo(0, 1);
+			double age = getAge();
+			int race = getRace();
+			int houseincome = getHouseincome();
+			double randDuration = rng.nextDoubleFromTo(0, 1);
 			for (int j=0; j<6; j++) {
 				if (randDuration > probDuration[j] && randDuration <= probDuration[j+1]) {
 					durationCat = j + 1;
 				}
 			}
 			// Select actual number of years within category
-			if (durationCat == 1) { durationRes = 1; }
-			else if (durationCat == 2) { durationRes = (double) Random.uniform.nextIntFromTo(2,5); }
-			else if (durationCat == 3) { durationRes = (double) Random.uniform.nextIntFromTo(6,10); }
-			else if (durationCat == 4) { durationRes = (double) Random.uniform.nextIntFromTo(11,20); }
-			else if (durationCat == 5) { durationRes = (double) Random.uniform.nextIntFromTo(21,30); }
-			else if (durationCat == 6) { durationRes = (double) Random.uniform.nextIntFromTo(31,40); }
+			if (durationCat == 1) { pop.durationRes[slot] = 1; }
+			else if (durationCat == 2) { pop.durationRes[slot] = (double) rng.nextIntFromTo(2,5); }
+			else if (durationCat == 3) { pop.durationRes[slot] = (double) rng.nextIntFromTo(6,10); }
+			else if (durationCat == 4) { pop.durationRes[slot] = (double) rng.nextIntFromTo(11,20); }
+			else if (durationCat == 5) { pop.durationRes[slot] = (double) rng.nextIntFromTo(21,30); }
+			else if (durationCat == 6) { pop.durationRes[slot] = (double) rng.nextIntFromTo(31,40); }
 			// Make sure valid number is chosen and set dummy variables
-			if (durationRes > age) { durationRes = age; }
-				if (durationRes >= 0 && durationRes <= 5) { setDurRes1(1); } else setDurRes1(0);
-				if (durationRes >= 6 && durationRes <= 10) { setDurRes2(1); } else setDurRes2(0);
-				if (durationRes >= 11 && durationRes <= 20) { setDurRes3(1); } else setDurRes3(0);
+			if (pop.durationRes[slot] > age) { pop.durationRes[slot] = age; }
+				if (pop.durationRes[slot] >= 0 && pop.durationRes[slot] <= 5) { setDurRes1(1); } else setDurRes1(0);
+				if (pop.durationRes[slot] >= 6 && pop.durationRes[slot] <= 10) { setDurRes2(1); } else setDurRes2(0);
+				if (pop.durationRes[slot] >= 11 && pop.durationRes[slot] <= 20) { setDurRes3(1); } else setDurRes3(0);
 			
 			
 			//// Initialize all variables holding agent characteristics
@@ -227,7 +210,7 @@ public class AlcoholAgent implements Drawable {
 			else if (age>=45 && age<55) { setAgecat(4); }
 			else if (age>=55 && age<65) { setAgecat(5); }
 			else if (age>=65) { setAgecat(6); }
-			setLastagecat(agecat);
+			setLastagecat(pop.agecat[slot]);
 			
 			// dummy variables for socio-demographic characteristics
 			if (age>=18 && age<25){setAge1(1);} else setAge1(0);
@@ -240,9 +223,9 @@ public class AlcoholAgent implements Drawable {
 			if (race == 2 ){ setBlack(1);} else setBlack(0);
 			if (race == 3 ){ setHisp(1);} else setHisp(0);
 			if (race == 4 ){ setOtherRace(1);} else setOtherRace(0);
-			if (education == 1 ) { setLesshs(1);} else setLesshs(0);
-			if (education == 2 ) { setHs(1);} else setHs(0);
-			if (education == 3 ) { setMorehs(1);} else setMorehs(0);
+			if (pop.education[slot] == 1 ) { setLesshs(1);} else setLesshs(0);
+			if (pop.education[slot] == 2 ) { setHs(1);} else setHs(0);
+			if (pop.education[slot] == 3 ) { setMorehs(1);} else setMorehs(0);
 			if (houseincome == 1 ) { setInc1(1);} else setInc1(0);
 			if (houseincome == 2 ) { setInc2(1);} else setInc2(0);
 			if (houseincome == 3 ) { setInc3(1);} else setInc3(0);
@@ -250,25 +233,26 @@ public class AlcoholAgent implements Drawable {
 			setLastincome(houseincome);
 						
 			   // mortality
-			   died = 0;
-			   doNotCount = 0;
+			   setDied(0);
+			   setDoNotCount(0);
 			   
 			   // moving
-			   moved = 0;
-			   everHighInc = 0;
-			   everLowInc = 0;
-			   baseIncHood = -1;
+			   setMoved(0);
+			   setEverHighInc(0);
+			   setEverLowInc(0);
+			   pop.baseIncHood[slot] = -1;
 			   
 			   // drinking
 			   probNonDrk = 0;
 			   probLightDrk = 0;
 			   probHeavyDrk = 0;
-			   lastDrinkStat = -1;
-			   drinkStat = -1;
-			   nonDrinker = -1;
-			   lightDrinker = -1;
-			   heavyDrinker = -1;
-			   everHeavyDrk = 0;
+			   setLastDrinkStat(-1);
+			   pop.baseDrinkStat[slot] = -1;
+			   setDrinkStat(-1);
+			   setNonDrinker(-1);
+			   setLightDrinker(-1);
+			   setHeavyDrinker(-1);
+			   setEverHeavyDrk(0);
 			   
 
 			   
@@ -276,50 +260,51 @@ public class AlcoholAgent implements Drawable {
 			   probAnyBeer = 0;
 			   probAnyWine = 0;
 			   probAnySpirit = 0;
-			   anyBeer = 0;
-			   anyWine = 0;
-			   anySpirit = 0;
+			   setAnyBeer(0);
+			   setAnyWine(0);
+			   setAnySpirit(0);
 			   probBeer = 0;
 			   probWine = 0;
 			   probSpirit = 0;
-			   preferBeer = 0;
-			   preferWine = 0;
-			   preferSpirit = 0;
+			   setPreferBeer(0);
+			   setPreferWine(0);
+			   setPreferSpirit(0);
 			   
 			   // number of friends
-			   finalfriendsize = 1 + (int)(Math.random() * ((8 - 1) + 1));
+			   rng.start(AlcoholRandom.NETWORK, 0);
+			   finalfriendsize = rng.nextIntFromTo(1, 8);
 			   friendList.clear();
 			   
 			   // take mid-points for education for social network calculations
 			   eduYrs = 0;
-			   if (education==1) { setEduYrs(6); }
-			   else if (education==2) { setEduYrs(12); }
-			   else if (education==3) { setEduYrs(15); }
+			   if (pop.education[slot]==1) { setEduYrs(6); }
+			   else if (pop.education[slot]==2) { setEduYrs(12); }
+			   else if (pop.education[slot]==3) { setEduYrs(15); }
 
 			  
 			   // violent victimization
-			   pviolvict = 0;
-			   potviolvict = -1;
-			   violvict = -1;
-			   priorviolvict = 0;
-			   lastviolvict = -1;
-			   alcViol = 0;
+			   pop.pviolvict[slot] = 0;
+			   setPotviolvict(-1);
+			   setViolvict(-1);
+			   setPriorviolvict(0);
+			   setLastviolvict(-1);
+			   setAlcViol(0);
 			   
 			   // violent perpetration
-			   pviolperp = 0;
-			   potviolperp = -1;
-			   violperp = -1;
-			   priorviolperp = 0;
-			   lastviolperp = -1;
+			   pop.pviolperp[slot] = 0;
+			   setPotviolperp(-1);
+			   setViolperp(-1);
+			   setPriorviolperp(0);
+			   setLastviolperp(-1);
 			   
 			   // homicide
-			   probHomicide = 0;
-			   pothomicide = -1;
-			   homicide = -1;
-			   alcHomicide = 0;
+			   pop.probHomicide[slot] = 0;
+			   setPothomicide(-1);
+			   setHomicide(-1);
+			   setAlcHomicide(0);
 			   
 			   // overall violence
-			   probViolence = 0;
+			   pop.probViolence[slot] = 0;
 			    
 		} // end of agent constructor
 		
@@ -329,388 +314,28 @@ public class AlcoholAgent implements Drawable {
 		public void ageRaceSexDist(){
 
 			// initialize race, sex, age
-			double randomP = Random.uniform.nextDoubleFromTo(0,1);
-			if (randomP <=	0.002507528	) { age =	18	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.005246433	) { age =	19	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.008071106	) { age =	20	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.010846852	) { age =	21	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.013985551	) { age =	22	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.017690899	) { age =	23	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.021658618	) { age =	24	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.026046792	) { age =	25	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.030286237	) { age =	26	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.034740881	) { age =	27	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.039572707	) { age =	28	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.044711541	) { age =	29	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.050247049	) { age =	30	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.054937554	) { age =	31	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.059545019	) { age =	32	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.064026953	) { age =	33	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.068506937	) { age =	34	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.073439539	) { age =	35	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.077821671	) { age =	36	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.082031488	) { age =	37	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.086259822	) { age =	38	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.090435917	) { age =	39	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.095082173	) { age =	40	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.099039561	) { age =	41	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.103029111	) { age =	42	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.106858237	) { age =	43	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.11076202	) { age =	44	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.115002635	) { age =	45	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.11869044	) { age =	46	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.122504168	) { age =	47	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.126194117	) { age =	48	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.129912915	) { age =	49	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.133912017	) { age =	50	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.13756337	) { age =	51	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.141447271	) { age =	52	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.145279321	) { age =	53	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.148292877	) { age =	54	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.151294348	) { age =	55	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.154105765	) { age =	56	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.157075073	) { age =	57	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.159720219	) { age =	58	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.162236713	) { age =	59	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.164904666	) { age =	60	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.167342215	) { age =	61	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.169817386	) { age =	62	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.172121411	) { age =	63	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.174373781	) { age =	64	; gender =	1	; race =	1	; }
-			else if (randomP <=	0.176812305	) { age =	18	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.17957811	) { age =	19	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.182453463	) { age =	20	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.185328037	) { age =	21	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.188841188	) { age =	22	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.192948084	) { age =	23	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.197370175	) { age =	24	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.202142159	) { age =	25	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.206539104	) { age =	26	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.211167038	) { age =	27	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.215947598	) { age =	28	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.221080194	) { age =	29	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.226397775	) { age =	30	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.230878149	) { age =	31	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.235243322	) { age =	32	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.239365812	) { age =	33	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.243459453	) { age =	34	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.24778798	) { age =	35	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.251776166	) { age =	36	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.255651489	) { age =	37	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.259542797	) { age =	38	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.263481862	) { age =	39	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.267708832	) { age =	40	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.271507355	) { age =	41	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.275500414	) { age =	42	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.279384899	) { age =	43	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.283238391	) { age =	44	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.287383883	) { age =	45	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.291225484	) { age =	46	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.295131411	) { age =	47	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.299029931	) { age =	48	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.302968411	) { age =	49	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.307188754	) { age =	50	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.311220018	) { age =	51	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.315512874	) { age =	52	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.319790525	) { age =	53	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.323212451	) { age =	54	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.326588764	) { age =	55	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.329786915	) { age =	56	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.333141591	) { age =	57	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.336163139	) { age =	58	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.339064223	) { age =	59	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.342128459	) { age =	60	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.344959759	) { age =	61	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.347849927	) { age =	62	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.350493319	) { age =	63	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.35312443	) { age =	64	; gender =	0	; race =	1	; }
-			else if (randomP <=	0.356268976	) { age =	18	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.359281362	) { age =	19	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.362134104	) { age =	20	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.364886849	) { age =	21	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.367574099	) { age =	22	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.370183574	) { age =	23	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.372731646	) { age =	24	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.375296677	) { age =	25	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.377685301	) { age =	26	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.380224212	) { age =	27	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.382775988	) { age =	28	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.385640036	) { age =	29	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.388572307	) { age =	30	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.391300102	) { age =	31	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.394041151	) { age =	32	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.396760174	) { age =	33	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.3997211	) { age =	34	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.40296194	) { age =	35	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.405990115	) { age =	36	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.408944413	) { age =	37	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.411827759	) { age =	38	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.414778159	) { age =	39	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.417914713	) { age =	40	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.420679738	) { age =	41	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.423436382	) { age =	42	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.426068662	) { age =	43	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.428606794	) { age =	44	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.431222701	) { age =	45	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.433497097	) { age =	46	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.435741085	) { age =	47	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.437894628	) { age =	48	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.440132183	) { age =	49	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.442446929	) { age =	50	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.44443537	) { age =	51	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.446376053	) { age =	52	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.448235062	) { age =	53	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.449880432	) { age =	54	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.451556406	) { age =	55	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.453185598	) { age =	56	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.454718106	) { age =	57	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.456137947	) { age =	58	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.457563636	) { age =	59	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.459043514	) { age =	60	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.460339187	) { age =	61	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.46163369	) { age =	62	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.462790576	) { age =	63	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.463960132	) { age =	64	; gender =	1	; race =	2	; }
-			else if (randomP <=	0.467102924	) { age =	18	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.470219791	) { age =	19	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.473366871	) { age =	20	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.476462296	) { age =	21	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.479670388	) { age =	22	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.482916686	) { age =	23	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.486188518	) { age =	24	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.48945119	) { age =	25	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.492620492	) { age =	26	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.495934818	) { age =	27	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.499322437	) { age =	28	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.503054101	) { age =	29	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.506884786	) { age =	30	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.510359147	) { age =	31	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.51389569	) { age =	32	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.517505914	) { age =	33	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.521469929	) { age =	34	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.525506457	) { age =	35	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.529459166	) { age =	36	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.533350864	) { age =	37	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.537083112	) { age =	38	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.540928612	) { age =	39	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.544892822	) { age =	40	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.548474587	) { age =	41	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.551962398	) { age =	42	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.555402842	) { age =	43	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.558708202	) { age =	44	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.562077888	) { age =	45	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.565055382	) { age =	46	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.568047691	) { age =	47	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.570932596	) { age =	48	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.573876369	) { age =	49	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.576969454	) { age =	50	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.579704071	) { age =	51	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.582397559	) { age =	52	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.584959666	) { age =	53	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.587368366	) { age =	54	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.58980884	) { age =	55	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.592105458	) { age =	56	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.59443268	) { age =	57	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.596563416	) { age =	58	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.598653802	) { age =	59	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.60082021	) { age =	60	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.602695008	) { age =	61	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.60459807	) { age =	62	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.606334861	) { age =	63	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.608094458	) { age =	64	; gender =	0	; race =	2	; }
-			else if (randomP <=	0.611723005	) { age =	18	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.615446287	) { age =	19	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.61917834	) { age =	20	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.622897138	) { age =	21	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.626668567	) { age =	22	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.630412315	) { age =	23	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.634183938	) { age =	24	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.637944646	) { age =	25	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.641534403	) { age =	26	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.645244624	) { age =	27	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.648872392	) { age =	28	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.652813211	) { age =	29	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.656731418	) { age =	30	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.660343397	) { age =	31	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.664001768	) { age =	32	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.667510046	) { age =	33	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.671153408	) { age =	34	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.674881953	) { age =	35	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.678352805	) { age =	36	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.681668496	) { age =	37	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.684824543	) { age =	38	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.687982734	) { age =	39	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.691209929	) { age =	40	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.694015889	) { age =	41	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.696757913	) { age =	42	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.699374015	) { age =	43	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.701907078	) { age =	44	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.704452617	) { age =	45	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.706697384	) { age =	46	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.708841765	) { age =	47	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.7109495	) { age =	48	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.713098364	) { age =	49	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.715254831	) { age =	50	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.71713879	) { age =	51	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.71899663	) { age =	52	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.720768313	) { age =	53	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.722458321	) { age =	54	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.723986931	) { age =	55	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.725443613	) { age =	56	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.726909261	) { age =	57	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.728235733	) { age =	58	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.729533355	) { age =	59	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.730866454	) { age =	60	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.732085716	) { age =	61	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.733242797	) { age =	62	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.734277464	) { age =	63	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.735273341	) { age =	64	; gender =	1	; race =	3	; }
-			else if (randomP <=	0.738634645	) { age =	18	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.7420593	) { age =	19	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.745626445	) { age =	20	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.74916942	) { age =	21	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.752855666	) { age =	22	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.756588304	) { age =	23	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.76031295	) { age =	24	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.764083598	) { age =	25	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.767723451	) { age =	26	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.771482599	) { age =	27	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.775218941	) { age =	28	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.77923812	) { age =	29	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.783185566	) { age =	30	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.78688955	) { age =	31	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.790686904	) { age =	32	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.794352487	) { age =	33	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.798158612	) { age =	34	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.802030232	) { age =	35	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.805808288	) { age =	36	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.809404868	) { age =	37	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.812877279	) { age =	38	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.816310901	) { age =	39	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.819802025	) { age =	40	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.822969963	) { age =	41	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.826077668	) { age =	42	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.829097851	) { age =	43	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.832060921	) { age =	44	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.835056349	) { age =	45	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.837737556	) { age =	46	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.840377439	) { age =	47	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.842871712	) { age =	48	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.845462669	) { age =	49	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.848124383	) { age =	50	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.850470707	) { age =	51	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.85279364	) { age =	52	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.854981685	) { age =	53	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.857044392	) { age =	54	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.858955251	) { age =	55	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.860785606	) { age =	56	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.86265943	) { age =	57	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.864275366	) { age =	58	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.865894227	) { age =	59	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.867549928	) { age =	60	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.869095107	) { age =	61	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.8705629	) { age =	62	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.871930305	) { age =	63	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.873265548	) { age =	64	; gender =	0	; race =	3	; }
-			else if (randomP <=	0.874400992	) { age =	18	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.875568599	) { age =	19	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.876858814	) { age =	20	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.878168717	) { age =	21	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.879548988	) { age =	22	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.881053622	) { age =	23	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.882591198	) { age =	24	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.884327794	) { age =	25	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.886038659	) { age =	26	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.887886168	) { age =	27	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.889766229	) { age =	28	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.891683326	) { age =	29	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.893739601	) { age =	30	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.895551438	) { age =	31	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.897292322	) { age =	32	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.898973754	) { age =	33	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.900790074	) { age =	34	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.902786116	) { age =	35	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.904620565	) { age =	36	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.906517975	) { age =	37	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.908139369	) { age =	38	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.909865049	) { age =	39	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.911803393	) { age =	40	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.913446229	) { age =	41	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.915176782	) { age =	42	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.916772447	) { age =	43	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.918309828	) { age =	44	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.919959876	) { age =	45	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.921336444	) { age =	46	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.9226904	) { age =	47	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.923929544	) { age =	48	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.925191885	) { age =	49	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.92658853	) { age =	50	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.927737229	) { age =	51	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.928840705	) { age =	52	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.929814555	) { age =	53	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.930649423	) { age =	54	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.931480978	) { age =	55	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.932166532	) { age =	56	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.932868851	) { age =	57	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.933538811	) { age =	58	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.934199416	) { age =	59	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.934889648	) { age =	60	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.935480274	) { age =	61	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.936078307	) { age =	62	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.936655873	) { age =	63	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.93720342	) { age =	64	; gender =	1	; race =	4	; }
-			else if (randomP <=	0.938275123	) { age =	18	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.939449747	) { age =	19	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.940757311	) { age =	20	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.942034271	) { age =	21	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.943517268	) { age =	22	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.945115271	) { age =	23	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.946785982	) { age =	24	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.948637194	) { age =	25	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.950467939	) { age =	26	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.952394393	) { age =	27	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.954357883	) { age =	28	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.956280633	) { age =	29	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.958292854	) { age =	30	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.960122624	) { age =	31	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.961889433	) { age =	32	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.963528956	) { age =	33	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.965226371	) { age =	34	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.967002342	) { age =	35	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.968723344	) { age =	36	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.970422709	) { age =	37	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.971935529	) { age =	38	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.973529439	) { age =	39	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.975185531	) { age =	40	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.976685486	) { age =	41	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.978239826	) { age =	42	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.979696313	) { age =	43	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.981138765	) { age =	44	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.982623517	) { age =	45	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.983903206	) { age =	46	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.985194981	) { age =	47	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.986380131	) { age =	48	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.987617911	) { age =	49	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.989012606	) { age =	50	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.990185866	) { age =	51	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.991297529	) { age =	52	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.992288728	) { age =	53	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.993165894	) { age =	54	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.994010899	) { age =	55	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.994721794	) { age =	56	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.995467386	) { age =	57	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.996172823	) { age =	58	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.996874946	) { age =	59	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.997595978	) { age =	60	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.998223639	) { age =	61	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.998841165	) { age =	62	; gender =	0	; race =	4	; }
-			else if (randomP <=	0.999423019	) { age =	63	; gender =	0	; race =	4	; }
-			else if (randomP <=	1	) { age =	64	; gender =	0	; race =	4	; }		
+			double age = getAge();
+			int gender = getGender();
+			int race = getRace();
+			double randomP = rng.nextDoubleFromTo(0,1);
+			int k = AlcoholDistributions.ageRaceSexIndex(randomP);
+			if (k >= 0) {
+				age = AlcoholDistributions.ageRaceSexAge(k);
+				gender = AlcoholDistributions.ageRaceSexGender(k);
+				race = AlcoholDistributions.ageRaceSexRace(k);
+			}
+			setAge(age);
+			setGender(gender);
+			setRace(race);
 		}
 		
 		// Initial distribution of education, by age, gender, and race/ethnicity
 		public void educationDist() {
-			double randomP3= Random.uniform.nextDoubleFromTo(0,1);
+			double age = getAge();
+			int gender = getGender();
+			int race = getRace();
+			int education = getEducation();
+			double randomP3= rng.nextDoubleFromTo(0,1);
 			if (age >= 	18	 && age <= 	24	 && gender == 	1	 && race == 	1	 && randomP3 >= 	0	 && randomP3 <=	0.13763727	) { education=1; }
 			else if (age >= 	18	 && age <= 	24	 && gender == 	1	 && race == 	1	 && randomP3 > 	0.13763727	 && randomP3 <=	0.36707497	) { education=2; }
 			else if (age >= 	18	 && age <= 	24	 && gender == 	1	 && race == 	1	 && randomP3 > 	0.36707497	 && randomP3 <=	1.00000000	) { education=3; }
@@ -831,12 +456,15 @@ public class AlcoholAgent implements Drawable {
 			else if (age >= 	65			 && gender == 	0	 && race == 	4	 && randomP3 >= 	0.00000000	 && randomP3 <=	0.53577867	) { education=1; }
 			else if (age >= 	65			 && gender == 	0	 && race == 	4	 && randomP3 > 	0.53577867	 && randomP3 <=	0.63875501	) { education=2; }
 			else if (age >= 	65			 && gender == 	0	 && race == 	4	 && randomP3 > 	0.63875501	 && randomP3 <=	1.00000000	) { education=3; }
+			setEducation(education);
 		}
 		
 		// houseIncomeDist() 
 		// Initial distribution of household income, by race/ethnicity
 		public void houseIncomeDist() {
-			double randomP4= Random.uniform.nextDoubleFromTo(0,1);
+			int race = getRace();
+			int houseincome = getHouseincome();
+			double randomP4= rng.nextDoubleFromTo(0,1);
 			if (race ==	1	&& randomP4 <=	0.104371658	) 		  { houseinc16 =	1	; }
 			else if (race ==	1	&& randomP4 <=	0.167480885	) { houseinc16 =	2	; }
 			else if (race ==	1	&& randomP4 <=	0.215532812	) { houseinc16 =	3	; }
@@ -908,299 +536,31 @@ public class AlcoholAgent implements Drawable {
 					else if (houseinc16 >= 4 && houseinc16 <= 7) { houseincome = 2; }
 					else if (houseinc16 >= 8 && houseinc16 <= 11) { houseincome = 3; }
 					else if (houseinc16 >= 12 && houseinc16 <= 16) { houseincome = 4; }
+			setHouseincome(houseincome);
 		
 			baseinc16 = houseinc16;
 					
 		} // end of houseIncomeDist()
 	
-		// Probabilities of residing in each neighborhood, by agent gender, race, age, and household income
-		// NOTE: this function had to be split into two because so large
-		public void hoodProbDist() {
-			if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0014	; popDist[3] =	0.0017	; popDist[4] =	0.0030	; popDist[5] = 	0.0042	; popDist[6] =	0.0115	; popDist[7] =	0.0194	; popDist[8] = 	0.0307	; popDist[9] = 	0.0334	; popDist[10] = 	0.0449	; popDist[11] = 	0.0582	; popDist[12] = 	0.0637	; popDist[13] = 	0.1156	; popDist[14] = 	0.1325	; popDist[15] = 	0.1342	; popDist[16] = 	0.1360	; popDist[17] = 	0.1408	; popDist[18] = 	0.1551	; popDist[19] = 	0.1716	; popDist[20] = 	0.1772	; popDist[21] = 	0.1820	; popDist[22] = 	0.2079	; popDist[23] = 	0.2677	; popDist[24] = 	0.3484	; popDist[25] = 	0.3810	; popDist[26] = 	0.4110	; popDist[27] = 	0.4607	; popDist[28] = 	0.4611	; popDist[29] = 	0.4623	; popDist[30] = 	0.4795	; popDist[31] = 	0.4881	; popDist[32] = 	0.5134	; popDist[33] = 	0.5619	; popDist[34] = 	0.5783	; popDist[35] = 	0.5923	; popDist[36] = 	0.6111	; popDist[37] = 	0.6358	; popDist[38] = 	0.6574	; popDist[39] = 	0.6794	; popDist[40] = 	0.6817	; popDist[41] = 	0.6888	; popDist[42] = 	0.7026	; popDist[43] =	0.7512	; popDist[44] =	0.7656	; popDist[45] =	0.7748	; popDist[46] =	0.7833	; popDist[47] =	0.8124	; popDist[48] =	0.8287	; popDist[49] =	0.8640	; popDist[50] =	0.8785	; popDist[51] =	0.8920	; popDist[52] =	0.9035	; popDist[53] =	0.9142	; popDist[54] =	0.9158	; popDist[55] =	0.9207	; popDist[56] =	0.9364	; popDist[57] =	0.9631	; popDist[58] =	0.9840	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0008	; popDist[3] =	0.0009	; popDist[4] =	0.0016	; popDist[5] = 	0.0021	; popDist[6] =	0.0056	; popDist[7] =	0.0116	; popDist[8] = 	0.0231	; popDist[9] = 	0.0254	; popDist[10] = 	0.0408	; popDist[11] = 	0.0554	; popDist[12] = 	0.0604	; popDist[13] = 	0.1003	; popDist[14] = 	0.1152	; popDist[15] = 	0.1162	; popDist[16] = 	0.1175	; popDist[17] = 	0.1206	; popDist[18] = 	0.1352	; popDist[19] = 	0.1505	; popDist[20] = 	0.1547	; popDist[21] = 	0.1595	; popDist[22] = 	0.1876	; popDist[23] = 	0.2384	; popDist[24] = 	0.3001	; popDist[25] = 	0.3217	; popDist[26] = 	0.3487	; popDist[27] = 	0.3956	; popDist[28] = 	0.3958	; popDist[29] = 	0.3971	; popDist[30] = 	0.4176	; popDist[31] = 	0.4297	; popDist[32] = 	0.4540	; popDist[33] = 	0.4918	; popDist[34] = 	0.5079	; popDist[35] = 	0.5208	; popDist[36] = 	0.5429	; popDist[37] = 	0.5683	; popDist[38] = 	0.5945	; popDist[39] = 	0.6101	; popDist[40] = 	0.6114	; popDist[41] = 	0.6155	; popDist[42] = 	0.6269	; popDist[43] =	0.6773	; popDist[44] =	0.6964	; popDist[45] =	0.7077	; popDist[46] =	0.7178	; popDist[47] =	0.7549	; popDist[48] =	0.7756	; popDist[49] =	0.8217	; popDist[50] =	0.8453	; popDist[51] =	0.8622	; popDist[52] =	0.8785	; popDist[53] =	0.8975	; popDist[54] =	0.8997	; popDist[55] =	0.9088	; popDist[56] =	0.9218	; popDist[57] =	0.9483	; popDist[58] =	0.9716	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0008	; popDist[5] = 	0.0012	; popDist[6] =	0.0028	; popDist[7] =	0.0065	; popDist[8] = 	0.0188	; popDist[9] = 	0.0202	; popDist[10] = 	0.0381	; popDist[11] = 	0.0506	; popDist[12] = 	0.0546	; popDist[13] = 	0.0799	; popDist[14] = 	0.0942	; popDist[15] = 	0.0949	; popDist[16] = 	0.0954	; popDist[17] = 	0.0974	; popDist[18] = 	0.1157	; popDist[19] = 	0.1272	; popDist[20] = 	0.1298	; popDist[21] = 	0.1327	; popDist[22] = 	0.1636	; popDist[23] = 	0.2128	; popDist[24] = 	0.2609	; popDist[25] = 	0.2770	; popDist[26] = 	0.2964	; popDist[27] = 	0.3418	; popDist[28] = 	0.3419	; popDist[29] = 	0.3428	; popDist[30] = 	0.3665	; popDist[31] = 	0.3777	; popDist[32] = 	0.4088	; popDist[33] = 	0.4365	; popDist[34] = 	0.4530	; popDist[35] = 	0.4681	; popDist[36] = 	0.5008	; popDist[37] = 	0.5305	; popDist[38] = 	0.5693	; popDist[39] = 	0.5781	; popDist[40] = 	0.5788	; popDist[41] = 	0.5809	; popDist[42] = 	0.5886	; popDist[43] =	0.6287	; popDist[44] =	0.6454	; popDist[45] =	0.6555	; popDist[46] =	0.6633	; popDist[47] =	0.7013	; popDist[48] =	0.7271	; popDist[49] =	0.7722	; popDist[50] =	0.7974	; popDist[51] =	0.8143	; popDist[52] =	0.8328	; popDist[53] =	0.8607	; popDist[54] =	0.8626	; popDist[55] =	0.8751	; popDist[56] =	0.8854	; popDist[57] =	0.9153	; popDist[58] =	0.9509	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0001	; popDist[5] = 	0.0003	; popDist[6] =	0.0008	; popDist[7] =	0.0022	; popDist[8] = 	0.0121	; popDist[9] = 	0.0126	; popDist[10] = 	0.0251	; popDist[11] = 	0.0328	; popDist[12] = 	0.0357	; popDist[13] = 	0.0471	; popDist[14] = 	0.0626	; popDist[15] = 	0.0628	; popDist[16] = 	0.0630	; popDist[17] = 	0.0638	; popDist[18] = 	0.0850	; popDist[19] = 	0.0921	; popDist[20] = 	0.0937	; popDist[21] = 	0.0949	; popDist[22] = 	0.1213	; popDist[23] = 	0.1540	; popDist[24] = 	0.1847	; popDist[25] = 	0.1937	; popDist[26] = 	0.2054	; popDist[27] = 	0.2455	; popDist[28] = 	0.2455	; popDist[29] = 	0.2458	; popDist[30] = 	0.2671	; popDist[31] = 	0.2998	; popDist[32] = 	0.3568	; popDist[33] = 	0.3762	; popDist[34] = 	0.3984	; popDist[35] = 	0.4308	; popDist[36] = 	0.4886	; popDist[37] = 	0.5451	; popDist[38] = 	0.6199	; popDist[39] = 	0.6263	; popDist[40] = 	0.6266	; popDist[41] = 	0.6278	; popDist[42] = 	0.6313	; popDist[43] =	0.6556	; popDist[44] =	0.6650	; popDist[45] =	0.6709	; popDist[46] =	0.6751	; popDist[47] =	0.7004	; popDist[48] =	0.7246	; popDist[49] =	0.7627	; popDist[50] =	0.7842	; popDist[51] =	0.7947	; popDist[52] =	0.8091	; popDist[53] =	0.8418	; popDist[54] =	0.8429	; popDist[55] =	0.8560	; popDist[56] =	0.8637	; popDist[57] =	0.8915	; popDist[58] =	0.9336	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0184	; popDist[2] =	0.0275	; popDist[3] =	0.0511	; popDist[4] =	0.0865	; popDist[5] = 	0.1176	; popDist[6] =	0.1377	; popDist[7] =	0.1563	; popDist[8] = 	0.1598	; popDist[9] = 	0.1898	; popDist[10] = 	0.1949	; popDist[11] = 	0.2025	; popDist[12] = 	0.2412	; popDist[13] = 	0.2483	; popDist[14] = 	0.2646	; popDist[15] = 	0.3415	; popDist[16] = 	0.3604	; popDist[17] = 	0.4129	; popDist[18] = 	0.4160	; popDist[19] = 	0.4193	; popDist[20] = 	0.4601	; popDist[21] = 	0.5047	; popDist[22] = 	0.5053	; popDist[23] = 	0.5057	; popDist[24] = 	0.5111	; popDist[25] = 	0.5204	; popDist[26] = 	0.5589	; popDist[27] = 	0.5611	; popDist[28] = 	0.6110	; popDist[29] = 	0.6787	; popDist[30] = 	0.7049	; popDist[31] = 	0.7056	; popDist[32] = 	0.7064	; popDist[33] = 	0.7185	; popDist[34] = 	0.7203	; popDist[35] = 	0.7212	; popDist[36] = 	0.7223	; popDist[37] = 	0.7258	; popDist[38] = 	0.7264	; popDist[39] = 	0.7582	; popDist[40] = 	0.8126	; popDist[41] = 	0.8445	; popDist[42] = 	0.8561	; popDist[43] =	0.8627	; popDist[44] =	0.8641	; popDist[45] =	0.8712	; popDist[46] =	0.8789	; popDist[47] =	0.8797	; popDist[48] =	0.8803	; popDist[49] =	0.8833	; popDist[50] =	0.8892	; popDist[51] =	0.8931	; popDist[52] =	0.8989	; popDist[53] =	0.8991	; popDist[54] =	0.9535	; popDist[55] =	0.9703	; popDist[56] =	0.9882	; popDist[57] =	0.9990	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0106	; popDist[2] =	0.0160	; popDist[3] =	0.0294	; popDist[4] =	0.0548	; popDist[5] = 	0.0761	; popDist[6] =	0.0879	; popDist[7] =	0.1050	; popDist[8] = 	0.1096	; popDist[9] = 	0.1383	; popDist[10] = 	0.1466	; popDist[11] = 	0.1570	; popDist[12] = 	0.2023	; popDist[13] = 	0.2090	; popDist[14] = 	0.2264	; popDist[15] = 	0.2823	; popDist[16] = 	0.2970	; popDist[17] = 	0.3416	; popDist[18] = 	0.3453	; popDist[19] = 	0.3492	; popDist[20] = 	0.3895	; popDist[21] = 	0.4419	; popDist[22] = 	0.4426	; popDist[23] = 	0.4431	; popDist[24] = 	0.4481	; popDist[25] = 	0.4558	; popDist[26] = 	0.4984	; popDist[27] = 	0.5010	; popDist[28] = 	0.5321	; popDist[29] = 	0.6158	; popDist[30] = 	0.6544	; popDist[31] = 	0.6555	; popDist[32] = 	0.6565	; popDist[33] = 	0.6679	; popDist[34] = 	0.6701	; popDist[35] = 	0.6711	; popDist[36] = 	0.6725	; popDist[37] = 	0.6767	; popDist[38] = 	0.6781	; popDist[39] = 	0.7056	; popDist[40] = 	0.7433	; popDist[41] = 	0.7653	; popDist[42] = 	0.7774	; popDist[43] =	0.7860	; popDist[44] =	0.7884	; popDist[45] =	0.7990	; popDist[46] =	0.8103	; popDist[47] =	0.8112	; popDist[48] =	0.8123	; popDist[49] =	0.8172	; popDist[50] =	0.8291	; popDist[51] =	0.8349	; popDist[52] =	0.8452	; popDist[53] =	0.8458	; popDist[54] =	0.9274	; popDist[55] =	0.9670	; popDist[56] =	0.9850	; popDist[57] =	0.9985	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0055	; popDist[2] =	0.0094	; popDist[3] =	0.0173	; popDist[4] =	0.0353	; popDist[5] = 	0.0492	; popDist[6] =	0.0565	; popDist[7] =	0.0709	; popDist[8] = 	0.0776	; popDist[9] = 	0.1025	; popDist[10] = 	0.1155	; popDist[11] = 	0.1273	; popDist[12] = 	0.1755	; popDist[13] = 	0.1809	; popDist[14] = 	0.2034	; popDist[15] = 	0.2477	; popDist[16] = 	0.2571	; popDist[17] = 	0.2921	; popDist[18] = 	0.2985	; popDist[19] = 	0.3025	; popDist[20] = 	0.3356	; popDist[21] = 	0.3770	; popDist[22] = 	0.3780	; popDist[23] = 	0.3790	; popDist[24] = 	0.3842	; popDist[25] = 	0.3917	; popDist[26] = 	0.4323	; popDist[27] = 	0.4356	; popDist[28] = 	0.4566	; popDist[29] = 	0.5356	; popDist[30] = 	0.5945	; popDist[31] = 	0.5958	; popDist[32] = 	0.5977	; popDist[33] = 	0.6090	; popDist[34] = 	0.6123	; popDist[35] = 	0.6137	; popDist[36] = 	0.6164	; popDist[37] = 	0.6229	; popDist[38] = 	0.6249	; popDist[39] = 	0.6460	; popDist[40] = 	0.6723	; popDist[41] = 	0.6885	; popDist[42] = 	0.6987	; popDist[43] =	0.7080	; popDist[44] =	0.7109	; popDist[45] =	0.7237	; popDist[46] =	0.7349	; popDist[47] =	0.7362	; popDist[48] =	0.7382	; popDist[49] =	0.7442	; popDist[50] =	0.7610	; popDist[51] =	0.7693	; popDist[52] =	0.7848	; popDist[53] =	0.7861	; popDist[54] =	0.8870	; popDist[55] =	0.9577	; popDist[56] =	0.9767	; popDist[57] =	0.9970	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0030	; popDist[2] =	0.0046	; popDist[3] =	0.0089	; popDist[4] =	0.0166	; popDist[5] = 	0.0240	; popDist[6] =	0.0273	; popDist[7] =	0.0353	; popDist[8] = 	0.0432	; popDist[9] = 	0.0587	; popDist[10] = 	0.0722	; popDist[11] = 	0.0830	; popDist[12] = 	0.1330	; popDist[13] = 	0.1366	; popDist[14] = 	0.1730	; popDist[15] = 	0.2058	; popDist[16] = 	0.2108	; popDist[17] = 	0.2348	; popDist[18] = 	0.2459	; popDist[19] = 	0.2493	; popDist[20] = 	0.2782	; popDist[21] = 	0.3060	; popDist[22] = 	0.3074	; popDist[23] = 	0.3081	; popDist[24] = 	0.3131	; popDist[25] = 	0.3195	; popDist[26] = 	0.3554	; popDist[27] = 	0.3596	; popDist[28] = 	0.3736	; popDist[29] = 	0.4374	; popDist[30] = 	0.5173	; popDist[31] = 	0.5233	; popDist[32] = 	0.5283	; popDist[33] = 	0.5403	; popDist[34] = 	0.5468	; popDist[35] = 	0.5515	; popDist[36] = 	0.5593	; popDist[37] = 	0.5772	; popDist[38] = 	0.5841	; popDist[39] = 	0.6071	; popDist[40] = 	0.6252	; popDist[41] = 	0.6385	; popDist[42] = 	0.6451	; popDist[43] =	0.6534	; popDist[44] =	0.6558	; popDist[45] =	0.6667	; popDist[46] =	0.6765	; popDist[47] =	0.6778	; popDist[48] =	0.6802	; popDist[49] =	0.6879	; popDist[50] =	0.7098	; popDist[51] =	0.7172	; popDist[52] =	0.7352	; popDist[53] =	0.7374	; popDist[54] =	0.8349	; popDist[55] =	0.9445	; popDist[56] =	0.9660	; popDist[57] =	0.9941	; popDist[58] =	0.9976	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0396	; popDist[2] =	0.0623	; popDist[3] =	0.0857	; popDist[4] =	0.1316	; popDist[5] = 	0.1788	; popDist[6] =	0.2174	; popDist[7] =	0.2576	; popDist[8] = 	0.2655	; popDist[9] = 	0.3044	; popDist[10] = 	0.3103	; popDist[11] = 	0.3218	; popDist[12] = 	0.3313	; popDist[13] = 	0.3691	; popDist[14] = 	0.3753	; popDist[15] = 	0.3917	; popDist[16] = 	0.4350	; popDist[17] = 	0.4699	; popDist[18] = 	0.4741	; popDist[19] = 	0.5051	; popDist[20] = 	0.5102	; popDist[21] = 	0.5147	; popDist[22] = 	0.5188	; popDist[23] = 	0.5266	; popDist[24] = 	0.5457	; popDist[25] = 	0.5546	; popDist[26] = 	0.5660	; popDist[27] = 	0.5700	; popDist[28] = 	0.5803	; popDist[29] = 	0.5843	; popDist[30] = 	0.5881	; popDist[31] = 	0.5888	; popDist[32] = 	0.5906	; popDist[33] = 	0.6229	; popDist[34] = 	0.6270	; popDist[35] = 	0.6281	; popDist[36] = 	0.6295	; popDist[37] = 	0.6343	; popDist[38] = 	0.6360	; popDist[39] = 	0.6724	; popDist[40] = 	0.6831	; popDist[41] = 	0.7207	; popDist[42] = 	0.7843	; popDist[43] =	0.8102	; popDist[44] =	0.8262	; popDist[45] =	0.8629	; popDist[46] =	0.9076	; popDist[47] =	0.9193	; popDist[48] =	0.9224	; popDist[49] =	0.9371	; popDist[50] =	0.9433	; popDist[51] =	0.9593	; popDist[52] =	0.9661	; popDist[53] =	0.9676	; popDist[54] =	0.9777	; popDist[55] =	0.9807	; popDist[56] =	0.9881	; popDist[57] =	0.9967	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0227	; popDist[2] =	0.0362	; popDist[3] =	0.0495	; popDist[4] =	0.0825	; popDist[5] = 	0.1147	; popDist[6] =	0.1372	; popDist[7] =	0.1746	; popDist[8] = 	0.1846	; popDist[9] = 	0.2224	; popDist[10] = 	0.2321	; popDist[11] = 	0.2475	; popDist[12] = 	0.2585	; popDist[13] = 	0.2940	; popDist[14] = 	0.3005	; popDist[15] = 	0.3123	; popDist[16] = 	0.3459	; popDist[17] = 	0.3754	; popDist[18] = 	0.3807	; popDist[19] = 	0.4162	; popDist[20] = 	0.4212	; popDist[21] = 	0.4263	; popDist[22] = 	0.4319	; popDist[23] = 	0.4399	; popDist[24] = 	0.4577	; popDist[25] = 	0.4648	; popDist[26] = 	0.4772	; popDist[27] = 	0.4820	; popDist[28] = 	0.4882	; popDist[29] = 	0.4931	; popDist[30] = 	0.4986	; popDist[31] = 	0.4998	; popDist[32] = 	0.5017	; popDist[33] = 	0.5322	; popDist[34] = 	0.5372	; popDist[35] = 	0.5384	; popDist[36] = 	0.5406	; popDist[37] = 	0.5463	; popDist[38] = 	0.5483	; popDist[39] = 	0.5799	; popDist[40] = 	0.5873	; popDist[41] = 	0.6136	; popDist[42] = 	0.6780	; popDist[43] =	0.7112	; popDist[44] =	0.7372	; popDist[45] =	0.7923	; popDist[46] =	0.8576	; popDist[47] =	0.8759	; popDist[48] =	0.8807	; popDist[49] =	0.9042	; popDist[50] =	0.9162	; popDist[51] =	0.9404	; popDist[52] =	0.9519	; popDist[53] =	0.9552	; popDist[54] =	0.9701	; popDist[55] =	0.9768	; popDist[56] =	0.9842	; popDist[57] =	0.9949	; popDist[58] =	0.9979	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0118	; popDist[2] =	0.0212	; popDist[3] =	0.0290	; popDist[4] =	0.0524	; popDist[5] = 	0.0732	; popDist[6] =	0.0872	; popDist[7] =	0.1187	; popDist[8] = 	0.1329	; popDist[9] = 	0.1658	; popDist[10] = 	0.1807	; popDist[11] = 	0.1985	; popDist[12] = 	0.2102	; popDist[13] = 	0.2402	; popDist[14] = 	0.2486	; popDist[15] = 	0.2581	; popDist[16] = 	0.2797	; popDist[17] = 	0.3030	; popDist[18] = 	0.3118	; popDist[19] = 	0.3475	; popDist[20] = 	0.3515	; popDist[21] = 	0.3556	; popDist[22] = 	0.3639	; popDist[23] = 	0.3740	; popDist[24] = 	0.3924	; popDist[25] = 	0.3995	; popDist[26] = 	0.4116	; popDist[27] = 	0.4176	; popDist[28] = 	0.4220	; popDist[29] = 	0.4266	; popDist[30] = 	0.4351	; popDist[31] = 	0.4366	; popDist[32] = 	0.4401	; popDist[33] = 	0.4698	; popDist[34] = 	0.4766	; popDist[35] = 	0.4785	; popDist[36] = 	0.4826	; popDist[37] = 	0.4916	; popDist[38] = 	0.4960	; popDist[39] = 	0.5199	; popDist[40] = 	0.5250	; popDist[41] = 	0.5441	; popDist[42] = 	0.6002	; popDist[43] =	0.6352	; popDist[44] =	0.6655	; popDist[45] =	0.7313	; popDist[46] =	0.7969	; popDist[47] =	0.8220	; popDist[48] =	0.8301	; popDist[49] =	0.8602	; popDist[50] =	0.8775	; popDist[51] =	0.9100	; popDist[52] =	0.9275	; popDist[53] =	0.9341	; popDist[54] =	0.9530	; popDist[55] =	0.9651	; popDist[56] =	0.9730	; popDist[57] =	0.9890	; popDist[58] =	0.9954	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0068	; popDist[2] =	0.0113	; popDist[3] =	0.0156	; popDist[4] =	0.0259	; popDist[5] = 	0.0375	; popDist[6] =	0.0440	; popDist[7] =	0.0623	; popDist[8] = 	0.0802	; popDist[9] = 	0.1010	; popDist[10] = 	0.1173	; popDist[11] = 	0.1340	; popDist[12] = 	0.1469	; popDist[13] = 	0.1683	; popDist[14] = 	0.1821	; popDist[15] = 	0.1892	; popDist[16] = 	0.2014	; popDist[17] = 	0.2184	; popDist[18] = 	0.2343	; popDist[19] = 	0.2683	; popDist[20] = 	0.2719	; popDist[21] = 	0.2749	; popDist[22] = 	0.2861	; popDist[23] = 	0.2969	; popDist[24] = 	0.3149	; popDist[25] = 	0.3210	; popDist[26] = 	0.3319	; popDist[27] = 	0.3404	; popDist[28] = 	0.3433	; popDist[29] = 	0.3470	; popDist[30] = 	0.3591	; popDist[31] = 	0.3662	; popDist[32] = 	0.3759	; popDist[33] = 	0.4084	; popDist[34] = 	0.4228	; popDist[35] = 	0.4289	; popDist[36] = 	0.4407	; popDist[37] = 	0.4686	; popDist[38] = 	0.4809	; popDist[39] = 	0.5087	; popDist[40] = 	0.5126	; popDist[41] = 	0.5287	; popDist[42] = 	0.5681	; popDist[43] =	0.6008	; popDist[44] =	0.6272	; popDist[45] =	0.6855	; popDist[46] =	0.7426	; popDist[47] =	0.7686	; popDist[48] =	0.7803	; popDist[49] =	0.8200	; popDist[50] =	0.8432	; popDist[51] =	0.8743	; popDist[52] =	0.8953	; popDist[53] =	0.9070	; popDist[54] =	0.9257	; popDist[55] =	0.9453	; popDist[56] =	0.9547	; popDist[57] =	0.9781	; popDist[58] =	0.9901	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0351	; popDist[2] =	0.0548	; popDist[3] =	0.0758	; popDist[4] =	0.1221	; popDist[5] = 	0.1702	; popDist[6] =	0.2058	; popDist[7] =	0.2452	; popDist[8] = 	0.2524	; popDist[9] = 	0.2856	; popDist[10] = 	0.2901	; popDist[11] = 	0.3001	; popDist[12] = 	0.3099	; popDist[13] = 	0.3495	; popDist[14] = 	0.3561	; popDist[15] = 	0.3738	; popDist[16] = 	0.4188	; popDist[17] = 	0.4566	; popDist[18] = 	0.4610	; popDist[19] = 	0.4909	; popDist[20] = 	0.4969	; popDist[21] = 	0.5026	; popDist[22] = 	0.5084	; popDist[23] = 	0.5169	; popDist[24] = 	0.5389	; popDist[25] = 	0.5482	; popDist[26] = 	0.5613	; popDist[27] = 	0.5655	; popDist[28] = 	0.5758	; popDist[29] = 	0.5820	; popDist[30] = 	0.5861	; popDist[31] = 	0.5871	; popDist[32] = 	0.5889	; popDist[33] = 	0.6194	; popDist[34] = 	0.6231	; popDist[35] = 	0.6242	; popDist[36] = 	0.6258	; popDist[37] = 	0.6303	; popDist[38] = 	0.6311	; popDist[39] = 	0.6703	; popDist[40] = 	0.6819	; popDist[41] = 	0.7147	; popDist[42] = 	0.7837	; popDist[43] =	0.8129	; popDist[44] =	0.8270	; popDist[45] =	0.8554	; popDist[46] =	0.8923	; popDist[47] =	0.9031	; popDist[48] =	0.9057	; popDist[49] =	0.9188	; popDist[50] =	0.9262	; popDist[51] =	0.9475	; popDist[52] =	0.9603	; popDist[53] =	0.9617	; popDist[54] =	0.9773	; popDist[55] =	0.9815	; popDist[56] =	0.9896	; popDist[57] =	0.9979	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0199	; popDist[2] =	0.0315	; popDist[3] =	0.0433	; popDist[4] =	0.0761	; popDist[5] = 	0.1089	; popDist[6] =	0.1296	; popDist[7] =	0.1658	; popDist[8] = 	0.1747	; popDist[9] = 	0.2065	; popDist[10] = 	0.2139	; popDist[11] = 	0.2273	; popDist[12] = 	0.2390	; popDist[13] = 	0.2757	; popDist[14] = 	0.2828	; popDist[15] = 	0.2953	; popDist[16] = 	0.3297	; popDist[17] = 	0.3615	; popDist[18] = 	0.3667	; popDist[19] = 	0.4004	; popDist[20] = 	0.4065	; popDist[21] = 	0.4133	; popDist[22] = 	0.4206	; popDist[23] = 	0.4288	; popDist[24] = 	0.4496	; popDist[25] = 	0.4571	; popDist[26] = 	0.4714	; popDist[27] = 	0.4765	; popDist[28] = 	0.4827	; popDist[29] = 	0.4901	; popDist[30] = 	0.4957	; popDist[31] = 	0.4974	; popDist[32] = 	0.4995	; popDist[33] = 	0.5283	; popDist[34] = 	0.5328	; popDist[35] = 	0.5341	; popDist[36] = 	0.5360	; popDist[37] = 	0.5413	; popDist[38] = 	0.5432	; popDist[39] = 	0.5770	; popDist[40] = 	0.5850	; popDist[41] = 	0.6076	; popDist[42] = 	0.6771	; popDist[43] =	0.7142	; popDist[44] =	0.7368	; popDist[45] =	0.7790	; popDist[46] =	0.8328	; popDist[47] =	0.8500	; popDist[48] =	0.8540	; popDist[49] =	0.8741	; popDist[50] =	0.8889	; popDist[51] =	0.9207	; popDist[52] =	0.9425	; popDist[53] =	0.9459	; popDist[54] =	0.9685	; popDist[55] =	0.9778	; popDist[56] =	0.9860	; popDist[57] =	0.9965	; popDist[58] =	0.9988	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0103	; popDist[2] =	0.0183	; popDist[3] =	0.0253	; popDist[4] =	0.0485	; popDist[5] = 	0.0697	; popDist[6] =	0.0822	; popDist[7] =	0.1125	; popDist[8] = 	0.1251	; popDist[9] = 	0.1528	; popDist[10] = 	0.1640	; popDist[11] = 	0.1792	; popDist[12] = 	0.1916	; popDist[13] = 	0.2223	; popDist[14] = 	0.2313	; popDist[15] = 	0.2412	; popDist[16] = 	0.2631	; popDist[17] = 	0.2885	; popDist[18] = 	0.2975	; popDist[19] = 	0.3313	; popDist[20] = 	0.3360	; popDist[21] = 	0.3413	; popDist[22] = 	0.3521	; popDist[23] = 	0.3626	; popDist[24] = 	0.3839	; popDist[25] = 	0.3912	; popDist[26] = 	0.4052	; popDist[27] = 	0.4116	; popDist[28] = 	0.4158	; popDist[29] = 	0.4228	; popDist[30] = 	0.4314	; popDist[31] = 	0.4333	; popDist[32] = 	0.4374	; popDist[33] = 	0.4651	; popDist[34] = 	0.4712	; popDist[35] = 	0.4730	; popDist[36] = 	0.4771	; popDist[37] = 	0.4855	; popDist[38] = 	0.4890	; popDist[39] = 	0.5144	; popDist[40] = 	0.5198	; popDist[41] = 	0.5363	; popDist[42] = 	0.5964	; popDist[43] =	0.6349	; popDist[44] =	0.6612	; popDist[45] =	0.7118	; popDist[46] =	0.7654	; popDist[47] =	0.7884	; popDist[48] =	0.7947	; popDist[49] =	0.8213	; popDist[50] =	0.8419	; popDist[51] =	0.8844	; popDist[52] =	0.9173	; popDist[53] =	0.9237	; popDist[54] =	0.9516	; popDist[55] =	0.9692	; popDist[56] =	0.9776	; popDist[57] =	0.9928	; popDist[58] =	0.9973	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0059	; popDist[2] =	0.0097	; popDist[3] =	0.0135	; popDist[4] =	0.0237	; popDist[5] = 	0.0349	; popDist[6] =	0.0407	; popDist[7] =	0.0584	; popDist[8] = 	0.0740	; popDist[9] = 	0.0913	; popDist[10] = 	0.1035	; popDist[11] = 	0.1179	; popDist[12] = 	0.1313	; popDist[13] = 	0.1531	; popDist[14] = 	0.1677	; popDist[15] = 	0.1754	; popDist[16] = 	0.1877	; popDist[17] = 	0.2054	; popDist[18] = 	0.2214	; popDist[19] = 	0.2538	; popDist[20] = 	0.2583	; popDist[21] = 	0.2620	; popDist[22] = 	0.2768	; popDist[23] = 	0.2883	; popDist[24] = 	0.3092	; popDist[25] = 	0.3157	; popDist[26] = 	0.3282	; popDist[27] = 	0.3370	; popDist[28] = 	0.3398	; popDist[29] = 	0.3458	; popDist[30] = 	0.3586	; popDist[31] = 	0.3674	; popDist[32] = 	0.3785	; popDist[33] = 	0.4086	; popDist[34] = 	0.4218	; popDist[35] = 	0.4281	; popDist[36] = 	0.4385	; popDist[37] = 	0.4622	; popDist[38] = 	0.4728	; popDist[39] = 	0.5021	; popDist[40] = 	0.5058	; popDist[41] = 	0.5194	; popDist[42] = 	0.5610	; popDist[43] =	0.5976	; popDist[44] =	0.6204	; popDist[45] =	0.6651	; popDist[46] =	0.7117	; popDist[47] =	0.7358	; popDist[48] =	0.7452	; popDist[49] =	0.7799	; popDist[50] =	0.8075	; popDist[51] =	0.8477	; popDist[52] =	0.8876	; popDist[53] =	0.8996	; popDist[54] =	0.9278	; popDist[55] =	0.9552	; popDist[56] =	0.9652	; popDist[57] =	0.9871	; popDist[58] =	0.9951	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0009	; popDist[3] =	0.0011	; popDist[4] =	0.0020	; popDist[5] = 	0.0029	; popDist[6] =	0.0068	; popDist[7] =	0.0138	; popDist[8] = 	0.0242	; popDist[9] = 	0.0264	; popDist[10] = 	0.0372	; popDist[11] = 	0.0509	; popDist[12] = 	0.0553	; popDist[13] = 	0.0962	; popDist[14] = 	0.1158	; popDist[15] = 	0.1171	; popDist[16] = 	0.1184	; popDist[17] = 	0.1217	; popDist[18] = 	0.1458	; popDist[19] = 	0.1601	; popDist[20] = 	0.1649	; popDist[21] = 	0.1684	; popDist[22] = 	0.2000	; popDist[23] = 	0.2565	; popDist[24] = 	0.3122	; popDist[25] = 	0.3365	; popDist[26] = 	0.3593	; popDist[27] = 	0.3992	; popDist[28] = 	0.3996	; popDist[29] = 	0.4005	; popDist[30] = 	0.4144	; popDist[31] = 	0.4217	; popDist[32] = 	0.4546	; popDist[33] = 	0.5005	; popDist[34] = 	0.5326	; popDist[35] = 	0.5486	; popDist[36] = 	0.5799	; popDist[37] = 	0.6250	; popDist[38] = 	0.6709	; popDist[39] = 	0.6841	; popDist[40] = 	0.6862	; popDist[41] = 	0.6915	; popDist[42] = 	0.7026	; popDist[43] =	0.7532	; popDist[44] =	0.7704	; popDist[45] =	0.7786	; popDist[46] =	0.7861	; popDist[47] =	0.8164	; popDist[48] =	0.8380	; popDist[49] =	0.8753	; popDist[50] =	0.8891	; popDist[51] =	0.9022	; popDist[52] =	0.9121	; popDist[53] =	0.9233	; popDist[54] =	0.9245	; popDist[55] =	0.9285	; popDist[56] =	0.9408	; popDist[57] =	0.9640	; popDist[58] =	0.9842	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0010	; popDist[5] = 	0.0015	; popDist[6] =	0.0033	; popDist[7] =	0.0085	; popDist[8] = 	0.0189	; popDist[9] = 	0.0206	; popDist[10] = 	0.0347	; popDist[11] = 	0.0493	; popDist[12] = 	0.0535	; popDist[13] = 	0.0841	; popDist[14] = 	0.1007	; popDist[15] = 	0.1014	; popDist[16] = 	0.1022	; popDist[17] = 	0.1043	; popDist[18] = 	0.1285	; popDist[19] = 	0.1416	; popDist[20] = 	0.1455	; popDist[21] = 	0.1488	; popDist[22] = 	0.1823	; popDist[23] = 	0.2289	; popDist[24] = 	0.2701	; popDist[25] = 	0.2857	; popDist[26] = 	0.3057	; popDist[27] = 	0.3419	; popDist[28] = 	0.3420	; popDist[29] = 	0.3429	; popDist[30] = 	0.3589	; popDist[31] = 	0.3689	; popDist[32] = 	0.3993	; popDist[33] = 	0.4337	; popDist[34] = 	0.4641	; popDist[35] = 	0.4783	; popDist[36] = 	0.5141	; popDist[37] = 	0.5592	; popDist[38] = 	0.6134	; popDist[39] = 	0.6224	; popDist[40] = 	0.6235	; popDist[41] = 	0.6265	; popDist[42] = 	0.6354	; popDist[43] =	0.6860	; popDist[44] =	0.7082	; popDist[45] =	0.7179	; popDist[46] =	0.7264	; popDist[47] =	0.7642	; popDist[48] =	0.7910	; popDist[49] =	0.8387	; popDist[50] =	0.8605	; popDist[51] =	0.8760	; popDist[52] =	0.8899	; popDist[53] =	0.9092	; popDist[54] =	0.9107	; popDist[55] =	0.9186	; popDist[56] =	0.9284	; popDist[57] =	0.9509	; popDist[58] =	0.9731	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0005	; popDist[5] = 	0.0007	; popDist[6] =	0.0015	; popDist[7] =	0.0047	; popDist[8] = 	0.0153	; popDist[9] = 	0.0163	; popDist[10] = 	0.0319	; popDist[11] = 	0.0438	; popDist[12] = 	0.0470	; popDist[13] = 	0.0655	; popDist[14] = 	0.0808	; popDist[15] = 	0.0811	; popDist[16] = 	0.0815	; popDist[17] = 	0.0828	; popDist[18] = 	0.1114	; popDist[19] = 	0.1209	; popDist[20] = 	0.1231	; popDist[21] = 	0.1250	; popDist[22] = 	0.1599	; popDist[23] = 	0.2028	; popDist[24] = 	0.2336	; popDist[25] = 	0.2447	; popDist[26] = 	0.2584	; popDist[27] = 	0.2919	; popDist[28] = 	0.2920	; popDist[29] = 	0.2926	; popDist[30] = 	0.3102	; popDist[31] = 	0.3189	; popDist[32] = 	0.3562	; popDist[33] = 	0.3803	; popDist[34] = 	0.4106	; popDist[35] = 	0.4265	; popDist[36] = 	0.4772	; popDist[37] = 	0.5273	; popDist[38] = 	0.6034	; popDist[39] = 	0.6083	; popDist[40] = 	0.6089	; popDist[41] = 	0.6104	; popDist[42] = 	0.6160	; popDist[43] =	0.6544	; popDist[44] =	0.6729	; popDist[45] =	0.6814	; popDist[46] =	0.6876	; popDist[47] =	0.7243	; popDist[48] =	0.7561	; popDist[49] =	0.8006	; popDist[50] =	0.8228	; popDist[51] =	0.8380	; popDist[52] =	0.8529	; popDist[53] =	0.8801	; popDist[54] =	0.8814	; popDist[55] =	0.8915	; popDist[56] =	0.8989	; popDist[57] =	0.9231	; popDist[58] =	0.9552	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0005	; popDist[7] =	0.0015	; popDist[8] = 	0.0091	; popDist[9] = 	0.0095	; popDist[10] = 	0.0194	; popDist[11] = 	0.0260	; popDist[12] = 	0.0280	; popDist[13] = 	0.0356	; popDist[14] = 	0.0506	; popDist[15] = 	0.0508	; popDist[16] = 	0.0510	; popDist[17] = 	0.0515	; popDist[18] = 	0.0815	; popDist[19] = 	0.0867	; popDist[20] = 	0.0878	; popDist[21] = 	0.0886	; popDist[22] = 	0.1157	; popDist[23] = 	0.1414	; popDist[24] = 	0.1592	; popDist[25] = 	0.1648	; popDist[26] = 	0.1722	; popDist[27] = 	0.1992	; popDist[28] = 	0.1992	; popDist[29] = 	0.1994	; popDist[30] = 	0.2137	; popDist[31] = 	0.2369	; popDist[32] = 	0.2987	; popDist[33] = 	0.3140	; popDist[34] = 	0.3509	; popDist[35] = 	0.3817	; popDist[36] = 	0.4625	; popDist[37] = 	0.5496	; popDist[38] = 	0.6829	; popDist[39] = 	0.6861	; popDist[40] = 	0.6864	; popDist[41] = 	0.6872	; popDist[42] = 	0.6894	; popDist[43] =	0.7105	; popDist[44] =	0.7199	; popDist[45] =	0.7241	; popDist[46] =	0.7273	; popDist[47] =	0.7496	; popDist[48] =	0.7765	; popDist[49] =	0.8105	; popDist[50] =	0.8277	; popDist[51] =	0.8361	; popDist[52] =	0.8467	; popDist[53] =	0.8754	; popDist[54] =	0.8761	; popDist[55] =	0.8855	; popDist[56] =	0.8905	; popDist[57] =	0.9109	; popDist[58] =	0.9453	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0147	; popDist[2] =	0.0220	; popDist[3] =	0.0429	; popDist[4] =	0.0774	; popDist[5] = 	0.1062	; popDist[6] =	0.1199	; popDist[7] =	0.1404	; popDist[8] = 	0.1446	; popDist[9] = 	0.1747	; popDist[10] = 	0.1807	; popDist[11] = 	0.1904	; popDist[12] = 	0.2320	; popDist[13] = 	0.2387	; popDist[14] = 	0.2628	; popDist[15] = 	0.3309	; popDist[16] = 	0.3482	; popDist[17] = 	0.3948	; popDist[18] = 	0.4013	; popDist[19] = 	0.4050	; popDist[20] = 	0.4510	; popDist[21] = 	0.4919	; popDist[22] = 	0.4927	; popDist[23] = 	0.4933	; popDist[24] = 	0.4981	; popDist[25] = 	0.5071	; popDist[26] = 	0.5441	; popDist[27] = 	0.5463	; popDist[28] = 	0.5887	; popDist[29] = 	0.6545	; popDist[30] = 	0.6814	; popDist[31] = 	0.6821	; popDist[32] = 	0.6835	; popDist[33] = 	0.6980	; popDist[34] = 	0.7028	; popDist[35] = 	0.7040	; popDist[36] = 	0.7063	; popDist[37] = 	0.7139	; popDist[38] = 	0.7160	; popDist[39] = 	0.7403	; popDist[40] = 	0.8047	; popDist[41] = 	0.8351	; popDist[42] = 	0.8471	; popDist[43] =	0.8560	; popDist[44] =	0.8582	; popDist[45] =	0.8662	; popDist[46] =	0.8746	; popDist[47] =	0.8754	; popDist[48] =	0.8766	; popDist[49] =	0.8807	; popDist[50] =	0.8879	; popDist[51] =	0.8927	; popDist[52] =	0.8992	; popDist[53] =	0.8995	; popDist[54] =	0.9511	; popDist[55] =	0.9693	; popDist[56] =	0.9869	; popDist[57] =	0.9989	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0082	; popDist[2] =	0.0125	; popDist[3] =	0.0240	; popDist[4] =	0.0483	; popDist[5] = 	0.0676	; popDist[6] =	0.0755	; popDist[7] =	0.0942	; popDist[8] = 	0.0994	; popDist[9] = 	0.1278	; popDist[10] = 	0.1377	; popDist[11] = 	0.1506	; popDist[12] = 	0.1978	; popDist[13] = 	0.2041	; popDist[14] = 	0.2293	; popDist[15] = 	0.2774	; popDist[16] = 	0.2906	; popDist[17] = 	0.3290	; popDist[18] = 	0.3369	; popDist[19] = 	0.3411	; popDist[20] = 	0.3854	; popDist[21] = 	0.4325	; popDist[22] = 	0.4337	; popDist[23] = 	0.4344	; popDist[24] = 	0.4388	; popDist[25] = 	0.4457	; popDist[26] = 	0.4857	; popDist[27] = 	0.4881	; popDist[28] = 	0.5138	; popDist[29] = 	0.5931	; popDist[30] = 	0.6318	; popDist[31] = 	0.6329	; popDist[32] = 	0.6345	; popDist[33] = 	0.6480	; popDist[34] = 	0.6536	; popDist[35] = 	0.6550	; popDist[36] = 	0.6579	; popDist[37] = 	0.6674	; popDist[38] = 	0.6704	; popDist[39] = 	0.6908	; popDist[40] = 	0.7342	; popDist[41] = 	0.7551	; popDist[42] = 	0.7671	; popDist[43] =	0.7780	; popDist[44] =	0.7816	; popDist[45] =	0.7933	; popDist[46] =	0.8056	; popDist[47] =	0.8069	; popDist[48] =	0.8088	; popDist[49] =	0.8151	; popDist[50] =	0.8293	; popDist[51] =	0.8365	; popDist[52] =	0.8475	; popDist[53] =	0.8484	; popDist[54] =	0.9243	; popDist[55] =	0.9667	; popDist[56] =	0.9839	; popDist[57] =	0.9984	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0041	; popDist[2] =	0.0070	; popDist[3] =	0.0137	; popDist[4] =	0.0304	; popDist[5] = 	0.0426	; popDist[6] =	0.0474	; popDist[7] =	0.0625	; popDist[8] = 	0.0698	; popDist[9] = 	0.0939	; popDist[10] = 	0.1087	; popDist[11] = 	0.1232	; popDist[12] = 	0.1723	; popDist[13] = 	0.1773	; popDist[14] = 	0.2086	; popDist[15] = 	0.2458	; popDist[16] = 	0.2540	; popDist[17] = 	0.2837	; popDist[18] = 	0.2964	; popDist[19] = 	0.3005	; popDist[20] = 	0.3356	; popDist[21] = 	0.3715	; popDist[22] = 	0.3731	; popDist[23] = 	0.3740	; popDist[24] = 	0.3783	; popDist[25] = 	0.3852	; popDist[26] = 	0.4223	; popDist[27] = 	0.4253	; popDist[28] = 	0.4423	; popDist[29] = 	0.5152	; popDist[30] = 	0.5724	; popDist[31] = 	0.5738	; popDist[32] = 	0.5765	; popDist[33] = 	0.5892	; popDist[34] = 	0.5967	; popDist[35] = 	0.5987	; popDist[36] = 	0.6044	; popDist[37] = 	0.6182	; popDist[38] = 	0.6241	; popDist[39] = 	0.6392	; popDist[40] = 	0.6686	; popDist[41] = 	0.6832	; popDist[42] = 	0.6934	; popDist[43] =	0.7045	; popDist[44] =	0.7085	; popDist[45] =	0.7220	; popDist[46] =	0.7340	; popDist[47] =	0.7358	; popDist[48] =	0.7386	; popDist[49] =	0.7466	; popDist[50] =	0.7659	; popDist[51] =	0.7754	; popDist[52] =	0.7917	; popDist[53] =	0.7933	; popDist[54] =	0.8838	; popDist[55] =	0.9578	; popDist[56] =	0.9754	; popDist[57] =	0.9965	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0022	; popDist[2] =	0.0035	; popDist[3] =	0.0069	; popDist[4] =	0.0136	; popDist[5] = 	0.0197	; popDist[6] =	0.0218	; popDist[7] =	0.0298	; popDist[8] = 	0.0380	; popDist[9] = 	0.0520	; popDist[10] = 	0.0664	; popDist[11] = 	0.0789	; popDist[12] = 	0.1266	; popDist[13] = 	0.1300	; popDist[14] = 	0.1778	; popDist[15] = 	0.2040	; popDist[16] = 	0.2081	; popDist[17] = 	0.2270	; popDist[18] = 	0.2481	; popDist[19] = 	0.2518	; popDist[20] = 	0.2807	; popDist[21] = 	0.3035	; popDist[22] = 	0.3056	; popDist[23] = 	0.3065	; popDist[24] = 	0.3104	; popDist[25] = 	0.3158	; popDist[26] = 	0.3469	; popDist[27] = 	0.3510	; popDist[28] = 	0.3617	; popDist[29] = 	0.4171	; popDist[30] = 	0.4898	; popDist[31] = 	0.4954	; popDist[32] = 	0.5026	; popDist[33] = 	0.5150	; popDist[34] = 	0.5296	; popDist[35] = 	0.5356	; popDist[36] = 	0.5499	; popDist[37] = 	0.5875	; popDist[38] = 	0.6042	; popDist[39] = 	0.6200	; popDist[40] = 	0.6392	; popDist[41] = 	0.6506	; popDist[42] = 	0.6567	; popDist[43] =	0.6661	; popDist[44] =	0.6694	; popDist[45] =	0.6805	; popDist[46] =	0.6902	; popDist[47] =	0.6918	; popDist[48] =	0.6956	; popDist[49] =	0.7047	; popDist[50] =	0.7281	; popDist[51] =	0.7363	; popDist[52] =	0.7541	; popDist[53] =	0.7570	; popDist[54] =	0.8392	; popDist[55] =	0.9468	; popDist[56] =	0.9657	; popDist[57] =	0.9936	; popDist[58] =	0.9973	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0304	; popDist[2] =	0.0480	; popDist[3] =	0.0681	; popDist[4] =	0.1108	; popDist[5] = 	0.1528	; popDist[6] =	0.1781	; popDist[7] =	0.2208	; popDist[8] = 	0.2299	; popDist[9] = 	0.2676	; popDist[10] = 	0.2744	; popDist[11] = 	0.2887	; popDist[12] = 	0.2985	; popDist[13] = 	0.3347	; popDist[14] = 	0.3434	; popDist[15] = 	0.3572	; popDist[16] = 	0.3954	; popDist[17] = 	0.4252	; popDist[18] = 	0.4339	; popDist[19] = 	0.4670	; popDist[20] = 	0.4725	; popDist[21] = 	0.4764	; popDist[22] = 	0.4827	; popDist[23] = 	0.4915	; popDist[24] = 	0.5075	; popDist[25] = 	0.5155	; popDist[26] = 	0.5261	; popDist[27] = 	0.5301	; popDist[28] = 	0.5385	; popDist[29] = 	0.5422	; popDist[30] = 	0.5459	; popDist[31] = 	0.5466	; popDist[32] = 	0.5492	; popDist[33] = 	0.5862	; popDist[34] = 	0.5962	; popDist[35] = 	0.5977	; popDist[36] = 	0.6006	; popDist[37] = 	0.6113	; popDist[38] = 	0.6151	; popDist[39] = 	0.6417	; popDist[40] = 	0.6538	; popDist[41] = 	0.6887	; popDist[42] = 	0.7505	; popDist[43] =	0.7834	; popDist[44] =	0.8067	; popDist[45] =	0.8464	; popDist[46] =	0.8938	; popDist[47] =	0.9087	; popDist[48] =	0.9137	; popDist[49] =	0.9328	; popDist[50] =	0.9398	; popDist[51] =	0.9585	; popDist[52] =	0.9655	; popDist[53] =	0.9674	; popDist[54] =	0.9767	; popDist[55] =	0.9799	; popDist[56] =	0.9869	; popDist[57] =	0.9962	; popDist[58] =	0.9988	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0165	; popDist[2] =	0.0265	; popDist[3] =	0.0373	; popDist[4] =	0.0667	; popDist[5] = 	0.0940	; popDist[6] =	0.1081	; popDist[7] =	0.1459	; popDist[8] = 	0.1566	; popDist[9] = 	0.1914	; popDist[10] = 	0.2020	; popDist[11] = 	0.2204	; popDist[12] = 	0.2311	; popDist[13] = 	0.2636	; popDist[14] = 	0.2723	; popDist[15] = 	0.2820	; popDist[16] = 	0.3101	; popDist[17] = 	0.3340	; popDist[18] = 	0.3446	; popDist[19] = 	0.3807	; popDist[20] = 	0.3859	; popDist[21] = 	0.3902	; popDist[22] = 	0.3982	; popDist[23] = 	0.4071	; popDist[24] = 	0.4212	; popDist[25] = 	0.4274	; popDist[26] = 	0.4383	; popDist[27] = 	0.4427	; popDist[28] = 	0.4477	; popDist[29] = 	0.4519	; popDist[30] = 	0.4570	; popDist[31] = 	0.4583	; popDist[32] = 	0.4613	; popDist[33] = 	0.4947	; popDist[34] = 	0.5059	; popDist[35] = 	0.5075	; popDist[36] = 	0.5117	; popDist[37] = 	0.5243	; popDist[38] = 	0.5295	; popDist[39] = 	0.5516	; popDist[40] = 	0.5595	; popDist[41] = 	0.5827	; popDist[42] = 	0.6427	; popDist[43] =	0.6824	; popDist[44] =	0.7183	; popDist[45] =	0.7754	; popDist[46] =	0.8413	; popDist[47] =	0.8638	; popDist[48] =	0.8713	; popDist[49] =	0.9002	; popDist[50] =	0.9137	; popDist[51] =	0.9406	; popDist[52] =	0.9523	; popDist[53] =	0.9564	; popDist[54] =	0.9697	; popDist[55] =	0.9766	; popDist[56] =	0.9833	; popDist[57] =	0.9942	; popDist[58] =	0.9976	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0082	; popDist[2] =	0.0149	; popDist[3] =	0.0209	; popDist[4] =	0.0407	; popDist[5] = 	0.0576	; popDist[6] =	0.0660	; popDist[7] =	0.0966	; popDist[8] = 	0.1112	; popDist[9] = 	0.1399	; popDist[10] = 	0.1555	; popDist[11] = 	0.1757	; popDist[12] = 	0.1866	; popDist[13] = 	0.2128	; popDist[14] = 	0.2236	; popDist[15] = 	0.2309	; popDist[16] = 	0.2482	; popDist[17] = 	0.2662	; popDist[18] = 	0.2830	; popDist[19] = 	0.3176	; popDist[20] = 	0.3217	; popDist[21] = 	0.3250	; popDist[22] = 	0.3362	; popDist[23] = 	0.3470	; popDist[24] = 	0.3610	; popDist[25] = 	0.3668	; popDist[26] = 	0.3769	; popDist[27] = 	0.3823	; popDist[28] = 	0.3854	; popDist[29] = 	0.3893	; popDist[30] = 	0.3968	; popDist[31] = 	0.3982	; popDist[32] = 	0.4031	; popDist[33] = 	0.4343	; popDist[34] = 	0.4493	; popDist[35] = 	0.4516	; popDist[36] = 	0.4594	; popDist[37] = 	0.4782	; popDist[38] = 	0.4882	; popDist[39] = 	0.5043	; popDist[40] = 	0.5095	; popDist[41] = 	0.5256	; popDist[42] = 	0.5758	; popDist[43] =	0.6158	; popDist[44] =	0.6559	; popDist[45] =	0.7209	; popDist[46] =	0.7842	; popDist[47] =	0.8133	; popDist[48] =	0.8252	; popDist[49] =	0.8610	; popDist[50] =	0.8793	; popDist[51] =	0.9139	; popDist[52] =	0.9309	; popDist[53] =	0.9385	; popDist[54] =	0.9540	; popDist[55] =	0.9656	; popDist[56] =	0.9724	; popDist[57] =	0.9882	; popDist[58] =	0.9950	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0045	; popDist[2] =	0.0074	; popDist[3] =	0.0105	; popDist[4] =	0.0185	; popDist[5] = 	0.0271	; popDist[6] =	0.0307	; popDist[7] =	0.0471	; popDist[8] = 	0.0639	; popDist[9] = 	0.0811	; popDist[10] = 	0.0969	; popDist[11] = 	0.1147	; popDist[12] = 	0.1257	; popDist[13] = 	0.1430	; popDist[14] = 	0.1597	; popDist[15] = 	0.1649	; popDist[16] = 	0.1739	; popDist[17] = 	0.1859	; popDist[18] = 	0.2139	; popDist[19] = 	0.2445	; popDist[20] = 	0.2480	; popDist[21] = 	0.2501	; popDist[22] = 	0.2638	; popDist[23] = 	0.2742	; popDist[24] = 	0.2871	; popDist[25] = 	0.2920	; popDist[26] = 	0.3006	; popDist[27] = 	0.3073	; popDist[28] = 	0.3094	; popDist[29] = 	0.3126	; popDist[30] = 	0.3227	; popDist[31] = 	0.3288	; popDist[32] = 	0.3415	; popDist[33] = 	0.3729	; popDist[34] = 	0.4020	; popDist[35] = 	0.4090	; popDist[36] = 	0.4291	; popDist[37] = 	0.4811	; popDist[38] = 	0.5090	; popDist[39] = 	0.5260	; popDist[40] = 	0.5295	; popDist[41] = 	0.5420	; popDist[42] = 	0.5741	; popDist[43] =	0.6089	; popDist[44] =	0.6412	; popDist[45] =	0.6943	; popDist[46] =	0.7456	; popDist[47] =	0.7736	; popDist[48] =	0.7899	; popDist[49] =	0.8339	; popDist[50] =	0.8564	; popDist[51] =	0.8870	; popDist[52] =	0.9059	; popDist[53] =	0.9186	; popDist[54] =	0.9329	; popDist[55] =	0.9502	; popDist[56] =	0.9576	; popDist[57] =	0.9784	; popDist[58] =	0.9901	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0268	; popDist[2] =	0.0422	; popDist[3] =	0.0602	; popDist[4] =	0.1032	; popDist[5] = 	0.1462	; popDist[6] =	0.1694	; popDist[7] =	0.2112	; popDist[8] = 	0.2191	; popDist[9] = 	0.2512	; popDist[10] = 	0.2564	; popDist[11] = 	0.2689	; popDist[12] = 	0.2791	; popDist[13] = 	0.3168	; popDist[14] = 	0.3260	; popDist[15] = 	0.3411	; popDist[16] = 	0.3805	; popDist[17] = 	0.4128	; popDist[18] = 	0.4218	; popDist[19] = 	0.4537	; popDist[20] = 	0.4604	; popDist[21] = 	0.4655	; popDist[22] = 	0.4741	; popDist[23] = 	0.4837	; popDist[24] = 	0.5023	; popDist[25] = 	0.5107	; popDist[26] = 	0.5229	; popDist[27] = 	0.5271	; popDist[28] = 	0.5355	; popDist[29] = 	0.5411	; popDist[30] = 	0.5450	; popDist[31] = 	0.5460	; popDist[32] = 	0.5492	; popDist[33] = 	0.5841	; popDist[34] = 	0.5932	; popDist[35] = 	0.5946	; popDist[36] = 	0.5974	; popDist[37] = 	0.6070	; popDist[38] = 	0.6102	; popDist[39] = 	0.6392	; popDist[40] = 	0.6524	; popDist[41] = 	0.6829	; popDist[42] = 	0.7501	; popDist[43] =	0.7873	; popDist[44] =	0.8080	; popDist[45] =	0.8390	; popDist[46] =	0.8782	; popDist[47] =	0.8925	; popDist[48] =	0.8965	; popDist[49] =	0.9131	; popDist[50] =	0.9218	; popDist[51] =	0.9466	; popDist[52] =	0.9600	; popDist[53] =	0.9619	; popDist[54] =	0.9761	; popDist[55] =	0.9806	; popDist[56] =	0.9883	; popDist[57] =	0.9975	; popDist[58] =	0.9993	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0146	; popDist[2] =	0.0233	; popDist[3] =	0.0329	; popDist[4] =	0.0622	; popDist[5] = 	0.0902	; popDist[6] =	0.1032	; popDist[7] =	0.1403	; popDist[8] = 	0.1498	; popDist[9] = 	0.1791	; popDist[10] = 	0.1874	; popDist[11] = 	0.2036	; popDist[12] = 	0.2150	; popDist[13] = 	0.2486	; popDist[14] = 	0.2580	; popDist[15] = 	0.2684	; popDist[16] = 	0.2974	; popDist[17] = 	0.3233	; popDist[18] = 	0.3341	; popDist[19] = 	0.3686	; popDist[20] = 	0.3748	; popDist[21] = 	0.3804	; popDist[22] = 	0.3911	; popDist[23] = 	0.4004	; popDist[24] = 	0.4170	; popDist[25] = 	0.4234	; popDist[26] = 	0.4365	; popDist[27] = 	0.4412	; popDist[28] = 	0.4461	; popDist[29] = 	0.4529	; popDist[30] = 	0.4584	; popDist[31] = 	0.4599	; popDist[32] = 	0.4633	; popDist[33] = 	0.4949	; popDist[34] = 	0.5052	; popDist[35] = 	0.5067	; popDist[36] = 	0.5106	; popDist[37] = 	0.5222	; popDist[38] = 	0.5264	; popDist[39] = 	0.5502	; popDist[40] = 	0.5588	; popDist[41] = 	0.5788	; popDist[42] = 	0.6438	; popDist[43] =	0.6882	; popDist[44] =	0.7199	; popDist[45] =	0.7639	; popDist[46] =	0.8188	; popDist[47] =	0.8398	; popDist[48] =	0.8458	; popDist[49] =	0.8712	; popDist[50] =	0.8875	; popDist[51] =	0.9226	; popDist[52] =	0.9450	; popDist[53] =	0.9491	; popDist[54] =	0.9688	; popDist[55] =	0.9786	; popDist[56] =	0.9860	; popDist[57] =	0.9964	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0071	; popDist[2] =	0.0129	; popDist[3] =	0.0184	; popDist[4] =	0.0380	; popDist[5] = 	0.0552	; popDist[6] =	0.0628	; popDist[7] =	0.0923	; popDist[8] = 	0.1051	; popDist[9] = 	0.1294	; popDist[10] = 	0.1413	; popDist[11] = 	0.1589	; popDist[12] = 	0.1703	; popDist[13] = 	0.1975	; popDist[14] = 	0.2088	; popDist[15] = 	0.2166	; popDist[16] = 	0.2344	; popDist[17] = 	0.2538	; popDist[18] = 	0.2706	; popDist[19] = 	0.3037	; popDist[20] = 	0.3084	; popDist[21] = 	0.3128	; popDist[22] = 	0.3277	; popDist[23] = 	0.3389	; popDist[24] = 	0.3555	; popDist[25] = 	0.3617	; popDist[26] = 	0.3734	; popDist[27] = 	0.3793	; popDist[28] = 	0.3824	; popDist[29] = 	0.3885	; popDist[30] = 	0.3966	; popDist[31] = 	0.3984	; popDist[32] = 	0.4039	; popDist[33] = 	0.4334	; popDist[34] = 	0.4471	; popDist[35] = 	0.4495	; popDist[36] = 	0.4566	; popDist[37] = 	0.4731	; popDist[38] = 	0.4813	; popDist[39] = 	0.4985	; popDist[40] = 	0.5043	; popDist[41] = 	0.5181	; popDist[42] = 	0.5723	; popDist[43] =	0.6171	; popDist[44] =	0.6524	; popDist[45] =	0.7027	; popDist[46] =	0.7550	; popDist[47] =	0.7824	; popDist[48] =	0.7919	; popDist[49] =	0.8232	; popDist[50] =	0.8453	; popDist[51] =	0.8906	; popDist[52] =	0.9227	; popDist[53] =	0.9304	; popDist[54] =	0.9536	; popDist[55] =	0.9703	; popDist[56] =	0.9776	; popDist[57] =	0.9927	; popDist[58] =	0.9973	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0038	; popDist[2] =	0.0064	; popDist[3] =	0.0093	; popDist[4] =	0.0175	; popDist[5] = 	0.0261	; popDist[6] =	0.0295	; popDist[7] =	0.0457	; popDist[8] = 	0.0608	; popDist[9] = 	0.0755	; popDist[10] = 	0.0875	; popDist[11] = 	0.1031	; popDist[12] = 	0.1147	; popDist[13] = 	0.1328	; popDist[14] = 	0.1506	; popDist[15] = 	0.1562	; popDist[16] = 	0.1654	; popDist[17] = 	0.1785	; popDist[18] = 	0.2064	; popDist[19] = 	0.2358	; popDist[20] = 	0.2399	; popDist[21] = 	0.2426	; popDist[22] = 	0.2612	; popDist[23] = 	0.2723	; popDist[24] = 	0.2872	; popDist[25] = 	0.2921	; popDist[26] = 	0.3022	; popDist[27] = 	0.3095	; popDist[28] = 	0.3116	; popDist[29] = 	0.3161	; popDist[30] = 	0.3263	; popDist[31] = 	0.3339	; popDist[32] = 	0.3491	; popDist[33] = 	0.3788	; popDist[34] = 	0.4052	; popDist[35] = 	0.4125	; popDist[36] = 	0.4309	; popDist[37] = 	0.4770	; popDist[38] = 	0.4997	; popDist[39] = 	0.5180	; popDist[40] = 	0.5217	; popDist[41] = 	0.5325	; popDist[42] = 	0.5672	; popDist[43] =	0.6061	; popDist[44] =	0.6345	; popDist[45] =	0.6759	; popDist[46] =	0.7183	; popDist[47] =	0.7446	; popDist[48] =	0.7575	; popDist[49] =	0.7960	; popDist[50] =	0.8234	; popDist[51] =	0.8634	; popDist[52] =	0.8994	; popDist[53] =	0.9121	; popDist[54] =	0.9336	; popDist[55] =	0.9586	; popDist[56] =	0.9667	; popDist[57] =	0.9868	; popDist[58] =	0.9949	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0010	; popDist[3] =	0.0013	; popDist[4] =	0.0023	; popDist[5] = 	0.0034	; popDist[6] =	0.0077	; popDist[7] =	0.0144	; popDist[8] = 	0.0256	; popDist[9] = 	0.0280	; popDist[10] = 	0.0414	; popDist[11] = 	0.0552	; popDist[12] = 	0.0604	; popDist[13] = 	0.0959	; popDist[14] = 	0.1118	; popDist[15] = 	0.1132	; popDist[16] = 	0.1144	; popDist[17] = 	0.1180	; popDist[18] = 	0.1370	; popDist[19] = 	0.1502	; popDist[20] = 	0.1550	; popDist[21] = 	0.1590	; popDist[22] = 	0.1908	; popDist[23] = 	0.2552	; popDist[24] = 	0.3120	; popDist[25] = 	0.3419	; popDist[26] = 	0.3689	; popDist[27] = 	0.4184	; popDist[28] = 	0.4188	; popDist[29] = 	0.4198	; popDist[30] = 	0.4376	; popDist[31] = 	0.4440	; popDist[32] = 	0.4683	; popDist[33] = 	0.5080	; popDist[34] = 	0.5351	; popDist[35] = 	0.5457	; popDist[36] = 	0.5680	; popDist[37] = 	0.6075	; popDist[38] = 	0.6403	; popDist[39] = 	0.6516	; popDist[40] = 	0.6539	; popDist[41] = 	0.6595	; popDist[42] = 	0.6705	; popDist[43] =	0.7162	; popDist[44] =	0.7316	; popDist[45] =	0.7395	; popDist[46] =	0.7470	; popDist[47] =	0.7793	; popDist[48] =	0.8021	; popDist[49] =	0.8463	; popDist[50] =	0.8619	; popDist[51] =	0.8762	; popDist[52] =	0.8878	; popDist[53] =	0.9030	; popDist[54] =	0.9046	; popDist[55] =	0.9098	; popDist[56] =	0.9253	; popDist[57] =	0.9540	; popDist[58] =	0.9796	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0011	; popDist[5] = 	0.0016	; popDist[6] =	0.0035	; popDist[7] =	0.0085	; popDist[8] = 	0.0196	; popDist[9] = 	0.0214	; popDist[10] = 	0.0392	; popDist[11] = 	0.0538	; popDist[12] = 	0.0584	; popDist[13] = 	0.0847	; popDist[14] = 	0.0981	; popDist[15] = 	0.0989	; popDist[16] = 	0.0996	; popDist[17] = 	0.1021	; popDist[18] = 	0.1208	; popDist[19] = 	0.1327	; popDist[20] = 	0.1365	; popDist[21] = 	0.1402	; popDist[22] = 	0.1737	; popDist[23] = 	0.2263	; popDist[24] = 	0.2678	; popDist[25] = 	0.2869	; popDist[26] = 	0.3103	; popDist[27] = 	0.3548	; popDist[28] = 	0.3549	; popDist[29] = 	0.3559	; popDist[30] = 	0.3766	; popDist[31] = 	0.3854	; popDist[32] = 	0.4078	; popDist[33] = 	0.4375	; popDist[34] = 	0.4630	; popDist[35] = 	0.4723	; popDist[36] = 	0.4976	; popDist[37] = 	0.5364	; popDist[38] = 	0.5748	; popDist[39] = 	0.5824	; popDist[40] = 	0.5837	; popDist[41] = 	0.5867	; popDist[42] = 	0.5956	; popDist[43] =	0.6411	; popDist[44] =	0.6608	; popDist[45] =	0.6702	; popDist[46] =	0.6787	; popDist[47] =	0.7187	; popDist[48] =	0.7468	; popDist[49] =	0.8023	; popDist[50] =	0.8270	; popDist[51] =	0.8439	; popDist[52] =	0.8599	; popDist[53] =	0.8857	; popDist[54] =	0.8875	; popDist[55] =	0.8976	; popDist[56] =	0.9098	; popDist[57] =	0.9375	; popDist[58] =	0.9652	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0005	; popDist[5] = 	0.0008	; popDist[6] =	0.0016	; popDist[7] =	0.0046	; popDist[8] = 	0.0160	; popDist[9] = 	0.0172	; popDist[10] = 	0.0367	; popDist[11] = 	0.0486	; popDist[12] = 	0.0522	; popDist[13] = 	0.0681	; popDist[14] = 	0.0803	; popDist[15] = 	0.0809	; popDist[16] = 	0.0812	; popDist[17] = 	0.0826	; popDist[18] = 	0.1050	; popDist[19] = 	0.1135	; popDist[20] = 	0.1157	; popDist[21] = 	0.1178	; popDist[22] = 	0.1529	; popDist[23] = 	0.2013	; popDist[24] = 	0.2323	; popDist[25] = 	0.2459	; popDist[26] = 	0.2620	; popDist[27] = 	0.3035	; popDist[28] = 	0.3035	; popDist[29] = 	0.3042	; popDist[30] = 	0.3269	; popDist[31] = 	0.3345	; popDist[32] = 	0.3619	; popDist[33] = 	0.3827	; popDist[34] = 	0.4081	; popDist[35] = 	0.4185	; popDist[36] = 	0.4541	; popDist[37] = 	0.4975	; popDist[38] = 	0.5517	; popDist[39] = 	0.5559	; popDist[40] = 	0.5566	; popDist[41] = 	0.5582	; popDist[42] = 	0.5638	; popDist[43] =	0.5983	; popDist[44] =	0.6147	; popDist[45] =	0.6227	; popDist[46] =	0.6288	; popDist[47] =	0.6679	; popDist[48] =	0.7011	; popDist[49] =	0.7530	; popDist[50] =	0.7781	; popDist[51] =	0.7946	; popDist[52] =	0.8120	; popDist[53] =	0.8484	; popDist[54] =	0.8500	; popDist[55] =	0.8628	; popDist[56] =	0.8720	; popDist[57] =	0.9018	; popDist[58] =	0.9419	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0005	; popDist[7] =	0.0016	; popDist[8] = 	0.0102	; popDist[9] = 	0.0106	; popDist[10] = 	0.0237	; popDist[11] = 	0.0307	; popDist[12] = 	0.0330	; popDist[13] = 	0.0399	; popDist[14] = 	0.0526	; popDist[15] = 	0.0528	; popDist[16] = 	0.0529	; popDist[17] = 	0.0535	; popDist[18] = 	0.0782	; popDist[19] = 	0.0832	; popDist[20] = 	0.0845	; popDist[21] = 	0.0854	; popDist[22] = 	0.1140	; popDist[23] = 	0.1446	; popDist[24] = 	0.1634	; popDist[25] = 	0.1707	; popDist[26] = 	0.1798	; popDist[27] = 	0.2149	; popDist[28] = 	0.2149	; popDist[29] = 	0.2152	; popDist[30] = 	0.2347	; popDist[31] = 	0.2560	; popDist[32] = 	0.3039	; popDist[33] = 	0.3178	; popDist[34] = 	0.3503	; popDist[35] = 	0.3716	; popDist[36] = 	0.4315	; popDist[37] = 	0.5109	; popDist[38] = 	0.6107	; popDist[39] = 	0.6136	; popDist[40] = 	0.6139	; popDist[41] = 	0.6147	; popDist[42] = 	0.6171	; popDist[43] =	0.6370	; popDist[44] =	0.6457	; popDist[45] =	0.6500	; popDist[46] =	0.6533	; popDist[47] =	0.6783	; popDist[48] =	0.7081	; popDist[49] =	0.7500	; popDist[50] =	0.7703	; popDist[51] =	0.7800	; popDist[52] =	0.7928	; popDist[53] =	0.8334	; popDist[54] =	0.8344	; popDist[55] =	0.8470	; popDist[56] =	0.8537	; popDist[57] =	0.8801	; popDist[58] =	0.9254	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0154	; popDist[2] =	0.0228	; popDist[3] =	0.0438	; popDist[4] =	0.0787	; popDist[5] = 	0.1077	; popDist[6] =	0.1214	; popDist[7] =	0.1391	; popDist[8] = 	0.1433	; popDist[9] = 	0.1738	; popDist[10] = 	0.1807	; popDist[11] = 	0.1897	; popDist[12] = 	0.2323	; popDist[13] = 	0.2376	; popDist[14] = 	0.2552	; popDist[15] = 	0.3295	; popDist[16] = 	0.3447	; popDist[17] = 	0.3924	; popDist[18] = 	0.3970	; popDist[19] = 	0.4001	; popDist[20] = 	0.4424	; popDist[21] = 	0.4839	; popDist[22] = 	0.4847	; popDist[23] = 	0.4855	; popDist[24] = 	0.4899	; popDist[25] = 	0.4999	; popDist[26] = 	0.5396	; popDist[27] = 	0.5421	; popDist[28] = 	0.5866	; popDist[29] = 	0.6539	; popDist[30] = 	0.6854	; popDist[31] = 	0.6859	; popDist[32] = 	0.6869	; popDist[33] = 	0.6981	; popDist[34] = 	0.7019	; popDist[35] = 	0.7026	; popDist[36] = 	0.7040	; popDist[37] = 	0.7098	; popDist[38] = 	0.7111	; popDist[39] = 	0.7298	; popDist[40] = 	0.7954	; popDist[41] = 	0.8239	; popDist[42] = 	0.8349	; popDist[43] =	0.8422	; popDist[44] =	0.8440	; popDist[45] =	0.8511	; popDist[46] =	0.8587	; popDist[47] =	0.8595	; popDist[48] =	0.8607	; popDist[49] =	0.8647	; popDist[50] =	0.8722	; popDist[51] =	0.8769	; popDist[52] =	0.8838	; popDist[53] =	0.8844	; popDist[54] =	0.9437	; popDist[55] =	0.9650	; popDist[56] =	0.9852	; popDist[57] =	0.9987	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0086	; popDist[2] =	0.0129	; popDist[3] =	0.0245	; popDist[4] =	0.0488	; popDist[5] = 	0.0681	; popDist[6] =	0.0759	; popDist[7] =	0.0919	; popDist[8] = 	0.0971	; popDist[9] = 	0.1259	; popDist[10] = 	0.1371	; popDist[11] = 	0.1488	; popDist[12] = 	0.1969	; popDist[13] = 	0.2019	; popDist[14] = 	0.2202	; popDist[15] = 	0.2725	; popDist[16] = 	0.2839	; popDist[17] = 	0.3233	; popDist[18] = 	0.3289	; popDist[19] = 	0.3325	; popDist[20] = 	0.3729	; popDist[21] = 	0.4202	; popDist[22] = 	0.4211	; popDist[23] = 	0.4218	; popDist[24] = 	0.4257	; popDist[25] = 	0.4335	; popDist[26] = 	0.4762	; popDist[27] = 	0.4791	; popDist[28] = 	0.5059	; popDist[29] = 	0.5868	; popDist[30] = 	0.6318	; popDist[31] = 	0.6327	; popDist[32] = 	0.6338	; popDist[33] = 	0.6441	; popDist[34] = 	0.6483	; popDist[35] = 	0.6491	; popDist[36] = 	0.6510	; popDist[37] = 	0.6583	; popDist[38] = 	0.6602	; popDist[39] = 	0.6760	; popDist[40] = 	0.7199	; popDist[41] = 	0.7393	; popDist[42] = 	0.7501	; popDist[43] =	0.7590	; popDist[44] =	0.7618	; popDist[45] =	0.7721	; popDist[46] =	0.7830	; popDist[47] =	0.7843	; popDist[48] =	0.7859	; popDist[49] =	0.7925	; popDist[50] =	0.8068	; popDist[51] =	0.8137	; popDist[52] =	0.8254	; popDist[53] =	0.8265	; popDist[54] =	0.9131	; popDist[55] =	0.9624	; popDist[56] =	0.9821	; popDist[57] =	0.9982	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0043	; popDist[2] =	0.0072	; popDist[3] =	0.0138	; popDist[4] =	0.0303	; popDist[5] = 	0.0422	; popDist[6] =	0.0469	; popDist[7] =	0.0601	; popDist[8] = 	0.0672	; popDist[9] = 	0.0911	; popDist[10] = 	0.1077	; popDist[11] = 	0.1207	; popDist[12] = 	0.1702	; popDist[13] = 	0.1742	; popDist[14] = 	0.1969	; popDist[15] = 	0.2369	; popDist[16] = 	0.2440	; popDist[17] = 	0.2742	; popDist[18] = 	0.2831	; popDist[19] = 	0.2866	; popDist[20] = 	0.3184	; popDist[21] = 	0.3543	; popDist[22] = 	0.3558	; popDist[23] = 	0.3567	; popDist[24] = 	0.3609	; popDist[25] = 	0.3683	; popDist[26] = 	0.4073	; popDist[27] = 	0.4107	; popDist[28] = 	0.4282	; popDist[29] = 	0.5019	; popDist[30] = 	0.5682	; popDist[31] = 	0.5693	; popDist[32] = 	0.5711	; popDist[33] = 	0.5811	; popDist[34] = 	0.5868	; popDist[35] = 	0.5880	; popDist[36] = 	0.5917	; popDist[37] = 	0.6025	; popDist[38] = 	0.6064	; popDist[39] = 	0.6180	; popDist[40] = 	0.6474	; popDist[41] = 	0.6611	; popDist[42] = 	0.6702	; popDist[43] =	0.6794	; popDist[44] =	0.6825	; popDist[45] =	0.6943	; popDist[46] =	0.7048	; popDist[47] =	0.7065	; popDist[48] =	0.7092	; popDist[49] =	0.7173	; popDist[50] =	0.7370	; popDist[51] =	0.7462	; popDist[52] =	0.7632	; popDist[53] =	0.7652	; popDist[54] =	0.8678	; popDist[55] =	0.9525	; popDist[56] =	0.9725	; popDist[57] =	0.9960	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0023	; popDist[2] =	0.0036	; popDist[3] =	0.0069	; popDist[4] =	0.0138	; popDist[5] = 	0.0198	; popDist[6] =	0.0218	; popDist[7] =	0.0289	; popDist[8] = 	0.0371	; popDist[9] = 	0.0511	; popDist[10] = 	0.0676	; popDist[11] = 	0.0790	; popDist[12] = 	0.1284	; popDist[13] = 	0.1309	; popDist[14] = 	0.1658	; popDist[15] = 	0.1942	; popDist[16] = 	0.1979	; popDist[17] = 	0.2176	; popDist[18] = 	0.2325	; popDist[19] = 	0.2355	; popDist[20] = 	0.2621	; popDist[21] = 	0.2854	; popDist[22] = 	0.2871	; popDist[23] = 	0.2879	; popDist[24] = 	0.2918	; popDist[25] = 	0.2977	; popDist[26] = 	0.3312	; popDist[27] = 	0.3355	; popDist[28] = 	0.3468	; popDist[29] = 	0.4037	; popDist[30] = 	0.4895	; popDist[31] = 	0.4940	; popDist[32] = 	0.4988	; popDist[33] = 	0.5087	; popDist[34] = 	0.5197	; popDist[35] = 	0.5234	; popDist[36] = 	0.5326	; popDist[37] = 	0.5624	; popDist[38] = 	0.5733	; popDist[39] = 	0.5856	; popDist[40] = 	0.6050	; popDist[41] = 	0.6155	; popDist[42] = 	0.6211	; popDist[43] =	0.6292	; popDist[44] =	0.6318	; popDist[45] =	0.6414	; popDist[46] =	0.6500	; popDist[47] =	0.6516	; popDist[48] =	0.6553	; popDist[49] =	0.6653	; popDist[50] =	0.6896	; popDist[51] =	0.6976	; popDist[52] =	0.7165	; popDist[53] =	0.7198	; popDist[54] =	0.8145	; popDist[55] =	0.9400	; popDist[56] =	0.9618	; popDist[57] =	0.9928	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0342	; popDist[2] =	0.0532	; popDist[3] =	0.0748	; popDist[4] =	0.1210	; popDist[5] = 	0.1660	; popDist[6] =	0.1929	; popDist[7] =	0.2326	; popDist[8] = 	0.2420	; popDist[9] = 	0.2831	; popDist[10] = 	0.2914	; popDist[11] = 	0.3053	; popDist[12] = 	0.3160	; popDist[13] = 	0.3466	; popDist[14] = 	0.3533	; popDist[15] = 	0.3694	; popDist[16] = 	0.4053	; popDist[17] = 	0.4380	; popDist[18] = 	0.4448	; popDist[19] = 	0.4742	; popDist[20] = 	0.4797	; popDist[21] = 	0.4840	; popDist[22] = 	0.4901	; popDist[23] = 	0.4998	; popDist[24] = 	0.5154	; popDist[25] = 	0.5250	; popDist[26] = 	0.5370	; popDist[27] = 	0.5419	; popDist[28] = 	0.5513	; popDist[29] = 	0.5554	; popDist[30] = 	0.5601	; popDist[31] = 	0.5607	; popDist[32] = 	0.5627	; popDist[33] = 	0.5938	; popDist[34] = 	0.6019	; popDist[35] = 	0.6028	; popDist[36] = 	0.6049	; popDist[37] = 	0.6138	; popDist[38] = 	0.6165	; popDist[39] = 	0.6386	; popDist[40] = 	0.6518	; popDist[41] = 	0.6868	; popDist[42] = 	0.7470	; popDist[43] =	0.7760	; popDist[44] =	0.7961	; popDist[45] =	0.8335	; popDist[46] =	0.8792	; popDist[47] =	0.8948	; popDist[48] =	0.9000	; popDist[49] =	0.9218	; popDist[50] =	0.9295	; popDist[51] =	0.9495	; popDist[52] =	0.9576	; popDist[53] =	0.9601	; popDist[54] =	0.9715	; popDist[55] =	0.9755	; popDist[56] =	0.9841	; popDist[57] =	0.9952	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0188	; popDist[2] =	0.0296	; popDist[3] =	0.0412	; popDist[4] =	0.0731	; popDist[5] = 	0.1025	; popDist[6] =	0.1176	; popDist[7] =	0.1530	; popDist[8] = 	0.1645	; popDist[9] = 	0.2022	; popDist[10] = 	0.2153	; popDist[11] = 	0.2334	; popDist[12] = 	0.2454	; popDist[13] = 	0.2731	; popDist[14] = 	0.2800	; popDist[15] = 	0.2913	; popDist[16] = 	0.3177	; popDist[17] = 	0.3441	; popDist[18] = 	0.3523	; popDist[19] = 	0.3845	; popDist[20] = 	0.3896	; popDist[21] = 	0.3943	; popDist[22] = 	0.4023	; popDist[23] = 	0.4119	; popDist[24] = 	0.4258	; popDist[25] = 	0.4333	; popDist[26] = 	0.4459	; popDist[27] = 	0.4513	; popDist[28] = 	0.4568	; popDist[29] = 	0.4616	; popDist[30] = 	0.4683	; popDist[31] = 	0.4693	; popDist[32] = 	0.4714	; popDist[33] = 	0.4996	; popDist[34] = 	0.5088	; popDist[35] = 	0.5099	; popDist[36] = 	0.5128	; popDist[37] = 	0.5235	; popDist[38] = 	0.5271	; popDist[39] = 	0.5453	; popDist[40] = 	0.5541	; popDist[41] = 	0.5774	; popDist[42] = 	0.6360	; popDist[43] =	0.6712	; popDist[44] =	0.7025	; popDist[45] =	0.7559	; popDist[46] =	0.8198	; popDist[47] =	0.8433	; popDist[48] =	0.8512	; popDist[49] =	0.8845	; popDist[50] =	0.8994	; popDist[51] =	0.9281	; popDist[52] =	0.9414	; popDist[53] =	0.9467	; popDist[54] =	0.9629	; popDist[55] =	0.9715	; popDist[56] =	0.9799	; popDist[57] =	0.9929	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0093	; popDist[2] =	0.0165	; popDist[3] =	0.0232	; popDist[4] =	0.0446	; popDist[5] = 	0.0629	; popDist[6] =	0.0718	; popDist[7] =	0.1002	; popDist[8] = 	0.1157	; popDist[9] = 	0.1471	; popDist[10] = 	0.1664	; popDist[11] = 	0.1860	; popDist[12] = 	0.1982	; popDist[13] = 	0.2204	; popDist[14] = 	0.2288	; popDist[15] = 	0.2372	; popDist[16] = 	0.2536	; popDist[17] = 	0.2737	; popDist[18] = 	0.2865	; popDist[19] = 	0.3173	; popDist[20] = 	0.3213	; popDist[21] = 	0.3249	; popDist[22] = 	0.3360	; popDist[23] = 	0.3479	; popDist[24] = 	0.3617	; popDist[25] = 	0.3687	; popDist[26] = 	0.3803	; popDist[27] = 	0.3869	; popDist[28] = 	0.3905	; popDist[29] = 	0.3948	; popDist[30] = 	0.4044	; popDist[31] = 	0.4057	; popDist[32] = 	0.4093	; popDist[33] = 	0.4355	; popDist[34] = 	0.4478	; popDist[35] = 	0.4493	; popDist[36] = 	0.4546	; popDist[37] = 	0.4707	; popDist[38] = 	0.4776	; popDist[39] = 	0.4908	; popDist[40] = 	0.4966	; popDist[41] = 	0.5128	; popDist[42] = 	0.5615	; popDist[43] =	0.5969	; popDist[44] =	0.6318	; popDist[45] =	0.6928	; popDist[46] =	0.7540	; popDist[47] =	0.7844	; popDist[48] =	0.7966	; popDist[49] =	0.8380	; popDist[50] =	0.8583	; popDist[51] =	0.8954	; popDist[52] =	0.9146	; popDist[53] =	0.9245	; popDist[54] =	0.9436	; popDist[55] =	0.9582	; popDist[56] =	0.9665	; popDist[57] =	0.9852	; popDist[58] =	0.9935	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0051	; popDist[2] =	0.0083	; popDist[3] =	0.0118	; popDist[4] =	0.0206	; popDist[5] = 	0.0300	; popDist[6] =	0.0339	; popDist[7] =	0.0496	; popDist[8] = 	0.0677	; popDist[9] = 	0.0867	; popDist[10] = 	0.1063	; popDist[11] = 	0.1240	; popDist[12] = 	0.1363	; popDist[13] = 	0.1513	; popDist[14] = 	0.1647	; popDist[15] = 	0.1708	; popDist[16] = 	0.1795	; popDist[17] = 	0.1930	; popDist[18] = 	0.2148	; popDist[19] = 	0.2426	; popDist[20] = 	0.2461	; popDist[21] = 	0.2484	; popDist[22] = 	0.2621	; popDist[23] = 	0.2736	; popDist[24] = 	0.2866	; popDist[25] = 	0.2924	; popDist[26] = 	0.3026	; popDist[27] = 	0.3112	; popDist[28] = 	0.3136	; popDist[29] = 	0.3170	; popDist[30] = 	0.3298	; popDist[31] = 	0.3352	; popDist[32] = 	0.3445	; popDist[33] = 	0.3714	; popDist[34] = 	0.3955	; popDist[35] = 	0.4002	; popDist[36] = 	0.4141	; popDist[37] = 	0.4591	; popDist[38] = 	0.4785	; popDist[39] = 	0.4928	; popDist[40] = 	0.4968	; popDist[41] = 	0.5096	; popDist[42] = 	0.5414	; popDist[43] =	0.5726	; popDist[44] =	0.6012	; popDist[45] =	0.6517	; popDist[46] =	0.7023	; popDist[47] =	0.7321	; popDist[48] =	0.7489	; popDist[49] =	0.8002	; popDist[50] =	0.8255	; popDist[51] =	0.8586	; popDist[52] =	0.8805	; popDist[53] =	0.8974	; popDist[54] =	0.9155	; popDist[55] =	0.9379	; popDist[56] =	0.9472	; popDist[57] =	0.9726	; popDist[58] =	0.9874	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0302	; popDist[2] =	0.0467	; popDist[3] =	0.0661	; popDist[4] =	0.1125	; popDist[5] = 	0.1587	; popDist[6] =	0.1833	; popDist[7] =	0.2223	; popDist[8] = 	0.2305	; popDist[9] = 	0.2653	; popDist[10] = 	0.2716	; popDist[11] = 	0.2839	; popDist[12] = 	0.2952	; popDist[13] = 	0.3270	; popDist[14] = 	0.3341	; popDist[15] = 	0.3515	; popDist[16] = 	0.3886	; popDist[17] = 	0.4239	; popDist[18] = 	0.4307	; popDist[19] = 	0.4589	; popDist[20] = 	0.4655	; popDist[21] = 	0.4710	; popDist[22] = 	0.4794	; popDist[23] = 	0.4898	; popDist[24] = 	0.5084	; popDist[25] = 	0.5184	; popDist[26] = 	0.5325	; popDist[27] = 	0.5378	; popDist[28] = 	0.5471	; popDist[29] = 	0.5533	; popDist[30] = 	0.5583	; popDist[31] = 	0.5592	; popDist[32] = 	0.5615	; popDist[33] = 	0.5911	; popDist[34] = 	0.5986	; popDist[35] = 	0.5996	; popDist[36] = 	0.6014	; popDist[37] = 	0.6093	; popDist[38] = 	0.6115	; popDist[39] = 	0.6353	; popDist[40] = 	0.6497	; popDist[41] = 	0.6801	; popDist[42] = 	0.7455	; popDist[43] =	0.7780	; popDist[44] =	0.7959	; popDist[45] =	0.8249	; popDist[46] =	0.8629	; popDist[47] =	0.8774	; popDist[48] =	0.8816	; popDist[49] =	0.9005	; popDist[50] =	0.9098	; popDist[51] =	0.9362	; popDist[52] =	0.9516	; popDist[53] =	0.9541	; popDist[54] =	0.9712	; popDist[55] =	0.9767	; popDist[56] =	0.9862	; popDist[57] =	0.9971	; popDist[58] =	0.9993	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0164	; popDist[2] =	0.0257	; popDist[3] =	0.0360	; popDist[4] =	0.0679	; popDist[5] = 	0.0979	; popDist[6] =	0.1116	; popDist[7] =	0.1458	; popDist[8] = 	0.1559	; popDist[9] = 	0.1880	; popDist[10] = 	0.1980	; popDist[11] = 	0.2139	; popDist[12] = 	0.2264	; popDist[13] = 	0.2549	; popDist[14] = 	0.2622	; popDist[15] = 	0.2743	; popDist[16] = 	0.3016	; popDist[17] = 	0.3302	; popDist[18] = 	0.3384	; popDist[19] = 	0.3691	; popDist[20] = 	0.3751	; popDist[21] = 	0.3812	; popDist[22] = 	0.3917	; popDist[23] = 	0.4018	; popDist[24] = 	0.4182	; popDist[25] = 	0.4258	; popDist[26] = 	0.4407	; popDist[27] = 	0.4464	; popDist[28] = 	0.4519	; popDist[29] = 	0.4590	; popDist[30] = 	0.4660	; popDist[31] = 	0.4673	; popDist[32] = 	0.4700	; popDist[33] = 	0.4965	; popDist[34] = 	0.5051	; popDist[35] = 	0.5061	; popDist[36] = 	0.5086	; popDist[37] = 	0.5181	; popDist[38] = 	0.5213	; popDist[39] = 	0.5407	; popDist[40] = 	0.5502	; popDist[41] = 	0.5705	; popDist[42] = 	0.6334	; popDist[43] =	0.6727	; popDist[44] =	0.7003	; popDist[45] =	0.7418	; popDist[46] =	0.7945	; popDist[47] =	0.8163	; popDist[48] =	0.8226	; popDist[49] =	0.8515	; popDist[50] =	0.8695	; popDist[51] =	0.9072	; popDist[52] =	0.9324	; popDist[53] =	0.9378	; popDist[54] =	0.9621	; popDist[55] =	0.9742	; popDist[56] =	0.9831	; popDist[57] =	0.9956	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0081	; popDist[2] =	0.0143	; popDist[3] =	0.0202	; popDist[4] =	0.0414	; popDist[5] = 	0.0598	; popDist[6] =	0.0678	; popDist[7] =	0.0954	; popDist[8] = 	0.1090	; popDist[9] = 	0.1352	; popDist[10] = 	0.1499	; popDist[11] = 	0.1670	; popDist[12] = 	0.1794	; popDist[13] = 	0.2022	; popDist[14] = 	0.2112	; popDist[15] = 	0.2203	; popDist[16] = 	0.2370	; popDist[17] = 	0.2586	; popDist[18] = 	0.2713	; popDist[19] = 	0.3004	; popDist[20] = 	0.3051	; popDist[21] = 	0.3096	; popDist[22] = 	0.3243	; popDist[23] = 	0.3368	; popDist[24] = 	0.3529	; popDist[25] = 	0.3601	; popDist[26] = 	0.3734	; popDist[27] = 	0.3802	; popDist[28] = 	0.3838	; popDist[29] = 	0.3905	; popDist[30] = 	0.4006	; popDist[31] = 	0.4022	; popDist[32] = 	0.4061	; popDist[33] = 	0.4307	; popDist[34] = 	0.4418	; popDist[35] = 	0.4433	; popDist[36] = 	0.4482	; popDist[37] = 	0.4621	; popDist[38] = 	0.4677	; popDist[39] = 	0.4819	; popDist[40] = 	0.4881	; popDist[41] = 	0.5020	; popDist[42] = 	0.5546	; popDist[43] =	0.5940	; popDist[44] =	0.6244	; popDist[45] =	0.6713	; popDist[46] =	0.7216	; popDist[47] =	0.7497	; popDist[48] =	0.7596	; popDist[49] =	0.7954	; popDist[50] =	0.8197	; popDist[51] =	0.8681	; popDist[52] =	0.9043	; popDist[53] =	0.9143	; popDist[54] =	0.9428	; popDist[55] =	0.9637	; popDist[56] =	0.9727	; popDist[57] =	0.9908	; popDist[58] =	0.9965	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0045	; popDist[2] =	0.0072	; popDist[3] =	0.0103	; popDist[4] =	0.0190	; popDist[5] = 	0.0284	; popDist[6] =	0.0319	; popDist[7] =	0.0474	; popDist[8] = 	0.0633	; popDist[9] = 	0.0794	; popDist[10] = 	0.0942	; popDist[11] = 	0.1096	; popDist[12] = 	0.1223	; popDist[13] = 	0.1375	; popDist[14] = 	0.1516	; popDist[15] = 	0.1581	; popDist[16] = 	0.1668	; popDist[17] = 	0.1811	; popDist[18] = 	0.2027	; popDist[19] = 	0.2291	; popDist[20] = 	0.2330	; popDist[21] = 	0.2362	; popDist[22] = 	0.2547	; popDist[23] = 	0.2670	; popDist[24] = 	0.2822	; popDist[25] = 	0.2883	; popDist[26] = 	0.3000	; popDist[27] = 	0.3091	; popDist[28] = 	0.3115	; popDist[29] = 	0.3168	; popDist[30] = 	0.3300	; popDist[31] = 	0.3366	; popDist[32] = 	0.3473	; popDist[33] = 	0.3725	; popDist[34] = 	0.3944	; popDist[35] = 	0.3992	; popDist[36] = 	0.4118	; popDist[37] = 	0.4513	; popDist[38] = 	0.4673	; popDist[39] = 	0.4824	; popDist[40] = 	0.4867	; popDist[41] = 	0.4977	; popDist[42] = 	0.5323	; popDist[43] =	0.5674	; popDist[44] =	0.5923	; popDist[45] =	0.6311	; popDist[46] =	0.6725	; popDist[47] =	0.7002	; popDist[48] =	0.7138	; popDist[49] =	0.7583	; popDist[50] =	0.7886	; popDist[51] =	0.8318	; popDist[52] =	0.8730	; popDist[53] =	0.8901	; popDist[54] =	0.9169	; popDist[55] =	0.9483	; popDist[56] =	0.9583	; popDist[57] =	0.9830	; popDist[58] =	0.9931	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0007	; popDist[2] =	0.0009	; popDist[3] =	0.0011	; popDist[4] =	0.0019	; popDist[5] = 	0.0027	; popDist[6] =	0.0062	; popDist[7] =	0.0119	; popDist[8] = 	0.0239	; popDist[9] = 	0.0263	; popDist[10] = 	0.0399	; popDist[11] = 	0.0531	; popDist[12] = 	0.0578	; popDist[13] = 	0.0939	; popDist[14] = 	0.1089	; popDist[15] = 	0.1101	; popDist[16] = 	0.1112	; popDist[17] = 	0.1148	; popDist[18] = 	0.1316	; popDist[19] = 	0.1436	; popDist[20] = 	0.1478	; popDist[21] = 	0.1519	; popDist[22] = 	0.1830	; popDist[23] = 	0.2484	; popDist[24] = 	0.3104	; popDist[25] = 	0.3468	; popDist[26] = 	0.3739	; popDist[27] = 	0.4338	; popDist[28] = 	0.4341	; popDist[29] = 	0.4350	; popDist[30] = 	0.4540	; popDist[31] = 	0.4602	; popDist[32] = 	0.4836	; popDist[33] = 	0.5212	; popDist[34] = 	0.5448	; popDist[35] = 	0.5549	; popDist[36] = 	0.5792	; popDist[37] = 	0.6187	; popDist[38] = 	0.6525	; popDist[39] = 	0.6630	; popDist[40] = 	0.6649	; popDist[41] = 	0.6698	; popDist[42] = 	0.6806	; popDist[43] =	0.7168	; popDist[44] =	0.7301	; popDist[45] =	0.7374	; popDist[46] =	0.7437	; popDist[47] =	0.7727	; popDist[48] =	0.7970	; popDist[49] =	0.8416	; popDist[50] =	0.8581	; popDist[51] =	0.8708	; popDist[52] =	0.8820	; popDist[53] =	0.8991	; popDist[54] =	0.9007	; popDist[55] =	0.9060	; popDist[56] =	0.9213	; popDist[57] =	0.9487	; popDist[58] =	0.9781	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0010	; popDist[5] = 	0.0014	; popDist[6] =	0.0029	; popDist[7] =	0.0071	; popDist[8] = 	0.0191	; popDist[9] = 	0.0208	; popDist[10] = 	0.0386	; popDist[11] = 	0.0527	; popDist[12] = 	0.0571	; popDist[13] = 	0.0837	; popDist[14] = 	0.0962	; popDist[15] = 	0.0969	; popDist[16] = 	0.0976	; popDist[17] = 	0.0999	; popDist[18] = 	0.1165	; popDist[19] = 	0.1272	; popDist[20] = 	0.1305	; popDist[21] = 	0.1344	; popDist[22] = 	0.1670	; popDist[23] = 	0.2206	; popDist[24] = 	0.2659	; popDist[25] = 	0.2891	; popDist[26] = 	0.3127	; popDist[27] = 	0.3667	; popDist[28] = 	0.3668	; popDist[29] = 	0.3677	; popDist[30] = 	0.3895	; popDist[31] = 	0.3980	; popDist[32] = 	0.4196	; popDist[33] = 	0.4476	; popDist[34] = 	0.4698	; popDist[35] = 	0.4787	; popDist[36] = 	0.5062	; popDist[37] = 	0.5450	; popDist[38] = 	0.5847	; popDist[39] = 	0.5919	; popDist[40] = 	0.5930	; popDist[41] = 	0.5957	; popDist[42] = 	0.6044	; popDist[43] =	0.6403	; popDist[44] =	0.6572	; popDist[45] =	0.6657	; popDist[46] =	0.6728	; popDist[47] =	0.7086	; popDist[48] =	0.7386	; popDist[49] =	0.7951	; popDist[50] =	0.8207	; popDist[51] =	0.8357	; popDist[52] =	0.8511	; popDist[53] =	0.8803	; popDist[54] =	0.8818	; popDist[55] =	0.8921	; popDist[56] =	0.9042	; popDist[57] =	0.9306	; popDist[58] =	0.9625	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0002	; popDist[4] =	0.0004	; popDist[5] = 	0.0005	; popDist[6] =	0.0012	; popDist[7] =	0.0037	; popDist[8] = 	0.0158	; popDist[9] = 	0.0169	; popDist[10] = 	0.0365	; popDist[11] = 	0.0479	; popDist[12] = 	0.0512	; popDist[13] = 	0.0672	; popDist[14] = 	0.0787	; popDist[15] = 	0.0792	; popDist[16] = 	0.0795	; popDist[17] = 	0.0808	; popDist[18] = 	0.1006	; popDist[19] = 	0.1082	; popDist[20] = 	0.1101	; popDist[21] = 	0.1122	; popDist[22] = 	0.1461	; popDist[23] = 	0.1949	; popDist[24] = 	0.2286	; popDist[25] = 	0.2450	; popDist[26] = 	0.2610	; popDist[27] = 	0.3106	; popDist[28] = 	0.3107	; popDist[29] = 	0.3112	; popDist[30] = 	0.3350	; popDist[31] = 	0.3423	; popDist[32] = 	0.3685	; popDist[33] = 	0.3881	; popDist[34] = 	0.4100	; popDist[35] = 	0.4198	; popDist[36] = 	0.4582	; popDist[37] = 	0.5014	; popDist[38] = 	0.5569	; popDist[39] = 	0.5607	; popDist[40] = 	0.5612	; popDist[41] = 	0.5626	; popDist[42] = 	0.5680	; popDist[43] =	0.5950	; popDist[44] =	0.6090	; popDist[45] =	0.6163	; popDist[46] =	0.6215	; popDist[47] =	0.6560	; popDist[48] =	0.6912	; popDist[49] =	0.7433	; popDist[50] =	0.7691	; popDist[51] =	0.7836	; popDist[52] =	0.8001	; popDist[53] =	0.8406	; popDist[54] =	0.8421	; popDist[55] =	0.8551	; popDist[56] =	0.8642	; popDist[57] =	0.8925	; popDist[58] =	0.9384	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0000	; popDist[2] =	0.0000	; popDist[3] =	0.0000	; popDist[4] =	0.0000	; popDist[5] = 	0.0001	; popDist[6] =	0.0003	; popDist[7] =	0.0012	; popDist[8] = 	0.0104	; popDist[9] = 	0.0109	; popDist[10] = 	0.0238	; popDist[11] = 	0.0304	; popDist[12] = 	0.0327	; popDist[13] = 	0.0395	; popDist[14] = 	0.0512	; popDist[15] = 	0.0513	; popDist[16] = 	0.0514	; popDist[17] = 	0.0519	; popDist[18] = 	0.0735	; popDist[19] = 	0.0780	; popDist[20] = 	0.0790	; popDist[21] = 	0.0799	; popDist[22] = 	0.1073	; popDist[23] = 	0.1379	; popDist[24] = 	0.1582	; popDist[25] = 	0.1670	; popDist[26] = 	0.1760	; popDist[27] = 	0.2175	; popDist[28] = 	0.2175	; popDist[29] = 	0.2179	; popDist[30] = 	0.2382	; popDist[31] = 	0.2586	; popDist[32] = 	0.3039	; popDist[33] = 	0.3169	; popDist[34] = 	0.3448	; popDist[35] = 	0.3649	; popDist[36] = 	0.4288	; popDist[37] = 	0.5070	; popDist[38] = 	0.6085	; popDist[39] = 	0.6111	; popDist[40] = 	0.6113	; popDist[41] = 	0.6120	; popDist[42] = 	0.6143	; popDist[43] =	0.6297	; popDist[44] =	0.6372	; popDist[45] =	0.6410	; popDist[46] =	0.6437	; popDist[47] =	0.6656	; popDist[48] =	0.6969	; popDist[49] =	0.7388	; popDist[50] =	0.7597	; popDist[51] =	0.7680	; popDist[52] =	0.7801	; popDist[53] =	0.8250	; popDist[54] =	0.8259	; popDist[55] =	0.8386	; popDist[56] =	0.8451	; popDist[57] =	0.8699	; popDist[58] =	0.9214	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0146	; popDist[2] =	0.0217	; popDist[3] =	0.0405	; popDist[4] =	0.0693	; popDist[5] = 	0.0955	; popDist[6] =	0.1070	; popDist[7] =	0.1234	; popDist[8] = 	0.1283	; popDist[9] = 	0.1587	; popDist[10] = 	0.1661	; popDist[11] = 	0.1755	; popDist[12] = 	0.2190	; popDist[13] = 	0.2250	; popDist[14] = 	0.2428	; popDist[15] = 	0.3140	; popDist[16] = 	0.3280	; popDist[17] = 	0.3753	; popDist[18] = 	0.3796	; popDist[19] = 	0.3825	; popDist[20] = 	0.4218	; popDist[21] = 	0.4675	; popDist[22] = 	0.4683	; popDist[23] = 	0.4691	; popDist[24] = 	0.4743	; popDist[25] = 	0.4874	; popDist[26] = 	0.5303	; popDist[27] = 	0.5336	; popDist[28] = 	0.5762	; popDist[29] = 	0.6529	; popDist[30] = 	0.6891	; popDist[31] = 	0.6896	; popDist[32] = 	0.6906	; popDist[33] = 	0.7023	; popDist[34] = 	0.7058	; popDist[35] = 	0.7066	; popDist[36] = 	0.7084	; popDist[37] = 	0.7146	; popDist[38] = 	0.7162	; popDist[39] = 	0.7350	; popDist[40] = 	0.7937	; popDist[41] = 	0.8209	; popDist[42] = 	0.8323	; popDist[43] =	0.8382	; popDist[44] =	0.8398	; popDist[45] =	0.8466	; popDist[46] =	0.8535	; popDist[47] =	0.8542	; popDist[48] =	0.8555	; popDist[49] =	0.8603	; popDist[50] =	0.8685	; popDist[51] =	0.8732	; popDist[52] =	0.8803	; popDist[53] =	0.8808	; popDist[54] =	0.9395	; popDist[55] =	0.9630	; popDist[56] =	0.9845	; popDist[57] =	0.9986	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0080	; popDist[2] =	0.0120	; popDist[3] =	0.0221	; popDist[4] =	0.0419	; popDist[5] = 	0.0590	; popDist[6] =	0.0653	; popDist[7] =	0.0797	; popDist[8] = 	0.0855	; popDist[9] = 	0.1136	; popDist[10] = 	0.1254	; popDist[11] = 	0.1374	; popDist[12] = 	0.1858	; popDist[13] = 	0.1911	; popDist[14] = 	0.2093	; popDist[15] = 	0.2585	; popDist[16] = 	0.2689	; popDist[17] = 	0.3071	; popDist[18] = 	0.3123	; popDist[19] = 	0.3157	; popDist[20] = 	0.3525	; popDist[21] = 	0.4037	; popDist[22] = 	0.4049	; popDist[23] = 	0.4057	; popDist[24] = 	0.4104	; popDist[25] = 	0.4205	; popDist[26] = 	0.4657	; popDist[27] = 	0.4695	; popDist[28] = 	0.4946	; popDist[29] = 	0.5847	; popDist[30] = 	0.6350	; popDist[31] = 	0.6359	; popDist[32] = 	0.6371	; popDist[33] = 	0.6477	; popDist[34] = 	0.6518	; popDist[35] = 	0.6527	; popDist[36] = 	0.6547	; popDist[37] = 	0.6624	; popDist[38] = 	0.6649	; popDist[39] = 	0.6805	; popDist[40] = 	0.7190	; popDist[41] = 	0.7371	; popDist[42] = 	0.7480	; popDist[43] =	0.7553	; popDist[44] =	0.7580	; popDist[45] =	0.7679	; popDist[46] =	0.7776	; popDist[47] =	0.7788	; popDist[48] =	0.7809	; popDist[49] =	0.7881	; popDist[50] =	0.8041	; popDist[51] =	0.8105	; popDist[52] =	0.8225	; popDist[53] =	0.8236	; popDist[54] =	0.9078	; popDist[55] =	0.9610	; popDist[56] =	0.9815	; popDist[57] =	0.9977	; popDist[58] =	0.9992	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0040	; popDist[2] =	0.0067	; popDist[3] =	0.0125	; popDist[4] =	0.0257	; popDist[5] = 	0.0362	; popDist[6] =	0.0401	; popDist[7] =	0.0518	; popDist[8] = 	0.0598	; popDist[9] = 	0.0829	; popDist[10] = 	0.1004	; popDist[11] = 	0.1135	; popDist[12] = 	0.1627	; popDist[13] = 	0.1667	; popDist[14] = 	0.1890	; popDist[15] = 	0.2261	; popDist[16] = 	0.2324	; popDist[17] = 	0.2613	; popDist[18] = 	0.2696	; popDist[19] = 	0.2729	; popDist[20] = 	0.3016	; popDist[21] = 	0.3401	; popDist[22] = 	0.3417	; popDist[23] = 	0.3425	; popDist[24] = 	0.3471	; popDist[25] = 	0.3566	; popDist[26] = 	0.3975	; popDist[27] = 	0.4019	; popDist[28] = 	0.4182	; popDist[29] = 	0.4991	; popDist[30] = 	0.5723	; popDist[31] = 	0.5733	; popDist[32] = 	0.5752	; popDist[33] = 	0.5847	; popDist[34] = 	0.5901	; popDist[35] = 	0.5912	; popDist[36] = 	0.5953	; popDist[37] = 	0.6064	; popDist[38] = 	0.6103	; popDist[39] = 	0.6214	; popDist[40] = 	0.6470	; popDist[41] = 	0.6594	; popDist[42] = 	0.6687	; popDist[43] =	0.6762	; popDist[44] =	0.6792	; popDist[45] =	0.6904	; popDist[46] =	0.6999	; popDist[47] =	0.7014	; popDist[48] =	0.7043	; popDist[49] =	0.7130	; popDist[50] =	0.7345	; popDist[51] =	0.7429	; popDist[52] =	0.7598	; popDist[53] =	0.7621	; popDist[54] =	0.8607	; popDist[55] =	0.9514	; popDist[56] =	0.9720	; popDist[57] =	0.9955	; popDist[58] =	0.9983	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0020	; popDist[2] =	0.0032	; popDist[3] =	0.0061	; popDist[4] =	0.0116	; popDist[5] = 	0.0170	; popDist[6] =	0.0187	; popDist[7] =	0.0248	; popDist[8] = 	0.0338	; popDist[9] = 	0.0472	; popDist[10] = 	0.0646	; popDist[11] = 	0.0757	; popDist[12] = 	0.1240	; popDist[13] = 	0.1268	; popDist[14] = 	0.1605	; popDist[15] = 	0.1865	; popDist[16] = 	0.1898	; popDist[17] = 	0.2082	; popDist[18] = 	0.2221	; popDist[19] = 	0.2247	; popDist[20] = 	0.2481	; popDist[21] = 	0.2724	; popDist[22] = 	0.2743	; popDist[23] = 	0.2753	; popDist[24] = 	0.2796	; popDist[25] = 	0.2871	; popDist[26] = 	0.3215	; popDist[27] = 	0.3270	; popDist[28] = 	0.3373	; popDist[29] = 	0.3988	; popDist[30] = 	0.4921	; popDist[31] = 	0.4965	; popDist[32] = 	0.5011	; popDist[33] = 	0.5109	; popDist[34] = 	0.5208	; popDist[35] = 	0.5245	; popDist[36] = 	0.5350	; popDist[37] = 	0.5660	; popDist[38] = 	0.5774	; popDist[39] = 	0.5893	; popDist[40] = 	0.6060	; popDist[41] = 	0.6155	; popDist[42] = 	0.6212	; popDist[43] =	0.6276	; popDist[44] =	0.6298	; popDist[45] =	0.6387	; popDist[46] =	0.6463	; popDist[47] =	0.6478	; popDist[48] =	0.6517	; popDist[49] =	0.6621	; popDist[50] =	0.6878	; popDist[51] =	0.6952	; popDist[52] =	0.7140	; popDist[53] =	0.7178	; popDist[54] =	0.8070	; popDist[55] =	0.9393	; popDist[56] =	0.9612	; popDist[57] =	0.9917	; popDist[58] =	0.9967	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0328	; popDist[2] =	0.0512	; popDist[3] =	0.0709	; popDist[4] =	0.1101	; popDist[5] = 	0.1518	; popDist[6] =	0.1748	; popDist[7] =	0.2120	; popDist[8] = 	0.2232	; popDist[9] = 	0.2648	; popDist[10] = 	0.2738	; popDist[11] = 	0.2886	; popDist[12] = 	0.2996	; popDist[13] = 	0.3336	; popDist[14] = 	0.3406	; popDist[15] = 	0.3563	; popDist[16] = 	0.3901	; popDist[17] = 	0.4230	; popDist[18] = 	0.4296	; popDist[19] = 	0.4588	; popDist[20] = 	0.4640	; popDist[21] = 	0.4689	; popDist[22] = 	0.4756	; popDist[23] = 	0.4865	; popDist[24] = 	0.5051	; popDist[25] = 	0.5180	; popDist[26] = 	0.5311	; popDist[27] = 	0.5374	; popDist[28] = 	0.5466	; popDist[29] = 	0.5511	; popDist[30] = 	0.5566	; popDist[31] = 	0.5573	; popDist[32] = 	0.5593	; popDist[33] = 	0.5916	; popDist[34] = 	0.5993	; popDist[35] = 	0.6003	; popDist[36] = 	0.6027	; popDist[37] = 	0.6127	; popDist[38] = 	0.6158	; popDist[39] = 	0.6385	; popDist[40] = 	0.6505	; popDist[41] = 	0.6845	; popDist[42] = 	0.7483	; popDist[43] =	0.7735	; popDist[44] =	0.7925	; popDist[45] =	0.8299	; popDist[46] =	0.8724	; popDist[47] =	0.8875	; popDist[48] =	0.8935	; popDist[49] =	0.9176	; popDist[50] =	0.9264	; popDist[51] =	0.9458	; popDist[52] =	0.9543	; popDist[53] =	0.9574	; popDist[54] =	0.9686	; popDist[55] =	0.9731	; popDist[56] =	0.9825	; popDist[57] =	0.9941	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0178	; popDist[2] =	0.0281	; popDist[3] =	0.0386	; popDist[4] =	0.0652	; popDist[5] = 	0.0922	; popDist[6] =	0.1050	; popDist[7] =	0.1376	; popDist[8] = 	0.1509	; popDist[9] = 	0.1890	; popDist[10] = 	0.2032	; popDist[11] = 	0.2222	; popDist[12] = 	0.2344	; popDist[13] = 	0.2645	; popDist[14] = 	0.2717	; popDist[15] = 	0.2825	; popDist[16] = 	0.3071	; popDist[17] = 	0.3333	; popDist[18] = 	0.3411	; popDist[19] = 	0.3727	; popDist[20] = 	0.3775	; popDist[21] = 	0.3827	; popDist[22] = 	0.3912	; popDist[23] = 	0.4020	; popDist[24] = 	0.4186	; popDist[25] = 	0.4285	; popDist[26] = 	0.4421	; popDist[27] = 	0.4490	; popDist[28] = 	0.4543	; popDist[29] = 	0.4598	; popDist[30] = 	0.4674	; popDist[31] = 	0.4685	; popDist[32] = 	0.4707	; popDist[33] = 	0.4997	; popDist[34] = 	0.5085	; popDist[35] = 	0.5096	; popDist[36] = 	0.5131	; popDist[37] = 	0.5250	; popDist[38] = 	0.5291	; popDist[39] = 	0.5477	; popDist[40] = 	0.5555	; popDist[41] = 	0.5778	; popDist[42] = 	0.6393	; popDist[43] =	0.6693	; popDist[44] =	0.6985	; popDist[45] =	0.7517	; popDist[46] =	0.8103	; popDist[47] =	0.8329	; popDist[48] =	0.8419	; popDist[49] =	0.8785	; popDist[50] =	0.8952	; popDist[51] =	0.9226	; popDist[52] =	0.9364	; popDist[53] =	0.9429	; popDist[54] =	0.9592	; popDist[55] =	0.9689	; popDist[56] =	0.9777	; popDist[57] =	0.9913	; popDist[58] =	0.9967	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0087	; popDist[2] =	0.0155	; popDist[3] =	0.0214	; popDist[4] =	0.0390	; popDist[5] = 	0.0555	; popDist[6] =	0.0629	; popDist[7] =	0.0888	; popDist[8] = 	0.1066	; popDist[9] = 	0.1378	; popDist[10] = 	0.1585	; popDist[11] = 	0.1789	; popDist[12] = 	0.1912	; popDist[13] = 	0.2151	; popDist[14] = 	0.2235	; popDist[15] = 	0.2317	; popDist[16] = 	0.2468	; popDist[17] = 	0.2664	; popDist[18] = 	0.2784	; popDist[19] = 	0.3083	; popDist[20] = 	0.3119	; popDist[21] = 	0.3158	; popDist[22] = 	0.3272	; popDist[23] = 	0.3402	; popDist[24] = 	0.3567	; popDist[25] = 	0.3658	; popDist[26] = 	0.3783	; popDist[27] = 	0.3869	; popDist[28] = 	0.3902	; popDist[29] = 	0.3951	; popDist[30] = 	0.4058	; popDist[31] = 	0.4071	; popDist[32] = 	0.4107	; popDist[33] = 	0.4375	; popDist[34] = 	0.4491	; popDist[35] = 	0.4506	; popDist[36] = 	0.4569	; popDist[37] = 	0.4739	; popDist[38] = 	0.4813	; popDist[39] = 	0.4946	; popDist[40] = 	0.4998	; popDist[41] = 	0.5151	; popDist[42] = 	0.5652	; popDist[43] =	0.5950	; popDist[44] =	0.6270	; popDist[45] =	0.6867	; popDist[46] =	0.7421	; popDist[47] =	0.7711	; popDist[48] =	0.7851	; popDist[49] =	0.8300	; popDist[50] =	0.8525	; popDist[51] =	0.8874	; popDist[52] =	0.9071	; popDist[53] =	0.9192	; popDist[54] =	0.9377	; popDist[55] =	0.9540	; popDist[56] =	0.9628	; popDist[57] =	0.9821	; popDist[58] =	0.9925	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0046	; popDist[2] =	0.0076	; popDist[3] =	0.0106	; popDist[4] =	0.0177	; popDist[5] = 	0.0260	; popDist[6] =	0.0293	; popDist[7] =	0.0434	; popDist[8] = 	0.0638	; popDist[9] = 	0.0822	; popDist[10] = 	0.1029	; popDist[11] = 	0.1207	; popDist[12] = 	0.1332	; popDist[13] = 	0.1489	; popDist[14] = 	0.1619	; popDist[15] = 	0.1677	; popDist[16] = 	0.1754	; popDist[17] = 	0.1886	; popDist[18] = 	0.2087	; popDist[19] = 	0.2350	; popDist[20] = 	0.2381	; popDist[21] = 	0.2407	; popDist[22] = 	0.2547	; popDist[23] = 	0.2670	; popDist[24] = 	0.2819	; popDist[25] = 	0.2893	; popDist[26] = 	0.3001	; popDist[27] = 	0.3107	; popDist[28] = 	0.3129	; popDist[29] = 	0.3167	; popDist[30] = 	0.3310	; popDist[31] = 	0.3364	; popDist[32] = 	0.3459	; popDist[33] = 	0.3726	; popDist[34] = 	0.3946	; popDist[35] = 	0.3993	; popDist[36] = 	0.4152	; popDist[37] = 	0.4625	; popDist[38] = 	0.4837	; popDist[39] = 	0.4976	; popDist[40] = 	0.5009	; popDist[41] = 	0.5127	; popDist[42] = 	0.5450	; popDist[43] =	0.5709	; popDist[44] =	0.5966	; popDist[45] =	0.6453	; popDist[46] =	0.6899	; popDist[47] =	0.7177	; popDist[48] =	0.7364	; popDist[49] =	0.7907	; popDist[50] =	0.8185	; popDist[51] =	0.8493	; popDist[52] =	0.8714	; popDist[53] =	0.8915	; popDist[54] =	0.9090	; popDist[55] =	0.9327	; popDist[56] =	0.9425	; popDist[57] =	0.9683	; popDist[58] =	0.9860	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0288	; popDist[2] =	0.0447	; popDist[3] =	0.0623	; popDist[4] =	0.1016	; popDist[5] = 	0.1439	; popDist[6] =	0.1651	; popDist[7] =	0.2014	; popDist[8] = 	0.2112	; popDist[9] = 	0.2466	; popDist[10] = 	0.2535	; popDist[11] = 	0.2665	; popDist[12] = 	0.2783	; popDist[13] = 	0.3136	; popDist[14] = 	0.3212	; popDist[15] = 	0.3382	; popDist[16] = 	0.3729	; popDist[17] = 	0.4084	; popDist[18] = 	0.4150	; popDist[19] = 	0.4431	; popDist[20] = 	0.4493	; popDist[21] = 	0.4555	; popDist[22] = 	0.4642	; popDist[23] = 	0.4756	; popDist[24] = 	0.4978	; popDist[25] = 	0.5112	; popDist[26] = 	0.5268	; popDist[27] = 	0.5335	; popDist[28] = 	0.5424	; popDist[29] = 	0.5497	; popDist[30] = 	0.5553	; popDist[31] = 	0.5562	; popDist[32] = 	0.5586	; popDist[33] = 	0.5893	; popDist[34] = 	0.5964	; popDist[35] = 	0.5974	; popDist[36] = 	0.5998	; popDist[37] = 	0.6083	; popDist[38] = 	0.6105	; popDist[39] = 	0.6347	; popDist[40] = 	0.6477	; popDist[41] = 	0.6772	; popDist[42] = 	0.7463	; popDist[43] =	0.7744	; popDist[44] =	0.7911	; popDist[45] =	0.8204	; popDist[46] =	0.8556	; popDist[47] =	0.8701	; popDist[48] =	0.8750	; popDist[49] =	0.8960	; popDist[50] =	0.9068	; popDist[51] =	0.9319	; popDist[52] =	0.9480	; popDist[53] =	0.9511	; popDist[54] =	0.9682	; popDist[55] =	0.9745	; popDist[56] =	0.9846	; popDist[57] =	0.9961	; popDist[58] =	0.9991	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0155	; popDist[2] =	0.0244	; popDist[3] =	0.0336	; popDist[4] =	0.0603	; popDist[5] = 	0.0875	; popDist[6] =	0.0990	; popDist[7] =	0.1308	; popDist[8] = 	0.1424	; popDist[9] = 	0.1744	; popDist[10] = 	0.1855	; popDist[11] = 	0.2019	; popDist[12] = 	0.2147	; popDist[13] = 	0.2458	; popDist[14] = 	0.2532	; popDist[15] = 	0.2648	; popDist[16] = 	0.2902	; popDist[17] = 	0.3185	; popDist[18] = 	0.3263	; popDist[19] = 	0.3562	; popDist[20] = 	0.3619	; popDist[21] = 	0.3686	; popDist[22] = 	0.3797	; popDist[23] = 	0.3908	; popDist[24] = 	0.4099	; popDist[25] = 	0.4200	; popDist[26] = 	0.4360	; popDist[27] = 	0.4435	; popDist[28] = 	0.4488	; popDist[29] = 	0.4570	; popDist[30] = 	0.4652	; popDist[31] = 	0.4666	; popDist[32] = 	0.4693	; popDist[33] = 	0.4967	; popDist[34] = 	0.5047	; popDist[35] = 	0.5057	; popDist[36] = 	0.5090	; popDist[37] = 	0.5193	; popDist[38] = 	0.5226	; popDist[39] = 	0.5424	; popDist[40] = 	0.5509	; popDist[41] = 	0.5703	; popDist[42] = 	0.6363	; popDist[43] =	0.6700	; popDist[44] =	0.6957	; popDist[45] =	0.7367	; popDist[46] =	0.7852	; popDist[47] =	0.8065	; popDist[48] =	0.8136	; popDist[49] =	0.8454	; popDist[50] =	0.8658	; popDist[51] =	0.9013	; popDist[52] =	0.9275	; popDist[53] =	0.9339	; popDist[54] =	0.9582	; popDist[55] =	0.9717	; popDist[56] =	0.9813	; popDist[57] =	0.9941	; popDist[58] =	0.9979	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0075	; popDist[2] =	0.0134	; popDist[3] =	0.0186	; popDist[4] =	0.0360	; popDist[5] = 	0.0528	; popDist[6] =	0.0595	; popDist[7] =	0.0845	; popDist[8] = 	0.1002	; popDist[9] = 	0.1261	; popDist[10] = 	0.1418	; popDist[11] = 	0.1594	; popDist[12] = 	0.1724	; popDist[13] = 	0.1972	; popDist[14] = 	0.2061	; popDist[15] = 	0.2147	; popDist[16] = 	0.2300	; popDist[17] = 	0.2513	; popDist[18] = 	0.2633	; popDist[19] = 	0.2916	; popDist[20] = 	0.2958	; popDist[21] = 	0.3009	; popDist[22] = 	0.3161	; popDist[23] = 	0.3299	; popDist[24] = 	0.3487	; popDist[25] = 	0.3582	; popDist[26] = 	0.3727	; popDist[27] = 	0.3816	; popDist[28] = 	0.3850	; popDist[29] = 	0.3923	; popDist[30] = 	0.4033	; popDist[31] = 	0.4050	; popDist[32] = 	0.4091	; popDist[33] = 	0.4339	; popDist[34] = 	0.4442	; popDist[35] = 	0.4457	; popDist[36] = 	0.4515	; popDist[37] = 	0.4662	; popDist[38] = 	0.4722	; popDist[39] = 	0.4861	; popDist[40] = 	0.4916	; popDist[41] = 	0.5048	; popDist[42] = 	0.5588	; popDist[43] =	0.5918	; popDist[44] =	0.6198	; popDist[45] =	0.6658	; popDist[46] =	0.7113	; popDist[47] =	0.7384	; popDist[48] =	0.7496	; popDist[49] =	0.7885	; popDist[50] =	0.8156	; popDist[51] =	0.8611	; popDist[52] =	0.8983	; popDist[53] =	0.9104	; popDist[54] =	0.9383	; popDist[55] =	0.9610	; popDist[56] =	0.9706	; popDist[57] =	0.9888	; popDist[58] =	0.9959	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0040	; popDist[2] =	0.0066	; popDist[3] =	0.0093	; popDist[4] =	0.0167	; popDist[5] = 	0.0249	; popDist[6] =	0.0277	; popDist[7] =	0.0415	; popDist[8] = 	0.0593	; popDist[9] = 	0.0748	; popDist[10] = 	0.0906	; popDist[11] = 	0.1061	; popDist[12] = 	0.1189	; popDist[13] = 	0.1351	; popDist[14] = 	0.1492	; popDist[15] = 	0.1552	; popDist[16] = 	0.1632	; popDist[17] = 	0.1770	; popDist[18] = 	0.1971	; popDist[19] = 	0.2223	; popDist[20] = 	0.2258	; popDist[21] = 	0.2291	; popDist[22] = 	0.2477	; popDist[23] = 	0.2607	; popDist[24] = 	0.2782	; popDist[25] = 	0.2860	; popDist[26] = 	0.2984	; popDist[27] = 	0.3095	; popDist[28] = 	0.3117	; popDist[29] = 	0.3171	; popDist[30] = 	0.3316	; popDist[31] = 	0.3383	; popDist[32] = 	0.3492	; popDist[33] = 	0.3741	; popDist[34] = 	0.3942	; popDist[35] = 	0.3989	; popDist[36] = 	0.4130	; popDist[37] = 	0.4549	; popDist[38] = 	0.4723	; popDist[39] = 	0.4874	; popDist[40] = 	0.4911	; popDist[41] = 	0.5012	; popDist[42] = 	0.5362	; popDist[43] =	0.5646	; popDist[44] =	0.5873	; popDist[45] =	0.6249	; popDist[46] =	0.6619	; popDist[47] =	0.6880	; popDist[48] =	0.7031	; popDist[49] =	0.7501	; popDist[50] =	0.7835	; popDist[51] =	0.8236	; popDist[52] =	0.8650	; popDist[53] =	0.8851	; popDist[54] =	0.9114	; popDist[55] =	0.9453	; popDist[56] =	0.9558	; popDist[57] =	0.9805	; popDist[58] =	0.9924	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0012	; popDist[4] =	0.0020	; popDist[5] = 	0.0026	; popDist[6] =	0.0061	; popDist[7] =	0.0109	; popDist[8] = 	0.0233	; popDist[9] = 	0.0260	; popDist[10] = 	0.0417	; popDist[11] = 	0.0548	; popDist[12] = 	0.0604	; popDist[13] = 	0.0932	; popDist[14] = 	0.1074	; popDist[15] = 	0.1089	; popDist[16] = 	0.1100	; popDist[17] = 	0.1136	; popDist[18] = 	0.1273	; popDist[19] = 	0.1376	; popDist[20] = 	0.1418	; popDist[21] = 	0.1457	; popDist[22] = 	0.1779	; popDist[23] = 	0.2488	; popDist[24] = 	0.2989	; popDist[25] = 	0.3421	; popDist[26] = 	0.3666	; popDist[27] = 	0.4263	; popDist[28] = 	0.4265	; popDist[29] = 	0.4274	; popDist[30] = 	0.4452	; popDist[31] = 	0.4493	; popDist[32] = 	0.4716	; popDist[33] = 	0.5075	; popDist[34] = 	0.5291	; popDist[35] = 	0.5393	; popDist[36] = 	0.5664	; popDist[37] = 	0.6075	; popDist[38] = 	0.6487	; popDist[39] = 	0.6596	; popDist[40] = 	0.6618	; popDist[41] = 	0.6675	; popDist[42] = 	0.6773	; popDist[43] =	0.7155	; popDist[44] =	0.7286	; popDist[45] =	0.7354	; popDist[46] =	0.7408	; popDist[47] =	0.7714	; popDist[48] =	0.7976	; popDist[49] =	0.8445	; popDist[50] =	0.8604	; popDist[51] =	0.8716	; popDist[52] =	0.8833	; popDist[53] =	0.8998	; popDist[54] =	0.9010	; popDist[55] =	0.9074	; popDist[56] =	0.9242	; popDist[57] =	0.9492	; popDist[58] =	0.9781	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0005	; popDist[3] =	0.0007	; popDist[4] =	0.0010	; popDist[5] = 	0.0013	; popDist[6] =	0.0029	; popDist[7] =	0.0065	; popDist[8] = 	0.0186	; popDist[9] = 	0.0206	; popDist[10] = 	0.0411	; popDist[11] = 	0.0552	; popDist[12] = 	0.0600	; popDist[13] = 	0.0841	; popDist[14] = 	0.0960	; popDist[15] = 	0.0967	; popDist[16] = 	0.0972	; popDist[17] = 	0.0997	; popDist[18] = 	0.1135	; popDist[19] = 	0.1225	; popDist[20] = 	0.1257	; popDist[21] = 	0.1294	; popDist[22] = 	0.1629	; popDist[23] = 	0.2208	; popDist[24] = 	0.2574	; popDist[25] = 	0.2847	; popDist[26] = 	0.3056	; popDist[27] = 	0.3593	; popDist[28] = 	0.3595	; popDist[29] = 	0.3604	; popDist[30] = 	0.3805	; popDist[31] = 	0.3860	; popDist[32] = 	0.4064	; popDist[33] = 	0.4331	; popDist[34] = 	0.4534	; popDist[35] = 	0.4624	; popDist[36] = 	0.4930	; popDist[37] = 	0.5335	; popDist[38] = 	0.5814	; popDist[39] = 	0.5888	; popDist[40] = 	0.5899	; popDist[41] = 	0.5928	; popDist[42] = 	0.6010	; popDist[43] =	0.6391	; popDist[44] =	0.6555	; popDist[45] =	0.6637	; popDist[46] =	0.6702	; popDist[47] =	0.7079	; popDist[48] =	0.7400	; popDist[49] =	0.7989	; popDist[50] =	0.8237	; popDist[51] =	0.8369	; popDist[52] =	0.8528	; popDist[53] =	0.8812	; popDist[54] =	0.8829	; popDist[55] =	0.8945	; popDist[56] =	0.9075	; popDist[57] =	0.9314	; popDist[58] =	0.9629	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0002	; popDist[4] =	0.0004	; popDist[5] = 	0.0006	; popDist[6] =	0.0014	; popDist[7] =	0.0035	; popDist[8] = 	0.0158	; popDist[9] = 	0.0169	; popDist[10] = 	0.0394	; popDist[11] = 	0.0508	; popDist[12] = 	0.0545	; popDist[13] = 	0.0689	; popDist[14] = 	0.0797	; popDist[15] = 	0.0802	; popDist[16] = 	0.0806	; popDist[17] = 	0.0820	; popDist[18] = 	0.0978	; popDist[19] = 	0.1043	; popDist[20] = 	0.1061	; popDist[21] = 	0.1082	; popDist[22] = 	0.1429	; popDist[23] = 	0.1955	; popDist[24] = 	0.2224	; popDist[25] = 	0.2415	; popDist[26] = 	0.2557	; popDist[27] = 	0.3050	; popDist[28] = 	0.3051	; popDist[29] = 	0.3057	; popDist[30] = 	0.3276	; popDist[31] = 	0.3323	; popDist[32] = 	0.3568	; popDist[33] = 	0.3752	; popDist[34] = 	0.3950	; popDist[35] = 	0.4049	; popDist[36] = 	0.4477	; popDist[37] = 	0.4921	; popDist[38] = 	0.5585	; popDist[39] = 	0.5624	; popDist[40] = 	0.5630	; popDist[41] = 	0.5645	; popDist[42] = 	0.5692	; popDist[43] =	0.5976	; popDist[44] =	0.6112	; popDist[45] =	0.6179	; popDist[46] =	0.6225	; popDist[47] =	0.6585	; popDist[48] =	0.6958	; popDist[49] =	0.7499	; popDist[50] =	0.7746	; popDist[51] =	0.7874	; popDist[52] =	0.8042	; popDist[53] =	0.8434	; popDist[54] =	0.8449	; popDist[55] =	0.8597	; popDist[56] =	0.8693	; popDist[57] =	0.8947	; popDist[58] =	0.9395	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0000	; popDist[2] =	0.0000	; popDist[3] =	0.0000	; popDist[4] =	0.0000	; popDist[5] = 	0.0000	; popDist[6] =	0.0002	; popDist[7] =	0.0009	; popDist[8] = 	0.0101	; popDist[9] = 	0.0106	; popDist[10] = 	0.0252	; popDist[11] = 	0.0316	; popDist[12] = 	0.0341	; popDist[13] = 	0.0404	; popDist[14] = 	0.0514	; popDist[15] = 	0.0516	; popDist[16] = 	0.0518	; popDist[17] = 	0.0523	; popDist[18] = 	0.0696	; popDist[19] = 	0.0733	; popDist[20] = 	0.0743	; popDist[21] = 	0.0751	; popDist[22] = 	0.1029	; popDist[23] = 	0.1356	; popDist[24] = 	0.1516	; popDist[25] = 	0.1618	; popDist[26] = 	0.1696	; popDist[27] = 	0.2103	; popDist[28] = 	0.2103	; popDist[29] = 	0.2105	; popDist[30] = 	0.2292	; popDist[31] = 	0.2422	; popDist[32] = 	0.2846	; popDist[33] = 	0.2967	; popDist[34] = 	0.3217	; popDist[35] = 	0.3416	; popDist[36] = 	0.4125	; popDist[37] = 	0.4921	; popDist[38] = 	0.6126	; popDist[39] = 	0.6154	; popDist[40] = 	0.6157	; popDist[41] = 	0.6164	; popDist[42] = 	0.6184	; popDist[43] =	0.6347	; popDist[44] =	0.6419	; popDist[45] =	0.6454	; popDist[46] =	0.6480	; popDist[47] =	0.6707	; popDist[48] =	0.7037	; popDist[49] =	0.7464	; popDist[50] =	0.7662	; popDist[51] =	0.7735	; popDist[52] =	0.7859	; popDist[53] =	0.8291	; popDist[54] =	0.8301	; popDist[55] =	0.8447	; popDist[56] =	0.8516	; popDist[57] =	0.8735	; popDist[58] =	0.9235	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0164	; popDist[2] =	0.0231	; popDist[3] =	0.0428	; popDist[4] =	0.0706	; popDist[5] = 	0.0909	; popDist[6] =	0.1023	; popDist[7] =	0.1156	; popDist[8] = 	0.1203	; popDist[9] = 	0.1518	; popDist[10] = 	0.1602	; popDist[11] = 	0.1692	; popDist[12] = 	0.2166	; popDist[13] = 	0.2220	; popDist[14] = 	0.2385	; popDist[15] = 	0.3121	; popDist[16] = 	0.3252	; popDist[17] = 	0.3735	; popDist[18] = 	0.3768	; popDist[19] = 	0.3792	; popDist[20] = 	0.4179	; popDist[21] = 	0.4613	; popDist[22] = 	0.4620	; popDist[23] = 	0.4631	; popDist[24] = 	0.4672	; popDist[25] = 	0.4822	; popDist[26] = 	0.5192	; popDist[27] = 	0.5225	; popDist[28] = 	0.5676	; popDist[29] = 	0.6499	; popDist[30] = 	0.6827	; popDist[31] = 	0.6831	; popDist[32] = 	0.6842	; popDist[33] = 	0.6950	; popDist[34] = 	0.6981	; popDist[35] = 	0.6988	; popDist[36] = 	0.7004	; popDist[37] = 	0.7065	; popDist[38] = 	0.7081	; popDist[39] = 	0.7269	; popDist[40] = 	0.7902	; popDist[41] = 	0.8197	; popDist[42] = 	0.8296	; popDist[43] =	0.8363	; popDist[44] =	0.8378	; popDist[45] =	0.8439	; popDist[46] =	0.8501	; popDist[47] =	0.8511	; popDist[48] =	0.8527	; popDist[49] =	0.8573	; popDist[50] =	0.8652	; popDist[51] =	0.8693	; popDist[52] =	0.8766	; popDist[53] =	0.8773	; popDist[54] =	0.9373	; popDist[55] =	0.9636	; popDist[56] =	0.9860	; popDist[57] =	0.9983	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0090	; popDist[2] =	0.0129	; popDist[3] =	0.0235	; popDist[4] =	0.0428	; popDist[5] = 	0.0561	; popDist[6] =	0.0624	; popDist[7] =	0.0742	; popDist[8] = 	0.0799	; popDist[9] = 	0.1092	; popDist[10] = 	0.1224	; popDist[11] = 	0.1339	; popDist[12] = 	0.1868	; popDist[13] = 	0.1913	; popDist[14] = 	0.2083	; popDist[15] = 	0.2595	; popDist[16] = 	0.2691	; popDist[17] = 	0.3083	; popDist[18] = 	0.3125	; popDist[19] = 	0.3152	; popDist[20] = 	0.3516	; popDist[21] = 	0.4003	; popDist[22] = 	0.4012	; popDist[23] = 	0.4018	; popDist[24] = 	0.4053	; popDist[25] = 	0.4170	; popDist[26] = 	0.4566	; popDist[27] = 	0.4599	; popDist[28] = 	0.4866	; popDist[29] = 	0.5834	; popDist[30] = 	0.6292	; popDist[31] = 	0.6298	; popDist[32] = 	0.6307	; popDist[33] = 	0.6405	; popDist[34] = 	0.6441	; popDist[35] = 	0.6449	; popDist[36] = 	0.6473	; popDist[37] = 	0.6551	; popDist[38] = 	0.6578	; popDist[39] = 	0.6734	; popDist[40] = 	0.7151	; popDist[41] = 	0.7347	; popDist[42] = 	0.7446	; popDist[43] =	0.7523	; popDist[44] =	0.7549	; popDist[45] =	0.7638	; popDist[46] =	0.7722	; popDist[47] =	0.7734	; popDist[48] =	0.7755	; popDist[49] =	0.7827	; popDist[50] =	0.7976	; popDist[51] =	0.8033	; popDist[52] =	0.8153	; popDist[53] =	0.8166	; popDist[54] =	0.9027	; popDist[55] =	0.9624	; popDist[56] =	0.9839	; popDist[57] =	0.9981	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0044	; popDist[2] =	0.0069	; popDist[3] =	0.0128	; popDist[4] =	0.0255	; popDist[5] = 	0.0336	; popDist[6] =	0.0374	; popDist[7] =	0.0466	; popDist[8] = 	0.0546	; popDist[9] = 	0.0788	; popDist[10] = 	0.0982	; popDist[11] = 	0.1109	; popDist[12] = 	0.1643	; popDist[13] = 	0.1678	; popDist[14] = 	0.1885	; popDist[15] = 	0.2270	; popDist[16] = 	0.2331	; popDist[17] = 	0.2623	; popDist[18] = 	0.2688	; popDist[19] = 	0.2717	; popDist[20] = 	0.2999	; popDist[21] = 	0.3367	; popDist[22] = 	0.3383	; popDist[23] = 	0.3394	; popDist[24] = 	0.3430	; popDist[25] = 	0.3538	; popDist[26] = 	0.3893	; popDist[27] = 	0.3937	; popDist[28] = 	0.4110	; popDist[29] = 	0.4982	; popDist[30] = 	0.5644	; popDist[31] = 	0.5651	; popDist[32] = 	0.5666	; popDist[33] = 	0.5753	; popDist[34] = 	0.5800	; popDist[35] = 	0.5811	; popDist[36] = 	0.5854	; popDist[37] = 	0.5971	; popDist[38] = 	0.6020	; popDist[39] = 	0.6132	; popDist[40] = 	0.6409	; popDist[41] = 	0.6544	; popDist[42] = 	0.6626	; popDist[43] =	0.6702	; popDist[44] =	0.6729	; popDist[45] =	0.6831	; popDist[46] =	0.6912	; popDist[47] =	0.6928	; popDist[48] =	0.6959	; popDist[49] =	0.7047	; popDist[50] =	0.7248	; popDist[51] =	0.7323	; popDist[52] =	0.7492	; popDist[53] =	0.7514	; popDist[54] =	0.8517	; popDist[55] =	0.9531	; popDist[56] =	0.9749	; popDist[57] =	0.9956	; popDist[58] =	0.9985	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0023	; popDist[2] =	0.0035	; popDist[3] =	0.0064	; popDist[4] =	0.0116	; popDist[5] = 	0.0158	; popDist[6] =	0.0173	; popDist[7] =	0.0221	; popDist[8] = 	0.0311	; popDist[9] = 	0.0451	; popDist[10] = 	0.0642	; popDist[11] = 	0.0750	; popDist[12] = 	0.1275	; popDist[13] = 	0.1302	; popDist[14] = 	0.1613	; popDist[15] = 	0.1882	; popDist[16] = 	0.1912	; popDist[17] = 	0.2104	; popDist[18] = 	0.2214	; popDist[19] = 	0.2235	; popDist[20] = 	0.2468	; popDist[21] = 	0.2701	; popDist[22] = 	0.2717	; popDist[23] = 	0.2724	; popDist[24] = 	0.2760	; popDist[25] = 	0.2848	; popDist[26] = 	0.3147	; popDist[27] = 	0.3200	; popDist[28] = 	0.3308	; popDist[29] = 	0.3968	; popDist[30] = 	0.4811	; popDist[31] = 	0.4840	; popDist[32] = 	0.4881	; popDist[33] = 	0.4969	; popDist[34] = 	0.5056	; popDist[35] = 	0.5092	; popDist[36] = 	0.5201	; popDist[37] = 	0.5509	; popDist[38] = 	0.5642	; popDist[39] = 	0.5758	; popDist[40] = 	0.5940	; popDist[41] = 	0.6045	; popDist[42] = 	0.6100	; popDist[43] =	0.6166	; popDist[44] =	0.6188	; popDist[45] =	0.6272	; popDist[46] =	0.6336	; popDist[47] =	0.6350	; popDist[48] =	0.6393	; popDist[49] =	0.6501	; popDist[50] =	0.6742	; popDist[51] =	0.6806	; popDist[52] =	0.6992	; popDist[53] =	0.7027	; popDist[54] =	0.7934	; popDist[55] =	0.9419	; popDist[56] =	0.9652	; popDist[57] =	0.9921	; popDist[58] =	0.9966	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0389	; popDist[2] =	0.0572	; popDist[3] =	0.0786	; popDist[4] =	0.1180	; popDist[5] = 	0.1515	; popDist[6] =	0.1751	; popDist[7] =	0.2067	; popDist[8] = 	0.2182	; popDist[9] = 	0.2637	; popDist[10] = 	0.2744	; popDist[11] = 	0.2892	; popDist[12] = 	0.3020	; popDist[13] = 	0.3335	; popDist[14] = 	0.3403	; popDist[15] = 	0.3575	; popDist[16] = 	0.3901	; popDist[17] = 	0.4251	; popDist[18] = 	0.4304	; popDist[19] = 	0.4557	; popDist[20] = 	0.4609	; popDist[21] = 	0.4658	; popDist[22] = 	0.4729	; popDist[23] = 	0.4847	; popDist[24] = 	0.5001	; popDist[25] = 	0.5156	; popDist[26] = 	0.5274	; popDist[27] = 	0.5337	; popDist[28] = 	0.5439	; popDist[29] = 	0.5492	; popDist[30] = 	0.5546	; popDist[31] = 	0.5550	; popDist[32] = 	0.5569	; popDist[33] = 	0.5879	; popDist[34] = 	0.5949	; popDist[35] = 	0.5959	; popDist[36] = 	0.5985	; popDist[37] = 	0.6092	; popDist[38] = 	0.6124	; popDist[39] = 	0.6361	; popDist[40] = 	0.6495	; popDist[41] = 	0.6880	; popDist[42] = 	0.7483	; popDist[43] =	0.7754	; popDist[44] =	0.7944	; popDist[45] =	0.8300	; popDist[46] =	0.8682	; popDist[47] =	0.8846	; popDist[48] =	0.8911	; popDist[49] =	0.9170	; popDist[50] =	0.9259	; popDist[51] =	0.9435	; popDist[52] =	0.9524	; popDist[53] =	0.9557	; popDist[54] =	0.9681	; popDist[55] =	0.9731	; popDist[56] =	0.9835	; popDist[57] =	0.9944	; popDist[58] =	0.9985	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0211	; popDist[2] =	0.0314	; popDist[3] =	0.0430	; popDist[4] =	0.0700	; popDist[5] = 	0.0917	; popDist[6] =	0.1048	; popDist[7] =	0.1325	; popDist[8] = 	0.1462	; popDist[9] = 	0.1878	; popDist[10] = 	0.2048	; popDist[11] = 	0.2241	; popDist[12] = 	0.2382	; popDist[13] = 	0.2663	; popDist[14] = 	0.2732	; popDist[15] = 	0.2850	; popDist[16] = 	0.3090	; popDist[17] = 	0.3373	; popDist[18] = 	0.3437	; popDist[19] = 	0.3713	; popDist[20] = 	0.3762	; popDist[21] = 	0.3813	; popDist[22] = 	0.3903	; popDist[23] = 	0.4020	; popDist[24] = 	0.4155	; popDist[25] = 	0.4273	; popDist[26] = 	0.4396	; popDist[27] = 	0.4468	; popDist[28] = 	0.4526	; popDist[29] = 	0.4586	; popDist[30] = 	0.4655	; popDist[31] = 	0.4663	; popDist[32] = 	0.4684	; popDist[33] = 	0.4967	; popDist[34] = 	0.5047	; popDist[35] = 	0.5057	; popDist[36] = 	0.5094	; popDist[37] = 	0.5216	; popDist[38] = 	0.5271	; popDist[39] = 	0.5467	; popDist[40] = 	0.5557	; popDist[41] = 	0.5812	; popDist[42] = 	0.6393	; popDist[43] =	0.6718	; popDist[44] =	0.7010	; popDist[45] =	0.7519	; popDist[46] =	0.8053	; popDist[47] =	0.8294	; popDist[48] =	0.8394	; popDist[49] =	0.8780	; popDist[50] =	0.8946	; popDist[51] =	0.9194	; popDist[52] =	0.9338	; popDist[53] =	0.9401	; popDist[54] =	0.9574	; popDist[55] =	0.9687	; popDist[56] =	0.9785	; popDist[57] =	0.9910	; popDist[58] =	0.9966	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0104	; popDist[2] =	0.0171	; popDist[3] =	0.0236	; popDist[4] =	0.0416	; popDist[5] = 	0.0550	; popDist[6] =	0.0625	; popDist[7] =	0.0843	; popDist[8] = 	0.1026	; popDist[9] = 	0.1368	; popDist[10] = 	0.1611	; popDist[11] = 	0.1815	; popDist[12] = 	0.1953	; popDist[13] = 	0.2176	; popDist[14] = 	0.2258	; popDist[15] = 	0.2345	; popDist[16] = 	0.2490	; popDist[17] = 	0.2698	; popDist[18] = 	0.2800	; popDist[19] = 	0.3059	; popDist[20] = 	0.3096	; popDist[21] = 	0.3135	; popDist[22] = 	0.3254	; popDist[23] = 	0.3395	; popDist[24] = 	0.3529	; popDist[25] = 	0.3639	; popDist[26] = 	0.3753	; popDist[27] = 	0.3841	; popDist[28] = 	0.3877	; popDist[29] = 	0.3931	; popDist[30] = 	0.4034	; popDist[31] = 	0.4042	; popDist[32] = 	0.4076	; popDist[33] = 	0.4337	; popDist[34] = 	0.4443	; popDist[35] = 	0.4457	; popDist[36] = 	0.4532	; popDist[37] = 	0.4709	; popDist[38] = 	0.4806	; popDist[39] = 	0.4945	; popDist[40] = 	0.5004	; popDist[41] = 	0.5178	; popDist[42] = 	0.5650	; popDist[43] =	0.5971	; popDist[44] =	0.6290	; popDist[45] =	0.6857	; popDist[46] =	0.7362	; popDist[47] =	0.7670	; popDist[48] =	0.7824	; popDist[49] =	0.8298	; popDist[50] =	0.8520	; popDist[51] =	0.8837	; popDist[52] =	0.9042	; popDist[53] =	0.9160	; popDist[54] =	0.9362	; popDist[55] =	0.9549	; popDist[56] =	0.9647	; popDist[57] =	0.9823	; popDist[58] =	0.9925	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0087	; popDist[3] =	0.0119	; popDist[4] =	0.0188	; popDist[5] = 	0.0256	; popDist[6] =	0.0290	; popDist[7] =	0.0409	; popDist[8] = 	0.0619	; popDist[9] = 	0.0814	; popDist[10] = 	0.1055	; popDist[11] = 	0.1232	; popDist[12] = 	0.1371	; popDist[13] = 	0.1514	; popDist[14] = 	0.1642	; popDist[15] = 	0.1702	; popDist[16] = 	0.1776	; popDist[17] = 	0.1911	; popDist[18] = 	0.2077	; popDist[19] = 	0.2307	; popDist[20] = 	0.2337	; popDist[21] = 	0.2363	; popDist[22] = 	0.2511	; popDist[23] = 	0.2645	; popDist[24] = 	0.2765	; popDist[25] = 	0.2853	; popDist[26] = 	0.2946	; popDist[27] = 	0.3053	; popDist[28] = 	0.3076	; popDist[29] = 	0.3120	; popDist[30] = 	0.3254	; popDist[31] = 	0.3290	; popDist[32] = 	0.3383	; popDist[33] = 	0.3637	; popDist[34] = 	0.3841	; popDist[35] = 	0.3889	; popDist[36] = 	0.4072	; popDist[37] = 	0.4569	; popDist[38] = 	0.4825	; popDist[39] = 	0.4973	; popDist[40] = 	0.5009	; popDist[41] = 	0.5144	; popDist[42] = 	0.5440	; popDist[43] =	0.5721	; popDist[44] =	0.5973	; popDist[45] =	0.6435	; popDist[46] =	0.6837	; popDist[47] =	0.7136	; popDist[48] =	0.7342	; popDist[49] =	0.7917	; popDist[50] =	0.8183	; popDist[51] =	0.8458	; popDist[52] =	0.8689	; popDist[53] =	0.8887	; popDist[54] =	0.9068	; popDist[55] =	0.9342	; popDist[56] =	0.9448	; popDist[57] =	0.9682	; popDist[58] =	0.9856	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0343	; popDist[2] =	0.0502	; popDist[3] =	0.0694	; popDist[4] =	0.1087	; popDist[5] = 	0.1431	; popDist[6] =	0.1647	; popDist[7] =	0.1953	; popDist[8] = 	0.2056	; popDist[9] = 	0.2443	; popDist[10] = 	0.2523	; popDist[11] = 	0.2657	; popDist[12] = 	0.2792	; popDist[13] = 	0.3119	; popDist[14] = 	0.3190	; popDist[15] = 	0.3373	; popDist[16] = 	0.3710	; popDist[17] = 	0.4088	; popDist[18] = 	0.4142	; popDist[19] = 	0.4382	; popDist[20] = 	0.4447	; popDist[21] = 	0.4511	; popDist[22] = 	0.4606	; popDist[23] = 	0.4736	; popDist[24] = 	0.4916	; popDist[25] = 	0.5076	; popDist[26] = 	0.5213	; popDist[27] = 	0.5282	; popDist[28] = 	0.5381	; popDist[29] = 	0.5464	; popDist[30] = 	0.5515	; popDist[31] = 	0.5521	; popDist[32] = 	0.5542	; popDist[33] = 	0.5835	; popDist[34] = 	0.5899	; popDist[35] = 	0.5910	; popDist[36] = 	0.5932	; popDist[37] = 	0.6019	; popDist[38] = 	0.6053	; popDist[39] = 	0.6312	; popDist[40] = 	0.6460	; popDist[41] = 	0.6796	; popDist[42] = 	0.7450	; popDist[43] =	0.7757	; popDist[44] =	0.7926	; popDist[45] =	0.8202	; popDist[46] =	0.8525	; popDist[47] =	0.8681	; popDist[48] =	0.8735	; popDist[49] =	0.8957	; popDist[50] =	0.9064	; popDist[51] =	0.9293	; popDist[52] =	0.9460	; popDist[53] =	0.9491	; popDist[54] =	0.9676	; popDist[55] =	0.9746	; popDist[56] =	0.9859	; popDist[57] =	0.9964	; popDist[58] =	0.9993	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0184	; popDist[2] =	0.0273	; popDist[3] =	0.0375	; popDist[4] =	0.0646	; popDist[5] = 	0.0864	; popDist[6] =	0.0984	; popDist[7] =	0.1253	; popDist[8] = 	0.1374	; popDist[9] = 	0.1729	; popDist[10] = 	0.1859	; popDist[11] = 	0.2026	; popDist[12] = 	0.2171	; popDist[13] = 	0.2461	; popDist[14] = 	0.2535	; popDist[15] = 	0.2659	; popDist[16] = 	0.2904	; popDist[17] = 	0.3207	; popDist[18] = 	0.3273	; popDist[19] = 	0.3538	; popDist[20] = 	0.3597	; popDist[21] = 	0.3664	; popDist[22] = 	0.3783	; popDist[23] = 	0.3912	; popDist[24] = 	0.4067	; popDist[25] = 	0.4188	; popDist[26] = 	0.4335	; popDist[27] = 	0.4412	; popDist[28] = 	0.4470	; popDist[29] = 	0.4563	; popDist[30] = 	0.4640	; popDist[31] = 	0.4649	; popDist[32] = 	0.4673	; popDist[33] = 	0.4939	; popDist[34] = 	0.5011	; popDist[35] = 	0.5023	; popDist[36] = 	0.5057	; popDist[37] = 	0.5167	; popDist[38] = 	0.5205	; popDist[39] = 	0.5412	; popDist[40] = 	0.5506	; popDist[41] = 	0.5724	; popDist[42] = 	0.6343	; popDist[43] =	0.6710	; popDist[44] =	0.6963	; popDist[45] =	0.7354	; popDist[46] =	0.7790	; popDist[47] =	0.8017	; popDist[48] =	0.8096	; popDist[49] =	0.8434	; popDist[50] =	0.8636	; popDist[51] =	0.8961	; popDist[52] =	0.9233	; popDist[53] =	0.9297	; popDist[54] =	0.9561	; popDist[55] =	0.9719	; popDist[56] =	0.9826	; popDist[57] =	0.9945	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0091	; popDist[2] =	0.0148	; popDist[3] =	0.0206	; popDist[4] =	0.0380	; popDist[5] = 	0.0514	; popDist[6] =	0.0582	; popDist[7] =	0.0794	; popDist[8] = 	0.0955	; popDist[9] = 	0.1239	; popDist[10] = 	0.1423	; popDist[11] = 	0.1604	; popDist[12] = 	0.1751	; popDist[13] = 	0.1979	; popDist[14] = 	0.2064	; popDist[15] = 	0.2154	; popDist[16] = 	0.2304	; popDist[17] = 	0.2528	; popDist[18] = 	0.2628	; popDist[19] = 	0.2872	; popDist[20] = 	0.2915	; popDist[21] = 	0.2965	; popDist[22] = 	0.3126	; popDist[23] = 	0.3277	; popDist[24] = 	0.3427	; popDist[25] = 	0.3543	; popDist[26] = 	0.3672	; popDist[27] = 	0.3761	; popDist[28] = 	0.3798	; popDist[29] = 	0.3880	; popDist[30] = 	0.3990	; popDist[31] = 	0.3999	; popDist[32] = 	0.4041	; popDist[33] = 	0.4283	; popDist[34] = 	0.4382	; popDist[35] = 	0.4397	; popDist[36] = 	0.4464	; popDist[37] = 	0.4625	; popDist[38] = 	0.4704	; popDist[39] = 	0.4854	; popDist[40] = 	0.4918	; popDist[41] = 	0.5065	; popDist[42] = 	0.5572	; popDist[43] =	0.5924	; popDist[44] =	0.6201	; popDist[45] =	0.6638	; popDist[46] =	0.7047	; popDist[47] =	0.7335	; popDist[48] =	0.7458	; popDist[49] =	0.7866	; popDist[50] =	0.8129	; popDist[51] =	0.8538	; popDist[52] =	0.8926	; popDist[53] =	0.9044	; popDist[54] =	0.9344	; popDist[55] =	0.9614	; popDist[56] =	0.9717	; popDist[57] =	0.9884	; popDist[58] =	0.9958	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0046	; popDist[2] =	0.0073	; popDist[3] =	0.0103	; popDist[4] =	0.0175	; popDist[5] = 	0.0241	; popDist[6] =	0.0271	; popDist[7] =	0.0388	; popDist[8] = 	0.0572	; popDist[9] = 	0.0739	; popDist[10] = 	0.0924	; popDist[11] = 	0.1081	; popDist[12] = 	0.1222	; popDist[13] = 	0.1374	; popDist[14] = 	0.1505	; popDist[15] = 	0.1572	; popDist[16] = 	0.1651	; popDist[17] = 	0.1800	; popDist[18] = 	0.1967	; popDist[19] = 	0.2181	; popDist[20] = 	0.2217	; popDist[21] = 	0.2248	; popDist[22] = 	0.2447	; popDist[23] = 	0.2592	; popDist[24] = 	0.2731	; popDist[25] = 	0.2819	; popDist[26] = 	0.2928	; popDist[27] = 	0.3040	; popDist[28] = 	0.3064	; popDist[29] = 	0.3125	; popDist[30] = 	0.3265	; popDist[31] = 	0.3311	; popDist[32] = 	0.3419	; popDist[33] = 	0.3664	; popDist[34] = 	0.3847	; popDist[35] = 	0.3896	; popDist[36] = 	0.4060	; popDist[37] = 	0.4489	; popDist[38] = 	0.4691	; popDist[39] = 	0.4846	; popDist[40] = 	0.4884	; popDist[41] = 	0.5002	; popDist[42] = 	0.5326	; popDist[43] =	0.5641	; popDist[44] =	0.5865	; popDist[45] =	0.6221	; popDist[46] =	0.6551	; popDist[47] =	0.6826	; popDist[48] =	0.6989	; popDist[49] =	0.7490	; popDist[50] =	0.7808	; popDist[51] =	0.8166	; popDist[52] =	0.8598	; popDist[53] =	0.8796	; popDist[54] =	0.9076	; popDist[55] =	0.9472	; popDist[56] =	0.9584	; popDist[57] =	0.9805	; popDist[58] =	0.9923	; popDist[59] =	1	;}
+		// a.drawBaselineHood() -- called in Model class
+		// Select neighborhood at baseline, by agent gender, race, age, and household income (-1 if none)
+		public int drawBaselineHood(double randPopProb) {
+			return AlcoholDistributions.baselineHood(getGender(), getAge(), getRace(), getHouseincome(), randPopProb);
 		}
 		
-		public void hoodProbDist2() {
-			if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0013	; popDist[2] =	0.0017	; popDist[3] =	0.0021	; popDist[4] =	0.0033	; popDist[5] = 	0.0047	; popDist[6] =	0.0135	; popDist[7] =	0.0222	; popDist[8] = 	0.0347	; popDist[9] = 	0.0380	; popDist[10] = 	0.0504	; popDist[11] = 	0.0643	; popDist[12] = 	0.0707	; popDist[13] = 	0.1201	; popDist[14] = 	0.1368	; popDist[15] = 	0.1391	; popDist[16] = 	0.1409	; popDist[17] = 	0.1467	; popDist[18] = 	0.1618	; popDist[19] = 	0.1771	; popDist[20] = 	0.1839	; popDist[21] = 	0.1901	; popDist[22] = 	0.2145	; popDist[23] = 	0.2734	; popDist[24] = 	0.3479	; popDist[25] = 	0.3832	; popDist[26] = 	0.4156	; popDist[27] = 	0.4658	; popDist[28] = 	0.4663	; popDist[29] = 	0.4675	; popDist[30] = 	0.4876	; popDist[31] = 	0.4952	; popDist[32] = 	0.5189	; popDist[33] = 	0.5638	; popDist[34] = 	0.5763	; popDist[35] = 	0.5903	; popDist[36] = 	0.6112	; popDist[37] = 	0.6368	; popDist[38] = 	0.6620	; popDist[39] = 	0.6846	; popDist[40] = 	0.6873	; popDist[41] = 	0.6948	; popDist[42] = 	0.7088	; popDist[43] =	0.7541	; popDist[44] =	0.7665	; popDist[45] =	0.7748	; popDist[46] =	0.7820	; popDist[47] =	0.8106	; popDist[48] =	0.8274	; popDist[49] =	0.8618	; popDist[50] =	0.8769	; popDist[51] =	0.8899	; popDist[52] =	0.9014	; popDist[53] =	0.9123	; popDist[54] =	0.9144	; popDist[55] =	0.9199	; popDist[56] =	0.9377	; popDist[57] =	0.9639	; popDist[58] =	0.9845	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0005	; popDist[2] =	0.0007	; popDist[3] =	0.0009	; popDist[4] =	0.0018	; popDist[5] = 	0.0026	; popDist[6] =	0.0068	; popDist[7] =	0.0134	; popDist[8] = 	0.0263	; popDist[9] = 	0.0288	; popDist[10] = 	0.0456	; popDist[11] = 	0.0609	; popDist[12] = 	0.0668	; popDist[13] = 	0.1048	; popDist[14] = 	0.1193	; popDist[15] = 	0.1206	; popDist[16] = 	0.1217	; popDist[17] = 	0.1255	; popDist[18] = 	0.1411	; popDist[19] = 	0.1552	; popDist[20] = 	0.1607	; popDist[21] = 	0.1666	; popDist[22] = 	0.1934	; popDist[23] = 	0.2435	; popDist[24] = 	0.3001	; popDist[25] = 	0.3233	; popDist[26] = 	0.3524	; popDist[27] = 	0.3990	; popDist[28] = 	0.3994	; popDist[29] = 	0.4009	; popDist[30] = 	0.4250	; popDist[31] = 	0.4357	; popDist[32] = 	0.4580	; popDist[33] = 	0.4927	; popDist[34] = 	0.5050	; popDist[35] = 	0.5178	; popDist[36] = 	0.5425	; popDist[37] = 	0.5692	; popDist[38] = 	0.6002	; popDist[39] = 	0.6163	; popDist[40] = 	0.6178	; popDist[41] = 	0.6220	; popDist[42] = 	0.6337	; popDist[43] =	0.6805	; popDist[44] =	0.6969	; popDist[45] =	0.7070	; popDist[46] =	0.7157	; popDist[47] =	0.7521	; popDist[48] =	0.7738	; popDist[49] =	0.8190	; popDist[50] =	0.8436	; popDist[51] =	0.8598	; popDist[52] =	0.8763	; popDist[53] =	0.8955	; popDist[54] =	0.8976	; popDist[55] =	0.9079	; popDist[56] =	0.9224	; popDist[57] =	0.9488	; popDist[58] =	0.9722	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0009	; popDist[5] = 	0.0013	; popDist[6] =	0.0032	; popDist[7] =	0.0075	; popDist[8] = 	0.0213	; popDist[9] = 	0.0231	; popDist[10] = 	0.0426	; popDist[11] = 	0.0556	; popDist[12] = 	0.0605	; popDist[13] = 	0.0845	; popDist[14] = 	0.0986	; popDist[15] = 	0.0992	; popDist[16] = 	0.0997	; popDist[17] = 	0.1021	; popDist[18] = 	0.1216	; popDist[19] = 	0.1321	; popDist[20] = 	0.1354	; popDist[21] = 	0.1389	; popDist[22] = 	0.1679	; popDist[23] = 	0.2160	; popDist[24] = 	0.2600	; popDist[25] = 	0.2774	; popDist[26] = 	0.2982	; popDist[27] = 	0.3435	; popDist[28] = 	0.3436	; popDist[29] = 	0.3447	; popDist[30] = 	0.3722	; popDist[31] = 	0.3820	; popDist[32] = 	0.4106	; popDist[33] = 	0.4363	; popDist[34] = 	0.4490	; popDist[35] = 	0.4640	; popDist[36] = 	0.5001	; popDist[37] = 	0.5311	; popDist[38] = 	0.5762	; popDist[39] = 	0.5852	; popDist[40] = 	0.5860	; popDist[41] = 	0.5884	; popDist[42] = 	0.5960	; popDist[43] =	0.6329	; popDist[44] =	0.6470	; popDist[45] =	0.6558	; popDist[46] =	0.6626	; popDist[47] =	0.6996	; popDist[48] =	0.7263	; popDist[49] =	0.7706	; popDist[50] =	0.7966	; popDist[51] =	0.8130	; popDist[52] =	0.8316	; popDist[53] =	0.8600	; popDist[54] =	0.8621	; popDist[55] =	0.8758	; popDist[56] =	0.8873	; popDist[57] =	0.9169	; popDist[58] =	0.9522	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0002	; popDist[4] =	0.0004	; popDist[5] = 	0.0006	; popDist[6] =	0.0011	; popDist[7] =	0.0026	; popDist[8] = 	0.0135	; popDist[9] = 	0.0142	; popDist[10] = 	0.0278	; popDist[11] = 	0.0356	; popDist[12] = 	0.0390	; popDist[13] = 	0.0499	; popDist[14] = 	0.0650	; popDist[15] = 	0.0654	; popDist[16] = 	0.0656	; popDist[17] = 	0.0666	; popDist[18] = 	0.0889	; popDist[19] = 	0.0953	; popDist[20] = 	0.0973	; popDist[21] = 	0.0989	; popDist[22] = 	0.1235	; popDist[23] = 	0.1553	; popDist[24] = 	0.1832	; popDist[25] = 	0.1929	; popDist[26] = 	0.2052	; popDist[27] = 	0.2450	; popDist[28] = 	0.2452	; popDist[29] = 	0.2457	; popDist[30] = 	0.2703	; popDist[31] = 	0.2987	; popDist[32] = 	0.3509	; popDist[33] = 	0.3687	; popDist[34] = 	0.3858	; popDist[35] = 	0.4177	; popDist[36] = 	0.4809	; popDist[37] = 	0.5400	; popDist[38] = 	0.6267	; popDist[39] = 	0.6334	; popDist[40] = 	0.6337	; popDist[41] = 	0.6350	; popDist[42] = 	0.6383	; popDist[43] =	0.6606	; popDist[44] =	0.6684	; popDist[45] =	0.6733	; popDist[46] =	0.6769	; popDist[47] =	0.7015	; popDist[48] =	0.7263	; popDist[49] =	0.7634	; popDist[50] =	0.7853	; popDist[51] =	0.7953	; popDist[52] =	0.8097	; popDist[53] =	0.8427	; popDist[54] =	0.8440	; popDist[55] =	0.8584	; popDist[56] =	0.8669	; popDist[57] =	0.8943	; popDist[58] =	0.9357	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0184	; popDist[2] =	0.0273	; popDist[3] =	0.0529	; popDist[4] =	0.0876	; popDist[5] = 	0.1181	; popDist[6] =	0.1387	; popDist[7] =	0.1562	; popDist[8] = 	0.1598	; popDist[9] = 	0.1905	; popDist[10] = 	0.1953	; popDist[11] = 	0.2021	; popDist[12] = 	0.2427	; popDist[13] = 	0.2484	; popDist[14] = 	0.2624	; popDist[15] = 	0.3428	; popDist[16] = 	0.3603	; popDist[17] = 	0.4151	; popDist[18] = 	0.4179	; popDist[19] = 	0.4206	; popDist[20] = 	0.4651	; popDist[21] = 	0.5141	; popDist[22] = 	0.5146	; popDist[23] = 	0.5150	; popDist[24] = 	0.5193	; popDist[25] = 	0.5283	; popDist[26] = 	0.5641	; popDist[27] = 	0.5659	; popDist[28] = 	0.6262	; popDist[29] = 	0.7003	; popDist[30] = 	0.7268	; popDist[31] = 	0.7273	; popDist[32] = 	0.7280	; popDist[33] = 	0.7375	; popDist[34] = 	0.7388	; popDist[35] = 	0.7396	; popDist[36] = 	0.7406	; popDist[37] = 	0.7434	; popDist[38] = 	0.7444	; popDist[39] = 	0.7729	; popDist[40] = 	0.8271	; popDist[41] = 	0.8560	; popDist[42] = 	0.8663	; popDist[43] =	0.8716	; popDist[44] =	0.8728	; popDist[45] =	0.8783	; popDist[46] =	0.8842	; popDist[47] =	0.8849	; popDist[48] =	0.8856	; popDist[49] =	0.8880	; popDist[50] =	0.8934	; popDist[51] =	0.8968	; popDist[52] =	0.9021	; popDist[53] =	0.9023	; popDist[54] =	0.9564	; popDist[55] =	0.9723	; popDist[56] =	0.9898	; popDist[57] =	0.9992	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0107	; popDist[2] =	0.0161	; popDist[3] =	0.0307	; popDist[4] =	0.0562	; popDist[5] = 	0.0774	; popDist[6] =	0.0895	; popDist[7] =	0.1059	; popDist[8] = 	0.1105	; popDist[9] = 	0.1402	; popDist[10] = 	0.1483	; popDist[11] = 	0.1576	; popDist[12] = 	0.2054	; popDist[13] = 	0.2109	; popDist[14] = 	0.2260	; popDist[15] = 	0.2848	; popDist[16] = 	0.2983	; popDist[17] = 	0.3453	; popDist[18] = 	0.3489	; popDist[19] = 	0.3522	; popDist[20] = 	0.3964	; popDist[21] = 	0.4546	; popDist[22] = 	0.4552	; popDist[23] = 	0.4556	; popDist[24] = 	0.4598	; popDist[25] = 	0.4670	; popDist[26] = 	0.5070	; popDist[27] = 	0.5092	; popDist[28] = 	0.5470	; popDist[29] = 	0.6395	; popDist[30] = 	0.6793	; popDist[31] = 	0.6801	; popDist[32] = 	0.6809	; popDist[33] = 	0.6903	; popDist[34] = 	0.6919	; popDist[35] = 	0.6927	; popDist[36] = 	0.6943	; popDist[37] = 	0.6983	; popDist[38] = 	0.6995	; popDist[39] = 	0.7244	; popDist[40] = 	0.7621	; popDist[41] = 	0.7824	; popDist[42] = 	0.7929	; popDist[43] =	0.7999	; popDist[44] =	0.8016	; popDist[45] =	0.8099	; popDist[46] =	0.8184	; popDist[47] =	0.8192	; popDist[48] =	0.8200	; popDist[49] =	0.8241	; popDist[50] =	0.8349	; popDist[51] =	0.8401	; popDist[52] =	0.8491	; popDist[53] =	0.8497	; popDist[54] =	0.9316	; popDist[55] =	0.9698	; popDist[56] =	0.9873	; popDist[57] =	0.9987	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0095	; popDist[3] =	0.0182	; popDist[4] =	0.0364	; popDist[5] = 	0.0501	; popDist[6] =	0.0578	; popDist[7] =	0.0715	; popDist[8] = 	0.0781	; popDist[9] = 	0.1042	; popDist[10] = 	0.1168	; popDist[11] = 	0.1275	; popDist[12] = 	0.1790	; popDist[13] = 	0.1835	; popDist[14] = 	0.2032	; popDist[15] = 	0.2504	; popDist[16] = 	0.2593	; popDist[17] = 	0.2968	; popDist[18] = 	0.3027	; popDist[19] = 	0.3058	; popDist[20] = 	0.3423	; popDist[21] = 	0.3887	; popDist[22] = 	0.3896	; popDist[23] = 	0.3903	; popDist[24] = 	0.3947	; popDist[25] = 	0.4020	; popDist[26] = 	0.4405	; popDist[27] = 	0.4432	; popDist[28] = 	0.4692	; popDist[29] = 	0.5577	; popDist[30] = 	0.6191	; popDist[31] = 	0.6202	; popDist[32] = 	0.6215	; popDist[33] = 	0.6309	; popDist[34] = 	0.6331	; popDist[35] = 	0.6344	; popDist[36] = 	0.6374	; popDist[37] = 	0.6434	; popDist[38] = 	0.6457	; popDist[39] = 	0.6648	; popDist[40] = 	0.6913	; popDist[41] = 	0.7063	; popDist[42] = 	0.7158	; popDist[43] =	0.7230	; popDist[44] =	0.7252	; popDist[45] =	0.7351	; popDist[46] =	0.7440	; popDist[47] =	0.7451	; popDist[48] =	0.7467	; popDist[49] =	0.7523	; popDist[50] =	0.7679	; popDist[51] =	0.7748	; popDist[52] =	0.7886	; popDist[53] =	0.7899	; popDist[54] =	0.8914	; popDist[55] =	0.9608	; popDist[56] =	0.9796	; popDist[57] =	0.9972	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0032	; popDist[2] =	0.0049	; popDist[3] =	0.0098	; popDist[4] =	0.0175	; popDist[5] = 	0.0250	; popDist[6] =	0.0284	; popDist[7] =	0.0365	; popDist[8] = 	0.0444	; popDist[9] = 	0.0606	; popDist[10] = 	0.0739	; popDist[11] = 	0.0837	; popDist[12] = 	0.1381	; popDist[13] = 	0.1412	; popDist[14] = 	0.1734	; popDist[15] = 	0.2091	; popDist[16] = 	0.2140	; popDist[17] = 	0.2401	; popDist[18] = 	0.2506	; popDist[19] = 	0.2535	; popDist[20] = 	0.2858	; popDist[21] = 	0.3176	; popDist[22] = 	0.3188	; popDist[23] = 	0.3194	; popDist[24] = 	0.3236	; popDist[25] = 	0.3299	; popDist[26] = 	0.3650	; popDist[27] = 	0.3691	; popDist[28] = 	0.3867	; popDist[29] = 	0.4587	; popDist[30] = 	0.5424	; popDist[31] = 	0.5469	; popDist[32] = 	0.5508	; popDist[33] = 	0.5604	; popDist[34] = 	0.5647	; popDist[35] = 	0.5689	; popDist[36] = 	0.5766	; popDist[37] = 	0.5940	; popDist[38] = 	0.6015	; popDist[39] = 	0.6229	; popDist[40] = 	0.6416	; popDist[41] = 	0.6539	; popDist[42] = 	0.6602	; popDist[43] =	0.6672	; popDist[44] =	0.6688	; popDist[45] =	0.6775	; popDist[46] =	0.6851	; popDist[47] =	0.6862	; popDist[48] =	0.6886	; popDist[49] =	0.6951	; popDist[50] =	0.7151	; popDist[51] =	0.7213	; popDist[52] =	0.7377	; popDist[53] =	0.7400	; popDist[54] =	0.8394	; popDist[55] =	0.9487	; popDist[56] =	0.9702	; popDist[57] =	0.9950	; popDist[58] =	0.9979	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0435	; popDist[2] =	0.0680	; popDist[3] =	0.0958	; popDist[4] =	0.1452	; popDist[5] = 	0.1957	; popDist[6] =	0.2388	; popDist[7] =	0.2803	; popDist[8] = 	0.2888	; popDist[9] = 	0.3322	; popDist[10] = 	0.3384	; popDist[11] = 	0.3497	; popDist[12] = 	0.3604	; popDist[13] = 	0.3944	; popDist[14] = 	0.4002	; popDist[15] = 	0.4188	; popDist[16] = 	0.4623	; popDist[17] = 	0.5023	; popDist[18] = 	0.5067	; popDist[19] = 	0.5339	; popDist[20] = 	0.5400	; popDist[21] = 	0.5453	; popDist[22] = 	0.5493	; popDist[23] = 	0.5562	; popDist[24] = 	0.5727	; popDist[25] = 	0.5817	; popDist[26] = 	0.5931	; popDist[27] = 	0.5970	; popDist[28] = 	0.6105	; popDist[29] = 	0.6151	; popDist[30] = 	0.6192	; popDist[31] = 	0.6198	; popDist[32] = 	0.6212	; popDist[33] = 	0.6492	; popDist[34] = 	0.6523	; popDist[35] = 	0.6533	; popDist[36] = 	0.6549	; popDist[37] = 	0.6597	; popDist[38] = 	0.6612	; popDist[39] = 	0.6967	; popDist[40] = 	0.7083	; popDist[41] = 	0.7459	; popDist[42] = 	0.8067	; popDist[43] =	0.8298	; popDist[44] =	0.8427	; popDist[45] =	0.8737	; popDist[46] =	0.9104	; popDist[47] =	0.9214	; popDist[48] =	0.9245	; popDist[49] =	0.9381	; popDist[50] =	0.9442	; popDist[51] =	0.9588	; popDist[52] =	0.9651	; popDist[53] =	0.9664	; popDist[54] =	0.9775	; popDist[55] =	0.9806	; popDist[56] =	0.9885	; popDist[57] =	0.9968	; popDist[58] =	0.9991	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0254	; popDist[2] =	0.0402	; popDist[3] =	0.0562	; popDist[4] =	0.0925	; popDist[5] = 	0.1279	; popDist[6] =	0.1536	; popDist[7] =	0.1928	; popDist[8] = 	0.2036	; popDist[9] = 	0.2464	; popDist[10] = 	0.2566	; popDist[11] = 	0.2722	; popDist[12] = 	0.2850	; popDist[13] = 	0.3177	; popDist[14] = 	0.3239	; popDist[15] = 	0.3375	; popDist[16] = 	0.3719	; popDist[17] = 	0.4065	; popDist[18] = 	0.4122	; popDist[19] = 	0.4439	; popDist[20] = 	0.4501	; popDist[21] = 	0.4565	; popDist[22] = 	0.4616	; popDist[23] = 	0.4693	; popDist[24] = 	0.4851	; popDist[25] = 	0.4927	; popDist[26] = 	0.5055	; popDist[27] = 	0.5099	; popDist[28] = 	0.5183	; popDist[29] = 	0.5243	; popDist[30] = 	0.5307	; popDist[31] = 	0.5317	; popDist[32] = 	0.5334	; popDist[33] = 	0.5608	; popDist[34] = 	0.5645	; popDist[35] = 	0.5656	; popDist[36] = 	0.5680	; popDist[37] = 	0.5738	; popDist[38] = 	0.5762	; popDist[39] = 	0.6076	; popDist[40] = 	0.6158	; popDist[41] = 	0.6424	; popDist[42] = 	0.7052	; popDist[43] =	0.7349	; popDist[44] =	0.7563	; popDist[45] =	0.8038	; popDist[46] =	0.8586	; popDist[47] =	0.8761	; popDist[48] =	0.8810	; popDist[49] =	0.9035	; popDist[50] =	0.9156	; popDist[51] =	0.9380	; popDist[52] =	0.9493	; popDist[53] =	0.9526	; popDist[54] =	0.9693	; popDist[55] =	0.9768	; popDist[56] =	0.9849	; popDist[57] =	0.9951	; popDist[58] =	0.9981	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0134	; popDist[2] =	0.0239	; popDist[3] =	0.0335	; popDist[4] =	0.0593	; popDist[5] = 	0.0824	; popDist[6] =	0.0986	; popDist[7] =	0.1321	; popDist[8] = 	0.1477	; popDist[9] = 	0.1853	; popDist[10] = 	0.2013	; popDist[11] = 	0.2191	; popDist[12] = 	0.2330	; popDist[13] = 	0.2611	; popDist[14] = 	0.2691	; popDist[15] = 	0.2803	; popDist[16] = 	0.3028	; popDist[17] = 	0.3307	; popDist[18] = 	0.3399	; popDist[19] = 	0.3723	; popDist[20] = 	0.3774	; popDist[21] = 	0.3825	; popDist[22] = 	0.3902	; popDist[23] = 	0.3999	; popDist[24] = 	0.4166	; popDist[25] = 	0.4241	; popDist[26] = 	0.4367	; popDist[27] = 	0.4426	; popDist[28] = 	0.4484	; popDist[29] = 	0.4542	; popDist[30] = 	0.4638	; popDist[31] = 	0.4651	; popDist[32] = 	0.4681	; popDist[33] = 	0.4951	; popDist[34] = 	0.5002	; popDist[35] = 	0.5019	; popDist[36] = 	0.5065	; popDist[37] = 	0.5159	; popDist[38] = 	0.5205	; popDist[39] = 	0.5448	; popDist[40] = 	0.5505	; popDist[41] = 	0.5703	; popDist[42] = 	0.6260	; popDist[43] =	0.6579	; popDist[44] =	0.6831	; popDist[45] =	0.7407	; popDist[46] =	0.7964	; popDist[47] =	0.8204	; popDist[48] =	0.8287	; popDist[49] =	0.8582	; popDist[50] =	0.8759	; popDist[51] =	0.9067	; popDist[52] =	0.9240	; popDist[53] =	0.9307	; popDist[54] =	0.9516	; popDist[55] =	0.9651	; popDist[56] =	0.9737	; popDist[57] =	0.9895	; popDist[58] =	0.9957	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0079	; popDist[2] =	0.0130	; popDist[3] =	0.0183	; popDist[4] =	0.0296	; popDist[5] = 	0.0425	; popDist[6] =	0.0500	; popDist[7] =	0.0699	; popDist[8] = 	0.0895	; popDist[9] = 	0.1138	; popDist[10] = 	0.1313	; popDist[11] = 	0.1487	; popDist[12] = 	0.1636	; popDist[13] = 	0.1835	; popDist[14] = 	0.1972	; popDist[15] = 	0.2057	; popDist[16] = 	0.2184	; popDist[17] = 	0.2381	; popDist[18] = 	0.2549	; popDist[19] = 	0.2861	; popDist[20] = 	0.2908	; popDist[21] = 	0.2943	; popDist[22] = 	0.3047	; popDist[23] = 	0.3147	; popDist[24] = 	0.3315	; popDist[25] = 	0.3381	; popDist[26] = 	0.3499	; popDist[27] = 	0.3584	; popDist[28] = 	0.3626	; popDist[29] = 	0.3673	; popDist[30] = 	0.3811	; popDist[31] = 	0.3873	; popDist[32] = 	0.3963	; popDist[33] = 	0.4258	; popDist[34] = 	0.4370	; popDist[35] = 	0.4430	; popDist[36] = 	0.4557	; popDist[37] = 	0.4842	; popDist[38] = 	0.4991	; popDist[39] = 	0.5275	; popDist[40] = 	0.5318	; popDist[41] = 	0.5483	; popDist[42] = 	0.5871	; popDist[43] =	0.6175	; popDist[44] =	0.6395	; popDist[45] =	0.6907	; popDist[46] =	0.7394	; popDist[47] =	0.7647	; popDist[48] =	0.7768	; popDist[49] =	0.8163	; popDist[50] =	0.8400	; popDist[51] =	0.8698	; popDist[52] =	0.8912	; popDist[53] =	0.9032	; popDist[54] =	0.9243	; popDist[55] =	0.9460	; popDist[56] =	0.9564	; popDist[57] =	0.9792	; popDist[58] =	0.9908	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0384	; popDist[2] =	0.0596	; popDist[3] =	0.0846	; popDist[4] =	0.1341	; popDist[5] = 	0.1856	; popDist[6] =	0.2252	; popDist[7] =	0.2656	; popDist[8] = 	0.2731	; popDist[9] = 	0.3102	; popDist[10] = 	0.3149	; popDist[11] = 	0.3246	; popDist[12] = 	0.3362	; popDist[13] = 	0.3718	; popDist[14] = 	0.3780	; popDist[15] = 	0.3983	; popDist[16] = 	0.4432	; popDist[17] = 	0.4863	; popDist[18] = 	0.4906	; popDist[19] = 	0.5165	; popDist[20] = 	0.5237	; popDist[21] = 	0.5308	; popDist[22] = 	0.5360	; popDist[23] = 	0.5435	; popDist[24] = 	0.5627	; popDist[25] = 	0.5722	; popDist[26] = 	0.5856	; popDist[27] = 	0.5899	; popDist[28] = 	0.6032	; popDist[29] = 	0.6106	; popDist[30] = 	0.6148	; popDist[31] = 	0.6156	; popDist[32] = 	0.6172	; popDist[33] = 	0.6438	; popDist[34] = 	0.6465	; popDist[35] = 	0.6475	; popDist[36] = 	0.6489	; popDist[37] = 	0.6529	; popDist[38] = 	0.6543	; popDist[39] = 	0.6926	; popDist[40] = 	0.7052	; popDist[41] = 	0.7378	; popDist[42] = 	0.8039	; popDist[43] =	0.8299	; popDist[44] =	0.8414	; popDist[45] =	0.8657	; popDist[46] =	0.8961	; popDist[47] =	0.9062	; popDist[48] =	0.9085	; popDist[49] =	0.9202	; popDist[50] =	0.9275	; popDist[51] =	0.9469	; popDist[52] =	0.9590	; popDist[53] =	0.9606	; popDist[54] =	0.9775	; popDist[55] =	0.9818	; popDist[56] =	0.9903	; popDist[57] =	0.9981	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0221	; popDist[2] =	0.0348	; popDist[3] =	0.0490	; popDist[4] =	0.0850	; popDist[5] = 	0.1208	; popDist[6] =	0.1442	; popDist[7] =	0.1822	; popDist[8] = 	0.1917	; popDist[9] = 	0.2281	; popDist[10] = 	0.2360	; popDist[11] = 	0.2496	; popDist[12] = 	0.2631	; popDist[13] = 	0.2969	; popDist[14] = 	0.3033	; popDist[15] = 	0.3179	; popDist[16] = 	0.3531	; popDist[17] = 	0.3902	; popDist[18] = 	0.3957	; popDist[19] = 	0.4259	; popDist[20] = 	0.4330	; popDist[21] = 	0.4412	; popDist[22] = 	0.4479	; popDist[23] = 	0.4559	; popDist[24] = 	0.4742	; popDist[25] = 	0.4820	; popDist[26] = 	0.4972	; popDist[27] = 	0.5018	; popDist[28] = 	0.5103	; popDist[29] = 	0.5192	; popDist[30] = 	0.5256	; popDist[31] = 	0.5269	; popDist[32] = 	0.5289	; popDist[33] = 	0.5545	; popDist[34] = 	0.5578	; popDist[35] = 	0.5590	; popDist[36] = 	0.5612	; popDist[37] = 	0.5669	; popDist[38] = 	0.5686	; popDist[39] = 	0.6021	; popDist[40] = 	0.6107	; popDist[41] = 	0.6339	; popDist[42] = 	0.7020	; popDist[43] =	0.7350	; popDist[44] =	0.7538	; popDist[45] =	0.7904	; popDist[46] =	0.8350	; popDist[47] =	0.8512	; popDist[48] =	0.8552	; popDist[49] =	0.8743	; popDist[50] =	0.8888	; popDist[51] =	0.9181	; popDist[52] =	0.9396	; popDist[53] =	0.9427	; popDist[54] =	0.9676	; popDist[55] =	0.9781	; popDist[56] =	0.9868	; popDist[57] =	0.9968	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0116	; popDist[2] =	0.0205	; popDist[3] =	0.0291	; popDist[4] =	0.0545	; popDist[5] = 	0.0778	; popDist[6] =	0.0925	; popDist[7] =	0.1247	; popDist[8] = 	0.1385	; popDist[9] = 	0.1700	; popDist[10] = 	0.1821	; popDist[11] = 	0.1977	; popDist[12] = 	0.2120	; popDist[13] = 	0.2406	; popDist[14] = 	0.2492	; popDist[15] = 	0.2609	; popDist[16] = 	0.2836	; popDist[17] = 	0.3131	; popDist[18] = 	0.3221	; popDist[19] = 	0.3524	; popDist[20] = 	0.3582	; popDist[21] = 	0.3647	; popDist[22] = 	0.3746	; popDist[23] = 	0.3849	; popDist[24] = 	0.4039	; popDist[25] = 	0.4116	; popDist[26] = 	0.4260	; popDist[27] = 	0.4323	; popDist[28] = 	0.4379	; popDist[29] = 	0.4465	; popDist[30] = 	0.4567	; popDist[31] = 	0.4584	; popDist[32] = 	0.4618	; popDist[33] = 	0.4872	; popDist[34] = 	0.4918	; popDist[35] = 	0.4936	; popDist[36] = 	0.4979	; popDist[37] = 	0.5064	; popDist[38] = 	0.5104	; popDist[39] = 	0.5361	; popDist[40] = 	0.5423	; popDist[41] = 	0.5593	; popDist[42] = 	0.6192	; popDist[43] =	0.6540	; popDist[44] =	0.6757	; popDist[45] =	0.7200	; popDist[46] =	0.7653	; popDist[47] =	0.7875	; popDist[48] =	0.7940	; popDist[49] =	0.8193	; popDist[50] =	0.8400	; popDist[51] =	0.8800	; popDist[52] =	0.9127	; popDist[53] =	0.9193	; popDist[54] =	0.9505	; popDist[55] =	0.9692	; popDist[56] =	0.9784	; popDist[57] =	0.9934	; popDist[58] =	0.9975	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0069	; popDist[2] =	0.0112	; popDist[3] =	0.0159	; popDist[4] =	0.0272	; popDist[5] = 	0.0399	; popDist[6] =	0.0466	; popDist[7] =	0.0655	; popDist[8] = 	0.0825	; popDist[9] = 	0.1031	; popDist[10] = 	0.1165	; popDist[11] = 	0.1313	; popDist[12] = 	0.1472	; popDist[13] = 	0.1673	; popDist[14] = 	0.1819	; popDist[15] = 	0.1910	; popDist[16] = 	0.2038	; popDist[17] = 	0.2248	; popDist[18] = 	0.2412	; popDist[19] = 	0.2706	; popDist[20] = 	0.2761	; popDist[21] = 	0.2805	; popDist[22] = 	0.2942	; popDist[23] = 	0.3048	; popDist[24] = 	0.3241	; popDist[25] = 	0.3310	; popDist[26] = 	0.3442	; popDist[27] = 	0.3530	; popDist[28] = 	0.3571	; popDist[29] = 	0.3643	; popDist[30] = 	0.3788	; popDist[31] = 	0.3863	; popDist[32] = 	0.3965	; popDist[33] = 	0.4243	; popDist[34] = 	0.4344	; popDist[35] = 	0.4405	; popDist[36] = 	0.4517	; popDist[37] = 	0.4771	; popDist[38] = 	0.4893	; popDist[39] = 	0.5187	; popDist[40] = 	0.5232	; popDist[41] = 	0.5373	; popDist[42] = 	0.5788	; popDist[43] =	0.6116	; popDist[44] =	0.6309	; popDist[45] =	0.6697	; popDist[46] =	0.7093	; popDist[47] =	0.7324	; popDist[48] =	0.7422	; popDist[49] =	0.7755	; popDist[50] =	0.8031	; popDist[51] =	0.8416	; popDist[52] =	0.8810	; popDist[53] =	0.8926	; popDist[54] =	0.9239	; popDist[55] =	0.9539	; popDist[56] =	0.9650	; popDist[57] =	0.9868	; popDist[58] =	0.9948	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0014	; popDist[4] =	0.0024	; popDist[5] = 	0.0033	; popDist[6] =	0.0080	; popDist[7] =	0.0156	; popDist[8] = 	0.0271	; popDist[9] = 	0.0298	; popDist[10] = 	0.0416	; popDist[11] = 	0.0557	; popDist[12] = 	0.0612	; popDist[13] = 	0.1001	; popDist[14] = 	0.1194	; popDist[15] = 	0.1210	; popDist[16] = 	0.1223	; popDist[17] = 	0.1263	; popDist[18] = 	0.1521	; popDist[19] = 	0.1654	; popDist[20] = 	0.1714	; popDist[21] = 	0.1759	; popDist[22] = 	0.2057	; popDist[23] = 	0.2611	; popDist[24] = 	0.3123	; popDist[25] = 	0.3387	; popDist[26] = 	0.3633	; popDist[27] = 	0.4033	; popDist[28] = 	0.4037	; popDist[29] = 	0.4048	; popDist[30] = 	0.4208	; popDist[31] = 	0.4272	; popDist[32] = 	0.4576	; popDist[33] = 	0.5001	; popDist[34] = 	0.5250	; popDist[35] = 	0.5408	; popDist[36] = 	0.5756	; popDist[37] = 	0.6230	; popDist[38] = 	0.6765	; popDist[39] = 	0.6901	; popDist[40] = 	0.6925	; popDist[41] = 	0.6981	; popDist[42] = 	0.7094	; popDist[43] =	0.7561	; popDist[44] =	0.7707	; popDist[45] =	0.7780	; popDist[46] =	0.7844	; popDist[47] =	0.8140	; popDist[48] =	0.8364	; popDist[49] =	0.8734	; popDist[50] =	0.8877	; popDist[51] =	0.9002	; popDist[52] =	0.9104	; popDist[53] =	0.9218	; popDist[54] =	0.9232	; popDist[55] =	0.9278	; popDist[56] =	0.9415	; popDist[57] =	0.9646	; popDist[58] =	0.9848	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0005	; popDist[3] =	0.0006	; popDist[4] =	0.0013	; popDist[5] = 	0.0019	; popDist[6] =	0.0040	; popDist[7] =	0.0096	; popDist[8] = 	0.0210	; popDist[9] = 	0.0230	; popDist[10] = 	0.0385	; popDist[11] = 	0.0536	; popDist[12] = 	0.0586	; popDist[13] = 	0.0875	; popDist[14] = 	0.1039	; popDist[15] = 	0.1048	; popDist[16] = 	0.1056	; popDist[17] = 	0.1082	; popDist[18] = 	0.1339	; popDist[19] = 	0.1460	; popDist[20] = 	0.1507	; popDist[21] = 	0.1549	; popDist[22] = 	0.1864	; popDist[23] = 	0.2321	; popDist[24] = 	0.2699	; popDist[25] = 	0.2867	; popDist[26] = 	0.3083	; popDist[27] = 	0.3446	; popDist[28] = 	0.3448	; popDist[29] = 	0.3458	; popDist[30] = 	0.3646	; popDist[31] = 	0.3733	; popDist[32] = 	0.4013	; popDist[33] = 	0.4331	; popDist[34] = 	0.4567	; popDist[35] = 	0.4708	; popDist[36] = 	0.5104	; popDist[37] = 	0.5577	; popDist[38] = 	0.6210	; popDist[39] = 	0.6304	; popDist[40] = 	0.6317	; popDist[41] = 	0.6348	; popDist[42] = 	0.6439	; popDist[43] =	0.6909	; popDist[44] =	0.7097	; popDist[45] =	0.7184	; popDist[46] =	0.7257	; popDist[47] =	0.7626	; popDist[48] =	0.7904	; popDist[49] =	0.8372	; popDist[50] =	0.8599	; popDist[51] =	0.8748	; popDist[52] =	0.8888	; popDist[53] =	0.9085	; popDist[54] =	0.9101	; popDist[55] =	0.9188	; popDist[56] =	0.9296	; popDist[57] =	0.9519	; popDist[58] =	0.9738	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0002	; popDist[4] =	0.0006	; popDist[5] = 	0.0009	; popDist[6] =	0.0018	; popDist[7] =	0.0052	; popDist[8] = 	0.0169	; popDist[9] = 	0.0181	; popDist[10] = 	0.0351	; popDist[11] = 	0.0473	; popDist[12] = 	0.0511	; popDist[13] = 	0.0685	; popDist[14] = 	0.0835	; popDist[15] = 	0.0839	; popDist[16] = 	0.0844	; popDist[17] = 	0.0858	; popDist[18] = 	0.1161	; popDist[19] = 	0.1246	; popDist[20] = 	0.1274	; popDist[21] = 	0.1297	; popDist[22] = 	0.1624	; popDist[23] = 	0.2042	; popDist[24] = 	0.2322	; popDist[25] = 	0.2441	; popDist[26] = 	0.2587	; popDist[27] = 	0.2921	; popDist[28] = 	0.2921	; popDist[29] = 	0.2928	; popDist[30] = 	0.3133	; popDist[31] = 	0.3209	; popDist[32] = 	0.3549	; popDist[33] = 	0.3772	; popDist[34] = 	0.4004	; popDist[35] = 	0.4160	; popDist[36] = 	0.4714	; popDist[37] = 	0.5238	; popDist[38] = 	0.6121	; popDist[39] = 	0.6172	; popDist[40] = 	0.6179	; popDist[41] = 	0.6195	; popDist[42] = 	0.6251	; popDist[43] =	0.6603	; popDist[44] =	0.6760	; popDist[45] =	0.6834	; popDist[46] =	0.6888	; popDist[47] =	0.7244	; popDist[48] =	0.7572	; popDist[49] =	0.8007	; popDist[50] =	0.8235	; popDist[51] =	0.8379	; popDist[52] =	0.8528	; popDist[53] =	0.8803	; popDist[54] =	0.8818	; popDist[55] =	0.8928	; popDist[56] =	0.9009	; popDist[57] =	0.9248	; popDist[58] =	0.9565	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0005	; popDist[7] =	0.0017	; popDist[8] = 	0.0100	; popDist[9] = 	0.0105	; popDist[10] = 	0.0211	; popDist[11] = 	0.0278	; popDist[12] = 	0.0302	; popDist[13] = 	0.0373	; popDist[14] = 	0.0517	; popDist[15] = 	0.0519	; popDist[16] = 	0.0521	; popDist[17] = 	0.0527	; popDist[18] = 	0.0840	; popDist[19] = 	0.0888	; popDist[20] = 	0.0902	; popDist[21] = 	0.0912	; popDist[22] = 	0.1162	; popDist[23] = 	0.1410	; popDist[24] = 	0.1570	; popDist[25] = 	0.1629	; popDist[26] = 	0.1707	; popDist[27] = 	0.1970	; popDist[28] = 	0.1971	; popDist[29] = 	0.1974	; popDist[30] = 	0.2139	; popDist[31] = 	0.2337	; popDist[32] = 	0.2896	; popDist[33] = 	0.3035	; popDist[34] = 	0.3315	; popDist[35] = 	0.3616	; popDist[36] = 	0.4490	; popDist[37] = 	0.5387	; popDist[38] = 	0.6915	; popDist[39] = 	0.6948	; popDist[40] = 	0.6951	; popDist[41] = 	0.6960	; popDist[42] = 	0.6982	; popDist[43] =	0.7173	; popDist[44] =	0.7251	; popDist[45] =	0.7288	; popDist[46] =	0.7315	; popDist[47] =	0.7529	; popDist[48] =	0.7804	; popDist[49] =	0.8133	; popDist[50] =	0.8308	; popDist[51] =	0.8387	; popDist[52] =	0.8491	; popDist[53] =	0.8779	; popDist[54] =	0.8787	; popDist[55] =	0.8888	; popDist[56] =	0.8944	; popDist[57] =	0.9142	; popDist[58] =	0.9477	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0149	; popDist[2] =	0.0222	; popDist[3] =	0.0451	; popDist[4] =	0.0792	; popDist[5] = 	0.1076	; popDist[6] =	0.1218	; popDist[7] =	0.1413	; popDist[8] = 	0.1454	; popDist[9] = 	0.1762	; popDist[10] = 	0.1821	; popDist[11] = 	0.1910	; popDist[12] = 	0.2347	; popDist[13] = 	0.2404	; popDist[14] = 	0.2611	; popDist[15] = 	0.3330	; popDist[16] = 	0.3490	; popDist[17] = 	0.3980	; popDist[18] = 	0.4040	; popDist[19] = 	0.4071	; popDist[20] = 	0.4576	; popDist[21] = 	0.5029	; popDist[22] = 	0.5035	; popDist[23] = 	0.5042	; popDist[24] = 	0.5082	; popDist[25] = 	0.5166	; popDist[26] = 	0.5515	; popDist[27] = 	0.5534	; popDist[28] = 	0.6050	; popDist[29] = 	0.6777	; popDist[30] = 	0.7054	; popDist[31] = 	0.7059	; popDist[32] = 	0.7070	; popDist[33] = 	0.7187	; popDist[34] = 	0.7221	; popDist[35] = 	0.7231	; popDist[36] = 	0.7252	; popDist[37] = 	0.7321	; popDist[38] = 	0.7342	; popDist[39] = 	0.7561	; popDist[40] = 	0.8209	; popDist[41] = 	0.8489	; popDist[42] = 	0.8593	; popDist[43] =	0.8664	; popDist[44] =	0.8680	; popDist[45] =	0.8743	; popDist[46] =	0.8807	; popDist[47] =	0.8814	; popDist[48] =	0.8824	; popDist[49] =	0.8858	; popDist[50] =	0.8923	; popDist[51] =	0.8963	; popDist[52] =	0.9021	; popDist[53] =	0.9024	; popDist[54] =	0.9538	; popDist[55] =	0.9715	; popDist[56] =	0.9885	; popDist[57] =	0.9991	; popDist[58] =	0.9998	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0084	; popDist[2] =	0.0126	; popDist[3] =	0.0254	; popDist[4] =	0.0497	; popDist[5] = 	0.0690	; popDist[6] =	0.0771	; popDist[7] =	0.0949	; popDist[8] = 	0.1000	; popDist[9] = 	0.1296	; popDist[10] = 	0.1391	; popDist[11] = 	0.1510	; popDist[12] = 	0.2012	; popDist[13] = 	0.2064	; popDist[14] = 	0.2284	; popDist[15] = 	0.2796	; popDist[16] = 	0.2919	; popDist[17] = 	0.3327	; popDist[18] = 	0.3403	; popDist[19] = 	0.3437	; popDist[20] = 	0.3928	; popDist[21] = 	0.4452	; popDist[22] = 	0.4462	; popDist[23] = 	0.4468	; popDist[24] = 	0.4505	; popDist[25] = 	0.4572	; popDist[26] = 	0.4950	; popDist[27] = 	0.4973	; popDist[28] = 	0.5289	; popDist[29] = 	0.6175	; popDist[30] = 	0.6574	; popDist[31] = 	0.6583	; popDist[32] = 	0.6596	; popDist[33] = 	0.6705	; popDist[34] = 	0.6743	; popDist[35] = 	0.6754	; popDist[36] = 	0.6784	; popDist[37] = 	0.6871	; popDist[38] = 	0.6904	; popDist[39] = 	0.7091	; popDist[40] = 	0.7532	; popDist[41] = 	0.7726	; popDist[42] = 	0.7832	; popDist[43] =	0.7923	; popDist[44] =	0.7949	; popDist[45] =	0.8040	; popDist[46] =	0.8134	; popDist[47] =	0.8144	; popDist[48] =	0.8160	; popDist[49] =	0.8212	; popDist[50] =	0.8342	; popDist[51] =	0.8402	; popDist[52] =	0.8500	; popDist[53] =	0.8507	; popDist[54] =	0.9271	; popDist[55] =	0.9687	; popDist[56] =	0.9857	; popDist[57] =	0.9984	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0042	; popDist[2] =	0.0072	; popDist[3] =	0.0147	; popDist[4] =	0.0314	; popDist[5] = 	0.0436	; popDist[6] =	0.0486	; popDist[7] =	0.0634	; popDist[8] = 	0.0707	; popDist[9] = 	0.0959	; popDist[10] = 	0.1103	; popDist[11] = 	0.1236	; popDist[12] = 	0.1762	; popDist[13] = 	0.1807	; popDist[14] = 	0.2082	; popDist[15] = 	0.2482	; popDist[16] = 	0.2560	; popDist[17] = 	0.2879	; popDist[18] = 	0.3000	; popDist[19] = 	0.3034	; popDist[20] = 	0.3426	; popDist[21] = 	0.3833	; popDist[22] = 	0.3846	; popDist[23] = 	0.3854	; popDist[24] = 	0.3890	; popDist[25] = 	0.3955	; popDist[26] = 	0.4310	; popDist[27] = 	0.4338	; popDist[28] = 	0.4548	; popDist[29] = 	0.5370	; popDist[30] = 	0.5966	; popDist[31] = 	0.5977	; popDist[32] = 	0.6000	; popDist[33] = 	0.6106	; popDist[34] = 	0.6159	; popDist[35] = 	0.6178	; popDist[36] = 	0.6235	; popDist[37] = 	0.6366	; popDist[38] = 	0.6431	; popDist[39] = 	0.6570	; popDist[40] = 	0.6870	; popDist[41] = 	0.7008	; popDist[42] = 	0.7100	; popDist[43] =	0.7193	; popDist[44] =	0.7224	; popDist[45] =	0.7333	; popDist[46] =	0.7425	; popDist[47] =	0.7439	; popDist[48] =	0.7467	; popDist[49] =	0.7534	; popDist[50] =	0.7714	; popDist[51] =	0.7795	; popDist[52] =	0.7941	; popDist[53] =	0.7957	; popDist[54] =	0.8879	; popDist[55] =	0.9607	; popDist[56] =	0.9783	; popDist[57] =	0.9969	; popDist[58] =	0.9988	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0024	; popDist[2] =	0.0036	; popDist[3] =	0.0075	; popDist[4] =	0.0143	; popDist[5] = 	0.0205	; popDist[6] =	0.0227	; popDist[7] =	0.0306	; popDist[8] = 	0.0389	; popDist[9] = 	0.0538	; popDist[10] = 	0.0683	; popDist[11] = 	0.0800	; popDist[12] = 	0.1325	; popDist[13] = 	0.1354	; popDist[14] = 	0.1781	; popDist[15] = 	0.2066	; popDist[16] = 	0.2105	; popDist[17] = 	0.2315	; popDist[18] = 	0.2517	; popDist[19] = 	0.2545	; popDist[20] = 	0.2875	; popDist[21] = 	0.3137	; popDist[22] = 	0.3156	; popDist[23] = 	0.3163	; popDist[24] = 	0.3196	; popDist[25] = 	0.3250	; popDist[26] = 	0.3553	; popDist[27] = 	0.3588	; popDist[28] = 	0.3723	; popDist[29] = 	0.4357	; popDist[30] = 	0.5132	; popDist[31] = 	0.5176	; popDist[32] = 	0.5235	; popDist[33] = 	0.5341	; popDist[34] = 	0.5442	; popDist[35] = 	0.5498	; popDist[36] = 	0.5644	; popDist[37] = 	0.6005	; popDist[38] = 	0.6180	; popDist[39] = 	0.6327	; popDist[40] = 	0.6528	; popDist[41] = 	0.6634	; popDist[42] = 	0.6691	; popDist[43] =	0.6771	; popDist[44] =	0.6797	; popDist[45] =	0.6884	; popDist[46] =	0.6959	; popDist[47] =	0.6973	; popDist[48] =	0.7008	; popDist[49] =	0.7091	; popDist[50] =	0.7309	; popDist[51] =	0.7379	; popDist[52] =	0.7542	; popDist[53] =	0.7569	; popDist[54] =	0.8420	; popDist[55] =	0.9506	; popDist[56] =	0.9697	; popDist[57] =	0.9945	; popDist[58] =	0.9977	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0337	; popDist[2] =	0.0529	; popDist[3] =	0.0770	; popDist[4] =	0.1236	; popDist[5] = 	0.1690	; popDist[6] =	0.1976	; popDist[7] =	0.2420	; popDist[8] = 	0.2516	; popDist[9] = 	0.2941	; popDist[10] = 	0.3012	; popDist[11] = 	0.3154	; popDist[12] = 	0.3267	; popDist[13] = 	0.3598	; popDist[14] = 	0.3679	; popDist[15] = 	0.3841	; popDist[16] = 	0.4228	; popDist[17] = 	0.4572	; popDist[18] = 	0.4662	; popDist[19] = 	0.4955	; popDist[20] = 	0.5022	; popDist[21] = 	0.5070	; popDist[22] = 	0.5126	; popDist[23] = 	0.5210	; popDist[24] = 	0.5350	; popDist[25] = 	0.5433	; popDist[26] = 	0.5541	; popDist[27] = 	0.5580	; popDist[28] = 	0.5691	; popDist[29] = 	0.5736	; popDist[30] = 	0.5776	; popDist[31] = 	0.5783	; popDist[32] = 	0.5806	; popDist[33] = 	0.6135	; popDist[34] = 	0.6209	; popDist[35] = 	0.6223	; popDist[36] = 	0.6257	; popDist[37] = 	0.6363	; popDist[38] = 	0.6403	; popDist[39] = 	0.6668	; popDist[40] = 	0.6802	; popDist[41] = 	0.7152	; popDist[42] = 	0.7752	; popDist[43] =	0.8046	; popDist[44] =	0.8236	; popDist[45] =	0.8576	; popDist[46] =	0.8968	; popDist[47] =	0.9107	; popDist[48] =	0.9157	; popDist[49] =	0.9336	; popDist[50] =	0.9405	; popDist[51] =	0.9578	; popDist[52] =	0.9646	; popDist[53] =	0.9665	; popDist[54] =	0.9767	; popDist[55] =	0.9798	; popDist[56] =	0.9874	; popDist[57] =	0.9964	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0187	; popDist[2] =	0.0298	; popDist[3] =	0.0430	; popDist[4] =	0.0756	; popDist[5] = 	0.1058	; popDist[6] =	0.1220	; popDist[7] =	0.1624	; popDist[8] = 	0.1742	; popDist[9] = 	0.2141	; popDist[10] = 	0.2254	; popDist[11] = 	0.2442	; popDist[12] = 	0.2569	; popDist[13] = 	0.2873	; popDist[14] = 	0.2957	; popDist[15] = 	0.3069	; popDist[16] = 	0.3360	; popDist[17] = 	0.3643	; popDist[18] = 	0.3753	; popDist[19] = 	0.4079	; popDist[20] = 	0.4144	; popDist[21] = 	0.4198	; popDist[22] = 	0.4271	; popDist[23] = 	0.4356	; popDist[24] = 	0.4484	; popDist[25] = 	0.4549	; popDist[26] = 	0.4665	; popDist[27] = 	0.4708	; popDist[28] = 	0.4775	; popDist[29] = 	0.4829	; popDist[30] = 	0.4888	; popDist[31] = 	0.4899	; popDist[32] = 	0.4927	; popDist[33] = 	0.5228	; popDist[34] = 	0.5314	; popDist[35] = 	0.5330	; popDist[36] = 	0.5374	; popDist[37] = 	0.5505	; popDist[38] = 	0.5564	; popDist[39] = 	0.5787	; popDist[40] = 	0.5877	; popDist[41] = 	0.6115	; popDist[42] = 	0.6710	; popDist[43] =	0.7072	; popDist[44] =	0.7372	; popDist[45] =	0.7869	; popDist[46] =	0.8429	; popDist[47] =	0.8643	; popDist[48] =	0.8720	; popDist[49] =	0.9001	; popDist[50] =	0.9137	; popDist[51] =	0.9389	; popDist[52] =	0.9505	; popDist[53] =	0.9544	; popDist[54] =	0.9690	; popDist[55] =	0.9766	; popDist[56] =	0.9839	; popDist[57] =	0.9944	; popDist[58] =	0.9978	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0095	; popDist[2] =	0.0170	; popDist[3] =	0.0245	; popDist[4] =	0.0466	; popDist[5] = 	0.0656	; popDist[6] =	0.0754	; popDist[7] =	0.1081	; popDist[8] = 	0.1244	; popDist[9] = 	0.1578	; popDist[10] = 	0.1748	; popDist[11] = 	0.1953	; popDist[12] = 	0.2084	; popDist[13] = 	0.2330	; popDist[14] = 	0.2436	; popDist[15] = 	0.2522	; popDist[16] = 	0.2703	; popDist[17] = 	0.2919	; popDist[18] = 	0.3096	; popDist[19] = 	0.3411	; popDist[20] = 	0.3461	; popDist[21] = 	0.3503	; popDist[22] = 	0.3607	; popDist[23] = 	0.3711	; popDist[24] = 	0.3839	; popDist[25] = 	0.3901	; popDist[26] = 	0.4007	; popDist[27] = 	0.4061	; popDist[28] = 	0.4105	; popDist[29] = 	0.4155	; popDist[30] = 	0.4244	; popDist[31] = 	0.4256	; popDist[32] = 	0.4300	; popDist[33] = 	0.4585	; popDist[34] = 	0.4700	; popDist[35] = 	0.4723	; popDist[36] = 	0.4808	; popDist[37] = 	0.5003	; popDist[38] = 	0.5118	; popDist[39] = 	0.5281	; popDist[40] = 	0.5342	; popDist[41] = 	0.5509	; popDist[42] = 	0.6009	; popDist[43] =	0.6378	; popDist[44] =	0.6716	; popDist[45] =	0.7289	; popDist[46] =	0.7829	; popDist[47] =	0.8112	; popDist[48] =	0.8235	; popDist[49] =	0.8586	; popDist[50] =	0.8772	; popDist[51] =	0.9103	; popDist[52] =	0.9272	; popDist[53] =	0.9349	; popDist[54] =	0.9525	; popDist[55] =	0.9655	; popDist[56] =	0.9731	; popDist[57] =	0.9884	; popDist[58] =	0.9951	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0051	; popDist[2] =	0.0084	; popDist[3] =	0.0123	; popDist[4] =	0.0213	; popDist[5] = 	0.0311	; popDist[6] =	0.0352	; popDist[7] =	0.0530	; popDist[8] = 	0.0717	; popDist[9] = 	0.0916	; popDist[10] = 	0.1086	; popDist[11] = 	0.1267	; popDist[12] = 	0.1398	; popDist[13] = 	0.1560	; popDist[14] = 	0.1725	; popDist[15] = 	0.1787	; popDist[16] = 	0.1881	; popDist[17] = 	0.2025	; popDist[18] = 	0.2322	; popDist[19] = 	0.2604	; popDist[20] = 	0.2646	; popDist[21] = 	0.2672	; popDist[22] = 	0.2803	; popDist[23] = 	0.2903	; popDist[24] = 	0.3021	; popDist[25] = 	0.3072	; popDist[26] = 	0.3165	; popDist[27] = 	0.3235	; popDist[28] = 	0.3263	; popDist[29] = 	0.3300	; popDist[30] = 	0.3416	; popDist[31] = 	0.3469	; popDist[32] = 	0.3586	; popDist[33] = 	0.3876	; popDist[34] = 	0.4099	; popDist[35] = 	0.4170	; popDist[36] = 	0.4391	; popDist[37] = 	0.4935	; popDist[38] = 	0.5256	; popDist[39] = 	0.5432	; popDist[40] = 	0.5473	; popDist[41] = 	0.5603	; popDist[42] = 	0.5925	; popDist[43] =	0.6246	; popDist[44] =	0.6518	; popDist[45] =	0.6987	; popDist[46] =	0.7428	; popDist[47] =	0.7701	; popDist[48] =	0.7867	; popDist[49] =	0.8298	; popDist[50] =	0.8529	; popDist[51] =	0.8821	; popDist[52] =	0.9011	; popDist[53] =	0.9141	; popDist[54] =	0.9305	; popDist[55] =	0.9498	; popDist[56] =	0.9580	; popDist[57] =	0.9788	; popDist[58] =	0.9904	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0297	; popDist[2] =	0.0464	; popDist[3] =	0.0680	; popDist[4] =	0.1146	; popDist[5] = 	0.1612	; popDist[6] =	0.1875	; popDist[7] =	0.2310	; popDist[8] = 	0.2395	; popDist[9] = 	0.2756	; popDist[10] = 	0.2811	; popDist[11] = 	0.2936	; popDist[12] = 	0.3055	; popDist[13] = 	0.3400	; popDist[14] = 	0.3487	; popDist[15] = 	0.3662	; popDist[16] = 	0.4061	; popDist[17] = 	0.4435	; popDist[18] = 	0.4524	; popDist[19] = 	0.4804	; popDist[20] = 	0.4884	; popDist[21] = 	0.4946	; popDist[22] = 	0.5023	; popDist[23] = 	0.5113	; popDist[24] = 	0.5277	; popDist[25] = 	0.5364	; popDist[26] = 	0.5492	; popDist[27] = 	0.5532	; popDist[28] = 	0.5642	; popDist[29] = 	0.5712	; popDist[30] = 	0.5755	; popDist[31] = 	0.5763	; popDist[32] = 	0.5789	; popDist[33] = 	0.6101	; popDist[34] = 	0.6167	; popDist[35] = 	0.6182	; popDist[36] = 	0.6210	; popDist[37] = 	0.6305	; popDist[38] = 	0.6339	; popDist[39] = 	0.6625	; popDist[40] = 	0.6769	; popDist[41] = 	0.7073	; popDist[42] = 	0.7727	; popDist[43] =	0.8057	; popDist[44] =	0.8225	; popDist[45] =	0.8490	; popDist[46] =	0.8816	; popDist[47] =	0.8948	; popDist[48] =	0.8988	; popDist[49] =	0.9147	; popDist[50] =	0.9231	; popDist[51] =	0.9460	; popDist[52] =	0.9590	; popDist[53] =	0.9610	; popDist[54] =	0.9762	; popDist[55] =	0.9809	; popDist[56] =	0.9891	; popDist[57] =	0.9977	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0164	; popDist[2] =	0.0260	; popDist[3] =	0.0378	; popDist[4] =	0.0704	; popDist[5] = 	0.1010	; popDist[6] =	0.1158	; popDist[7] =	0.1549	; popDist[8] = 	0.1653	; popDist[9] = 	0.1992	; popDist[10] = 	0.2080	; popDist[11] = 	0.2243	; popDist[12] = 	0.2375	; popDist[13] = 	0.2687	; popDist[14] = 	0.2778	; popDist[15] = 	0.2900	; popDist[16] = 	0.3198	; popDist[17] = 	0.3503	; popDist[18] = 	0.3615	; popDist[19] = 	0.3926	; popDist[20] = 	0.4002	; popDist[21] = 	0.4073	; popDist[22] = 	0.4171	; popDist[23] = 	0.4260	; popDist[24] = 	0.4408	; popDist[25] = 	0.4475	; popDist[26] = 	0.4610	; popDist[27] = 	0.4656	; popDist[28] = 	0.4723	; popDist[29] = 	0.4804	; popDist[30] = 	0.4866	; popDist[31] = 	0.4879	; popDist[32] = 	0.4910	; popDist[33] = 	0.5196	; popDist[34] = 	0.5273	; popDist[35] = 	0.5288	; popDist[36] = 	0.5328	; popDist[37] = 	0.5444	; popDist[38] = 	0.5494	; popDist[39] = 	0.5734	; popDist[40] = 	0.5831	; popDist[41] = 	0.6037	; popDist[42] = 	0.6679	; popDist[43] =	0.7080	; popDist[44] =	0.7345	; popDist[45] =	0.7729	; popDist[46] =	0.8189	; popDist[47] =	0.8388	; popDist[48] =	0.8452	; popDist[49] =	0.8695	; popDist[50] =	0.8860	; popDist[51] =	0.9192	; popDist[52] =	0.9411	; popDist[53] =	0.9451	; popDist[54] =	0.9675	; popDist[55] =	0.9781	; popDist[56] =	0.9862	; popDist[57] =	0.9965	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0083	; popDist[2] =	0.0148	; popDist[3] =	0.0214	; popDist[4] =	0.0435	; popDist[5] = 	0.0627	; popDist[6] =	0.0716	; popDist[7] =	0.1033	; popDist[8] = 	0.1174	; popDist[9] = 	0.1456	; popDist[10] = 	0.1585	; popDist[11] = 	0.1764	; popDist[12] = 	0.1901	; popDist[13] = 	0.2157	; popDist[14] = 	0.2268	; popDist[15] = 	0.2360	; popDist[16] = 	0.2544	; popDist[17] = 	0.2776	; popDist[18] = 	0.2952	; popDist[19] = 	0.3252	; popDist[20] = 	0.3311	; popDist[21] = 	0.3364	; popDist[22] = 	0.3502	; popDist[23] = 	0.3613	; popDist[24] = 	0.3763	; popDist[25] = 	0.3828	; popDist[26] = 	0.3953	; popDist[27] = 	0.4011	; popDist[28] = 	0.4053	; popDist[29] = 	0.4126	; popDist[30] = 	0.4217	; popDist[31] = 	0.4232	; popDist[32] = 	0.4284	; popDist[33] = 	0.4553	; popDist[34] = 	0.4656	; popDist[35] = 	0.4679	; popDist[36] = 	0.4759	; popDist[37] = 	0.4931	; popDist[38] = 	0.5022	; popDist[39] = 	0.5196	; popDist[40] = 	0.5261	; popDist[41] = 	0.5405	; popDist[42] = 	0.5946	; popDist[43] =	0.6357	; popDist[44] =	0.6652	; popDist[45] =	0.7095	; popDist[46] =	0.7541	; popDist[47] =	0.7804	; popDist[48] =	0.7902	; popDist[49] =	0.8207	; popDist[50] =	0.8433	; popDist[51] =	0.8864	; popDist[52] =	0.9182	; popDist[53] =	0.9257	; popDist[54] =	0.9521	; popDist[55] =	0.9703	; popDist[56] =	0.9783	; popDist[57] =	0.9929	; popDist[58] =	0.9975	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0044	; popDist[2] =	0.0073	; popDist[3] =	0.0109	; popDist[4] =	0.0200	; popDist[5] = 	0.0296	; popDist[6] =	0.0335	; popDist[7] =	0.0509	; popDist[8] = 	0.0674	; popDist[9] = 	0.0842	; popDist[10] = 	0.0973	; popDist[11] = 	0.1133	; popDist[12] = 	0.1269	; popDist[13] = 	0.1437	; popDist[14] = 	0.1612	; popDist[15] = 	0.1680	; popDist[16] = 	0.1776	; popDist[17] = 	0.1929	; popDist[18] = 	0.2225	; popDist[19] = 	0.2493	; popDist[20] = 	0.2543	; popDist[21] = 	0.2577	; popDist[22] = 	0.2750	; popDist[23] = 	0.2854	; popDist[24] = 	0.2993	; popDist[25] = 	0.3046	; popDist[26] = 	0.3154	; popDist[27] = 	0.3226	; popDist[28] = 	0.3254	; popDist[29] = 	0.3310	; popDist[30] = 	0.3431	; popDist[31] = 	0.3498	; popDist[32] = 	0.3635	; popDist[33] = 	0.3907	; popDist[34] = 	0.4110	; popDist[35] = 	0.4182	; popDist[36] = 	0.4382	; popDist[37] = 	0.4864	; popDist[38] = 	0.5125	; popDist[39] = 	0.5312	; popDist[40] = 	0.5356	; popDist[41] = 	0.5469	; popDist[42] = 	0.5815	; popDist[43] =	0.6177	; popDist[44] =	0.6418	; popDist[45] =	0.6780	; popDist[46] =	0.7144	; popDist[47] =	0.7398	; popDist[48] =	0.7532	; popDist[49] =	0.7904	; popDist[50] =	0.8183	; popDist[51] =	0.8564	; popDist[52] =	0.8924	; popDist[53] =	0.9056	; popDist[54] =	0.9304	; popDist[55] =	0.9581	; popDist[56] =	0.9669	; popDist[57] =	0.9869	; popDist[58] =	0.9948	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0015	; popDist[4] =	0.0026	; popDist[5] = 	0.0038	; popDist[6] =	0.0088	; popDist[7] =	0.0160	; popDist[8] = 	0.0285	; popDist[9] = 	0.0314	; popDist[10] = 	0.0462	; popDist[11] = 	0.0605	; popDist[12] = 	0.0665	; popDist[13] = 	0.1002	; popDist[14] = 	0.1158	; popDist[15] = 	0.1177	; popDist[16] = 	0.1189	; popDist[17] = 	0.1234	; popDist[18] = 	0.1436	; popDist[19] = 	0.1556	; popDist[20] = 	0.1616	; popDist[21] = 	0.1666	; popDist[22] = 	0.1967	; popDist[23] = 	0.2596	; popDist[24] = 	0.3117	; popDist[25] = 	0.3441	; popDist[26] = 	0.3730	; popDist[27] = 	0.4225	; popDist[28] = 	0.4229	; popDist[29] = 	0.4241	; popDist[30] = 	0.4450	; popDist[31] = 	0.4506	; popDist[32] = 	0.4731	; popDist[33] = 	0.5097	; popDist[34] = 	0.5307	; popDist[35] = 	0.5412	; popDist[36] = 	0.5659	; popDist[37] = 	0.6069	; popDist[38] = 	0.6452	; popDist[39] = 	0.6567	; popDist[40] = 	0.6595	; popDist[41] = 	0.6653	; popDist[42] = 	0.6765	; popDist[43] =	0.7188	; popDist[44] =	0.7319	; popDist[45] =	0.7390	; popDist[46] =	0.7453	; popDist[47] =	0.7770	; popDist[48] =	0.8007	; popDist[49] =	0.8442	; popDist[50] =	0.8603	; popDist[51] =	0.8742	; popDist[52] =	0.8860	; popDist[53] =	0.9013	; popDist[54] =	0.9031	; popDist[55] =	0.9091	; popDist[56] =	0.9263	; popDist[57] =	0.9548	; popDist[58] =	0.9802	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0007	; popDist[4] =	0.0014	; popDist[5] = 	0.0020	; popDist[6] =	0.0043	; popDist[7] =	0.0097	; popDist[8] = 	0.0220	; popDist[9] = 	0.0243	; popDist[10] = 	0.0435	; popDist[11] = 	0.0586	; popDist[12] = 	0.0641	; popDist[13] = 	0.0892	; popDist[14] = 	0.1023	; popDist[15] = 	0.1034	; popDist[16] = 	0.1042	; popDist[17] = 	0.1071	; popDist[18] = 	0.1272	; popDist[19] = 	0.1380	; popDist[20] = 	0.1427	; popDist[21] = 	0.1474	; popDist[22] = 	0.1789	; popDist[23] = 	0.2301	; popDist[24] = 	0.2682	; popDist[25] = 	0.2887	; popDist[26] = 	0.3138	; popDist[27] = 	0.3584	; popDist[28] = 	0.3586	; popDist[29] = 	0.3597	; popDist[30] = 	0.3838	; popDist[31] = 	0.3914	; popDist[32] = 	0.4120	; popDist[33] = 	0.4394	; popDist[34] = 	0.4590	; popDist[35] = 	0.4682	; popDist[36] = 	0.4961	; popDist[37] = 	0.5369	; popDist[38] = 	0.5819	; popDist[39] = 	0.5898	; popDist[40] = 	0.5913	; popDist[41] = 	0.5944	; popDist[42] = 	0.6033	; popDist[43] =	0.6456	; popDist[44] =	0.6623	; popDist[45] =	0.6706	; popDist[46] =	0.6779	; popDist[47] =	0.7169	; popDist[48] =	0.7460	; popDist[49] =	0.8006	; popDist[50] =	0.8261	; popDist[51] =	0.8424	; popDist[52] =	0.8585	; popDist[53] =	0.8848	; popDist[54] =	0.8868	; popDist[55] =	0.8978	; popDist[56] =	0.9113	; popDist[57] =	0.9385	; popDist[58] =	0.9660	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0006	; popDist[5] = 	0.0009	; popDist[6] =	0.0020	; popDist[7] =	0.0052	; popDist[8] = 	0.0178	; popDist[9] = 	0.0192	; popDist[10] = 	0.0405	; popDist[11] = 	0.0528	; popDist[12] = 	0.0570	; popDist[13] = 	0.0721	; popDist[14] = 	0.0841	; popDist[15] = 	0.0847	; popDist[16] = 	0.0851	; popDist[17] = 	0.0868	; popDist[18] = 	0.1104	; popDist[19] = 	0.1182	; popDist[20] = 	0.1209	; popDist[21] = 	0.1235	; popDist[22] = 	0.1565	; popDist[23] = 	0.2036	; popDist[24] = 	0.2320	; popDist[25] = 	0.2466	; popDist[26] = 	0.2637	; popDist[27] = 	0.3048	; popDist[28] = 	0.3050	; popDist[29] = 	0.3057	; popDist[30] = 	0.3319	; popDist[31] = 	0.3386	; popDist[32] = 	0.3637	; popDist[33] = 	0.3828	; popDist[34] = 	0.4023	; popDist[35] = 	0.4125	; popDist[36] = 	0.4516	; popDist[37] = 	0.4969	; popDist[38] = 	0.5598	; popDist[39] = 	0.5640	; popDist[40] = 	0.5647	; popDist[41] = 	0.5664	; popDist[42] = 	0.5721	; popDist[43] =	0.6038	; popDist[44] =	0.6177	; popDist[45] =	0.6247	; popDist[46] =	0.6300	; popDist[47] =	0.6680	; popDist[48] =	0.7023	; popDist[49] =	0.7531	; popDist[50] =	0.7788	; popDist[51] =	0.7946	; popDist[52] =	0.8119	; popDist[53] =	0.8487	; popDist[54] =	0.8505	; popDist[55] =	0.8646	; popDist[56] =	0.8749	; popDist[57] =	0.9041	; popDist[58] =	0.9438	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0006	; popDist[7] =	0.0017	; popDist[8] = 	0.0112	; popDist[9] = 	0.0117	; popDist[10] = 	0.0256	; popDist[11] = 	0.0328	; popDist[12] = 	0.0356	; popDist[13] = 	0.0421	; popDist[14] = 	0.0543	; popDist[15] = 	0.0545	; popDist[16] = 	0.0547	; popDist[17] = 	0.0555	; popDist[18] = 	0.0815	; popDist[19] = 	0.0860	; popDist[20] = 	0.0876	; popDist[21] = 	0.0887	; popDist[22] = 	0.1153	; popDist[23] = 	0.1448	; popDist[24] = 	0.1618	; popDist[25] = 	0.1696	; popDist[26] = 	0.1792	; popDist[27] = 	0.2136	; popDist[28] = 	0.2137	; popDist[29] = 	0.2141	; popDist[30] = 	0.2364	; popDist[31] = 	0.2548	; popDist[32] = 	0.2984	; popDist[33] = 	0.3110	; popDist[34] = 	0.3358	; popDist[35] = 	0.3567	; popDist[36] = 	0.4218	; popDist[37] = 	0.5038	; popDist[38] = 	0.6186	; popDist[39] = 	0.6216	; popDist[40] = 	0.6219	; popDist[41] = 	0.6228	; popDist[42] = 	0.6251	; popDist[43] =	0.6434	; popDist[44] =	0.6508	; popDist[45] =	0.6546	; popDist[46] =	0.6574	; popDist[47] =	0.6814	; popDist[48] =	0.7119	; popDist[49] =	0.7526	; popDist[50] =	0.7734	; popDist[51] =	0.7826	; popDist[52] =	0.7954	; popDist[53] =	0.8361	; popDist[54] =	0.8372	; popDist[55] =	0.8510	; popDist[56] =	0.8583	; popDist[57] =	0.8840	; popDist[58] =	0.9284	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0155	; popDist[2] =	0.0228	; popDist[3] =	0.0458	; popDist[4] =	0.0800	; popDist[5] = 	0.1085	; popDist[6] =	0.1225	; popDist[7] =	0.1394	; popDist[8] = 	0.1435	; popDist[9] = 	0.1746	; popDist[10] = 	0.1812	; popDist[11] = 	0.1892	; popDist[12] = 	0.2338	; popDist[13] = 	0.2384	; popDist[14] = 	0.2535	; popDist[15] = 	0.3314	; popDist[16] = 	0.3455	; popDist[17] = 	0.3957	; popDist[18] = 	0.4000	; popDist[19] = 	0.4025	; popDist[20] = 	0.4486	; popDist[21] = 	0.4942	; popDist[22] = 	0.4948	; popDist[23] = 	0.4955	; popDist[24] = 	0.4991	; popDist[25] = 	0.5084	; popDist[26] = 	0.5454	; popDist[27] = 	0.5476	; popDist[28] = 	0.6015	; popDist[29] = 	0.6755	; popDist[30] = 	0.7076	; popDist[31] = 	0.7080	; popDist[32] = 	0.7088	; popDist[33] = 	0.7179	; popDist[34] = 	0.7204	; popDist[35] = 	0.7210	; popDist[36] = 	0.7224	; popDist[37] = 	0.7278	; popDist[38] = 	0.7292	; popDist[39] = 	0.7459	; popDist[40] = 	0.8116	; popDist[41] = 	0.8376	; popDist[42] = 	0.8472	; popDist[43] =	0.8532	; popDist[44] =	0.8545	; popDist[45] =	0.8598	; popDist[46] =	0.8656	; popDist[47] =	0.8662	; popDist[48] =	0.8672	; popDist[49] =	0.8708	; popDist[50] =	0.8775	; popDist[51] =	0.8816	; popDist[52] =	0.8877	; popDist[53] =	0.8882	; popDist[54] =	0.9471	; popDist[55] =	0.9676	; popDist[56] =	0.9873	; popDist[57] =	0.9989	; popDist[58] =	0.9998	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0087	; popDist[2] =	0.0130	; popDist[3] =	0.0256	; popDist[4] =	0.0499	; popDist[5] = 	0.0691	; popDist[6] =	0.0771	; popDist[7] =	0.0925	; popDist[8] = 	0.0976	; popDist[9] = 	0.1273	; popDist[10] = 	0.1380	; popDist[11] = 	0.1486	; popDist[12] = 	0.1995	; popDist[13] = 	0.2036	; popDist[14] = 	0.2195	; popDist[15] = 	0.2746	; popDist[16] = 	0.2853	; popDist[17] = 	0.3269	; popDist[18] = 	0.3323	; popDist[19] = 	0.3350	; popDist[20] = 	0.3796	; popDist[21] = 	0.4322	; popDist[22] = 	0.4331	; popDist[23] = 	0.4337	; popDist[24] = 	0.4369	; popDist[25] = 	0.4443	; popDist[26] = 	0.4845	; popDist[27] = 	0.4869	; popDist[28] = 	0.5197	; popDist[29] = 	0.6090	; popDist[30] = 	0.6554	; popDist[31] = 	0.6561	; popDist[32] = 	0.6570	; popDist[33] = 	0.6655	; popDist[34] = 	0.6684	; popDist[35] = 	0.6692	; popDist[36] = 	0.6710	; popDist[37] = 	0.6778	; popDist[38] = 	0.6797	; popDist[39] = 	0.6940	; popDist[40] = 	0.7384	; popDist[41] = 	0.7563	; popDist[42] = 	0.7659	; popDist[43] =	0.7732	; popDist[44] =	0.7753	; popDist[45] =	0.7833	; popDist[46] =	0.7917	; popDist[47] =	0.7928	; popDist[48] =	0.7943	; popDist[49] =	0.8001	; popDist[50] =	0.8133	; popDist[51] =	0.8192	; popDist[52] =	0.8296	; popDist[53] =	0.8305	; popDist[54] =	0.9172	; popDist[55] =	0.9652	; popDist[56] =	0.9845	; popDist[57] =	0.9985	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0044	; popDist[2] =	0.0073	; popDist[3] =	0.0146	; popDist[4] =	0.0312	; popDist[5] = 	0.0432	; popDist[6] =	0.0481	; popDist[7] =	0.0606	; popDist[8] = 	0.0676	; popDist[9] = 	0.0927	; popDist[10] = 	0.1088	; popDist[11] = 	0.1207	; popDist[12] = 	0.1738	; popDist[13] = 	0.1772	; popDist[14] = 	0.1969	; popDist[15] = 	0.2397	; popDist[16] = 	0.2464	; popDist[17] = 	0.2787	; popDist[18] = 	0.2872	; popDist[19] = 	0.2899	; popDist[20] = 	0.3254	; popDist[21] = 	0.3658	; popDist[22] = 	0.3671	; popDist[23] = 	0.3678	; popDist[24] = 	0.3711	; popDist[25] = 	0.3782	; popDist[26] = 	0.4155	; popDist[27] = 	0.4186	; popDist[28] = 	0.4403	; popDist[29] = 	0.5231	; popDist[30] = 	0.5920	; popDist[31] = 	0.5928	; popDist[32] = 	0.5943	; popDist[33] = 	0.6024	; popDist[34] = 	0.6064	; popDist[35] = 	0.6075	; popDist[36] = 	0.6111	; popDist[37] = 	0.6211	; popDist[38] = 	0.6252	; popDist[39] = 	0.6357	; popDist[40] = 	0.6658	; popDist[41] = 	0.6786	; popDist[42] = 	0.6868	; popDist[43] =	0.6942	; popDist[44] =	0.6966	; popDist[45] =	0.7060	; popDist[46] =	0.7140	; popDist[47] =	0.7154	; popDist[48] =	0.7180	; popDist[49] =	0.7252	; popDist[50] =	0.7433	; popDist[51] =	0.7510	; popDist[52] =	0.7664	; popDist[53] =	0.7682	; popDist[54] =	0.8725	; popDist[55] =	0.9560	; popDist[56] =	0.9759	; popDist[57] =	0.9964	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0024	; popDist[2] =	0.0037	; popDist[3] =	0.0076	; popDist[4] =	0.0144	; popDist[5] = 	0.0207	; popDist[6] =	0.0228	; popDist[7] =	0.0297	; popDist[8] = 	0.0379	; popDist[9] = 	0.0531	; popDist[10] = 	0.0695	; popDist[11] = 	0.0801	; popDist[12] = 	0.1335	; popDist[13] = 	0.1357	; popDist[14] = 	0.1668	; popDist[15] = 	0.1978	; popDist[16] = 	0.2014	; popDist[17] = 	0.2227	; popDist[18] = 	0.2370	; popDist[19] = 	0.2395	; popDist[20] = 	0.2697	; popDist[21] = 	0.2962	; popDist[22] = 	0.2977	; popDist[23] = 	0.2983	; popDist[24] = 	0.3013	; popDist[25] = 	0.3071	; popDist[26] = 	0.3394	; popDist[27] = 	0.3434	; popDist[28] = 	0.3576	; popDist[29] = 	0.4224	; popDist[30] = 	0.5128	; popDist[31] = 	0.5163	; popDist[32] = 	0.5204	; popDist[33] = 	0.5288	; popDist[34] = 	0.5366	; popDist[35] = 	0.5399	; popDist[36] = 	0.5489	; popDist[37] = 	0.5772	; popDist[38] = 	0.5884	; popDist[39] = 	0.5998	; popDist[40] = 	0.6201	; popDist[41] = 	0.6299	; popDist[42] = 	0.6351	; popDist[43] =	0.6415	; popDist[44] =	0.6435	; popDist[45] =	0.6513	; popDist[46] =	0.6578	; popDist[47] =	0.6592	; popDist[48] =	0.6626	; popDist[49] =	0.6716	; popDist[50] =	0.6940	; popDist[51] =	0.7010	; popDist[52] =	0.7184	; popDist[53] =	0.7214	; popDist[54] =	0.8188	; popDist[55] =	0.9442	; popDist[56] =	0.9660	; popDist[57] =	0.9939	; popDist[58] =	0.9975	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0377	; popDist[2] =	0.0583	; popDist[3] =	0.0839	; popDist[4] =	0.1339	; popDist[5] = 	0.1826	; popDist[6] =	0.2127	; popDist[7] =	0.2538	; popDist[8] = 	0.2638	; popDist[9] = 	0.3096	; popDist[10] = 	0.3181	; popDist[11] = 	0.3319	; popDist[12] = 	0.3442	; popDist[13] = 	0.3721	; popDist[14] = 	0.3784	; popDist[15] = 	0.3970	; popDist[16] = 	0.4330	; popDist[17] = 	0.4707	; popDist[18] = 	0.4775	; popDist[19] = 	0.5034	; popDist[20] = 	0.5099	; popDist[21] = 	0.5150	; popDist[22] = 	0.5205	; popDist[23] = 	0.5296	; popDist[24] = 	0.5434	; popDist[25] = 	0.5533	; popDist[26] = 	0.5656	; popDist[27] = 	0.5703	; popDist[28] = 	0.5827	; popDist[29] = 	0.5876	; popDist[30] = 	0.5928	; popDist[31] = 	0.5934	; popDist[32] = 	0.5950	; popDist[33] = 	0.6223	; popDist[34] = 	0.6282	; popDist[35] = 	0.6291	; popDist[36] = 	0.6314	; popDist[37] = 	0.6404	; popDist[38] = 	0.6432	; popDist[39] = 	0.6648	; popDist[40] = 	0.6792	; popDist[41] = 	0.7141	; popDist[42] = 	0.7722	; popDist[43] =	0.7978	; popDist[44] =	0.8142	; popDist[45] =	0.8457	; popDist[46] =	0.8832	; popDist[47] =	0.8976	; popDist[48] =	0.9028	; popDist[49] =	0.9233	; popDist[50] =	0.9308	; popDist[51] =	0.9492	; popDist[52] =	0.9570	; popDist[53] =	0.9594	; popDist[54] =	0.9717	; popDist[55] =	0.9757	; popDist[56] =	0.9849	; popDist[57] =	0.9955	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0211	; popDist[2] =	0.0330	; popDist[3] =	0.0472	; popDist[4] =	0.0824	; popDist[5] = 	0.1150	; popDist[6] =	0.1321	; popDist[7] =	0.1695	; popDist[8] = 	0.1818	; popDist[9] = 	0.2252	; popDist[10] = 	0.2391	; popDist[11] = 	0.2574	; popDist[12] = 	0.2714	; popDist[13] = 	0.2970	; popDist[14] = 	0.3035	; popDist[15] = 	0.3167	; popDist[16] = 	0.3440	; popDist[17] = 	0.3750	; popDist[18] = 	0.3834	; popDist[19] = 	0.4123	; popDist[20] = 	0.4186	; popDist[21] = 	0.4243	; popDist[22] = 	0.4316	; popDist[23] = 	0.4409	; popDist[24] = 	0.4535	; popDist[25] = 	0.4612	; popDist[26] = 	0.4743	; popDist[27] = 	0.4795	; popDist[28] = 	0.4871	; popDist[29] = 	0.4930	; popDist[30] = 	0.5004	; popDist[31] = 	0.5013	; popDist[32] = 	0.5032	; popDist[33] = 	0.5288	; popDist[34] = 	0.5358	; popDist[35] = 	0.5367	; popDist[36] = 	0.5397	; popDist[37] = 	0.5506	; popDist[38] = 	0.5547	; popDist[39] = 	0.5730	; popDist[40] = 	0.5827	; popDist[41] = 	0.6066	; popDist[42] = 	0.6641	; popDist[43] =	0.6959	; popDist[44] =	0.7218	; popDist[45] =	0.7682	; popDist[46] =	0.8220	; popDist[47] =	0.8443	; popDist[48] =	0.8521	; popDist[49] =	0.8838	; popDist[50] =	0.8989	; popDist[51] =	0.9259	; popDist[52] =	0.9389	; popDist[53] =	0.9442	; popDist[54] =	0.9621	; popDist[55] =	0.9713	; popDist[56] =	0.9804	; popDist[57] =	0.9931	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0106	; popDist[2] =	0.0186	; popDist[3] =	0.0268	; popDist[4] =	0.0506	; popDist[5] = 	0.0709	; popDist[6] =	0.0812	; popDist[7] =	0.1115	; popDist[8] = 	0.1285	; popDist[9] = 	0.1649	; popDist[10] = 	0.1855	; popDist[11] = 	0.2056	; popDist[12] = 	0.2200	; popDist[13] = 	0.2408	; popDist[14] = 	0.2489	; popDist[15] = 	0.2589	; popDist[16] = 	0.2759	; popDist[17] = 	0.2998	; popDist[18] = 	0.3132	; popDist[19] = 	0.3412	; popDist[20] = 	0.3461	; popDist[21] = 	0.3506	; popDist[22] = 	0.3609	; popDist[23] = 	0.3724	; popDist[24] = 	0.3850	; popDist[25] = 	0.3924	; popDist[26] = 	0.4046	; popDist[27] = 	0.4111	; popDist[28] = 	0.4161	; popDist[29] = 	0.4215	; popDist[30] = 	0.4324	; popDist[31] = 	0.4335	; popDist[32] = 	0.4366	; popDist[33] = 	0.4606	; popDist[34] = 	0.4699	; popDist[35] = 	0.4713	; popDist[36] = 	0.4772	; popDist[37] = 	0.4939	; popDist[38] = 	0.5018	; popDist[39] = 	0.5152	; popDist[40] = 	0.5218	; popDist[41] = 	0.5385	; popDist[42] = 	0.5870	; popDist[43] =	0.6194	; popDist[44] =	0.6485	; popDist[45] =	0.7017	; popDist[46] =	0.7539	; popDist[47] =	0.7830	; popDist[48] =	0.7956	; popDist[49] =	0.8356	; popDist[50] =	0.8561	; popDist[51] =	0.8914	; popDist[52] =	0.9104	; popDist[53] =	0.9205	; popDist[54] =	0.9419	; popDist[55] =	0.9580	; popDist[56] =	0.9672	; popDist[57] =	0.9855	; popDist[58] =	0.9938	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0059	; popDist[2] =	0.0095	; popDist[3] =	0.0138	; popDist[4] =	0.0237	; popDist[5] = 	0.0342	; popDist[6] =	0.0387	; popDist[7] =	0.0555	; popDist[8] = 	0.0755	; popDist[9] = 	0.0975	; popDist[10] = 	0.1188	; popDist[11] = 	0.1368	; popDist[12] = 	0.1516	; popDist[13] = 	0.1655	; popDist[14] = 	0.1785	; popDist[15] = 	0.1858	; popDist[16] = 	0.1947	; popDist[17] = 	0.2107	; popDist[18] = 	0.2337	; popDist[19] = 	0.2590	; popDist[20] = 	0.2633	; popDist[21] = 	0.2662	; popDist[22] = 	0.2793	; popDist[23] = 	0.2906	; popDist[24] = 	0.3024	; popDist[25] = 	0.3086	; popDist[26] = 	0.3194	; popDist[27] = 	0.3277	; popDist[28] = 	0.3309	; popDist[29] = 	0.3351	; popDist[30] = 	0.3498	; popDist[31] = 	0.3545	; popDist[32] = 	0.3631	; popDist[33] = 	0.3877	; popDist[34] = 	0.4062	; popDist[35] = 	0.4108	; popDist[36] = 	0.4262	; popDist[37] = 	0.4731	; popDist[38] = 	0.4959	; popDist[39] = 	0.5105	; popDist[40] = 	0.5150	; popDist[41] = 	0.5283	; popDist[42] = 	0.5601	; popDist[43] =	0.5891	; popDist[44] =	0.6131	; popDist[45] =	0.6576	; popDist[46] =	0.7008	; popDist[47] =	0.7296	; popDist[48] =	0.7470	; popDist[49] =	0.7967	; popDist[50] =	0.8224	; popDist[51] =	0.8541	; popDist[52] =	0.8761	; popDist[53] =	0.8932	; popDist[54] =	0.9137	; popDist[55] =	0.9382	; popDist[56] =	0.9485	; popDist[57] =	0.9734	; popDist[58] =	0.9879	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0332	; popDist[2] =	0.0509	; popDist[3] =	0.0740	; popDist[4] =	0.1241	; popDist[5] = 	0.1736	; popDist[6] =	0.2011	; popDist[7] =	0.2412	; popDist[8] = 	0.2502	; popDist[9] = 	0.2893	; popDist[10] = 	0.2958	; popDist[11] = 	0.3078	; popDist[12] = 	0.3207	; popDist[13] = 	0.3494	; popDist[14] = 	0.3562	; popDist[15] = 	0.3762	; popDist[16] = 	0.4134	; popDist[17] = 	0.4542	; popDist[18] = 	0.4611	; popDist[19] = 	0.4856	; popDist[20] = 	0.4933	; popDist[21] = 	0.5000	; popDist[22] = 	0.5076	; popDist[23] = 	0.5171	; popDist[24] = 	0.5331	; popDist[25] = 	0.5434	; popDist[26] = 	0.5579	; popDist[27] = 	0.5629	; popDist[28] = 	0.5751	; popDist[29] = 	0.5826	; popDist[30] = 	0.5882	; popDist[31] = 	0.5888	; popDist[32] = 	0.5909	; popDist[33] = 	0.6167	; popDist[34] = 	0.6221	; popDist[35] = 	0.6230	; popDist[36] = 	0.6249	; popDist[37] = 	0.6329	; popDist[38] = 	0.6354	; popDist[39] = 	0.6585	; popDist[40] = 	0.6742	; popDist[41] = 	0.7045	; popDist[42] = 	0.7674	; popDist[43] =	0.7961	; popDist[44] =	0.8105	; popDist[45] =	0.8352	; popDist[46] =	0.8663	; popDist[47] =	0.8799	; popDist[48] =	0.8841	; popDist[49] =	0.9019	; popDist[50] =	0.9112	; popDist[51] =	0.9353	; popDist[52] =	0.9500	; popDist[53] =	0.9525	; popDist[54] =	0.9711	; popDist[55] =	0.9768	; popDist[56] =	0.9868	; popDist[57] =	0.9971	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0184	; popDist[2] =	0.0286	; popDist[3] =	0.0413	; popDist[4] =	0.0762	; popDist[5] = 	0.1091	; popDist[6] =	0.1247	; popDist[7] =	0.1609	; popDist[8] = 	0.1717	; popDist[9] = 	0.2082	; popDist[10] = 	0.2188	; popDist[11] = 	0.2347	; popDist[12] = 	0.2494	; popDist[13] = 	0.2758	; popDist[14] = 	0.2829	; popDist[15] = 	0.2971	; popDist[16] = 	0.3251	; popDist[17] = 	0.3585	; popDist[18] = 	0.3669	; popDist[19] = 	0.3943	; popDist[20] = 	0.4017	; popDist[21] = 	0.4093	; popDist[22] = 	0.4189	; popDist[23] = 	0.4285	; popDist[24] = 	0.4431	; popDist[25] = 	0.4512	; popDist[26] = 	0.4666	; popDist[27] = 	0.4721	; popDist[28] = 	0.4796	; popDist[29] = 	0.4883	; popDist[30] = 	0.4960	; popDist[31] = 	0.4971	; popDist[32] = 	0.4992	; popDist[33] = 	0.5231	; popDist[34] = 	0.5293	; popDist[35] = 	0.5302	; popDist[36] = 	0.5329	; popDist[37] = 	0.5427	; popDist[38] = 	0.5462	; popDist[39] = 	0.5658	; popDist[40] = 	0.5763	; popDist[41] = 	0.5969	; popDist[42] = 	0.6586	; popDist[43] =	0.6940	; popDist[44] =	0.7166	; popDist[45] =	0.7521	; popDist[46] =	0.7961	; popDist[47] =	0.8168	; popDist[48] =	0.8230	; popDist[49] =	0.8505	; popDist[50] =	0.8686	; popDist[51] =	0.9037	; popDist[52] =	0.9284	; popDist[53] =	0.9336	; popDist[54] =	0.9607	; popDist[55] =	0.9740	; popDist[56] =	0.9836	; popDist[57] =	0.9957	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0092	; popDist[2] =	0.0160	; popDist[3] =	0.0232	; popDist[4] =	0.0468	; popDist[5] = 	0.0671	; popDist[6] =	0.0764	; popDist[7] =	0.1058	; popDist[8] = 	0.1206	; popDist[9] = 	0.1510	; popDist[10] = 	0.1666	; popDist[11] = 	0.1838	; popDist[12] = 	0.1989	; popDist[13] = 	0.2202	; popDist[14] = 	0.2287	; popDist[15] = 	0.2393	; popDist[16] = 	0.2565	; popDist[17] = 	0.2818	; popDist[18] = 	0.2951	; popDist[19] = 	0.3215	; popDist[20] = 	0.3272	; popDist[21] = 	0.3330	; popDist[22] = 	0.3465	; popDist[23] = 	0.3587	; popDist[24] = 	0.3732	; popDist[25] = 	0.3809	; popDist[26] = 	0.3951	; popDist[27] = 	0.4020	; popDist[28] = 	0.4069	; popDist[29] = 	0.4151	; popDist[30] = 	0.4264	; popDist[31] = 	0.4277	; popDist[32] = 	0.4314	; popDist[33] = 	0.4536	; popDist[34] = 	0.4620	; popDist[35] = 	0.4635	; popDist[36] = 	0.4689	; popDist[37] = 	0.4833	; popDist[38] = 	0.4895	; popDist[39] = 	0.5038	; popDist[40] = 	0.5108	; popDist[41] = 	0.5249	; popDist[42] = 	0.5769	; popDist[43] =	0.6128	; popDist[44] =	0.6383	; popDist[45] =	0.6789	; popDist[46] =	0.7213	; popDist[47] =	0.7485	; popDist[48] =	0.7584	; popDist[49] =	0.7929	; popDist[50] =	0.8175	; popDist[51] =	0.8629	; popDist[52] =	0.8986	; popDist[53] =	0.9086	; popDist[54] =	0.9406	; popDist[55] =	0.9635	; popDist[56] =	0.9733	; popDist[57] =	0.9910	; popDist[58] =	0.9968	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0051	; popDist[2] =	0.0082	; popDist[3] =	0.0120	; popDist[4] =	0.0219	; popDist[5] = 	0.0324	; popDist[6] =	0.0364	; popDist[7] =	0.0527	; popDist[8] = 	0.0703	; popDist[9] = 	0.0889	; popDist[10] = 	0.1049	; popDist[11] = 	0.1204	; popDist[12] = 	0.1355	; popDist[13] = 	0.1500	; popDist[14] = 	0.1638	; popDist[15] = 	0.1717	; popDist[16] = 	0.1809	; popDist[17] = 	0.1979	; popDist[18] = 	0.2207	; popDist[19] = 	0.2448	; popDist[20] = 	0.2498	; popDist[21] = 	0.2537	; popDist[22] = 	0.2708	; popDist[23] = 	0.2826	; popDist[24] = 	0.2963	; popDist[25] = 	0.3027	; popDist[26] = 	0.3149	; popDist[27] = 	0.3239	; popDist[28] = 	0.3270	; popDist[29] = 	0.3333	; popDist[30] = 	0.3488	; popDist[31] = 	0.3545	; popDist[32] = 	0.3645	; popDist[33] = 	0.3878	; popDist[34] = 	0.4046	; popDist[35] = 	0.4091	; popDist[36] = 	0.4227	; popDist[37] = 	0.4635	; popDist[38] = 	0.4820	; popDist[39] = 	0.4974	; popDist[40] = 	0.5023	; popDist[41] = 	0.5135	; popDist[42] = 	0.5474	; popDist[43] =	0.5792	; popDist[44] =	0.6002	; popDist[45] =	0.6345	; popDist[46] =	0.6696	; popDist[47] =	0.6963	; popDist[48] =	0.7100	; popDist[49] =	0.7533	; popDist[50] =	0.7844	; popDist[51] =	0.8256	; popDist[52] =	0.8667	; popDist[53] =	0.8839	; popDist[54] =	0.9144	; popDist[55] =	0.9491	; popDist[56] =	0.9601	; popDist[57] =	0.9839	; popDist[58] =	0.9936	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0013	; popDist[4] =	0.0022	; popDist[5] = 	0.0032	; popDist[6] =	0.0071	; popDist[7] =	0.0134	; popDist[8] = 	0.0268	; popDist[9] = 	0.0295	; popDist[10] = 	0.0444	; popDist[11] = 	0.0580	; popDist[12] = 	0.0639	; popDist[13] = 	0.0980	; popDist[14] = 	0.1126	; popDist[15] = 	0.1142	; popDist[16] = 	0.1154	; popDist[17] = 	0.1195	; popDist[18] = 	0.1375	; popDist[19] = 	0.1483	; popDist[20] = 	0.1536	; popDist[21] = 	0.1588	; popDist[22] = 	0.1881	; popDist[23] = 	0.2520	; popDist[24] = 	0.3089	; popDist[25] = 	0.3483	; popDist[26] = 	0.3772	; popDist[27] = 	0.4369	; popDist[28] = 	0.4373	; popDist[29] = 	0.4384	; popDist[30] = 	0.4604	; popDist[31] = 	0.4659	; popDist[32] = 	0.4874	; popDist[33] = 	0.5220	; popDist[34] = 	0.5403	; popDist[35] = 	0.5503	; popDist[36] = 	0.5771	; popDist[37] = 	0.6181	; popDist[38] = 	0.6575	; popDist[39] = 	0.6684	; popDist[40] = 	0.6707	; popDist[41] = 	0.6759	; popDist[42] = 	0.6867	; popDist[43] =	0.7202	; popDist[44] =	0.7314	; popDist[45] =	0.7377	; popDist[46] =	0.7429	; popDist[47] =	0.7712	; popDist[48] =	0.7965	; popDist[49] =	0.8404	; popDist[50] =	0.8570	; popDist[51] =	0.8692	; popDist[52] =	0.8806	; popDist[53] =	0.8979	; popDist[54] =	0.8994	; popDist[55] =	0.9054	; popDist[56] =	0.9223	; popDist[57] =	0.9496	; popDist[58] =	0.9787	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0005	; popDist[3] =	0.0006	; popDist[4] =	0.0010	; popDist[5] = 	0.0016	; popDist[6] =	0.0034	; popDist[7] =	0.0080	; popDist[8] = 	0.0213	; popDist[9] = 	0.0234	; popDist[10] = 	0.0427	; popDist[11] = 	0.0573	; popDist[12] = 	0.0626	; popDist[13] = 	0.0879	; popDist[14] = 	0.1002	; popDist[15] = 	0.1011	; popDist[16] = 	0.1017	; popDist[17] = 	0.1043	; popDist[18] = 	0.1222	; popDist[19] = 	0.1320	; popDist[20] = 	0.1360	; popDist[21] = 	0.1408	; popDist[22] = 	0.1715	; popDist[23] = 	0.2238	; popDist[24] = 	0.2654	; popDist[25] = 	0.2903	; popDist[26] = 	0.3155	; popDist[27] = 	0.3692	; popDist[28] = 	0.3695	; popDist[29] = 	0.3706	; popDist[30] = 	0.3959	; popDist[31] = 	0.4032	; popDist[32] = 	0.4230	; popDist[33] = 	0.4489	; popDist[34] = 	0.4660	; popDist[35] = 	0.4748	; popDist[36] = 	0.5048	; popDist[37] = 	0.5454	; popDist[38] = 	0.5918	; popDist[39] = 	0.5991	; popDist[40] = 	0.6003	; popDist[41] = 	0.6032	; popDist[42] = 	0.6117	; popDist[43] =	0.6449	; popDist[44] =	0.6592	; popDist[45] =	0.6668	; popDist[46] =	0.6729	; popDist[47] =	0.7078	; popDist[48] =	0.7389	; popDist[49] =	0.7941	; popDist[50] =	0.8205	; popDist[51] =	0.8348	; popDist[52] =	0.8502	; popDist[53] =	0.8797	; popDist[54] =	0.8814	; popDist[55] =	0.8927	; popDist[56] =	0.9060	; popDist[57] =	0.9322	; popDist[58] =	0.9637	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0006	; popDist[5] = 	0.0008	; popDist[6] =	0.0016	; popDist[7] =	0.0043	; popDist[8] = 	0.0177	; popDist[9] = 	0.0189	; popDist[10] = 	0.0401	; popDist[11] = 	0.0518	; popDist[12] = 	0.0558	; popDist[13] = 	0.0709	; popDist[14] = 	0.0821	; popDist[15] = 	0.0827	; popDist[16] = 	0.0830	; popDist[17] = 	0.0846	; popDist[18] = 	0.1054	; popDist[19] = 	0.1123	; popDist[20] = 	0.1147	; popDist[21] = 	0.1173	; popDist[22] = 	0.1490	; popDist[23] = 	0.1964	; popDist[24] = 	0.2271	; popDist[25] = 	0.2447	; popDist[26] = 	0.2616	; popDist[27] = 	0.3107	; popDist[28] = 	0.3108	; popDist[29] = 	0.3115	; popDist[30] = 	0.3390	; popDist[31] = 	0.3453	; popDist[32] = 	0.3691	; popDist[33] = 	0.3870	; popDist[34] = 	0.4038	; popDist[35] = 	0.4135	; popDist[36] = 	0.4555	; popDist[37] = 	0.5004	; popDist[38] = 	0.5645	; popDist[39] = 	0.5685	; popDist[40] = 	0.5691	; popDist[41] = 	0.5705	; popDist[42] = 	0.5759	; popDist[43] =	0.6006	; popDist[44] =	0.6124	; popDist[45] =	0.6188	; popDist[46] =	0.6232	; popDist[47] =	0.6568	; popDist[48] =	0.6930	; popDist[49] =	0.7441	; popDist[50] =	0.7706	; popDist[51] =	0.7843	; popDist[52] =	0.8008	; popDist[53] =	0.8418	; popDist[54] =	0.8434	; popDist[55] =	0.8576	; popDist[56] =	0.8676	; popDist[57] =	0.8953	; popDist[58] =	0.9405	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0005	; popDist[7] =	0.0014	; popDist[8] = 	0.0114	; popDist[9] = 	0.0119	; popDist[10] = 	0.0258	; popDist[11] = 	0.0325	; popDist[12] = 	0.0351	; popDist[13] = 	0.0416	; popDist[14] = 	0.0529	; popDist[15] = 	0.0532	; popDist[16] = 	0.0533	; popDist[17] = 	0.0539	; popDist[18] = 	0.0766	; popDist[19] = 	0.0806	; popDist[20] = 	0.0819	; popDist[21] = 	0.0830	; popDist[22] = 	0.1084	; popDist[23] = 	0.1380	; popDist[24] = 	0.1562	; popDist[25] = 	0.1655	; popDist[26] = 	0.1750	; popDist[27] = 	0.2157	; popDist[28] = 	0.2158	; popDist[29] = 	0.2161	; popDist[30] = 	0.2393	; popDist[31] = 	0.2568	; popDist[32] = 	0.2978	; popDist[33] = 	0.3096	; popDist[34] = 	0.3308	; popDist[35] = 	0.3504	; popDist[36] = 	0.4197	; popDist[37] = 	0.5004	; popDist[38] = 	0.6169	; popDist[39] = 	0.6196	; popDist[40] = 	0.6199	; popDist[41] = 	0.6207	; popDist[42] = 	0.6229	; popDist[43] =	0.6370	; popDist[44] =	0.6431	; popDist[45] =	0.6465	; popDist[46] =	0.6488	; popDist[47] =	0.6698	; popDist[48] =	0.7018	; popDist[49] =	0.7423	; popDist[50] =	0.7635	; popDist[51] =	0.7714	; popDist[52] =	0.7834	; popDist[53] =	0.8284	; popDist[54] =	0.8295	; popDist[55] =	0.8433	; popDist[56] =	0.8504	; popDist[57] =	0.8745	; popDist[58] =	0.9246	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0146	; popDist[2] =	0.0216	; popDist[3] =	0.0422	; popDist[4] =	0.0706	; popDist[5] = 	0.0964	; popDist[6] =	0.1082	; popDist[7] =	0.1237	; popDist[8] = 	0.1285	; popDist[9] = 	0.1598	; popDist[10] = 	0.1671	; popDist[11] = 	0.1755	; popDist[12] = 	0.2211	; popDist[13] = 	0.2260	; popDist[14] = 	0.2412	; popDist[15] = 	0.3159	; popDist[16] = 	0.3289	; popDist[17] = 	0.3784	; popDist[18] = 	0.3826	; popDist[19] = 	0.3850	; popDist[20] = 	0.4277	; popDist[21] = 	0.4782	; popDist[22] = 	0.4788	; popDist[23] = 	0.4794	; popDist[24] = 	0.4837	; popDist[25] = 	0.4959	; popDist[26] = 	0.5359	; popDist[27] = 	0.5388	; popDist[28] = 	0.5905	; popDist[29] = 	0.6746	; popDist[30] = 	0.7112	; popDist[31] = 	0.7116	; popDist[32] = 	0.7125	; popDist[33] = 	0.7217	; popDist[34] = 	0.7240	; popDist[35] = 	0.7246	; popDist[36] = 	0.7261	; popDist[37] = 	0.7320	; popDist[38] = 	0.7338	; popDist[39] = 	0.7506	; popDist[40] = 	0.8094	; popDist[41] = 	0.8343	; popDist[42] = 	0.8442	; popDist[43] =	0.8491	; popDist[44] =	0.8504	; popDist[45] =	0.8556	; popDist[46] =	0.8610	; popDist[47] =	0.8616	; popDist[48] =	0.8628	; popDist[49] =	0.8667	; popDist[50] =	0.8743	; popDist[51] =	0.8781	; popDist[52] =	0.8844	; popDist[53] =	0.8850	; popDist[54] =	0.9433	; popDist[55] =	0.9659	; popDist[56] =	0.9867	; popDist[57] =	0.9988	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0081	; popDist[2] =	0.0121	; popDist[3] =	0.0233	; popDist[4] =	0.0432	; popDist[5] = 	0.0601	; popDist[6] =	0.0668	; popDist[7] =	0.0806	; popDist[8] = 	0.0863	; popDist[9] = 	0.1154	; popDist[10] = 	0.1269	; popDist[11] = 	0.1379	; popDist[12] = 	0.1889	; popDist[13] = 	0.1933	; popDist[14] = 	0.2090	; popDist[15] = 	0.2612	; popDist[16] = 	0.2708	; popDist[17] = 	0.3112	; popDist[18] = 	0.3163	; popDist[19] = 	0.3191	; popDist[20] = 	0.3596	; popDist[21] = 	0.4165	; popDist[22] = 	0.4175	; popDist[23] = 	0.4182	; popDist[24] = 	0.4221	; popDist[25] = 	0.4316	; popDist[26] = 	0.4742	; popDist[27] = 	0.4773	; popDist[28] = 	0.5081	; popDist[29] = 	0.6079	; popDist[30] = 	0.6598	; popDist[31] = 	0.6605	; popDist[32] = 	0.6615	; popDist[33] = 	0.6699	; popDist[34] = 	0.6726	; popDist[35] = 	0.6733	; popDist[36] = 	0.6753	; popDist[37] = 	0.6826	; popDist[38] = 	0.6847	; popDist[39] = 	0.6988	; popDist[40] = 	0.7378	; popDist[41] = 	0.7545	; popDist[42] = 	0.7644	; popDist[43] =	0.7704	; popDist[44] =	0.7724	; popDist[45] =	0.7802	; popDist[46] =	0.7875	; popDist[47] =	0.7885	; popDist[48] =	0.7902	; popDist[49] =	0.7962	; popDist[50] =	0.8106	; popDist[51] =	0.8162	; popDist[52] =	0.8266	; popDist[53] =	0.8278	; popDist[54] =	0.9119	; popDist[55] =	0.9637	; popDist[56] =	0.9838	; popDist[57] =	0.9981	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0040	; popDist[2] =	0.0067	; popDist[3] =	0.0131	; popDist[4] =	0.0265	; popDist[5] = 	0.0371	; popDist[6] =	0.0411	; popDist[7] =	0.0523	; popDist[8] = 	0.0602	; popDist[9] = 	0.0845	; popDist[10] = 	0.1015	; popDist[11] = 	0.1134	; popDist[12] = 	0.1660	; popDist[13] = 	0.1697	; popDist[14] = 	0.1891	; popDist[15] = 	0.2286	; popDist[16] = 	0.2346	; popDist[17] = 	0.2652	; popDist[18] = 	0.2731	; popDist[19] = 	0.2756	; popDist[20] = 	0.3074	; popDist[21] = 	0.3507	; popDist[22] = 	0.3520	; popDist[23] = 	0.3530	; popDist[24] = 	0.3568	; popDist[25] = 	0.3659	; popDist[26] = 	0.4051	; popDist[27] = 	0.4090	; popDist[28] = 	0.4291	; popDist[29] = 	0.5198	; popDist[30] = 	0.5957	; popDist[31] = 	0.5965	; popDist[32] = 	0.5980	; popDist[33] = 	0.6060	; popDist[34] = 	0.6097	; popDist[35] = 	0.6107	; popDist[36] = 	0.6147	; popDist[37] = 	0.6253	; popDist[38] = 	0.6295	; popDist[39] = 	0.6399	; popDist[40] = 	0.6659	; popDist[41] = 	0.6775	; popDist[42] = 	0.6856	; popDist[43] =	0.6919	; popDist[44] =	0.6941	; popDist[45] =	0.7032	; popDist[46] =	0.7104	; popDist[47] =	0.7116	; popDist[48] =	0.7145	; popDist[49] =	0.7222	; popDist[50] =	0.7417	; popDist[51] =	0.7490	; popDist[52] =	0.7642	; popDist[53] =	0.7664	; popDist[54] =	0.8660	; popDist[55] =	0.9552	; popDist[56] =	0.9756	; popDist[57] =	0.9960	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0021	; popDist[2] =	0.0033	; popDist[3] =	0.0066	; popDist[4] =	0.0119	; popDist[5] = 	0.0173	; popDist[6] =	0.0189	; popDist[7] =	0.0251	; popDist[8] = 	0.0341	; popDist[9] = 	0.0486	; popDist[10] = 	0.0656	; popDist[11] = 	0.0761	; popDist[12] = 	0.1283	; popDist[13] = 	0.1306	; popDist[14] = 	0.1606	; popDist[15] = 	0.1887	; popDist[16] = 	0.1918	; popDist[17] = 	0.2119	; popDist[18] = 	0.2251	; popDist[19] = 	0.2273	; popDist[20] = 	0.2539	; popDist[21] = 	0.2817	; popDist[22] = 	0.2833	; popDist[23] = 	0.2841	; popDist[24] = 	0.2874	; popDist[25] = 	0.2947	; popDist[26] = 	0.3279	; popDist[27] = 	0.3329	; popDist[28] = 	0.3459	; popDist[29] = 	0.4157	; popDist[30] = 	0.5138	; popDist[31] = 	0.5173	; popDist[32] = 	0.5212	; popDist[33] = 	0.5290	; popDist[34] = 	0.5360	; popDist[35] = 	0.5393	; popDist[36] = 	0.5494	; popDist[37] = 	0.5787	; popDist[38] = 	0.5909	; popDist[39] = 	0.6019	; popDist[40] = 	0.6192	; popDist[41] = 	0.6284	; popDist[42] = 	0.6337	; popDist[43] =	0.6391	; popDist[44] =	0.6410	; popDist[45] =	0.6481	; popDist[46] =	0.6540	; popDist[47] =	0.6553	; popDist[48] =	0.6589	; popDist[49] =	0.6683	; popDist[50] =	0.6923	; popDist[51] =	0.6986	; popDist[52] =	0.7155	; popDist[53] =	0.7190	; popDist[54] =	0.8109	; popDist[55] =	0.9431	; popDist[56] =	0.9653	; popDist[57] =	0.9927	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0362	; popDist[2] =	0.0561	; popDist[3] =	0.0796	; popDist[4] =	0.1218	; popDist[5] = 	0.1668	; popDist[6] =	0.1927	; popDist[7] =	0.2312	; popDist[8] = 	0.2430	; popDist[9] = 	0.2897	; popDist[10] = 	0.2993	; popDist[11] = 	0.3139	; popDist[12] = 	0.3268	; popDist[13] = 	0.3576	; popDist[14] = 	0.3640	; popDist[15] = 	0.3822	; popDist[16] = 	0.4164	; popDist[17] = 	0.4543	; popDist[18] = 	0.4609	; popDist[19] = 	0.4866	; popDist[20] = 	0.4927	; popDist[21] = 	0.4984	; popDist[22] = 	0.5044	; popDist[23] = 	0.5145	; popDist[24] = 	0.5309	; popDist[25] = 	0.5443	; popDist[26] = 	0.5578	; popDist[27] = 	0.5640	; popDist[28] = 	0.5761	; popDist[29] = 	0.5817	; popDist[30] = 	0.5877	; popDist[31] = 	0.5883	; popDist[32] = 	0.5900	; popDist[33] = 	0.6186	; popDist[34] = 	0.6244	; popDist[35] = 	0.6253	; popDist[36] = 	0.6278	; popDist[37] = 	0.6377	; popDist[38] = 	0.6410	; popDist[39] = 	0.6633	; popDist[40] = 	0.6765	; popDist[41] = 	0.7104	; popDist[42] = 	0.7720	; popDist[43] =	0.7942	; popDist[44] =	0.8096	; popDist[45] =	0.8416	; popDist[46] =	0.8763	; popDist[47] =	0.8905	; popDist[48] =	0.8965	; popDist[49] =	0.9190	; popDist[50] =	0.9278	; popDist[51] =	0.9454	; popDist[52] =	0.9535	; popDist[53] =	0.9565	; popDist[54] =	0.9691	; popDist[55] =	0.9734	; popDist[56] =	0.9834	; popDist[57] =	0.9945	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0200	; popDist[2] =	0.0314	; popDist[3] =	0.0442	; popDist[4] =	0.0737	; popDist[5] = 	0.1032	; popDist[6] =	0.1178	; popDist[7] =	0.1523	; popDist[8] = 	0.1667	; popDist[9] = 	0.2102	; popDist[10] = 	0.2253	; popDist[11] = 	0.2443	; popDist[12] = 	0.2585	; popDist[13] = 	0.2864	; popDist[14] = 	0.2932	; popDist[15] = 	0.3057	; popDist[16] = 	0.3312	; popDist[17] = 	0.3622	; popDist[18] = 	0.3703	; popDist[19] = 	0.3987	; popDist[20] = 	0.4045	; popDist[21] = 	0.4110	; popDist[22] = 	0.4188	; popDist[23] = 	0.4290	; popDist[24] = 	0.4439	; popDist[25] = 	0.4541	; popDist[26] = 	0.4684	; popDist[27] = 	0.4753	; popDist[28] = 	0.4825	; popDist[29] = 	0.4893	; popDist[30] = 	0.4979	; popDist[31] = 	0.4988	; popDist[32] = 	0.5008	; popDist[33] = 	0.5269	; popDist[34] = 	0.5335	; popDist[35] = 	0.5345	; popDist[36] = 	0.5381	; popDist[37] = 	0.5500	; popDist[38] = 	0.5549	; popDist[39] = 	0.5735	; popDist[40] = 	0.5821	; popDist[41] = 	0.6050	; popDist[42] = 	0.6653	; popDist[43] =	0.6923	; popDist[44] =	0.7164	; popDist[45] =	0.7624	; popDist[46] =	0.8118	; popDist[47] =	0.8335	; popDist[48] =	0.8426	; popDist[49] =	0.8776	; popDist[50] =	0.8945	; popDist[51] =	0.9201	; popDist[52] =	0.9339	; popDist[53] =	0.9403	; popDist[54] =	0.9581	; popDist[55] =	0.9686	; popDist[56] =	0.9783	; popDist[57] =	0.9914	; popDist[58] =	0.9966	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0099	; popDist[2] =	0.0175	; popDist[3] =	0.0248	; popDist[4] =	0.0444	; popDist[5] = 	0.0626	; popDist[6] =	0.0712	; popDist[7] =	0.0991	; popDist[8] = 	0.1186	; popDist[9] = 	0.1546	; popDist[10] = 	0.1767	; popDist[11] = 	0.1975	; popDist[12] = 	0.2122	; popDist[13] = 	0.2345	; popDist[14] = 	0.2428	; popDist[15] = 	0.2524	; popDist[16] = 	0.2681	; popDist[17] = 	0.2915	; popDist[18] = 	0.3043	; popDist[19] = 	0.3312	; popDist[20] = 	0.3357	; popDist[21] = 	0.3406	; popDist[22] = 	0.3513	; popDist[23] = 	0.3638	; popDist[24] = 	0.3784	; popDist[25] = 	0.3881	; popDist[26] = 	0.4012	; popDist[27] = 	0.4095	; popDist[28] = 	0.4142	; popDist[29] = 	0.4203	; popDist[30] = 	0.4327	; popDist[31] = 	0.4338	; popDist[32] = 	0.4370	; popDist[33] = 	0.4611	; popDist[34] = 	0.4698	; popDist[35] = 	0.4713	; popDist[36] = 	0.4780	; popDist[37] = 	0.4957	; popDist[38] = 	0.5045	; popDist[39] = 	0.5179	; popDist[40] = 	0.5237	; popDist[41] = 	0.5394	; popDist[42] = 	0.5894	; popDist[43] =	0.6166	; popDist[44] =	0.6434	; popDist[45] =	0.6958	; popDist[46] =	0.7429	; popDist[47] =	0.7707	; popDist[48] =	0.7851	; popDist[49] =	0.8285	; popDist[50] =	0.8513	; popDist[51] =	0.8844	; popDist[52] =	0.9039	; popDist[53] =	0.9159	; popDist[54] =	0.9369	; popDist[55] =	0.9546	; popDist[56] =	0.9642	; popDist[57] =	0.9830	; popDist[58] =	0.9931	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0053	; popDist[2] =	0.0086	; popDist[3] =	0.0124	; popDist[4] =	0.0204	; popDist[5] = 	0.0297	; popDist[6] =	0.0334	; popDist[7] =	0.0484	; popDist[8] = 	0.0708	; popDist[9] = 	0.0922	; popDist[10] = 	0.1146	; popDist[11] = 	0.1328	; popDist[12] = 	0.1474	; popDist[13] = 	0.1624	; popDist[14] = 	0.1753	; popDist[15] = 	0.1822	; popDist[16] = 	0.1904	; popDist[17] = 	0.2056	; popDist[18] = 	0.2268	; popDist[19] = 	0.2508	; popDist[20] = 	0.2547	; popDist[21] = 	0.2580	; popDist[22] = 	0.2713	; popDist[23] = 	0.2831	; popDist[24] = 	0.2964	; popDist[25] = 	0.3044	; popDist[26] = 	0.3156	; popDist[27] = 	0.3263	; popDist[28] = 	0.3293	; popDist[29] = 	0.3338	; popDist[30] = 	0.3501	; popDist[31] = 	0.3547	; popDist[32] = 	0.3632	; popDist[33] = 	0.3875	; popDist[34] = 	0.4043	; popDist[35] = 	0.4090	; popDist[36] = 	0.4264	; popDist[37] = 	0.4754	; popDist[38] = 	0.4998	; popDist[39] = 	0.5139	; popDist[40] = 	0.5178	; popDist[41] = 	0.5302	; popDist[42] = 	0.5624	; popDist[43] =	0.5864	; popDist[44] =	0.6080	; popDist[45] =	0.6507	; popDist[46] =	0.6887	; popDist[47] =	0.7158	; popDist[48] =	0.7351	; popDist[49] =	0.7881	; popDist[50] =	0.8162	; popDist[51] =	0.8454	; popDist[52] =	0.8673	; popDist[53] =	0.8874	; popDist[54] =	0.9072	; popDist[55] =	0.9333	; popDist[56] =	0.9439	; popDist[57] =	0.9691	; popDist[58] =	0.9862	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0317	; popDist[2] =	0.0488	; popDist[3] =	0.0698	; popDist[4] =	0.1121	; popDist[5] = 	0.1578	; popDist[6] =	0.1815	; popDist[7] =	0.2189	; popDist[8] = 	0.2292	; popDist[9] = 	0.2688	; popDist[10] = 	0.2761	; popDist[11] = 	0.2889	; popDist[12] = 	0.3024	; popDist[13] = 	0.3344	; popDist[14] = 	0.3414	; popDist[15] = 	0.3609	; popDist[16] = 	0.3961	; popDist[17] = 	0.4371	; popDist[18] = 	0.4439	; popDist[19] = 	0.4684	; popDist[20] = 	0.4757	; popDist[21] = 	0.4831	; popDist[22] = 	0.4912	; popDist[23] = 	0.5019	; popDist[24] = 	0.5212	; popDist[25] = 	0.5350	; popDist[26] = 	0.5510	; popDist[27] = 	0.5574	; popDist[28] = 	0.5694	; popDist[29] = 	0.5781	; popDist[30] = 	0.5846	; popDist[31] = 	0.5853	; popDist[32] = 	0.5874	; popDist[33] = 	0.6144	; popDist[34] = 	0.6196	; popDist[35] = 	0.6205	; popDist[36] = 	0.6227	; popDist[37] = 	0.6315	; popDist[38] = 	0.6341	; popDist[39] = 	0.6580	; popDist[40] = 	0.6723	; popDist[41] = 	0.7016	; popDist[42] = 	0.7678	; popDist[43] =	0.7923	; popDist[44] =	0.8060	; popDist[45] =	0.8308	; popDist[46] =	0.8594	; popDist[47] =	0.8728	; popDist[48] =	0.8776	; popDist[49] =	0.8976	; popDist[50] =	0.9080	; popDist[51] =	0.9313	; popDist[52] =	0.9466	; popDist[53] =	0.9497	; popDist[54] =	0.9684	; popDist[55] =	0.9750	; popDist[56] =	0.9859	; popDist[57] =	0.9965	; popDist[58] =	0.9992	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0172	; popDist[2] =	0.0270	; popDist[3] =	0.0384	; popDist[4] =	0.0677	; popDist[5] = 	0.0975	; popDist[6] =	0.1106	; popDist[7] =	0.1441	; popDist[8] = 	0.1567	; popDist[9] = 	0.1935	; popDist[10] = 	0.2049	; popDist[11] = 	0.2214	; popDist[12] = 	0.2365	; popDist[13] = 	0.2652	; popDist[14] = 	0.2723	; popDist[15] = 	0.2857	; popDist[16] = 	0.3115	; popDist[17] = 	0.3445	; popDist[18] = 	0.3526	; popDist[19] = 	0.3795	; popDist[20] = 	0.3864	; popDist[21] = 	0.3949	; popDist[22] = 	0.4050	; popDist[23] = 	0.4157	; popDist[24] = 	0.4330	; popDist[25] = 	0.4436	; popDist[26] = 	0.4605	; popDist[27] = 	0.4679	; popDist[28] = 	0.4750	; popDist[29] = 	0.4850	; popDist[30] = 	0.4941	; popDist[31] = 	0.4952	; popDist[32] = 	0.4977	; popDist[33] = 	0.5221	; popDist[34] = 	0.5280	; popDist[35] = 	0.5291	; popDist[36] = 	0.5326	; popDist[37] = 	0.5434	; popDist[38] = 	0.5472	; popDist[39] = 	0.5670	; popDist[40] = 	0.5763	; popDist[41] = 	0.5959	; popDist[42] = 	0.6604	; popDist[43] =	0.6904	; popDist[44] =	0.7116	; popDist[45] =	0.7468	; popDist[46] =	0.7871	; popDist[47] =	0.8070	; popDist[48] =	0.8142	; popDist[49] =	0.8446	; popDist[50] =	0.8649	; popDist[51] =	0.8981	; popDist[52] =	0.9238	; popDist[53] =	0.9303	; popDist[54] =	0.9570	; popDist[55] =	0.9716	; popDist[56] =	0.9820	; popDist[57] =	0.9947	; popDist[58] =	0.9981	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0085	; popDist[2] =	0.0150	; popDist[3] =	0.0214	; popDist[4] =	0.0409	; popDist[5] = 	0.0592	; popDist[6] =	0.0670	; popDist[7] =	0.0937	; popDist[8] = 	0.1107	; popDist[9] = 	0.1410	; popDist[10] = 	0.1577	; popDist[11] = 	0.1757	; popDist[12] = 	0.1907	; popDist[13] = 	0.2135	; popDist[14] = 	0.2222	; popDist[15] = 	0.2324	; popDist[16] = 	0.2483	; popDist[17] = 	0.2730	; popDist[18] = 	0.2857	; popDist[19] = 	0.3110	; popDist[20] = 	0.3165	; popDist[21] = 	0.3227	; popDist[22] = 	0.3367	; popDist[23] = 	0.3499	; popDist[24] = 	0.3667	; popDist[25] = 	0.3767	; popDist[26] = 	0.3918	; popDist[27] = 	0.4004	; popDist[28] = 	0.4049	; popDist[29] = 	0.4138	; popDist[30] = 	0.4265	; popDist[31] = 	0.4279	; popDist[32] = 	0.4317	; popDist[33] = 	0.4545	; popDist[34] = 	0.4625	; popDist[35] = 	0.4640	; popDist[36] = 	0.4703	; popDist[37] = 	0.4858	; popDist[38] = 	0.4926	; popDist[39] = 	0.5067	; popDist[40] = 	0.5128	; popDist[41] = 	0.5264	; popDist[42] = 	0.5801	; popDist[43] =	0.6104	; popDist[44] =	0.6336	; popDist[45] =	0.6735	; popDist[46] =	0.7120	; popDist[47] =	0.7377	; popDist[48] =	0.7490	; popDist[49] =	0.7861	; popDist[50] =	0.8134	; popDist[51] =	0.8563	; popDist[52] =	0.8930	; popDist[53] =	0.9051	; popDist[54] =	0.9365	; popDist[55] =	0.9610	; popDist[56] =	0.9713	; popDist[57] =	0.9894	; popDist[58] =	0.9962	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0045	; popDist[2] =	0.0074	; popDist[3] =	0.0106	; popDist[4] =	0.0184	; popDist[5] = 	0.0278	; popDist[6] =	0.0312	; popDist[7] =	0.0459	; popDist[8] = 	0.0657	; popDist[9] = 	0.0835	; popDist[10] = 	0.1006	; popDist[11] = 	0.1165	; popDist[12] = 	0.1316	; popDist[13] = 	0.1466	; popDist[14] = 	0.1600	; popDist[15] = 	0.1671	; popDist[16] = 	0.1752	; popDist[17] = 	0.1916	; popDist[18] = 	0.2128	; popDist[19] = 	0.2356	; popDist[20] = 	0.2399	; popDist[21] = 	0.2441	; popDist[22] = 	0.2617	; popDist[23] = 	0.2744	; popDist[24] = 	0.2900	; popDist[25] = 	0.2982	; popDist[26] = 	0.3115	; popDist[27] = 	0.3229	; popDist[28] = 	0.3257	; popDist[29] = 	0.3326	; popDist[30] = 	0.3496	; popDist[31] = 	0.3554	; popDist[32] = 	0.3655	; popDist[33] = 	0.3885	; popDist[34] = 	0.4038	; popDist[35] = 	0.4083	; popDist[36] = 	0.4239	; popDist[37] = 	0.4670	; popDist[38] = 	0.4869	; popDist[39] = 	0.5022	; popDist[40] = 	0.5064	; popDist[41] = 	0.5170	; popDist[42] = 	0.5516	; popDist[43] =	0.5779	; popDist[44] =	0.5966	; popDist[45] =	0.6293	; popDist[46] =	0.6602	; popDist[47] =	0.6850	; popDist[48] =	0.7002	; popDist[49] =	0.7464	; popDist[50] =	0.7801	; popDist[51] =	0.8176	; popDist[52] =	0.8587	; popDist[53] =	0.8790	; popDist[54] =	0.9082	; popDist[55] =	0.9453	; popDist[56] =	0.9565	; popDist[57] =	0.9805	; popDist[58] =	0.9924	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0010	; popDist[2] =	0.0012	; popDist[3] =	0.0015	; popDist[4] =	0.0025	; popDist[5] = 	0.0031	; popDist[6] =	0.0071	; popDist[7] =	0.0123	; popDist[8] = 	0.0259	; popDist[9] = 	0.0288	; popDist[10] = 	0.0460	; popDist[11] = 	0.0597	; popDist[12] = 	0.0660	; popDist[13] = 	0.0970	; popDist[14] = 	0.1109	; popDist[15] = 	0.1126	; popDist[16] = 	0.1136	; popDist[17] = 	0.1178	; popDist[18] = 	0.1324	; popDist[19] = 	0.1417	; popDist[20] = 	0.1471	; popDist[21] = 	0.1521	; popDist[22] = 	0.1821	; popDist[23] = 	0.2514	; popDist[24] = 	0.2969	; popDist[25] = 	0.3431	; popDist[26] = 	0.3689	; popDist[27] = 	0.4281	; popDist[28] = 	0.4285	; popDist[29] = 	0.4298	; popDist[30] = 	0.4503	; popDist[31] = 	0.4539	; popDist[32] = 	0.4744	; popDist[33] = 	0.5075	; popDist[34] = 	0.5239	; popDist[35] = 	0.5340	; popDist[36] = 	0.5640	; popDist[37] = 	0.6067	; popDist[38] = 	0.6543	; popDist[39] = 	0.6654	; popDist[40] = 	0.6678	; popDist[41] = 	0.6736	; popDist[42] = 	0.6833	; popDist[43] =	0.7190	; popDist[44] =	0.7300	; popDist[45] =	0.7358	; popDist[46] =	0.7404	; popDist[47] =	0.7703	; popDist[48] =	0.7972	; popDist[49] =	0.8429	; popDist[50] =	0.8592	; popDist[51] =	0.8701	; popDist[52] =	0.8816	; popDist[53] =	0.8985	; popDist[54] =	0.9002	; popDist[55] =	0.9072	; popDist[56] =	0.9256	; popDist[57] =	0.9501	; popDist[58] =	0.9788	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0005	; popDist[3] =	0.0006	; popDist[4] =	0.0012	; popDist[5] = 	0.0015	; popDist[6] =	0.0034	; popDist[7] =	0.0070	; popDist[8] = 	0.0204	; popDist[9] = 	0.0227	; popDist[10] = 	0.0450	; popDist[11] = 	0.0593	; popDist[12] = 	0.0652	; popDist[13] = 	0.0880	; popDist[14] = 	0.0996	; popDist[15] = 	0.1006	; popDist[16] = 	0.1013	; popDist[17] = 	0.1040	; popDist[18] = 	0.1185	; popDist[19] = 	0.1269	; popDist[20] = 	0.1311	; popDist[21] = 	0.1358	; popDist[22] = 	0.1672	; popDist[23] = 	0.2235	; popDist[24] = 	0.2568	; popDist[25] = 	0.2861	; popDist[26] = 	0.3086	; popDist[27] = 	0.3620	; popDist[28] = 	0.3621	; popDist[29] = 	0.3634	; popDist[30] = 	0.3871	; popDist[31] = 	0.3919	; popDist[32] = 	0.4106	; popDist[33] = 	0.4350	; popDist[34] = 	0.4505	; popDist[35] = 	0.4593	; popDist[36] = 	0.4930	; popDist[37] = 	0.5348	; popDist[38] = 	0.5903	; popDist[39] = 	0.5979	; popDist[40] = 	0.5991	; popDist[41] = 	0.6021	; popDist[42] = 	0.6102	; popDist[43] =	0.6452	; popDist[44] =	0.6589	; popDist[45] =	0.6661	; popDist[46] =	0.6717	; popDist[47] =	0.7081	; popDist[48] =	0.7411	; popDist[49] =	0.7982	; popDist[50] =	0.8235	; popDist[51] =	0.8361	; popDist[52] =	0.8518	; popDist[53] =	0.8805	; popDist[54] =	0.8826	; popDist[55] =	0.8957	; popDist[56] =	0.9101	; popDist[57] =	0.9335	; popDist[58] =	0.9643	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0005	; popDist[5] = 	0.0007	; popDist[6] =	0.0015	; popDist[7] =	0.0036	; popDist[8] = 	0.0172	; popDist[9] = 	0.0184	; popDist[10] = 	0.0427	; popDist[11] = 	0.0542	; popDist[12] = 	0.0586	; popDist[13] = 	0.0722	; popDist[14] = 	0.0828	; popDist[15] = 	0.0832	; popDist[16] = 	0.0835	; popDist[17] = 	0.0851	; popDist[18] = 	0.1019	; popDist[19] = 	0.1078	; popDist[20] = 	0.1101	; popDist[21] = 	0.1127	; popDist[22] = 	0.1449	; popDist[23] = 	0.1957	; popDist[24] = 	0.2201	; popDist[25] = 	0.2406	; popDist[26] = 	0.2556	; popDist[27] = 	0.3041	; popDist[28] = 	0.3042	; popDist[29] = 	0.3050	; popDist[30] = 	0.3304	; popDist[31] = 	0.3345	; popDist[32] = 	0.3569	; popDist[33] = 	0.3736	; popDist[34] = 	0.3888	; popDist[35] = 	0.3985	; popDist[36] = 	0.4450	; popDist[37] = 	0.4908	; popDist[38] = 	0.5673	; popDist[39] = 	0.5713	; popDist[40] = 	0.5719	; popDist[41] = 	0.5736	; popDist[42] = 	0.5786	; popDist[43] =	0.6045	; popDist[44] =	0.6160	; popDist[45] =	0.6219	; popDist[46] =	0.6256	; popDist[47] =	0.6603	; popDist[48] =	0.6985	; popDist[49] =	0.7510	; popDist[50] =	0.7762	; popDist[51] =	0.7883	; popDist[52] =	0.8050	; popDist[53] =	0.8445	; popDist[54] =	0.8462	; popDist[55] =	0.8624	; popDist[56] =	0.8730	; popDist[57] =	0.8978	; popDist[58] =	0.9418	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0000	; popDist[2] =	0.0000	; popDist[3] =	0.0000	; popDist[4] =	0.0000	; popDist[5] = 	0.0000	; popDist[6] =	0.0002	; popDist[7] =	0.0010	; popDist[8] = 	0.0109	; popDist[9] = 	0.0114	; popDist[10] = 	0.0271	; popDist[11] = 	0.0336	; popDist[12] = 	0.0365	; popDist[13] = 	0.0422	; popDist[14] = 	0.0529	; popDist[15] = 	0.0530	; popDist[16] = 	0.0532	; popDist[17] = 	0.0539	; popDist[18] = 	0.0720	; popDist[19] = 	0.0754	; popDist[20] = 	0.0766	; popDist[21] = 	0.0776	; popDist[22] = 	0.1032	; popDist[23] = 	0.1345	; popDist[24] = 	0.1490	; popDist[25] = 	0.1597	; popDist[26] = 	0.1680	; popDist[27] = 	0.2077	; popDist[28] = 	0.2077	; popDist[29] = 	0.2082	; popDist[30] = 	0.2294	; popDist[31] = 	0.2406	; popDist[32] = 	0.2788	; popDist[33] = 	0.2897	; popDist[34] = 	0.3086	; popDist[35] = 	0.3280	; popDist[36] = 	0.4043	; popDist[37] = 	0.4859	; popDist[38] = 	0.6233	; popDist[39] = 	0.6261	; popDist[40] = 	0.6264	; popDist[41] = 	0.6272	; popDist[42] = 	0.6293	; popDist[43] =	0.6440	; popDist[44] =	0.6499	; popDist[45] =	0.6529	; popDist[46] =	0.6550	; popDist[47] =	0.6765	; popDist[48] =	0.7099	; popDist[49] =	0.7513	; popDist[50] =	0.7714	; popDist[51] =	0.7782	; popDist[52] =	0.7903	; popDist[53] =	0.8333	; popDist[54] =	0.8342	; popDist[55] =	0.8498	; popDist[56] =	0.8574	; popDist[57] =	0.8787	; popDist[58] =	0.9271	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0165	; popDist[2] =	0.0231	; popDist[3] =	0.0445	; popDist[4] =	0.0720	; popDist[5] = 	0.0917	; popDist[6] =	0.1033	; popDist[7] =	0.1159	; popDist[8] = 	0.1207	; popDist[9] = 	0.1530	; popDist[10] = 	0.1610	; popDist[11] = 	0.1692	; popDist[12] = 	0.2187	; popDist[13] = 	0.2230	; popDist[14] = 	0.2372	; popDist[15] = 	0.3144	; popDist[16] = 	0.3264	; popDist[17] = 	0.3767	; popDist[18] = 	0.3800	; popDist[19] = 	0.3820	; popDist[20] = 	0.4240	; popDist[21] = 	0.4717	; popDist[22] = 	0.4724	; popDist[23] = 	0.4732	; popDist[24] = 	0.4765	; popDist[25] = 	0.4906	; popDist[26] = 	0.5254	; popDist[27] = 	0.5281	; popDist[28] = 	0.5827	; popDist[29] = 	0.6727	; popDist[30] = 	0.7058	; popDist[31] = 	0.7060	; popDist[32] = 	0.7066	; popDist[33] = 	0.7154	; popDist[34] = 	0.7174	; popDist[35] = 	0.7180	; popDist[36] = 	0.7197	; popDist[37] = 	0.7253	; popDist[38] = 	0.7272	; popDist[39] = 	0.7442	; popDist[40] = 	0.8076	; popDist[41] = 	0.8344	; popDist[42] = 	0.8430	; popDist[43] =	0.8480	; popDist[44] =	0.8492	; popDist[45] =	0.8542	; popDist[46] =	0.8588	; popDist[47] =	0.8596	; popDist[48] =	0.8609	; popDist[49] =	0.8647	; popDist[50] =	0.8715	; popDist[51] =	0.8749	; popDist[52] =	0.8811	; popDist[53] =	0.8817	; popDist[54] =	0.9408	; popDist[55] =	0.9664	; popDist[56] =	0.9882	; popDist[57] =	0.9986	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0092	; popDist[2] =	0.0130	; popDist[3] =	0.0247	; popDist[4] =	0.0436	; popDist[5] = 	0.0568	; popDist[6] =	0.0632	; popDist[7] =	0.0745	; popDist[8] = 	0.0802	; popDist[9] = 	0.1105	; popDist[10] = 	0.1234	; popDist[11] = 	0.1338	; popDist[12] = 	0.1892	; popDist[13] = 	0.1929	; popDist[14] = 	0.2076	; popDist[15] = 	0.2614	; popDist[16] = 	0.2705	; popDist[17] = 	0.3118	; popDist[18] = 	0.3157	; popDist[19] = 	0.3179	; popDist[20] = 	0.3579	; popDist[21] = 	0.4118	; popDist[22] = 	0.4125	; popDist[23] = 	0.4131	; popDist[24] = 	0.4159	; popDist[25] = 	0.4270	; popDist[26] = 	0.4639	; popDist[27] = 	0.4670	; popDist[28] = 	0.4997	; popDist[29] = 	0.6066	; popDist[30] = 	0.6533	; popDist[31] = 	0.6538	; popDist[32] = 	0.6545	; popDist[33] = 	0.6625	; popDist[34] = 	0.6648	; popDist[35] = 	0.6655	; popDist[36] = 	0.6680	; popDist[37] = 	0.6751	; popDist[38] = 	0.6781	; popDist[39] = 	0.6924	; popDist[40] = 	0.7344	; popDist[41] = 	0.7525	; popDist[42] = 	0.7613	; popDist[43] =	0.7676	; popDist[44] =	0.7694	; popDist[45] =	0.7762	; popDist[46] =	0.7826	; popDist[47] =	0.7835	; popDist[48] =	0.7853	; popDist[49] =	0.7912	; popDist[50] =	0.8048	; popDist[51] =	0.8095	; popDist[52] =	0.8202	; popDist[53] =	0.8212	; popDist[54] =	0.9068	; popDist[55] =	0.9647	; popDist[56] =	0.9859	; popDist[57] =	0.9984	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0045	; popDist[2] =	0.0070	; popDist[3] =	0.0136	; popDist[4] =	0.0265	; popDist[5] = 	0.0346	; popDist[6] =	0.0385	; popDist[7] =	0.0476	; popDist[8] = 	0.0554	; popDist[9] = 	0.0807	; popDist[10] = 	0.0995	; popDist[11] = 	0.1112	; popDist[12] = 	0.1684	; popDist[13] = 	0.1717	; popDist[14] = 	0.1895	; popDist[15] = 	0.2306	; popDist[16] = 	0.2361	; popDist[17] = 	0.2674	; popDist[18] = 	0.2738	; popDist[19] = 	0.2758	; popDist[20] = 	0.3070	; popDist[21] = 	0.3479	; popDist[22] = 	0.3493	; popDist[23] = 	0.3502	; popDist[24] = 	0.3532	; popDist[25] = 	0.3637	; popDist[26] = 	0.3975	; popDist[27] = 	0.4012	; popDist[28] = 	0.4223	; popDist[29] = 	0.5195	; popDist[30] = 	0.5882	; popDist[31] = 	0.5888	; popDist[32] = 	0.5901	; popDist[33] = 	0.5974	; popDist[34] = 	0.6006	; popDist[35] = 	0.6017	; popDist[36] = 	0.6062	; popDist[37] = 	0.6165	; popDist[38] = 	0.6213	; popDist[39] = 	0.6316	; popDist[40] = 	0.6596	; popDist[41] = 	0.6721	; popDist[42] = 	0.6794	; popDist[43] =	0.6857	; popDist[44] =	0.6877	; popDist[45] =	0.6957	; popDist[46] =	0.7019	; popDist[47] =	0.7033	; popDist[48] =	0.7062	; popDist[49] =	0.7141	; popDist[50] =	0.7324	; popDist[51] =	0.7386	; popDist[52] =	0.7538	; popDist[53] =	0.7559	; popDist[54] =	0.8573	; popDist[55] =	0.9568	; popDist[56] =	0.9783	; popDist[57] =	0.9963	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0025	; popDist[2] =	0.0036	; popDist[3] =	0.0070	; popDist[4] =	0.0124	; popDist[5] = 	0.0163	; popDist[6] =	0.0179	; popDist[7] =	0.0229	; popDist[8] = 	0.0317	; popDist[9] = 	0.0465	; popDist[10] = 	0.0655	; popDist[11] = 	0.0757	; popDist[12] = 	0.1322	; popDist[13] = 	0.1344	; popDist[14] = 	0.1623	; popDist[15] = 	0.1914	; popDist[16] = 	0.1943	; popDist[17] = 	0.2147	; popDist[18] = 	0.2252	; popDist[19] = 	0.2271	; popDist[20] = 	0.2531	; popDist[21] = 	0.2794	; popDist[22] = 	0.2808	; popDist[23] = 	0.2814	; popDist[24] = 	0.2838	; popDist[25] = 	0.2923	; popDist[26] = 	0.3210	; popDist[27] = 	0.3255	; popDist[28] = 	0.3391	; popDist[29] = 	0.4138	; popDist[30] = 	0.5023	; popDist[31] = 	0.5045	; popDist[32] = 	0.5080	; popDist[33] = 	0.5154	; popDist[34] = 	0.5215	; popDist[35] = 	0.5247	; popDist[36] = 	0.5358	; popDist[37] = 	0.5653	; popDist[38] = 	0.5793	; popDist[39] = 	0.5904	; popDist[40] = 	0.6092	; popDist[41] = 	0.6188	; popDist[42] = 	0.6235	; popDist[43] =	0.6290	; popDist[44] =	0.6308	; popDist[45] =	0.6373	; popDist[46] =	0.6426	; popDist[47] =	0.6439	; popDist[48] =	0.6479	; popDist[49] =	0.6570	; popDist[50] =	0.6795	; popDist[51] =	0.6849	; popDist[52] =	0.7019	; popDist[53] =	0.7053	; popDist[54] =	0.7986	; popDist[55] =	0.9459	; popDist[56] =	0.9691	; popDist[57] =	0.9928	; popDist[58] =	0.9971	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0429	; popDist[2] =	0.0627	; popDist[3] =	0.0882	; popDist[4] =	0.1304	; popDist[5] = 	0.1664	; popDist[6] =	0.1929	; popDist[7] =	0.2254	; popDist[8] = 	0.2376	; popDist[9] = 	0.2882	; popDist[10] = 	0.2993	; popDist[11] = 	0.3141	; popDist[12] = 	0.3288	; popDist[13] = 	0.3573	; popDist[14] = 	0.3637	; popDist[15] = 	0.3833	; popDist[16] = 	0.4161	; popDist[17] = 	0.4566	; popDist[18] = 	0.4619	; popDist[19] = 	0.4842	; popDist[20] = 	0.4905	; popDist[21] = 	0.4963	; popDist[22] = 	0.5026	; popDist[23] = 	0.5137	; popDist[24] = 	0.5269	; popDist[25] = 	0.5427	; popDist[26] = 	0.5550	; popDist[27] = 	0.5611	; popDist[28] = 	0.5745	; popDist[29] = 	0.5807	; popDist[30] = 	0.5866	; popDist[31] = 	0.5870	; popDist[32] = 	0.5886	; popDist[33] = 	0.6159	; popDist[34] = 	0.6212	; popDist[35] = 	0.6222	; popDist[36] = 	0.6250	; popDist[37] = 	0.6352	; popDist[38] = 	0.6396	; popDist[39] = 	0.6631	; popDist[40] = 	0.6780	; popDist[41] = 	0.7162	; popDist[42] = 	0.7737	; popDist[43] =	0.7973	; popDist[44] =	0.8125	; popDist[45] =	0.8428	; popDist[46] =	0.8744	; popDist[47] =	0.8895	; popDist[48] =	0.8960	; popDist[49] =	0.9198	; popDist[50] =	0.9282	; popDist[51] =	0.9443	; popDist[52] =	0.9527	; popDist[53] =	0.9556	; popDist[54] =	0.9685	; popDist[55] =	0.9735	; popDist[56] =	0.9845	; popDist[57] =	0.9947	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0236	; popDist[2] =	0.0349	; popDist[3] =	0.0488	; popDist[4] =	0.0784	; popDist[5] = 	0.1020	; popDist[6] =	0.1169	; popDist[7] =	0.1459	; popDist[8] = 	0.1607	; popDist[9] = 	0.2078	; popDist[10] = 	0.2254	; popDist[11] = 	0.2447	; popDist[12] = 	0.2607	; popDist[13] = 	0.2867	; popDist[14] = 	0.2933	; popDist[15] = 	0.3071	; popDist[16] = 	0.3318	; popDist[17] = 	0.3648	; popDist[18] = 	0.3714	; popDist[19] = 	0.3960	; popDist[20] = 	0.4020	; popDist[21] = 	0.4083	; popDist[22] = 	0.4165	; popDist[23] = 	0.4276	; popDist[24] = 	0.4398	; popDist[25] = 	0.4520	; popDist[26] = 	0.4653	; popDist[27] = 	0.4723	; popDist[28] = 	0.4804	; popDist[29] = 	0.4880	; popDist[30] = 	0.4961	; popDist[31] = 	0.4967	; popDist[32] = 	0.4986	; popDist[33] = 	0.5236	; popDist[34] = 	0.5298	; popDist[35] = 	0.5308	; popDist[36] = 	0.5351	; popDist[37] = 	0.5478	; popDist[38] = 	0.5536	; popDist[39] = 	0.5729	; popDist[40] = 	0.5828	; popDist[41] = 	0.6085	; popDist[42] = 	0.6653	; popDist[43] =	0.6947	; popDist[44] =	0.7187	; popDist[45] =	0.7625	; popDist[46] =	0.8074	; popDist[47] =	0.8303	; popDist[48] =	0.8401	; popDist[49] =	0.8775	; popDist[50] =	0.8940	; popDist[51] =	0.9170	; popDist[52] =	0.9313	; popDist[53] =	0.9377	; popDist[54] =	0.9570	; popDist[55] =	0.9692	; popDist[56] =	0.9796	; popDist[57] =	0.9915	; popDist[58] =	0.9969	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0116	; popDist[2] =	0.0192	; popDist[3] =	0.0271	; popDist[4] =	0.0467	; popDist[5] = 	0.0615	; popDist[6] =	0.0703	; popDist[7] =	0.0935	; popDist[8] = 	0.1138	; popDist[9] = 	0.1527	; popDist[10] = 	0.1786	; popDist[11] = 	0.1993	; popDist[12] = 	0.2158	; popDist[13] = 	0.2363	; popDist[14] = 	0.2442	; popDist[15] = 	0.2546	; popDist[16] = 	0.2697	; popDist[17] = 	0.2945	; popDist[18] = 	0.3050	; popDist[19] = 	0.3284	; popDist[20] = 	0.3330	; popDist[21] = 	0.3378	; popDist[22] = 	0.3487	; popDist[23] = 	0.3622	; popDist[24] = 	0.3740	; popDist[25] = 	0.3856	; popDist[26] = 	0.3975	; popDist[27] = 	0.4060	; popDist[28] = 	0.4112	; popDist[29] = 	0.4181	; popDist[30] = 	0.4298	; popDist[31] = 	0.4305	; popDist[32] = 	0.4337	; popDist[33] = 	0.4571	; popDist[34] = 	0.4652	; popDist[35] = 	0.4668	; popDist[36] = 	0.4746	; popDist[37] = 	0.4930	; popDist[38] = 	0.5035	; popDist[39] = 	0.5176	; popDist[40] = 	0.5240	; popDist[41] = 	0.5416	; popDist[42] = 	0.5888	; popDist[43] =	0.6183	; popDist[44] =	0.6448	; popDist[45] =	0.6944	; popDist[46] =	0.7372	; popDist[47] =	0.7670	; popDist[48] =	0.7825	; popDist[49] =	0.8284	; popDist[50] =	0.8505	; popDist[51] =	0.8801	; popDist[52] =	0.9005	; popDist[53] =	0.9124	; popDist[54] =	0.9347	; popDist[55] =	0.9554	; popDist[56] =	0.9659	; popDist[57] =	0.9829	; popDist[58] =	0.9931	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0061	; popDist[2] =	0.0095	; popDist[3] =	0.0134	; popDist[4] =	0.0214	; popDist[5] = 	0.0287	; popDist[6] =	0.0324	; popDist[7] =	0.0451	; popDist[8] = 	0.0680	; popDist[9] = 	0.0913	; popDist[10] = 	0.1171	; popDist[11] = 	0.1353	; popDist[12] = 	0.1516	; popDist[13] = 	0.1648	; popDist[14] = 	0.1771	; popDist[15] = 	0.1843	; popDist[16] = 	0.1919	; popDist[17] = 	0.2084	; popDist[18] = 	0.2261	; popDist[19] = 	0.2469	; popDist[20] = 	0.2508	; popDist[21] = 	0.2541	; popDist[22] = 	0.2677	; popDist[23] = 	0.2808	; popDist[24] = 	0.2919	; popDist[25] = 	0.3012	; popDist[26] = 	0.3111	; popDist[27] = 	0.3216	; popDist[28] = 	0.3250	; popDist[29] = 	0.3305	; popDist[30] = 	0.3459	; popDist[31] = 	0.3489	; popDist[32] = 	0.3570	; popDist[33] = 	0.3805	; popDist[34] = 	0.3962	; popDist[35] = 	0.4009	; popDist[36] = 	0.4205	; popDist[37] = 	0.4714	; popDist[38] = 	0.5012	; popDist[39] = 	0.5163	; popDist[40] = 	0.5205	; popDist[41] = 	0.5343	; popDist[42] = 	0.5643	; popDist[43] =	0.5894	; popDist[44] =	0.6107	; popDist[45] =	0.6506	; popDist[46] =	0.6848	; popDist[47] =	0.7131	; popDist[48] =	0.7341	; popDist[49] =	0.7893	; popDist[50] =	0.8163	; popDist[51] =	0.8424	; popDist[52] =	0.8652	; popDist[53] =	0.8849	; popDist[54] =	0.9052	; popDist[55] =	0.9353	; popDist[56] =	0.9466	; popDist[57] =	0.9695	; popDist[58] =	0.9867	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0376	; popDist[2] =	0.0546	; popDist[3] =	0.0776	; popDist[4] =	0.1200	; popDist[5] = 	0.1569	; popDist[6] =	0.1811	; popDist[7] =	0.2128	; popDist[8] = 	0.2237	; popDist[9] = 	0.2671	; popDist[10] = 	0.2756	; popDist[11] = 	0.2883	; popDist[12] = 	0.3033	; popDist[13] = 	0.3330	; popDist[14] = 	0.3398	; popDist[15] = 	0.3609	; popDist[16] = 	0.3950	; popDist[17] = 	0.4384	; popDist[18] = 	0.4441	; popDist[19] = 	0.4656	; popDist[20] = 	0.4729	; popDist[21] = 	0.4802	; popDist[22] = 	0.4887	; popDist[23] = 	0.5002	; popDist[24] = 	0.5157	; popDist[25] = 	0.5321	; popDist[26] = 	0.5464	; popDist[27] = 	0.5531	; popDist[28] = 	0.5662	; popDist[29] = 	0.5756	; popDist[30] = 	0.5817	; popDist[31] = 	0.5822	; popDist[32] = 	0.5841	; popDist[33] = 	0.6102	; popDist[34] = 	0.6150	; popDist[35] = 	0.6160	; popDist[36] = 	0.6186	; popDist[37] = 	0.6273	; popDist[38] = 	0.6303	; popDist[39] = 	0.6553	; popDist[40] = 	0.6715	; popDist[41] = 	0.7046	; popDist[42] = 	0.7670	; popDist[43] =	0.7935	; popDist[44] =	0.8072	; popDist[45] =	0.8304	; popDist[46] =	0.8562	; popDist[47] =	0.8702	; popDist[48] =	0.8755	; popDist[49] =	0.8962	; popDist[50] =	0.9069	; popDist[51] =	0.9279	; popDist[52] =	0.9438	; popDist[53] =	0.9470	; popDist[54] =	0.9670	; popDist[55] =	0.9748	; popDist[56] =	0.9868	; popDist[57] =	0.9968	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0205	; popDist[2] =	0.0302	; popDist[3] =	0.0426	; popDist[4] =	0.0721	; popDist[5] = 	0.0963	; popDist[6] =	0.1098	; popDist[7] =	0.1380	; popDist[8] = 	0.1510	; popDist[9] = 	0.1905	; popDist[10] = 	0.2039	; popDist[11] = 	0.2205	; popDist[12] = 	0.2377	; popDist[13] = 	0.2641	; popDist[14] = 	0.2708	; popDist[15] = 	0.2858	; popDist[16] = 	0.3108	; popDist[17] = 	0.3458	; popDist[18] = 	0.3524	; popDist[19] = 	0.3759	; popDist[20] = 	0.3830	; popDist[21] = 	0.3914	; popDist[22] = 	0.4023	; popDist[23] = 	0.4140	; popDist[24] = 	0.4280	; popDist[25] = 	0.4408	; popDist[26] = 	0.4557	; popDist[27] = 	0.4627	; popDist[28] = 	0.4704	; popDist[29] = 	0.4819	; popDist[30] = 	0.4907	; popDist[31] = 	0.4915	; popDist[32] = 	0.4936	; popDist[33] = 	0.5170	; popDist[34] = 	0.5226	; popDist[35] = 	0.5236	; popDist[36] = 	0.5275	; popDist[37] = 	0.5385	; popDist[38] = 	0.5432	; popDist[39] = 	0.5642	; popDist[40] = 	0.5747	; popDist[41] = 	0.5971	; popDist[42] = 	0.6582	; popDist[43] =	0.6906	; popDist[44] =	0.7113	; popDist[45] =	0.7452	; popDist[46] =	0.7816	; popDist[47] =	0.8030	; popDist[48] =	0.8107	; popDist[49] =	0.8426	; popDist[50] =	0.8623	; popDist[51] =	0.8925	; popDist[52] =	0.9196	; popDist[53] =	0.9259	; popDist[54] =	0.9549	; popDist[55] =	0.9720	; popDist[56] =	0.9835	; popDist[57] =	0.9950	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0102	; popDist[2] =	0.0167	; popDist[3] =	0.0237	; popDist[4] =	0.0430	; popDist[5] = 	0.0577	; popDist[6] =	0.0657	; popDist[7] =	0.0879	; popDist[8] = 	0.1056	; popDist[9] = 	0.1382	; popDist[10] = 	0.1579	; popDist[11] = 	0.1757	; popDist[12] = 	0.1928	; popDist[13] = 	0.2137	; popDist[14] = 	0.2220	; popDist[15] = 	0.2331	; popDist[16] = 	0.2484	; popDist[17] = 	0.2750	; popDist[18] = 	0.2856	; popDist[19] = 	0.3076	; popDist[20] = 	0.3131	; popDist[21] = 	0.3193	; popDist[22] = 	0.3341	; popDist[23] = 	0.3486	; popDist[24] = 	0.3625	; popDist[25] = 	0.3746	; popDist[26] = 	0.3885	; popDist[27] = 	0.3972	; popDist[28] = 	0.4022	; popDist[29] = 	0.4125	; popDist[30] = 	0.4249	; popDist[31] = 	0.4258	; popDist[32] = 	0.4292	; popDist[33] = 	0.4506	; popDist[34] = 	0.4579	; popDist[35] = 	0.4593	; popDist[36] = 	0.4661	; popDist[37] = 	0.4819	; popDist[38] = 	0.4902	; popDist[39] = 	0.5049	; popDist[40] = 	0.5121	; popDist[41] = 	0.5274	; popDist[42] = 	0.5775	; popDist[43] =	0.6098	; popDist[44] =	0.6327	; popDist[45] =	0.6708	; popDist[46] =	0.7053	; popDist[47] =	0.7324	; popDist[48] =	0.7447	; popDist[49] =	0.7842	; popDist[50] =	0.8108	; popDist[51] =	0.8496	; popDist[52] =	0.8878	; popDist[53] =	0.8996	; popDist[54] =	0.9325	; popDist[55] =	0.9613	; popDist[56] =	0.9727	; popDist[57] =	0.9894	; popDist[58] =	0.9962	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0082	; popDist[3] =	0.0117	; popDist[4] =	0.0198	; popDist[5] = 	0.0273	; popDist[6] =	0.0308	; popDist[7] =	0.0432	; popDist[8] = 	0.0632	; popDist[9] = 	0.0821	; popDist[10] = 	0.1017	; popDist[11] = 	0.1174	; popDist[12] = 	0.1345	; popDist[13] = 	0.1485	; popDist[14] = 	0.1612	; popDist[15] = 	0.1689	; popDist[16] = 	0.1767	; popDist[17] = 	0.1942	; popDist[18] = 	0.2116	; popDist[19] = 	0.2313	; popDist[20] = 	0.2357	; popDist[21] = 	0.2397	; popDist[22] = 	0.2580	; popDist[23] = 	0.2714	; popDist[24] = 	0.2842	; popDist[25] = 	0.2940	; popDist[26] = 	0.3058	; popDist[27] = 	0.3171	; popDist[28] = 	0.3201	; popDist[29] = 	0.3277	; popDist[30] = 	0.3438	; popDist[31] = 	0.3475	; popDist[32] = 	0.3568	; popDist[33] = 	0.3783	; popDist[34] = 	0.3921	; popDist[35] = 	0.3967	; popDist[36] = 	0.4146	; popDist[37] = 	0.4596	; popDist[38] = 	0.4840	; popDist[39] = 	0.4996	; popDist[40] = 	0.5043	; popDist[41] = 	0.5158	; popDist[42] = 	0.5481	; popDist[43] =	0.5759	; popDist[44] =	0.5945	; popDist[45] =	0.6253	; popDist[46] =	0.6537	; popDist[47] =	0.6800	; popDist[48] =	0.6964	; popDist[49] =	0.7440	; popDist[50] =	0.7766	; popDist[51] =	0.8104	; popDist[52] =	0.8532	; popDist[53] =	0.8728	; popDist[54] =	0.9035	; popDist[55] =	0.9466	; popDist[56] =	0.9592	; popDist[57] =	0.9813	; popDist[58] =	0.9929	; popDist[59] =	1	;}
-		}			
-		
-		// Mortality probabilities by age, sex, and race
-		// From 2000 NYC population 
-		public void mortalityProb() {
-			if (gender ==	1	 && race ==	3	 && age >=	18	&& age <=	24	) { pMortality =	0.00083	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	25	&& age <=	29	) { pMortality =	0.00092	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	30	&& age <=	34	) { pMortality =	0.00167	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	35	&& age <=	39	) { pMortality =	0.00242	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	40	&& age <=	44	) { pMortality =	0.00398	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	45	&& age <=	49	) { pMortality =	0.00597	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	50	&& age <=	54	) { pMortality =	0.00854	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	55	&& age <=	59	) { pMortality =	0.01008	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	60	&& age <=	64	) { pMortality =	0.01430	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	65	&& age <=	69	) { pMortality =	0.02087	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	70	&& age <=	74	) { pMortality =	0.02981	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	75	&& age <=	79	) { pMortality =	0.04498	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	80	&& age <=	84	) { pMortality =	0.07345	;}
-			else if (gender ==	1	 && race ==	3	 && age >=	85			) 		  { pMortality =	0.09823	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	18	&& age <=	24	) { pMortality =	0.00035	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	25	&& age <=	29	) { pMortality =	0.00041	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	30	&& age <=	34	) { pMortality =	0.00075	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	35	&& age <=	39	) { pMortality =	0.00117	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	40	&& age <=	44	) { pMortality =	0.00189	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	45	&& age <=	49	) { pMortality =	0.00234	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	50	&& age <=	54	) { pMortality =	0.00335	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	55	&& age <=	59	) { pMortality =	0.00460	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	60	&& age <=	64	) { pMortality =	0.00717	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	65	&& age <=	69	) { pMortality =	0.01238	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	70	&& age <=	74	) { pMortality =	0.01750	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	75	&& age <=	79	) { pMortality =	0.02783	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	80	&& age <=	84	) { pMortality =	0.04355	;}
-			else if (gender ==	0	 && race ==	3	 && age >=	85			) 		  { pMortality =	0.09398	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	18	&& age <=	24	) { pMortality =	0.00101	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	25	&& age <=	29	) { pMortality =	0.00083	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	30	&& age <=	34	) { pMortality =	0.00131	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	35	&& age <=	39	) { pMortality =	0.00217	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	40	&& age <=	44	) { pMortality =	0.00373	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	45	&& age <=	49	) { pMortality =	0.00537	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	50	&& age <=	54	) { pMortality =	0.00732	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	55	&& age <=	59	) { pMortality =	0.01068	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	60	&& age <=	64	) { pMortality =	0.01551	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	65	&& age <=	69	) { pMortality =	0.02412	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	70	&& age <=	74	) { pMortality =	0.03420	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	75	&& age <=	79	) { pMortality =	0.05129	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	80	&& age <=	84	) { pMortality =	0.07749	;}
-			else if (gender ==	1	 && race ==	1	 && age >=	85			) 		  { pMortality =	0.15831	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	18	&& age <=	24	) { pMortality =	0.00050	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	25	&& age <=	29	) { pMortality =	0.00036	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	30	&& age <=	34	) { pMortality =	0.00068	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	35	&& age <=	39	) { pMortality =	0.00119	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	40	&& age <=	44	) { pMortality =	0.00167	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	45	&& age <=	49	) { pMortality =	0.00259	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	50	&& age <=	54	) { pMortality =	0.00371	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	55	&& age <=	59	) { pMortality =	0.00600	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	60	&& age <=	64	) { pMortality =	0.00882	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	65	&& age <=	69	) { pMortality =	0.01464	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	70	&& age <=	74	) { pMortality =	0.02061	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	75	&& age <=	79	) { pMortality =	0.03213	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	80	&& age <=	84	) { pMortality =	0.05615	;}
-			else if (gender ==	0	 && race ==	1	 && age >=	85			) 		  { pMortality =	0.13173	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	18	&& age <=	24	) { pMortality =	0.00226	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	25	&& age <=	29	) { pMortality =	0.00224	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	30	&& age <=	34	) { pMortality =	0.00290	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	35	&& age <=	39	) { pMortality =	0.00374	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	40	&& age <=	44	) { pMortality =	0.00547	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	45	&& age <=	49	) { pMortality =	0.01040	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	50	&& age <=	54	) { pMortality =	0.01278	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	55	&& age <=	59	) { pMortality =	0.01635	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	60	&& age <=	64	) { pMortality =	0.02232	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	65	&& age <=	69	) { pMortality =	0.03167	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	70	&& age <=	74	) { pMortality =	0.04638	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	75	&& age <=	79	) { pMortality =	0.06511	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	80	&& age <=	84	) { pMortality =	0.09322	;}
-			else if (gender ==	1	 && race ==	2	 && age >=	85			) 		  { pMortality =	0.12332	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	18	&& age <=	24	) { pMortality =	0.00056	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	25	&& age <=	29	) { pMortality =	0.00086	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	30	&& age <=	34	) { pMortality =	0.00178	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	35	&& age <=	39	) { pMortality =	0.00223	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	40	&& age <=	44	) { pMortality =	0.00363	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	45	&& age <=	49	) { pMortality =	0.00551	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	50	&& age <=	54	) { pMortality =	0.00662	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	55	&& age <=	59	) { pMortality =	0.00839	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	60	&& age <=	64	) { pMortality =	0.01332	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	65	&& age <=	69	) { pMortality =	0.01975	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	70	&& age <=	74	) { pMortality =	0.02674	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	75	&& age <=	79	) { pMortality =	0.03972	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	80	&& age <=	84	) { pMortality =	0.05970	;}
-			else if (gender ==	0	 && race ==	2	 && age >=	85			) 		  { pMortality =	0.11631	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	18	&& age <=	24	) { pMortality =	0.00038	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	25	&& age <=	29	) { pMortality =	0.00061	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	30	&& age <=	34	) { pMortality =	0.00049	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	35	&& age <=	39	) { pMortality =	0.00107	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	40	&& age <=	44	) { pMortality =	0.00194	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	45	&& age <=	49	) { pMortality =	0.00242	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	50	&& age <=	54	) { pMortality =	0.00385	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	55	&& age <=	59	) { pMortality =	0.00664	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	60	&& age <=	64	) { pMortality =	0.00892	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	65	&& age <=	69	) { pMortality =	0.01563	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	70	&& age <=	74	) { pMortality =	0.02154	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	75	&& age <=	79	) { pMortality =	0.04089	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	80	&& age <=	84	) { pMortality =	0.05611	;}
-			else if (gender ==	1	 && race ==	4	 && age >=	85			) 		  { pMortality =	0.10346	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	18	&& age <=	24	) { pMortality =	0.00016	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	25	&& age <=	29	) { pMortality =	0.00021	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	30	&& age <=	34	) { pMortality =	0.00036	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	35	&& age <=	39	) { pMortality =	0.00042	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	40	&& age <=	44	) { pMortality =	0.00088	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	45	&& age <=	49	) { pMortality =	0.00124	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	50	&& age <=	54	) { pMortality =	0.00201	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	55	&& age <=	59	) { pMortality =	0.00299	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	60	&& age <=	64	) { pMortality =	0.00451	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	65	&& age <=	69	) { pMortality =	0.00734	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	70	&& age <=	74	) { pMortality =	0.01251	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	75	&& age <=	79	) { pMortality =	0.02385	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	80	&& age <=	84	) { pMortality =	0.03391	;}
-			else if (gender ==	0	 && race ==	4	 && age >=	85			) 		  { pMortality =	0.07478	;}
+		// a.mortalityStratum() -- called in Model class
+		// Mortality stratum by age, sex, and race (-1 if none), from 2000 NYC population; also sets the
+		// agent's mortality probability (pMortality) for that stratum
+		public int mortalityStratum() {
+			int s = AlcoholDistributions.mortalityStratum(getGender(), getAge(), getRace());
+			if (s >= 0) { pMortality = AlcoholDistributions.mortalityProb(s); }
+			return s;
 		}
 		
 		// durationResProb()
 		// Initialize duration of residence in neighborhood
 		public void durationResProb() {
+			double age = getAge();
 			if (age >=	18	&& age <=	24	) { probDuration[0] =	0	; probDuration[1] =	0.515	; probDuration[2] =	0.876	; probDuration[3] =	0.934	; probDuration[4] =	0.973	; probDuration[5] =	1.000	; probDuration[6] =	1	; }
 			if (age >=	25	&& age <=	34	) { probDuration[0] =	0	; probDuration[1] =	0.295	; probDuration[2] =	0.769	; probDuration[3] =	0.920	; probDuration[4] =	0.964	; probDuration[5] =	0.989	; probDuration[6] =	1	; }
 			if (age >=	35	&& age <=	44	) { probDuration[0] =	0	; probDuration[1] =	0.153	; probDuration[2] =	0.522	; probDuration[3] =	0.769	; probDuration[4] =	0.933	; probDuration[5] =	0.972	; probDuration[6] =	1	; }
@@ -1212,10 +572,19 @@ public class AlcoholAgent implements Drawable {
 			
 		// a.resetVars -- called in Model class
 		// Reset variables at beginning of new time step
+		// (reads and writes the population columns by slot; setters are used only where they keep neighborhood
+		// sums or change lists up to date)
 		public void resetVars( double currentTime) {
+			double age = pop.age[slot];
+			int race = pop.race[slot];
+			int education = pop.education[slot];
+			int houseincome = pop.houseincome[slot];
+			int drinkStat = pop.drinkStat[slot];
+			int violvict = pop.getFlag(AlcoholPopulation.VIOLVICT, slot);
+			int violperp = pop.getFlag(AlcoholPopulation.VIOLPERP, slot);
 			
 			// age category at last time step
-			lastagecat = agecat;
+			pop.lastagecat[slot] = pop.agecat[slot];
 			
 			// update age category
 			if (age>=18 && age<25) { setAgecat(1); }
@@ -1226,62 +595,60 @@ public class AlcoholAgent implements Drawable {
 			else if (age>=65) { setAgecat(6); }
 			
 			// income category at last time step
-			if (inc1 == 1) { setLastincome(1); }
-			else if (inc2 == 1) { setLastincome(2); }
-			else if (inc3 == 1) { setLastincome(3); }
-			else if (inc4 == 1) { setLastincome(4); }
+			if (pop.getFlag(AlcoholPopulation.INC1, slot) == 1) { pop.lastincome[slot] = 1; }
+			else if (pop.getFlag(AlcoholPopulation.INC2, slot) == 1) { pop.lastincome[slot] = 2; }
+			else if (pop.getFlag(AlcoholPopulation.INC3, slot) == 1) { pop.lastincome[slot] = 3; }
+			else if (pop.getFlag(AlcoholPopulation.INC4, slot) == 1) { pop.lastincome[slot] = 4; }
 			
 			// update dummy variables for socio-demographic characteristics
-			if (age>=18 && age<25){setAge1(1);} else setAge1(0);
-			if (age>=25 && age<35){setAge2(1);} else setAge2(0);
-			if (age>=35 && age<45){setAge3(1);} else setAge3(0);
-			if (age>=45 && age<55){setAge4(1);} else setAge4(0);
-			if (age>=55 && age<65){setAge5(1);} else setAge5(0);
-			if (age>=65) { setAge6(1); } else setAge6(0);
-			if (race == 1 ){ setWhite(1);} else setWhite(0);
+			pop.setFlag(AlcoholPopulation.AGE1, slot, (age>=18 && age<25) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.AGE2, slot, (age>=25 && age<35) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.AGE3, slot, (age>=35 && age<45) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.AGE4, slot, (age>=45 && age<55) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.AGE5, slot, (age>=55 && age<65) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.AGE6, slot, (age>=65) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.WHITE, slot, (race == 1) ? 1 : 0);
 			if (race == 2 ){ setBlack(1);} else setBlack(0);
 			if (race == 3 ){ setHisp(1);} else setHisp(0);
-			if (race == 4 ){ setOtherRace(1);} else setOtherRace(0);
-			if (education == 1 ) { setLesshs(1);} else setLesshs(0);
-			if (education == 2 ) { setHs(1);} else setHs(0);
-			if (education == 3 ) { setMorehs(1);} else setMorehs(0);
-			if (houseincome == 1 ) { setInc1(1);} else setInc1(0);
-			if (houseincome == 2 ) { setInc2(1);} else setInc2(0);
-			if (houseincome == 3 ) { setInc3(1);} else setInc3(0);
-			if (houseincome == 4 ) { setInc4(1);} else setInc4(0);
+			pop.setFlag(AlcoholPopulation.OTHERRACE, slot, (race == 4) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.LESSHS, slot, (education == 1) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.HS, slot, (education == 2) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.MOREHS, slot, (education == 3) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.INC1, slot, (houseincome == 1) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.INC2, slot, (houseincome == 2) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.INC3, slot, (houseincome == 3) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.INC4, slot, (houseincome == 4) ? 1 : 0);
 			
 			// mortality
-			if (died == 1) {setLastdied(1);} else setLastdied(0);
-			died = 0;
-			doNotCount = 0;
-			probHomicide = 0;
-			pothomicide = 0;
-			homicide = 0;
-			alcHomicide = 0;
-			probViolence = 0;
+			pop.setFlag(AlcoholPopulation.LASTDIED, slot, (pop.getFlag(AlcoholPopulation.DIED, slot) == 1) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.DIED, slot, 0);
+			pop.setFlag(AlcoholPopulation.DONOTCOUNT, slot, 0);
+			pop.probHomicide[slot] = 0;
+			pop.setFlag(AlcoholPopulation.POTHOMICIDE, slot, 0);
+			setHomicide(0);
+			setAlcHomicide(0);
+			pop.probViolence[slot] = 0;
 			
 			// movement
-			moved = 0;
+			pop.setFlag(AlcoholPopulation.MOVED, slot, 0);
 			
 			// drinking status
-			if (drinkStat==1) { setLastDrinkStat(1); }
-			else if (drinkStat==2) { setLastDrinkStat(2); }
-			else if (drinkStat==3) { setLastDrinkStat(3); }
-			if (everHeavyDrk==0 && drinkStat==3) { setEverHeavyDrk(1); }
+			if (drinkStat>=1 && drinkStat<=3) { pop.lastDrinkStat[slot] = drinkStat; }
+			if (drinkStat==3) { pop.setFlag(AlcoholPopulation.EVERHEAVYDRK, slot, 1); }
 			
 			// violent victimization, perpetration, and other trauma at last time step
-			if (violvict==1) {setLastviolvict(1);} else setLastviolvict(0);
-			if (violperp==1) {setLastviolperp(1);} else setLastviolperp(0);
+			pop.setFlag(AlcoholPopulation.LASTVIOLVICT, slot, (violvict==1) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.LASTVIOLPERP, slot, (violperp==1) ? 1 : 0);
 			
 			// update history of violent victimization, perpetration, and other trauma
-			if (violvict==1 && priorviolvict==0) { setPriorviolvict(1); }
-			if (violperp==1 && priorviolperp==0) { setPriorviolperp(1); }
+			if (violvict==1) { pop.setFlag(AlcoholPopulation.PRIORVIOLVICT, slot, 1); }
+			if (violperp==1) { pop.setFlag(AlcoholPopulation.PRIORVIOLPERP, slot, 1); }
 			
 			// reset violent victimization, perpetration, and trauma variables for next time step
-			setPotviolvict(0);
+			pop.setFlag(AlcoholPopulation.POTVIOLVICT, slot, 0);
 			setViolvict(0);
-			setAlcViol(0);
-			setPotviolperp(0);
+			pop.setFlag(AlcoholPopulation.ALCVIOL, slot, 0);
+			pop.setFlag(AlcoholPopulation.POTVIOLPERP, slot, 0);
 			setViolperp(0);
 			
 
@@ -1293,225 +660,94 @@ public class AlcoholAgent implements Drawable {
 		public void movingProb() {
 					
 			// dummy variables for duration of residence
-			if (durationRes >= 0 && durationRes <= 5) { setDurRes1(1); } else setDurRes1(0);
-			if (durationRes >=6 && durationRes <= 10) { setDurRes2(1); } else setDurRes2(0);
-			if (durationRes >= 11 && durationRes <= 20) { setDurRes3(1); } else setDurRes3(0);
+			if (pop.durationRes[slot] >= 0 && pop.durationRes[slot] <= 5) { setDurRes1(1); } else setDurRes1(0);
+			if (pop.durationRes[slot] >=6 && pop.durationRes[slot] <= 10) { setDurRes2(1); } else setDurRes2(0);
+			if (pop.durationRes[slot] >= 11 && pop.durationRes[slot] <= 20) { setDurRes3(1); } else setDurRes3(0);
 					
-			// 7.23.2014 -- calibration: reduce intercept from -3.783 to -4.25
-			double logitPMove = -4.25 + (1.834*durRes1) + (0.782*durRes2) + (-0.147*durRes3) + 
-					(0.855*inc1) + (0.706*inc2) + (0.597*inc3) + (1.307*lastviolvict);
-					
-			double pmove = Math.exp(logitPMove)/(1 + Math.exp(logitPMove));
+			// probability of moving, looked up by covariate pattern (see buildMoveTable)
+			double pmove = pop.getMoveTable().get(getMovingKey());
 			setPMove(pmove);
 					
 			// reduce probability of moving by half (on average) if violent perpetrator at last time step
-			if (lastviolperp==1) { 
-				double reduceProb = Random.normal.nextDouble(0.50, 0.025);
+			if (getLastviolperp()==1) { 
+				double reduceProb = rng.nextNormal(0.50, 0.025);
 				setPMove(pmove*reduceProb); 
 			}
 		} // end of a.movingProb()
 		
-		// a.hoodProbDist3()
-		// Probabilities of residing in each neighborhood, by agent gender, race, age, and household income
-		// For updating agent probabilities, when moving (incorporating aging)
-		public void hoodProbDist3() {
-			if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0011	; popDist[2] =	0.0016	; popDist[3] =	0.0021	; popDist[4] =	0.0037	; popDist[5] = 	0.0051	; popDist[6] =	0.0138	; popDist[7] =	0.0248	; popDist[8] = 	0.0385	; popDist[9] = 	0.0429	; popDist[10] = 	0.0583	; popDist[11] = 	0.0749	; popDist[12] = 	0.0814	; popDist[13] = 	0.1379	; popDist[14] = 	0.1533	; popDist[15] = 	0.1548	; popDist[16] = 	0.1576	; popDist[17] = 	0.1641	; popDist[18] = 	0.1788	; popDist[19] = 	0.1964	; popDist[20] = 	0.2008	; popDist[21] = 	0.2050	; popDist[22] = 	0.2299	; popDist[23] = 	0.2810	; popDist[24] = 	0.3514	; popDist[25] = 	0.3877	; popDist[26] = 	0.4175	; popDist[27] = 	0.4632	; popDist[28] = 	0.4636	; popDist[29] = 	0.4650	; popDist[30] = 	0.4846	; popDist[31] = 	0.4930	; popDist[32] = 	0.5141	; popDist[33] = 	0.5510	; popDist[34] = 	0.5667	; popDist[35] = 	0.5784	; popDist[36] = 	0.5956	; popDist[37] = 	0.6201	; popDist[38] = 	0.6398	; popDist[39] = 	0.6605	; popDist[40] = 	0.6621	; popDist[41] = 	0.6697	; popDist[42] = 	0.6886	; popDist[43] =	0.7354	; popDist[44] =	0.7496	; popDist[45] =	0.7612	; popDist[46] =	0.7704	; popDist[47] =	0.8053	; popDist[48] =	0.8213	; popDist[49] =	0.8492	; popDist[50] =	0.8637	; popDist[51] =	0.8797	; popDist[52] =	0.8932	; popDist[53] =	0.9040	; popDist[54] =	0.9061	; popDist[55] =	0.9127	; popDist[56] =	0.9307	; popDist[57] =	0.9584	; popDist[58] =	0.9802	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0008	; popDist[3] =	0.0011	; popDist[4] =	0.0021	; popDist[5] = 	0.0030	; popDist[6] =	0.0075	; popDist[7] =	0.0170	; popDist[8] = 	0.0316	; popDist[9] = 	0.0354	; popDist[10] = 	0.0532	; popDist[11] = 	0.0712	; popDist[12] = 	0.0778	; popDist[13] = 	0.1217	; popDist[14] = 	0.1364	; popDist[15] = 	0.1373	; popDist[16] = 	0.1393	; popDist[17] = 	0.1441	; popDist[18] = 	0.1593	; popDist[19] = 	0.1766	; popDist[20] = 	0.1803	; popDist[21] = 	0.1847	; popDist[22] = 	0.2115	; popDist[23] = 	0.2515	; popDist[24] = 	0.3050	; popDist[25] = 	0.3256	; popDist[26] = 	0.3528	; popDist[27] = 	0.3933	; popDist[28] = 	0.3935	; popDist[29] = 	0.3950	; popDist[30] = 	0.4183	; popDist[31] = 	0.4286	; popDist[32] = 	0.4512	; popDist[33] = 	0.4781	; popDist[34] = 	0.4940	; popDist[35] = 	0.5060	; popDist[36] = 	0.5285	; popDist[37] = 	0.5535	; popDist[38] = 	0.5792	; popDist[39] = 	0.5943	; popDist[40] = 	0.5952	; popDist[41] = 	0.5997	; popDist[42] = 	0.6162	; popDist[43] =	0.6650	; popDist[44] =	0.6837	; popDist[45] =	0.6993	; popDist[46] =	0.7109	; popDist[47] =	0.7529	; popDist[48] =	0.7713	; popDist[49] =	0.8068	; popDist[50] =	0.8291	; popDist[51] =	0.8494	; popDist[52] =	0.8688	; popDist[53] =	0.8857	; popDist[54] =	0.8883	; popDist[55] =	0.9005	; popDist[56] =	0.9154	; popDist[57] =	0.9452	; popDist[58] =	0.9696	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0011	; popDist[5] = 	0.0016	; popDist[6] =	0.0038	; popDist[7] =	0.0103	; popDist[8] = 	0.0260	; popDist[9] = 	0.0286	; popDist[10] = 	0.0470	; popDist[11] = 	0.0620	; popDist[12] = 	0.0678	; popDist[13] = 	0.0972	; popDist[14] = 	0.1122	; popDist[15] = 	0.1128	; popDist[16] = 	0.1139	; popDist[17] = 	0.1170	; popDist[18] = 	0.1363	; popDist[19] = 	0.1501	; popDist[20] = 	0.1526	; popDist[21] = 	0.1555	; popDist[22] = 	0.1833	; popDist[23] = 	0.2208	; popDist[24] = 	0.2635	; popDist[25] = 	0.2785	; popDist[26] = 	0.2999	; popDist[27] = 	0.3366	; popDist[28] = 	0.3368	; popDist[29] = 	0.3380	; popDist[30] = 	0.3647	; popDist[31] = 	0.3747	; popDist[32] = 	0.4034	; popDist[33] = 	0.4237	; popDist[34] = 	0.4405	; popDist[35] = 	0.4548	; popDist[36] = 	0.4874	; popDist[37] = 	0.5176	; popDist[38] = 	0.5563	; popDist[39] = 	0.5663	; popDist[40] = 	0.5668	; popDist[41] = 	0.5694	; popDist[42] = 	0.5810	; popDist[43] =	0.6229	; popDist[44] =	0.6400	; popDist[45] =	0.6543	; popDist[46] =	0.6638	; popDist[47] =	0.7054	; popDist[48] =	0.7265	; popDist[49] =	0.7613	; popDist[50] =	0.7856	; popDist[51] =	0.8072	; popDist[52] =	0.8286	; popDist[53] =	0.8517	; popDist[54] =	0.8541	; popDist[55] =	0.8705	; popDist[56] =	0.8827	; popDist[57] =	0.9157	; popDist[58] =	0.9502	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0002	; popDist[4] =	0.0004	; popDist[5] = 	0.0006	; popDist[6] =	0.0013	; popDist[7] =	0.0039	; popDist[8] = 	0.0176	; popDist[9] = 	0.0188	; popDist[10] = 	0.0318	; popDist[11] = 	0.0417	; popDist[12] = 	0.0460	; popDist[13] = 	0.0600	; popDist[14] = 	0.0764	; popDist[15] = 	0.0768	; popDist[16] = 	0.0772	; popDist[17] = 	0.0787	; popDist[18] = 	0.1019	; popDist[19] = 	0.1108	; popDist[20] = 	0.1124	; popDist[21] = 	0.1138	; popDist[22] = 	0.1378	; popDist[23] = 	0.1632	; popDist[24] = 	0.1924	; popDist[25] = 	0.2011	; popDist[26] = 	0.2150	; popDist[27] = 	0.2466	; popDist[28] = 	0.2467	; popDist[29] = 	0.2474	; popDist[30] = 	0.2718	; popDist[31] = 	0.3004	; popDist[32] = 	0.3533	; popDist[33] = 	0.3678	; popDist[34] = 	0.3904	; popDist[35] = 	0.4218	; popDist[36] = 	0.4790	; popDist[37] = 	0.5373	; popDist[38] = 	0.6146	; popDist[39] = 	0.6223	; popDist[40] = 	0.6226	; popDist[41] = 	0.6241	; popDist[42] = 	0.6297	; popDist[43] =	0.6553	; popDist[44] =	0.6654	; popDist[45] =	0.6739	; popDist[46] =	0.6795	; popDist[47] =	0.7078	; popDist[48] =	0.7275	; popDist[49] =	0.7572	; popDist[50] =	0.7788	; popDist[51] =	0.7927	; popDist[52] =	0.8098	; popDist[53] =	0.8360	; popDist[54] =	0.8377	; popDist[55] =	0.8544	; popDist[56] =	0.8640	; popDist[57] =	0.8952	; popDist[58] =	0.9357	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0209	; popDist[2] =	0.0312	; popDist[3] =	0.0563	; popDist[4] =	0.0973	; popDist[5] = 	0.1327	; popDist[6] =	0.1551	; popDist[7] =	0.1746	; popDist[8] = 	0.1782	; popDist[9] = 	0.2099	; popDist[10] = 	0.2161	; popDist[11] = 	0.2238	; popDist[12] = 	0.2596	; popDist[13] = 	0.2677	; popDist[14] = 	0.2843	; popDist[15] = 	0.3572	; popDist[16] = 	0.3799	; popDist[17] = 	0.4346	; popDist[18] = 	0.4379	; popDist[19] = 	0.4413	; popDist[20] = 	0.4797	; popDist[21] = 	0.5209	; popDist[22] = 	0.5214	; popDist[23] = 	0.5217	; popDist[24] = 	0.5258	; popDist[25] = 	0.5338	; popDist[26] = 	0.5667	; popDist[27] = 	0.5684	; popDist[28] = 	0.6154	; popDist[29] = 	0.6761	; popDist[30] = 	0.7012	; popDist[31] = 	0.7019	; popDist[32] = 	0.7027	; popDist[33] = 	0.7122	; popDist[34] = 	0.7141	; popDist[35] = 	0.7148	; popDist[36] = 	0.7157	; popDist[37] = 	0.7193	; popDist[38] = 	0.7200	; popDist[39] = 	0.7550	; popDist[40] = 	0.8083	; popDist[41] = 	0.8428	; popDist[42] = 	0.8587	; popDist[43] =	0.8650	; popDist[44] =	0.8661	; popDist[45] =	0.8743	; popDist[46] =	0.8809	; popDist[47] =	0.8816	; popDist[48] =	0.8823	; popDist[49] =	0.8842	; popDist[50] =	0.8893	; popDist[51] =	0.8931	; popDist[52] =	0.8991	; popDist[53] =	0.8995	; popDist[54] =	0.9548	; popDist[55] =	0.9719	; popDist[56] =	0.9889	; popDist[57] =	0.9991	; popDist[58] =	0.9998	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0126	; popDist[2] =	0.0188	; popDist[3] =	0.0338	; popDist[4] =	0.0663	; popDist[5] = 	0.0930	; popDist[6] =	0.1067	; popDist[7] =	0.1266	; popDist[8] = 	0.1311	; popDist[9] = 	0.1641	; popDist[10] = 	0.1725	; popDist[11] = 	0.1824	; popDist[12] = 	0.2254	; popDist[13] = 	0.2329	; popDist[14] = 	0.2516	; popDist[15] = 	0.3057	; popDist[16] = 	0.3245	; popDist[17] = 	0.3726	; popDist[18] = 	0.3767	; popDist[19] = 	0.3805	; popDist[20] = 	0.4190	; popDist[21] = 	0.4689	; popDist[22] = 	0.4695	; popDist[23] = 	0.4698	; popDist[24] = 	0.4734	; popDist[25] = 	0.4788	; popDist[26] = 	0.5143	; popDist[27] = 	0.5161	; popDist[28] = 	0.5464	; popDist[29] = 	0.6257	; popDist[30] = 	0.6609	; popDist[31] = 	0.6619	; popDist[32] = 	0.6629	; popDist[33] = 	0.6711	; popDist[34] = 	0.6734	; popDist[35] = 	0.6742	; popDist[36] = 	0.6756	; popDist[37] = 	0.6799	; popDist[38] = 	0.6811	; popDist[39] = 	0.7112	; popDist[40] = 	0.7476	; popDist[41] = 	0.7719	; popDist[42] = 	0.7882	; popDist[43] =	0.7960	; popDist[44] =	0.7978	; popDist[45] =	0.8107	; popDist[46] =	0.8206	; popDist[47] =	0.8216	; popDist[48] =	0.8224	; popDist[49] =	0.8254	; popDist[50] =	0.8346	; popDist[51] =	0.8404	; popDist[52] =	0.8506	; popDist[53] =	0.8513	; popDist[54] =	0.9316	; popDist[55] =	0.9691	; popDist[56] =	0.9857	; popDist[57] =	0.9987	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0070	; popDist[2] =	0.0115	; popDist[3] =	0.0212	; popDist[4] =	0.0445	; popDist[5] = 	0.0632	; popDist[6] =	0.0719	; popDist[7] =	0.0890	; popDist[8] = 	0.0951	; popDist[9] = 	0.1237	; popDist[10] = 	0.1348	; popDist[11] = 	0.1454	; popDist[12] = 	0.1926	; popDist[13] = 	0.1990	; popDist[14] = 	0.2233	; popDist[15] = 	0.2699	; popDist[16] = 	0.2830	; popDist[17] = 	0.3230	; popDist[18] = 	0.3297	; popDist[19] = 	0.3336	; popDist[20] = 	0.3673	; popDist[21] = 	0.4096	; popDist[22] = 	0.4103	; popDist[23] = 	0.4107	; popDist[24] = 	0.4144	; popDist[25] = 	0.4194	; popDist[26] = 	0.4551	; popDist[27] = 	0.4571	; popDist[28] = 	0.4788	; popDist[29] = 	0.5592	; popDist[30] = 	0.6108	; popDist[31] = 	0.6121	; popDist[32] = 	0.6136	; popDist[33] = 	0.6215	; popDist[34] = 	0.6246	; popDist[35] = 	0.6259	; popDist[36] = 	0.6284	; popDist[37] = 	0.6351	; popDist[38] = 	0.6373	; popDist[39] = 	0.6627	; popDist[40] = 	0.6890	; popDist[41] = 	0.7073	; popDist[42] = 	0.7220	; popDist[43] =	0.7305	; popDist[44] =	0.7326	; popDist[45] =	0.7478	; popDist[46] =	0.7580	; popDist[47] =	0.7593	; popDist[48] =	0.7606	; popDist[49] =	0.7643	; popDist[50] =	0.7771	; popDist[51] =	0.7849	; popDist[52] =	0.7992	; popDist[53] =	0.8004	; popDist[54] =	0.8978	; popDist[55] =	0.9618	; popDist[56] =	0.9792	; popDist[57] =	0.9975	; popDist[58] =	0.9991	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0041	; popDist[2] =	0.0062	; popDist[3] =	0.0117	; popDist[4] =	0.0223	; popDist[5] = 	0.0325	; popDist[6] =	0.0368	; popDist[7] =	0.0472	; popDist[8] = 	0.0550	; popDist[9] = 	0.0741	; popDist[10] = 	0.0856	; popDist[11] = 	0.0960	; popDist[12] = 	0.1471	; popDist[13] = 	0.1516	; popDist[14] = 	0.1910	; popDist[15] = 	0.2274	; popDist[16] = 	0.2348	; popDist[17] = 	0.2634	; popDist[18] = 	0.2752	; popDist[19] = 	0.2790	; popDist[20] = 	0.3092	; popDist[21] = 	0.3393	; popDist[22] = 	0.3402	; popDist[23] = 	0.3406	; popDist[24] = 	0.3443	; popDist[25] = 	0.3486	; popDist[26] = 	0.3828	; popDist[27] = 	0.3853	; popDist[28] = 	0.4008	; popDist[29] = 	0.4674	; popDist[30] = 	0.5368	; popDist[31] = 	0.5423	; popDist[32] = 	0.5464	; popDist[33] = 	0.5548	; popDist[34] = 	0.5610	; popDist[35] = 	0.5650	; popDist[36] = 	0.5715	; popDist[37] = 	0.5904	; popDist[38] = 	0.5971	; popDist[39] = 	0.6261	; popDist[40] = 	0.6451	; popDist[41] = 	0.6601	; popDist[42] = 	0.6707	; popDist[43] =	0.6783	; popDist[44] =	0.6802	; popDist[45] =	0.6935	; popDist[46] =	0.7024	; popDist[47] =	0.7037	; popDist[48] =	0.7054	; popDist[49] =	0.7101	; popDist[50] =	0.7269	; popDist[51] =	0.7343	; popDist[52] =	0.7512	; popDist[53] =	0.7532	; popDist[54] =	0.8533	; popDist[55] =	0.9498	; popDist[56] =	0.9700	; popDist[57] =	0.9955	; popDist[58] =	0.9983	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0450	; popDist[2] =	0.0721	; popDist[3] =	0.0965	; popDist[4] =	0.1460	; popDist[5] = 	0.1978	; popDist[6] =	0.2392	; popDist[7] =	0.2810	; popDist[8] = 	0.2883	; popDist[9] = 	0.3300	; popDist[10] = 	0.3367	; popDist[11] = 	0.3479	; popDist[12] = 	0.3563	; popDist[13] = 	0.3966	; popDist[14] = 	0.4027	; popDist[15] = 	0.4170	; popDist[16] = 	0.4671	; popDist[17] = 	0.5026	; popDist[18] = 	0.5075	; popDist[19] = 	0.5372	; popDist[20] = 	0.5416	; popDist[21] = 	0.5455	; popDist[22] = 	0.5488	; popDist[23] = 	0.5543	; popDist[24] = 	0.5686	; popDist[25] = 	0.5760	; popDist[26] = 	0.5854	; popDist[27] = 	0.5886	; popDist[28] = 	0.5977	; popDist[29] = 	0.6013	; popDist[30] = 	0.6050	; popDist[31] = 	0.6057	; popDist[32] = 	0.6071	; popDist[33] = 	0.6331	; popDist[34] = 	0.6374	; popDist[35] = 	0.6384	; popDist[36] = 	0.6397	; popDist[37] = 	0.6449	; popDist[38] = 	0.6462	; popDist[39] = 	0.6827	; popDist[40] = 	0.6917	; popDist[41] = 	0.7316	; popDist[42] = 	0.8098	; popDist[43] =	0.8329	; popDist[44] =	0.8464	; popDist[45] =	0.8816	; popDist[46] =	0.9178	; popDist[47] =	0.9297	; popDist[48] =	0.9323	; popDist[49] =	0.9415	; popDist[50] =	0.9465	; popDist[51] =	0.9621	; popDist[52] =	0.9685	; popDist[53] =	0.9698	; popDist[54] =	0.9790	; popDist[55] =	0.9819	; popDist[56] =	0.9887	; popDist[57] =	0.9967	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0273	; popDist[2] =	0.0437	; popDist[3] =	0.0584	; popDist[4] =	0.0980	; popDist[5] = 	0.1374	; popDist[6] =	0.1628	; popDist[7] =	0.2058	; popDist[8] = 	0.2151	; popDist[9] = 	0.2589	; popDist[10] = 	0.2680	; popDist[11] = 	0.2825	; popDist[12] = 	0.2927	; popDist[13] = 	0.3300	; popDist[14] = 	0.3368	; popDist[15] = 	0.3475	; popDist[16] = 	0.3893	; popDist[17] = 	0.4208	; popDist[18] = 	0.4268	; popDist[19] = 	0.4616	; popDist[20] = 	0.4660	; popDist[21] = 	0.4708	; popDist[22] = 	0.4750	; popDist[23] = 	0.4801	; popDist[24] = 	0.4931	; popDist[25] = 	0.4980	; popDist[26] = 	0.5083	; popDist[27] = 	0.5117	; popDist[28] = 	0.5176	; popDist[29] = 	0.5224	; popDist[30] = 	0.5275	; popDist[31] = 	0.5286	; popDist[32] = 	0.5304	; popDist[33] = 	0.5529	; popDist[34] = 	0.5581	; popDist[35] = 	0.5593	; popDist[36] = 	0.5614	; popDist[37] = 	0.5677	; popDist[38] = 	0.5697	; popDist[39] = 	0.6014	; popDist[40] = 	0.6076	; popDist[41] = 	0.6360	; popDist[42] = 	0.7169	; popDist[43] =	0.7455	; popDist[44] =	0.7668	; popDist[45] =	0.8229	; popDist[46] =	0.8774	; popDist[47] =	0.8946	; popDist[48] =	0.8982	; popDist[49] =	0.9120	; popDist[50] =	0.9213	; popDist[51] =	0.9447	; popDist[52] =	0.9558	; popDist[53] =	0.9582	; popDist[54] =	0.9717	; popDist[55] =	0.9781	; popDist[56] =	0.9847	; popDist[57] =	0.9951	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0155	; popDist[2] =	0.0279	; popDist[3] =	0.0376	; popDist[4] =	0.0666	; popDist[5] = 	0.0949	; popDist[6] =	0.1114	; popDist[7] =	0.1491	; popDist[8] = 	0.1622	; popDist[9] = 	0.2010	; popDist[10] = 	0.2133	; popDist[11] = 	0.2292	; popDist[12] = 	0.2406	; popDist[13] = 	0.2733	; popDist[14] = 	0.2824	; popDist[15] = 	0.2919	; popDist[16] = 	0.3216	; popDist[17] = 	0.3485	; popDist[18] = 	0.3585	; popDist[19] = 	0.3946	; popDist[20] = 	0.3986	; popDist[21] = 	0.4028	; popDist[22] = 	0.4085	; popDist[23] = 	0.4147	; popDist[24] = 	0.4282	; popDist[25] = 	0.4329	; popDist[26] = 	0.4435	; popDist[27] = 	0.4475	; popDist[28] = 	0.4519	; popDist[29] = 	0.4568	; popDist[30] = 	0.4645	; popDist[31] = 	0.4659	; popDist[32] = 	0.4688	; popDist[33] = 	0.4910	; popDist[34] = 	0.4982	; popDist[35] = 	0.5000	; popDist[36] = 	0.5040	; popDist[37] = 	0.5140	; popDist[38] = 	0.5178	; popDist[39] = 	0.5452	; popDist[40] = 	0.5498	; popDist[41] = 	0.5717	; popDist[42] = 	0.6464	; popDist[43] =	0.6784	; popDist[44] =	0.7038	; popDist[45] =	0.7712	; popDist[46] =	0.8291	; popDist[47] =	0.8513	; popDist[48] =	0.8566	; popDist[49] =	0.8743	; popDist[50] =	0.8875	; popDist[51] =	0.9201	; popDist[52] =	0.9360	; popDist[53] =	0.9404	; popDist[54] =	0.9572	; popDist[55] =	0.9683	; popDist[56] =	0.9754	; popDist[57] =	0.9903	; popDist[58] =	0.9957	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0096	; popDist[2] =	0.0156	; popDist[3] =	0.0215	; popDist[4] =	0.0353	; popDist[5] = 	0.0516	; popDist[6] =	0.0604	; popDist[7] =	0.0844	; popDist[8] = 	0.1020	; popDist[9] = 	0.1293	; popDist[10] = 	0.1429	; popDist[11] = 	0.1592	; popDist[12] = 	0.1722	; popDist[13] = 	0.1964	; popDist[14] = 	0.2120	; popDist[15] = 	0.2198	; popDist[16] = 	0.2376	; popDist[17] = 	0.2579	; popDist[18] = 	0.2766	; popDist[19] = 	0.3129	; popDist[20] = 	0.3166	; popDist[21] = 	0.3198	; popDist[22] = 	0.3275	; popDist[23] = 	0.3340	; popDist[24] = 	0.3484	; popDist[25] = 	0.3526	; popDist[26] = 	0.3633	; popDist[27] = 	0.3687	; popDist[28] = 	0.3719	; popDist[29] = 	0.3762	; popDist[30] = 	0.3872	; popDist[31] = 	0.3933	; popDist[32] = 	0.4019	; popDist[33] = 	0.4266	; popDist[34] = 	0.4417	; popDist[35] = 	0.4478	; popDist[36] = 	0.4588	; popDist[37] = 	0.4887	; popDist[38] = 	0.5007	; popDist[39] = 	0.5336	; popDist[40] = 	0.5371	; popDist[41] = 	0.5560	; popDist[42] = 	0.6128	; popDist[43] =	0.6431	; popDist[44] =	0.6665	; popDist[45] =	0.7289	; popDist[46] =	0.7822	; popDist[47] =	0.8057	; popDist[48] =	0.8134	; popDist[49] =	0.8368	; popDist[50] =	0.8551	; popDist[51] =	0.8875	; popDist[52] =	0.9073	; popDist[53] =	0.9151	; popDist[54] =	0.9332	; popDist[55] =	0.9509	; popDist[56] =	0.9596	; popDist[57] =	0.9815	; popDist[58] =	0.9913	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0099	; popDist[2] =	0.0151	; popDist[3] =	0.0213	; popDist[4] =	0.0384	; popDist[5] = 	0.0558	; popDist[6] =	0.0679	; popDist[7] =	0.0916	; popDist[8] = 	0.0968	; popDist[9] = 	0.1142	; popDist[10] = 	0.1180	; popDist[11] = 	0.1270	; popDist[12] = 	0.1340	; popDist[13] = 	0.1573	; popDist[14] = 	0.1651	; popDist[15] = 	0.1738	; popDist[16] = 	0.1914	; popDist[17] = 	0.2128	; popDist[18] = 	0.2175	; popDist[19] = 	0.2505	; popDist[20] = 	0.2559	; popDist[21] = 	0.2603	; popDist[22] = 	0.2735	; popDist[23] = 	0.3124	; popDist[24] = 	0.3582	; popDist[25] = 	0.3726	; popDist[26] = 	0.3930	; popDist[27] = 	0.4111	; popDist[28] = 	0.4164	; popDist[29] = 	0.4229	; popDist[30] = 	0.4298	; popDist[31] = 	0.4352	; popDist[32] = 	0.4446	; popDist[33] = 	0.5360	; popDist[34] = 	0.5422	; popDist[35] = 	0.5474	; popDist[36] = 	0.5533	; popDist[37] = 	0.5600	; popDist[38] = 	0.5639	; popDist[39] = 	0.5883	; popDist[40] = 	0.5953	; popDist[41] = 	0.6100	; popDist[42] = 	0.6360	; popDist[43] =	0.6798	; popDist[44] =	0.7085	; popDist[45] =	0.7388	; popDist[46] =	0.7991	; popDist[47] =	0.8100	; popDist[48] =	0.8226	; popDist[49] =	0.8748	; popDist[50] =	0.8957	; popDist[51] =	0.9235	; popDist[52] =	0.9413	; popDist[53] =	0.9508	; popDist[54] =	0.9679	; popDist[55] =	0.9774	; popDist[56] =	0.9824	; popDist[57] =	0.9920	; popDist[58] =	0.9981	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0051	; popDist[2] =	0.0078	; popDist[3] =	0.0110	; popDist[4] =	0.0227	; popDist[5] = 	0.0340	; popDist[6] =	0.0404	; popDist[7] =	0.0613	; popDist[8] = 	0.0670	; popDist[9] = 	0.0826	; popDist[10] = 	0.0870	; popDist[11] = 	0.0969	; popDist[12] = 	0.1042	; popDist[13] = 	0.1226	; popDist[14] = 	0.1303	; popDist[15] = 	0.1358	; popDist[16] = 	0.1484	; popDist[17] = 	0.1646	; popDist[18] = 	0.1696	; popDist[19] = 	0.2026	; popDist[20] = 	0.2073	; popDist[21] = 	0.2119	; popDist[22] = 	0.2264	; popDist[23] = 	0.2574	; popDist[24] = 	0.2929	; popDist[25] = 	0.3012	; popDist[26] = 	0.3202	; popDist[27] = 	0.3365	; popDist[28] = 	0.3395	; popDist[29] = 	0.3468	; popDist[30] = 	0.3552	; popDist[31] = 	0.3620	; popDist[32] = 	0.3722	; popDist[33] = 	0.4399	; popDist[34] = 	0.4464	; popDist[35] = 	0.4518	; popDist[36] = 	0.4597	; popDist[37] = 	0.4666	; popDist[38] = 	0.4718	; popDist[39] = 	0.4899	; popDist[40] = 	0.4940	; popDist[41] = 	0.5030	; popDist[42] = 	0.5260	; popDist[43] =	0.5726	; popDist[44] =	0.6112	; popDist[45] =	0.6525	; popDist[46] =	0.7302	; popDist[47] =	0.7436	; popDist[48] =	0.7583	; popDist[49] =	0.8259	; popDist[50] =	0.8589	; popDist[51] =	0.8948	; popDist[52] =	0.9210	; popDist[53] =	0.9360	; popDist[54] =	0.9575	; popDist[55] =	0.9753	; popDist[56] =	0.9795	; popDist[57] =	0.9901	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0025	; popDist[2] =	0.0042	; popDist[3] =	0.0060	; popDist[4] =	0.0134	; popDist[5] = 	0.0203	; popDist[6] =	0.0239	; popDist[7] =	0.0395	; popDist[8] = 	0.0464	; popDist[9] = 	0.0583	; popDist[10] = 	0.0634	; popDist[11] = 	0.0727	; popDist[12] = 	0.0797	; popDist[13] = 	0.0935	; popDist[14] = 	0.1022	; popDist[15] = 	0.1064	; popDist[16] = 	0.1141	; popDist[17] = 	0.1259	; popDist[18] = 	0.1330	; popDist[19] = 	0.1624	; popDist[20] = 	0.1660	; popDist[21] = 	0.1694	; popDist[22] = 	0.1862	; popDist[23] = 	0.2186	; popDist[24] = 	0.2503	; popDist[25] = 	0.2571	; popDist[26] = 	0.2738	; popDist[27] = 	0.2904	; popDist[28] = 	0.2922	; popDist[29] = 	0.2987	; popDist[30] = 	0.3095	; popDist[31] = 	0.3168	; popDist[32] = 	0.3313	; popDist[33] = 	0.3884	; popDist[34] = 	0.3960	; popDist[35] = 	0.4032	; popDist[36] = 	0.4160	; popDist[37] = 	0.4253	; popDist[38] = 	0.4341	; popDist[39] = 	0.4475	; popDist[40] = 	0.4501	; popDist[41] = 	0.4560	; popDist[42] = 	0.4742	; popDist[43] =	0.5188	; popDist[44] =	0.5582	; popDist[45] =	0.6007	; popDist[46] =	0.6713	; popDist[47] =	0.6861	; popDist[48] =	0.7050	; popDist[49] =	0.7792	; popDist[50] =	0.8192	; popDist[51] =	0.8619	; popDist[52] =	0.8941	; popDist[53] =	0.9172	; popDist[54] =	0.9400	; popDist[55] =	0.9667	; popDist[56] =	0.9705	; popDist[57] =	0.9836	; popDist[58] =	0.9945	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0012	; popDist[2] =	0.0019	; popDist[3] =	0.0028	; popDist[4] =	0.0056	; popDist[5] = 	0.0088	; popDist[6] =	0.0103	; popDist[7] =	0.0184	; popDist[8] = 	0.0258	; popDist[9] = 	0.0325	; popDist[10] = 	0.0371	; popDist[11] = 	0.0448	; popDist[12] = 	0.0512	; popDist[13] = 	0.0594	; popDist[14] = 	0.0714	; popDist[15] = 	0.0742	; popDist[16] = 	0.0779	; popDist[17] = 	0.0850	; popDist[18] = 	0.0958	; popDist[19] = 	0.1195	; popDist[20] = 	0.1223	; popDist[21] = 	0.1243	; popDist[22] = 	0.1425	; popDist[23] = 	0.1700	; popDist[24] = 	0.1971	; popDist[25] = 	0.2020	; popDist[26] = 	0.2156	; popDist[27] = 	0.2334	; popDist[28] = 	0.2345	; popDist[29] = 	0.2391	; popDist[30] = 	0.2515	; popDist[31] = 	0.2778	; popDist[32] = 	0.3111	; popDist[33] = 	0.3623	; popDist[34] = 	0.3752	; popDist[35] = 	0.3949	; popDist[36] = 	0.4229	; popDist[37] = 	0.4455	; popDist[38] = 	0.4675	; popDist[39] = 	0.4804	; popDist[40] = 	0.4820	; popDist[41] = 	0.4861	; popDist[42] = 	0.4972	; popDist[43] =	0.5313	; popDist[44] =	0.5604	; popDist[45] =	0.5921	; popDist[46] =	0.6444	; popDist[47] =	0.6570	; popDist[48] =	0.6791	; popDist[49] =	0.7581	; popDist[50] =	0.8027	; popDist[51] =	0.8369	; popDist[52] =	0.8692	; popDist[53] =	0.9019	; popDist[54] =	0.9218	; popDist[55] =	0.9559	; popDist[56] =	0.9597	; popDist[57] =	0.9752	; popDist[58] =	0.9912	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0007	; popDist[2] =	0.0011	; popDist[3] =	0.0015	; popDist[4] =	0.0027	; popDist[5] = 	0.0038	; popDist[6] =	0.0090	; popDist[7] =	0.0186	; popDist[8] = 	0.0314	; popDist[9] = 	0.0350	; popDist[10] = 	0.0502	; popDist[11] = 	0.0668	; popDist[12] = 	0.0726	; popDist[13] = 	0.1172	; popDist[14] = 	0.1343	; popDist[15] = 	0.1354	; popDist[16] = 	0.1375	; popDist[17] = 	0.1422	; popDist[18] = 	0.1661	; popDist[19] = 	0.1823	; popDist[20] = 	0.1863	; popDist[21] = 	0.1894	; popDist[22] = 	0.2199	; popDist[23] = 	0.2701	; popDist[24] = 	0.3204	; popDist[25] = 	0.3478	; popDist[26] = 	0.3708	; popDist[27] = 	0.4098	; popDist[28] = 	0.4101	; popDist[29] = 	0.4112	; popDist[30] = 	0.4277	; popDist[31] = 	0.4347	; popDist[32] = 	0.4618	; popDist[33] = 	0.4962	; popDist[34] = 	0.5264	; popDist[35] = 	0.5392	; popDist[36] = 	0.5671	; popDist[37] = 	0.6116	; popDist[38] = 	0.6525	; popDist[39] = 	0.6651	; popDist[40] = 	0.6667	; popDist[41] = 	0.6725	; popDist[42] = 	0.6877	; popDist[43] =	0.7385	; popDist[44] =	0.7549	; popDist[45] =	0.7654	; popDist[46] =	0.7739	; popDist[47] =	0.8099	; popDist[48] =	0.8312	; popDist[49] =	0.8613	; popDist[50] =	0.8751	; popDist[51] =	0.8901	; popDist[52] =	0.9021	; popDist[53] =	0.9136	; popDist[54] =	0.9153	; popDist[55] =	0.9210	; popDist[56] =	0.9359	; popDist[57] =	0.9600	; popDist[58] =	0.9805	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0005	; popDist[3] =	0.0007	; popDist[4] =	0.0015	; popDist[5] = 	0.0022	; popDist[6] =	0.0048	; popDist[7] =	0.0129	; popDist[8] = 	0.0260	; popDist[9] = 	0.0291	; popDist[10] = 	0.0460	; popDist[11] = 	0.0636	; popDist[12] = 	0.0692	; popDist[13] = 	0.1029	; popDist[14] = 	0.1187	; popDist[15] = 	0.1193	; popDist[16] = 	0.1207	; popDist[17] = 	0.1241	; popDist[18] = 	0.1482	; popDist[19] = 	0.1636	; popDist[20] = 	0.1669	; popDist[21] = 	0.1700	; popDist[22] = 	0.2019	; popDist[23] = 	0.2400	; popDist[24] = 	0.2771	; popDist[25] = 	0.2921	; popDist[26] = 	0.3125	; popDist[27] = 	0.3460	; popDist[28] = 	0.3462	; popDist[29] = 	0.3473	; popDist[30] = 	0.3663	; popDist[31] = 	0.3747	; popDist[32] = 	0.4029	; popDist[33] = 	0.4272	; popDist[34] = 	0.4568	; popDist[35] = 	0.4696	; popDist[36] = 	0.5049	; popDist[37] = 	0.5491	; popDist[38] = 	0.6008	; popDist[39] = 	0.6097	; popDist[40] = 	0.6106	; popDist[41] = 	0.6140	; popDist[42] = 	0.6268	; popDist[43] =	0.6781	; popDist[44] =	0.6991	; popDist[45] =	0.7127	; popDist[46] =	0.7232	; popDist[47] =	0.7653	; popDist[48] =	0.7889	; popDist[49] =	0.8261	; popDist[50] =	0.8466	; popDist[51] =	0.8650	; popDist[52] =	0.8819	; popDist[53] =	0.8994	; popDist[54] =	0.9013	; popDist[55] =	0.9116	; popDist[56] =	0.9235	; popDist[57] =	0.9488	; popDist[58] =	0.9710	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0003	; popDist[4] =	0.0008	; popDist[5] = 	0.0011	; popDist[6] =	0.0024	; popDist[7] =	0.0076	; popDist[8] = 	0.0212	; popDist[9] = 	0.0232	; popDist[10] = 	0.0400	; popDist[11] = 	0.0541	; popDist[12] = 	0.0587	; popDist[13] = 	0.0804	; popDist[14] = 	0.0957	; popDist[15] = 	0.0962	; popDist[16] = 	0.0969	; popDist[17] = 	0.0990	; popDist[18] = 	0.1283	; popDist[19] = 	0.1401	; popDist[20] = 	0.1422	; popDist[21] = 	0.1442	; popDist[22] = 	0.1759	; popDist[23] = 	0.2100	; popDist[24] = 	0.2384	; popDist[25] = 	0.2489	; popDist[26] = 	0.2642	; popDist[27] = 	0.2934	; popDist[28] = 	0.2935	; popDist[29] = 	0.2943	; popDist[30] = 	0.3153	; popDist[31] = 	0.3230	; popDist[32] = 	0.3573	; popDist[33] = 	0.3748	; popDist[34] = 	0.4049	; popDist[35] = 	0.4194	; popDist[36] = 	0.4686	; popDist[37] = 	0.5197	; popDist[38] = 	0.5942	; popDist[39] = 	0.5998	; popDist[40] = 	0.6003	; popDist[41] = 	0.6022	; popDist[42] = 	0.6109	; popDist[43] =	0.6531	; popDist[44] =	0.6714	; popDist[45] =	0.6834	; popDist[46] =	0.6916	; popDist[47] =	0.7314	; popDist[48] =	0.7574	; popDist[49] =	0.7924	; popDist[50] =	0.8138	; popDist[51] =	0.8326	; popDist[52] =	0.8503	; popDist[53] =	0.8733	; popDist[54] =	0.8751	; popDist[55] =	0.8883	; popDist[56] =	0.8977	; popDist[57] =	0.9244	; popDist[58] =	0.9546	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0004	; popDist[6] =	0.0007	; popDist[7] =	0.0027	; popDist[8] = 	0.0134	; popDist[9] = 	0.0142	; popDist[10] = 	0.0250	; popDist[11] = 	0.0335	; popDist[12] = 	0.0366	; popDist[13] = 	0.0459	; popDist[14] = 	0.0613	; popDist[15] = 	0.0615	; popDist[16] = 	0.0618	; popDist[17] = 	0.0627	; popDist[18] = 	0.0947	; popDist[19] = 	0.1016	; popDist[20] = 	0.1028	; popDist[21] = 	0.1037	; popDist[22] = 	0.1286	; popDist[23] = 	0.1496	; popDist[24] = 	0.1672	; popDist[25] = 	0.1727	; popDist[26] = 	0.1818	; popDist[27] = 	0.2046	; popDist[28] = 	0.2046	; popDist[29] = 	0.2050	; popDist[30] = 	0.2224	; popDist[31] = 	0.2425	; popDist[32] = 	0.2998	; popDist[33] = 	0.3112	; popDist[34] = 	0.3479	; popDist[35] = 	0.3768	; popDist[36] = 	0.4550	; popDist[37] = 	0.5446	; popDist[38] = 	0.6800	; popDist[39] = 	0.6840	; popDist[40] = 	0.6842	; popDist[41] = 	0.6851	; popDist[42] = 	0.6890	; popDist[43] =	0.7124	; popDist[44] =	0.7222	; popDist[45] =	0.7287	; popDist[46] =	0.7331	; popDist[47] =	0.7576	; popDist[48] =	0.7797	; popDist[49] =	0.8068	; popDist[50] =	0.8241	; popDist[51] =	0.8350	; popDist[52] =	0.8479	; popDist[53] =	0.8716	; popDist[54] =	0.8727	; popDist[55] =	0.8850	; popDist[56] =	0.8917	; popDist[57] =	0.9146	; popDist[58] =	0.9467	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0173	; popDist[2] =	0.0263	; popDist[3] =	0.0495	; popDist[4] =	0.0900	; popDist[5] = 	0.1237	; popDist[6] =	0.1403	; popDist[7] =	0.1614	; popDist[8] = 	0.1655	; popDist[9] = 	0.1978	; popDist[10] = 	0.2053	; popDist[11] = 	0.2149	; popDist[12] = 	0.2536	; popDist[13] = 	0.2615	; popDist[14] = 	0.2843	; popDist[15] = 	0.3519	; popDist[16] = 	0.3728	; popDist[17] = 	0.4215	; popDist[18] = 	0.4283	; popDist[19] = 	0.4321	; popDist[20] = 	0.4754	; popDist[21] = 	0.5124	; popDist[22] = 	0.5131	; popDist[23] = 	0.5135	; popDist[24] = 	0.5171	; popDist[25] = 	0.5246	; popDist[26] = 	0.5561	; popDist[27] = 	0.5578	; popDist[28] = 	0.5973	; popDist[29] = 	0.6540	; popDist[30] = 	0.6803	; popDist[31] = 	0.6810	; popDist[32] = 	0.6822	; popDist[33] = 	0.6932	; popDist[34] = 	0.6979	; popDist[35] = 	0.6988	; popDist[36] = 	0.7005	; popDist[37] = 	0.7086	; popDist[38] = 	0.7106	; popDist[39] = 	0.7369	; popDist[40] = 	0.8005	; popDist[41] = 	0.8337	; popDist[42] = 	0.8495	; popDist[43] =	0.8580	; popDist[44] =	0.8596	; popDist[45] =	0.8688	; popDist[46] =	0.8763	; popDist[47] =	0.8773	; popDist[48] =	0.8783	; popDist[49] =	0.8809	; popDist[50] =	0.8869	; popDist[51] =	0.8913	; popDist[52] =	0.8980	; popDist[53] =	0.8985	; popDist[54] =	0.9522	; popDist[55] =	0.9706	; popDist[56] =	0.9879	; popDist[57] =	0.9989	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0102	; popDist[2] =	0.0155	; popDist[3] =	0.0291	; popDist[4] =	0.0607	; popDist[5] = 	0.0857	; popDist[6] =	0.0956	; popDist[7] =	0.1168	; popDist[8] = 	0.1218	; popDist[9] = 	0.1548	; popDist[10] = 	0.1649	; popDist[11] = 	0.1770	; popDist[12] = 	0.2226	; popDist[13] = 	0.2297	; popDist[14] = 	0.2550	; popDist[15] = 	0.3042	; popDist[16] = 	0.3212	; popDist[17] = 	0.3633	; popDist[18] = 	0.3714	; popDist[19] = 	0.3757	; popDist[20] = 	0.4183	; popDist[21] = 	0.4622	; popDist[22] = 	0.4631	; popDist[23] = 	0.4635	; popDist[24] = 	0.4666	; popDist[25] = 	0.4716	; popDist[26] = 	0.5049	; popDist[27] = 	0.5067	; popDist[28] = 	0.5317	; popDist[29] = 	0.6045	; popDist[30] = 	0.6407	; popDist[31] = 	0.6417	; popDist[32] = 	0.6432	; popDist[33] = 	0.6525	; popDist[34] = 	0.6579	; popDist[35] = 	0.6590	; popDist[36] = 	0.6616	; popDist[37] = 	0.6712	; popDist[38] = 	0.6742	; popDist[39] = 	0.6964	; popDist[40] = 	0.7391	; popDist[41] = 	0.7621	; popDist[42] = 	0.7780	; popDist[43] =	0.7883	; popDist[44] =	0.7908	; popDist[45] =	0.8050	; popDist[46] =	0.8161	; popDist[47] =	0.8174	; popDist[48] =	0.8188	; popDist[49] =	0.8227	; popDist[50] =	0.8333	; popDist[51] =	0.8399	; popDist[52] =	0.8510	; popDist[53] =	0.8518	; popDist[54] =	0.9284	; popDist[55] =	0.9681	; popDist[56] =	0.9847	; popDist[57] =	0.9985	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0055	; popDist[2] =	0.0093	; popDist[3] =	0.0179	; popDist[4] =	0.0400	; popDist[5] = 	0.0571	; popDist[6] =	0.0632	; popDist[7] =	0.0809	; popDist[8] = 	0.0876	; popDist[9] = 	0.1155	; popDist[10] = 	0.1285	; popDist[11] = 	0.1411	; popDist[12] = 	0.1900	; popDist[13] = 	0.1960	; popDist[14] = 	0.2279	; popDist[15] = 	0.2693	; popDist[16] = 	0.2808	; popDist[17] = 	0.3150	; popDist[18] = 	0.3279	; popDist[19] = 	0.3322	; popDist[20] = 	0.3686	; popDist[21] = 	0.4049	; popDist[22] = 	0.4060	; popDist[23] = 	0.4064	; popDist[24] = 	0.4096	; popDist[25] = 	0.4140	; popDist[26] = 	0.4467	; popDist[27] = 	0.4487	; popDist[28] = 	0.4662	; popDist[29] = 	0.5382	; popDist[30] = 	0.5900	; popDist[31] = 	0.5913	; popDist[32] = 	0.5936	; popDist[33] = 	0.6023	; popDist[34] = 	0.6094	; popDist[35] = 	0.6110	; popDist[36] = 	0.6159	; popDist[37] = 	0.6303	; popDist[38] = 	0.6359	; popDist[39] = 	0.6541	; popDist[40] = 	0.6842	; popDist[41] = 	0.7011	; popDist[42] = 	0.7151	; popDist[43] =	0.7260	; popDist[44] =	0.7289	; popDist[45] =	0.7452	; popDist[46] =	0.7564	; popDist[47] =	0.7580	; popDist[48] =	0.7600	; popDist[49] =	0.7647	; popDist[50] =	0.7791	; popDist[51] =	0.7878	; popDist[52] =	0.8031	; popDist[53] =	0.8045	; popDist[54] =	0.8951	; popDist[55] =	0.9613	; popDist[56] =	0.9782	; popDist[57] =	0.9971	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0031	; popDist[2] =	0.0048	; popDist[3] =	0.0094	; popDist[4] =	0.0189	; popDist[5] = 	0.0277	; popDist[6] =	0.0307	; popDist[7] =	0.0408	; popDist[8] = 	0.0490	; popDist[9] = 	0.0667	; popDist[10] = 	0.0795	; popDist[11] = 	0.0912	; popDist[12] = 	0.1414	; popDist[13] = 	0.1454	; popDist[14] = 	0.1946	; popDist[15] = 	0.2253	; popDist[16] = 	0.2315	; popDist[17] = 	0.2547	; popDist[18] = 	0.2765	; popDist[19] = 	0.2803	; popDist[20] = 	0.3113	; popDist[21] = 	0.3359	; popDist[22] = 	0.3372	; popDist[23] = 	0.3376	; popDist[24] = 	0.3406	; popDist[25] = 	0.3442	; popDist[26] = 	0.3740	; popDist[27] = 	0.3764	; popDist[28] = 	0.3882	; popDist[29] = 	0.4449	; popDist[30] = 	0.5110	; popDist[31] = 	0.5161	; popDist[32] = 	0.5220	; popDist[33] = 	0.5308	; popDist[34] = 	0.5443	; popDist[35] = 	0.5492	; popDist[36] = 	0.5611	; popDist[37] = 	0.6000	; popDist[38] = 	0.6156	; popDist[39] = 	0.6354	; popDist[40] = 	0.6561	; popDist[41] = 	0.6692	; popDist[42] = 	0.6788	; popDist[43] =	0.6881	; popDist[44] =	0.6905	; popDist[45] =	0.7041	; popDist[46] =	0.7134	; popDist[47] =	0.7149	; popDist[48] =	0.7175	; popDist[49] =	0.7231	; popDist[50] =	0.7411	; popDist[51] =	0.7489	; popDist[52] =	0.7660	; popDist[53] =	0.7683	; popDist[54] =	0.8568	; popDist[55] =	0.9514	; popDist[56] =	0.9701	; popDist[57] =	0.9951	; popDist[58] =	0.9981	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0360	; popDist[2] =	0.0589	; popDist[3] =	0.0807	; popDist[4] =	0.1280	; popDist[5] = 	0.1759	; popDist[6] =	0.2056	; popDist[7] =	0.2491	; popDist[8] = 	0.2574	; popDist[9] = 	0.2985	; popDist[10] = 	0.3063	; popDist[11] = 	0.3199	; popDist[12] = 	0.3286	; popDist[13] = 	0.3668	; popDist[14] = 	0.3749	; popDist[15] = 	0.3877	; popDist[16] = 	0.4324	; popDist[17] = 	0.4631	; popDist[18] = 	0.4726	; popDist[19] = 	0.5053	; popDist[20] = 	0.5101	; popDist[21] = 	0.5135	; popDist[22] = 	0.5184	; popDist[23] = 	0.5248	; popDist[24] = 	0.5370	; popDist[25] = 	0.5437	; popDist[26] = 	0.5524	; popDist[27] = 	0.5557	; popDist[28] = 	0.5631	; popDist[29] = 	0.5664	; popDist[30] = 	0.5701	; popDist[31] = 	0.5708	; popDist[32] = 	0.5730	; popDist[33] = 	0.6020	; popDist[34] = 	0.6120	; popDist[35] = 	0.6132	; popDist[36] = 	0.6159	; popDist[37] = 	0.6272	; popDist[38] = 	0.6303	; popDist[39] = 	0.6569	; popDist[40] = 	0.6674	; popDist[41] = 	0.7045	; popDist[42] = 	0.7799	; popDist[43] =	0.8098	; popDist[44] =	0.8286	; popDist[45] =	0.8667	; popDist[46] =	0.9070	; popDist[47] =	0.9218	; popDist[48] =	0.9259	; popDist[49] =	0.9377	; popDist[50] =	0.9435	; popDist[51] =	0.9609	; popDist[52] =	0.9678	; popDist[53] =	0.9695	; popDist[54] =	0.9782	; popDist[55] =	0.9812	; popDist[56] =	0.9878	; popDist[57] =	0.9962	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0211	; popDist[2] =	0.0343	; popDist[3] =	0.0470	; popDist[4] =	0.0835	; popDist[5] = 	0.1186	; popDist[6] =	0.1361	; popDist[7] =	0.1793	; popDist[8] = 	0.1893	; popDist[9] = 	0.2308	; popDist[10] = 	0.2412	; popDist[11] = 	0.2581	; popDist[12] = 	0.2683	; popDist[13] = 	0.3023	; popDist[14] = 	0.3111	; popDist[15] = 	0.3204	; popDist[16] = 	0.3562	; popDist[17] = 	0.3824	; popDist[18] = 	0.3938	; popDist[19] = 	0.4306	; popDist[20] = 	0.4352	; popDist[21] = 	0.4393	; popDist[22] = 	0.4453	; popDist[23] = 	0.4510	; popDist[24] = 	0.4617	; popDist[25] = 	0.4660	; popDist[26] = 	0.4752	; popDist[27] = 	0.4785	; popDist[28] = 	0.4832	; popDist[29] = 	0.4873	; popDist[30] = 	0.4923	; popDist[31] = 	0.4934	; popDist[32] = 	0.4960	; popDist[33] = 	0.5202	; popDist[34] = 	0.5318	; popDist[35] = 	0.5333	; popDist[36] = 	0.5372	; popDist[37] = 	0.5506	; popDist[38] = 	0.5553	; popDist[39] = 	0.5775	; popDist[40] = 	0.5844	; popDist[41] = 	0.6098	; popDist[42] = 	0.6849	; popDist[43] =	0.7207	; popDist[44] =	0.7491	; popDist[45] =	0.8077	; popDist[46] =	0.8662	; popDist[47] =	0.8866	; popDist[48] =	0.8920	; popDist[49] =	0.9093	; popDist[50] =	0.9194	; popDist[51] =	0.9448	; popDist[52] =	0.9562	; popDist[53] =	0.9592	; popDist[54] =	0.9714	; popDist[55] =	0.9778	; popDist[56] =	0.9841	; popDist[57] =	0.9946	; popDist[58] =	0.9977	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0115	; popDist[2] =	0.0211	; popDist[3] =	0.0292	; popDist[4] =	0.0549	; popDist[5] = 	0.0791	; popDist[6] =	0.0901	; popDist[7] =	0.1265	; popDist[8] = 	0.1400	; popDist[9] = 	0.1755	; popDist[10] = 	0.1889	; popDist[11] = 	0.2067	; popDist[12] = 	0.2177	; popDist[13] = 	0.2464	; popDist[14] = 	0.2576	; popDist[15] = 	0.2655	; popDist[16] = 	0.2900	; popDist[17] = 	0.3115	; popDist[18] = 	0.3296	; popDist[19] = 	0.3665	; popDist[20] = 	0.3705	; popDist[21] = 	0.3738	; popDist[22] = 	0.3816	; popDist[23] = 	0.3884	; popDist[24] = 	0.3991	; popDist[25] = 	0.4031	; popDist[26] = 	0.4121	; popDist[27] = 	0.4159	; popDist[28] = 	0.4192	; popDist[29] = 	0.4233	; popDist[30] = 	0.4306	; popDist[31] = 	0.4318	; popDist[32] = 	0.4361	; popDist[33] = 	0.4590	; popDist[34] = 	0.4744	; popDist[35] = 	0.4766	; popDist[36] = 	0.4839	; popDist[37] = 	0.5040	; popDist[38] = 	0.5129	; popDist[39] = 	0.5313	; popDist[40] = 	0.5362	; popDist[41] = 	0.5551	; popDist[42] = 	0.6218	; popDist[43] =	0.6603	; popDist[44] =	0.6928	; popDist[45] =	0.7605	; popDist[46] =	0.8202	; popDist[47] =	0.8456	; popDist[48] =	0.8534	; popDist[49] =	0.8746	; popDist[50] =	0.8885	; popDist[51] =	0.9224	; popDist[52] =	0.9382	; popDist[53] =	0.9434	; popDist[54] =	0.9580	; popDist[55] =	0.9687	; popDist[56] =	0.9752	; popDist[57] =	0.9897	; popDist[58] =	0.9953	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0066	; popDist[2] =	0.0110	; popDist[3] =	0.0155	; popDist[4] =	0.0268	; popDist[5] = 	0.0398	; popDist[6] =	0.0452	; popDist[7] =	0.0667	; popDist[8] = 	0.0837	; popDist[9] = 	0.1068	; popDist[10] = 	0.1206	; popDist[11] = 	0.1376	; popDist[12] = 	0.1493	; popDist[13] = 	0.1690	; popDist[14] = 	0.1868	; popDist[15] = 	0.1928	; popDist[16] = 	0.2065	; popDist[17] = 	0.2215	; popDist[18] = 	0.2530	; popDist[19] = 	0.2874	; popDist[20] = 	0.2909	; popDist[21] = 	0.2933	; popDist[22] = 	0.3030	; popDist[23] = 	0.3096	; popDist[24] = 	0.3202	; popDist[25] = 	0.3235	; popDist[26] = 	0.3320	; popDist[27] = 	0.3368	; popDist[28] = 	0.3390	; popDist[29] = 	0.3424	; popDist[30] = 	0.3519	; popDist[31] = 	0.3572	; popDist[32] = 	0.3685	; popDist[33] = 	0.3923	; popDist[34] = 	0.4222	; popDist[35] = 	0.4291	; popDist[36] = 	0.4475	; popDist[37] = 	0.5037	; popDist[38] = 	0.5293	; popDist[39] = 	0.5499	; popDist[40] = 	0.5534	; popDist[41] = 	0.5685	; popDist[42] = 	0.6156	; popDist[43] =	0.6495	; popDist[44] =	0.6773	; popDist[45] =	0.7354	; popDist[46] =	0.7865	; popDist[47] =	0.8115	; popDist[48] =	0.8220	; popDist[49] =	0.8481	; popDist[50] =	0.8660	; popDist[51] =	0.8973	; popDist[52] =	0.9155	; popDist[53] =	0.9241	; popDist[54] =	0.9388	; popDist[55] =	0.9546	; popDist[56] =	0.9620	; popDist[57] =	0.9817	; popDist[58] =	0.9912	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0072	; popDist[2] =	0.0111	; popDist[3] =	0.0161	; popDist[4] =	0.0308	; popDist[5] = 	0.0453	; popDist[6] =	0.0531	; popDist[7] =	0.0755	; popDist[8] = 	0.0808	; popDist[9] = 	0.0962	; popDist[10] = 	0.1003	; popDist[11] = 	0.1100	; popDist[12] = 	0.1167	; popDist[13] = 	0.1366	; popDist[14] = 	0.1460	; popDist[15] = 	0.1530	; popDist[16] = 	0.1671	; popDist[17] = 	0.1838	; popDist[18] = 	0.1922	; popDist[19] = 	0.2249	; popDist[20] = 	0.2303	; popDist[21] = 	0.2337	; popDist[22] = 	0.2512	; popDist[23] = 	0.2925	; popDist[24] = 	0.3279	; popDist[25] = 	0.3396	; popDist[26] = 	0.3567	; popDist[27] = 	0.3734	; popDist[28] = 	0.3773	; popDist[29] = 	0.3826	; popDist[30] = 	0.3889	; popDist[31] = 	0.3938	; popDist[32] = 	0.4068	; popDist[33] = 	0.4989	; popDist[34] = 	0.5119	; popDist[35] = 	0.5180	; popDist[36] = 	0.5284	; popDist[37] = 	0.5414	; popDist[38] = 	0.5503	; popDist[39] = 	0.5663	; popDist[40] = 	0.5736	; popDist[41] = 	0.5859	; popDist[42] = 	0.6085	; popDist[43] =	0.6600	; popDist[44] =	0.6957	; popDist[45] =	0.7253	; popDist[46] =	0.7859	; popDist[47] =	0.7980	; popDist[48] =	0.8161	; popDist[49] =	0.8770	; popDist[50] =	0.8985	; popDist[51] =	0.9267	; popDist[52] =	0.9439	; popDist[53] =	0.9548	; popDist[54] =	0.9694	; popDist[55] =	0.9782	; popDist[56] =	0.9827	; popDist[57] =	0.9918	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0036	; popDist[2] =	0.0056	; popDist[3] =	0.0081	; popDist[4] =	0.0179	; popDist[5] = 	0.0271	; popDist[6] =	0.0311	; popDist[7] =	0.0502	; popDist[8] = 	0.0558	; popDist[9] = 	0.0693	; popDist[10] = 	0.0739	; popDist[11] = 	0.0844	; popDist[12] = 	0.0911	; popDist[13] = 	0.1064	; popDist[14] = 	0.1153	; popDist[15] = 	0.1197	; popDist[16] = 	0.1295	; popDist[17] = 	0.1418	; popDist[18] = 	0.1504	; popDist[19] = 	0.1823	; popDist[20] = 	0.1868	; popDist[21] = 	0.1903	; popDist[22] = 	0.2090	; popDist[23] = 	0.2410	; popDist[24] = 	0.2677	; popDist[25] = 	0.2743	; popDist[26] = 	0.2898	; popDist[27] = 	0.3044	; popDist[28] = 	0.3065	; popDist[29] = 	0.3123	; popDist[30] = 	0.3198	; popDist[31] = 	0.3258	; popDist[32] = 	0.3396	; popDist[33] = 	0.4059	; popDist[34] = 	0.4190	; popDist[35] = 	0.4252	; popDist[36] = 	0.4386	; popDist[37] = 	0.4519	; popDist[38] = 	0.4634	; popDist[39] = 	0.4749	; popDist[40] = 	0.4791	; popDist[41] = 	0.4864	; popDist[42] = 	0.5059	; popDist[43] =	0.5590	; popDist[44] =	0.6058	; popDist[45] =	0.6452	; popDist[46] =	0.7210	; popDist[47] =	0.7356	; popDist[48] =	0.7561	; popDist[49] =	0.8329	; popDist[50] =	0.8657	; popDist[51] =	0.9011	; popDist[52] =	0.9257	; popDist[53] =	0.9427	; popDist[54] =	0.9604	; popDist[55] =	0.9767	; popDist[56] =	0.9803	; popDist[57] =	0.9901	; popDist[58] =	0.9969	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0017	; popDist[2] =	0.0029	; popDist[3] =	0.0043	; popDist[4] =	0.0103	; popDist[5] = 	0.0158	; popDist[6] =	0.0179	; popDist[7] =	0.0319	; popDist[8] = 	0.0384	; popDist[9] = 	0.0483	; popDist[10] = 	0.0535	; popDist[11] = 	0.0630	; popDist[12] = 	0.0693	; popDist[13] = 	0.0804	; popDist[14] = 	0.0902	; popDist[15] = 	0.0935	; popDist[16] = 	0.0993	; popDist[17] = 	0.1079	; popDist[18] = 	0.1199	; popDist[19] = 	0.1474	; popDist[20] = 	0.1508	; popDist[21] = 	0.1533	; popDist[22] = 	0.1743	; popDist[23] = 	0.2068	; popDist[24] = 	0.2299	; popDist[25] = 	0.2351	; popDist[26] = 	0.2483	; popDist[27] = 	0.2627	; popDist[28] = 	0.2640	; popDist[29] = 	0.2690	; popDist[30] = 	0.2783	; popDist[31] = 	0.2845	; popDist[32] = 	0.3035	; popDist[33] = 	0.3577	; popDist[34] = 	0.3727	; popDist[35] = 	0.3807	; popDist[36] = 	0.4019	; popDist[37] = 	0.4193	; popDist[38] = 	0.4379	; popDist[39] = 	0.4462	; popDist[40] = 	0.4488	; popDist[41] = 	0.4534	; popDist[42] = 	0.4684	; popDist[43] =	0.5178	; popDist[44] =	0.5640	; popDist[45] =	0.6033	; popDist[46] =	0.6702	; popDist[47] =	0.6858	; popDist[48] =	0.7113	; popDist[49] =	0.7931	; popDist[50] =	0.8318	; popDist[51] =	0.8726	; popDist[52] =	0.9020	; popDist[53] =	0.9272	; popDist[54] =	0.9454	; popDist[55] =	0.9691	; popDist[56] =	0.9724	; popDist[57] =	0.9841	; popDist[58] =	0.9945	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0013	; popDist[3] =	0.0019	; popDist[4] =	0.0040	; popDist[5] = 	0.0064	; popDist[6] =	0.0073	; popDist[7] =	0.0140	; popDist[8] = 	0.0207	; popDist[9] = 	0.0259	; popDist[10] = 	0.0303	; popDist[11] = 	0.0377	; popDist[12] = 	0.0431	; popDist[13] = 	0.0493	; popDist[14] = 	0.0620	; popDist[15] = 	0.0640	; popDist[16] = 	0.0666	; popDist[17] = 	0.0716	; popDist[18] = 	0.0885	; popDist[19] = 	0.1094	; popDist[20] = 	0.1118	; popDist[21] = 	0.1132	; popDist[22] = 	0.1346	; popDist[23] = 	0.1605	; popDist[24] = 	0.1791	; popDist[25] = 	0.1826	; popDist[26] = 	0.1927	; popDist[27] = 	0.2073	; popDist[28] = 	0.2080	; popDist[29] = 	0.2113	; popDist[30] = 	0.2214	; popDist[31] = 	0.2423	; popDist[32] = 	0.2834	; popDist[33] = 	0.3292	; popDist[34] = 	0.3529	; popDist[35] = 	0.3736	; popDist[36] = 	0.4171	; popDist[37] = 	0.4566	; popDist[38] = 	0.5005	; popDist[39] = 	0.5080	; popDist[40] = 	0.5095	; popDist[41] = 	0.5125	; popDist[42] = 	0.5211	; popDist[43] =	0.5566	; popDist[44] =	0.5887	; popDist[45] =	0.6162	; popDist[46] =	0.6628	; popDist[47] =	0.6753	; popDist[48] =	0.7034	; popDist[49] =	0.7853	; popDist[50] =	0.8259	; popDist[51] =	0.8565	; popDist[52] =	0.8842	; popDist[53] =	0.9178	; popDist[54] =	0.9328	; popDist[55] =	0.9613	; popDist[56] =	0.9643	; popDist[57] =	0.9773	; popDist[58] =	0.9917	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0012	; popDist[3] =	0.0016	; popDist[4] =	0.0029	; popDist[5] = 	0.0040	; popDist[6] =	0.0091	; popDist[7] =	0.0185	; popDist[8] = 	0.0317	; popDist[9] = 	0.0355	; popDist[10] = 	0.0545	; popDist[11] = 	0.0713	; popDist[12] = 	0.0779	; popDist[13] = 	0.1161	; popDist[14] = 	0.1301	; popDist[15] = 	0.1314	; popDist[16] = 	0.1334	; popDist[17] = 	0.1386	; popDist[18] = 	0.1584	; popDist[19] = 	0.1730	; popDist[20] = 	0.1770	; popDist[21] = 	0.1805	; popDist[22] = 	0.2117	; popDist[23] = 	0.2654	; popDist[24] = 	0.3151	; popDist[25] = 	0.3480	; popDist[26] = 	0.3744	; popDist[27] = 	0.4216	; popDist[28] = 	0.4220	; popDist[29] = 	0.4232	; popDist[30] = 	0.4441	; popDist[31] = 	0.4505	; popDist[32] = 	0.4711	; popDist[33] = 	0.5010	; popDist[34] = 	0.5265	; popDist[35] = 	0.5354	; popDist[36] = 	0.5554	; popDist[37] = 	0.5949	; popDist[38] = 	0.6254	; popDist[39] = 	0.6366	; popDist[40] = 	0.6383	; popDist[41] = 	0.6443	; popDist[42] = 	0.6597	; popDist[43] =	0.7023	; popDist[44] =	0.7170	; popDist[45] =	0.7272	; popDist[46] =	0.7352	; popDist[47] =	0.7731	; popDist[48] =	0.7953	; popDist[49] =	0.8305	; popDist[50] =	0.8459	; popDist[51] =	0.8621	; popDist[52] =	0.8761	; popDist[53] =	0.8909	; popDist[54] =	0.8930	; popDist[55] =	0.9002	; popDist[56] =	0.9179	; popDist[57] =	0.9479	; popDist[58] =	0.9740	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0008	; popDist[4] =	0.0016	; popDist[5] = 	0.0023	; popDist[6] =	0.0049	; popDist[7] =	0.0127	; popDist[8] = 	0.0263	; popDist[9] = 	0.0295	; popDist[10] = 	0.0505	; popDist[11] = 	0.0682	; popDist[12] = 	0.0747	; popDist[13] = 	0.1034	; popDist[14] = 	0.1162	; popDist[15] = 	0.1170	; popDist[16] = 	0.1183	; popDist[17] = 	0.1221	; popDist[18] = 	0.1419	; popDist[19] = 	0.1558	; popDist[20] = 	0.1591	; popDist[21] = 	0.1625	; popDist[22] = 	0.1951	; popDist[23] = 	0.2357	; popDist[24] = 	0.2722	; popDist[25] = 	0.2902	; popDist[26] = 	0.3135	; popDist[27] = 	0.3539	; popDist[28] = 	0.3541	; popDist[29] = 	0.3554	; popDist[30] = 	0.3794	; popDist[31] = 	0.3870	; popDist[32] = 	0.4084	; popDist[33] = 	0.4294	; popDist[34] = 	0.4543	; popDist[35] = 	0.4631	; popDist[36] = 	0.4884	; popDist[37] = 	0.5275	; popDist[38] = 	0.5660	; popDist[39] = 	0.5739	; popDist[40] = 	0.5748	; popDist[41] = 	0.5783	; popDist[42] = 	0.5912	; popDist[43] =	0.6341	; popDist[44] =	0.6529	; popDist[45] =	0.6661	; popDist[46] =	0.6759	; popDist[47] =	0.7200	; popDist[48] =	0.7446	; popDist[49] =	0.7878	; popDist[50] =	0.8106	; popDist[51] =	0.8305	; popDist[52] =	0.8500	; popDist[53] =	0.8724	; popDist[54] =	0.8749	; popDist[55] =	0.8879	; popDist[56] =	0.9020	; popDist[57] =	0.9332	; popDist[58] =	0.9615	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0004	; popDist[4] =	0.0008	; popDist[5] = 	0.0012	; popDist[6] =	0.0024	; popDist[7] =	0.0074	; popDist[8] = 	0.0215	; popDist[9] = 	0.0236	; popDist[10] = 	0.0445	; popDist[11] = 	0.0587	; popDist[12] = 	0.0640	; popDist[13] = 	0.0825	; popDist[14] = 	0.0951	; popDist[15] = 	0.0956	; popDist[16] = 	0.0963	; popDist[17] = 	0.0986	; popDist[18] = 	0.1227	; popDist[19] = 	0.1334	; popDist[20] = 	0.1355	; popDist[21] = 	0.1377	; popDist[22] = 	0.1701	; popDist[23] = 	0.2065	; popDist[24] = 	0.2345	; popDist[25] = 	0.2470	; popDist[26] = 	0.2646	; popDist[27] = 	0.2998	; popDist[28] = 	0.2999	; popDist[29] = 	0.3009	; popDist[30] = 	0.3273	; popDist[31] = 	0.3344	; popDist[32] = 	0.3604	; popDist[33] = 	0.3756	; popDist[34] = 	0.4009	; popDist[35] = 	0.4109	; popDist[36] = 	0.4463	; popDist[37] = 	0.4914	; popDist[38] = 	0.5470	; popDist[39] = 	0.5520	; popDist[40] = 	0.5525	; popDist[41] = 	0.5544	; popDist[42] = 	0.5632	; popDist[43] =	0.5985	; popDist[44] =	0.6149	; popDist[45] =	0.6266	; popDist[46] =	0.6342	; popDist[47] =	0.6760	; popDist[48] =	0.7031	; popDist[49] =	0.7438	; popDist[50] =	0.7676	; popDist[51] =	0.7880	; popDist[52] =	0.8085	; popDist[53] =	0.8380	; popDist[54] =	0.8402	; popDist[55] =	0.8570	; popDist[56] =	0.8681	; popDist[57] =	0.9012	; popDist[58] =	0.9395	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0003	; popDist[5] = 	0.0004	; popDist[6] =	0.0008	; popDist[7] =	0.0027	; popDist[8] = 	0.0143	; popDist[9] = 	0.0152	; popDist[10] = 	0.0293	; popDist[11] = 	0.0382	; popDist[12] = 	0.0419	; popDist[13] = 	0.0502	; popDist[14] = 	0.0633	; popDist[15] = 	0.0636	; popDist[16] = 	0.0638	; popDist[17] = 	0.0649	; popDist[18] = 	0.0925	; popDist[19] = 	0.0990	; popDist[20] = 	0.1002	; popDist[21] = 	0.1012	; popDist[22] = 	0.1278	; popDist[23] = 	0.1512	; popDist[24] = 	0.1694	; popDist[25] = 	0.1763	; popDist[26] = 	0.1871	; popDist[27] = 	0.2159	; popDist[28] = 	0.2159	; popDist[29] = 	0.2164	; popDist[30] = 	0.2393	; popDist[31] = 	0.2585	; popDist[32] = 	0.3039	; popDist[33] = 	0.3142	; popDist[34] = 	0.3466	; popDist[35] = 	0.3674	; popDist[36] = 	0.4261	; popDist[37] = 	0.5089	; popDist[38] = 	0.6143	; popDist[39] = 	0.6180	; popDist[40] = 	0.6182	; popDist[41] = 	0.6192	; popDist[42] = 	0.6233	; popDist[43] =	0.6437	; popDist[44] =	0.6529	; popDist[45] =	0.6595	; popDist[46] =	0.6638	; popDist[47] =	0.6908	; popDist[48] =	0.7148	; popDist[49] =	0.7477	; popDist[50] =	0.7678	; popDist[51] =	0.7802	; popDist[52] =	0.7958	; popDist[53] =	0.8275	; popDist[54] =	0.8290	; popDist[55] =	0.8452	; popDist[56] =	0.8535	; popDist[57] =	0.8832	; popDist[58] =	0.9258	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0173	; popDist[2] =	0.0260	; popDist[3] =	0.0494	; popDist[4] =	0.0885	; popDist[5] = 	0.1213	; popDist[6] =	0.1364	; popDist[7] =	0.1553	; popDist[8] = 	0.1592	; popDist[9] = 	0.1909	; popDist[10] = 	0.1995	; popDist[11] = 	0.2085	; popDist[12] = 	0.2496	; popDist[13] = 	0.2559	; popDist[14] = 	0.2731	; popDist[15] = 	0.3441	; popDist[16] = 	0.3625	; popDist[17] = 	0.4128	; popDist[18] = 	0.4180	; popDist[19] = 	0.4211	; popDist[20] = 	0.4608	; popDist[21] = 	0.4996	; popDist[22] = 	0.5002	; popDist[23] = 	0.5007	; popDist[24] = 	0.5039	; popDist[25] = 	0.5123	; popDist[26] = 	0.5457	; popDist[27] = 	0.5476	; popDist[28] = 	0.5898	; popDist[29] = 	0.6512	; popDist[30] = 	0.6818	; popDist[31] = 	0.6824	; popDist[32] = 	0.6833	; popDist[33] = 	0.6921	; popDist[34] = 	0.6957	; popDist[35] = 	0.6963	; popDist[36] = 	0.6975	; popDist[37] = 	0.7040	; popDist[38] = 	0.7054	; popDist[39] = 	0.7270	; popDist[40] = 	0.7925	; popDist[41] = 	0.8238	; popDist[42] = 	0.8385	; popDist[43] =	0.8451	; popDist[44] =	0.8465	; popDist[45] =	0.8547	; popDist[46] =	0.8613	; popDist[47] =	0.8622	; popDist[48] =	0.8632	; popDist[49] =	0.8660	; popDist[50] =	0.8721	; popDist[51] =	0.8766	; popDist[52] =	0.8837	; popDist[53] =	0.8843	; popDist[54] =	0.9455	; popDist[55] =	0.9671	; popDist[56] =	0.9861	; popDist[57] =	0.9987	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0101	; popDist[2] =	0.0152	; popDist[3] =	0.0288	; popDist[4] =	0.0591	; popDist[5] = 	0.0832	; popDist[6] =	0.0921	; popDist[7] =	0.1109	; popDist[8] = 	0.1157	; popDist[9] = 	0.1478	; popDist[10] = 	0.1592	; popDist[11] = 	0.1704	; popDist[12] = 	0.2185	; popDist[13] = 	0.2241	; popDist[14] = 	0.2430	; popDist[15] = 	0.2943	; popDist[16] = 	0.3091	; popDist[17] = 	0.3522	; popDist[18] = 	0.3584	; popDist[19] = 	0.3619	; popDist[20] = 	0.4007	; popDist[21] = 	0.4463	; popDist[22] = 	0.4471	; popDist[23] = 	0.4475	; popDist[24] = 	0.4503	; popDist[25] = 	0.4557	; popDist[26] = 	0.4908	; popDist[27] = 	0.4928	; popDist[28] = 	0.5193	; popDist[29] = 	0.5974	; popDist[30] = 	0.6392	; popDist[31] = 	0.6400	; popDist[32] = 	0.6411	; popDist[33] = 	0.6484	; popDist[34] = 	0.6526	; popDist[35] = 	0.6533	; popDist[36] = 	0.6551	; popDist[37] = 	0.6629	; popDist[38] = 	0.6649	; popDist[39] = 	0.6830	; popDist[40] = 	0.7266	; popDist[41] = 	0.7481	; popDist[42] = 	0.7628	; popDist[43] =	0.7707	; popDist[44] =	0.7727	; popDist[45] =	0.7854	; popDist[46] =	0.7950	; popDist[47] =	0.7962	; popDist[48] =	0.7975	; popDist[49] =	0.8017	; popDist[50] =	0.8126	; popDist[51] =	0.8191	; popDist[52] =	0.8309	; popDist[53] =	0.8319	; popDist[54] =	0.9184	; popDist[55] =	0.9645	; popDist[56] =	0.9826	; popDist[57] =	0.9982	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0054	; popDist[2] =	0.0091	; popDist[3] =	0.0175	; popDist[4] =	0.0386	; popDist[5] = 	0.0549	; popDist[6] =	0.0605	; popDist[7] =	0.0761	; popDist[8] = 	0.0824	; popDist[9] = 	0.1094	; popDist[10] = 	0.1240	; popDist[11] = 	0.1356	; popDist[12] = 	0.1868	; popDist[13] = 	0.1915	; popDist[14] = 	0.2152	; popDist[15] = 	0.2581	; popDist[16] = 	0.2680	; popDist[17] = 	0.3028	; popDist[18] = 	0.3125	; popDist[19] = 	0.3160	; popDist[20] = 	0.3489	; popDist[21] = 	0.3863	; popDist[22] = 	0.3874	; popDist[23] = 	0.3878	; popDist[24] = 	0.3906	; popDist[25] = 	0.3955	; popDist[26] = 	0.4297	; popDist[27] = 	0.4319	; popDist[28] = 	0.4503	; popDist[29] = 	0.5270	; popDist[30] = 	0.5865	; popDist[31] = 	0.5875	; popDist[32] = 	0.5891	; popDist[33] = 	0.5960	; popDist[34] = 	0.6015	; popDist[35] = 	0.6025	; popDist[36] = 	0.6057	; popDist[37] = 	0.6173	; popDist[38] = 	0.6211	; popDist[39] = 	0.6359	; popDist[40] = 	0.6663	; popDist[41] = 	0.6820	; popDist[42] = 	0.6949	; popDist[43] =	0.7032	; popDist[44] =	0.7056	; popDist[45] =	0.7200	; popDist[46] =	0.7296	; popDist[47] =	0.7311	; popDist[48] =	0.7330	; popDist[49] =	0.7380	; popDist[50] =	0.7527	; popDist[51] =	0.7612	; popDist[52] =	0.7773	; popDist[53] =	0.7790	; popDist[54] =	0.8807	; popDist[55] =	0.9569	; popDist[56] =	0.9753	; popDist[57] =	0.9966	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0031	; popDist[2] =	0.0047	; popDist[3] =	0.0093	; popDist[4] =	0.0184	; popDist[5] = 	0.0270	; popDist[6] =	0.0297	; popDist[7] =	0.0387	; popDist[8] = 	0.0465	; popDist[9] = 	0.0638	; popDist[10] = 	0.0785	; popDist[11] = 	0.0893	; popDist[12] = 	0.1425	; popDist[13] = 	0.1456	; popDist[14] = 	0.1826	; popDist[15] = 	0.2146	; popDist[16] = 	0.2201	; popDist[17] = 	0.2439	; popDist[18] = 	0.2604	; popDist[19] = 	0.2636	; popDist[20] = 	0.2919	; popDist[21] = 	0.3175	; popDist[22] = 	0.3187	; popDist[23] = 	0.3192	; popDist[24] = 	0.3219	; popDist[25] = 	0.3259	; popDist[26] = 	0.3573	; popDist[27] = 	0.3600	; popDist[28] = 	0.3725	; popDist[29] = 	0.4336	; popDist[30] = 	0.5103	; popDist[31] = 	0.5146	; popDist[32] = 	0.5187	; popDist[33] = 	0.5257	; popDist[34] = 	0.5362	; popDist[35] = 	0.5393	; popDist[36] = 	0.5472	; popDist[37] = 	0.5789	; popDist[38] = 	0.5896	; popDist[39] = 	0.6058	; popDist[40] = 	0.6269	; popDist[41] = 	0.6392	; popDist[42] = 	0.6481	; popDist[43] =	0.6553	; popDist[44] =	0.6573	; popDist[45] =	0.6694	; popDist[46] =	0.6775	; popDist[47] =	0.6790	; popDist[48] =	0.6814	; popDist[49] =	0.6875	; popDist[50] =	0.7060	; popDist[51] =	0.7137	; popDist[52] =	0.7319	; popDist[53] =	0.7347	; popDist[54] =	0.8350	; popDist[55] =	0.9452	; popDist[56] =	0.9656	; popDist[57] =	0.9942	; popDist[58] =	0.9977	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0386	; popDist[2] =	0.0625	; popDist[3] =	0.0861	; popDist[4] =	0.1353	; popDist[5] = 	0.1852	; popDist[6] =	0.2143	; popDist[7] =	0.2562	; popDist[8] = 	0.2647	; popDist[9] = 	0.3080	; popDist[10] = 	0.3176	; popDist[11] = 	0.3312	; popDist[12] = 	0.3412	; popDist[13] = 	0.3737	; popDist[14] = 	0.3802	; popDist[15] = 	0.3948	; popDist[16] = 	0.4368	; popDist[17] = 	0.4709	; popDist[18] = 	0.4787	; popDist[19] = 	0.5080	; popDist[20] = 	0.5127	; popDist[21] = 	0.5166	; popDist[22] = 	0.5215	; popDist[23] = 	0.5283	; popDist[24] = 	0.5403	; popDist[25] = 	0.5482	; popDist[26] = 	0.5582	; popDist[27] = 	0.5621	; popDist[28] = 	0.5706	; popDist[29] = 	0.5744	; popDist[30] = 	0.5790	; popDist[31] = 	0.5797	; popDist[32] = 	0.5814	; popDist[33] = 	0.6063	; popDist[34] = 	0.6147	; popDist[35] = 	0.6156	; popDist[36] = 	0.6175	; popDist[37] = 	0.6274	; popDist[38] = 	0.6297	; popDist[39] = 	0.6532	; popDist[40] = 	0.6647	; popDist[41] = 	0.7024	; popDist[42] = 	0.7779	; popDist[43] =	0.8028	; popDist[44] =	0.8195	; popDist[45] =	0.8563	; popDist[46] =	0.8939	; popDist[47] =	0.9094	; popDist[48] =	0.9137	; popDist[49] =	0.9273	; popDist[50] =	0.9337	; popDist[51] =	0.9525	; popDist[52] =	0.9604	; popDist[53] =	0.9626	; popDist[54] =	0.9732	; popDist[55] =	0.9770	; popDist[56] =	0.9848	; popDist[57] =	0.9952	; popDist[58] =	0.9983	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0226	; popDist[2] =	0.0365	; popDist[3] =	0.0503	; popDist[4] =	0.0882	; popDist[5] = 	0.1249	; popDist[6] =	0.1421	; popDist[7] =	0.1837	; popDist[8] = 	0.1940	; popDist[9] = 	0.2379	; popDist[10] = 	0.2507	; popDist[11] = 	0.2676	; popDist[12] = 	0.2793	; popDist[13] = 	0.3083	; popDist[14] = 	0.3155	; popDist[15] = 	0.3260	; popDist[16] = 	0.3598	; popDist[17] = 	0.3889	; popDist[18] = 	0.3982	; popDist[19] = 	0.4313	; popDist[20] = 	0.4359	; popDist[21] = 	0.4404	; popDist[22] = 	0.4465	; popDist[23] = 	0.4527	; popDist[24] = 	0.4632	; popDist[25] = 	0.4683	; popDist[26] = 	0.4787	; popDist[27] = 	0.4828	; popDist[28] = 	0.4881	; popDist[29] = 	0.4929	; popDist[30] = 	0.4992	; popDist[31] = 	0.5002	; popDist[32] = 	0.5022	; popDist[33] = 	0.5231	; popDist[34] = 	0.5328	; popDist[35] = 	0.5338	; popDist[36] = 	0.5367	; popDist[37] = 	0.5484	; popDist[38] = 	0.5519	; popDist[39] = 	0.5715	; popDist[40] = 	0.5792	; popDist[41] = 	0.6050	; popDist[42] = 	0.6804	; popDist[43] =	0.7102	; popDist[44] =	0.7357	; popDist[45] =	0.7922	; popDist[46] =	0.8470	; popDist[47] =	0.8684	; popDist[48] =	0.8740	; popDist[49] =	0.8940	; popDist[50] =	0.9053	; popDist[51] =	0.9326	; popDist[52] =	0.9457	; popDist[53] =	0.9496	; popDist[54] =	0.9646	; popDist[55] =	0.9727	; popDist[56] =	0.9801	; popDist[57] =	0.9930	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0123	; popDist[2] =	0.0225	; popDist[3] =	0.0311	; popDist[4] =	0.0579	; popDist[5] = 	0.0832	; popDist[6] =	0.0940	; popDist[7] =	0.1290	; popDist[8] = 	0.1430	; popDist[9] = 	0.1803	; popDist[10] = 	0.1970	; popDist[11] = 	0.2148	; popDist[12] = 	0.2274	; popDist[13] = 	0.2519	; popDist[14] = 	0.2610	; popDist[15] = 	0.2699	; popDist[16] = 	0.2930	; popDist[17] = 	0.3169	; popDist[18] = 	0.3317	; popDist[19] = 	0.3648	; popDist[20] = 	0.3688	; popDist[21] = 	0.3725	; popDist[22] = 	0.3805	; popDist[23] = 	0.3877	; popDist[24] = 	0.3982	; popDist[25] = 	0.4029	; popDist[26] = 	0.4132	; popDist[27] = 	0.4178	; popDist[28] = 	0.4216	; popDist[29] = 	0.4264	; popDist[30] = 	0.4355	; popDist[31] = 	0.4366	; popDist[32] = 	0.4398	; popDist[33] = 	0.4596	; popDist[34] = 	0.4725	; popDist[35] = 	0.4740	; popDist[36] = 	0.4792	; popDist[37] = 	0.4970	; popDist[38] = 	0.5036	; popDist[39] = 	0.5199	; popDist[40] = 	0.5253	; popDist[41] = 	0.5445	; popDist[42] = 	0.6114	; popDist[43] =	0.6435	; popDist[44] =	0.6725	; popDist[45] =	0.7378	; popDist[46] =	0.7937	; popDist[47] =	0.8203	; popDist[48] =	0.8284	; popDist[49] =	0.8530	; popDist[50] =	0.8684	; popDist[51] =	0.9049	; popDist[52] =	0.9231	; popDist[53] =	0.9298	; popDist[54] =	0.9476	; popDist[55] =	0.9612	; popDist[56] =	0.9688	; popDist[57] =	0.9867	; popDist[58] =	0.9937	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0072	; popDist[2] =	0.0118	; popDist[3] =	0.0167	; popDist[4] =	0.0287	; popDist[5] = 	0.0424	; popDist[6] =	0.0478	; popDist[7] =	0.0688	; popDist[8] = 	0.0865	; popDist[9] = 	0.1112	; popDist[10] = 	0.1285	; popDist[11] = 	0.1457	; popDist[12] = 	0.1593	; popDist[13] = 	0.1763	; popDist[14] = 	0.1909	; popDist[15] = 	0.1978	; popDist[16] = 	0.2109	; popDist[17] = 	0.2278	; popDist[18] = 	0.2540	; popDist[19] = 	0.2852	; popDist[20] = 	0.2887	; popDist[21] = 	0.2914	; popDist[22] = 	0.3015	; popDist[23] = 	0.3086	; popDist[24] = 	0.3191	; popDist[25] = 	0.3231	; popDist[26] = 	0.3329	; popDist[27] = 	0.3387	; popDist[28] = 	0.3413	; popDist[29] = 	0.3453	; popDist[30] = 	0.3574	; popDist[31] = 	0.3622	; popDist[32] = 	0.3709	; popDist[33] = 	0.3916	; popDist[34] = 	0.4171	; popDist[35] = 	0.4219	; popDist[36] = 	0.4352	; popDist[37] = 	0.4854	; popDist[38] = 	0.5046	; popDist[39] = 	0.5231	; popDist[40] = 	0.5270	; popDist[41] = 	0.5425	; popDist[42] = 	0.5903	; popDist[43] =	0.6190	; popDist[44] =	0.6441	; popDist[45] =	0.7010	; popDist[46] =	0.7494	; popDist[47] =	0.7758	; popDist[48] =	0.7869	; popDist[49] =	0.8175	; popDist[50] =	0.8376	; popDist[51] =	0.8717	; popDist[52] =	0.8930	; popDist[53] =	0.9041	; popDist[54] =	0.9223	; popDist[55] =	0.9425	; popDist[56] =	0.9514	; popDist[57] =	0.9760	; popDist[58] =	0.9882	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0077	; popDist[2] =	0.0118	; popDist[3] =	0.0173	; popDist[4] =	0.0326	; popDist[5] = 	0.0478	; popDist[6] =	0.0555	; popDist[7] =	0.0771	; popDist[8] = 	0.0826	; popDist[9] = 	0.0989	; popDist[10] = 	0.1039	; popDist[11] = 	0.1137	; popDist[12] = 	0.1213	; popDist[13] = 	0.1383	; popDist[14] = 	0.1460	; popDist[15] = 	0.1540	; popDist[16] = 	0.1674	; popDist[17] = 	0.1859	; popDist[18] = 	0.1928	; popDist[19] = 	0.2223	; popDist[20] = 	0.2276	; popDist[21] = 	0.2315	; popDist[22] = 	0.2493	; popDist[23] = 	0.2934	; popDist[24] = 	0.3282	; popDist[25] = 	0.3422	; popDist[26] = 	0.3618	; popDist[27] = 	0.3819	; popDist[28] = 	0.3863	; popDist[29] = 	0.3925	; popDist[30] = 	0.4005	; popDist[31] = 	0.4050	; popDist[32] = 	0.4148	; popDist[33] = 	0.4944	; popDist[34] = 	0.5054	; popDist[35] = 	0.5096	; popDist[36] = 	0.5170	; popDist[37] = 	0.5286	; popDist[38] = 	0.5352	; popDist[39] = 	0.5493	; popDist[40] = 	0.5574	; popDist[41] = 	0.5700	; popDist[42] = 	0.5927	; popDist[43] =	0.6357	; popDist[44] =	0.6677	; popDist[45] =	0.6964	; popDist[46] =	0.7532	; popDist[47] =	0.7660	; popDist[48] =	0.7848	; popDist[49] =	0.8556	; popDist[50] =	0.8795	; popDist[51] =	0.9099	; popDist[52] =	0.9298	; popDist[53] =	0.9439	; popDist[54] =	0.9617	; popDist[55] =	0.9729	; popDist[56] =	0.9782	; popDist[57] =	0.9895	; popDist[58] =	0.9973	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0039	; popDist[2] =	0.0059	; popDist[3] =	0.0086	; popDist[4] =	0.0188	; popDist[5] = 	0.0284	; popDist[6] =	0.0323	; popDist[7] =	0.0506	; popDist[8] = 	0.0563	; popDist[9] = 	0.0705	; popDist[10] = 	0.0762	; popDist[11] = 	0.0867	; popDist[12] = 	0.0943	; popDist[13] = 	0.1073	; popDist[14] = 	0.1145	; popDist[15] = 	0.1194	; popDist[16] = 	0.1286	; popDist[17] = 	0.1422	; popDist[18] = 	0.1493	; popDist[19] = 	0.1778	; popDist[20] = 	0.1822	; popDist[21] = 	0.1861	; popDist[22] = 	0.2050	; popDist[23] = 	0.2390	; popDist[24] = 	0.2650	; popDist[25] = 	0.2729	; popDist[26] = 	0.2904	; popDist[27] = 	0.3080	; popDist[28] = 	0.3104	; popDist[29] = 	0.3171	; popDist[30] = 	0.3265	; popDist[31] = 	0.3319	; popDist[32] = 	0.3422	; popDist[33] = 	0.3992	; popDist[34] = 	0.4101	; popDist[35] = 	0.4144	; popDist[36] = 	0.4240	; popDist[37] = 	0.4356	; popDist[38] = 	0.4441	; popDist[39] = 	0.4542	; popDist[40] = 	0.4588	; popDist[41] = 	0.4662	; popDist[42] = 	0.4857	; popDist[43] =	0.5298	; popDist[44] =	0.5714	; popDist[45] =	0.6092	; popDist[46] =	0.6799	; popDist[47] =	0.6951	; popDist[48] =	0.7163	; popDist[49] =	0.8049	; popDist[50] =	0.8412	; popDist[51] =	0.8791	; popDist[52] =	0.9074	; popDist[53] =	0.9290	; popDist[54] =	0.9506	; popDist[55] =	0.9711	; popDist[56] =	0.9754	; popDist[57] =	0.9873	; popDist[58] =	0.9959	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0018	; popDist[2] =	0.0031	; popDist[3] =	0.0046	; popDist[4] =	0.0107	; popDist[5] = 	0.0164	; popDist[6] =	0.0185	; popDist[7] =	0.0318	; popDist[8] = 	0.0385	; popDist[9] = 	0.0489	; popDist[10] = 	0.0552	; popDist[11] = 	0.0647	; popDist[12] = 	0.0718	; popDist[13] = 	0.0812	; popDist[14] = 	0.0891	; popDist[15] = 	0.0927	; popDist[16] = 	0.0981	; popDist[17] = 	0.1076	; popDist[18] = 	0.1173	; popDist[19] = 	0.1418	; popDist[20] = 	0.1451	; popDist[21] = 	0.1479	; popDist[22] = 	0.1691	; popDist[23] = 	0.2034	; popDist[24] = 	0.2258	; popDist[25] = 	0.2320	; popDist[26] = 	0.2469	; popDist[27] = 	0.2641	; popDist[28] = 	0.2655	; popDist[29] = 	0.2713	; popDist[30] = 	0.2829	; popDist[31] = 	0.2885	; popDist[32] = 	0.3027	; popDist[33] = 	0.3491	; popDist[34] = 	0.3616	; popDist[35] = 	0.3670	; popDist[36] = 	0.3820	; popDist[37] = 	0.3972	; popDist[38] = 	0.4109	; popDist[39] = 	0.4182	; popDist[40] = 	0.4210	; popDist[41] = 	0.4257	; popDist[42] = 	0.4405	; popDist[43] =	0.4813	; popDist[44] =	0.5223	; popDist[45] =	0.5598	; popDist[46] =	0.6219	; popDist[47] =	0.6381	; popDist[48] =	0.6643	; popDist[49] =	0.7582	; popDist[50] =	0.8008	; popDist[51] =	0.8443	; popDist[52] =	0.8779	; popDist[53] =	0.9099	; popDist[54] =	0.9320	; popDist[55] =	0.9616	; popDist[56] =	0.9654	; popDist[57] =	0.9797	; popDist[58] =	0.9928	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0013	; popDist[3] =	0.0020	; popDist[4] =	0.0043	; popDist[5] = 	0.0068	; popDist[6] =	0.0077	; popDist[7] =	0.0142	; popDist[8] = 	0.0211	; popDist[9] = 	0.0268	; popDist[10] = 	0.0322	; popDist[11] = 	0.0397	; popDist[12] = 	0.0459	; popDist[13] = 	0.0513	; popDist[14] = 	0.0617	; popDist[15] = 	0.0640	; popDist[16] = 	0.0665	; popDist[17] = 	0.0720	; popDist[18] = 	0.0861	; popDist[19] = 	0.1050	; popDist[20] = 	0.1074	; popDist[21] = 	0.1090	; popDist[22] = 	0.1310	; popDist[23] = 	0.1588	; popDist[24] = 	0.1773	; popDist[25] = 	0.1815	; popDist[26] = 	0.1931	; popDist[27] = 	0.2109	; popDist[28] = 	0.2117	; popDist[29] = 	0.2156	; popDist[30] = 	0.2283	; popDist[31] = 	0.2476	; popDist[32] = 	0.2789	; popDist[33] = 	0.3188	; popDist[34] = 	0.3390	; popDist[35] = 	0.3533	; popDist[36] = 	0.3848	; popDist[37] = 	0.4200	; popDist[38] = 	0.4528	; popDist[39] = 	0.4596	; popDist[40] = 	0.4612	; popDist[41] = 	0.4643	; popDist[42] = 	0.4730	; popDist[43] =	0.5029	; popDist[44] =	0.5319	; popDist[45] =	0.5587	; popDist[46] =	0.6028	; popDist[47] =	0.6160	; popDist[48] =	0.6454	; popDist[49] =	0.7413	; popDist[50] =	0.7868	; popDist[51] =	0.8202	; popDist[52] =	0.8525	; popDist[53] =	0.8959	; popDist[54] =	0.9144	; popDist[55] =	0.9506	; popDist[56] =	0.9542	; popDist[57] =	0.9704	; popDist[58] =	0.9888	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0007	; popDist[2] =	0.0010	; popDist[3] =	0.0013	; popDist[4] =	0.0024	; popDist[5] = 	0.0033	; popDist[6] =	0.0075	; popDist[7] =	0.0151	; popDist[8] = 	0.0297	; popDist[9] = 	0.0333	; popDist[10] = 	0.0525	; popDist[11] = 	0.0682	; popDist[12] = 	0.0743	; popDist[13] = 	0.1134	; popDist[14] = 	0.1259	; popDist[15] = 	0.1271	; popDist[16] = 	0.1287	; popDist[17] = 	0.1335	; popDist[18] = 	0.1508	; popDist[19] = 	0.1635	; popDist[20] = 	0.1671	; popDist[21] = 	0.1707	; popDist[22] = 	0.2012	; popDist[23] = 	0.2571	; popDist[24] = 	0.3125	; popDist[25] = 	0.3540	; popDist[26] = 	0.3812	; popDist[27] = 	0.4392	; popDist[28] = 	0.4395	; popDist[29] = 	0.4408	; popDist[30] = 	0.4625	; popDist[31] = 	0.4684	; popDist[32] = 	0.4880	; popDist[33] = 	0.5164	; popDist[34] = 	0.5383	; popDist[35] = 	0.5468	; popDist[36] = 	0.5681	; popDist[37] = 	0.6073	; popDist[38] = 	0.6389	; popDist[39] = 	0.6490	; popDist[40] = 	0.6504	; popDist[41] = 	0.6556	; popDist[42] = 	0.6703	; popDist[43] =	0.7057	; popDist[44] =	0.7182	; popDist[45] =	0.7271	; popDist[46] =	0.7339	; popDist[47] =	0.7692	; popDist[48] =	0.7933	; popDist[49] =	0.8282	; popDist[50] =	0.8441	; popDist[51] =	0.8581	; popDist[52] =	0.8711	; popDist[53] =	0.8884	; popDist[54] =	0.8903	; popDist[55] =	0.8977	; popDist[56] =	0.9155	; popDist[57] =	0.9437	; popDist[58] =	0.9729	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0005	; popDist[3] =	0.0007	; popDist[4] =	0.0013	; popDist[5] = 	0.0019	; popDist[6] =	0.0040	; popDist[7] =	0.0104	; popDist[8] = 	0.0254	; popDist[9] = 	0.0285	; popDist[10] = 	0.0499	; popDist[11] = 	0.0664	; popDist[12] = 	0.0725	; popDist[13] = 	0.1020	; popDist[14] = 	0.1136	; popDist[15] = 	0.1142	; popDist[16] = 	0.1154	; popDist[17] = 	0.1188	; popDist[18] = 	0.1362	; popDist[19] = 	0.1483	; popDist[20] = 	0.1513	; popDist[21] = 	0.1548	; popDist[22] = 	0.1868	; popDist[23] = 	0.2293	; popDist[24] = 	0.2702	; popDist[25] = 	0.2930	; popDist[26] = 	0.3170	; popDist[27] = 	0.3670	; popDist[28] = 	0.3671	; popDist[29] = 	0.3684	; popDist[30] = 	0.3935	; popDist[31] = 	0.4005	; popDist[32] = 	0.4209	; popDist[33] = 	0.4410	; popDist[34] = 	0.4624	; popDist[35] = 	0.4709	; popDist[36] = 	0.4980	; popDist[37] = 	0.5370	; popDist[38] = 	0.5770	; popDist[39] = 	0.5841	; popDist[40] = 	0.5849	; popDist[41] = 	0.5879	; popDist[42] = 	0.6003	; popDist[43] =	0.6360	; popDist[44] =	0.6521	; popDist[45] =	0.6637	; popDist[46] =	0.6721	; popDist[47] =	0.7133	; popDist[48] =	0.7402	; popDist[49] =	0.7832	; popDist[50] =	0.8069	; popDist[51] =	0.8242	; popDist[52] =	0.8424	; popDist[53] =	0.8685	; popDist[54] =	0.8708	; popDist[55] =	0.8841	; popDist[56] =	0.8984	; popDist[57] =	0.9279	; popDist[58] =	0.9596	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0007	; popDist[5] = 	0.0010	; popDist[6] =	0.0020	; popDist[7] =	0.0061	; popDist[8] = 	0.0216	; popDist[9] = 	0.0236	; popDist[10] = 	0.0447	; popDist[11] = 	0.0579	; popDist[12] = 	0.0628	; popDist[13] = 	0.0818	; popDist[14] = 	0.0930	; popDist[15] = 	0.0934	; popDist[16] = 	0.0940	; popDist[17] = 	0.0962	; popDist[18] = 	0.1172	; popDist[19] = 	0.1264	; popDist[20] = 	0.1283	; popDist[21] = 	0.1306	; popDist[22] = 	0.1622	; popDist[23] = 	0.2001	; popDist[24] = 	0.2313	; popDist[25] = 	0.2471	; popDist[26] = 	0.2652	; popDist[27] = 	0.3084	; popDist[28] = 	0.3085	; popDist[29] = 	0.3095	; popDist[30] = 	0.3370	; popDist[31] = 	0.3435	; popDist[32] = 	0.3682	; popDist[33] = 	0.3826	; popDist[34] = 	0.4043	; popDist[35] = 	0.4139	; popDist[36] = 	0.4514	; popDist[37] = 	0.4963	; popDist[38] = 	0.5537	; popDist[39] = 	0.5582	; popDist[40] = 	0.5587	; popDist[41] = 	0.5604	; popDist[42] = 	0.5687	; popDist[43] =	0.5980	; popDist[44] =	0.6120	; popDist[45] =	0.6221	; popDist[46] =	0.6286	; popDist[47] =	0.6675	; popDist[48] =	0.6970	; popDist[49] =	0.7373	; popDist[50] =	0.7619	; popDist[51] =	0.7795	; popDist[52] =	0.7986	; popDist[53] =	0.8327	; popDist[54] =	0.8348	; popDist[55] =	0.8518	; popDist[56] =	0.8630	; popDist[57] =	0.8942	; popDist[58] =	0.9368	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0006	; popDist[7] =	0.0022	; popDist[8] = 	0.0149	; popDist[9] = 	0.0157	; popDist[10] = 	0.0298	; popDist[11] = 	0.0381	; popDist[12] = 	0.0415	; popDist[13] = 	0.0500	; popDist[14] = 	0.0617	; popDist[15] = 	0.0619	; popDist[16] = 	0.0621	; popDist[17] = 	0.0631	; popDist[18] = 	0.0870	; popDist[19] = 	0.0926	; popDist[20] = 	0.0937	; popDist[21] = 	0.0948	; popDist[22] = 	0.1206	; popDist[23] = 	0.1448	; popDist[24] = 	0.1649	; popDist[25] = 	0.1736	; popDist[26] = 	0.1847	; popDist[27] = 	0.2198	; popDist[28] = 	0.2198	; popDist[29] = 	0.2204	; popDist[30] = 	0.2440	; popDist[31] = 	0.2617	; popDist[32] = 	0.3045	; popDist[33] = 	0.3143	; popDist[34] = 	0.3418	; popDist[35] = 	0.3617	; popDist[36] = 	0.4237	; popDist[37] = 	0.5055	; popDist[38] = 	0.6140	; popDist[39] = 	0.6173	; popDist[40] = 	0.6175	; popDist[41] = 	0.6184	; popDist[42] = 	0.6222	; popDist[43] =	0.6391	; popDist[44] =	0.6469	; popDist[45] =	0.6526	; popDist[46] =	0.6562	; popDist[47] =	0.6811	; popDist[48] =	0.7071	; popDist[49] =	0.7396	; popDist[50] =	0.7602	; popDist[51] =	0.7708	; popDist[52] =	0.7853	; popDist[53] =	0.8219	; popDist[54] =	0.8232	; popDist[55] =	0.8396	; popDist[56] =	0.8480	; popDist[57] =	0.8758	; popDist[58] =	0.9230	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0163	; popDist[2] =	0.0241	; popDist[3] =	0.0442	; popDist[4] =	0.0794	; popDist[5] = 	0.1087	; popDist[6] =	0.1220	; popDist[7] =	0.1388	; popDist[8] = 	0.1434	; popDist[9] = 	0.1761	; popDist[10] = 	0.1856	; popDist[11] = 	0.1947	; popDist[12] = 	0.2361	; popDist[13] = 	0.2431	; popDist[14] = 	0.2598	; popDist[15] = 	0.3289	; popDist[16] = 	0.3457	; popDist[17] = 	0.3953	; popDist[18] = 	0.4002	; popDist[19] = 	0.4032	; popDist[20] = 	0.4417	; popDist[21] = 	0.4847	; popDist[22] = 	0.4854	; popDist[23] = 	0.4859	; popDist[24] = 	0.4898	; popDist[25] = 	0.5012	; popDist[26] = 	0.5384	; popDist[27] = 	0.5410	; popDist[28] = 	0.5807	; popDist[29] = 	0.6491	; popDist[30] = 	0.6836	; popDist[31] = 	0.6843	; popDist[32] = 	0.6851	; popDist[33] = 	0.6942	; popDist[34] = 	0.6976	; popDist[35] = 	0.6982	; popDist[36] = 	0.6995	; popDist[37] = 	0.7066	; popDist[38] = 	0.7081	; popDist[39] = 	0.7292	; popDist[40] = 	0.7896	; popDist[41] = 	0.8190	; popDist[42] = 	0.8343	; popDist[43] =	0.8402	; popDist[44] =	0.8415	; popDist[45] =	0.8492	; popDist[46] =	0.8553	; popDist[47] =	0.8562	; popDist[48] =	0.8574	; popDist[49] =	0.8604	; popDist[50] =	0.8673	; popDist[51] =	0.8715	; popDist[52] =	0.8787	; popDist[53] =	0.8794	; popDist[54] =	0.9409	; popDist[55] =	0.9648	; popDist[56] =	0.9856	; popDist[57] =	0.9985	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0094	; popDist[2] =	0.0139	; popDist[3] =	0.0254	; popDist[4] =	0.0522	; popDist[5] = 	0.0734	; popDist[6] =	0.0811	; popDist[7] =	0.0976	; popDist[8] = 	0.1032	; popDist[9] = 	0.1358	; popDist[10] = 	0.1482	; popDist[11] = 	0.1594	; popDist[12] = 	0.2071	; popDist[13] = 	0.2132	; popDist[14] = 	0.2313	; popDist[15] = 	0.2804	; popDist[16] = 	0.2937	; popDist[17] = 	0.3356	; popDist[18] = 	0.3413	; popDist[19] = 	0.3447	; popDist[20] = 	0.3816	; popDist[21] = 	0.4315	; popDist[22] = 	0.4323	; popDist[23] = 	0.4327	; popDist[24] = 	0.4361	; popDist[25] = 	0.4434	; popDist[26] = 	0.4819	; popDist[27] = 	0.4845	; popDist[28] = 	0.5091	; popDist[29] = 	0.5947	; popDist[30] = 	0.6411	; popDist[31] = 	0.6420	; popDist[32] = 	0.6430	; popDist[33] = 	0.6505	; popDist[34] = 	0.6543	; popDist[35] = 	0.6550	; popDist[36] = 	0.6571	; popDist[37] = 	0.6653	; popDist[38] = 	0.6676	; popDist[39] = 	0.6849	; popDist[40] = 	0.7245	; popDist[41] = 	0.7443	; popDist[42] = 	0.7594	; popDist[43] =	0.7664	; popDist[44] =	0.7683	; popDist[45] =	0.7800	; popDist[46] =	0.7888	; popDist[47] =	0.7900	; popDist[48] =	0.7915	; popDist[49] =	0.7959	; popDist[50] =	0.8079	; popDist[51] =	0.8140	; popDist[52] =	0.8257	; popDist[53] =	0.8270	; popDist[54] =	0.9126	; popDist[55] =	0.9626	; popDist[56] =	0.9822	; popDist[57] =	0.9979	; popDist[58] =	0.9993	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0050	; popDist[2] =	0.0082	; popDist[3] =	0.0152	; popDist[4] =	0.0336	; popDist[5] = 	0.0479	; popDist[6] =	0.0526	; popDist[7] =	0.0661	; popDist[8] = 	0.0735	; popDist[9] = 	0.1005	; popDist[10] = 	0.1162	; popDist[11] = 	0.1276	; popDist[12] = 	0.1778	; popDist[13] = 	0.1828	; popDist[14] = 	0.2052	; popDist[15] = 	0.2458	; popDist[16] = 	0.2547	; popDist[17] = 	0.2880	; popDist[18] = 	0.2969	; popDist[19] = 	0.3002	; popDist[20] = 	0.3311	; popDist[21] = 	0.3716	; popDist[22] = 	0.3727	; popDist[23] = 	0.3732	; popDist[24] = 	0.3765	; popDist[25] = 	0.3830	; popDist[26] = 	0.4200	; popDist[27] = 	0.4228	; popDist[28] = 	0.4397	; popDist[29] = 	0.5228	; popDist[30] = 	0.5881	; popDist[31] = 	0.5891	; popDist[32] = 	0.5907	; popDist[33] = 	0.5976	; popDist[34] = 	0.6026	; popDist[35] = 	0.6036	; popDist[36] = 	0.6072	; popDist[37] = 	0.6193	; popDist[38] = 	0.6235	; popDist[39] = 	0.6375	; popDist[40] = 	0.6648	; popDist[41] = 	0.6791	; popDist[42] = 	0.6922	; popDist[43] =	0.6995	; popDist[44] =	0.7016	; popDist[45] =	0.7148	; popDist[46] =	0.7235	; popDist[47] =	0.7250	; popDist[48] =	0.7271	; popDist[49] =	0.7324	; popDist[50] =	0.7483	; popDist[51] =	0.7562	; popDist[52] =	0.7720	; popDist[53] =	0.7740	; popDist[54] =	0.8734	; popDist[55] =	0.9554	; popDist[56] =	0.9749	; popDist[57] =	0.9961	; popDist[58] =	0.9986	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0028	; popDist[2] =	0.0042	; popDist[3] =	0.0080	; popDist[4] =	0.0159	; popDist[5] = 	0.0232	; popDist[6] =	0.0255	; popDist[7] =	0.0332	; popDist[8] = 	0.0421	; popDist[9] = 	0.0593	; popDist[10] = 	0.0748	; popDist[11] = 	0.0853	; popDist[12] = 	0.1368	; popDist[13] = 	0.1402	; popDist[14] = 	0.1747	; popDist[15] = 	0.2046	; popDist[16] = 	0.2094	; popDist[17] = 	0.2320	; popDist[18] = 	0.2470	; popDist[19] = 	0.2500	; popDist[20] = 	0.2763	; popDist[21] = 	0.3036	; popDist[22] = 	0.3049	; popDist[23] = 	0.3054	; popDist[24] = 	0.3085	; popDist[25] = 	0.3138	; popDist[26] = 	0.3474	; popDist[27] = 	0.3508	; popDist[28] = 	0.3622	; popDist[29] = 	0.4275	; popDist[30] = 	0.5107	; popDist[31] = 	0.5148	; popDist[32] = 	0.5190	; popDist[33] = 	0.5259	; popDist[34] = 	0.5352	; popDist[35] = 	0.5384	; popDist[36] = 	0.5471	; popDist[37] = 	0.5799	; popDist[38] = 	0.5915	; popDist[39] = 	0.6066	; popDist[40] = 	0.6254	; popDist[41] = 	0.6365	; popDist[42] = 	0.6454	; popDist[43] =	0.6516	; popDist[44] =	0.6534	; popDist[45] =	0.6644	; popDist[46] =	0.6716	; popDist[47] =	0.6730	; popDist[48] =	0.6758	; popDist[49] =	0.6821	; popDist[50] =	0.7019	; popDist[51] =	0.7089	; popDist[52] =	0.7266	; popDist[53] =	0.7299	; popDist[54] =	0.8268	; popDist[55] =	0.9439	; popDist[56] =	0.9653	; popDist[57] =	0.9934	; popDist[58] =	0.9975	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0372	; popDist[2] =	0.0590	; popDist[3] =	0.0796	; popDist[4] =	0.1246	; popDist[5] = 	0.1702	; popDist[6] =	0.1962	; popDist[7] =	0.2341	; popDist[8] = 	0.2444	; popDist[9] = 	0.2900	; popDist[10] = 	0.3008	; popDist[11] = 	0.3148	; popDist[12] = 	0.3251	; popDist[13] = 	0.3618	; popDist[14] = 	0.3683	; popDist[15] = 	0.3826	; popDist[16] = 	0.4220	; popDist[17] = 	0.4562	; popDist[18] = 	0.4637	; popDist[19] = 	0.4920	; popDist[20] = 	0.4966	; popDist[21] = 	0.5010	; popDist[22] = 	0.5063	; popDist[23] = 	0.5142	; popDist[24] = 	0.5290	; popDist[25] = 	0.5400	; popDist[26] = 	0.5513	; popDist[27] = 	0.5567	; popDist[28] = 	0.5648	; popDist[29] = 	0.5691	; popDist[30] = 	0.5744	; popDist[31] = 	0.5751	; popDist[32] = 	0.5768	; popDist[33] = 	0.6031	; popDist[34] = 	0.6110	; popDist[35] = 	0.6119	; popDist[36] = 	0.6142	; popDist[37] = 	0.6251	; popDist[38] = 	0.6277	; popDist[39] = 	0.6510	; popDist[40] = 	0.6618	; popDist[41] = 	0.6978	; popDist[42] = 	0.7778	; popDist[43] =	0.8007	; popDist[44] =	0.8164	; popDist[45] =	0.8518	; popDist[46] =	0.8873	; popDist[47] =	0.9032	; popDist[48] =	0.9084	; popDist[49] =	0.9233	; popDist[50] =	0.9306	; popDist[51] =	0.9486	; popDist[52] =	0.9567	; popDist[53] =	0.9595	; popDist[54] =	0.9704	; popDist[55] =	0.9746	; popDist[56] =	0.9834	; popDist[57] =	0.9942	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0216	; popDist[2] =	0.0342	; popDist[3] =	0.0461	; popDist[4] =	0.0806	; popDist[5] = 	0.1138	; popDist[6] =	0.1291	; popDist[7] =	0.1665	; popDist[8] = 	0.1789	; popDist[9] = 	0.2247	; popDist[10] = 	0.2389	; popDist[11] = 	0.2562	; popDist[12] = 	0.2682	; popDist[13] = 	0.3007	; popDist[14] = 	0.3077	; popDist[15] = 	0.3180	; popDist[16] = 	0.3494	; popDist[17] = 	0.3784	; popDist[18] = 	0.3873	; popDist[19] = 	0.4190	; popDist[20] = 	0.4235	; popDist[21] = 	0.4286	; popDist[22] = 	0.4351	; popDist[23] = 	0.4422	; popDist[24] = 	0.4550	; popDist[25] = 	0.4621	; popDist[26] = 	0.4739	; popDist[27] = 	0.4793	; popDist[28] = 	0.4844	; popDist[29] = 	0.4898	; popDist[30] = 	0.4970	; popDist[31] = 	0.4979	; popDist[32] = 	0.5001	; popDist[33] = 	0.5218	; popDist[34] = 	0.5310	; popDist[35] = 	0.5320	; popDist[36] = 	0.5353	; popDist[37] = 	0.5481	; popDist[38] = 	0.5521	; popDist[39] = 	0.5714	; popDist[40] = 	0.5785	; popDist[41] = 	0.6030	; popDist[42] = 	0.6823	; popDist[43] =	0.7095	; popDist[44] =	0.7332	; popDist[45] =	0.7872	; popDist[46] =	0.8385	; popDist[47] =	0.8604	; popDist[48] =	0.8671	; popDist[49] =	0.8888	; popDist[50] =	0.9016	; popDist[51] =	0.9275	; popDist[52] =	0.9410	; popDist[53] =	0.9459	; popDist[54] =	0.9611	; popDist[55] =	0.9701	; popDist[56] =	0.9784	; popDist[57] =	0.9916	; popDist[58] =	0.9965	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0117	; popDist[2] =	0.0207	; popDist[3] =	0.0282	; popDist[4] =	0.0522	; popDist[5] = 	0.0749	; popDist[6] =	0.0843	; popDist[7] =	0.1155	; popDist[8] = 	0.1321	; popDist[9] = 	0.1708	; popDist[10] = 	0.1890	; popDist[11] = 	0.2070	; popDist[12] = 	0.2197	; popDist[13] = 	0.2469	; popDist[14] = 	0.2557	; popDist[15] = 	0.2644	; popDist[16] = 	0.2856	; popDist[17] = 	0.3091	; popDist[18] = 	0.3232	; popDist[19] = 	0.3546	; popDist[20] = 	0.3584	; popDist[21] = 	0.3626	; popDist[22] = 	0.3710	; popDist[23] = 	0.3791	; popDist[24] = 	0.3919	; popDist[25] = 	0.3983	; popDist[26] = 	0.4098	; popDist[27] = 	0.4159	; popDist[28] = 	0.4195	; popDist[29] = 	0.4248	; popDist[30] = 	0.4350	; popDist[31] = 	0.4362	; popDist[32] = 	0.4395	; popDist[33] = 	0.4599	; popDist[34] = 	0.4719	; popDist[35] = 	0.4735	; popDist[36] = 	0.4795	; popDist[37] = 	0.4986	; popDist[38] = 	0.5060	; popDist[39] = 	0.5219	; popDist[40] = 	0.5269	; popDist[41] = 	0.5448	; popDist[42] = 	0.6144	; popDist[43] =	0.6433	; popDist[44] =	0.6702	; popDist[45] =	0.7318	; popDist[46] =	0.7837	; popDist[47] =	0.8105	; popDist[48] =	0.8200	; popDist[49] =	0.8465	; popDist[50] =	0.8637	; popDist[51] =	0.8981	; popDist[52] =	0.9164	; popDist[53] =	0.9248	; popDist[54] =	0.9428	; popDist[55] =	0.9577	; popDist[56] =	0.9661	; popDist[57] =	0.9843	; popDist[58] =	0.9929	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0067	; popDist[2] =	0.0108	; popDist[3] =	0.0149	; popDist[4] =	0.0255	; popDist[5] = 	0.0375	; popDist[6] =	0.0422	; popDist[7] =	0.0605	; popDist[8] = 	0.0812	; popDist[9] = 	0.1063	; popDist[10] = 	0.1249	; popDist[11] = 	0.1420	; popDist[12] = 	0.1554	; popDist[13] = 	0.1740	; popDist[14] = 	0.1879	; popDist[15] = 	0.1945	; popDist[16] = 	0.2063	; popDist[17] = 	0.2227	; popDist[18] = 	0.2470	; popDist[19] = 	0.2761	; popDist[20] = 	0.2794	; popDist[21] = 	0.2823	; popDist[22] = 	0.2928	; popDist[23] = 	0.3007	; popDist[24] = 	0.3132	; popDist[25] = 	0.3186	; popDist[26] = 	0.3293	; popDist[27] = 	0.3369	; popDist[28] = 	0.3393	; popDist[29] = 	0.3436	; popDist[30] = 	0.3571	; popDist[31] = 	0.3618	; popDist[32] = 	0.3706	; popDist[33] = 	0.3916	; popDist[34] = 	0.4148	; popDist[35] = 	0.4198	; popDist[36] = 	0.4349	; popDist[37] = 	0.4879	; popDist[38] = 	0.5092	; popDist[39] = 	0.5268	; popDist[40] = 	0.5303	; popDist[41] = 	0.5446	; popDist[42] = 	0.5935	; popDist[43] =	0.6188	; popDist[44] =	0.6416	; popDist[45] =	0.6944	; popDist[46] =	0.7385	; popDist[47] =	0.7646	; popDist[48] =	0.7775	; popDist[49] =	0.8098	; popDist[50] =	0.8319	; popDist[51] =	0.8634	; popDist[52] =	0.8846	; popDist[53] =	0.8983	; popDist[54] =	0.9163	; popDist[55] =	0.9382	; popDist[56] =	0.9477	; popDist[57] =	0.9724	; popDist[58] =	0.9869	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0071	; popDist[2] =	0.0106	; popDist[3] =	0.0152	; popDist[4] =	0.0286	; popDist[5] = 	0.0417	; popDist[6] =	0.0483	; popDist[7] =	0.0669	; popDist[8] = 	0.0732	; popDist[9] = 	0.0896	; popDist[10] = 	0.0949	; popDist[11] = 	0.1045	; popDist[12] = 	0.1120	; popDist[13] = 	0.1302	; popDist[14] = 	0.1375	; popDist[15] = 	0.1450	; popDist[16] = 	0.1569	; popDist[17] = 	0.1746	; popDist[18] = 	0.1809	; popDist[19] = 	0.2080	; popDist[20] = 	0.2130	; popDist[21] = 	0.2171	; popDist[22] = 	0.2355	; popDist[23] = 	0.2837	; popDist[24] = 	0.3245	; popDist[25] = 	0.3432	; popDist[26] = 	0.3643	; popDist[27] = 	0.3903	; popDist[28] = 	0.3944	; popDist[29] = 	0.4010	; popDist[30] = 	0.4098	; popDist[31] = 	0.4141	; popDist[32] = 	0.4239	; popDist[33] = 	0.5035	; popDist[34] = 	0.5134	; popDist[35] = 	0.5177	; popDist[36] = 	0.5260	; popDist[37] = 	0.5381	; popDist[38] = 	0.5452	; popDist[39] = 	0.5586	; popDist[40] = 	0.5658	; popDist[41] = 	0.5772	; popDist[42] = 	0.6002	; popDist[43] =	0.6377	; popDist[44] =	0.6664	; popDist[45] =	0.6926	; popDist[46] =	0.7436	; popDist[47] =	0.7562	; popDist[48] =	0.7776	; popDist[49] =	0.8514	; popDist[50] =	0.8774	; popDist[51] =	0.9051	; popDist[52] =	0.9246	; popDist[53] =	0.9417	; popDist[54] =	0.9591	; popDist[55] =	0.9711	; popDist[56] =	0.9767	; popDist[57] =	0.9879	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0035	; popDist[2] =	0.0053	; popDist[3] =	0.0076	; popDist[4] =	0.0164	; popDist[5] = 	0.0247	; popDist[6] =	0.0280	; popDist[7] =	0.0438	; popDist[8] = 	0.0504	; popDist[9] = 	0.0646	; popDist[10] = 	0.0706	; popDist[11] = 	0.0809	; popDist[12] = 	0.0884	; popDist[13] = 	0.1023	; popDist[14] = 	0.1091	; popDist[15] = 	0.1137	; popDist[16] = 	0.1219	; popDist[17] = 	0.1349	; popDist[18] = 	0.1414	; popDist[19] = 	0.1675	; popDist[20] = 	0.1716	; popDist[21] = 	0.1759	; popDist[22] = 	0.1953	; popDist[23] = 	0.2324	; popDist[24] = 	0.2629	; popDist[25] = 	0.2733	; popDist[26] = 	0.2923	; popDist[27] = 	0.3150	; popDist[28] = 	0.3172	; popDist[29] = 	0.3244	; popDist[30] = 	0.3346	; popDist[31] = 	0.3399	; popDist[32] = 	0.3502	; popDist[33] = 	0.4071	; popDist[34] = 	0.4170	; popDist[35] = 	0.4213	; popDist[36] = 	0.4319	; popDist[37] = 	0.4441	; popDist[38] = 	0.4533	; popDist[39] = 	0.4629	; popDist[40] = 	0.4670	; popDist[41] = 	0.4737	; popDist[42] = 	0.4933	; popDist[43] =	0.5317	; popDist[44] =	0.5690	; popDist[45] =	0.6036	; popDist[46] =	0.6670	; popDist[47] =	0.6818	; popDist[48] =	0.7060	; popDist[49] =	0.7983	; popDist[50] =	0.8377	; popDist[51] =	0.8722	; popDist[52] =	0.8999	; popDist[53] =	0.9261	; popDist[54] =	0.9472	; popDist[55] =	0.9691	; popDist[56] =	0.9736	; popDist[57] =	0.9855	; popDist[58] =	0.9955	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0016	; popDist[2] =	0.0027	; popDist[3] =	0.0040	; popDist[4] =	0.0093	; popDist[5] = 	0.0141	; popDist[6] =	0.0159	; popDist[7] =	0.0272	; popDist[8] = 	0.0349	; popDist[9] = 	0.0452	; popDist[10] = 	0.0518	; popDist[11] = 	0.0610	; popDist[12] = 	0.0679	; popDist[13] = 	0.0779	; popDist[14] = 	0.0853	; popDist[15] = 	0.0886	; popDist[16] = 	0.0934	; popDist[17] = 	0.1024	; popDist[18] = 	0.1112	; popDist[19] = 	0.1335	; popDist[20] = 	0.1365	; popDist[21] = 	0.1395	; popDist[22] = 	0.1610	; popDist[23] = 	0.1981	; popDist[24] = 	0.2242	; popDist[25] = 	0.2323	; popDist[26] = 	0.2482	; popDist[27] = 	0.2702	; popDist[28] = 	0.2715	; popDist[29] = 	0.2777	; popDist[30] = 	0.2903	; popDist[31] = 	0.2957	; popDist[32] = 	0.3097	; popDist[33] = 	0.3555	; popDist[34] = 	0.3666	; popDist[35] = 	0.3721	; popDist[36] = 	0.3887	; popDist[37] = 	0.4044	; popDist[38] = 	0.4191	; popDist[39] = 	0.4259	; popDist[40] = 	0.4284	; popDist[41] = 	0.4326	; popDist[42] = 	0.4474	; popDist[43] =	0.4826	; popDist[44] =	0.5189	; popDist[45] =	0.5529	; popDist[46] =	0.6081	; popDist[47] =	0.6238	; popDist[48] =	0.6534	; popDist[49] =	0.7503	; popDist[50] =	0.7960	; popDist[51] =	0.8353	; popDist[52] =	0.8678	; popDist[53] =	0.9063	; popDist[54] =	0.9276	; popDist[55] =	0.9590	; popDist[56] =	0.9630	; popDist[57] =	0.9770	; popDist[58] =	0.9922	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0012	; popDist[3] =	0.0017	; popDist[4] =	0.0037	; popDist[5] = 	0.0058	; popDist[6] =	0.0065	; popDist[7] =	0.0120	; popDist[8] = 	0.0198	; popDist[9] = 	0.0253	; popDist[10] = 	0.0309	; popDist[11] = 	0.0381	; popDist[12] = 	0.0440	; popDist[13] = 	0.0496	; popDist[14] = 	0.0592	; popDist[15] = 	0.0612	; popDist[16] = 	0.0634	; popDist[17] = 	0.0686	; popDist[18] = 	0.0811	; popDist[19] = 	0.0981	; popDist[20] = 	0.1003	; popDist[21] = 	0.1020	; popDist[22] = 	0.1240	; popDist[23] = 	0.1536	; popDist[24] = 	0.1747	; popDist[25] = 	0.1802	; popDist[26] = 	0.1924	; popDist[27] = 	0.2148	; popDist[28] = 	0.2155	; popDist[29] = 	0.2196	; popDist[30] = 	0.2332	; popDist[31] = 	0.2514	; popDist[32] = 	0.2819	; popDist[33] = 	0.3207	; popDist[34] = 	0.3384	; popDist[35] = 	0.3525	; popDist[36] = 	0.3868	; popDist[37] = 	0.4226	; popDist[38] = 	0.4574	; popDist[39] = 	0.4636	; popDist[40] = 	0.4650	; popDist[41] = 	0.4678	; popDist[42] = 	0.4764	; popDist[43] =	0.5017	; popDist[44] =	0.5271	; popDist[45] =	0.5510	; popDist[46] =	0.5896	; popDist[47] =	0.6021	; popDist[48] =	0.6349	; popDist[49] =	0.7323	; popDist[50] =	0.7804	; popDist[51] =	0.8100	; popDist[52] =	0.8408	; popDist[53] =	0.8923	; popDist[54] =	0.9099	; popDist[55] =	0.9477	; popDist[56] =	0.9514	; popDist[57] =	0.9670	; popDist[58] =	0.9881	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0015	; popDist[4] =	0.0025	; popDist[5] = 	0.0033	; popDist[6] =	0.0076	; popDist[7] =	0.0146	; popDist[8] = 	0.0298	; popDist[9] = 	0.0336	; popDist[10] = 	0.0560	; popDist[11] = 	0.0727	; popDist[12] = 	0.0794	; popDist[13] = 	0.1154	; popDist[14] = 	0.1276	; popDist[15] = 	0.1288	; popDist[16] = 	0.1304	; popDist[17] = 	0.1354	; popDist[18] = 	0.1494	; popDist[19] = 	0.1609	; popDist[20] = 	0.1644	; popDist[21] = 	0.1681	; popDist[22] = 	0.1992	; popDist[23] = 	0.2584	; popDist[24] = 	0.3035	; popDist[25] = 	0.3514	; popDist[26] = 	0.3754	; popDist[27] = 	0.4328	; popDist[28] = 	0.4331	; popDist[29] = 	0.4345	; popDist[30] = 	0.4549	; popDist[31] = 	0.4588	; popDist[32] = 	0.4776	; popDist[33] = 	0.5047	; popDist[34] = 	0.5245	; popDist[35] = 	0.5329	; popDist[36] = 	0.5570	; popDist[37] = 	0.5978	; popDist[38] = 	0.6352	; popDist[39] = 	0.6454	; popDist[40] = 	0.6470	; popDist[41] = 	0.6529	; popDist[42] = 	0.6668	; popDist[43] =	0.7038	; popDist[44] =	0.7164	; popDist[45] =	0.7253	; popDist[46] =	0.7316	; popDist[47] =	0.7680	; popDist[48] =	0.7931	; popDist[49] =	0.8303	; popDist[50] =	0.8457	; popDist[51] =	0.8588	; popDist[52] =	0.8726	; popDist[53] =	0.8893	; popDist[54] =	0.8913	; popDist[55] =	0.8996	; popDist[56] =	0.9187	; popDist[57] =	0.9443	; popDist[58] =	0.9731	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0007	; popDist[4] =	0.0014	; popDist[5] = 	0.0019	; popDist[6] =	0.0040	; popDist[7] =	0.0099	; popDist[8] = 	0.0255	; popDist[9] = 	0.0287	; popDist[10] = 	0.0536	; popDist[11] = 	0.0712	; popDist[12] = 	0.0777	; popDist[13] = 	0.1048	; popDist[14] = 	0.1161	; popDist[15] = 	0.1168	; popDist[16] = 	0.1179	; popDist[17] = 	0.1215	; popDist[18] = 	0.1355	; popDist[19] = 	0.1465	; popDist[20] = 	0.1494	; popDist[21] = 	0.1530	; popDist[22] = 	0.1855	; popDist[23] = 	0.2303	; popDist[24] = 	0.2635	; popDist[25] = 	0.2897	; popDist[26] = 	0.3109	; popDist[27] = 	0.3601	; popDist[28] = 	0.3602	; popDist[29] = 	0.3617	; popDist[30] = 	0.3851	; popDist[31] = 	0.3898	; popDist[32] = 	0.4093	; popDist[33] = 	0.4284	; popDist[34] = 	0.4478	; popDist[35] = 	0.4562	; popDist[36] = 	0.4866	; popDist[37] = 	0.5270	; popDist[38] = 	0.5743	; popDist[39] = 	0.5815	; popDist[40] = 	0.5823	; popDist[41] = 	0.5858	; popDist[42] = 	0.5974	; popDist[43] =	0.6347	; popDist[44] =	0.6508	; popDist[45] =	0.6624	; popDist[46] =	0.6701	; popDist[47] =	0.7125	; popDist[48] =	0.7404	; popDist[49] =	0.7860	; popDist[50] =	0.8091	; popDist[51] =	0.8251	; popDist[52] =	0.8444	; popDist[53] =	0.8697	; popDist[54] =	0.8721	; popDist[55] =	0.8869	; popDist[56] =	0.9022	; popDist[57] =	0.9289	; popDist[58] =	0.9601	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0003	; popDist[4] =	0.0007	; popDist[5] = 	0.0009	; popDist[6] =	0.0020	; popDist[7] =	0.0057	; popDist[8] = 	0.0217	; popDist[9] = 	0.0238	; popDist[10] = 	0.0482	; popDist[11] = 	0.0622	; popDist[12] = 	0.0675	; popDist[13] = 	0.0848	; popDist[14] = 	0.0957	; popDist[15] = 	0.0961	; popDist[16] = 	0.0967	; popDist[17] = 	0.0989	; popDist[18] = 	0.1159	; popDist[19] = 	0.1241	; popDist[20] = 	0.1260	; popDist[21] = 	0.1283	; popDist[22] = 	0.1602	; popDist[23] = 	0.2000	; popDist[24] = 	0.2252	; popDist[25] = 	0.2433	; popDist[26] = 	0.2591	; popDist[27] = 	0.3015	; popDist[28] = 	0.3016	; popDist[29] = 	0.3027	; popDist[30] = 	0.3283	; popDist[31] = 	0.3326	; popDist[32] = 	0.3560	; popDist[33] = 	0.3697	; popDist[34] = 	0.3892	; popDist[35] = 	0.3986	; popDist[36] = 	0.4406	; popDist[37] = 	0.4869	; popDist[38] = 	0.5543	; popDist[39] = 	0.5588	; popDist[40] = 	0.5593	; popDist[41] = 	0.5612	; popDist[42] = 	0.5690	; popDist[43] =	0.5994	; popDist[44] =	0.6133	; popDist[45] =	0.6234	; popDist[46] =	0.6294	; popDist[47] =	0.6692	; popDist[48] =	0.6996	; popDist[49] =	0.7421	; popDist[50] =	0.7659	; popDist[51] =	0.7821	; popDist[52] =	0.8022	; popDist[53] =	0.8352	; popDist[54] =	0.8373	; popDist[55] =	0.8562	; popDist[56] =	0.8681	; popDist[57] =	0.8961	; popDist[58] =	0.9380	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0006	; popDist[7] =	0.0021	; popDist[8] = 	0.0150	; popDist[9] = 	0.0159	; popDist[10] = 	0.0322	; popDist[11] = 	0.0408	; popDist[12] = 	0.0445	; popDist[13] = 	0.0522	; popDist[14] = 	0.0634	; popDist[15] = 	0.0636	; popDist[16] = 	0.0638	; popDist[17] = 	0.0648	; popDist[18] = 	0.0839	; popDist[19] = 	0.0889	; popDist[20] = 	0.0900	; popDist[21] = 	0.0910	; popDist[22] = 	0.1170	; popDist[23] = 	0.1422	; popDist[24] = 	0.1583	; popDist[25] = 	0.1681	; popDist[26] = 	0.1777	; popDist[27] = 	0.2119	; popDist[28] = 	0.2119	; popDist[29] = 	0.2125	; popDist[30] = 	0.2344	; popDist[31] = 	0.2458	; popDist[32] = 	0.2863	; popDist[33] = 	0.2955	; popDist[34] = 	0.3200	; popDist[35] = 	0.3395	; popDist[36] = 	0.4083	; popDist[37] = 	0.4920	; popDist[38] = 	0.6184	; popDist[39] = 	0.6216	; popDist[40] = 	0.6219	; popDist[41] = 	0.6229	; popDist[42] = 	0.6264	; popDist[43] =	0.6438	; popDist[44] =	0.6515	; popDist[45] =	0.6571	; popDist[46] =	0.6604	; popDist[47] =	0.6858	; popDist[48] =	0.7124	; popDist[49] =	0.7463	; popDist[50] =	0.7661	; popDist[51] =	0.7758	; popDist[52] =	0.7910	; popDist[53] =	0.8259	; popDist[54] =	0.8273	; popDist[55] =	0.8454	; popDist[56] =	0.8542	; popDist[57] =	0.8790	; popDist[58] =	0.9250	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0185	; popDist[2] =	0.0264	; popDist[3] =	0.0486	; popDist[4] =	0.0809	; popDist[5] = 	0.1048	; popDist[6] =	0.1183	; popDist[7] =	0.1331	; popDist[8] = 	0.1378	; popDist[9] = 	0.1716	; popDist[10] = 	0.1824	; popDist[11] = 	0.1918	; popDist[12] = 	0.2357	; popDist[13] = 	0.2420	; popDist[14] = 	0.2578	; popDist[15] = 	0.3292	; popDist[16] = 	0.3446	; popDist[17] = 	0.3951	; popDist[18] = 	0.3990	; popDist[19] = 	0.4016	; popDist[20] = 	0.4388	; popDist[21] = 	0.4811	; popDist[22] = 	0.4818	; popDist[23] = 	0.4823	; popDist[24] = 	0.4854	; popDist[25] = 	0.4982	; popDist[26] = 	0.5302	; popDist[27] = 	0.5327	; popDist[28] = 	0.5744	; popDist[29] = 	0.6483	; popDist[30] = 	0.6799	; popDist[31] = 	0.6803	; popDist[32] = 	0.6811	; popDist[33] = 	0.6895	; popDist[34] = 	0.6925	; popDist[35] = 	0.6931	; popDist[36] = 	0.6945	; popDist[37] = 	0.7017	; popDist[38] = 	0.7035	; popDist[39] = 	0.7242	; popDist[40] = 	0.7859	; popDist[41] = 	0.8188	; popDist[42] = 	0.8328	; popDist[43] =	0.8388	; popDist[44] =	0.8401	; popDist[45] =	0.8477	; popDist[46] =	0.8531	; popDist[47] =	0.8540	; popDist[48] =	0.8552	; popDist[49] =	0.8584	; popDist[50] =	0.8649	; popDist[51] =	0.8687	; popDist[52] =	0.8761	; popDist[53] =	0.8768	; popDist[54] =	0.9395	; popDist[55] =	0.9655	; popDist[56] =	0.9872	; popDist[57] =	0.9985	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0107	; popDist[2] =	0.0152	; popDist[3] =	0.0279	; popDist[4] =	0.0526	; popDist[5] = 	0.0699	; popDist[6] =	0.0777	; popDist[7] =	0.0922	; popDist[8] = 	0.0979	; popDist[9] = 	0.1316	; popDist[10] = 	0.1457	; popDist[11] = 	0.1572	; popDist[12] = 	0.2079	; popDist[13] = 	0.2134	; popDist[14] = 	0.2305	; popDist[15] = 	0.2813	; popDist[16] = 	0.2935	; popDist[17] = 	0.3361	; popDist[18] = 	0.3407	; popDist[19] = 	0.3436	; popDist[20] = 	0.3792	; popDist[21] = 	0.4283	; popDist[22] = 	0.4291	; popDist[23] = 	0.4296	; popDist[24] = 	0.4323	; popDist[25] = 	0.4405	; popDist[26] = 	0.4736	; popDist[27] = 	0.4761	; popDist[28] = 	0.5019	; popDist[29] = 	0.5945	; popDist[30] = 	0.6368	; popDist[31] = 	0.6374	; popDist[32] = 	0.6383	; popDist[33] = 	0.6453	; popDist[34] = 	0.6487	; popDist[35] = 	0.6494	; popDist[36] = 	0.6516	; popDist[37] = 	0.6599	; popDist[38] = 	0.6625	; popDist[39] = 	0.6796	; popDist[40] = 	0.7200	; popDist[41] = 	0.7423	; popDist[42] = 	0.7561	; popDist[43] =	0.7632	; popDist[44] =	0.7650	; popDist[45] =	0.7765	; popDist[46] =	0.7844	; popDist[47] =	0.7856	; popDist[48] =	0.7872	; popDist[49] =	0.7917	; popDist[50] =	0.8031	; popDist[51] =	0.8085	; popDist[52] =	0.8207	; popDist[53] =	0.8219	; popDist[54] =	0.9091	; popDist[55] =	0.9638	; popDist[56] =	0.9841	; popDist[57] =	0.9979	; popDist[58] =	0.9993	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0057	; popDist[2] =	0.0089	; popDist[3] =	0.0167	; popDist[4] =	0.0336	; popDist[5] = 	0.0452	; popDist[6] =	0.0499	; popDist[7] =	0.0619	; popDist[8] = 	0.0693	; popDist[9] = 	0.0973	; popDist[10] = 	0.1150	; popDist[11] = 	0.1268	; popDist[12] = 	0.1801	; popDist[13] = 	0.1846	; popDist[14] = 	0.2058	; popDist[15] = 	0.2477	; popDist[16] = 	0.2558	; popDist[17] = 	0.2898	; popDist[18] = 	0.2968	; popDist[19] = 	0.2996	; popDist[20] = 	0.3295	; popDist[21] = 	0.3693	; popDist[22] = 	0.3704	; popDist[23] = 	0.3709	; popDist[24] = 	0.3735	; popDist[25] = 	0.3808	; popDist[26] = 	0.4126	; popDist[27] = 	0.4154	; popDist[28] = 	0.4331	; popDist[29] = 	0.5229	; popDist[30] = 	0.5823	; popDist[31] = 	0.5830	; popDist[32] = 	0.5845	; popDist[33] = 	0.5909	; popDist[34] = 	0.5953	; popDist[35] = 	0.5963	; popDist[36] = 	0.6002	; popDist[37] = 	0.6125	; popDist[38] = 	0.6172	; popDist[39] = 	0.6310	; popDist[40] = 	0.6589	; popDist[41] = 	0.6750	; popDist[42] = 	0.6869	; popDist[43] =	0.6943	; popDist[44] =	0.6964	; popDist[45] =	0.7093	; popDist[46] =	0.7171	; popDist[47] =	0.7186	; popDist[48] =	0.7207	; popDist[49] =	0.7262	; popDist[50] =	0.7413	; popDist[51] =	0.7484	; popDist[52] =	0.7647	; popDist[53] =	0.7666	; popDist[54] =	0.8679	; popDist[55] =	0.9573	; popDist[56] =	0.9776	; popDist[57] =	0.9963	; popDist[58] =	0.9987	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0032	; popDist[2] =	0.0046	; popDist[3] =	0.0088	; popDist[4] =	0.0160	; popDist[5] = 	0.0220	; popDist[6] =	0.0243	; popDist[7] =	0.0311	; popDist[8] = 	0.0402	; popDist[9] = 	0.0579	; popDist[10] = 	0.0755	; popDist[11] = 	0.0864	; popDist[12] = 	0.1411	; popDist[13] = 	0.1441	; popDist[14] = 	0.1767	; popDist[15] = 	0.2077	; popDist[16] = 	0.2121	; popDist[17] = 	0.2351	; popDist[18] = 	0.2470	; popDist[19] = 	0.2495	; popDist[20] = 	0.2749	; popDist[21] = 	0.3018	; popDist[22] = 	0.3031	; popDist[23] = 	0.3036	; popDist[24] = 	0.3061	; popDist[25] = 	0.3120	; popDist[26] = 	0.3409	; popDist[27] = 	0.3442	; popDist[28] = 	0.3561	; popDist[29] = 	0.4267	; popDist[30] = 	0.5026	; popDist[31] = 	0.5053	; popDist[32] = 	0.5091	; popDist[33] = 	0.5155	; popDist[34] = 	0.5238	; popDist[35] = 	0.5268	; popDist[36] = 	0.5364	; popDist[37] = 	0.5695	; popDist[38] = 	0.5829	; popDist[39] = 	0.5978	; popDist[40] = 	0.6170	; popDist[41] = 	0.6294	; popDist[42] = 	0.6375	; popDist[43] =	0.6439	; popDist[44] =	0.6456	; popDist[45] =	0.6563	; popDist[46] =	0.6628	; popDist[47] =	0.6642	; popDist[48] =	0.6671	; popDist[49] =	0.6735	; popDist[50] =	0.6924	; popDist[51] =	0.6987	; popDist[52] =	0.7170	; popDist[53] =	0.7201	; popDist[54] =	0.8189	; popDist[55] =	0.9466	; popDist[56] =	0.9689	; popDist[57] =	0.9937	; popDist[58] =	0.9976	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0435	; popDist[2] =	0.0663	; popDist[3] =	0.0898	; popDist[4] =	0.1324	; popDist[5] = 	0.1708	; popDist[6] =	0.1979	; popDist[7] =	0.2325	; popDist[8] = 	0.2432	; popDist[9] = 	0.2917	; popDist[10] = 	0.3044	; popDist[11] = 	0.3194	; popDist[12] = 	0.3306	; popDist[13] = 	0.3645	; popDist[14] = 	0.3708	; popDist[15] = 	0.3862	; popDist[16] = 	0.4234	; popDist[17] = 	0.4593	; popDist[18] = 	0.4654	; popDist[19] = 	0.4910	; popDist[20] = 	0.4956	; popDist[21] = 	0.5001	; popDist[22] = 	0.5055	; popDist[23] = 	0.5138	; popDist[24] = 	0.5259	; popDist[25] = 	0.5387	; popDist[26] = 	0.5487	; popDist[27] = 	0.5541	; popDist[28] = 	0.5629	; popDist[29] = 	0.5677	; popDist[30] = 	0.5727	; popDist[31] = 	0.5731	; popDist[32] = 	0.5748	; popDist[33] = 	0.6000	; popDist[34] = 	0.6072	; popDist[35] = 	0.6081	; popDist[36] = 	0.6106	; popDist[37] = 	0.6220	; popDist[38] = 	0.6252	; popDist[39] = 	0.6488	; popDist[40] = 	0.6602	; popDist[41] = 	0.7018	; popDist[42] = 	0.7774	; popDist[43] =	0.8014	; popDist[44] =	0.8172	; popDist[45] =	0.8529	; popDist[46] =	0.8858	; popDist[47] =	0.9022	; popDist[48] =	0.9076	; popDist[49] =	0.9235	; popDist[50] =	0.9307	; popDist[51] =	0.9474	; popDist[52] =	0.9561	; popDist[53] =	0.9588	; popDist[54] =	0.9702	; popDist[55] =	0.9750	; popDist[56] =	0.9844	; popDist[57] =	0.9942	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0254	; popDist[2] =	0.0386	; popDist[3] =	0.0522	; popDist[4] =	0.0850	; popDist[5] = 	0.1130	; popDist[6] =	0.1290	; popDist[7] =	0.1632	; popDist[8] = 	0.1763	; popDist[9] = 	0.2252	; popDist[10] = 	0.2419	; popDist[11] = 	0.2605	; popDist[12] = 	0.2735	; popDist[13] = 	0.3037	; popDist[14] = 	0.3106	; popDist[15] = 	0.3216	; popDist[16] = 	0.3514	; popDist[17] = 	0.3820	; popDist[18] = 	0.3893	; popDist[19] = 	0.4180	; popDist[20] = 	0.4225	; popDist[21] = 	0.4277	; popDist[22] = 	0.4344	; popDist[23] = 	0.4419	; popDist[24] = 	0.4524	; popDist[25] = 	0.4607	; popDist[26] = 	0.4711	; popDist[27] = 	0.4766	; popDist[28] = 	0.4821	; popDist[29] = 	0.4881	; popDist[30] = 	0.4949	; popDist[31] = 	0.4956	; popDist[32] = 	0.4976	; popDist[33] = 	0.5186	; popDist[34] = 	0.5269	; popDist[35] = 	0.5279	; popDist[36] = 	0.5317	; popDist[37] = 	0.5451	; popDist[38] = 	0.5498	; popDist[39] = 	0.5695	; popDist[40] = 	0.5771	; popDist[41] = 	0.6055	; popDist[42] = 	0.6806	; popDist[43] =	0.7092	; popDist[44] =	0.7332	; popDist[45] =	0.7878	; popDist[46] =	0.8354	; popDist[47] =	0.8581	; popDist[48] =	0.8651	; popDist[49] =	0.8884	; popDist[50] =	0.9010	; popDist[51] =	0.9252	; popDist[52] =	0.9396	; popDist[53] =	0.9444	; popDist[54] =	0.9605	; popDist[55] =	0.9707	; popDist[56] =	0.9796	; popDist[57] =	0.9917	; popDist[58] =	0.9965	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0137	; popDist[2] =	0.0232	; popDist[3] =	0.0317	; popDist[4] =	0.0545	; popDist[5] = 	0.0736	; popDist[6] =	0.0835	; popDist[7] =	0.1120	; popDist[8] = 	0.1295	; popDist[9] = 	0.1707	; popDist[10] = 	0.1921	; popDist[11] = 	0.2114	; popDist[12] = 	0.2253	; popDist[13] = 	0.2505	; popDist[14] = 	0.2591	; popDist[15] = 	0.2684	; popDist[16] = 	0.2885	; popDist[17] = 	0.3133	; popDist[18] = 	0.3248	; popDist[19] = 	0.3532	; popDist[20] = 	0.3570	; popDist[21] = 	0.3613	; popDist[22] = 	0.3699	; popDist[23] = 	0.3786	; popDist[24] = 	0.3890	; popDist[25] = 	0.3965	; popDist[26] = 	0.4067	; popDist[27] = 	0.4128	; popDist[28] = 	0.4166	; popDist[29] = 	0.4226	; popDist[30] = 	0.4323	; popDist[31] = 	0.4330	; popDist[32] = 	0.4362	; popDist[33] = 	0.4558	; popDist[34] = 	0.4668	; popDist[35] = 	0.4683	; popDist[36] = 	0.4751	; popDist[37] = 	0.4951	; popDist[38] = 	0.5039	; popDist[39] = 	0.5201	; popDist[40] = 	0.5254	; popDist[41] = 	0.5463	; popDist[42] = 	0.6121	; popDist[43] =	0.6426	; popDist[44] =	0.6696	; popDist[45] =	0.7320	; popDist[46] =	0.7800	; popDist[47] =	0.8078	; popDist[48] =	0.8178	; popDist[49] =	0.8462	; popDist[50] =	0.8631	; popDist[51] =	0.8951	; popDist[52] =	0.9148	; popDist[53] =	0.9230	; popDist[54] =	0.9419	; popDist[55] =	0.9588	; popDist[56] =	0.9678	; popDist[57] =	0.9844	; popDist[58] =	0.9929	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0078	; popDist[2] =	0.0121	; popDist[3] =	0.0168	; popDist[4] =	0.0268	; popDist[5] = 	0.0369	; popDist[6] =	0.0417	; popDist[7] =	0.0584	; popDist[8] = 	0.0801	; popDist[9] = 	0.1067	; popDist[10] = 	0.1284	; popDist[11] = 	0.1467	; popDist[12] = 	0.1614	; popDist[13] = 	0.1785	; popDist[14] = 	0.1921	; popDist[15] = 	0.1991	; popDist[16] = 	0.2102	; popDist[17] = 	0.2274	; popDist[18] = 	0.2472	; popDist[19] = 	0.2735	; popDist[20] = 	0.2768	; popDist[21] = 	0.2797	; popDist[22] = 	0.2904	; popDist[23] = 	0.2988	; popDist[24] = 	0.3090	; popDist[25] = 	0.3152	; popDist[26] = 	0.3247	; popDist[27] = 	0.3322	; popDist[28] = 	0.3348	; popDist[29] = 	0.3396	; popDist[30] = 	0.3522	; popDist[31] = 	0.3554	; popDist[32] = 	0.3638	; popDist[33] = 	0.3840	; popDist[34] = 	0.4050	; popDist[35] = 	0.4099	; popDist[36] = 	0.4269	; popDist[37] = 	0.4822	; popDist[38] = 	0.5074	; popDist[39] = 	0.5253	; popDist[40] = 	0.5290	; popDist[41] = 	0.5455	; popDist[42] = 	0.5916	; popDist[43] =	0.6182	; popDist[44] =	0.6411	; popDist[45] =	0.6942	; popDist[46] =	0.7349	; popDist[47] =	0.7619	; popDist[48] =	0.7753	; popDist[49] =	0.8098	; popDist[50] =	0.8314	; popDist[51] =	0.8607	; popDist[52] =	0.8832	; popDist[53] =	0.8965	; popDist[54] =	0.9154	; popDist[55] =	0.9400	; popDist[56] =	0.9502	; popDist[57] =	0.9727	; popDist[58] =	0.9870	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0083	; popDist[2] =	0.0120	; popDist[3] =	0.0172	; popDist[4] =	0.0299	; popDist[5] = 	0.0411	; popDist[6] =	0.0479	; popDist[7] =	0.0649	; popDist[8] = 	0.0716	; popDist[9] = 	0.0890	; popDist[10] = 	0.0953	; popDist[11] = 	0.1056	; popDist[12] = 	0.1138	; popDist[13] = 	0.1307	; popDist[14] = 	0.1378	; popDist[15] = 	0.1458	; popDist[16] = 	0.1571	; popDist[17] = 	0.1758	; popDist[18] = 	0.1810	; popDist[19] = 	0.2055	; popDist[20] = 	0.2105	; popDist[21] = 	0.2147	; popDist[22] = 	0.2335	; popDist[23] = 	0.2849	; popDist[24] = 	0.3184	; popDist[25] = 	0.3400	; popDist[26] = 	0.3588	; popDist[27] = 	0.3847	; popDist[28] = 	0.3891	; popDist[29] = 	0.3966	; popDist[30] = 	0.4049	; popDist[31] = 	0.4077	; popDist[32] = 	0.4172	; popDist[33] = 	0.4939	; popDist[34] = 	0.5028	; popDist[35] = 	0.5071	; popDist[36] = 	0.5165	; popDist[37] = 	0.5292	; popDist[38] = 	0.5377	; popDist[39] = 	0.5514	; popDist[40] = 	0.5590	; popDist[41] = 	0.5722	; popDist[42] = 	0.5940	; popDist[43] =	0.6335	; popDist[44] =	0.6624	; popDist[45] =	0.6890	; popDist[46] =	0.7363	; popDist[47] =	0.7493	; popDist[48] =	0.7718	; popDist[49] =	0.8508	; popDist[50] =	0.8763	; popDist[51] =	0.9022	; popDist[52] =	0.9231	; popDist[53] =	0.9398	; popDist[54] =	0.9581	; popDist[55] =	0.9717	; popDist[56] =	0.9777	; popDist[57] =	0.9879	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0041	; popDist[2] =	0.0060	; popDist[3] =	0.0086	; popDist[4] =	0.0170	; popDist[5] = 	0.0239	; popDist[6] =	0.0274	; popDist[7] =	0.0418	; popDist[8] = 	0.0487	; popDist[9] = 	0.0638	; popDist[10] = 	0.0709	; popDist[11] = 	0.0819	; popDist[12] = 	0.0901	; popDist[13] = 	0.1030	; popDist[14] = 	0.1096	; popDist[15] = 	0.1145	; popDist[16] = 	0.1223	; popDist[17] = 	0.1359	; popDist[18] = 	0.1412	; popDist[19] = 	0.1649	; popDist[20] = 	0.1690	; popDist[21] = 	0.1733	; popDist[22] = 	0.1932	; popDist[23] = 	0.2326	; popDist[24] = 	0.2576	; popDist[25] = 	0.2696	; popDist[26] = 	0.2864	; popDist[27] = 	0.3089	; popDist[28] = 	0.3113	; popDist[29] = 	0.3194	; popDist[30] = 	0.3290	; popDist[31] = 	0.3325	; popDist[32] = 	0.3425	; popDist[33] = 	0.3972	; popDist[34] = 	0.4061	; popDist[35] = 	0.4104	; popDist[36] = 	0.4224	; popDist[37] = 	0.4352	; popDist[38] = 	0.4461	; popDist[39] = 	0.4558	; popDist[40] = 	0.4601	; popDist[41] = 	0.4679	; popDist[42] = 	0.4864	; popDist[43] =	0.5268	; popDist[44] =	0.5643	; popDist[45] =	0.5992	; popDist[46] =	0.6580	; popDist[47] =	0.6734	; popDist[48] =	0.6986	; popDist[49] =	0.7972	; popDist[50] =	0.8358	; popDist[51] =	0.8679	; popDist[52] =	0.8974	; popDist[53] =	0.9231	; popDist[54] =	0.9452	; popDist[55] =	0.9699	; popDist[56] =	0.9748	; popDist[57] =	0.9855	; popDist[58] =	0.9956	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0019	; popDist[2] =	0.0031	; popDist[3] =	0.0044	; popDist[4] =	0.0095	; popDist[5] = 	0.0135	; popDist[6] =	0.0154	; popDist[7] =	0.0257	; popDist[8] = 	0.0336	; popDist[9] = 	0.0446	; popDist[10] = 	0.0524	; popDist[11] = 	0.0621	; popDist[12] = 	0.0696	; popDist[13] = 	0.0788	; popDist[14] = 	0.0860	; popDist[15] = 	0.0895	; popDist[16] = 	0.0940	; popDist[17] = 	0.1035	; popDist[18] = 	0.1106	; popDist[19] = 	0.1307	; popDist[20] = 	0.1337	; popDist[21] = 	0.1367	; popDist[22] = 	0.1587	; popDist[23] = 	0.1980	; popDist[24] = 	0.2192	; popDist[25] = 	0.2285	; popDist[26] = 	0.2426	; popDist[27] = 	0.2643	; popDist[28] = 	0.2657	; popDist[29] = 	0.2725	; popDist[30] = 	0.2844	; popDist[31] = 	0.2879	; popDist[32] = 	0.3014	; popDist[33] = 	0.3452	; popDist[34] = 	0.3553	; popDist[35] = 	0.3607	; popDist[36] = 	0.3794	; popDist[37] = 	0.3957	; popDist[38] = 	0.4132	; popDist[39] = 	0.4200	; popDist[40] = 	0.4226	; popDist[41] = 	0.4275	; popDist[42] = 	0.4415	; popDist[43] =	0.4783	; popDist[44] =	0.5147	; popDist[45] =	0.5488	; popDist[46] =	0.5997	; popDist[47] =	0.6159	; popDist[48] =	0.6467	; popDist[49] =	0.7498	; popDist[50] =	0.7943	; popDist[51] =	0.8308	; popDist[52] =	0.8654	; popDist[53] =	0.9027	; popDist[54] =	0.9251	; popDist[55] =	0.9602	; popDist[56] =	0.9645	; popDist[57] =	0.9772	; popDist[58] =	0.9923	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0013	; popDist[3] =	0.0019	; popDist[4] =	0.0038	; popDist[5] = 	0.0055	; popDist[6] =	0.0063	; popDist[7] =	0.0112	; popDist[8] = 	0.0194	; popDist[9] = 	0.0252	; popDist[10] = 	0.0317	; popDist[11] = 	0.0393	; popDist[12] = 	0.0457	; popDist[13] = 	0.0509	; popDist[14] = 	0.0602	; popDist[15] = 	0.0624	; popDist[16] = 	0.0644	; popDist[17] = 	0.0698	; popDist[18] = 	0.0800	; popDist[19] = 	0.0952	; popDist[20] = 	0.0974	; popDist[21] = 	0.0991	; popDist[22] = 	0.1215	; popDist[23] = 	0.1527	; popDist[24] = 	0.1698	; popDist[25] = 	0.1761	; popDist[26] = 	0.1869	; popDist[27] = 	0.2089	; popDist[28] = 	0.2097	; popDist[29] = 	0.2143	; popDist[30] = 	0.2269	; popDist[31] = 	0.2390	; popDist[32] = 	0.2681	; popDist[33] = 	0.3052	; popDist[34] = 	0.3211	; popDist[35] = 	0.3351	; popDist[36] = 	0.3736	; popDist[37] = 	0.4107	; popDist[38] = 	0.4518	; popDist[39] = 	0.4581	; popDist[40] = 	0.4596	; popDist[41] = 	0.4627	; popDist[42] = 	0.4708	; popDist[43] =	0.4972	; popDist[44] =	0.5225	; popDist[45] =	0.5465	; popDist[46] =	0.5819	; popDist[47] =	0.5949	; popDist[48] =	0.6288	; popDist[49] =	0.7321	; popDist[50] =	0.7789	; popDist[51] =	0.8063	; popDist[52] =	0.8389	; popDist[53] =	0.8888	; popDist[54] =	0.9071	; popDist[55] =	0.9494	; popDist[56] =	0.9534	; popDist[57] =	0.9675	; popDist[58] =	0.9882	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0005	; popDist[2] =	0.0007	; popDist[3] =	0.0010	; popDist[4] =	0.0016	; popDist[5] = 	0.0021	; popDist[6] =	0.0055	; popDist[7] =	0.0109	; popDist[8] = 	0.0311	; popDist[9] = 	0.0338	; popDist[10] = 	0.0590	; popDist[11] = 	0.0794	; popDist[12] = 	0.0851	; popDist[13] = 	0.1174	; popDist[14] = 	0.1271	; popDist[15] = 	0.1280	; popDist[16] = 	0.1291	; popDist[17] = 	0.1324	; popDist[18] = 	0.1435	; popDist[19] = 	0.1529	; popDist[20] = 	0.1558	; popDist[21] = 	0.1584	; popDist[22] = 	0.1946	; popDist[23] = 	0.2648	; popDist[24] = 	0.3249	; popDist[25] = 	0.3876	; popDist[26] = 	0.4092	; popDist[27] = 	0.4794	; popDist[28] = 	0.4796	; popDist[29] = 	0.4805	; popDist[30] = 	0.4977	; popDist[31] = 	0.5008	; popDist[32] = 	0.5162	; popDist[33] = 	0.5452	; popDist[34] = 	0.5619	; popDist[35] = 	0.5685	; popDist[36] = 	0.5892	; popDist[37] = 	0.6226	; popDist[38] = 	0.6533	; popDist[39] = 	0.6622	; popDist[40] = 	0.6636	; popDist[41] = 	0.6691	; popDist[42] = 	0.6806	; popDist[43] =	0.7162	; popDist[44] =	0.7270	; popDist[45] =	0.7344	; popDist[46] =	0.7391	; popDist[47] =	0.7769	; popDist[48] =	0.8072	; popDist[49] =	0.8462	; popDist[50] =	0.8623	; popDist[51] =	0.8728	; popDist[52] =	0.8846	; popDist[53] =	0.9032	; popDist[54] =	0.9049	; popDist[55] =	0.9114	; popDist[56] =	0.9319	; popDist[57] =	0.9555	; popDist[58] =	0.9814	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0009	; popDist[5] = 	0.0012	; popDist[6] =	0.0029	; popDist[7] =	0.0076	; popDist[8] = 	0.0287	; popDist[9] = 	0.0311	; popDist[10] = 	0.0596	; popDist[11] = 	0.0815	; popDist[12] = 	0.0873	; popDist[13] = 	0.1120	; popDist[14] = 	0.1212	; popDist[15] = 	0.1217	; popDist[16] = 	0.1224	; popDist[17] = 	0.1249	; popDist[18] = 	0.1363	; popDist[19] = 	0.1454	; popDist[20] = 	0.1478	; popDist[21] = 	0.1504	; popDist[22] = 	0.1890	; popDist[23] = 	0.2432	; popDist[24] = 	0.2883	; popDist[25] = 	0.3233	; popDist[26] = 	0.3428	; popDist[27] = 	0.4042	; popDist[28] = 	0.4043	; popDist[29] = 	0.4052	; popDist[30] = 	0.4254	; popDist[31] = 	0.4291	; popDist[32] = 	0.4455	; popDist[33] = 	0.4662	; popDist[34] = 	0.4830	; popDist[35] = 	0.4896	; popDist[36] = 	0.5162	; popDist[37] = 	0.5501	; popDist[38] = 	0.5896	; popDist[39] = 	0.5960	; popDist[40] = 	0.5968	; popDist[41] = 	0.6000	; popDist[42] = 	0.6098	; popDist[43] =	0.6464	; popDist[44] =	0.6606	; popDist[45] =	0.6704	; popDist[46] =	0.6762	; popDist[47] =	0.7212	; popDist[48] =	0.7555	; popDist[49] =	0.8044	; popDist[50] =	0.8288	; popDist[51] =	0.8420	; popDist[52] =	0.8588	; popDist[53] =	0.8874	; popDist[54] =	0.8895	; popDist[55] =	0.9014	; popDist[56] =	0.9181	; popDist[57] =	0.9433	; popDist[58] =	0.9718	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0002	; popDist[4] =	0.0005	; popDist[5] = 	0.0006	; popDist[6] =	0.0014	; popDist[7] =	0.0045	; popDist[8] = 	0.0265	; popDist[9] = 	0.0281	; popDist[10] = 	0.0567	; popDist[11] = 	0.0744	; popDist[12] = 	0.0791	; popDist[13] = 	0.0952	; popDist[14] = 	0.1042	; popDist[15] = 	0.1046	; popDist[16] = 	0.1049	; popDist[17] = 	0.1065	; popDist[18] = 	0.1205	; popDist[19] = 	0.1275	; popDist[20] = 	0.1290	; popDist[21] = 	0.1307	; popDist[22] = 	0.1693	; popDist[23] = 	0.2184	; popDist[24] = 	0.2532	; popDist[25] = 	0.2778	; popDist[26] = 	0.2926	; popDist[27] = 	0.3465	; popDist[28] = 	0.3466	; popDist[29] = 	0.3473	; popDist[30] = 	0.3697	; popDist[31] = 	0.3732	; popDist[32] = 	0.3932	; popDist[33] = 	0.4083	; popDist[34] = 	0.4255	; popDist[35] = 	0.4331	; popDist[36] = 	0.4705	; popDist[37] = 	0.5100	; popDist[38] = 	0.5673	; popDist[39] = 	0.5714	; popDist[40] = 	0.5719	; popDist[41] = 	0.5737	; popDist[42] = 	0.5804	; popDist[43] =	0.6108	; popDist[44] =	0.6233	; popDist[45] =	0.6320	; popDist[46] =	0.6365	; popDist[47] =	0.6795	; popDist[48] =	0.7176	; popDist[49] =	0.7640	; popDist[50] =	0.7896	; popDist[51] =	0.8032	; popDist[52] =	0.8211	; popDist[53] =	0.8590	; popDist[54] =	0.8609	; popDist[55] =	0.8762	; popDist[56] =	0.8895	; popDist[57] =	0.9164	; popDist[58] =	0.9554	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0000	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0002	; popDist[6] =	0.0005	; popDist[7] =	0.0017	; popDist[8] = 	0.0203	; popDist[9] = 	0.0210	; popDist[10] = 	0.0408	; popDist[11] = 	0.0522	; popDist[12] = 	0.0556	; popDist[13] = 	0.0631	; popDist[14] = 	0.0727	; popDist[15] = 	0.0729	; popDist[16] = 	0.0731	; popDist[17] = 	0.0738	; popDist[18] = 	0.0902	; popDist[19] = 	0.0946	; popDist[20] = 	0.0956	; popDist[21] = 	0.0964	; popDist[22] = 	0.1290	; popDist[23] = 	0.1613	; popDist[24] = 	0.1846	; popDist[25] = 	0.1984	; popDist[26] = 	0.2078	; popDist[27] = 	0.2531	; popDist[28] = 	0.2531	; popDist[29] = 	0.2535	; popDist[30] = 	0.2734	; popDist[31] = 	0.2832	; popDist[32] = 	0.3192	; popDist[33] = 	0.3298	; popDist[34] = 	0.3523	; popDist[35] = 	0.3686	; popDist[36] = 	0.4325	; popDist[37] = 	0.5068	; popDist[38] = 	0.6187	; popDist[39] = 	0.6218	; popDist[40] = 	0.6220	; popDist[41] = 	0.6230	; popDist[42] = 	0.6262	; popDist[43] =	0.6443	; popDist[44] =	0.6515	; popDist[45] =	0.6566	; popDist[46] =	0.6592	; popDist[47] =	0.6877	; popDist[48] =	0.7224	; popDist[49] =	0.7610	; popDist[50] =	0.7833	; popDist[51] =	0.7917	; popDist[52] =	0.8057	; popDist[53] =	0.8476	; popDist[54] =	0.8489	; popDist[55] =	0.8642	; popDist[56] =	0.8744	; popDist[57] =	0.8992	; popDist[58] =	0.9438	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0148	; popDist[2] =	0.0216	; popDist[3] =	0.0379	; popDist[4] =	0.0648	; popDist[5] = 	0.0815	; popDist[6] =	0.0946	; popDist[7] =	0.1092	; popDist[8] = 	0.1170	; popDist[9] = 	0.1468	; popDist[10] = 	0.1620	; popDist[11] = 	0.1762	; popDist[12] = 	0.2231	; popDist[13] = 	0.2301	; popDist[14] = 	0.2459	; popDist[15] = 	0.3131	; popDist[16] = 	0.3258	; popDist[17] = 	0.3678	; popDist[18] = 	0.3716	; popDist[19] = 	0.3743	; popDist[20] = 	0.4114	; popDist[21] = 	0.4494	; popDist[22] = 	0.4504	; popDist[23] = 	0.4512	; popDist[24] = 	0.4564	; popDist[25] = 	0.4772	; popDist[26] = 	0.5132	; popDist[27] = 	0.5169	; popDist[28] = 	0.5520	; popDist[29] = 	0.6083	; popDist[30] = 	0.6415	; popDist[31] = 	0.6419	; popDist[32] = 	0.6427	; popDist[33] = 	0.6540	; popDist[34] = 	0.6571	; popDist[35] = 	0.6577	; popDist[36] = 	0.6593	; popDist[37] = 	0.6666	; popDist[38] = 	0.6684	; popDist[39] = 	0.6911	; popDist[40] = 	0.7622	; popDist[41] = 	0.7996	; popDist[42] = 	0.8141	; popDist[43] =	0.8213	; popDist[44] =	0.8227	; popDist[45] =	0.8305	; popDist[46] =	0.8355	; popDist[47] =	0.8367	; popDist[48] =	0.8385	; popDist[49] =	0.8426	; popDist[50] =	0.8511	; popDist[51] =	0.8549	; popDist[52] =	0.8628	; popDist[53] =	0.8637	; popDist[54] =	0.9310	; popDist[55] =	0.9563	; popDist[56] =	0.9854	; popDist[57] =	0.9984	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0085	; popDist[2] =	0.0124	; popDist[3] =	0.0216	; popDist[4] =	0.0419	; popDist[5] = 	0.0539	; popDist[6] =	0.0615	; popDist[7] =	0.0757	; popDist[8] = 	0.0850	; popDist[9] = 	0.1145	; popDist[10] = 	0.1341	; popDist[11] = 	0.1516	; popDist[12] = 	0.2052	; popDist[13] = 	0.2113	; popDist[14] = 	0.2282	; popDist[15] = 	0.2757	; popDist[16] = 	0.2856	; popDist[17] = 	0.3208	; popDist[18] = 	0.3252	; popDist[19] = 	0.3282	; popDist[20] = 	0.3635	; popDist[21] = 	0.4073	; popDist[22] = 	0.4084	; popDist[23] = 	0.4091	; popDist[24] = 	0.4135	; popDist[25] = 	0.4268	; popDist[26] = 	0.4637	; popDist[27] = 	0.4675	; popDist[28] = 	0.4890	; popDist[29] = 	0.5590	; popDist[30] = 	0.6033	; popDist[31] = 	0.6038	; popDist[32] = 	0.6048	; popDist[33] = 	0.6140	; popDist[34] = 	0.6175	; popDist[35] = 	0.6182	; popDist[36] = 	0.6205	; popDist[37] = 	0.6290	; popDist[38] = 	0.6316	; popDist[39] = 	0.6501	; popDist[40] = 	0.6964	; popDist[41] = 	0.7215	; popDist[42] = 	0.7357	; popDist[43] =	0.7441	; popDist[44] =	0.7461	; popDist[45] =	0.7579	; popDist[46] =	0.7650	; popDist[47] =	0.7666	; popDist[48] =	0.7689	; popDist[49] =	0.7748	; popDist[50] =	0.7894	; popDist[51] =	0.7949	; popDist[52] =	0.8077	; popDist[53] =	0.8093	; popDist[54] =	0.9022	; popDist[55] =	0.9550	; popDist[56] =	0.9821	; popDist[57] =	0.9979	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0044	; popDist[2] =	0.0071	; popDist[3] =	0.0127	; popDist[4] =	0.0265	; popDist[5] = 	0.0344	; popDist[6] =	0.0389	; popDist[7] =	0.0504	; popDist[8] = 	0.0624	; popDist[9] = 	0.0865	; popDist[10] = 	0.1109	; popDist[11] = 	0.1285	; popDist[12] = 	0.1840	; popDist[13] = 	0.1889	; popDist[14] = 	0.2095	; popDist[15] = 	0.2481	; popDist[16] = 	0.2546	; popDist[17] = 	0.2822	; popDist[18] = 	0.2890	; popDist[19] = 	0.2918	; popDist[20] = 	0.3210	; popDist[21] = 	0.3560	; popDist[22] = 	0.3574	; popDist[23] = 	0.3582	; popDist[24] = 	0.3624	; popDist[25] = 	0.3741	; popDist[26] = 	0.4089	; popDist[27] = 	0.4131	; popDist[28] = 	0.4276	; popDist[29] = 	0.4945	; popDist[30] = 	0.5557	; popDist[31] = 	0.5563	; popDist[32] = 	0.5578	; popDist[33] = 	0.5661	; popDist[34] = 	0.5707	; popDist[35] = 	0.5716	; popDist[36] = 	0.5757	; popDist[37] = 	0.5880	; popDist[38] = 	0.5927	; popDist[39] = 	0.6075	; popDist[40] = 	0.6389	; popDist[41] = 	0.6567	; popDist[42] = 	0.6688	; popDist[43] =	0.6775	; popDist[44] =	0.6796	; popDist[45] =	0.6927	; popDist[46] =	0.6997	; popDist[47] =	0.7015	; popDist[48] =	0.7047	; popDist[49] =	0.7117	; popDist[50] =	0.7308	; popDist[51] =	0.7377	; popDist[52] =	0.7547	; popDist[53] =	0.7574	; popDist[54] =	0.8635	; popDist[55] =	0.9486	; popDist[56] =	0.9752	; popDist[57] =	0.9963	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0024	; popDist[2] =	0.0036	; popDist[3] =	0.0066	; popDist[4] =	0.0123	; popDist[5] = 	0.0164	; popDist[6] =	0.0185	; popDist[7] =	0.0249	; popDist[8] = 	0.0393	; popDist[9] = 	0.0543	; popDist[10] = 	0.0780	; popDist[11] = 	0.0940	; popDist[12] = 	0.1500	; popDist[13] = 	0.1532	; popDist[14] = 	0.1844	; popDist[15] = 	0.2124	; popDist[16] = 	0.2158	; popDist[17] = 	0.2342	; popDist[18] = 	0.2455	; popDist[19] = 	0.2480	; popDist[20] = 	0.2724	; popDist[21] = 	0.2955	; popDist[22] = 	0.2973	; popDist[23] = 	0.2980	; popDist[24] = 	0.3020	; popDist[25] = 	0.3112	; popDist[26] = 	0.3424	; popDist[27] = 	0.3472	; popDist[28] = 	0.3568	; popDist[29] = 	0.4085	; popDist[30] = 	0.4852	; popDist[31] = 	0.4877	; popDist[32] = 	0.4914	; popDist[33] = 	0.4997	; popDist[34] = 	0.5080	; popDist[35] = 	0.5108	; popDist[36] = 	0.5207	; popDist[37] = 	0.5532	; popDist[38] = 	0.5663	; popDist[39] = 	0.5820	; popDist[40] = 	0.6032	; popDist[41] = 	0.6168	; popDist[42] = 	0.6248	; popDist[43] =	0.6321	; popDist[44] =	0.6339	; popDist[45] =	0.6446	; popDist[46] =	0.6502	; popDist[47] =	0.6520	; popDist[48] =	0.6561	; popDist[49] =	0.6643	; popDist[50] =	0.6876	; popDist[51] =	0.6937	; popDist[52] =	0.7124	; popDist[53] =	0.7166	; popDist[54] =	0.8183	; popDist[55] =	0.9376	; popDist[56] =	0.9664	; popDist[57] =	0.9938	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0336	; popDist[2] =	0.0524	; popDist[3] =	0.0690	; popDist[4] =	0.1031	; popDist[5] = 	0.1289	; popDist[6] =	0.1544	; popDist[7] =	0.1871	; popDist[8] = 	0.2041	; popDist[9] = 	0.2454	; popDist[10] = 	0.2625	; popDist[11] = 	0.2845	; popDist[12] = 	0.2960	; popDist[13] = 	0.3325	; popDist[14] = 	0.3385	; popDist[15] = 	0.3524	; popDist[16] = 	0.3818	; popDist[17] = 	0.4105	; popDist[18] = 	0.4164	; popDist[19] = 	0.4414	; popDist[20] = 	0.4458	; popDist[21] = 	0.4497	; popDist[22] = 	0.4572	; popDist[23] = 	0.4691	; popDist[24] = 	0.4884	; popDist[25] = 	0.5085	; popDist[26] = 	0.5193	; popDist[27] = 	0.5272	; popDist[28] = 	0.5343	; popDist[29] = 	0.5378	; popDist[30] = 	0.5429	; popDist[31] = 	0.5433	; popDist[32] = 	0.5450	; popDist[33] = 	0.5771	; popDist[34] = 	0.5844	; popDist[35] = 	0.5853	; popDist[36] = 	0.5879	; popDist[37] = 	0.5991	; popDist[38] = 	0.6022	; popDist[39] = 	0.6271	; popDist[40] = 	0.6398	; popDist[41] = 	0.6853	; popDist[42] = 	0.7604	; popDist[43] =	0.7881	; popDist[44] =	0.8045	; popDist[45] =	0.8401	; popDist[46] =	0.8690	; popDist[47] =	0.8895	; popDist[48] =	0.8973	; popDist[49] =	0.9174	; popDist[50] =	0.9263	; popDist[51] =	0.9425	; popDist[52] =	0.9514	; popDist[53] =	0.9550	; popDist[54] =	0.9668	; popDist[55] =	0.9713	; popDist[56] =	0.9834	; popDist[57] =	0.9943	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0192	; popDist[2] =	0.0299	; popDist[3] =	0.0393	; popDist[4] =	0.0650	; popDist[5] = 	0.0835	; popDist[6] =	0.0982	; popDist[7] =	0.1298	; popDist[8] = 	0.1502	; popDist[9] = 	0.1910	; popDist[10] = 	0.2130	; popDist[11] = 	0.2397	; popDist[12] = 	0.2529	; popDist[13] = 	0.2847	; popDist[14] = 	0.2911	; popDist[15] = 	0.3009	; popDist[16] = 	0.3239	; popDist[17] = 	0.3479	; popDist[18] = 	0.3547	; popDist[19] = 	0.3823	; popDist[20] = 	0.3865	; popDist[21] = 	0.3909	; popDist[22] = 	0.4001	; popDist[23] = 	0.4105	; popDist[24] = 	0.4270	; popDist[25] = 	0.4397	; popDist[26] = 	0.4508	; popDist[27] = 	0.4586	; popDist[28] = 	0.4630	; popDist[29] = 	0.4673	; popDist[30] = 	0.4741	; popDist[31] = 	0.4747	; popDist[32] = 	0.4766	; popDist[33] = 	0.5028	; popDist[34] = 	0.5111	; popDist[35] = 	0.5121	; popDist[36] = 	0.5159	; popDist[37] = 	0.5288	; popDist[38] = 	0.5334	; popDist[39] = 	0.5537	; popDist[40] = 	0.5619	; popDist[41] = 	0.5924	; popDist[42] = 	0.6656	; popDist[43] =	0.6979	; popDist[44] =	0.7222	; popDist[45] =	0.7756	; popDist[46] =	0.8166	; popDist[47] =	0.8443	; popDist[48] =	0.8543	; popDist[49] =	0.8830	; popDist[50] =	0.8983	; popDist[51] =	0.9213	; popDist[52] =	0.9358	; popDist[53] =	0.9421	; popDist[54] =	0.9583	; popDist[55] =	0.9676	; popDist[56] =	0.9789	; popDist[57] =	0.9920	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0101	; popDist[2] =	0.0176	; popDist[3] =	0.0233	; popDist[4] =	0.0408	; popDist[5] = 	0.0531	; popDist[6] =	0.0620	; popDist[7] =	0.0877	; popDist[8] = 	0.1143	; popDist[9] = 	0.1478	; popDist[10] = 	0.1755	; popDist[11] = 	0.2025	; popDist[12] = 	0.2162	; popDist[13] = 	0.2421	; popDist[14] = 	0.2500	; popDist[15] = 	0.2580	; popDist[16] = 	0.2732	; popDist[17] = 	0.2922	; popDist[18] = 	0.3026	; popDist[19] = 	0.3292	; popDist[20] = 	0.3327	; popDist[21] = 	0.3363	; popDist[22] = 	0.3478	; popDist[23] = 	0.3596	; popDist[24] = 	0.3755	; popDist[25] = 	0.3867	; popDist[26] = 	0.3973	; popDist[27] = 	0.4059	; popDist[28] = 	0.4088	; popDist[29] = 	0.4130	; popDist[30] = 	0.4224	; popDist[31] = 	0.4231	; popDist[32] = 	0.4261	; popDist[33] = 	0.4500	; popDist[34] = 	0.4607	; popDist[35] = 	0.4621	; popDist[36] = 	0.4688	; popDist[37] = 	0.4876	; popDist[38] = 	0.4959	; popDist[39] = 	0.5122	; popDist[40] = 	0.5178	; popDist[41] = 	0.5396	; popDist[42] = 	0.6022	; popDist[43] =	0.6358	; popDist[44] =	0.6626	; popDist[45] =	0.7220	; popDist[46] =	0.7624	; popDist[47] =	0.7956	; popDist[48] =	0.8094	; popDist[49] =	0.8436	; popDist[50] =	0.8637	; popDist[51] =	0.8934	; popDist[52] =	0.9126	; popDist[53] =	0.9230	; popDist[54] =	0.9417	; popDist[55] =	0.9568	; popDist[56] =	0.9680	; popDist[57] =	0.9856	; popDist[58] =	0.9944	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0089	; popDist[3] =	0.0120	; popDist[4] =	0.0195	; popDist[5] = 	0.0259	; popDist[6] =	0.0301	; popDist[7] =	0.0449	; popDist[8] = 	0.0771	; popDist[9] = 	0.0984	; popDist[10] = 	0.1258	; popDist[11] = 	0.1509	; popDist[12] = 	0.1650	; popDist[13] = 	0.1822	; popDist[14] = 	0.1944	; popDist[15] = 	0.2003	; popDist[16] = 	0.2085	; popDist[17] = 	0.2214	; popDist[18] = 	0.2390	; popDist[19] = 	0.2631	; popDist[20] = 	0.2661	; popDist[21] = 	0.2685	; popDist[22] = 	0.2824	; popDist[23] = 	0.2936	; popDist[24] = 	0.3089	; popDist[25] = 	0.3179	; popDist[26] = 	0.3275	; popDist[27] = 	0.3379	; popDist[28] = 	0.3399	; popDist[29] = 	0.3432	; popDist[30] = 	0.3551	; popDist[31] = 	0.3579	; popDist[32] = 	0.3657	; popDist[33] = 	0.3897	; popDist[34] = 	0.4098	; popDist[35] = 	0.4141	; popDist[36] = 	0.4305	; popDist[37] = 	0.4815	; popDist[38] = 	0.5046	; popDist[39] = 	0.5222	; popDist[40] = 	0.5261	; popDist[41] = 	0.5430	; popDist[42] = 	0.5859	; popDist[43] =	0.6146	; popDist[44] =	0.6368	; popDist[45] =	0.6863	; popDist[46] =	0.7198	; popDist[47] =	0.7514	; popDist[48] =	0.7695	; popDist[49] =	0.8102	; popDist[50] =	0.8353	; popDist[51] =	0.8618	; popDist[52] =	0.8834	; popDist[53] =	0.9000	; popDist[54] =	0.9182	; popDist[55] =	0.9398	; popDist[56] =	0.9521	; popDist[57] =	0.9755	; popDist[58] =	0.9899	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0084	; popDist[3] =	0.0116	; popDist[4] =	0.0206	; popDist[5] = 	0.0272	; popDist[6] =	0.0328	; popDist[7] =	0.0470	; popDist[8] = 	0.0563	; popDist[9] = 	0.0694	; popDist[10] = 	0.0769	; popDist[11] = 	0.0902	; popDist[12] = 	0.0976	; popDist[13] = 	0.1136	; popDist[14] = 	0.1196	; popDist[15] = 	0.1260	; popDist[16] = 	0.1338	; popDist[17] = 	0.1470	; popDist[18] = 	0.1514	; popDist[19] = 	0.1725	; popDist[20] = 	0.1767	; popDist[21] = 	0.1800	; popDist[22] = 	0.2031	; popDist[23] = 	0.2675	; popDist[24] = 	0.3147	; popDist[25] = 	0.3446	; popDist[26] = 	0.3625	; popDist[27] = 	0.3960	; popDist[28] = 	0.3992	; popDist[29] = 	0.4040	; popDist[30] = 	0.4114	; popDist[31] = 	0.4138	; popDist[32] = 	0.4220	; popDist[33] = 	0.5082	; popDist[34] = 	0.5163	; popDist[35] = 	0.5198	; popDist[36] = 	0.5283	; popDist[37] = 	0.5393	; popDist[38] = 	0.5467	; popDist[39] = 	0.5594	; popDist[40] = 	0.5668	; popDist[41] = 	0.5796	; popDist[42] = 	0.5987	; popDist[43] =	0.6388	; popDist[44] =	0.6653	; popDist[45] =	0.6886	; popDist[46] =	0.7253	; popDist[47] =	0.7395	; popDist[48] =	0.7682	; popDist[49] =	0.8560	; popDist[50] =	0.8840	; popDist[51] =	0.9060	; popDist[52] =	0.9249	; popDist[53] =	0.9445	; popDist[54] =	0.9612	; popDist[55] =	0.9724	; popDist[56] =	0.9792	; popDist[57] =	0.9892	; popDist[58] =	0.9978	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0028	; popDist[2] =	0.0042	; popDist[3] =	0.0058	; popDist[4] =	0.0118	; popDist[5] = 	0.0159	; popDist[6] =	0.0188	; popDist[7] =	0.0308	; popDist[8] = 	0.0406	; popDist[9] = 	0.0520	; popDist[10] = 	0.0604	; popDist[11] = 	0.0747	; popDist[12] = 	0.0821	; popDist[13] = 	0.0944	; popDist[14] = 	0.1000	; popDist[15] = 	0.1040	; popDist[16] = 	0.1094	; popDist[17] = 	0.1190	; popDist[18] = 	0.1235	; popDist[19] = 	0.1440	; popDist[20] = 	0.1475	; popDist[21] = 	0.1508	; popDist[22] = 	0.1754	; popDist[23] = 	0.2251	; popDist[24] = 	0.2604	; popDist[25] = 	0.2771	; popDist[26] = 	0.2932	; popDist[27] = 	0.3224	; popDist[28] = 	0.3241	; popDist[29] = 	0.3294	; popDist[30] = 	0.3380	; popDist[31] = 	0.3409	; popDist[32] = 	0.3496	; popDist[33] = 	0.4114	; popDist[34] = 	0.4195	; popDist[35] = 	0.4230	; popDist[36] = 	0.4340	; popDist[37] = 	0.4451	; popDist[38] = 	0.4546	; popDist[39] = 	0.4637	; popDist[40] = 	0.4679	; popDist[41] = 	0.4755	; popDist[42] = 	0.4918	; popDist[43] =	0.5330	; popDist[44] =	0.5675	; popDist[45] =	0.5983	; popDist[46] =	0.6440	; popDist[47] =	0.6609	; popDist[48] =	0.6933	; popDist[49] =	0.8033	; popDist[50] =	0.8458	; popDist[51] =	0.8734	; popDist[52] =	0.9002	; popDist[53] =	0.9303	; popDist[54] =	0.9506	; popDist[55] =	0.9710	; popDist[56] =	0.9766	; popDist[57] =	0.9872	; popDist[58] =	0.9967	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0013	; popDist[2] =	0.0021	; popDist[3] =	0.0030	; popDist[4] =	0.0065	; popDist[5] = 	0.0089	; popDist[6] =	0.0105	; popDist[7] =	0.0190	; popDist[8] = 	0.0302	; popDist[9] = 	0.0383	; popDist[10] = 	0.0476	; popDist[11] = 	0.0602	; popDist[12] = 	0.0669	; popDist[13] = 	0.0757	; popDist[14] = 	0.0817	; popDist[15] = 	0.0845	; popDist[16] = 	0.0876	; popDist[17] = 	0.0943	; popDist[18] = 	0.1003	; popDist[19] = 	0.1176	; popDist[20] = 	0.1201	; popDist[21] = 	0.1224	; popDist[22] = 	0.1493	; popDist[23] = 	0.1985	; popDist[24] = 	0.2283	; popDist[25] = 	0.2412	; popDist[26] = 	0.2546	; popDist[27] = 	0.2826	; popDist[28] = 	0.2836	; popDist[29] = 	0.2881	; popDist[30] = 	0.2986	; popDist[31] = 	0.3015	; popDist[32] = 	0.3132	; popDist[33] = 	0.3624	; popDist[34] = 	0.3715	; popDist[35] = 	0.3759	; popDist[36] = 	0.3928	; popDist[37] = 	0.4069	; popDist[38] = 	0.4220	; popDist[39] = 	0.4284	; popDist[40] = 	0.4309	; popDist[41] = 	0.4356	; popDist[42] = 	0.4478	; popDist[43] =	0.4852	; popDist[44] =	0.5184	; popDist[45] =	0.5483	; popDist[46] =	0.5877	; popDist[47] =	0.6054	; popDist[48] =	0.6447	; popDist[49] =	0.7589	; popDist[50] =	0.8077	; popDist[51] =	0.8387	; popDist[52] =	0.8699	; popDist[53] =	0.9136	; popDist[54] =	0.9339	; popDist[55] =	0.9629	; popDist[56] =	0.9677	; popDist[57] =	0.9801	; popDist[58] =	0.9943	; popDist[59] =	1	;}
-			else if (gender == 	1	&& age >=	65			&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0009	; popDist[3] =	0.0013	; popDist[4] =	0.0026	; popDist[5] = 	0.0036	; popDist[6] =	0.0043	; popDist[7] =	0.0084	; popDist[8] = 	0.0198	; popDist[9] = 	0.0241	; popDist[10] = 	0.0319	; popDist[11] = 	0.0417	; popDist[12] = 	0.0476	; popDist[13] = 	0.0525	; popDist[14] = 	0.0603	; popDist[15] = 	0.0621	; popDist[16] = 	0.0635	; popDist[17] = 	0.0673	; popDist[18] = 	0.0758	; popDist[19] = 	0.0890	; popDist[20] = 	0.0908	; popDist[21] = 	0.0921	; popDist[22] = 	0.1196	; popDist[23] = 	0.1589	; popDist[24] = 	0.1829	; popDist[25] = 	0.1917	; popDist[26] = 	0.2020	; popDist[27] = 	0.2304	; popDist[28] = 	0.2310	; popDist[29] = 	0.2339	; popDist[30] = 	0.2453	; popDist[31] = 	0.2553	; popDist[32] = 	0.2806	; popDist[33] = 	0.3223	; popDist[34] = 	0.3366	; popDist[35] = 	0.3480	; popDist[36] = 	0.3830	; popDist[37] = 	0.4152	; popDist[38] = 	0.4508	; popDist[39] = 	0.4566	; popDist[40] = 	0.4581	; popDist[41] = 	0.4612	; popDist[42] = 	0.4682	; popDist[43] =	0.4951	; popDist[44] =	0.5182	; popDist[45] =	0.5393	; popDist[46] =	0.5668	; popDist[47] =	0.5810	; popDist[48] =	0.6243	; popDist[49] =	0.7391	; popDist[50] =	0.7904	; popDist[51] =	0.8138	; popDist[52] =	0.8433	; popDist[53] =	0.9018	; popDist[54] =	0.9185	; popDist[55] =	0.9534	; popDist[56] =	0.9579	; popDist[57] =	0.9717	; popDist[58] =	0.9914	; popDist[59] =	1	;}		
+		// table of probabilities of moving, by covariate pattern
+		// covariates: durRes1-durRes3, inc1-inc3, lastviolvict
+		public static final int		M_DURRES1 = 0, M_DURRES2 = 1, M_DURRES3 = 2, M_INC1 = 3, M_INC2 = 4, M_INC3 = 5,
+									M_LASTVIOLVICT = 6, NUM_M = 7;
+		public static final String[]	M_NAMES = { "durRes1", "durRes2", "durRes3", "inc1", "inc2", "inc3", "lastviolvict" };
+		
+		// buildMoveTable()
+		// Table of probabilities of moving from the "move" equation; built by the model when coefficients are loaded,
+		// and kept in the population store of the model's agents
+		public static AlcoholLogitTable buildMoveTable(AlcoholCoefficients coefficients) {
+			final AlcoholCoefficients.Equation move = coefficients.equation("move");
+			return new AlcoholLogitTable(NUM_M, 1, new AlcoholLogitTable.Equation() {
+				public void values(double[] x, double[] p) {
+					p[0] = AlcoholLogitTable.logistic(move.logit(x));
+				}
+			});
 		}
 		
-		// a.hoodProbDist4()
-		public void hoodProbDist4() {
-			if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0013	; popDist[2] =	0.0018	; popDist[3] =	0.0024	; popDist[4] =	0.0041	; popDist[5] = 	0.0057	; popDist[6] =	0.0155	; popDist[7] =	0.0273	; popDist[8] = 	0.0429	; popDist[9] = 	0.0479	; popDist[10] = 	0.0651	; popDist[11] = 	0.0827	; popDist[12] = 	0.0904	; popDist[13] = 	0.1438	; popDist[14] = 	0.1588	; popDist[15] = 	0.1606	; popDist[16] = 	0.1634	; popDist[17] = 	0.1710	; popDist[18] = 	0.1860	; popDist[19] = 	0.2018	; popDist[20] = 	0.2072	; popDist[21] = 	0.2124	; popDist[22] = 	0.2368	; popDist[23] = 	0.2880	; popDist[24] = 	0.3535	; popDist[25] = 	0.3935	; popDist[26] = 	0.4251	; popDist[27] = 	0.4714	; popDist[28] = 	0.4719	; popDist[29] = 	0.4736	; popDist[30] = 	0.4957	; popDist[31] = 	0.5027	; popDist[32] = 	0.5216	; popDist[33] = 	0.5555	; popDist[34] = 	0.5676	; popDist[35] = 	0.5786	; popDist[36] = 	0.5971	; popDist[37] = 	0.6220	; popDist[38] = 	0.6443	; popDist[39] = 	0.6657	; popDist[40] = 	0.6675	; popDist[41] = 	0.6755	; popDist[42] = 	0.6948	; popDist[43] =	0.7379	; popDist[44] =	0.7501	; popDist[45] =	0.7604	; popDist[46] =	0.7682	; popDist[47] =	0.8031	; popDist[48] =	0.8200	; popDist[49] =	0.8478	; popDist[50] =	0.8625	; popDist[51] =	0.8777	; popDist[52] =	0.8909	; popDist[53] =	0.9019	; popDist[54] =	0.9043	; popDist[55] =	0.9114	; popDist[56] =	0.9314	; popDist[57] =	0.9592	; popDist[58] =	0.9811	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0009	; popDist[3] =	0.0012	; popDist[4] =	0.0024	; popDist[5] = 	0.0034	; popDist[6] =	0.0084	; popDist[7] =	0.0186	; popDist[8] = 	0.0353	; popDist[9] = 	0.0397	; popDist[10] = 	0.0594	; popDist[11] = 	0.0786	; popDist[12] = 	0.0865	; popDist[13] = 	0.1280	; popDist[14] = 	0.1423	; popDist[15] = 	0.1434	; popDist[16] = 	0.1454	; popDist[17] = 	0.1510	; popDist[18] = 	0.1666	; popDist[19] = 	0.1822	; popDist[20] = 	0.1867	; popDist[21] = 	0.1921	; popDist[22] = 	0.2185	; popDist[23] = 	0.2586	; popDist[24] = 	0.3085	; popDist[25] = 	0.3311	; popDist[26] = 	0.3601	; popDist[27] = 	0.4011	; popDist[28] = 	0.4014	; popDist[29] = 	0.4033	; popDist[30] = 	0.4294	; popDist[31] = 	0.4382	; popDist[32] = 	0.4585	; popDist[33] = 	0.4831	; popDist[34] = 	0.4954	; popDist[35] = 	0.5067	; popDist[36] = 	0.5309	; popDist[37] = 	0.5565	; popDist[38] = 	0.5856	; popDist[39] = 	0.6012	; popDist[40] = 	0.6022	; popDist[41] = 	0.6070	; popDist[42] = 	0.6238	; popDist[43] =	0.6688	; popDist[44] =	0.6849	; popDist[45] =	0.6987	; popDist[46] =	0.7086	; popDist[47] =	0.7506	; popDist[48] =	0.7701	; popDist[49] =	0.8054	; popDist[50] =	0.8281	; popDist[51] =	0.8473	; popDist[52] =	0.8665	; popDist[53] =	0.8837	; popDist[54] =	0.8866	; popDist[55] =	0.8999	; popDist[56] =	0.9165	; popDist[57] =	0.9464	; popDist[58] =	0.9709	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0006	; popDist[4] =	0.0012	; popDist[5] = 	0.0018	; popDist[6] =	0.0043	; popDist[7] =	0.0111	; popDist[8] = 	0.0291	; popDist[9] = 	0.0321	; popDist[10] = 	0.0525	; popDist[11] = 	0.0685	; popDist[12] = 	0.0753	; popDist[13] = 	0.1031	; popDist[14] = 	0.1177	; popDist[15] = 	0.1184	; popDist[16] = 	0.1195	; popDist[17] = 	0.1232	; popDist[18] = 	0.1429	; popDist[19] = 	0.1553	; popDist[20] = 	0.1584	; popDist[21] = 	0.1619	; popDist[22] = 	0.1893	; popDist[23] = 	0.2267	; popDist[24] = 	0.2665	; popDist[25] = 	0.2829	; popDist[26] = 	0.3057	; popDist[27] = 	0.3428	; popDist[28] = 	0.3430	; popDist[29] = 	0.3445	; popDist[30] = 	0.3746	; popDist[31] = 	0.3830	; popDist[32] = 	0.4087	; popDist[33] = 	0.4272	; popDist[34] = 	0.4403	; popDist[35] = 	0.4536	; popDist[36] = 	0.4887	; popDist[37] = 	0.5195	; popDist[38] = 	0.5631	; popDist[39] = 	0.5735	; popDist[40] = 	0.5741	; popDist[41] = 	0.5769	; popDist[42] = 	0.5887	; popDist[43] =	0.6273	; popDist[44] =	0.6419	; popDist[45] =	0.6546	; popDist[46] =	0.6626	; popDist[47] =	0.7041	; popDist[48] =	0.7264	; popDist[49] =	0.7611	; popDist[50] =	0.7857	; popDist[51] =	0.8061	; popDist[52] =	0.8273	; popDist[53] =	0.8507	; popDist[54] =	0.8535	; popDist[55] =	0.8712	; popDist[56] =	0.8848	; popDist[57] =	0.9178	; popDist[58] =	0.9525	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0002	; popDist[4] =	0.0004	; popDist[5] = 	0.0006	; popDist[6] =	0.0015	; popDist[7] =	0.0043	; popDist[8] = 	0.0198	; popDist[9] = 	0.0212	; popDist[10] = 	0.0357	; popDist[11] = 	0.0462	; popDist[12] = 	0.0512	; popDist[13] = 	0.0644	; popDist[14] = 	0.0804	; popDist[15] = 	0.0808	; popDist[16] = 	0.0813	; popDist[17] = 	0.0830	; popDist[18] = 	0.1068	; popDist[19] = 	0.1148	; popDist[20] = 	0.1167	; popDist[21] = 	0.1184	; popDist[22] = 	0.1420	; popDist[23] = 	0.1674	; popDist[24] = 	0.1946	; popDist[25] = 	0.2041	; popDist[26] = 	0.2189	; popDist[27] = 	0.2509	; popDist[28] = 	0.2509	; popDist[29] = 	0.2518	; popDist[30] = 	0.2792	; popDist[31] = 	0.3034	; popDist[32] = 	0.3506	; popDist[33] = 	0.3639	; popDist[34] = 	0.3815	; popDist[35] = 	0.4108	; popDist[36] = 	0.4722	; popDist[37] = 	0.5317	; popDist[38] = 	0.6189	; popDist[39] = 	0.6269	; popDist[40] = 	0.6272	; popDist[41] = 	0.6288	; popDist[42] = 	0.6346	; popDist[43] =	0.6581	; popDist[44] =	0.6667	; popDist[45] =	0.6743	; popDist[46] =	0.6790	; popDist[47] =	0.7072	; popDist[48] =	0.7281	; popDist[49] =	0.7576	; popDist[50] =	0.7795	; popDist[51] =	0.7926	; popDist[52] =	0.8095	; popDist[53] =	0.8360	; popDist[54] =	0.8380	; popDist[55] =	0.8561	; popDist[56] =	0.8668	; popDist[57] =	0.8980	; popDist[58] =	0.9386	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0212	; popDist[2] =	0.0310	; popDist[3] =	0.0580	; popDist[4] =	0.0982	; popDist[5] = 	0.1327	; popDist[6] =	0.1552	; popDist[7] =	0.1737	; popDist[8] = 	0.1773	; popDist[9] = 	0.2096	; popDist[10] = 	0.2157	; popDist[11] = 	0.2230	; popDist[12] = 	0.2607	; popDist[13] = 	0.2675	; popDist[14] = 	0.2819	; popDist[15] = 	0.3587	; popDist[16] = 	0.3793	; popDist[17] = 	0.4356	; popDist[18] = 	0.4387	; popDist[19] = 	0.4413	; popDist[20] = 	0.4825	; popDist[21] = 	0.5275	; popDist[22] = 	0.5279	; popDist[23] = 	0.5282	; popDist[24] = 	0.5316	; popDist[25] = 	0.5394	; popDist[26] = 	0.5705	; popDist[27] = 	0.5719	; popDist[28] = 	0.6287	; popDist[29] = 	0.6947	; popDist[30] = 	0.7198	; popDist[31] = 	0.7204	; popDist[32] = 	0.7209	; popDist[33] = 	0.7287	; popDist[34] = 	0.7300	; popDist[35] = 	0.7306	; popDist[36] = 	0.7314	; popDist[37] = 	0.7347	; popDist[38] = 	0.7354	; popDist[39] = 	0.7676	; popDist[40] = 	0.8209	; popDist[41] = 	0.8533	; popDist[42] = 	0.8677	; popDist[43] =	0.8729	; popDist[44] =	0.8738	; popDist[45] =	0.8802	; popDist[46] =	0.8852	; popDist[47] =	0.8858	; popDist[48] =	0.8864	; popDist[49] =	0.8881	; popDist[50] =	0.8927	; popDist[51] =	0.8959	; popDist[52] =	0.9012	; popDist[53] =	0.9015	; popDist[54] =	0.9569	; popDist[55] =	0.9734	; popDist[56] =	0.9901	; popDist[57] =	0.9992	; popDist[58] =	0.9998	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0128	; popDist[2] =	0.0187	; popDist[3] =	0.0350	; popDist[4] =	0.0671	; popDist[5] = 	0.0933	; popDist[6] =	0.1071	; popDist[7] =	0.1261	; popDist[8] = 	0.1306	; popDist[9] = 	0.1645	; popDist[10] = 	0.1729	; popDist[11] = 	0.1823	; popDist[12] = 	0.2279	; popDist[13] = 	0.2342	; popDist[14] = 	0.2504	; popDist[15] = 	0.3078	; popDist[16] = 	0.3250	; popDist[17] = 	0.3748	; popDist[18] = 	0.3786	; popDist[19] = 	0.3817	; popDist[20] = 	0.4232	; popDist[21] = 	0.4779	; popDist[22] = 	0.4784	; popDist[23] = 	0.4787	; popDist[24] = 	0.4817	; popDist[25] = 	0.4870	; popDist[26] = 	0.5208	; popDist[27] = 	0.5223	; popDist[28] = 	0.5592	; popDist[29] = 	0.6460	; popDist[30] = 	0.6814	; popDist[31] = 	0.6822	; popDist[32] = 	0.6829	; popDist[33] = 	0.6896	; popDist[34] = 	0.6912	; popDist[35] = 	0.6919	; popDist[36] = 	0.6932	; popDist[37] = 	0.6972	; popDist[38] = 	0.6984	; popDist[39] = 	0.7262	; popDist[40] = 	0.7629	; popDist[41] = 	0.7859	; popDist[42] = 	0.8007	; popDist[43] =	0.8071	; popDist[44] =	0.8085	; popDist[45] =	0.8187	; popDist[46] =	0.8262	; popDist[47] =	0.8271	; popDist[48] =	0.8280	; popDist[49] =	0.8306	; popDist[50] =	0.8389	; popDist[51] =	0.8438	; popDist[52] =	0.8529	; popDist[53] =	0.8535	; popDist[54] =	0.9344	; popDist[55] =	0.9708	; popDist[56] =	0.9872	; popDist[57] =	0.9988	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0072	; popDist[2] =	0.0116	; popDist[3] =	0.0221	; popDist[4] =	0.0453	; popDist[5] = 	0.0638	; popDist[6] =	0.0726	; popDist[7] =	0.0890	; popDist[8] = 	0.0953	; popDist[9] = 	0.1248	; popDist[10] = 	0.1359	; popDist[11] = 	0.1460	; popDist[12] = 	0.1965	; popDist[13] = 	0.2019	; popDist[14] = 	0.2232	; popDist[15] = 	0.2730	; popDist[16] = 	0.2850	; popDist[17] = 	0.3268	; popDist[18] = 	0.3330	; popDist[19] = 	0.3361	; popDist[20] = 	0.3727	; popDist[21] = 	0.4195	; popDist[22] = 	0.4201	; popDist[23] = 	0.4205	; popDist[24] = 	0.4236	; popDist[25] = 	0.4285	; popDist[26] = 	0.4626	; popDist[27] = 	0.4644	; popDist[28] = 	0.4911	; popDist[29] = 	0.5797	; popDist[30] = 	0.6320	; popDist[31] = 	0.6330	; popDist[32] = 	0.6342	; popDist[33] = 	0.6407	; popDist[34] = 	0.6429	; popDist[35] = 	0.6439	; popDist[36] = 	0.6464	; popDist[37] = 	0.6525	; popDist[38] = 	0.6548	; popDist[39] = 	0.6785	; popDist[40] = 	0.7051	; popDist[41] = 	0.7226	; popDist[42] = 	0.7361	; popDist[43] =	0.7431	; popDist[44] =	0.7447	; popDist[45] =	0.7568	; popDist[46] =	0.7647	; popDist[47] =	0.7658	; popDist[48] =	0.7670	; popDist[49] =	0.7703	; popDist[50] =	0.7820	; popDist[51] =	0.7887	; popDist[52] =	0.8015	; popDist[53] =	0.8025	; popDist[54] =	0.9013	; popDist[55] =	0.9639	; popDist[56] =	0.9813	; popDist[57] =	0.9978	; popDist[58] =	0.9992	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0043	; popDist[2] =	0.0063	; popDist[3] =	0.0124	; popDist[4] =	0.0230	; popDist[5] = 	0.0332	; popDist[6] =	0.0377	; popDist[7] =	0.0478	; popDist[8] = 	0.0559	; popDist[9] = 	0.0758	; popDist[10] = 	0.0876	; popDist[11] = 	0.0976	; popDist[12] = 	0.1529	; popDist[13] = 	0.1567	; popDist[14] = 	0.1917	; popDist[15] = 	0.2310	; popDist[16] = 	0.2379	; popDist[17] = 	0.2681	; popDist[18] = 	0.2792	; popDist[19] = 	0.2822	; popDist[20] = 	0.3155	; popDist[21] = 	0.3491	; popDist[22] = 	0.3500	; popDist[23] = 	0.3504	; popDist[24] = 	0.3535	; popDist[25] = 	0.3578	; popDist[26] = 	0.3909	; popDist[27] = 	0.3932	; popDist[28] = 	0.4124	; popDist[29] = 	0.4867	; popDist[30] = 	0.5580	; popDist[31] = 	0.5622	; popDist[32] = 	0.5655	; popDist[33] = 	0.5725	; popDist[34] = 	0.5769	; popDist[35] = 	0.5803	; popDist[36] = 	0.5867	; popDist[37] = 	0.6043	; popDist[38] = 	0.6112	; popDist[39] = 	0.6385	; popDist[40] = 	0.6580	; popDist[41] = 	0.6725	; popDist[42] = 	0.6823	; popDist[43] =	0.6888	; popDist[44] =	0.6902	; popDist[45] =	0.7009	; popDist[46] =	0.7079	; popDist[47] =	0.7090	; popDist[48] =	0.7107	; popDist[49] =	0.7149	; popDist[50] =	0.7305	; popDist[51] =	0.7368	; popDist[52] =	0.7521	; popDist[53] =	0.7539	; popDist[54] =	0.8568	; popDist[55] =	0.9523	; popDist[56] =	0.9726	; popDist[57] =	0.9959	; popDist[58] =	0.9985	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0490	; popDist[2] =	0.0770	; popDist[3] =	0.1053	; popDist[4] =	0.1574	; popDist[5] = 	0.2121	; popDist[6] =	0.2570	; popDist[7] =	0.2995	; popDist[8] = 	0.3075	; popDist[9] = 	0.3533	; popDist[10] = 	0.3604	; popDist[11] = 	0.3718	; popDist[12] = 	0.3813	; popDist[13] = 	0.4178	; popDist[14] = 	0.4234	; popDist[15] = 	0.4397	; popDist[16] = 	0.4888	; popDist[17] = 	0.5282	; popDist[18] = 	0.5330	; popDist[19] = 	0.5586	; popDist[20] = 	0.5637	; popDist[21] = 	0.5683	; popDist[22] = 	0.5714	; popDist[23] = 	0.5767	; popDist[24] = 	0.5894	; popDist[25] = 	0.5972	; popDist[26] = 	0.6067	; popDist[27] = 	0.6099	; popDist[28] = 	0.6217	; popDist[29] = 	0.6259	; popDist[30] = 	0.6299	; popDist[31] = 	0.6305	; popDist[32] = 	0.6317	; popDist[33] = 	0.6544	; popDist[34] = 	0.6577	; popDist[35] = 	0.6585	; popDist[36] = 	0.6599	; popDist[37] = 	0.6650	; popDist[38] = 	0.6664	; popDist[39] = 	0.7025	; popDist[40] = 	0.7122	; popDist[41] = 	0.7527	; popDist[42] = 	0.8292	; popDist[43] =	0.8495	; popDist[44] =	0.8606	; popDist[45] =	0.8904	; popDist[46] =	0.9199	; popDist[47] =	0.9314	; popDist[48] =	0.9340	; popDist[49] =	0.9427	; popDist[50] =	0.9476	; popDist[51] =	0.9617	; popDist[52] =	0.9678	; popDist[53] =	0.9691	; popDist[54] =	0.9790	; popDist[55] =	0.9820	; popDist[56] =	0.9892	; popDist[57] =	0.9969	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0303	; popDist[2] =	0.0474	; popDist[3] =	0.0648	; popDist[4] =	0.1073	; popDist[5] = 	0.1496	; popDist[6] =	0.1776	; popDist[7] =	0.2221	; popDist[8] = 	0.2324	; popDist[9] = 	0.2813	; popDist[10] = 	0.2912	; popDist[11] = 	0.3063	; popDist[12] = 	0.3180	; popDist[13] = 	0.3523	; popDist[14] = 	0.3588	; popDist[15] = 	0.3712	; popDist[16] = 	0.4128	; popDist[17] = 	0.4484	; popDist[18] = 	0.4544	; popDist[19] = 	0.4849	; popDist[20] = 	0.4901	; popDist[21] = 	0.4958	; popDist[22] = 	0.4999	; popDist[23] = 	0.5049	; popDist[24] = 	0.5166	; popDist[25] = 	0.5219	; popDist[26] = 	0.5325	; popDist[27] = 	0.5359	; popDist[28] = 	0.5437	; popDist[29] = 	0.5494	; popDist[30] = 	0.5550	; popDist[31] = 	0.5559	; popDist[32] = 	0.5575	; popDist[33] = 	0.5775	; popDist[34] = 	0.5815	; popDist[35] = 	0.5825	; popDist[36] = 	0.5848	; popDist[37] = 	0.5911	; popDist[38] = 	0.5932	; popDist[39] = 	0.6252	; popDist[40] = 	0.6320	; popDist[41] = 	0.6612	; popDist[42] = 	0.7417	; popDist[43] =	0.7674	; popDist[44] =	0.7852	; popDist[45] =	0.8335	; popDist[46] =	0.8788	; popDist[47] =	0.8955	; popDist[48] =	0.8992	; popDist[49] =	0.9125	; popDist[50] =	0.9217	; popDist[51] =	0.9434	; popDist[52] =	0.9540	; popDist[53] =	0.9565	; popDist[54] =	0.9713	; popDist[55] =	0.9780	; popDist[56] =	0.9852	; popDist[57] =	0.9953	; popDist[58] =	0.9981	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0174	; popDist[2] =	0.0305	; popDist[3] =	0.0420	; popDist[4] =	0.0736	; popDist[5] = 	0.1042	; popDist[6] =	0.1226	; popDist[7] =	0.1621	; popDist[8] = 	0.1768	; popDist[9] = 	0.2206	; popDist[10] = 	0.2341	; popDist[11] = 	0.2507	; popDist[12] = 	0.2641	; popDist[13] = 	0.2945	; popDist[14] = 	0.3032	; popDist[15] = 	0.3143	; popDist[16] = 	0.3442	; popDist[17] = 	0.3749	; popDist[18] = 	0.3850	; popDist[19] = 	0.4171	; popDist[20] = 	0.4218	; popDist[21] = 	0.4268	; popDist[22] = 	0.4324	; popDist[23] = 	0.4385	; popDist[24] = 	0.4509	; popDist[25] = 	0.4560	; popDist[26] = 	0.4670	; popDist[27] = 	0.4710	; popDist[28] = 	0.4768	; popDist[29] = 	0.4828	; popDist[30] = 	0.4913	; popDist[31] = 	0.4924	; popDist[32] = 	0.4951	; popDist[33] = 	0.5150	; popDist[34] = 	0.5206	; popDist[35] = 	0.5222	; popDist[36] = 	0.5265	; popDist[37] = 	0.5365	; popDist[38] = 	0.5408	; popDist[39] = 	0.5687	; popDist[40] = 	0.5738	; popDist[41] = 	0.5966	; popDist[42] = 	0.6717	; popDist[43] =	0.7007	; popDist[44] =	0.7222	; popDist[45] =	0.7809	; popDist[46] =	0.8295	; popDist[47] =	0.8513	; popDist[48] =	0.8568	; popDist[49] =	0.8742	; popDist[50] =	0.8873	; popDist[51] =	0.9178	; popDist[52] =	0.9333	; popDist[53] =	0.9377	; popDist[54] =	0.9563	; popDist[55] =	0.9681	; popDist[56] =	0.9759	; popDist[57] =	0.9906	; popDist[58] =	0.9959	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0108	; popDist[2] =	0.0173	; popDist[3] =	0.0243	; popDist[4] =	0.0394	; popDist[5] = 	0.0573	; popDist[6] =	0.0671	; popDist[7] =	0.0925	; popDist[8] = 	0.1125	; popDist[9] = 	0.1436	; popDist[10] = 	0.1585	; popDist[11] = 	0.1758	; popDist[12] = 	0.1911	; popDist[13] = 	0.2138	; popDist[14] = 	0.2289	; popDist[15] = 	0.2380	; popDist[16] = 	0.2562	; popDist[17] = 	0.2795	; popDist[18] = 	0.2985	; popDist[19] = 	0.3310	; popDist[20] = 	0.3355	; popDist[21] = 	0.3393	; popDist[22] = 	0.3468	; popDist[23] = 	0.3533	; popDist[24] = 	0.3666	; popDist[25] = 	0.3712	; popDist[26] = 	0.3824	; popDist[27] = 	0.3879	; popDist[28] = 	0.3923	; popDist[29] = 	0.3975	; popDist[30] = 	0.4097	; popDist[31] = 	0.4149	; popDist[32] = 	0.4225	; popDist[33] = 	0.4450	; popDist[34] = 	0.4566	; popDist[35] = 	0.4623	; popDist[36] = 	0.4740	; popDist[37] = 	0.5044	; popDist[38] = 	0.5178	; popDist[39] = 	0.5516	; popDist[40] = 	0.5555	; popDist[41] = 	0.5753	; popDist[42] = 	0.6330	; popDist[43] =	0.6607	; popDist[44] =	0.6806	; popDist[45] =	0.7354	; popDist[46] =	0.7806	; popDist[47] =	0.8038	; popDist[48] =	0.8119	; popDist[49] =	0.8351	; popDist[50] =	0.8534	; popDist[51] =	0.8840	; popDist[52] =	0.9034	; popDist[53] =	0.9112	; popDist[54] =	0.9316	; popDist[55] =	0.9506	; popDist[56] =	0.9602	; popDist[57] =	0.9820	; popDist[58] =	0.9918	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0113	; popDist[2] =	0.0169	; popDist[3] =	0.0244	; popDist[4] =	0.0433	; popDist[5] = 	0.0625	; popDist[6] =	0.0762	; popDist[7] =	0.1015	; popDist[8] = 	0.1075	; popDist[9] = 	0.1275	; popDist[10] = 	0.1317	; popDist[11] = 	0.1412	; popDist[12] = 	0.1496	; popDist[13] = 	0.1716	; popDist[14] = 	0.1793	; popDist[15] = 	0.1896	; popDist[16] = 	0.2077	; popDist[17] = 	0.2325	; popDist[18] = 	0.2374	; popDist[19] = 	0.2671	; popDist[20] = 	0.2737	; popDist[21] = 	0.2791	; popDist[22] = 	0.2921	; popDist[23] = 	0.3312	; popDist[24] = 	0.3739	; popDist[25] = 	0.3898	; popDist[26] = 	0.4115	; popDist[27] = 	0.4299	; popDist[28] = 	0.4370	; popDist[29] = 	0.4450	; popDist[30] = 	0.4529	; popDist[31] = 	0.4574	; popDist[32] = 	0.4658	; popDist[33] = 	0.5497	; popDist[34] = 	0.5546	; popDist[35] = 	0.5595	; popDist[36] = 	0.5658	; popDist[37] = 	0.5726	; popDist[38] = 	0.5771	; popDist[39] = 	0.6024	; popDist[40] = 	0.6102	; popDist[41] = 	0.6258	; popDist[42] = 	0.6525	; popDist[43] =	0.6929	; popDist[44] =	0.7176	; popDist[45] =	0.7444	; popDist[46] =	0.7959	; popDist[47] =	0.8069	; popDist[48] =	0.8202	; popDist[49] =	0.8722	; popDist[50] =	0.8935	; popDist[51] =	0.9199	; popDist[52] =	0.9376	; popDist[53] =	0.9472	; popDist[54] =	0.9665	; popDist[55] =	0.9768	; popDist[56] =	0.9824	; popDist[57] =	0.9921	; popDist[58] =	0.9982	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0059	; popDist[2] =	0.0088	; popDist[3] =	0.0128	; popDist[4] =	0.0258	; popDist[5] = 	0.0384	; popDist[6] =	0.0457	; popDist[7] =	0.0681	; popDist[8] = 	0.0747	; popDist[9] = 	0.0928	; popDist[10] = 	0.0978	; popDist[11] = 	0.1085	; popDist[12] = 	0.1172	; popDist[13] = 	0.1348	; popDist[14] = 	0.1423	; popDist[15] = 	0.1490	; popDist[16] = 	0.1620	; popDist[17] = 	0.1810	; popDist[18] = 	0.1862	; popDist[19] = 	0.2163	; popDist[20] = 	0.2220	; popDist[21] = 	0.2277	; popDist[22] = 	0.2421	; popDist[23] = 	0.2735	; popDist[24] = 	0.3069	; popDist[25] = 	0.3162	; popDist[26] = 	0.3366	; popDist[27] = 	0.3533	; popDist[28] = 	0.3574	; popDist[29] = 	0.3664	; popDist[30] = 	0.3760	; popDist[31] = 	0.3818	; popDist[32] = 	0.3910	; popDist[33] = 	0.4538	; popDist[34] = 	0.4589	; popDist[35] = 	0.4640	; popDist[36] = 	0.4725	; popDist[37] = 	0.4797	; popDist[38] = 	0.4857	; popDist[39] = 	0.5046	; popDist[40] = 	0.5093	; popDist[41] = 	0.5189	; popDist[42] = 	0.5427	; popDist[43] =	0.5860	; popDist[44] =	0.6195	; popDist[45] =	0.6565	; popDist[46] =	0.7235	; popDist[47] =	0.7371	; popDist[48] =	0.7527	; popDist[49] =	0.8207	; popDist[50] =	0.8545	; popDist[51] =	0.8890	; popDist[52] =	0.9151	; popDist[53] =	0.9306	; popDist[54] =	0.9550	; popDist[55] =	0.9746	; popDist[56] =	0.9793	; popDist[57] =	0.9901	; popDist[58] =	0.9971	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0029	; popDist[2] =	0.0048	; popDist[3] =	0.0070	; popDist[4] =	0.0152	; popDist[5] = 	0.0229	; popDist[6] =	0.0270	; popDist[7] =	0.0439	; popDist[8] = 	0.0519	; popDist[9] = 	0.0656	; popDist[10] = 	0.0714	; popDist[11] = 	0.0814	; popDist[12] = 	0.0899	; popDist[13] = 	0.1031	; popDist[14] = 	0.1116	; popDist[15] = 	0.1167	; popDist[16] = 	0.1246	; popDist[17] = 	0.1385	; popDist[18] = 	0.1459	; popDist[19] = 	0.1728	; popDist[20] = 	0.1772	; popDist[21] = 	0.1814	; popDist[22] = 	0.1981	; popDist[23] = 	0.2311	; popDist[24] = 	0.2609	; popDist[25] = 	0.2685	; popDist[26] = 	0.2865	; popDist[27] = 	0.3035	; popDist[28] = 	0.3060	; popDist[29] = 	0.3141	; popDist[30] = 	0.3264	; popDist[31] = 	0.3327	; popDist[32] = 	0.3458	; popDist[33] = 	0.3988	; popDist[34] = 	0.4048	; popDist[35] = 	0.4116	; popDist[36] = 	0.4255	; popDist[37] = 	0.4352	; popDist[38] = 	0.4453	; popDist[39] = 	0.4593	; popDist[40] = 	0.4623	; popDist[41] = 	0.4686	; popDist[42] = 	0.4875	; popDist[43] =	0.5291	; popDist[44] =	0.5633	; popDist[45] =	0.6014	; popDist[46] =	0.6624	; popDist[47] =	0.6774	; popDist[48] =	0.6976	; popDist[49] =	0.7724	; popDist[50] =	0.8135	; popDist[51] =	0.8546	; popDist[52] =	0.8868	; popDist[53] =	0.9105	; popDist[54] =	0.9366	; popDist[55] =	0.9659	; popDist[56] =	0.9703	; popDist[57] =	0.9836	; popDist[58] =	0.9947	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	18	&& age <=	24	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0014	; popDist[2] =	0.0022	; popDist[3] =	0.0033	; popDist[4] =	0.0064	; popDist[5] = 	0.0100	; popDist[6] =	0.0117	; popDist[7] =	0.0204	; popDist[8] = 	0.0290	; popDist[9] = 	0.0368	; popDist[10] = 	0.0420	; popDist[11] = 	0.0503	; popDist[12] = 	0.0580	; popDist[13] = 	0.0659	; popDist[14] = 	0.0777	; popDist[15] = 	0.0810	; popDist[16] = 	0.0848	; popDist[17] = 	0.0933	; popDist[18] = 	0.1044	; popDist[19] = 	0.1262	; popDist[20] = 	0.1295	; popDist[21] = 	0.1321	; popDist[22] = 	0.1502	; popDist[23] = 	0.1781	; popDist[24] = 	0.2037	; popDist[25] = 	0.2091	; popDist[26] = 	0.2238	; popDist[27] = 	0.2421	; popDist[28] = 	0.2436	; popDist[29] = 	0.2493	; popDist[30] = 	0.2634	; popDist[31] = 	0.2860	; popDist[32] = 	0.3162	; popDist[33] = 	0.3638	; popDist[34] = 	0.3739	; popDist[35] = 	0.3927	; popDist[36] = 	0.4231	; popDist[37] = 	0.4466	; popDist[38] = 	0.4718	; popDist[39] = 	0.4854	; popDist[40] = 	0.4872	; popDist[41] = 	0.4916	; popDist[42] = 	0.5031	; popDist[43] =	0.5349	; popDist[44] =	0.5602	; popDist[45] =	0.5886	; popDist[46] =	0.6339	; popDist[47] =	0.6467	; popDist[48] =	0.6703	; popDist[49] =	0.7500	; popDist[50] =	0.7959	; popDist[51] =	0.8288	; popDist[52] =	0.8611	; popDist[53] =	0.8948	; popDist[54] =	0.9176	; popDist[55] =	0.9551	; popDist[56] =	0.9594	; popDist[57] =	0.9752	; popDist[58] =	0.9914	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0012	; popDist[3] =	0.0017	; popDist[4] =	0.0030	; popDist[5] = 	0.0042	; popDist[6] =	0.0101	; popDist[7] =	0.0204	; popDist[8] = 	0.0350	; popDist[9] = 	0.0391	; popDist[10] = 	0.0561	; popDist[11] = 	0.0738	; popDist[12] = 	0.0806	; popDist[13] = 	0.1229	; popDist[14] = 	0.1396	; popDist[15] = 	0.1409	; popDist[16] = 	0.1430	; popDist[17] = 	0.1485	; popDist[18] = 	0.1730	; popDist[19] = 	0.1876	; popDist[20] = 	0.1925	; popDist[21] = 	0.1963	; popDist[22] = 	0.2264	; popDist[23] = 	0.2767	; popDist[24] = 	0.3236	; popDist[25] = 	0.3538	; popDist[26] = 	0.3783	; popDist[27] = 	0.4179	; popDist[28] = 	0.4182	; popDist[29] = 	0.4195	; popDist[30] = 	0.4382	; popDist[31] = 	0.4441	; popDist[32] = 	0.4684	; popDist[33] = 	0.5000	; popDist[34] = 	0.5235	; popDist[35] = 	0.5355	; popDist[36] = 	0.5655	; popDist[37] = 	0.6110	; popDist[38] = 	0.6573	; popDist[39] = 	0.6704	; popDist[40] = 	0.6721	; popDist[41] = 	0.6783	; popDist[42] = 	0.6939	; popDist[43] =	0.7407	; popDist[44] =	0.7548	; popDist[45] =	0.7641	; popDist[46] =	0.7714	; popDist[47] =	0.8074	; popDist[48] =	0.8300	; popDist[49] =	0.8600	; popDist[50] =	0.8740	; popDist[51] =	0.8882	; popDist[52] =	0.9001	; popDist[53] =	0.9119	; popDist[54] =	0.9137	; popDist[55] =	0.9200	; popDist[56] =	0.9364	; popDist[57] =	0.9607	; popDist[58] =	0.9814	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0008	; popDist[4] =	0.0017	; popDist[5] = 	0.0025	; popDist[6] =	0.0054	; popDist[7] =	0.0140	; popDist[8] = 	0.0290	; popDist[9] = 	0.0325	; popDist[10] = 	0.0515	; popDist[11] = 	0.0702	; popDist[12] = 	0.0769	; popDist[13] = 	0.1087	; popDist[14] = 	0.1241	; popDist[15] = 	0.1249	; popDist[16] = 	0.1263	; popDist[17] = 	0.1303	; popDist[18] = 	0.1550	; popDist[19] = 	0.1689	; popDist[20] = 	0.1729	; popDist[21] = 	0.1767	; popDist[22] = 	0.2081	; popDist[23] = 	0.2463	; popDist[24] = 	0.2809	; popDist[25] = 	0.2975	; popDist[26] = 	0.3191	; popDist[27] = 	0.3532	; popDist[28] = 	0.3534	; popDist[29] = 	0.3547	; popDist[30] = 	0.3762	; popDist[31] = 	0.3832	; popDist[32] = 	0.4086	; popDist[33] = 	0.4308	; popDist[34] = 	0.4538	; popDist[35] = 	0.4658	; popDist[36] = 	0.5038	; popDist[37] = 	0.5491	; popDist[38] = 	0.6076	; popDist[39] = 	0.6168	; popDist[40] = 	0.6178	; popDist[41] = 	0.6214	; popDist[42] = 	0.6345	; popDist[43] =	0.6818	; popDist[44] =	0.6999	; popDist[45] =	0.7120	; popDist[46] =	0.7209	; popDist[47] =	0.7630	; popDist[48] =	0.7880	; popDist[49] =	0.8250	; popDist[50] =	0.8459	; popDist[51] =	0.8634	; popDist[52] =	0.8801	; popDist[53] =	0.8979	; popDist[54] =	0.9001	; popDist[55] =	0.9113	; popDist[56] =	0.9245	; popDist[57] =	0.9499	; popDist[58] =	0.9723	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0004	; popDist[4] =	0.0009	; popDist[5] = 	0.0012	; popDist[6] =	0.0026	; popDist[7] =	0.0082	; popDist[8] = 	0.0237	; popDist[9] = 	0.0259	; popDist[10] = 	0.0447	; popDist[11] = 	0.0596	; popDist[12] = 	0.0651	; popDist[13] = 	0.0855	; popDist[14] = 	0.1004	; popDist[15] = 	0.1009	; popDist[16] = 	0.1017	; popDist[17] = 	0.1041	; popDist[18] = 	0.1340	; popDist[19] = 	0.1446	; popDist[20] = 	0.1472	; popDist[21] = 	0.1496	; popDist[22] = 	0.1807	; popDist[23] = 	0.2148	; popDist[24] = 	0.2411	; popDist[25] = 	0.2526	; popDist[26] = 	0.2689	; popDist[27] = 	0.2984	; popDist[28] = 	0.2985	; popDist[29] = 	0.2995	; popDist[30] = 	0.3231	; popDist[31] = 	0.3296	; popDist[32] = 	0.3602	; popDist[33] = 	0.3762	; popDist[34] = 	0.3995	; popDist[35] = 	0.4130	; popDist[36] = 	0.4658	; popDist[37] = 	0.5178	; popDist[38] = 	0.6018	; popDist[39] = 	0.6077	; popDist[40] = 	0.6082	; popDist[41] = 	0.6102	; popDist[42] = 	0.6190	; popDist[43] =	0.6578	; popDist[44] =	0.6735	; popDist[45] =	0.6841	; popDist[46] =	0.6910	; popDist[47] =	0.7308	; popDist[48] =	0.7582	; popDist[49] =	0.7929	; popDist[50] =	0.8145	; popDist[51] =	0.8323	; popDist[52] =	0.8498	; popDist[53] =	0.8730	; popDist[54] =	0.8751	; popDist[55] =	0.8894	; popDist[56] =	0.8997	; popDist[57] =	0.9265	; popDist[58] =	0.9567	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0003	; popDist[5] = 	0.0004	; popDist[6] =	0.0008	; popDist[7] =	0.0029	; popDist[8] = 	0.0150	; popDist[9] = 	0.0159	; popDist[10] = 	0.0279	; popDist[11] = 	0.0368	; popDist[12] = 	0.0405	; popDist[13] = 	0.0492	; popDist[14] = 	0.0641	; popDist[15] = 	0.0643	; popDist[16] = 	0.0646	; popDist[17] = 	0.0656	; popDist[18] = 	0.0982	; popDist[19] = 	0.1044	; popDist[20] = 	0.1058	; popDist[21] = 	0.1068	; popDist[22] = 	0.1312	; popDist[23] = 	0.1520	; popDist[24] = 	0.1683	; popDist[25] = 	0.1743	; popDist[26] = 	0.1839	; popDist[27] = 	0.2068	; popDist[28] = 	0.2068	; popDist[29] = 	0.2073	; popDist[30] = 	0.2268	; popDist[31] = 	0.2436	; popDist[32] = 	0.2945	; popDist[33] = 	0.3049	; popDist[34] = 	0.3331	; popDist[35] = 	0.3600	; popDist[36] = 	0.4433	; popDist[37] = 	0.5342	; popDist[38] = 	0.6860	; popDist[39] = 	0.6901	; popDist[40] = 	0.6903	; popDist[41] = 	0.6913	; popDist[42] = 	0.6952	; popDist[43] =	0.7166	; popDist[44] =	0.7249	; popDist[45] =	0.7307	; popDist[46] =	0.7344	; popDist[47] =	0.7587	; popDist[48] =	0.7819	; popDist[49] =	0.8086	; popDist[50] =	0.8260	; popDist[51] =	0.8363	; popDist[52] =	0.8490	; popDist[53] =	0.8728	; popDist[54] =	0.8741	; popDist[55] =	0.8873	; popDist[56] =	0.8946	; popDist[57] =	0.9175	; popDist[58] =	0.9495	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0176	; popDist[2] =	0.0262	; popDist[3] =	0.0514	; popDist[4] =	0.0913	; popDist[5] = 	0.1244	; popDist[6] =	0.1412	; popDist[7] =	0.1613	; popDist[8] = 	0.1654	; popDist[9] = 	0.1985	; popDist[10] = 	0.2060	; popDist[11] = 	0.2151	; popDist[12] = 	0.2561	; popDist[13] = 	0.2627	; popDist[14] = 	0.2826	; popDist[15] = 	0.3543	; popDist[16] = 	0.3734	; popDist[17] = 	0.4238	; popDist[18] = 	0.4300	; popDist[19] = 	0.4331	; popDist[20] = 	0.4798	; popDist[21] = 	0.5204	; popDist[22] = 	0.5209	; popDist[23] = 	0.5213	; popDist[24] = 	0.5243	; popDist[25] = 	0.5317	; popDist[26] = 	0.5615	; popDist[27] = 	0.5631	; popDist[28] = 	0.6110	; popDist[29] = 	0.6732	; popDist[30] = 	0.6996	; popDist[31] = 	0.7001	; popDist[32] = 	0.7011	; popDist[33] = 	0.7101	; popDist[34] = 	0.7133	; popDist[35] = 	0.7140	; popDist[36] = 	0.7157	; popDist[37] = 	0.7231	; popDist[38] = 	0.7251	; popDist[39] = 	0.7494	; popDist[40] = 	0.8135	; popDist[41] = 	0.8448	; popDist[42] = 	0.8592	; popDist[43] =	0.8662	; popDist[44] =	0.8675	; popDist[45] =	0.8747	; popDist[46] =	0.8805	; popDist[47] =	0.8813	; popDist[48] =	0.8823	; popDist[49] =	0.8846	; popDist[50] =	0.8900	; popDist[51] =	0.8938	; popDist[52] =	0.8996	; popDist[53] =	0.9001	; popDist[54] =	0.9542	; popDist[55] =	0.9721	; popDist[56] =	0.9892	; popDist[57] =	0.9990	; popDist[58] =	0.9998	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0105	; popDist[2] =	0.0156	; popDist[3] =	0.0305	; popDist[4] =	0.0618	; popDist[5] = 	0.0865	; popDist[6] =	0.0966	; popDist[7] =	0.1168	; popDist[8] = 	0.1220	; popDist[9] = 	0.1560	; popDist[10] = 	0.1661	; popDist[11] = 	0.1777	; popDist[12] = 	0.2264	; popDist[13] = 	0.2325	; popDist[14] = 	0.2545	; popDist[15] = 	0.3071	; popDist[16] = 	0.3227	; popDist[17] = 	0.3666	; popDist[18] = 	0.3741	; popDist[19] = 	0.3776	; popDist[20] = 	0.4239	; popDist[21] = 	0.4724	; popDist[22] = 	0.4731	; popDist[23] = 	0.4735	; popDist[24] = 	0.4761	; popDist[25] = 	0.4810	; popDist[26] = 	0.5128	; popDist[27] = 	0.5145	; popDist[28] = 	0.5450	; popDist[29] = 	0.6253	; popDist[30] = 	0.6619	; popDist[31] = 	0.6627	; popDist[32] = 	0.6639	; popDist[33] = 	0.6715	; popDist[34] = 	0.6753	; popDist[35] = 	0.6762	; popDist[36] = 	0.6788	; popDist[37] = 	0.6876	; popDist[38] = 	0.6906	; popDist[39] = 	0.7113	; popDist[40] = 	0.7546	; popDist[41] = 	0.7765	; popDist[42] = 	0.7911	; popDist[43] =	0.7996	; popDist[44] =	0.8015	; popDist[45] =	0.8128	; popDist[46] =	0.8214	; popDist[47] =	0.8225	; popDist[48] =	0.8238	; popDist[49] =	0.8273	; popDist[50] =	0.8370	; popDist[51] =	0.8426	; popDist[52] =	0.8525	; popDist[53] =	0.8533	; popDist[54] =	0.9309	; popDist[55] =	0.9697	; popDist[56] =	0.9862	; popDist[57] =	0.9986	; popDist[58] =	0.9996	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0057	; popDist[2] =	0.0094	; popDist[3] =	0.0188	; popDist[4] =	0.0409	; popDist[5] = 	0.0580	; popDist[6] =	0.0643	; popDist[7] =	0.0814	; popDist[8] = 	0.0883	; popDist[9] = 	0.1173	; popDist[10] = 	0.1304	; popDist[11] = 	0.1426	; popDist[12] = 	0.1952	; popDist[13] = 	0.2003	; popDist[14] = 	0.2284	; popDist[15] = 	0.2731	; popDist[16] = 	0.2837	; popDist[17] = 	0.3197	; popDist[18] = 	0.3317	; popDist[19] = 	0.3352	; popDist[20] = 	0.3750	; popDist[21] = 	0.4154	; popDist[22] = 	0.4164	; popDist[23] = 	0.4168	; popDist[24] = 	0.4195	; popDist[25] = 	0.4239	; popDist[26] = 	0.4554	; popDist[27] = 	0.4572	; popDist[28] = 	0.4788	; popDist[29] = 	0.5588	; popDist[30] = 	0.6117	; popDist[31] = 	0.6126	; popDist[32] = 	0.6145	; popDist[33] = 	0.6218	; popDist[34] = 	0.6268	; popDist[35] = 	0.6281	; popDist[36] = 	0.6329	; popDist[37] = 	0.6462	; popDist[38] = 	0.6519	; popDist[39] = 	0.6691	; popDist[40] = 	0.6998	; popDist[41] = 	0.7160	; popDist[42] = 	0.7290	; popDist[43] =	0.7381	; popDist[44] =	0.7404	; popDist[45] =	0.7534	; popDist[46] =	0.7621	; popDist[47] =	0.7635	; popDist[48] =	0.7654	; popDist[49] =	0.7697	; popDist[50] =	0.7829	; popDist[51] =	0.7904	; popDist[52] =	0.8041	; popDist[53] =	0.8054	; popDist[54] =	0.8980	; popDist[55] =	0.9632	; popDist[56] =	0.9802	; popDist[57] =	0.9974	; popDist[58] =	0.9991	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0032	; popDist[2] =	0.0049	; popDist[3] =	0.0101	; popDist[4] =	0.0197	; popDist[5] = 	0.0286	; popDist[6] =	0.0317	; popDist[7] =	0.0416	; popDist[8] = 	0.0502	; popDist[9] = 	0.0689	; popDist[10] = 	0.0820	; popDist[11] = 	0.0935	; popDist[12] = 	0.1483	; popDist[13] = 	0.1517	; popDist[14] = 	0.1958	; popDist[15] = 	0.2292	; popDist[16] = 	0.2351	; popDist[17] = 	0.2598	; popDist[18] = 	0.2804	; popDist[19] = 	0.2836	; popDist[20] = 	0.3180	; popDist[21] = 	0.3457	; popDist[22] = 	0.3469	; popDist[23] = 	0.3473	; popDist[24] = 	0.3499	; popDist[25] = 	0.3535	; popDist[26] = 	0.3826	; popDist[27] = 	0.3849	; popDist[28] = 	0.3996	; popDist[29] = 	0.4635	; popDist[30] = 	0.5319	; popDist[31] = 	0.5359	; popDist[32] = 	0.5408	; popDist[33] = 	0.5482	; popDist[34] = 	0.5578	; popDist[35] = 	0.5620	; popDist[36] = 	0.5738	; popDist[37] = 	0.6103	; popDist[38] = 	0.6266	; popDist[39] = 	0.6454	; popDist[40] = 	0.6669	; popDist[41] = 	0.6796	; popDist[42] = 	0.6886	; popDist[43] =	0.6966	; popDist[44] =	0.6984	; popDist[45] =	0.7095	; popDist[46] =	0.7168	; popDist[47] =	0.7182	; popDist[48] =	0.7207	; popDist[49] =	0.7259	; popDist[50] =	0.7426	; popDist[51] =	0.7494	; popDist[52] =	0.7650	; popDist[53] =	0.7671	; popDist[54] =	0.8589	; popDist[55] =	0.9534	; popDist[56] =	0.9724	; popDist[57] =	0.9956	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0396	; popDist[2] =	0.0634	; popDist[3] =	0.0890	; popDist[4] =	0.1393	; popDist[5] = 	0.1903	; popDist[6] =	0.2227	; popDist[7] =	0.2675	; popDist[8] = 	0.2766	; popDist[9] = 	0.3221	; popDist[10] = 	0.3305	; popDist[11] = 	0.3445	; popDist[12] = 	0.3545	; popDist[13] = 	0.3894	; popDist[14] = 	0.3969	; popDist[15] = 	0.4117	; popDist[16] = 	0.4558	; popDist[17] = 	0.4902	; popDist[18] = 	0.4996	; popDist[19] = 	0.5281	; popDist[20] = 	0.5337	; popDist[21] = 	0.5377	; popDist[22] = 	0.5423	; popDist[23] = 	0.5486	; popDist[24] = 	0.5596	; popDist[25] = 	0.5667	; popDist[26] = 	0.5756	; popDist[27] = 	0.5788	; popDist[28] = 	0.5886	; popDist[29] = 	0.5924	; popDist[30] = 	0.5964	; popDist[31] = 	0.5970	; popDist[32] = 	0.5989	; popDist[33] = 	0.6246	; popDist[34] = 	0.6321	; popDist[35] = 	0.6332	; popDist[36] = 	0.6360	; popDist[37] = 	0.6471	; popDist[38] = 	0.6506	; popDist[39] = 	0.6771	; popDist[40] = 	0.6885	; popDist[41] = 	0.7264	; popDist[42] = 	0.8008	; popDist[43] =	0.8275	; popDist[44] =	0.8430	; popDist[45] =	0.8756	; popDist[46] =	0.9088	; popDist[47] =	0.9231	; popDist[48] =	0.9273	; popDist[49] =	0.9387	; popDist[50] =	0.9443	; popDist[51] =	0.9603	; popDist[52] =	0.9669	; popDist[53] =	0.9685	; popDist[54] =	0.9780	; popDist[55] =	0.9811	; popDist[56] =	0.9882	; popDist[57] =	0.9964	; popDist[58] =	0.9988	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0236	; popDist[2] =	0.0376	; popDist[3] =	0.0527	; popDist[4] =	0.0922	; popDist[5] = 	0.1302	; popDist[6] =	0.1497	; popDist[7] =	0.1948	; popDist[8] = 	0.2060	; popDist[9] = 	0.2529	; popDist[10] = 	0.2642	; popDist[11] = 	0.2819	; popDist[12] = 	0.2938	; popDist[13] = 	0.3254	; popDist[14] = 	0.3338	; popDist[15] = 	0.3446	; popDist[16] = 	0.3806	; popDist[17] = 	0.4105	; popDist[18] = 	0.4219	; popDist[19] = 	0.4546	; popDist[20] = 	0.4601	; popDist[21] = 	0.4649	; popDist[22] = 	0.4707	; popDist[23] = 	0.4764	; popDist[24] = 	0.4862	; popDist[25] = 	0.4908	; popDist[26] = 	0.5004	; popDist[27] = 	0.5037	; popDist[28] = 	0.5099	; popDist[29] = 	0.5149	; popDist[30] = 	0.5204	; popDist[31] = 	0.5213	; popDist[32] = 	0.5237	; popDist[33] = 	0.5454	; popDist[34] = 	0.5543	; popDist[35] = 	0.5556	; popDist[36] = 	0.5598	; popDist[37] = 	0.5732	; popDist[38] = 	0.5784	; popDist[39] = 	0.6010	; popDist[40] = 	0.6087	; popDist[41] = 	0.6351	; popDist[42] = 	0.7105	; popDist[43] =	0.7429	; popDist[44] =	0.7669	; popDist[45] =	0.8178	; popDist[46] =	0.8668	; popDist[47] =	0.8869	; popDist[48] =	0.8925	; popDist[49] =	0.9093	; popDist[50] =	0.9195	; popDist[51] =	0.9431	; popDist[52] =	0.9542	; popDist[53] =	0.9572	; popDist[54] =	0.9708	; popDist[55] =	0.9776	; popDist[56] =	0.9845	; popDist[57] =	0.9947	; popDist[58] =	0.9978	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0130	; popDist[2] =	0.0233	; popDist[3] =	0.0330	; popDist[4] =	0.0611	; popDist[5] = 	0.0875	; popDist[6] =	0.0999	; popDist[7] =	0.1384	; popDist[8] = 	0.1537	; popDist[9] = 	0.1940	; popDist[10] = 	0.2089	; popDist[11] = 	0.2276	; popDist[12] = 	0.2406	; popDist[13] = 	0.2676	; popDist[14] = 	0.2784	; popDist[15] = 	0.2877	; popDist[16] = 	0.3126	; popDist[17] = 	0.3373	; popDist[18] = 	0.3557	; popDist[19] = 	0.3887	; popDist[20] = 	0.3935	; popDist[21] = 	0.3976	; popDist[22] = 	0.4052	; popDist[23] = 	0.4119	; popDist[24] = 	0.4218	; popDist[25] = 	0.4261	; popDist[26] = 	0.4356	; popDist[27] = 	0.4395	; popDist[28] = 	0.4439	; popDist[29] = 	0.4489	; popDist[30] = 	0.4570	; popDist[31] = 	0.4581	; popDist[32] = 	0.4619	; popDist[33] = 	0.4827	; popDist[34] = 	0.4946	; popDist[35] = 	0.4966	; popDist[36] = 	0.5044	; popDist[37] = 	0.5248	; popDist[38] = 	0.5347	; popDist[39] = 	0.5537	; popDist[40] = 	0.5592	; popDist[41] = 	0.5790	; popDist[42] = 	0.6466	; popDist[43] =	0.6819	; popDist[44] =	0.7096	; popDist[45] =	0.7689	; popDist[46] =	0.8195	; popDist[47] =	0.8447	; popDist[48] =	0.8529	; popDist[49] =	0.8739	; popDist[50] =	0.8878	; popDist[51] =	0.9198	; popDist[52] =	0.9352	; popDist[53] =	0.9405	; popDist[54] =	0.9568	; popDist[55] =	0.9684	; popDist[56] =	0.9755	; popDist[57] =	0.9899	; popDist[58] =	0.9955	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0075	; popDist[2] =	0.0122	; popDist[3] =	0.0177	; popDist[4] =	0.0302	; popDist[5] = 	0.0444	; popDist[6] =	0.0505	; popDist[7] =	0.0735	; popDist[8] = 	0.0928	; popDist[9] = 	0.1193	; popDist[10] = 	0.1346	; popDist[11] = 	0.1526	; popDist[12] = 	0.1665	; popDist[13] = 	0.1851	; popDist[14] = 	0.2024	; popDist[15] = 	0.2095	; popDist[16] = 	0.2235	; popDist[17] = 	0.2409	; popDist[18] = 	0.2732	; popDist[19] = 	0.3042	; popDist[20] = 	0.3084	; popDist[21] = 	0.3113	; popDist[22] = 	0.3209	; popDist[23] = 	0.3275	; popDist[24] = 	0.3374	; popDist[25] = 	0.3410	; popDist[26] = 	0.3499	; popDist[27] = 	0.3548	; popDist[28] = 	0.3579	; popDist[29] = 	0.3620	; popDist[30] = 	0.3727	; popDist[31] = 	0.3771	; popDist[32] = 	0.3873	; popDist[33] = 	0.4090	; popDist[34] = 	0.4322	; popDist[35] = 	0.4387	; popDist[36] = 	0.4584	; popDist[37] = 	0.5158	; popDist[38] = 	0.5447	; popDist[39] = 	0.5660	; popDist[40] = 	0.5699	; popDist[41] = 	0.5859	; popDist[42] = 	0.6340	; popDist[43] =	0.6652	; popDist[44] =	0.6890	; popDist[45] =	0.7404	; popDist[46] =	0.7840	; popDist[47] =	0.8088	; popDist[48] =	0.8200	; popDist[49] =	0.8459	; popDist[50] =	0.8640	; popDist[51] =	0.8937	; popDist[52] =	0.9117	; popDist[53] =	0.9204	; popDist[54] =	0.9369	; popDist[55] =	0.9541	; popDist[56] =	0.9623	; popDist[57] =	0.9821	; popDist[58] =	0.9916	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0082	; popDist[2] =	0.0125	; popDist[3] =	0.0186	; popDist[4] =	0.0350	; popDist[5] = 	0.0511	; popDist[6] =	0.0600	; popDist[7] =	0.0840	; popDist[8] = 	0.0901	; popDist[9] = 	0.1080	; popDist[10] = 	0.1126	; popDist[11] = 	0.1230	; popDist[12] = 	0.1310	; popDist[13] = 	0.1499	; popDist[14] = 	0.1592	; popDist[15] = 	0.1676	; popDist[16] = 	0.1822	; popDist[17] = 	0.2016	; popDist[18] = 	0.2104	; popDist[19] = 	0.2401	; popDist[20] = 	0.2467	; popDist[21] = 	0.2509	; popDist[22] = 	0.2683	; popDist[23] = 	0.3100	; popDist[24] = 	0.3433	; popDist[25] = 	0.3563	; popDist[26] = 	0.3746	; popDist[27] = 	0.3917	; popDist[28] = 	0.3970	; popDist[29] = 	0.4035	; popDist[30] = 	0.4108	; popDist[31] = 	0.4149	; popDist[32] = 	0.4266	; popDist[33] = 	0.5118	; popDist[34] = 	0.5220	; popDist[35] = 	0.5277	; popDist[36] = 	0.5390	; popDist[37] = 	0.5525	; popDist[38] = 	0.5626	; popDist[39] = 	0.5793	; popDist[40] = 	0.5875	; popDist[41] = 	0.6007	; popDist[42] = 	0.6240	; popDist[43] =	0.6718	; popDist[44] =	0.7028	; popDist[45] =	0.7292	; popDist[46] =	0.7813	; popDist[47] =	0.7936	; popDist[48] =	0.8128	; popDist[49] =	0.8740	; popDist[50] =	0.8960	; popDist[51] =	0.9229	; popDist[52] =	0.9401	; popDist[53] =	0.9513	; popDist[54] =	0.9679	; popDist[55] =	0.9776	; popDist[56] =	0.9826	; popDist[57] =	0.9918	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0042	; popDist[2] =	0.0063	; popDist[3] =	0.0094	; popDist[4] =	0.0205	; popDist[5] = 	0.0307	; popDist[6] =	0.0353	; popDist[7] =	0.0560	; popDist[8] = 	0.0625	; popDist[9] = 	0.0782	; popDist[10] = 	0.0834	; popDist[11] = 	0.0948	; popDist[12] = 	0.1029	; popDist[13] = 	0.1176	; popDist[14] = 	0.1264	; popDist[15] = 	0.1317	; popDist[16] = 	0.1419	; popDist[17] = 	0.1563	; popDist[18] = 	0.1654	; popDist[19] = 	0.1946	; popDist[20] = 	0.2001	; popDist[21] = 	0.2044	; popDist[22] = 	0.2232	; popDist[23] = 	0.2558	; popDist[24] = 	0.2810	; popDist[25] = 	0.2884	; popDist[26] = 	0.3051	; popDist[27] = 	0.3202	; popDist[28] = 	0.3231	; popDist[29] = 	0.3303	; popDist[30] = 	0.3389	; popDist[31] = 	0.3440	; popDist[32] = 	0.3565	; popDist[33] = 	0.4184	; popDist[34] = 	0.4287	; popDist[35] = 	0.4346	; popDist[36] = 	0.4493	; popDist[37] = 	0.4631	; popDist[38] = 	0.4762	; popDist[39] = 	0.4884	; popDist[40] = 	0.4931	; popDist[41] = 	0.5010	; popDist[42] = 	0.5212	; popDist[43] =	0.5710	; popDist[44] =	0.6118	; popDist[45] =	0.6472	; popDist[46] =	0.7130	; popDist[47] =	0.7278	; popDist[48] =	0.7498	; popDist[49] =	0.8274	; popDist[50] =	0.8613	; popDist[51] =	0.8954	; popDist[52] =	0.9202	; popDist[53] =	0.9377	; popDist[54] =	0.9580	; popDist[55] =	0.9760	; popDist[56] =	0.9801	; popDist[57] =	0.9900	; popDist[58] =	0.9970	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0020	; popDist[2] =	0.0033	; popDist[3] =	0.0050	; popDist[4] =	0.0117	; popDist[5] = 	0.0178	; popDist[6] =	0.0203	; popDist[7] =	0.0354	; popDist[8] = 	0.0430	; popDist[9] = 	0.0546	; popDist[10] = 	0.0604	; popDist[11] = 	0.0707	; popDist[12] = 	0.0783	; popDist[13] = 	0.0890	; popDist[14] = 	0.0987	; popDist[15] = 	0.1026	; popDist[16] = 	0.1086	; popDist[17] = 	0.1188	; popDist[18] = 	0.1312	; popDist[19] = 	0.1565	; popDist[20] = 	0.1606	; popDist[21] = 	0.1637	; popDist[22] = 	0.1848	; popDist[23] = 	0.2178	; popDist[24] = 	0.2397	; popDist[25] = 	0.2455	; popDist[26] = 	0.2598	; popDist[27] = 	0.2746	; popDist[28] = 	0.2764	; popDist[29] = 	0.2826	; popDist[30] = 	0.2933	; popDist[31] = 	0.2986	; popDist[32] = 	0.3159	; popDist[33] = 	0.3664	; popDist[34] = 	0.3783	; popDist[35] = 	0.3859	; popDist[36] = 	0.4090	; popDist[37] = 	0.4271	; popDist[38] = 	0.4485	; popDist[39] = 	0.4572	; popDist[40] = 	0.4601	; popDist[41] = 	0.4652	; popDist[42] = 	0.4807	; popDist[43] =	0.5269	; popDist[44] =	0.5673	; popDist[45] =	0.6025	; popDist[46] =	0.6606	; popDist[47] =	0.6765	; popDist[48] =	0.7039	; popDist[49] =	0.7865	; popDist[50] =	0.8264	; popDist[51] =	0.8658	; popDist[52] =	0.8953	; popDist[53] =	0.9213	; popDist[54] =	0.9422	; popDist[55] =	0.9684	; popDist[56] =	0.9721	; popDist[57] =	0.9840	; popDist[58] =	0.9947	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	25	&& age <=	34	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0014	; popDist[3] =	0.0022	; popDist[4] =	0.0046	; popDist[5] = 	0.0073	; popDist[6] =	0.0082	; popDist[7] =	0.0155	; popDist[8] = 	0.0232	; popDist[9] = 	0.0293	; popDist[10] = 	0.0342	; popDist[11] = 	0.0422	; popDist[12] = 	0.0487	; popDist[13] = 	0.0547	; popDist[14] = 	0.0672	; popDist[15] = 	0.0696	; popDist[16] = 	0.0723	; popDist[17] = 	0.0781	; popDist[18] = 	0.0957	; popDist[19] = 	0.1148	; popDist[20] = 	0.1177	; popDist[21] = 	0.1195	; popDist[22] = 	0.1409	; popDist[23] = 	0.1671	; popDist[24] = 	0.1847	; popDist[25] = 	0.1886	; popDist[26] = 	0.1995	; popDist[27] = 	0.2145	; popDist[28] = 	0.2155	; popDist[29] = 	0.2196	; popDist[30] = 	0.2310	; popDist[31] = 	0.2490	; popDist[32] = 	0.2862	; popDist[33] = 	0.3288	; popDist[34] = 	0.3474	; popDist[35] = 	0.3670	; popDist[36] = 	0.4144	; popDist[37] = 	0.4554	; popDist[38] = 	0.5056	; popDist[39] = 	0.5135	; popDist[40] = 	0.5152	; popDist[41] = 	0.5185	; popDist[42] = 	0.5274	; popDist[43] =	0.5605	; popDist[44] =	0.5884	; popDist[45] =	0.6131	; popDist[46] =	0.6534	; popDist[47] =	0.6660	; popDist[48] =	0.6961	; popDist[49] =	0.7786	; popDist[50] =	0.8204	; popDist[51] =	0.8499	; popDist[52] =	0.8776	; popDist[53] =	0.9122	; popDist[54] =	0.9293	; popDist[55] =	0.9607	; popDist[56] =	0.9640	; popDist[57] =	0.9773	; popDist[58] =	0.9919	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0013	; popDist[3] =	0.0018	; popDist[4] =	0.0032	; popDist[5] = 	0.0045	; popDist[6] =	0.0103	; popDist[7] =	0.0202	; popDist[8] = 	0.0353	; popDist[9] = 	0.0396	; popDist[10] = 	0.0606	; popDist[11] = 	0.0785	; popDist[12] = 	0.0863	; popDist[13] = 	0.1223	; popDist[14] = 	0.1359	; popDist[15] = 	0.1374	; popDist[16] = 	0.1394	; popDist[17] = 	0.1455	; popDist[18] = 	0.1657	; popDist[19] = 	0.1788	; popDist[20] = 	0.1836	; popDist[21] = 	0.1879	; popDist[22] = 	0.2186	; popDist[23] = 	0.2722	; popDist[24] = 	0.3183	; popDist[25] = 	0.3544	; popDist[26] = 	0.3824	; popDist[27] = 	0.4300	; popDist[28] = 	0.4305	; popDist[29] = 	0.4319	; popDist[30] = 	0.4554	; popDist[31] = 	0.4608	; popDist[32] = 	0.4792	; popDist[33] = 	0.5065	; popDist[34] = 	0.5262	; popDist[35] = 	0.5345	; popDist[36] = 	0.5560	; popDist[37] = 	0.5962	; popDist[38] = 	0.6306	; popDist[39] = 	0.6422	; popDist[40] = 	0.6441	; popDist[41] = 	0.6504	; popDist[42] = 	0.6661	; popDist[43] =	0.7052	; popDist[44] =	0.7178	; popDist[45] =	0.7268	; popDist[46] =	0.7336	; popDist[47] =	0.7714	; popDist[48] =	0.7948	; popDist[49] =	0.8297	; popDist[50] =	0.8452	; popDist[51] =	0.8606	; popDist[52] =	0.8743	; popDist[53] =	0.8894	; popDist[54] =	0.8917	; popDist[55] =	0.8995	; popDist[56] =	0.9191	; popDist[57] =	0.9490	; popDist[58] =	0.9752	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0009	; popDist[4] =	0.0018	; popDist[5] = 	0.0026	; popDist[6] =	0.0055	; popDist[7] =	0.0137	; popDist[8] = 	0.0292	; popDist[9] = 	0.0329	; popDist[10] = 	0.0563	; popDist[11] = 	0.0751	; popDist[12] = 	0.0827	; popDist[13] = 	0.1098	; popDist[14] = 	0.1223	; popDist[15] = 	0.1232	; popDist[16] = 	0.1246	; popDist[17] = 	0.1289	; popDist[18] = 	0.1492	; popDist[19] = 	0.1617	; popDist[20] = 	0.1656	; popDist[21] = 	0.1698	; popDist[22] = 	0.2019	; popDist[23] = 	0.2424	; popDist[24] = 	0.2763	; popDist[25] = 	0.2961	; popDist[26] = 	0.3208	; popDist[27] = 	0.3616	; popDist[28] = 	0.3619	; popDist[29] = 	0.3634	; popDist[30] = 	0.3903	; popDist[31] = 	0.3968	; popDist[32] = 	0.4159	; popDist[33] = 	0.4350	; popDist[34] = 	0.4544	; popDist[35] = 	0.4626	; popDist[36] = 	0.4898	; popDist[37] = 	0.5296	; popDist[38] = 	0.5730	; popDist[39] = 	0.5811	; popDist[40] = 	0.5822	; popDist[41] = 	0.5859	; popDist[42] = 	0.5990	; popDist[43] =	0.6384	; popDist[44] =	0.6545	; popDist[45] =	0.6662	; popDist[46] =	0.6745	; popDist[47] =	0.7185	; popDist[48] =	0.7444	; popDist[49] =	0.7873	; popDist[50] =	0.8105	; popDist[51] =	0.8293	; popDist[52] =	0.8485	; popDist[53] =	0.8712	; popDist[54] =	0.8740	; popDist[55] =	0.8881	; popDist[56] =	0.9037	; popDist[57] =	0.9349	; popDist[58] =	0.9633	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0004	; popDist[4] =	0.0009	; popDist[5] = 	0.0013	; popDist[6] =	0.0027	; popDist[7] =	0.0080	; popDist[8] = 	0.0240	; popDist[9] = 	0.0264	; popDist[10] = 	0.0496	; popDist[11] = 	0.0646	; popDist[12] = 	0.0709	; popDist[13] = 	0.0883	; popDist[14] = 	0.1005	; popDist[15] = 	0.1011	; popDist[16] = 	0.1018	; popDist[17] = 	0.1045	; popDist[18] = 	0.1291	; popDist[19] = 	0.1386	; popDist[20] = 	0.1412	; popDist[21] = 	0.1439	; popDist[22] = 	0.1756	; popDist[23] = 	0.2119	; popDist[24] = 	0.2378	; popDist[25] = 	0.2516	; popDist[26] = 	0.2702	; popDist[27] = 	0.3057	; popDist[28] = 	0.3058	; popDist[29] = 	0.3070	; popDist[30] = 	0.3366	; popDist[31] = 	0.3425	; popDist[32] = 	0.3657	; popDist[33] = 	0.3795	; popDist[34] = 	0.3991	; popDist[35] = 	0.4085	; popDist[36] = 	0.4463	; popDist[37] = 	0.4922	; popDist[38] = 	0.5547	; popDist[39] = 	0.5598	; popDist[40] = 	0.5604	; popDist[41] = 	0.5625	; popDist[42] = 	0.5714	; popDist[43] =	0.6037	; popDist[44] =	0.6178	; popDist[45] =	0.6280	; popDist[46] =	0.6345	; popDist[47] =	0.6762	; popDist[48] =	0.7046	; popDist[49] =	0.7449	; popDist[50] =	0.7690	; popDist[51] =	0.7882	; popDist[52] =	0.8084	; popDist[53] =	0.8382	; popDist[54] =	0.8407	; popDist[55] =	0.8588	; popDist[56] =	0.8710	; popDist[57] =	0.9041	; popDist[58] =	0.9424	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0003	; popDist[5] = 	0.0004	; popDist[6] =	0.0009	; popDist[7] =	0.0029	; popDist[8] = 	0.0161	; popDist[9] = 	0.0171	; popDist[10] = 	0.0326	; popDist[11] = 	0.0420	; popDist[12] = 	0.0464	; popDist[13] = 	0.0542	; popDist[14] = 	0.0669	; popDist[15] = 	0.0672	; popDist[16] = 	0.0674	; popDist[17] = 	0.0687	; popDist[18] = 	0.0967	; popDist[19] = 	0.1025	; popDist[20] = 	0.1040	; popDist[21] = 	0.1053	; popDist[22] = 	0.1313	; popDist[23] = 	0.1545	; popDist[24] = 	0.1713	; popDist[25] = 	0.1788	; popDist[26] = 	0.1903	; popDist[27] = 	0.2191	; popDist[28] = 	0.2192	; popDist[29] = 	0.2198	; popDist[30] = 	0.2454	; popDist[31] = 	0.2615	; popDist[32] = 	0.3018	; popDist[33] = 	0.3112	; popDist[34] = 	0.3362	; popDist[35] = 	0.3556	; popDist[36] = 	0.4182	; popDist[37] = 	0.5022	; popDist[38] = 	0.6204	; popDist[39] = 	0.6242	; popDist[40] = 	0.6245	; popDist[41] = 	0.6255	; popDist[42] = 	0.6296	; popDist[43] =	0.6483	; popDist[44] =	0.6562	; popDist[45] =	0.6620	; popDist[46] =	0.6656	; popDist[47] =	0.6924	; popDist[48] =	0.7176	; popDist[49] =	0.7500	; popDist[50] =	0.7703	; popDist[51] =	0.7819	; popDist[52] =	0.7973	; popDist[53] =	0.8293	; popDist[54] =	0.8309	; popDist[55] =	0.8484	; popDist[56] =	0.8575	; popDist[57] =	0.8871	; popDist[58] =	0.9296	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0175	; popDist[2] =	0.0258	; popDist[3] =	0.0510	; popDist[4] =	0.0894	; popDist[5] = 	0.1215	; popDist[6] =	0.1367	; popDist[7] =	0.1546	; popDist[8] = 	0.1585	; popDist[9] = 	0.1908	; popDist[10] = 	0.1994	; popDist[11] = 	0.2078	; popDist[12] = 	0.2512	; popDist[13] = 	0.2564	; popDist[14] = 	0.2713	; popDist[15] = 	0.3463	; popDist[16] = 	0.3629	; popDist[17] = 	0.4148	; popDist[18] = 	0.4195	; popDist[19] = 	0.4220	; popDist[20] = 	0.4647	; popDist[21] = 	0.5070	; popDist[22] = 	0.5075	; popDist[23] = 	0.5079	; popDist[24] = 	0.5106	; popDist[25] = 	0.5188	; popDist[26] = 	0.5503	; popDist[27] = 	0.5520	; popDist[28] = 	0.6030	; popDist[29] = 	0.6698	; popDist[30] = 	0.7005	; popDist[31] = 	0.7010	; popDist[32] = 	0.7016	; popDist[33] = 	0.7088	; popDist[34] = 	0.7113	; popDist[35] = 	0.7118	; popDist[36] = 	0.7129	; popDist[37] = 	0.7189	; popDist[38] = 	0.7202	; popDist[39] = 	0.7401	; popDist[40] = 	0.8057	; popDist[41] = 	0.8351	; popDist[42] = 	0.8485	; popDist[43] =	0.8539	; popDist[44] =	0.8550	; popDist[45] =	0.8614	; popDist[46] =	0.8664	; popDist[47] =	0.8672	; popDist[48] =	0.8681	; popDist[49] =	0.8706	; popDist[50] =	0.8762	; popDist[51] =	0.8799	; popDist[52] =	0.8862	; popDist[53] =	0.8867	; popDist[54] =	0.9481	; popDist[55] =	0.9689	; popDist[56] =	0.9876	; popDist[57] =	0.9989	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0103	; popDist[2] =	0.0152	; popDist[3] =	0.0300	; popDist[4] =	0.0598	; popDist[5] = 	0.0836	; popDist[6] =	0.0926	; popDist[7] =	0.1105	; popDist[8] = 	0.1154	; popDist[9] = 	0.1483	; popDist[10] = 	0.1597	; popDist[11] = 	0.1704	; popDist[12] = 	0.2215	; popDist[13] = 	0.2262	; popDist[14] = 	0.2427	; popDist[15] = 	0.2972	; popDist[16] = 	0.3107	; popDist[17] = 	0.3554	; popDist[18] = 	0.3611	; popDist[19] = 	0.3639	; popDist[20] = 	0.4058	; popDist[21] = 	0.4559	; popDist[22] = 	0.4566	; popDist[23] = 	0.4570	; popDist[24] = 	0.4593	; popDist[25] = 	0.4647	; popDist[26] = 	0.4980	; popDist[27] = 	0.4998	; popDist[28] = 	0.5320	; popDist[29] = 	0.6177	; popDist[30] = 	0.6597	; popDist[31] = 	0.6604	; popDist[32] = 	0.6612	; popDist[33] = 	0.6673	; popDist[34] = 	0.6702	; popDist[35] = 	0.6708	; popDist[36] = 	0.6725	; popDist[37] = 	0.6796	; popDist[38] = 	0.6816	; popDist[39] = 	0.6984	; popDist[40] = 	0.7423	; popDist[41] = 	0.7627	; popDist[42] = 	0.7762	; popDist[43] =	0.7826	; popDist[44] =	0.7842	; popDist[45] =	0.7942	; popDist[46] =	0.8016	; popDist[47] =	0.8027	; popDist[48] =	0.8039	; popDist[49] =	0.8076	; popDist[50] =	0.8175	; popDist[51] =	0.8230	; popDist[52] =	0.8335	; popDist[53] =	0.8344	; popDist[54] =	0.9217	; popDist[55] =	0.9664	; popDist[56] =	0.9844	; popDist[57] =	0.9984	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0056	; popDist[2] =	0.0091	; popDist[3] =	0.0184	; popDist[4] =	0.0393	; popDist[5] = 	0.0555	; popDist[6] =	0.0612	; popDist[7] =	0.0762	; popDist[8] = 	0.0827	; popDist[9] = 	0.1106	; popDist[10] = 	0.1253	; popDist[11] = 	0.1364	; popDist[12] = 	0.1912	; popDist[13] = 	0.1952	; popDist[14] = 	0.2160	; popDist[15] = 	0.2619	; popDist[16] = 	0.2711	; popDist[17] = 	0.3075	; popDist[18] = 	0.3164	; popDist[19] = 	0.3193	; popDist[20] = 	0.3551	; popDist[21] = 	0.3966	; popDist[22] = 	0.3975	; popDist[23] = 	0.3979	; popDist[24] = 	0.4003	; popDist[25] = 	0.4051	; popDist[26] = 	0.4378	; popDist[27] = 	0.4399	; popDist[28] = 	0.4624	; popDist[29] = 	0.5472	; popDist[30] = 	0.6076	; popDist[31] = 	0.6084	; popDist[32] = 	0.6097	; popDist[33] = 	0.6154	; popDist[34] = 	0.6192	; popDist[35] = 	0.6201	; popDist[36] = 	0.6232	; popDist[37] = 	0.6338	; popDist[38] = 	0.6377	; popDist[39] = 	0.6515	; popDist[40] = 	0.6825	; popDist[41] = 	0.6975	; popDist[42] = 	0.7093	; popDist[43] =	0.7163	; popDist[44] =	0.7181	; popDist[45] =	0.7296	; popDist[46] =	0.7370	; popDist[47] =	0.7383	; popDist[48] =	0.7401	; popDist[49] =	0.7446	; popDist[50] =	0.7580	; popDist[51] =	0.7654	; popDist[52] =	0.7797	; popDist[53] =	0.7813	; popDist[54] =	0.8847	; popDist[55] =	0.9593	; popDist[56] =	0.9777	; popDist[57] =	0.9970	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0032	; popDist[2] =	0.0048	; popDist[3] =	0.0099	; popDist[4] =	0.0191	; popDist[5] = 	0.0277	; popDist[6] =	0.0305	; popDist[7] =	0.0393	; popDist[8] = 	0.0474	; popDist[9] = 	0.0655	; popDist[10] = 	0.0805	; popDist[11] = 	0.0910	; popDist[12] = 	0.1487	; popDist[13] = 	0.1514	; popDist[14] = 	0.1842	; popDist[15] = 	0.2190	; popDist[16] = 	0.2240	; popDist[17] = 	0.2493	; popDist[18] = 	0.2648	; popDist[19] = 	0.2674	; popDist[20] = 	0.2986	; popDist[21] = 	0.3274	; popDist[22] = 	0.3285	; popDist[23] = 	0.3289	; popDist[24] = 	0.3312	; popDist[25] = 	0.3352	; popDist[26] = 	0.3657	; popDist[27] = 	0.3682	; popDist[28] = 	0.3838	; popDist[29] = 	0.4521	; popDist[30] = 	0.5310	; popDist[31] = 	0.5343	; popDist[32] = 	0.5377	; popDist[33] = 	0.5436	; popDist[34] = 	0.5510	; popDist[35] = 	0.5537	; popDist[36] = 	0.5615	; popDist[37] = 	0.5910	; popDist[38] = 	0.6021	; popDist[39] = 	0.6174	; popDist[40] = 	0.6392	; popDist[41] = 	0.6511	; popDist[42] = 	0.6594	; popDist[43] =	0.6655	; popDist[44] =	0.6670	; popDist[45] =	0.6768	; popDist[46] =	0.6831	; popDist[47] =	0.6844	; popDist[48] =	0.6868	; popDist[49] =	0.6923	; popDist[50] =	0.7094	; popDist[51] =	0.7162	; popDist[52] =	0.7326	; popDist[53] =	0.7352	; popDist[54] =	0.8386	; popDist[55] =	0.9479	; popDist[56] =	0.9686	; popDist[57] =	0.9948	; popDist[58] =	0.9980	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0422	; popDist[2] =	0.0669	; popDist[3] =	0.0944	; popDist[4] =	0.1464	; popDist[5] = 	0.1992	; popDist[6] =	0.2308	; popDist[7] =	0.2736	; popDist[8] = 	0.2829	; popDist[9] = 	0.3305	; popDist[10] = 	0.3409	; popDist[11] = 	0.3548	; popDist[12] = 	0.3661	; popDist[13] = 	0.3957	; popDist[14] = 	0.4017	; popDist[15] = 	0.4183	; popDist[16] = 	0.4596	; popDist[17] = 	0.4975	; popDist[18] = 	0.5052	; popDist[19] = 	0.5306	; popDist[20] = 	0.5360	; popDist[21] = 	0.5405	; popDist[22] = 	0.5452	; popDist[23] = 	0.5518	; popDist[24] = 	0.5625	; popDist[25] = 	0.5709	; popDist[26] = 	0.5810	; popDist[27] = 	0.5848	; popDist[28] = 	0.5959	; popDist[29] = 	0.6004	; popDist[30] = 	0.6054	; popDist[31] = 	0.6059	; popDist[32] = 	0.6073	; popDist[33] = 	0.6293	; popDist[34] = 	0.6355	; popDist[35] = 	0.6363	; popDist[36] = 	0.6383	; popDist[37] = 	0.6480	; popDist[38] = 	0.6506	; popDist[39] = 	0.6738	; popDist[40] = 	0.6863	; popDist[41] = 	0.7245	; popDist[42] = 	0.7987	; popDist[43] =	0.8207	; popDist[44] =	0.8345	; popDist[45] =	0.8657	; popDist[46] =	0.8965	; popDist[47] =	0.9113	; popDist[48] =	0.9157	; popDist[49] =	0.9287	; popDist[50] =	0.9349	; popDist[51] =	0.9520	; popDist[52] =	0.9595	; popDist[53] =	0.9617	; popDist[54] =	0.9731	; popDist[55] =	0.9771	; popDist[56] =	0.9854	; popDist[57] =	0.9954	; popDist[58] =	0.9984	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0252	; popDist[2] =	0.0398	; popDist[3] =	0.0561	; popDist[4] =	0.0969	; popDist[5] = 	0.1363	; popDist[6] =	0.1554	; popDist[7] =	0.1986	; popDist[8] = 	0.2101	; popDist[9] = 	0.2592	; popDist[10] = 	0.2731	; popDist[11] = 	0.2907	; popDist[12] = 	0.3043	; popDist[13] = 	0.3310	; popDist[14] = 	0.3378	; popDist[15] = 	0.3500	; popDist[16] = 	0.3837	; popDist[17] = 	0.4167	; popDist[18] = 	0.4261	; popDist[19] = 	0.4552	; popDist[20] = 	0.4606	; popDist[21] = 	0.4660	; popDist[22] = 	0.4719	; popDist[23] = 	0.4779	; popDist[24] = 	0.4875	; popDist[25] = 	0.4930	; popDist[26] = 	0.5038	; popDist[27] = 	0.5078	; popDist[28] = 	0.5149	; popDist[29] = 	0.5206	; popDist[30] = 	0.5275	; popDist[31] = 	0.5283	; popDist[32] = 	0.5301	; popDist[33] = 	0.5488	; popDist[34] = 	0.5561	; popDist[35] = 	0.5571	; popDist[36] = 	0.5601	; popDist[37] = 	0.5718	; popDist[38] = 	0.5756	; popDist[39] = 	0.5954	; popDist[40] = 	0.6039	; popDist[41] = 	0.6305	; popDist[42] = 	0.7058	; popDist[43] =	0.7327	; popDist[44] =	0.7539	; popDist[45] =	0.8028	; popDist[46] =	0.8484	; popDist[47] =	0.8693	; popDist[48] =	0.8751	; popDist[49] =	0.8945	; popDist[50] =	0.9057	; popDist[51] =	0.9310	; popDist[52] =	0.9437	; popDist[53] =	0.9475	; popDist[54] =	0.9641	; popDist[55] =	0.9726	; popDist[56] =	0.9807	; popDist[57] =	0.9932	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0139	; popDist[2] =	0.0246	; popDist[3] =	0.0350	; popDist[4] =	0.0641	; popDist[5] = 	0.0915	; popDist[6] =	0.1036	; popDist[7] =	0.1404	; popDist[8] = 	0.1561	; popDist[9] = 	0.1984	; popDist[10] = 	0.2166	; popDist[11] = 	0.2353	; popDist[12] = 	0.2501	; popDist[13] = 	0.2729	; popDist[14] = 	0.2816	; popDist[15] = 	0.2920	; popDist[16] = 	0.3154	; popDist[17] = 	0.3427	; popDist[18] = 	0.3577	; popDist[19] = 	0.3872	; popDist[20] = 	0.3918	; popDist[21] = 	0.3964	; popDist[22] = 	0.4041	; popDist[23] = 	0.4112	; popDist[24] = 	0.4209	; popDist[25] = 	0.4260	; popDist[26] = 	0.4368	; popDist[27] = 	0.4414	; popDist[28] = 	0.4464	; popDist[29] = 	0.4522	; popDist[30] = 	0.4623	; popDist[31] = 	0.4633	; popDist[32] = 	0.4661	; popDist[33] = 	0.4840	; popDist[34] = 	0.4939	; popDist[35] = 	0.4953	; popDist[36] = 	0.5008	; popDist[37] = 	0.5187	; popDist[38] = 	0.5260	; popDist[39] = 	0.5426	; popDist[40] = 	0.5487	; popDist[41] = 	0.5687	; popDist[42] = 	0.6361	; popDist[43] =	0.6653	; popDist[44] =	0.6899	; popDist[45] =	0.7469	; popDist[46] =	0.7939	; popDist[47] =	0.8201	; popDist[48] =	0.8285	; popDist[49] =	0.8527	; popDist[50] =	0.8681	; popDist[51] =	0.9023	; popDist[52] =	0.9200	; popDist[53] =	0.9267	; popDist[54] =	0.9466	; popDist[55] =	0.9610	; popDist[56] =	0.9694	; popDist[57] =	0.9871	; popDist[58] =	0.9941	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0081	; popDist[2] =	0.0131	; popDist[3] =	0.0190	; popDist[4] =	0.0321	; popDist[5] = 	0.0471	; popDist[6] =	0.0532	; popDist[7] =	0.0754	; popDist[8] = 	0.0955	; popDist[9] = 	0.1236	; popDist[10] = 	0.1427	; popDist[11] = 	0.1609	; popDist[12] = 	0.1769	; popDist[13] = 	0.1929	; popDist[14] = 	0.2070	; popDist[15] = 	0.2151	; popDist[16] = 	0.2284	; popDist[17] = 	0.2479	; popDist[18] = 	0.2745	; popDist[19] = 	0.3025	; popDist[20] = 	0.3068	; popDist[21] = 	0.3100	; popDist[22] = 	0.3198	; popDist[23] = 	0.3269	; popDist[24] = 	0.3367	; popDist[25] = 	0.3410	; popDist[26] = 	0.3513	; popDist[27] = 	0.3572	; popDist[28] = 	0.3608	; popDist[29] = 	0.3656	; popDist[30] = 	0.3791	; popDist[31] = 	0.3832	; popDist[32] = 	0.3909	; popDist[33] = 	0.4098	; popDist[34] = 	0.4294	; popDist[35] = 	0.4339	; popDist[36] = 	0.4481	; popDist[37] = 	0.4990	; popDist[38] = 	0.5206	; popDist[39] = 	0.5396	; popDist[40] = 	0.5439	; popDist[41] = 	0.5602	; popDist[42] = 	0.6088	; popDist[43] =	0.6351	; popDist[44] =	0.6565	; popDist[45] =	0.7065	; popDist[46] =	0.7475	; popDist[47] =	0.7737	; popDist[48] =	0.7853	; popDist[49] =	0.8156	; popDist[50] =	0.8359	; popDist[51] =	0.8680	; popDist[52] =	0.8890	; popDist[53] =	0.9001	; popDist[54] =	0.9206	; popDist[55] =	0.9423	; popDist[56] =	0.9521	; popDist[57] =	0.9766	; popDist[58] =	0.9888	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0088	; popDist[2] =	0.0132	; popDist[3] =	0.0199	; popDist[4] =	0.0368	; popDist[5] = 	0.0536	; popDist[6] =	0.0623	; popDist[7] =	0.0853	; popDist[8] = 	0.0916	; popDist[9] = 	0.1104	; popDist[10] = 	0.1160	; popDist[11] = 	0.1264	; popDist[12] = 	0.1355	; popDist[13] = 	0.1516	; popDist[14] = 	0.1590	; popDist[15] = 	0.1685	; popDist[16] = 	0.1822	; popDist[17] = 	0.2038	; popDist[18] = 	0.2109	; popDist[19] = 	0.2375	; popDist[20] = 	0.2439	; popDist[21] = 	0.2487	; popDist[22] = 	0.2663	; popDist[23] = 	0.3105	; popDist[24] = 	0.3430	; popDist[25] = 	0.3585	; popDist[26] = 	0.3793	; popDist[27] = 	0.3997	; popDist[28] = 	0.4058	; popDist[29] = 	0.4133	; popDist[30] = 	0.4224	; popDist[31] = 	0.4261	; popDist[32] = 	0.4349	; popDist[33] = 	0.5081	; popDist[34] = 	0.5166	; popDist[35] = 	0.5205	; popDist[36] = 	0.5286	; popDist[37] = 	0.5404	; popDist[38] = 	0.5479	; popDist[39] = 	0.5626	; popDist[40] = 	0.5716	; popDist[41] = 	0.5850	; popDist[42] = 	0.6083	; popDist[43] =	0.6480	; popDist[44] =	0.6755	; popDist[45] =	0.7009	; popDist[46] =	0.7495	; popDist[47] =	0.7623	; popDist[48] =	0.7821	; popDist[49] =	0.8527	; popDist[50] =	0.8771	; popDist[51] =	0.9059	; popDist[52] =	0.9257	; popDist[53] =	0.9400	; popDist[54] =	0.9601	; popDist[55] =	0.9723	; popDist[56] =	0.9782	; popDist[57] =	0.9895	; popDist[58] =	0.9974	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0044	; popDist[2] =	0.0067	; popDist[3] =	0.0100	; popDist[4] =	0.0213	; popDist[5] = 	0.0319	; popDist[6] =	0.0364	; popDist[7] =	0.0561	; popDist[8] = 	0.0627	; popDist[9] = 	0.0791	; popDist[10] = 	0.0855	; popDist[11] = 	0.0968	; popDist[12] = 	0.1059	; popDist[13] = 	0.1183	; popDist[14] = 	0.1254	; popDist[15] = 	0.1313	; popDist[16] = 	0.1408	; popDist[17] = 	0.1567	; popDist[18] = 	0.1640	; popDist[19] = 	0.1900	; popDist[20] = 	0.1954	; popDist[21] = 	0.2002	; popDist[22] = 	0.2191	; popDist[23] = 	0.2534	; popDist[24] = 	0.2779	; popDist[25] = 	0.2866	; popDist[26] = 	0.3054	; popDist[27] = 	0.3234	; popDist[28] = 	0.3267	; popDist[29] = 	0.3350	; popDist[30] = 	0.3456	; popDist[31] = 	0.3502	; popDist[32] = 	0.3596	; popDist[33] = 	0.4123	; popDist[34] = 	0.4209	; popDist[35] = 	0.4249	; popDist[36] = 	0.4353	; popDist[37] = 	0.4473	; popDist[38] = 	0.4570	; popDist[39] = 	0.4676	; popDist[40] = 	0.4728	; popDist[41] = 	0.4807	; popDist[42] = 	0.5008	; popDist[43] =	0.5418	; popDist[44] =	0.5779	; popDist[45] =	0.6117	; popDist[46] =	0.6726	; popDist[47] =	0.6879	; popDist[48] =	0.7104	; popDist[49] =	0.7995	; popDist[50] =	0.8367	; popDist[51] =	0.8730	; popDist[52] =	0.9012	; popDist[53] =	0.9234	; popDist[54] =	0.9480	; popDist[55] =	0.9704	; popDist[56] =	0.9752	; popDist[57] =	0.9873	; popDist[58] =	0.9961	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0021	; popDist[2] =	0.0035	; popDist[3] =	0.0053	; popDist[4] =	0.0122	; popDist[5] = 	0.0185	; popDist[6] =	0.0209	; popDist[7] =	0.0351	; popDist[8] = 	0.0429	; popDist[9] = 	0.0549	; popDist[10] = 	0.0620	; popDist[11] = 	0.0722	; popDist[12] = 	0.0807	; popDist[13] = 	0.0897	; popDist[14] = 	0.0974	; popDist[15] = 	0.1018	; popDist[16] = 	0.1074	; popDist[17] = 	0.1186	; popDist[18] = 	0.1286	; popDist[19] = 	0.1509	; popDist[20] = 	0.1549	; popDist[21] = 	0.1584	; popDist[22] = 	0.1795	; popDist[23] = 	0.2141	; popDist[24] = 	0.2353	; popDist[25] = 	0.2421	; popDist[26] = 	0.2581	; popDist[27] = 	0.2757	; popDist[28] = 	0.2777	; popDist[29] = 	0.2848	; popDist[30] = 	0.2981	; popDist[31] = 	0.3029	; popDist[32] = 	0.3157	; popDist[33] = 	0.3586	; popDist[34] = 	0.3684	; popDist[35] = 	0.3736	; popDist[36] = 	0.3899	; popDist[37] = 	0.4055	; popDist[38] = 	0.4212	; popDist[39] = 	0.4288	; popDist[40] = 	0.4319	; popDist[41] = 	0.4370	; popDist[42] = 	0.4523	; popDist[43] =	0.4903	; popDist[44] =	0.5258	; popDist[45] =	0.5594	; popDist[46] =	0.6129	; popDist[47] =	0.6292	; popDist[48] =	0.6572	; popDist[49] =	0.7516	; popDist[50] =	0.7952	; popDist[51] =	0.8370	; popDist[52] =	0.8705	; popDist[53] =	0.9033	; popDist[54] =	0.9285	; popDist[55] =	0.9610	; popDist[56] =	0.9653	; popDist[57] =	0.9797	; popDist[58] =	0.9930	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	35	&& age <=	44	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0010	; popDist[2] =	0.0015	; popDist[3] =	0.0024	; popDist[4] =	0.0049	; popDist[5] = 	0.0077	; popDist[6] =	0.0086	; popDist[7] =	0.0157	; popDist[8] = 	0.0237	; popDist[9] = 	0.0302	; popDist[10] = 	0.0362	; popDist[11] = 	0.0443	; popDist[12] = 	0.0518	; popDist[13] = 	0.0569	; popDist[14] = 	0.0671	; popDist[15] = 	0.0698	; popDist[16] = 	0.0724	; popDist[17] = 	0.0789	; popDist[18] = 	0.0934	; popDist[19] = 	0.1107	; popDist[20] = 	0.1136	; popDist[21] = 	0.1156	; popDist[22] = 	0.1374	; popDist[23] = 	0.1655	; popDist[24] = 	0.1828	; popDist[25] = 	0.1875	; popDist[26] = 	0.2000	; popDist[27] = 	0.2181	; popDist[28] = 	0.2193	; popDist[29] = 	0.2241	; popDist[30] = 	0.2385	; popDist[31] = 	0.2550	; popDist[32] = 	0.2833	; popDist[33] = 	0.3202	; popDist[34] = 	0.3359	; popDist[35] = 	0.3495	; popDist[36] = 	0.3836	; popDist[37] = 	0.4199	; popDist[38] = 	0.4574	; popDist[39] = 	0.4644	; popDist[40] = 	0.4663	; popDist[41] = 	0.4696	; popDist[42] = 	0.4786	; popDist[43] =	0.5063	; popDist[44] =	0.5314	; popDist[45] =	0.5554	; popDist[46] =	0.5933	; popDist[47] =	0.6066	; popDist[48] =	0.6379	; popDist[49] =	0.7342	; popDist[50] =	0.7808	; popDist[51] =	0.8127	; popDist[52] =	0.8449	; popDist[53] =	0.8894	; popDist[54] =	0.9105	; popDist[55] =	0.9501	; popDist[56] =	0.9542	; popDist[57] =	0.9706	; popDist[58] =	0.9892	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0008	; popDist[2] =	0.0011	; popDist[3] =	0.0015	; popDist[4] =	0.0027	; popDist[5] = 	0.0037	; popDist[6] =	0.0084	; popDist[7] =	0.0165	; popDist[8] = 	0.0330	; popDist[9] = 	0.0371	; popDist[10] = 	0.0583	; popDist[11] = 	0.0749	; popDist[12] = 	0.0821	; popDist[13] = 	0.1189	; popDist[14] = 	0.1310	; popDist[15] = 	0.1323	; popDist[16] = 	0.1340	; popDist[17] = 	0.1395	; popDist[18] = 	0.1571	; popDist[19] = 	0.1685	; popDist[20] = 	0.1728	; popDist[21] = 	0.1772	; popDist[22] = 	0.2070	; popDist[23] = 	0.2627	; popDist[24] = 	0.3140	; popDist[25] = 	0.3594	; popDist[26] = 	0.3881	; popDist[27] = 	0.4465	; popDist[28] = 	0.4469	; popDist[29] = 	0.4484	; popDist[30] = 	0.4727	; popDist[31] = 	0.4777	; popDist[32] = 	0.4951	; popDist[33] = 	0.5210	; popDist[34] = 	0.5378	; popDist[35] = 	0.5457	; popDist[36] = 	0.5686	; popDist[37] = 	0.6083	; popDist[38] = 	0.6439	; popDist[39] = 	0.6542	; popDist[40] = 	0.6559	; popDist[41] = 	0.6613	; popDist[42] = 	0.6763	; popDist[43] =	0.7086	; popDist[44] =	0.7193	; popDist[45] =	0.7271	; popDist[46] =	0.7329	; popDist[47] =	0.7679	; popDist[48] =	0.7933	; popDist[49] =	0.8278	; popDist[50] =	0.8438	; popDist[51] =	0.8570	; popDist[52] =	0.8698	; popDist[53] =	0.8872	; popDist[54] =	0.8893	; popDist[55] =	0.8973	; popDist[56] =	0.9169	; popDist[57] =	0.9451	; popDist[58] =	0.9742	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0004	; popDist[2] =	0.0006	; popDist[3] =	0.0007	; popDist[4] =	0.0015	; popDist[5] = 	0.0021	; popDist[6] =	0.0045	; popDist[7] =	0.0113	; popDist[8] = 	0.0283	; popDist[9] = 	0.0318	; popDist[10] = 	0.0555	; popDist[11] = 	0.0730	; popDist[12] = 	0.0801	; popDist[13] = 	0.1079	; popDist[14] = 	0.1191	; popDist[15] = 	0.1199	; popDist[16] = 	0.1210	; popDist[17] = 	0.1250	; popDist[18] = 	0.1427	; popDist[19] = 	0.1536	; popDist[20] = 	0.1571	; popDist[21] = 	0.1615	; popDist[22] = 	0.1928	; popDist[23] = 	0.2351	; popDist[24] = 	0.2729	; popDist[25] = 	0.2979	; popDist[26] = 	0.3233	; popDist[27] = 	0.3736	; popDist[28] = 	0.3738	; popDist[29] = 	0.3754	; popDist[30] = 	0.4034	; popDist[31] = 	0.4094	; popDist[32] = 	0.4275	; popDist[33] = 	0.4458	; popDist[34] = 	0.4623	; popDist[35] = 	0.4702	; popDist[36] = 	0.4992	; popDist[37] = 	0.5388	; popDist[38] = 	0.5838	; popDist[39] = 	0.5911	; popDist[40] = 	0.5920	; popDist[41] = 	0.5952	; popDist[42] = 	0.6078	; popDist[43] =	0.6405	; popDist[44] =	0.6542	; popDist[45] =	0.6644	; popDist[46] =	0.6715	; popDist[47] =	0.7125	; popDist[48] =	0.7407	; popDist[49] =	0.7833	; popDist[50] =	0.8072	; popDist[51] =	0.8235	; popDist[52] =	0.8414	; popDist[53] =	0.8678	; popDist[54] =	0.8704	; popDist[55] =	0.8847	; popDist[56] =	0.9005	; popDist[57] =	0.9300	; popDist[58] =	0.9616	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0003	; popDist[4] =	0.0007	; popDist[5] = 	0.0011	; popDist[6] =	0.0022	; popDist[7] =	0.0065	; popDist[8] = 	0.0241	; popDist[9] = 	0.0263	; popDist[10] = 	0.0497	; popDist[11] = 	0.0636	; popDist[12] = 	0.0695	; popDist[13] = 	0.0872	; popDist[14] = 	0.0980	; popDist[15] = 	0.0985	; popDist[16] = 	0.0991	; popDist[17] = 	0.1016	; popDist[18] = 	0.1230	; popDist[19] = 	0.1312	; popDist[20] = 	0.1335	; popDist[21] = 	0.1363	; popDist[22] = 	0.1672	; popDist[23] = 	0.2048	; popDist[24] = 	0.2336	; popDist[25] = 	0.2509	; popDist[26] = 	0.2699	; popDist[27] = 	0.3134	; popDist[28] = 	0.3135	; popDist[29] = 	0.3147	; popDist[30] = 	0.3454	; popDist[31] = 	0.3509	; popDist[32] = 	0.3728	; popDist[33] = 	0.3859	; popDist[34] = 	0.4026	; popDist[35] = 	0.4115	; popDist[36] = 	0.4516	; popDist[37] = 	0.4970	; popDist[38] = 	0.5615	; popDist[39] = 	0.5661	; popDist[40] = 	0.5666	; popDist[41] = 	0.5683	; popDist[42] = 	0.5768	; popDist[43] =	0.6035	; popDist[44] =	0.6155	; popDist[45] =	0.6244	; popDist[46] =	0.6299	; popDist[47] =	0.6685	; popDist[48] =	0.6993	; popDist[49] =	0.7391	; popDist[50] =	0.7639	; popDist[51] =	0.7804	; popDist[52] =	0.7992	; popDist[53] =	0.8336	; popDist[54] =	0.8359	; popDist[55] =	0.8542	; popDist[56] =	0.8666	; popDist[57] =	0.8976	; popDist[58] =	0.9401	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0004	; popDist[6] =	0.0007	; popDist[7] =	0.0024	; popDist[8] = 	0.0167	; popDist[9] = 	0.0176	; popDist[10] = 	0.0332	; popDist[11] = 	0.0419	; popDist[12] = 	0.0459	; popDist[13] = 	0.0539	; popDist[14] = 	0.0651	; popDist[15] = 	0.0653	; popDist[16] = 	0.0656	; popDist[17] = 	0.0667	; popDist[18] = 	0.0909	; popDist[19] = 	0.0959	; popDist[20] = 	0.0972	; popDist[21] = 	0.0985	; popDist[22] = 	0.1236	; popDist[23] = 	0.1476	; popDist[24] = 	0.1662	; popDist[25] = 	0.1756	; popDist[26] = 	0.1872	; popDist[27] = 	0.2224	; popDist[28] = 	0.2225	; popDist[29] = 	0.2231	; popDist[30] = 	0.2495	; popDist[31] = 	0.2642	; popDist[32] = 	0.3022	; popDist[33] = 	0.3110	; popDist[34] = 	0.3322	; popDist[35] = 	0.3506	; popDist[36] = 	0.4166	; popDist[37] = 	0.4993	; popDist[38] = 	0.6206	; popDist[39] = 	0.6239	; popDist[40] = 	0.6242	; popDist[41] = 	0.6251	; popDist[42] = 	0.6290	; popDist[43] =	0.6443	; popDist[44] =	0.6510	; popDist[45] =	0.6559	; popDist[46] =	0.6590	; popDist[47] =	0.6837	; popDist[48] =	0.7109	; popDist[49] =	0.7428	; popDist[50] =	0.7635	; popDist[51] =	0.7735	; popDist[52] =	0.7876	; popDist[53] =	0.8244	; popDist[54] =	0.8259	; popDist[55] =	0.8435	; popDist[56] =	0.8526	; popDist[57] =	0.8803	; popDist[58] =	0.9272	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0165	; popDist[2] =	0.0240	; popDist[3] =	0.0456	; popDist[4] =	0.0801	; popDist[5] = 	0.1088	; popDist[6] =	0.1221	; popDist[7] =	0.1380	; popDist[8] = 	0.1427	; popDist[9] = 	0.1761	; popDist[10] = 	0.1855	; popDist[11] = 	0.1940	; popDist[12] = 	0.2377	; popDist[13] = 	0.2435	; popDist[14] = 	0.2580	; popDist[15] = 	0.3308	; popDist[16] = 	0.3461	; popDist[17] = 	0.3973	; popDist[18] = 	0.4017	; popDist[19] = 	0.4041	; popDist[20] = 	0.4454	; popDist[21] = 	0.4924	; popDist[22] = 	0.4930	; popDist[23] = 	0.4934	; popDist[24] = 	0.4967	; popDist[25] = 	0.5078	; popDist[26] = 	0.5429	; popDist[27] = 	0.5453	; popDist[28] = 	0.5932	; popDist[29] = 	0.6676	; popDist[30] = 	0.7022	; popDist[31] = 	0.7027	; popDist[32] = 	0.7033	; popDist[33] = 	0.7107	; popDist[34] = 	0.7131	; popDist[35] = 	0.7136	; popDist[36] = 	0.7149	; popDist[37] = 	0.7213	; popDist[38] = 	0.7228	; popDist[39] = 	0.7422	; popDist[40] = 	0.8027	; popDist[41] = 	0.8303	; popDist[42] = 	0.8442	; popDist[43] =	0.8490	; popDist[44] =	0.8500	; popDist[45] =	0.8561	; popDist[46] =	0.8607	; popDist[47] =	0.8615	; popDist[48] =	0.8626	; popDist[49] =	0.8653	; popDist[50] =	0.8715	; popDist[51] =	0.8751	; popDist[52] =	0.8814	; popDist[53] =	0.8820	; popDist[54] =	0.9437	; popDist[55] =	0.9667	; popDist[56] =	0.9872	; popDist[57] =	0.9986	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0096	; popDist[2] =	0.0139	; popDist[3] =	0.0264	; popDist[4] =	0.0528	; popDist[5] = 	0.0736	; popDist[6] =	0.0815	; popDist[7] =	0.0971	; popDist[8] = 	0.1028	; popDist[9] = 	0.1363	; popDist[10] = 	0.1486	; popDist[11] = 	0.1593	; popDist[12] = 	0.2099	; popDist[13] = 	0.2151	; popDist[14] = 	0.2308	; popDist[15] = 	0.2829	; popDist[16] = 	0.2951	; popDist[17] = 	0.3385	; popDist[18] = 	0.3438	; popDist[19] = 	0.3465	; popDist[20] = 	0.3863	; popDist[21] = 	0.4411	; popDist[22] = 	0.4418	; popDist[23] = 	0.4422	; popDist[24] = 	0.4450	; popDist[25] = 	0.4522	; popDist[26] = 	0.4888	; popDist[27] = 	0.4911	; popDist[28] = 	0.5210	; popDist[29] = 	0.6148	; popDist[30] = 	0.6615	; popDist[31] = 	0.6622	; popDist[32] = 	0.6630	; popDist[33] = 	0.6691	; popDist[34] = 	0.6718	; popDist[35] = 	0.6724	; popDist[36] = 	0.6743	; popDist[37] = 	0.6819	; popDist[38] = 	0.6841	; popDist[39] = 	0.7002	; popDist[40] = 	0.7401	; popDist[41] = 	0.7588	; popDist[42] = 	0.7726	; popDist[43] =	0.7784	; popDist[44] =	0.7798	; popDist[45] =	0.7891	; popDist[46] =	0.7958	; popDist[47] =	0.7969	; popDist[48] =	0.7983	; popDist[49] =	0.8022	; popDist[50] =	0.8131	; popDist[51] =	0.8182	; popDist[52] =	0.8286	; popDist[53] =	0.8298	; popDist[54] =	0.9161	; popDist[55] =	0.9647	; popDist[56] =	0.9840	; popDist[57] =	0.9981	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0051	; popDist[2] =	0.0082	; popDist[3] =	0.0159	; popDist[4] =	0.0342	; popDist[5] = 	0.0483	; popDist[6] =	0.0531	; popDist[7] =	0.0661	; popDist[8] = 	0.0737	; popDist[9] = 	0.1016	; popDist[10] = 	0.1174	; popDist[11] = 	0.1283	; popDist[12] = 	0.1820	; popDist[13] = 	0.1862	; popDist[14] = 	0.2059	; popDist[15] = 	0.2493	; popDist[16] = 	0.2574	; popDist[17] = 	0.2923	; popDist[18] = 	0.3006	; popDist[19] = 	0.3032	; popDist[20] = 	0.3368	; popDist[21] = 	0.3817	; popDist[22] = 	0.3826	; popDist[23] = 	0.3831	; popDist[24] = 	0.3858	; popDist[25] = 	0.3923	; popDist[26] = 	0.4277	; popDist[27] = 	0.4303	; popDist[28] = 	0.4510	; popDist[29] = 	0.5428	; popDist[30] = 	0.6090	; popDist[31] = 	0.6097	; popDist[32] = 	0.6110	; popDist[33] = 	0.6167	; popDist[34] = 	0.6202	; popDist[35] = 	0.6211	; popDist[36] = 	0.6245	; popDist[37] = 	0.6357	; popDist[38] = 	0.6399	; popDist[39] = 	0.6530	; popDist[40] = 	0.6808	; popDist[41] = 	0.6944	; popDist[42] = 	0.7064	; popDist[43] =	0.7125	; popDist[44] =	0.7141	; popDist[45] =	0.7246	; popDist[46] =	0.7313	; popDist[47] =	0.7327	; popDist[48] =	0.7347	; popDist[49] =	0.7394	; popDist[50] =	0.7540	; popDist[51] =	0.7607	; popDist[52] =	0.7748	; popDist[53] =	0.7767	; popDist[54] =	0.8776	; popDist[55] =	0.9578	; popDist[56] =	0.9774	; popDist[57] =	0.9966	; popDist[58] =	0.9988	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0029	; popDist[2] =	0.0043	; popDist[3] =	0.0085	; popDist[4] =	0.0164	; popDist[5] = 	0.0238	; popDist[6] =	0.0262	; popDist[7] =	0.0337	; popDist[8] = 	0.0430	; popDist[9] = 	0.0609	; popDist[10] = 	0.0767	; popDist[11] = 	0.0869	; popDist[12] = 	0.1427	; popDist[13] = 	0.1456	; popDist[14] = 	0.1762	; popDist[15] = 	0.2086	; popDist[16] = 	0.2131	; popDist[17] = 	0.2371	; popDist[18] = 	0.2511	; popDist[19] = 	0.2535	; popDist[20] = 	0.2825	; popDist[21] = 	0.3132	; popDist[22] = 	0.3143	; popDist[23] = 	0.3147	; popDist[24] = 	0.3174	; popDist[25] = 	0.3227	; popDist[26] = 	0.3553	; popDist[27] = 	0.3585	; popDist[28] = 	0.3726	; popDist[29] = 	0.4457	; popDist[30] = 	0.5312	; popDist[31] = 	0.5344	; popDist[32] = 	0.5377	; popDist[33] = 	0.5435	; popDist[34] = 	0.5501	; popDist[35] = 	0.5528	; popDist[36] = 	0.5614	; popDist[37] = 	0.5920	; popDist[38] = 	0.6040	; popDist[39] = 	0.6182	; popDist[40] = 	0.6376	; popDist[41] = 	0.6483	; popDist[42] = 	0.6566	; popDist[43] =	0.6618	; popDist[44] =	0.6632	; popDist[45] =	0.6721	; popDist[46] =	0.6777	; popDist[47] =	0.6790	; popDist[48] =	0.6817	; popDist[49] =	0.6874	; popDist[50] =	0.7058	; popDist[51] =	0.7118	; popDist[52] =	0.7278	; popDist[53] =	0.7309	; popDist[54] =	0.8306	; popDist[55] =	0.9466	; popDist[56] =	0.9683	; popDist[57] =	0.9941	; popDist[58] =	0.9978	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0407	; popDist[2] =	0.0632	; popDist[3] =	0.0873	; popDist[4] =	0.1349	; popDist[5] = 	0.1830	; popDist[6] =	0.2113	; popDist[7] =	0.2501	; popDist[8] = 	0.2614	; popDist[9] = 	0.3116	; popDist[10] = 	0.3231	; popDist[11] = 	0.3374	; popDist[12] = 	0.3491	; popDist[13] = 	0.3825	; popDist[14] = 	0.3885	; popDist[15] = 	0.4049	; popDist[16] = 	0.4435	; popDist[17] = 	0.4817	; popDist[18] = 	0.4891	; popDist[19] = 	0.5136	; popDist[20] = 	0.5190	; popDist[21] = 	0.5241	; popDist[22] = 	0.5291	; popDist[23] = 	0.5367	; popDist[24] = 	0.5499	; popDist[25] = 	0.5616	; popDist[26] = 	0.5731	; popDist[27] = 	0.5784	; popDist[28] = 	0.5890	; popDist[29] = 	0.5940	; popDist[30] = 	0.5998	; popDist[31] = 	0.6003	; popDist[32] = 	0.6018	; popDist[33] = 	0.6249	; popDist[34] = 	0.6308	; popDist[35] = 	0.6316	; popDist[36] = 	0.6339	; popDist[37] = 	0.6447	; popDist[38] = 	0.6476	; popDist[39] = 	0.6707	; popDist[40] = 	0.6824	; popDist[41] = 	0.7189	; popDist[42] = 	0.7975	; popDist[43] =	0.8177	; popDist[44] =	0.8307	; popDist[45] =	0.8607	; popDist[46] =	0.8899	; popDist[47] =	0.9051	; popDist[48] =	0.9103	; popDist[49] =	0.9246	; popDist[50] =	0.9317	; popDist[51] =	0.9481	; popDist[52] =	0.9558	; popDist[53] =	0.9585	; popDist[54] =	0.9703	; popDist[55] =	0.9747	; popDist[56] =	0.9841	; popDist[57] =	0.9945	; popDist[58] =	0.9982	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0240	; popDist[2] =	0.0372	; popDist[3] =	0.0513	; popDist[4] =	0.0884	; popDist[5] = 	0.1240	; popDist[6] =	0.1409	; popDist[7] =	0.1798	; popDist[8] = 	0.1936	; popDist[9] = 	0.2448	; popDist[10] = 	0.2603	; popDist[11] = 	0.2783	; popDist[12] = 	0.2921	; popDist[13] = 	0.3221	; popDist[14] = 	0.3287	; popDist[15] = 	0.3407	; popDist[16] = 	0.3719	; popDist[17] = 	0.4048	; popDist[18] = 	0.4138	; popDist[19] = 	0.4416	; popDist[20] = 	0.4469	; popDist[21] = 	0.4530	; popDist[22] = 	0.4593	; popDist[23] = 	0.4661	; popDist[24] = 	0.4778	; popDist[25] = 	0.4855	; popDist[26] = 	0.4976	; popDist[27] = 	0.5030	; popDist[28] = 	0.5098	; popDist[29] = 	0.5162	; popDist[30] = 	0.5241	; popDist[31] = 	0.5249	; popDist[32] = 	0.5267	; popDist[33] = 	0.5462	; popDist[34] = 	0.5531	; popDist[35] = 	0.5541	; popDist[36] = 	0.5576	; popDist[37] = 	0.5703	; popDist[38] = 	0.5747	; popDist[39] = 	0.5942	; popDist[40] = 	0.6020	; popDist[41] = 	0.6273	; popDist[42] = 	0.7064	; popDist[43] =	0.7308	; popDist[44] =	0.7507	; popDist[45] =	0.7973	; popDist[46] =	0.8399	; popDist[47] =	0.8613	; popDist[48] =	0.8682	; popDist[49] =	0.8892	; popDist[50] =	0.9019	; popDist[51] =	0.9259	; popDist[52] =	0.9389	; popDist[53] =	0.9438	; popDist[54] =	0.9605	; popDist[55] =	0.9700	; popDist[56] =	0.9790	; popDist[57] =	0.9920	; popDist[58] =	0.9968	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0131	; popDist[2] =	0.0227	; popDist[3] =	0.0316	; popDist[4] =	0.0577	; popDist[5] = 	0.0822	; popDist[6] =	0.0927	; popDist[7] =	0.1254	; popDist[8] = 	0.1441	; popDist[9] = 	0.1877	; popDist[10] = 	0.2077	; popDist[11] = 	0.2266	; popDist[12] = 	0.2415	; popDist[13] = 	0.2667	; popDist[14] = 	0.2752	; popDist[15] = 	0.2853	; popDist[16] = 	0.3067	; popDist[17] = 	0.3336	; popDist[18] = 	0.3477	; popDist[19] = 	0.3756	; popDist[20] = 	0.3801	; popDist[21] = 	0.3852	; popDist[22] = 	0.3933	; popDist[23] = 	0.4014	; popDist[24] = 	0.4130	; popDist[25] = 	0.4200	; popDist[26] = 	0.4320	; popDist[27] = 	0.4381	; popDist[28] = 	0.4429	; popDist[29] = 	0.4493	; popDist[30] = 	0.4607	; popDist[31] = 	0.4616	; popDist[32] = 	0.4646	; popDist[33] = 	0.4829	; popDist[34] = 	0.4921	; popDist[35] = 	0.4936	; popDist[36] = 	0.4999	; popDist[37] = 	0.5191	; popDist[38] = 	0.5274	; popDist[39] = 	0.5435	; popDist[40] = 	0.5491	; popDist[41] = 	0.5678	; popDist[42] = 	0.6379	; popDist[43] =	0.6641	; popDist[44] =	0.6868	; popDist[45] =	0.7405	; popDist[46] =	0.7840	; popDist[47] =	0.8104	; popDist[48] =	0.8203	; popDist[49] =	0.8462	; popDist[50] =	0.8634	; popDist[51] =	0.8955	; popDist[52] =	0.9134	; popDist[53] =	0.9218	; popDist[54] =	0.9417	; popDist[55] =	0.9577	; popDist[56] =	0.9669	; popDist[57] =	0.9849	; popDist[58] =	0.9933	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0075	; popDist[2] =	0.0119	; popDist[3] =	0.0169	; popDist[4] =	0.0284	; popDist[5] = 	0.0415	; popDist[6] =	0.0467	; popDist[7] =	0.0661	; popDist[8] = 	0.0895	; popDist[9] = 	0.1180	; popDist[10] = 	0.1385	; popDist[11] = 	0.1566	; popDist[12] = 	0.1723	; popDist[13] = 	0.1897	; popDist[14] = 	0.2031	; popDist[15] = 	0.2109	; popDist[16] = 	0.2228	; popDist[17] = 	0.2416	; popDist[18] = 	0.2663	; popDist[19] = 	0.2923	; popDist[20] = 	0.2963	; popDist[21] = 	0.2998	; popDist[22] = 	0.3100	; popDist[23] = 	0.3179	; popDist[24] = 	0.3294	; popDist[25] = 	0.3352	; popDist[26] = 	0.3465	; popDist[27] = 	0.3541	; popDist[28] = 	0.3574	; popDist[29] = 	0.3627	; popDist[30] = 	0.3776	; popDist[31] = 	0.3816	; popDist[32] = 	0.3894	; popDist[33] = 	0.4085	; popDist[34] = 	0.4264	; popDist[35] = 	0.4309	; popDist[36] = 	0.4470	; popDist[37] = 	0.5007	; popDist[38] = 	0.5245	; popDist[39] = 	0.5426	; popDist[40] = 	0.5465	; popDist[41] = 	0.5615	; popDist[42] = 	0.6110	; popDist[43] =	0.6341	; popDist[44] =	0.6535	; popDist[45] =	0.6997	; popDist[46] =	0.7370	; popDist[47] =	0.7629	; popDist[48] =	0.7763	; popDist[49] =	0.8082	; popDist[50] =	0.8304	; popDist[51] =	0.8600	; popDist[52] =	0.8807	; popDist[53] =	0.8945	; popDist[54] =	0.9146	; popDist[55] =	0.9381	; popDist[56] =	0.9486	; popDist[57] =	0.9732	; popDist[58] =	0.9876	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0080	; popDist[2] =	0.0119	; popDist[3] =	0.0174	; popDist[4] =	0.0321	; popDist[5] = 	0.0466	; popDist[6] =	0.0541	; popDist[7] =	0.0738	; popDist[8] = 	0.0811	; popDist[9] = 	0.0999	; popDist[10] = 	0.1058	; popDist[11] = 	0.1160	; popDist[12] = 	0.1249	; popDist[13] = 	0.1421	; popDist[14] = 	0.1492	; popDist[15] = 	0.1581	; popDist[16] = 	0.1702	; popDist[17] = 	0.1908	; popDist[18] = 	0.1973	; popDist[19] = 	0.2217	; popDist[20] = 	0.2277	; popDist[21] = 	0.2329	; popDist[22] = 	0.2509	; popDist[23] = 	0.2992	; popDist[24] = 	0.3372	; popDist[25] = 	0.3578	; popDist[26] = 	0.3802	; popDist[27] = 	0.4066	; popDist[28] = 	0.4121	; popDist[29] = 	0.4202	; popDist[30] = 	0.4301	; popDist[31] = 	0.4338	; popDist[32] = 	0.4425	; popDist[33] = 	0.5155	; popDist[34] = 	0.5232	; popDist[35] = 	0.5272	; popDist[36] = 	0.5361	; popDist[37] = 	0.5484	; popDist[38] = 	0.5565	; popDist[39] = 	0.5704	; popDist[40] = 	0.5785	; popDist[41] = 	0.5906	; popDist[42] = 	0.6141	; popDist[43] =	0.6486	; popDist[44] =	0.6732	; popDist[45] =	0.6964	; popDist[46] =	0.7400	; popDist[47] =	0.7525	; popDist[48] =	0.7752	; popDist[49] =	0.8486	; popDist[50] =	0.8750	; popDist[51] =	0.9012	; popDist[52] =	0.9205	; popDist[53] =	0.9379	; popDist[54] =	0.9575	; popDist[55] =	0.9705	; popDist[56] =	0.9767	; popDist[57] =	0.9880	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0041	; popDist[2] =	0.0060	; popDist[3] =	0.0087	; popDist[4] =	0.0186	; popDist[5] = 	0.0277	; popDist[6] =	0.0315	; popDist[7] =	0.0484	; popDist[8] = 	0.0560	; popDist[9] = 	0.0724	; popDist[10] = 	0.0792	; popDist[11] = 	0.0902	; popDist[12] = 	0.0991	; popDist[13] = 	0.1124	; popDist[14] = 	0.1190	; popDist[15] = 	0.1245	; popDist[16] = 	0.1329	; popDist[17] = 	0.1481	; popDist[18] = 	0.1548	; popDist[19] = 	0.1785	; popDist[20] = 	0.1835	; popDist[21] = 	0.1887	; popDist[22] = 	0.2080	; popDist[23] = 	0.2454	; popDist[24] = 	0.2740	; popDist[25] = 	0.2856	; popDist[26] = 	0.3058	; popDist[27] = 	0.3290	; popDist[28] = 	0.3319	; popDist[29] = 	0.3409	; popDist[30] = 	0.3525	; popDist[31] = 	0.3569	; popDist[32] = 	0.3662	; popDist[33] = 	0.4187	; popDist[34] = 	0.4264	; popDist[35] = 	0.4305	; popDist[36] = 	0.4420	; popDist[37] = 	0.4546	; popDist[38] = 	0.4650	; popDist[39] = 	0.4750	; popDist[40] = 	0.4796	; popDist[41] = 	0.4868	; popDist[42] = 	0.5070	; popDist[43] =	0.5425	; popDist[44] =	0.5748	; popDist[45] =	0.6056	; popDist[46] =	0.6601	; popDist[47] =	0.6750	; popDist[48] =	0.7007	; popDist[49] =	0.7931	; popDist[50] =	0.8333	; popDist[51] =	0.8663	; popDist[52] =	0.8938	; popDist[53] =	0.9207	; popDist[54] =	0.9445	; popDist[55] =	0.9685	; popDist[56] =	0.9736	; popDist[57] =	0.9855	; popDist[58] =	0.9957	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0019	; popDist[2] =	0.0031	; popDist[3] =	0.0046	; popDist[4] =	0.0105	; popDist[5] = 	0.0158	; popDist[6] =	0.0179	; popDist[7] =	0.0300	; popDist[8] = 	0.0388	; popDist[9] = 	0.0507	; popDist[10] = 	0.0582	; popDist[11] = 	0.0680	; popDist[12] = 	0.0762	; popDist[13] = 	0.0857	; popDist[14] = 	0.0929	; popDist[15] = 	0.0969	; popDist[16] = 	0.1018	; popDist[17] = 	0.1124	; popDist[18] = 	0.1215	; popDist[19] = 	0.1417	; popDist[20] = 	0.1454	; popDist[21] = 	0.1491	; popDist[22] = 	0.1704	; popDist[23] = 	0.2078	; popDist[24] = 	0.2322	; popDist[25] = 	0.2412	; popDist[26] = 	0.2582	; popDist[27] = 	0.2806	; popDist[28] = 	0.2824	; popDist[29] = 	0.2900	; popDist[30] = 	0.3043	; popDist[31] = 	0.3089	; popDist[32] = 	0.3215	; popDist[33] = 	0.3638	; popDist[34] = 	0.3725	; popDist[35] = 	0.3776	; popDist[36] = 	0.3956	; popDist[37] = 	0.4117	; popDist[38] = 	0.4285	; popDist[39] = 	0.4356	; popDist[40] = 	0.4384	; popDist[41] = 	0.4429	; popDist[42] = 	0.4581	; popDist[43] =	0.4907	; popDist[44] =	0.5221	; popDist[45] =	0.5524	; popDist[46] =	0.5998	; popDist[47] =	0.6156	; popDist[48] =	0.6471	; popDist[49] =	0.7441	; popDist[50] =	0.7908	; popDist[51] =	0.8283	; popDist[52] =	0.8607	; popDist[53] =	0.9000	; popDist[54] =	0.9242	; popDist[55] =	0.9585	; popDist[56] =	0.9629	; popDist[57] =	0.9771	; popDist[58] =	0.9925	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	45	&& age <=	54	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0013	; popDist[3] =	0.0020	; popDist[4] =	0.0041	; popDist[5] = 	0.0065	; popDist[6] =	0.0073	; popDist[7] =	0.0132	; popDist[8] = 	0.0221	; popDist[9] = 	0.0285	; popDist[10] = 	0.0347	; popDist[11] = 	0.0424	; popDist[12] = 	0.0495	; popDist[13] = 	0.0548	; popDist[14] = 	0.0641	; popDist[15] = 	0.0666	; popDist[16] = 	0.0689	; popDist[17] = 	0.0749	; popDist[18] = 	0.0878	; popDist[19] = 	0.1032	; popDist[20] = 	0.1058	; popDist[21] = 	0.1079	; popDist[22] = 	0.1297	; popDist[23] = 	0.1595	; popDist[24] = 	0.1792	; popDist[25] = 	0.1853	; popDist[26] = 	0.1984	; popDist[27] = 	0.2211	; popDist[28] = 	0.2221	; popDist[29] = 	0.2272	; popDist[30] = 	0.2425	; popDist[31] = 	0.2580	; popDist[32] = 	0.2854	; popDist[33] = 	0.3212	; popDist[34] = 	0.3350	; popDist[35] = 	0.3482	; popDist[36] = 	0.3852	; popDist[37] = 	0.4220	; popDist[38] = 	0.4616	; popDist[39] = 	0.4680	; popDist[40] = 	0.4697	; popDist[41] = 	0.4726	; popDist[42] = 	0.4814	; popDist[43] =	0.5048	; popDist[44] =	0.5267	; popDist[45] =	0.5479	; popDist[46] =	0.5810	; popDist[47] =	0.5936	; popDist[48] =	0.6284	; popDist[49] =	0.7258	; popDist[50] =	0.7748	; popDist[51] =	0.8031	; popDist[52] =	0.8337	; popDist[53] =	0.8863	; popDist[54] =	0.9062	; popDist[55] =	0.9474	; popDist[56] =	0.9515	; popDist[57] =	0.9673	; popDist[58] =	0.9885	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0009	; popDist[2] =	0.0013	; popDist[3] =	0.0017	; popDist[4] =	0.0028	; popDist[5] = 	0.0037	; popDist[6] =	0.0085	; popDist[7] =	0.0158	; popDist[8] = 	0.0330	; popDist[9] = 	0.0374	; popDist[10] = 	0.0620	; popDist[11] = 	0.0796	; popDist[12] = 	0.0874	; popDist[13] = 	0.1212	; popDist[14] = 	0.1329	; popDist[15] = 	0.1343	; popDist[16] = 	0.1359	; popDist[17] = 	0.1417	; popDist[18] = 	0.1559	; popDist[19] = 	0.1661	; popDist[20] = 	0.1704	; popDist[21] = 	0.1748	; popDist[22] = 	0.2051	; popDist[23] = 	0.2638	; popDist[24] = 	0.3054	; popDist[25] = 	0.3575	; popDist[26] = 	0.3828	; popDist[27] = 	0.4403	; popDist[28] = 	0.4407	; popDist[29] = 	0.4424	; popDist[30] = 	0.4651	; popDist[31] = 	0.4684	; popDist[32] = 	0.4850	; popDist[33] = 	0.5097	; popDist[34] = 	0.5249	; popDist[35] = 	0.5327	; popDist[36] = 	0.5583	; popDist[37] = 	0.5995	; popDist[38] = 	0.6414	; popDist[39] = 	0.6519	; popDist[40] = 	0.6536	; popDist[41] = 	0.6598	; popDist[42] = 	0.6738	; popDist[43] =	0.7076	; popDist[44] =	0.7183	; popDist[45] =	0.7261	; popDist[46] =	0.7314	; popDist[47] =	0.7674	; popDist[48] =	0.7937	; popDist[49] =	0.8303	; popDist[50] =	0.8458	; popDist[51] =	0.8580	; popDist[52] =	0.8716	; popDist[53] =	0.8884	; popDist[54] =	0.8906	; popDist[55] =	0.8995	; popDist[56] =	0.9204	; popDist[57] =	0.9459	; popDist[58] =	0.9746	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0005	; popDist[2] =	0.0006	; popDist[3] =	0.0008	; popDist[4] =	0.0016	; popDist[5] = 	0.0021	; popDist[6] =	0.0045	; popDist[7] =	0.0106	; popDist[8] = 	0.0283	; popDist[9] = 	0.0320	; popDist[10] = 	0.0595	; popDist[11] = 	0.0780	; popDist[12] = 	0.0857	; popDist[13] = 	0.1110	; popDist[14] = 	0.1219	; popDist[15] = 	0.1227	; popDist[16] = 	0.1238	; popDist[17] = 	0.1279	; popDist[18] = 	0.1422	; popDist[19] = 	0.1520	; popDist[20] = 	0.1555	; popDist[21] = 	0.1598	; popDist[22] = 	0.1915	; popDist[23] = 	0.2360	; popDist[24] = 	0.2666	; popDist[25] = 	0.2952	; popDist[26] = 	0.3175	; popDist[27] = 	0.3668	; popDist[28] = 	0.3671	; popDist[29] = 	0.3689	; popDist[30] = 	0.3949	; popDist[31] = 	0.3988	; popDist[32] = 	0.4162	; popDist[33] = 	0.4335	; popDist[34] = 	0.4484	; popDist[35] = 	0.4562	; popDist[36] = 	0.4886	; popDist[37] = 	0.5295	; popDist[38] = 	0.5824	; popDist[39] = 	0.5898	; popDist[40] = 	0.5907	; popDist[41] = 	0.5943	; popDist[42] = 	0.6061	; popDist[43] =	0.6402	; popDist[44] =	0.6538	; popDist[45] =	0.6640	; popDist[46] =	0.6705	; popDist[47] =	0.7125	; popDist[48] =	0.7417	; popDist[49] =	0.7866	; popDist[50] =	0.8098	; popDist[51] =	0.8248	; popDist[52] =	0.8437	; popDist[53] =	0.8692	; popDist[54] =	0.8719	; popDist[55] =	0.8879	; popDist[56] =	0.9046	; popDist[57] =	0.9311	; popDist[58] =	0.9623	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0002	; popDist[2] =	0.0003	; popDist[3] =	0.0004	; popDist[4] =	0.0008	; popDist[5] = 	0.0010	; popDist[6] =	0.0022	; popDist[7] =	0.0061	; popDist[8] = 	0.0241	; popDist[9] = 	0.0265	; popDist[10] = 	0.0535	; popDist[11] = 	0.0681	; popDist[12] = 	0.0744	; popDist[13] = 	0.0905	; popDist[14] = 	0.1010	; popDist[15] = 	0.1015	; popDist[16] = 	0.1021	; popDist[17] = 	0.1046	; popDist[18] = 	0.1218	; popDist[19] = 	0.1291	; popDist[20] = 	0.1314	; popDist[21] = 	0.1341	; popDist[22] = 	0.1652	; popDist[23] = 	0.2046	; popDist[24] = 	0.2278	; popDist[25] = 	0.2474	; popDist[26] = 	0.2641	; popDist[27] = 	0.3065	; popDist[28] = 	0.3066	; popDist[29] = 	0.3080	; popDist[30] = 	0.3364	; popDist[31] = 	0.3400	; popDist[32] = 	0.3607	; popDist[33] = 	0.3731	; popDist[34] = 	0.3880	; popDist[35] = 	0.3968	; popDist[36] = 	0.4414	; popDist[37] = 	0.4881	; popDist[38] = 	0.5634	; popDist[39] = 	0.5680	; popDist[40] = 	0.5686	; popDist[41] = 	0.5706	; popDist[42] = 	0.5785	; popDist[43] =	0.6061	; popDist[44] =	0.6179	; popDist[45] =	0.6268	; popDist[46] =	0.6318	; popDist[47] =	0.6711	; popDist[48] =	0.7028	; popDist[49] =	0.7446	; popDist[50] =	0.7684	; popDist[51] =	0.7836	; popDist[52] =	0.8033	; popDist[53] =	0.8364	; popDist[54] =	0.8387	; popDist[55] =	0.8591	; popDist[56] =	0.8721	; popDist[57] =	0.8999	; popDist[58] =	0.9415	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0003	; popDist[6] =	0.0007	; popDist[7] =	0.0022	; popDist[8] = 	0.0168	; popDist[9] = 	0.0178	; popDist[10] = 	0.0356	; popDist[11] = 	0.0446	; popDist[12] = 	0.0489	; popDist[13] = 	0.0561	; popDist[14] = 	0.0668	; popDist[15] = 	0.0670	; popDist[16] = 	0.0672	; popDist[17] = 	0.0684	; popDist[18] = 	0.0877	; popDist[19] = 	0.0921	; popDist[20] = 	0.0934	; popDist[21] = 	0.0946	; popDist[22] = 	0.1197	; popDist[23] = 	0.1446	; popDist[24] = 	0.1594	; popDist[25] = 	0.1700	; popDist[26] = 	0.1800	; popDist[27] = 	0.2141	; popDist[28] = 	0.2141	; popDist[29] = 	0.2148	; popDist[30] = 	0.2390	; popDist[31] = 	0.2486	; popDist[32] = 	0.2842	; popDist[33] = 	0.2925	; popDist[34] = 	0.3112	; popDist[35] = 	0.3291	; popDist[36] = 	0.4019	; popDist[37] = 	0.4861	; popDist[38] = 	0.6266	; popDist[39] = 	0.6300	; popDist[40] = 	0.6302	; popDist[41] = 	0.6312	; popDist[42] = 	0.6348	; popDist[43] =	0.6506	; popDist[44] =	0.6571	; popDist[45] =	0.6620	; popDist[46] =	0.6648	; popDist[47] =	0.6897	; popDist[48] =	0.7173	; popDist[49] =	0.7505	; popDist[50] =	0.7703	; popDist[51] =	0.7794	; popDist[52] =	0.7941	; popDist[53] =	0.8291	; popDist[54] =	0.8306	; popDist[55] =	0.8499	; popDist[56] =	0.8595	; popDist[57] =	0.8840	; popDist[58] =	0.9295	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0187	; popDist[2] =	0.0262	; popDist[3] =	0.0500	; popDist[4] =	0.0816	; popDist[5] = 	0.1049	; popDist[6] =	0.1184	; popDist[7] =	0.1324	; popDist[8] = 	0.1372	; popDist[9] = 	0.1715	; popDist[10] = 	0.1821	; popDist[11] = 	0.1910	; popDist[12] = 	0.2372	; popDist[13] = 	0.2424	; popDist[14] = 	0.2561	; popDist[15] = 	0.3311	; popDist[16] = 	0.3451	; popDist[17] = 	0.3970	; popDist[18] = 	0.4005	; popDist[19] = 	0.4026	; popDist[20] = 	0.4423	; popDist[21] = 	0.4885	; popDist[22] = 	0.4890	; popDist[23] = 	0.4895	; popDist[24] = 	0.4921	; popDist[25] = 	0.5045	; popDist[26] = 	0.5346	; popDist[27] = 	0.5369	; popDist[28] = 	0.5871	; popDist[29] = 	0.6673	; popDist[30] = 	0.6988	; popDist[31] = 	0.6991	; popDist[32] = 	0.6997	; popDist[33] = 	0.7066	; popDist[34] = 	0.7086	; popDist[35] = 	0.7091	; popDist[36] = 	0.7105	; popDist[37] = 	0.7170	; popDist[38] = 	0.7188	; popDist[39] = 	0.7378	; popDist[40] = 	0.7993	; popDist[41] = 	0.8302	; popDist[42] = 	0.8429	; popDist[43] =	0.8478	; popDist[44] =	0.8487	; popDist[45] =	0.8547	; popDist[46] =	0.8588	; popDist[47] =	0.8596	; popDist[48] =	0.8607	; popDist[49] =	0.8635	; popDist[50] =	0.8694	; popDist[51] =	0.8726	; popDist[52] =	0.8791	; popDist[53] =	0.8797	; popDist[54] =	0.9423	; popDist[55] =	0.9674	; popDist[56] =	0.9886	; popDist[57] =	0.9987	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0109	; popDist[2] =	0.0152	; popDist[3] =	0.0289	; popDist[4] =	0.0531	; popDist[5] = 	0.0701	; popDist[6] =	0.0780	; popDist[7] =	0.0918	; popDist[8] = 	0.0976	; popDist[9] = 	0.1320	; popDist[10] = 	0.1460	; popDist[11] = 	0.1570	; popDist[12] = 	0.2106	; popDist[13] = 	0.2152	; popDist[14] = 	0.2300	; popDist[15] = 	0.2838	; popDist[16] = 	0.2949	; popDist[17] = 	0.3390	; popDist[18] = 	0.3431	; popDist[19] = 	0.3455	; popDist[20] = 	0.3839	; popDist[21] = 	0.4376	; popDist[22] = 	0.4383	; popDist[23] = 	0.4387	; popDist[24] = 	0.4410	; popDist[25] = 	0.4490	; popDist[26] = 	0.4804	; popDist[27] = 	0.4826	; popDist[28] = 	0.5139	; popDist[29] = 	0.6150	; popDist[30] = 	0.6575	; popDist[31] = 	0.6579	; popDist[32] = 	0.6587	; popDist[33] = 	0.6644	; popDist[34] = 	0.6667	; popDist[35] = 	0.6673	; popDist[36] = 	0.6694	; popDist[37] = 	0.6770	; popDist[38] = 	0.6796	; popDist[39] = 	0.6954	; popDist[40] = 	0.7360	; popDist[41] = 	0.7570	; popDist[42] = 	0.7696	; popDist[43] =	0.7754	; popDist[44] =	0.7768	; popDist[45] =	0.7859	; popDist[46] =	0.7918	; popDist[47] =	0.7929	; popDist[48] =	0.7944	; popDist[49] =	0.7984	; popDist[50] =	0.8087	; popDist[51] =	0.8133	; popDist[52] =	0.8240	; popDist[53] =	0.8251	; popDist[54] =	0.9128	; popDist[55] =	0.9657	; popDist[56] =	0.9858	; popDist[57] =	0.9982	; popDist[58] =	0.9994	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0058	; popDist[2] =	0.0089	; popDist[3] =	0.0174	; popDist[4] =	0.0341	; popDist[5] = 	0.0456	; popDist[6] =	0.0505	; popDist[7] =	0.0619	; popDist[8] = 	0.0695	; popDist[9] = 	0.0983	; popDist[10] = 	0.1161	; popDist[11] = 	0.1274	; popDist[12] = 	0.1841	; popDist[13] = 	0.1880	; popDist[14] = 	0.2065	; popDist[15] = 	0.2512	; popDist[16] = 	0.2587	; popDist[17] = 	0.2940	; popDist[18] = 	0.3005	; popDist[19] = 	0.3028	; popDist[20] = 	0.3352	; popDist[21] = 	0.3792	; popDist[22] = 	0.3801	; popDist[23] = 	0.3806	; popDist[24] = 	0.3828	; popDist[25] = 	0.3900	; popDist[26] = 	0.4203	; popDist[27] = 	0.4228	; popDist[28] = 	0.4444	; popDist[29] = 	0.5433	; popDist[30] = 	0.6035	; popDist[31] = 	0.6040	; popDist[32] = 	0.6052	; popDist[33] = 	0.6105	; popDist[34] = 	0.6135	; popDist[35] = 	0.6143	; popDist[36] = 	0.6181	; popDist[37] = 	0.6294	; popDist[38] = 	0.6342	; popDist[39] = 	0.6471	; popDist[40] = 	0.6753	; popDist[41] = 	0.6906	; popDist[42] = 	0.7015	; popDist[43] =	0.7077	; popDist[44] =	0.7092	; popDist[45] =	0.7195	; popDist[46] =	0.7255	; popDist[47] =	0.7268	; popDist[48] =	0.7289	; popDist[49] =	0.7337	; popDist[50] =	0.7475	; popDist[51] =	0.7535	; popDist[52] =	0.7680	; popDist[53] =	0.7698	; popDist[54] =	0.8724	; popDist[55] =	0.9596	; popDist[56] =	0.9798	; popDist[57] =	0.9967	; popDist[58] =	0.9989	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0033	; popDist[2] =	0.0047	; popDist[3] =	0.0093	; popDist[4] =	0.0166	; popDist[5] = 	0.0226	; popDist[6] =	0.0249	; popDist[7] =	0.0316	; popDist[8] = 	0.0410	; popDist[9] = 	0.0594	; popDist[10] = 	0.0773	; popDist[11] = 	0.0878	; popDist[12] = 	0.1469	; popDist[13] = 	0.1494	; popDist[14] = 	0.1784	; popDist[15] = 	0.2118	; popDist[16] = 	0.2159	; popDist[17] = 	0.2402	; popDist[18] = 	0.2512	; popDist[19] = 	0.2533	; popDist[20] = 	0.2813	; popDist[21] = 	0.3113	; popDist[22] = 	0.3124	; popDist[23] = 	0.3129	; popDist[24] = 	0.3150	; popDist[25] = 	0.3209	; popDist[26] = 	0.3489	; popDist[27] = 	0.3519	; popDist[28] = 	0.3667	; popDist[29] = 	0.4454	; popDist[30] = 	0.5231	; popDist[31] = 	0.5252	; popDist[32] = 	0.5283	; popDist[33] = 	0.5337	; popDist[34] = 	0.5395	; popDist[35] = 	0.5421	; popDist[36] = 	0.5515	; popDist[37] = 	0.5823	; popDist[38] = 	0.5960	; popDist[39] = 	0.6101	; popDist[40] = 	0.6297	; popDist[41] = 	0.6417	; popDist[42] = 	0.6492	; popDist[43] =	0.6546	; popDist[44] =	0.6559	; popDist[45] =	0.6646	; popDist[46] =	0.6696	; popDist[47] =	0.6709	; popDist[48] =	0.6736	; popDist[49] =	0.6795	; popDist[50] =	0.6968	; popDist[51] =	0.7023	; popDist[52] =	0.7187	; popDist[53] =	0.7216	; popDist[54] =	0.8230	; popDist[55] =	0.9492	; popDist[56] =	0.9717	; popDist[57] =	0.9943	; popDist[58] =	0.9979	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0474	; popDist[2] =	0.0708	; popDist[3] =	0.0982	; popDist[4] =	0.1431	; popDist[5] = 	0.1834	; popDist[6] =	0.2129	; popDist[7] =	0.2481	; popDist[8] = 	0.2598	; popDist[9] = 	0.3130	; popDist[10] = 	0.3265	; popDist[11] = 	0.3417	; popDist[12] = 	0.3545	; popDist[13] = 	0.3852	; popDist[14] = 	0.3911	; popDist[15] = 	0.4085	; popDist[16] = 	0.4449	; popDist[17] = 	0.4847	; popDist[18] = 	0.4908	; popDist[19] = 	0.5128	; popDist[20] = 	0.5182	; popDist[21] = 	0.5233	; popDist[22] = 	0.5285	; popDist[23] = 	0.5365	; popDist[24] = 	0.5472	; popDist[25] = 	0.5607	; popDist[26] = 	0.5708	; popDist[27] = 	0.5760	; popDist[28] = 	0.5875	; popDist[29] = 	0.5931	; popDist[30] = 	0.5985	; popDist[31] = 	0.5989	; popDist[32] = 	0.6003	; popDist[33] = 	0.6224	; popDist[34] = 	0.6277	; popDist[35] = 	0.6285	; popDist[36] = 	0.6311	; popDist[37] = 	0.6423	; popDist[38] = 	0.6457	; popDist[39] = 	0.6691	; popDist[40] = 	0.6814	; popDist[41] = 	0.7235	; popDist[42] = 	0.7974	; popDist[43] =	0.8185	; popDist[44] =	0.8315	; popDist[45] =	0.8617	; popDist[46] =	0.8885	; popDist[47] =	0.9043	; popDist[48] =	0.9097	; popDist[49] =	0.9249	; popDist[50] =	0.9318	; popDist[51] =	0.9470	; popDist[52] =	0.9552	; popDist[53] =	0.9579	; popDist[54] =	0.9702	; popDist[55] =	0.9752	; popDist[56] =	0.9851	; popDist[57] =	0.9945	; popDist[58] =	0.9982	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0281	; popDist[2] =	0.0419	; popDist[3] =	0.0580	; popDist[4] =	0.0931	; popDist[5] = 	0.1231	; popDist[6] =	0.1407	; popDist[7] =	0.1761	; popDist[8] = 	0.1906	; popDist[9] = 	0.2451	; popDist[10] = 	0.2631	; popDist[11] = 	0.2824	; popDist[12] = 	0.2975	; popDist[13] = 	0.3252	; popDist[14] = 	0.3317	; popDist[15] = 	0.3444	; popDist[16] = 	0.3740	; popDist[17] = 	0.4085	; popDist[18] = 	0.4158	; popDist[19] = 	0.4410	; popDist[20] = 	0.4462	; popDist[21] = 	0.4524	; popDist[22] = 	0.4589	; popDist[23] = 	0.4661	; popDist[24] = 	0.4757	; popDist[25] = 	0.4845	; popDist[26] = 	0.4953	; popDist[27] = 	0.5006	; popDist[28] = 	0.5079	; popDist[29] = 	0.5151	; popDist[30] = 	0.5226	; popDist[31] = 	0.5231	; popDist[32] = 	0.5249	; popDist[33] = 	0.5435	; popDist[34] = 	0.5498	; popDist[35] = 	0.5508	; popDist[36] = 	0.5547	; popDist[37] = 	0.5680	; popDist[38] = 	0.5732	; popDist[39] = 	0.5930	; popDist[40] = 	0.6013	; popDist[41] = 	0.6305	; popDist[42] = 	0.7051	; popDist[43] =	0.7308	; popDist[44] =	0.7507	; popDist[45] =	0.7977	; popDist[46] =	0.8372	; popDist[47] =	0.8593	; popDist[48] =	0.8665	; popDist[49] =	0.8890	; popDist[50] =	0.9013	; popDist[51] =	0.9237	; popDist[52] =	0.9375	; popDist[53] =	0.9423	; popDist[54] =	0.9599	; popDist[55] =	0.9706	; popDist[56] =	0.9802	; popDist[57] =	0.9920	; popDist[58] =	0.9968	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0153	; popDist[2] =	0.0253	; popDist[3] =	0.0354	; popDist[4] =	0.0601	; popDist[5] = 	0.0807	; popDist[6] =	0.0917	; popDist[7] =	0.1215	; popDist[8] = 	0.1411	; popDist[9] = 	0.1874	; popDist[10] = 	0.2108	; popDist[11] = 	0.2309	; popDist[12] = 	0.2472	; popDist[13] = 	0.2705	; popDist[14] = 	0.2787	; popDist[15] = 	0.2895	; popDist[16] = 	0.3097	; popDist[17] = 	0.3379	; popDist[18] = 	0.3495	; popDist[19] = 	0.3746	; popDist[20] = 	0.3791	; popDist[21] = 	0.3843	; popDist[22] = 	0.3926	; popDist[23] = 	0.4011	; popDist[24] = 	0.4106	; popDist[25] = 	0.4187	; popDist[26] = 	0.4293	; popDist[27] = 	0.4354	; popDist[28] = 	0.4405	; popDist[29] = 	0.4477	; popDist[30] = 	0.4584	; popDist[31] = 	0.4590	; popDist[32] = 	0.4618	; popDist[33] = 	0.4794	; popDist[34] = 	0.4878	; popDist[35] = 	0.4892	; popDist[36] = 	0.4964	; popDist[37] = 	0.5164	; popDist[38] = 	0.5262	; popDist[39] = 	0.5426	; popDist[40] = 	0.5484	; popDist[41] = 	0.5701	; popDist[42] = 	0.6361	; popDist[43] =	0.6636	; popDist[44] =	0.6864	; popDist[45] =	0.7405	; popDist[46] =	0.7807	; popDist[47] =	0.8080	; popDist[48] =	0.8184	; popDist[49] =	0.8460	; popDist[50] =	0.8628	; popDist[51] =	0.8927	; popDist[52] =	0.9117	; popDist[53] =	0.9199	; popDist[54] =	0.9408	; popDist[55] =	0.9588	; popDist[56] =	0.9686	; popDist[57] =	0.9850	; popDist[58] =	0.9934	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0088	; popDist[2] =	0.0133	; popDist[3] =	0.0189	; popDist[4] =	0.0298	; popDist[5] = 	0.0408	; popDist[6] =	0.0462	; popDist[7] =	0.0637	; popDist[8] = 	0.0881	; popDist[9] = 	0.1182	; popDist[10] = 	0.1421	; popDist[11] = 	0.1613	; popDist[12] = 	0.1784	; popDist[13] = 	0.1944	; popDist[14] = 	0.2075	; popDist[15] = 	0.2156	; popDist[16] = 	0.2269	; popDist[17] = 	0.2465	; popDist[18] = 	0.2665	; popDist[19] = 	0.2899	; popDist[20] = 	0.2939	; popDist[21] = 	0.2974	; popDist[22] = 	0.3078	; popDist[23] = 	0.3161	; popDist[24] = 	0.3255	; popDist[25] = 	0.3322	; popDist[26] = 	0.3421	; popDist[27] = 	0.3496	; popDist[28] = 	0.3532	; popDist[29] = 	0.3590	; popDist[30] = 	0.3730	; popDist[31] = 	0.3756	; popDist[32] = 	0.3831	; popDist[33] = 	0.4013	; popDist[34] = 	0.4174	; popDist[35] = 	0.4219	; popDist[36] = 	0.4400	; popDist[37] = 	0.4957	; popDist[38] = 	0.5238	; popDist[39] = 	0.5420	; popDist[40] = 	0.5462	; popDist[41] = 	0.5634	; popDist[42] = 	0.6099	; popDist[43] =	0.6340	; popDist[44] =	0.6534	; popDist[45] =	0.6997	; popDist[46] =	0.7340	; popDist[47] =	0.7606	; popDist[48] =	0.7746	; popDist[49] =	0.8085	; popDist[50] =	0.8300	; popDist[51] =	0.8575	; popDist[52] =	0.8794	; popDist[53] =	0.8927	; popDist[54] =	0.9138	; popDist[55] =	0.9401	; popDist[56] =	0.9513	; popDist[57] =	0.9735	; popDist[58] =	0.9877	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0094	; popDist[2] =	0.0134	; popDist[3] =	0.0197	; popDist[4] =	0.0337	; popDist[5] = 	0.0459	; popDist[6] =	0.0536	; popDist[7] =	0.0716	; popDist[8] = 	0.0792	; popDist[9] = 	0.0991	; popDist[10] = 	0.1061	; popDist[11] = 	0.1170	; popDist[12] = 	0.1267	; popDist[13] = 	0.1426	; popDist[14] = 	0.1495	; popDist[15] = 	0.1590	; popDist[16] = 	0.1705	; popDist[17] = 	0.1921	; popDist[18] = 	0.1974	; popDist[19] = 	0.2194	; popDist[20] = 	0.2254	; popDist[21] = 	0.2306	; popDist[22] = 	0.2491	; popDist[23] = 	0.3003	; popDist[24] = 	0.3314	; popDist[25] = 	0.3551	; popDist[26] = 	0.3750	; popDist[27] = 	0.4011	; popDist[28] = 	0.4071	; popDist[29] = 	0.4162	; popDist[30] = 	0.4255	; popDist[31] = 	0.4279	; popDist[32] = 	0.4363	; popDist[33] = 	0.5064	; popDist[34] = 	0.5133	; popDist[35] = 	0.5173	; popDist[36] = 	0.5274	; popDist[37] = 	0.5403	; popDist[38] = 	0.5499	; popDist[39] = 	0.5639	; popDist[40] = 	0.5725	; popDist[41] = 	0.5865	; popDist[42] = 	0.6086	; popDist[43] =	0.6449	; popDist[44] =	0.6696	; popDist[45] =	0.6930	; popDist[46] =	0.7333	; popDist[47] =	0.7462	; popDist[48] =	0.7699	; popDist[49] =	0.8482	; popDist[50] =	0.8740	; popDist[51] =	0.8984	; popDist[52] =	0.9190	; popDist[53] =	0.9359	; popDist[54] =	0.9565	; popDist[55] =	0.9712	; popDist[56] =	0.9779	; popDist[57] =	0.9881	; popDist[58] =	0.9972	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0047	; popDist[2] =	0.0067	; popDist[3] =	0.0099	; popDist[4] =	0.0192	; popDist[5] = 	0.0268	; popDist[6] =	0.0308	; popDist[7] =	0.0462	; popDist[8] = 	0.0541	; popDist[9] = 	0.0715	; popDist[10] = 	0.0794	; popDist[11] = 	0.0911	; popDist[12] = 	0.1008	; popDist[13] = 	0.1131	; popDist[14] = 	0.1195	; popDist[15] = 	0.1254	; popDist[16] = 	0.1333	; popDist[17] = 	0.1492	; popDist[18] = 	0.1546	; popDist[19] = 	0.1760	; popDist[20] = 	0.1810	; popDist[21] = 	0.1863	; popDist[22] = 	0.2060	; popDist[23] = 	0.2456	; popDist[24] = 	0.2689	; popDist[25] = 	0.2822	; popDist[26] = 	0.3001	; popDist[27] = 	0.3230	; popDist[28] = 	0.3262	; popDist[29] = 	0.3361	; popDist[30] = 	0.3470	; popDist[31] = 	0.3500	; popDist[32] = 	0.3589	; popDist[33] = 	0.4092	; popDist[34] = 	0.4161	; popDist[35] = 	0.4202	; popDist[36] = 	0.4332	; popDist[37] = 	0.4462	; popDist[38] = 	0.4586	; popDist[39] = 	0.4687	; popDist[40] = 	0.4736	; popDist[41] = 	0.4818	; popDist[42] = 	0.5008	; popDist[43] =	0.5382	; popDist[44] =	0.5704	; popDist[45] =	0.6014	; popDist[46] =	0.6517	; popDist[47] =	0.6671	; popDist[48] =	0.6938	; popDist[49] =	0.7922	; popDist[50] =	0.8315	; popDist[51] =	0.8621	; popDist[52] =	0.8913	; popDist[53] =	0.9175	; popDist[54] =	0.9425	; popDist[55] =	0.9693	; popDist[56] =	0.9748	; popDist[57] =	0.9856	; popDist[58] =	0.9957	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0022	; popDist[2] =	0.0034	; popDist[3] =	0.0051	; popDist[4] =	0.0107	; popDist[5] = 	0.0152	; popDist[6] =	0.0172	; popDist[7] =	0.0282	; popDist[8] = 	0.0374	; popDist[9] = 	0.0499	; popDist[10] = 	0.0586	; popDist[11] = 	0.0691	; popDist[12] = 	0.0780	; popDist[13] = 	0.0867	; popDist[14] = 	0.0937	; popDist[15] = 	0.0979	; popDist[16] = 	0.1025	; popDist[17] = 	0.1135	; popDist[18] = 	0.1209	; popDist[19] = 	0.1390	; popDist[20] = 	0.1427	; popDist[21] = 	0.1464	; popDist[22] = 	0.1681	; popDist[23] = 	0.2075	; popDist[24] = 	0.2273	; popDist[25] = 	0.2376	; popDist[26] = 	0.2527	; popDist[27] = 	0.2747	; popDist[28] = 	0.2767	; popDist[29] = 	0.2851	; popDist[30] = 	0.2984	; popDist[31] = 	0.3014	; popDist[32] = 	0.3135	; popDist[33] = 	0.3538	; popDist[34] = 	0.3616	; popDist[35] = 	0.3667	; popDist[36] = 	0.3869	; popDist[37] = 	0.4036	; popDist[38] = 	0.4234	; popDist[39] = 	0.4305	; popDist[40] = 	0.4335	; popDist[41] = 	0.4387	; popDist[42] = 	0.4530	; popDist[43] =	0.4870	; popDist[44] =	0.5183	; popDist[45] =	0.5486	; popDist[46] =	0.5922	; popDist[47] =	0.6084	; popDist[48] =	0.6411	; popDist[49] =	0.7439	; popDist[50] =	0.7892	; popDist[51] =	0.8239	; popDist[52] =	0.8582	; popDist[53] =	0.8963	; popDist[54] =	0.9216	; popDist[55] =	0.9599	; popDist[56] =	0.9646	; popDist[57] =	0.9774	; popDist[58] =	0.9926	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	55	&& age <=	64	&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0010	; popDist[2] =	0.0015	; popDist[3] =	0.0022	; popDist[4] =	0.0042	; popDist[5] = 	0.0062	; popDist[6] =	0.0070	; popDist[7] =	0.0123	; popDist[8] = 	0.0216	; popDist[9] = 	0.0283	; popDist[10] = 	0.0355	; popDist[11] = 	0.0436	; popDist[12] = 	0.0513	; popDist[13] = 	0.0561	; popDist[14] = 	0.0652	; popDist[15] = 	0.0678	; popDist[16] = 	0.0699	; popDist[17] = 	0.0761	; popDist[18] = 	0.0865	; popDist[19] = 	0.1003	; popDist[20] = 	0.1029	; popDist[21] = 	0.1050	; popDist[22] = 	0.1270	; popDist[23] = 	0.1584	; popDist[24] = 	0.1743	; popDist[25] = 	0.1812	; popDist[26] = 	0.1927	; popDist[27] = 	0.2150	; popDist[28] = 	0.2161	; popDist[29] = 	0.2216	; popDist[30] = 	0.2359	; popDist[31] = 	0.2461	; popDist[32] = 	0.2722	; popDist[33] = 	0.3061	; popDist[34] = 	0.3185	; popDist[35] = 	0.3316	; popDist[36] = 	0.3730	; popDist[37] = 	0.4109	; popDist[38] = 	0.4574	; popDist[39] = 	0.4639	; popDist[40] = 	0.4656	; popDist[41] = 	0.4690	; popDist[42] = 	0.4772	; popDist[43] =	0.5016	; popDist[44] =	0.5233	; popDist[45] =	0.5445	; popDist[46] =	0.5747	; popDist[47] =	0.5876	; popDist[48] =	0.6235	; popDist[49] =	0.7263	; popDist[50] =	0.7737	; popDist[51] =	0.7998	; popDist[52] =	0.8320	; popDist[53] =	0.8827	; popDist[54] =	0.9034	; popDist[55] =	0.9493	; popDist[56] =	0.9537	; popDist[57] =	0.9679	; popDist[58] =	0.9888	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	1	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0006	; popDist[2] =	0.0008	; popDist[3] =	0.0011	; popDist[4] =	0.0018	; popDist[5] = 	0.0023	; popDist[6] =	0.0061	; popDist[7] =	0.0118	; popDist[8] = 	0.0346	; popDist[9] = 	0.0377	; popDist[10] = 	0.0654	; popDist[11] = 	0.0869	; popDist[12] = 	0.0936	; popDist[13] = 	0.1237	; popDist[14] = 	0.1331	; popDist[15] = 	0.1342	; popDist[16] = 	0.1352	; popDist[17] = 	0.1390	; popDist[18] = 	0.1503	; popDist[19] = 	0.1587	; popDist[20] = 	0.1621	; popDist[21] = 	0.1652	; popDist[22] = 	0.2004	; popDist[23] = 	0.2699	; popDist[24] = 	0.3253	; popDist[25] = 	0.3935	; popDist[26] = 	0.4162	; popDist[27] = 	0.4865	; popDist[28] = 	0.4868	; popDist[29] = 	0.4878	; popDist[30] = 	0.5070	; popDist[31] = 	0.5095	; popDist[32] = 	0.5232	; popDist[33] = 	0.5494	; popDist[34] = 	0.5623	; popDist[35] = 	0.5683	; popDist[36] = 	0.5903	; popDist[37] = 	0.6241	; popDist[38] = 	0.6583	; popDist[39] = 	0.6675	; popDist[40] = 	0.6691	; popDist[41] = 	0.6748	; popDist[42] = 	0.6863	; popDist[43] =	0.7188	; popDist[44] =	0.7280	; popDist[45] =	0.7345	; popDist[46] =	0.7384	; popDist[47] =	0.7758	; popDist[48] =	0.8074	; popDist[49] =	0.8458	; popDist[50] =	0.8619	; popDist[51] =	0.8717	; popDist[52] =	0.8833	; popDist[53] =	0.9019	; popDist[54] =	0.9038	; popDist[55] =	0.9108	; popDist[56] =	0.9333	; popDist[57] =	0.9567	; popDist[58] =	0.9824	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	1	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0003	; popDist[2] =	0.0004	; popDist[3] =	0.0005	; popDist[4] =	0.0010	; popDist[5] = 	0.0013	; popDist[6] =	0.0033	; popDist[7] =	0.0082	; popDist[8] = 	0.0320	; popDist[9] = 	0.0347	; popDist[10] = 	0.0662	; popDist[11] = 	0.0892	; popDist[12] = 	0.0959	; popDist[13] = 	0.1191	; popDist[14] = 	0.1279	; popDist[15] = 	0.1286	; popDist[16] = 	0.1293	; popDist[17] = 	0.1321	; popDist[18] = 	0.1436	; popDist[19] = 	0.1517	; popDist[20] = 	0.1546	; popDist[21] = 	0.1578	; popDist[22] = 	0.1953	; popDist[23] = 	0.2491	; popDist[24] = 	0.2906	; popDist[25] = 	0.3287	; popDist[26] = 	0.3492	; popDist[27] = 	0.4107	; popDist[28] = 	0.4108	; popDist[29] = 	0.4120	; popDist[30] = 	0.4344	; popDist[31] = 	0.4375	; popDist[32] = 	0.4520	; popDist[33] = 	0.4708	; popDist[34] = 	0.4837	; popDist[35] = 	0.4898	; popDist[36] = 	0.5181	; popDist[37] = 	0.5524	; popDist[38] = 	0.5965	; popDist[39] = 	0.6030	; popDist[40] = 	0.6039	; popDist[41] = 	0.6073	; popDist[42] = 	0.6172	; popDist[43] =	0.6506	; popDist[44] =	0.6626	; popDist[45] =	0.6712	; popDist[46] =	0.6761	; popDist[47] =	0.7206	; popDist[48] =	0.7564	; popDist[49] =	0.8045	; popDist[50] =	0.8290	; popDist[51] =	0.8414	; popDist[52] =	0.8578	; popDist[53] =	0.8866	; popDist[54] =	0.8889	; popDist[55] =	0.9016	; popDist[56] =	0.9200	; popDist[57] =	0.9450	; popDist[58] =	0.9734	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	1	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0001	; popDist[2] =	0.0002	; popDist[3] =	0.0003	; popDist[4] =	0.0005	; popDist[5] = 	0.0007	; popDist[6] =	0.0016	; popDist[7] =	0.0048	; popDist[8] = 	0.0296	; popDist[9] = 	0.0314	; popDist[10] = 	0.0628	; popDist[11] = 	0.0814	; popDist[12] = 	0.0870	; popDist[13] = 	0.1020	; popDist[14] = 	0.1106	; popDist[15] = 	0.1110	; popDist[16] = 	0.1114	; popDist[17] = 	0.1132	; popDist[18] = 	0.1273	; popDist[19] = 	0.1335	; popDist[20] = 	0.1354	; popDist[21] = 	0.1374	; popDist[22] = 	0.1749	; popDist[23] = 	0.2234	; popDist[24] = 	0.2554	; popDist[25] = 	0.2821	; popDist[26] = 	0.2976	; popDist[27] = 	0.3515	; popDist[28] = 	0.3516	; popDist[29] = 	0.3524	; popDist[30] = 	0.3773	; popDist[31] = 	0.3802	; popDist[32] = 	0.3979	; popDist[33] = 	0.4116	; popDist[34] = 	0.4247	; popDist[35] = 	0.4317	; popDist[36] = 	0.4714	; popDist[37] = 	0.5112	; popDist[38] = 	0.5752	; popDist[39] = 	0.5794	; popDist[40] = 	0.5799	; popDist[41] = 	0.5818	; popDist[42] = 	0.5885	; popDist[43] =	0.6161	; popDist[44] =	0.6267	; popDist[45] =	0.6343	; popDist[46] =	0.6381	; popDist[47] =	0.6806	; popDist[48] =	0.7202	; popDist[49] =	0.7658	; popDist[50] =	0.7914	; popDist[51] =	0.8041	; popDist[52] =	0.8216	; popDist[53] =	0.8595	; popDist[54] =	0.8617	; popDist[55] =	0.8781	; popDist[56] =	0.8927	; popDist[57] =	0.9193	; popDist[58] =	0.9580	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	1	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0000	; popDist[2] =	0.0001	; popDist[3] =	0.0001	; popDist[4] =	0.0002	; popDist[5] = 	0.0002	; popDist[6] =	0.0005	; popDist[7] =	0.0018	; popDist[8] = 	0.0227	; popDist[9] = 	0.0235	; popDist[10] = 	0.0451	; popDist[11] = 	0.0571	; popDist[12] = 	0.0610	; popDist[13] = 	0.0680	; popDist[14] = 	0.0772	; popDist[15] = 	0.0774	; popDist[16] = 	0.0776	; popDist[17] = 	0.0784	; popDist[18] = 	0.0949	; popDist[19] = 	0.0988	; popDist[20] = 	0.0999	; popDist[21] = 	0.1009	; popDist[22] = 	0.1324	; popDist[23] = 	0.1643	; popDist[24] = 	0.1856	; popDist[25] = 	0.2006	; popDist[26] = 	0.2104	; popDist[27] = 	0.2554	; popDist[28] = 	0.2554	; popDist[29] = 	0.2559	; popDist[30] = 	0.2780	; popDist[31] = 	0.2861	; popDist[32] = 	0.3177	; popDist[33] = 	0.3273	; popDist[34] = 	0.3444	; popDist[35] = 	0.3594	; popDist[36] = 	0.4269	; popDist[37] = 	0.5016	; popDist[38] = 	0.6259	; popDist[39] = 	0.6290	; popDist[40] = 	0.6293	; popDist[41] = 	0.6303	; popDist[42] = 	0.6335	; popDist[43] =	0.6499	; popDist[44] =	0.6559	; popDist[45] =	0.6603	; popDist[46] =	0.6625	; popDist[47] =	0.6905	; popDist[48] =	0.7266	; popDist[49] =	0.7643	; popDist[50] =	0.7865	; popDist[51] =	0.7944	; popDist[52] =	0.8080	; popDist[53] =	0.8498	; popDist[54] =	0.8513	; popDist[55] =	0.8676	; popDist[56] =	0.8787	; popDist[57] =	0.9032	; popDist[58] =	0.9473	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	2	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0151	; popDist[2] =	0.0216	; popDist[3] =	0.0392	; popDist[4] =	0.0657	; popDist[5] = 	0.0821	; popDist[6] =	0.0953	; popDist[7] =	0.1091	; popDist[8] = 	0.1171	; popDist[9] = 	0.1476	; popDist[10] = 	0.1627	; popDist[11] = 	0.1762	; popDist[12] = 	0.2258	; popDist[13] = 	0.2317	; popDist[14] = 	0.2454	; popDist[15] = 	0.3166	; popDist[16] = 	0.3282	; popDist[17] = 	0.3716	; popDist[18] = 	0.3751	; popDist[19] = 	0.3773	; popDist[20] = 	0.4173	; popDist[21] = 	0.4589	; popDist[22] = 	0.4598	; popDist[23] = 	0.4605	; popDist[24] = 	0.4648	; popDist[25] = 	0.4853	; popDist[26] = 	0.5193	; popDist[27] = 	0.5227	; popDist[28] = 	0.5652	; popDist[29] = 	0.6268	; popDist[30] = 	0.6602	; popDist[31] = 	0.6604	; popDist[32] = 	0.6611	; popDist[33] = 	0.6703	; popDist[34] = 	0.6724	; popDist[35] = 	0.6729	; popDist[36] = 	0.6744	; popDist[37] = 	0.6811	; popDist[38] = 	0.6830	; popDist[39] = 	0.7039	; popDist[40] = 	0.7754	; popDist[41] = 	0.8107	; popDist[42] = 	0.8239	; popDist[43] =	0.8299	; popDist[44] =	0.8309	; popDist[45] =	0.8371	; popDist[46] =	0.8409	; popDist[47] =	0.8419	; popDist[48] =	0.8436	; popDist[49] =	0.8473	; popDist[50] =	0.8549	; popDist[51] =	0.8581	; popDist[52] =	0.8651	; popDist[53] =	0.8660	; popDist[54] =	0.9337	; popDist[55] =	0.9582	; popDist[56] =	0.9869	; popDist[57] =	0.9986	; popDist[58] =	0.9997	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	2	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0087	; popDist[2] =	0.0124	; popDist[3] =	0.0225	; popDist[4] =	0.0426	; popDist[5] = 	0.0545	; popDist[6] =	0.0622	; popDist[7] =	0.0757	; popDist[8] = 	0.0852	; popDist[9] = 	0.1156	; popDist[10] = 	0.1352	; popDist[11] = 	0.1519	; popDist[12] = 	0.2090	; popDist[13] = 	0.2141	; popDist[14] = 	0.2289	; popDist[15] = 	0.2795	; popDist[16] = 	0.2886	; popDist[17] = 	0.3252	; popDist[18] = 	0.3293	; popDist[19] = 	0.3317	; popDist[20] = 	0.3700	; popDist[21] = 	0.4182	; popDist[22] = 	0.4192	; popDist[23] = 	0.4198	; popDist[24] = 	0.4235	; popDist[25] = 	0.4367	; popDist[26] = 	0.4718	; popDist[27] = 	0.4753	; popDist[28] = 	0.5015	; popDist[29] = 	0.5785	; popDist[30] = 	0.6232	; popDist[31] = 	0.6236	; popDist[32] = 	0.6244	; popDist[33] = 	0.6319	; popDist[34] = 	0.6344	; popDist[35] = 	0.6350	; popDist[36] = 	0.6372	; popDist[37] = 	0.6450	; popDist[38] = 	0.6477	; popDist[39] = 	0.6649	; popDist[40] = 	0.7117	; popDist[41] = 	0.7355	; popDist[42] = 	0.7485	; popDist[43] =	0.7555	; popDist[44] =	0.7570	; popDist[45] =	0.7664	; popDist[46] =	0.7718	; popDist[47] =	0.7732	; popDist[48] =	0.7754	; popDist[49] =	0.7807	; popDist[50] =	0.7940	; popDist[51] =	0.7986	; popDist[52] =	0.8100	; popDist[53] =	0.8115	; popDist[54] =	0.9055	; popDist[55] =	0.9570	; popDist[56] =	0.9839	; popDist[57] =	0.9981	; popDist[58] =	0.9995	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	2	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0046	; popDist[2] =	0.0072	; popDist[3] =	0.0133	; popDist[4] =	0.0270	; popDist[5] = 	0.0349	; popDist[6] =	0.0396	; popDist[7] =	0.0506	; popDist[8] = 	0.0630	; popDist[9] = 	0.0880	; popDist[10] = 	0.1126	; popDist[11] = 	0.1294	; popDist[12] = 	0.1890	; popDist[13] = 	0.1932	; popDist[14] = 	0.2113	; popDist[15] = 	0.2527	; popDist[16] = 	0.2588	; popDist[17] = 	0.2877	; popDist[18] = 	0.2940	; popDist[19] = 	0.2963	; popDist[20] = 	0.3281	; popDist[21] = 	0.3669	; popDist[22] = 	0.3682	; popDist[23] = 	0.3689	; popDist[24] = 	0.3725	; popDist[25] = 	0.3841	; popDist[26] = 	0.4176	; popDist[27] = 	0.4213	; popDist[28] = 	0.4392	; popDist[29] = 	0.5134	; popDist[30] = 	0.5756	; popDist[31] = 	0.5761	; popDist[32] = 	0.5773	; popDist[33] = 	0.5842	; popDist[34] = 	0.5874	; popDist[35] = 	0.5881	; popDist[36] = 	0.5921	; popDist[37] = 	0.6035	; popDist[38] = 	0.6083	; popDist[39] = 	0.6221	; popDist[40] = 	0.6541	; popDist[41] = 	0.6712	; popDist[42] = 	0.6823	; popDist[43] =	0.6896	; popDist[44] =	0.6912	; popDist[45] =	0.7017	; popDist[46] =	0.7071	; popDist[47] =	0.7088	; popDist[48] =	0.7118	; popDist[49] =	0.7181	; popDist[50] =	0.7356	; popDist[51] =	0.7415	; popDist[52] =	0.7567	; popDist[53] =	0.7592	; popDist[54] =	0.8674	; popDist[55] =	0.9508	; popDist[56] =	0.9775	; popDist[57] =	0.9967	; popDist[58] =	0.9990	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	2	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0025	; popDist[2] =	0.0037	; popDist[3] =	0.0070	; popDist[4] =	0.0128	; popDist[5] = 	0.0169	; popDist[6] =	0.0191	; popDist[7] =	0.0253	; popDist[8] = 	0.0403	; popDist[9] = 	0.0560	; popDist[10] = 	0.0802	; popDist[11] = 	0.0958	; popDist[12] = 	0.1565	; popDist[13] = 	0.1592	; popDist[14] = 	0.1870	; popDist[15] = 	0.2174	; popDist[16] = 	0.2206	; popDist[17] = 	0.2401	; popDist[18] = 	0.2507	; popDist[19] = 	0.2528	; popDist[20] = 	0.2797	; popDist[21] = 	0.3057	; popDist[22] = 	0.3073	; popDist[23] = 	0.3079	; popDist[24] = 	0.3113	; popDist[25] = 	0.3206	; popDist[26] = 	0.3509	; popDist[27] = 	0.3554	; popDist[28] = 	0.3673	; popDist[29] = 	0.4252	; popDist[30] = 	0.5041	; popDist[31] = 	0.5061	; popDist[32] = 	0.5092	; popDist[33] = 	0.5160	; popDist[34] = 	0.5220	; popDist[35] = 	0.5244	; popDist[36] = 	0.5341	; popDist[37] = 	0.5645	; popDist[38] = 	0.5780	; popDist[39] = 	0.5928	; popDist[40] = 	0.6147	; popDist[41] = 	0.6278	; popDist[42] = 	0.6354	; popDist[43] =	0.6415	; popDist[44] =	0.6429	; popDist[45] =	0.6516	; popDist[46] =	0.6560	; popDist[47] =	0.6576	; popDist[48] =	0.6615	; popDist[49] =	0.6690	; popDist[50] =	0.6907	; popDist[51] =	0.6959	; popDist[52] =	0.7128	; popDist[53] =	0.7167	; popDist[54] =	0.8216	; popDist[55] =	0.9401	; popDist[56] =	0.9693	; popDist[57] =	0.9944	; popDist[58] =	0.9983	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	3	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0368	; popDist[2] =	0.0563	; popDist[3] =	0.0757	; popDist[4] =	0.1119	; popDist[5] = 	0.1393	; popDist[6] =	0.1670	; popDist[7] =	0.2005	; popDist[8] = 	0.2193	; popDist[9] = 	0.2648	; popDist[10] = 	0.2832	; popDist[11] = 	0.3057	; popDist[12] = 	0.3188	; popDist[13] = 	0.3521	; popDist[14] = 	0.3577	; popDist[15] = 	0.3736	; popDist[16] = 	0.4025	; popDist[17] = 	0.4346	; popDist[18] = 	0.4404	; popDist[19] = 	0.4621	; popDist[20] = 	0.4673	; popDist[21] = 	0.4718	; popDist[22] = 	0.4790	; popDist[23] = 	0.4904	; popDist[24] = 	0.5078	; popDist[25] = 	0.5290	; popDist[26] = 	0.5401	; popDist[27] = 	0.5477	; popDist[28] = 	0.5571	; popDist[29] = 	0.5612	; popDist[30] = 	0.5667	; popDist[31] = 	0.5671	; popDist[32] = 	0.5685	; popDist[33] = 	0.5969	; popDist[34] = 	0.6023	; popDist[35] = 	0.6031	; popDist[36] = 	0.6058	; popDist[37] = 	0.6168	; popDist[38] = 	0.6202	; popDist[39] = 	0.6450	; popDist[40] = 	0.6587	; popDist[41] = 	0.7051	; popDist[42] = 	0.7791	; popDist[43] =	0.8036	; popDist[44] =	0.8172	; popDist[45] =	0.8474	; popDist[46] =	0.8712	; popDist[47] =	0.8909	; popDist[48] =	0.8988	; popDist[49] =	0.9181	; popDist[50] =	0.9268	; popDist[51] =	0.9416	; popDist[52] =	0.9501	; popDist[53] =	0.9536	; popDist[54] =	0.9664	; popDist[55] =	0.9711	; popDist[56] =	0.9840	; popDist[57] =	0.9945	; popDist[58] =	0.9985	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	3	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0213	; popDist[2] =	0.0326	; popDist[3] =	0.0437	; popDist[4] =	0.0714	; popDist[5] = 	0.0912	; popDist[6] =	0.1075	; popDist[7] =	0.1404	; popDist[8] = 	0.1630	; popDist[9] = 	0.2087	; popDist[10] = 	0.2327	; popDist[11] = 	0.2604	; popDist[12] = 	0.2757	; popDist[13] = 	0.3050	; popDist[14] = 	0.3111	; popDist[15] = 	0.3225	; popDist[16] = 	0.3454	; popDist[17] = 	0.3726	; popDist[18] = 	0.3794	; popDist[19] = 	0.4037	; popDist[20] = 	0.4087	; popDist[21] = 	0.4139	; popDist[22] = 	0.4227	; popDist[23] = 	0.4329	; popDist[24] = 	0.4479	; popDist[25] = 	0.4616	; popDist[26] = 	0.4731	; popDist[27] = 	0.4808	; popDist[28] = 	0.4866	; popDist[29] = 	0.4918	; popDist[30] = 	0.4992	; popDist[31] = 	0.4997	; popDist[32] = 	0.5014	; popDist[33] = 	0.5248	; popDist[34] = 	0.5311	; popDist[35] = 	0.5320	; popDist[36] = 	0.5360	; popDist[37] = 	0.5489	; popDist[38] = 	0.5539	; popDist[39] = 	0.5744	; popDist[40] = 	0.5835	; popDist[41] = 	0.6149	; popDist[42] = 	0.6880	; popDist[43] =	0.7170	; popDist[44] =	0.7374	; popDist[45] =	0.7835	; popDist[46] =	0.8176	; popDist[47] =	0.8447	; popDist[48] =	0.8550	; popDist[49] =	0.8829	; popDist[50] =	0.8980	; popDist[51] =	0.9193	; popDist[52] =	0.9333	; popDist[53] =	0.9395	; popDist[54] =	0.9574	; popDist[55] =	0.9673	; popDist[56] =	0.9795	; popDist[57] =	0.9923	; popDist[58] =	0.9974	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	3	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0113	; popDist[2] =	0.0192	; popDist[3] =	0.0261	; popDist[4] =	0.0450	; popDist[5] = 	0.0583	; popDist[6] =	0.0682	; popDist[7] =	0.0951	; popDist[8] = 	0.1250	; popDist[9] = 	0.1627	; popDist[10] = 	0.1931	; popDist[11] = 	0.2213	; popDist[12] = 	0.2373	; popDist[13] = 	0.2613	; popDist[14] = 	0.2689	; popDist[15] = 	0.2783	; popDist[16] = 	0.2935	; popDist[17] = 	0.3152	; popDist[18] = 	0.3257	; popDist[19] = 	0.3493	; popDist[20] = 	0.3534	; popDist[21] = 	0.3577	; popDist[22] = 	0.3688	; popDist[23] = 	0.3804	; popDist[24] = 	0.3950	; popDist[25] = 	0.4072	; popDist[26] = 	0.4182	; popDist[27] = 	0.4267	; popDist[28] = 	0.4307	; popDist[29] = 	0.4357	; popDist[30] = 	0.4461	; popDist[31] = 	0.4467	; popDist[32] = 	0.4493	; popDist[33] = 	0.4709	; popDist[34] = 	0.4790	; popDist[35] = 	0.4803	; popDist[36] = 	0.4874	; popDist[37] = 	0.5063	; popDist[38] = 	0.5155	; popDist[39] = 	0.5320	; popDist[40] = 	0.5383	; popDist[41] = 	0.5609	; popDist[42] = 	0.6239	; popDist[43] =	0.6543	; popDist[44] =	0.6769	; popDist[45] =	0.7286	; popDist[46] =	0.7624	; popDist[47] =	0.7951	; popDist[48] =	0.8094	; popDist[49] =	0.8428	; popDist[50] =	0.8629	; popDist[51] =	0.8906	; popDist[52] =	0.9093	; popDist[53] =	0.9197	; popDist[54] =	0.9404	; popDist[55] =	0.9565	; popDist[56] =	0.9687	; popDist[57] =	0.9861	; popDist[58] =	0.9947	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	3	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0063	; popDist[2] =	0.0098	; popDist[3] =	0.0136	; popDist[4] =	0.0217	; popDist[5] = 	0.0286	; popDist[6] =	0.0334	; popDist[7] =	0.0489	; popDist[8] = 	0.0851	; popDist[9] = 	0.1092	; popDist[10] = 	0.1393	; popDist[11] = 	0.1656	; popDist[12] = 	0.1821	; popDist[13] = 	0.1982	; popDist[14] = 	0.2099	; popDist[15] = 	0.2168	; popDist[16] = 	0.2251	; popDist[17] = 	0.2398	; popDist[18] = 	0.2577	; popDist[19] = 	0.2791	; popDist[20] = 	0.2826	; popDist[21] = 	0.2855	; popDist[22] = 	0.2991	; popDist[23] = 	0.3101	; popDist[24] = 	0.3241	; popDist[25] = 	0.3340	; popDist[26] = 	0.3440	; popDist[27] = 	0.3544	; popDist[28] = 	0.3571	; popDist[29] = 	0.3610	; popDist[30] = 	0.3743	; popDist[31] = 	0.3766	; popDist[32] = 	0.3835	; popDist[33] = 	0.4052	; popDist[34] = 	0.4206	; popDist[35] = 	0.4245	; popDist[36] = 	0.4420	; popDist[37] = 	0.4934	; popDist[38] = 	0.5192	; popDist[39] = 	0.5372	; popDist[40] = 	0.5414	; popDist[41] = 	0.5591	; popDist[42] = 	0.6023	; popDist[43] =	0.6284	; popDist[44] =	0.6472	; popDist[45] =	0.6904	; popDist[46] =	0.7186	; popDist[47] =	0.7497	; popDist[48] =	0.7686	; popDist[49] =	0.8086	; popDist[50] =	0.8337	; popDist[51] =	0.8585	; popDist[52] =	0.8796	; popDist[53] =	0.8962	; popDist[54] =	0.9165	; popDist[55] =	0.9396	; popDist[56] =	0.9531	; popDist[57] =	0.9762	; popDist[58] =	0.9905	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	4	&& houseincome ==	1	) { popDist[0] =	0	; popDist[1] =	0.0064	; popDist[2] =	0.0093	; popDist[3] =	0.0133	; popDist[4] =	0.0231	; popDist[5] = 	0.0304	; popDist[6] =	0.0368	; popDist[7] =	0.0518	; popDist[8] = 	0.0625	; popDist[9] = 	0.0775	; popDist[10] = 	0.0858	; popDist[11] = 	0.1000	; popDist[12] = 	0.1087	; popDist[13] = 	0.1239	; popDist[14] = 	0.1297	; popDist[15] = 	0.1373	; popDist[16] = 	0.1453	; popDist[17] = 	0.1606	; popDist[18] = 	0.1650	; popDist[19] = 	0.1841	; popDist[20] = 	0.1892	; popDist[21] = 	0.1932	; popDist[22] = 	0.2159	; popDist[23] = 	0.2804	; popDist[24] = 	0.3242	; popDist[25] = 	0.3572	; popDist[26] = 	0.3762	; popDist[27] = 	0.4101	; popDist[28] = 	0.4143	; popDist[29] = 	0.4202	; popDist[30] = 	0.4286	; popDist[31] = 	0.4306	; popDist[32] = 	0.4379	; popDist[33] = 	0.5169	; popDist[34] = 	0.5232	; popDist[35] = 	0.5264	; popDist[36] = 	0.5356	; popDist[37] = 	0.5468	; popDist[38] = 	0.5552	; popDist[39] = 	0.5683	; popDist[40] = 	0.5766	; popDist[41] = 	0.5902	; popDist[42] = 	0.6096	; popDist[43] =	0.6466	; popDist[44] =	0.6693	; popDist[45] =	0.6899	; popDist[46] =	0.7211	; popDist[47] =	0.7354	; popDist[48] =	0.7656	; popDist[49] =	0.8529	; popDist[50] =	0.8813	; popDist[51] =	0.9022	; popDist[52] =	0.9208	; popDist[53] =	0.9407	; popDist[54] =	0.9595	; popDist[55] =	0.9717	; popDist[56] =	0.9793	; popDist[57] =	0.9893	; popDist[58] =	0.9979	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	4	&& houseincome ==	2	) { popDist[0] =	0	; popDist[1] =	0.0032	; popDist[2] =	0.0047	; popDist[3] =	0.0067	; popDist[4] =	0.0133	; popDist[5] = 	0.0178	; popDist[6] =	0.0211	; popDist[7] =	0.0340	; popDist[8] = 	0.0452	; popDist[9] = 	0.0583	; popDist[10] = 	0.0677	; popDist[11] = 	0.0830	; popDist[12] = 	0.0918	; popDist[13] = 	0.1034	; popDist[14] = 	0.1089	; popDist[15] = 	0.1136	; popDist[16] = 	0.1192	; popDist[17] = 	0.1304	; popDist[18] = 	0.1350	; popDist[19] = 	0.1536	; popDist[20] = 	0.1578	; popDist[21] = 	0.1619	; popDist[22] = 	0.1862	; popDist[23] = 	0.2362	; popDist[24] = 	0.2692	; popDist[25] = 	0.2876	; popDist[26] = 	0.3048	; popDist[27] = 	0.3345	; popDist[28] = 	0.3368	; popDist[29] = 	0.3433	; popDist[30] = 	0.3531	; popDist[31] = 	0.3555	; popDist[32] = 	0.3633	; popDist[33] = 	0.4202	; popDist[34] = 	0.4265	; popDist[35] = 	0.4298	; popDist[36] = 	0.4417	; popDist[37] = 	0.4531	; popDist[38] = 	0.4638	; popDist[39] = 	0.4733	; popDist[40] = 	0.4781	; popDist[41] = 	0.4861	; popDist[42] = 	0.5028	; popDist[43] =	0.5409	; popDist[44] =	0.5706	; popDist[45] =	0.5979	; popDist[46] =	0.6371	; popDist[47] =	0.6541	; popDist[48] =	0.6884	; popDist[49] =	0.7983	; popDist[50] =	0.8416	; popDist[51] =	0.8678	; popDist[52] =	0.8944	; popDist[53] =	0.9252	; popDist[54] =	0.9481	; popDist[55] =	0.9704	; popDist[56] =	0.9766	; popDist[57] =	0.9872	; popDist[58] =	0.9969	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	4	&& houseincome ==	3	) { popDist[0] =	0	; popDist[1] =	0.0015	; popDist[2] =	0.0024	; popDist[3] =	0.0034	; popDist[4] =	0.0073	; popDist[5] = 	0.0100	; popDist[6] =	0.0117	; popDist[7] =	0.0208	; popDist[8] = 	0.0336	; popDist[9] = 	0.0430	; popDist[10] = 	0.0534	; popDist[11] = 	0.0668	; popDist[12] = 	0.0748	; popDist[13] = 	0.0831	; popDist[14] = 	0.0890	; popDist[15] = 	0.0924	; popDist[16] = 	0.0956	; popDist[17] = 	0.1033	; popDist[18] = 	0.1095	; popDist[19] = 	0.1251	; popDist[20] = 	0.1282	; popDist[21] = 	0.1310	; popDist[22] = 	0.1576	; popDist[23] = 	0.2069	; popDist[24] = 	0.2348	; popDist[25] = 	0.2490	; popDist[26] = 	0.2633	; popDist[27] = 	0.2918	; popDist[28] = 	0.2931	; popDist[29] = 	0.2986	; popDist[30] = 	0.3104	; popDist[31] = 	0.3129	; popDist[32] = 	0.3234	; popDist[33] = 	0.3687	; popDist[34] = 	0.3757	; popDist[35] = 	0.3798	; popDist[36] = 	0.3981	; popDist[37] = 	0.4126	; popDist[38] = 	0.4297	; popDist[39] = 	0.4363	; popDist[40] = 	0.4391	; popDist[41] = 	0.4441	; popDist[42] = 	0.4566	; popDist[43] =	0.4912	; popDist[44] =	0.5197	; popDist[45] =	0.5463	; popDist[46] =	0.5799	; popDist[47] =	0.5977	; popDist[48] =	0.6393	; popDist[49] =	0.7533	; popDist[50] =	0.8029	; popDist[51] =	0.8324	; popDist[52] =	0.8633	; popDist[53] =	0.9079	; popDist[54] =	0.9308	; popDist[55] =	0.9624	; popDist[56] =	0.9678	; popDist[57] =	0.9802	; popDist[58] =	0.9946	; popDist[59] =	1	;}
-			else if (gender == 	0	&& age >=	65			&& race ==	4	&& houseincome ==	4	) { popDist[0] =	0	; popDist[1] =	0.0007	; popDist[2] =	0.0010	; popDist[3] =	0.0015	; popDist[4] =	0.0029	; popDist[5] = 	0.0041	; popDist[6] =	0.0048	; popDist[7] =	0.0092	; popDist[8] = 	0.0222	; popDist[9] = 	0.0272	; popDist[10] = 	0.0358	; popDist[11] = 	0.0463	; popDist[12] = 	0.0532	; popDist[13] = 	0.0578	; popDist[14] = 	0.0654	; popDist[15] = 	0.0675	; popDist[16] = 	0.0690	; popDist[17] = 	0.0734	; popDist[18] = 	0.0821	; popDist[19] = 	0.0939	; popDist[20] = 	0.0962	; popDist[21] = 	0.0978	; popDist[22] = 	0.1248	; popDist[23] = 	0.1641	; popDist[24] = 	0.1865	; popDist[25] = 	0.1962	; popDist[26] = 	0.2071	; popDist[27] = 	0.2359	; popDist[28] = 	0.2367	; popDist[29] = 	0.2403	; popDist[30] = 	0.2530	; popDist[31] = 	0.2615	; popDist[32] = 	0.2841	; popDist[33] = 	0.3223	; popDist[34] = 	0.3334	; popDist[35] = 	0.3441	; popDist[36] = 	0.3817	; popDist[37] = 	0.4146	; popDist[38] = 	0.4548	; popDist[39] = 	0.4608	; popDist[40] = 	0.4625	; popDist[41] = 	0.4657	; popDist[42] = 	0.4729	; popDist[43] =	0.4977	; popDist[44] =	0.5176	; popDist[45] =	0.5361	; popDist[46] =	0.5596	; popDist[47] =	0.5738	; popDist[48] =	0.6196	; popDist[49] =	0.7337	; popDist[50] =	0.7858	; popDist[51] =	0.8079	; popDist[52] =	0.8370	; popDist[53] =	0.8964	; popDist[54] =	0.9153	; popDist[55] =	0.9531	; popDist[56] =	0.9581	; popDist[57] =	0.9720	; popDist[58] =	0.9918	; popDist[59] =	1	;}
-		}	
+		// covariate pattern keys (bit k holds covariate k), for looking up individual-level probabilities; the
+		// covariates are flags of the population store, listed in covariate order
+		public static final int[]	M_FLAGS = { AlcoholPopulation.DURRES1, AlcoholPopulation.DURRES2, AlcoholPopulation.DURRES3,
+												AlcoholPopulation.INC1, AlcoholPopulation.INC2, AlcoholPopulation.INC3,
+												AlcoholPopulation.LASTVIOLVICT };
+		public int getMovingKey() { return pop.key(slot, M_FLAGS); }
+		
+		// violence covariates: gender, age1-age5, lesshs, hs, inc1-inc3, lightDrinker, heavyDrinker, priorviolvict, priorviolperp
+		public static final int		V_GENDER = 0, V_AGE1 = 1, V_AGE2 = 2, V_AGE3 = 3, V_AGE4 = 4, V_AGE5 = 5, V_LESSHS = 6,
+									V_HS = 7, V_INC1 = 8, V_INC2 = 9, V_INC3 = 10, V_LIGHT = 11, V_HEAVY = 12,
+									V_PRIORVIOLVICT = 13, V_PRIORVIOLPERP = 14, NUM_V = 15;
+		public static final String[]	V_NAMES = { "gender", "age1", "age2", "age3", "age4", "age5", "lesshs", "hs", "inc1",
+													"inc2", "inc3", "lightDrinker", "heavyDrinker", "priorviolvict", "priorviolperp" };
+		public static final int[]	V_FLAGS = { AlcoholPopulation.MALE, AlcoholPopulation.AGE1, AlcoholPopulation.AGE2,
+												AlcoholPopulation.AGE3, AlcoholPopulation.AGE4, AlcoholPopulation.AGE5,
+												AlcoholPopulation.LESSHS, AlcoholPopulation.HS, AlcoholPopulation.INC1,
+												AlcoholPopulation.INC2, AlcoholPopulation.INC3, AlcoholPopulation.LIGHTDRINKER,
+												AlcoholPopulation.HEAVYDRINKER, AlcoholPopulation.PRIORVIOLVICT,
+												AlcoholPopulation.PRIORVIOLPERP };
+		public int getViolenceKey() { return pop.key(slot, V_FLAGS); }
+		
+		// drinking covariates: gender, age2-age6, black, hisp, otherRace, hs, morehs, inc2-inc4, heavyDrinker, lastviolvict
+		public static final int		D_GENDER = 0, D_AGE2 = 1, D_AGE3 = 2, D_AGE4 = 3, D_AGE5 = 4, D_AGE6 = 5, D_BLACK = 6,
+									D_HISP = 7, D_OTHERRACE = 8, D_HS = 9, D_MOREHS = 10, D_INC2 = 11, D_INC3 = 12,
+									D_INC4 = 13, D_HEAVY = 14, D_LASTVIOLVICT = 15, NUM_D = 16;
+		public static final String[]	D_NAMES = { "gender", "age2", "age3", "age4", "age5", "age6", "black", "hisp", "otherRace",
+													"hs", "morehs", "inc2", "inc3", "inc4", "heavyDrinker", "lastviolvict" };
+		public static final int[]	D_FLAGS = { AlcoholPopulation.MALE, AlcoholPopulation.AGE2, AlcoholPopulation.AGE3,
+												AlcoholPopulation.AGE4, AlcoholPopulation.AGE5, AlcoholPopulation.AGE6,
+												AlcoholPopulation.BLACK, AlcoholPopulation.HISP, AlcoholPopulation.OTHERRACE,
+												AlcoholPopulation.HS, AlcoholPopulation.MOREHS, AlcoholPopulation.INC2,
+												AlcoholPopulation.INC3, AlcoholPopulation.INC4, AlcoholPopulation.HEAVYDRINKER,
+												AlcoholPopulation.LASTVIOLVICT };
+		public int getDrinkingKey() { return pop.key(slot, D_FLAGS); }
+		
+		// a.drawMovingHood() -- called in Model class
+		// Select new neighborhood when moving, by agent gender, race, age, and household income (-1 if none)
+		// Uses probabilities incorporating aging; the current neighborhood is excluded by drawing again
+		public int drawMovingHood() {
+			int gender = getGender();
+			double age = getAge();
+			int race = getRace();
+			int houseincome = getHouseincome();
+			int currenthood = getAgenthood();
+			
+			// no other neighborhood to move to
+			if (AlcoholDistributions.movingHoodProb(gender, age, race, houseincome, currenthood) >= 1.0) { return -1; }
+			
+			int newhood;
+			do {
+				double randPopProb = rng.nextDoubleFromTo(0, 1);
+				newhood = AlcoholDistributions.movingHood(gender, age, race, houseincome, randPopProb);
+			} while (newhood == currenthood);
+			return newhood;
+		}
 
 		// implement drawable
 		public void draw(SimGraphics g) {
@@ -1546,145 +782,209 @@ public class AlcoholAgent implements Drawable {
 		public int getID() { return ID; }
 		public void setID( int id) { ID=id; }
 		
+		// slot of this agent in the population store
+		public AlcoholPopulation getPopulation() { return pop; }
+		public int getSlot() { return slot; }
+		public AlcoholRandom getRng() { return rng; }
+		
 		// geographic location
-		public int getX() { return myX; }
-		public void setX( int i) { this.myX=i; }
+		public int getX() { return pop.x[slot]; }
+		public void setX( int i) { pop.x[slot]=i; }
 		
-		public int getY() { return myY; }
-		public void setY( int i) { this.myY=i; }
+		public int getY() { return pop.y[slot]; }
+		public void setY( int i) { pop.y[slot]=i; }
 		
-		public int getAgenthood() { return Agenthood; }
-		public void setAgenthood( int i) { Agenthood=i; }
+		public int getAgenthood() { return pop.hood[slot]; }
+		public void setAgenthood( int i) { pop.hood[slot]=i; }
 		
 		// community district (CD) ID number for agent neighborhood 
 		public int getCdcode() { return cdcode; }
 		public void setCdcode( int i) { this.cdcode = i; }
 
 		// socio-demographic characteristics
-		public double getAge(){return age;}
-		public void setAge(double i) { age=i;}
+		public double getAge(){return pop.age[slot];}
+		public void setAge(double i) {
+			if (residence != null && i != pop.age[slot]) { residence.addAge(i - pop.age[slot]); }
+			pop.age[slot]=i;
+		}
 		
-		public int getAgecat() { return agecat; }
-		public void setAgecat(int i) { this.agecat = i; }
+		public int getAgecat() { return pop.agecat[slot]; }
+		public void setAgecat(int i) {
+			int youngMale = getYoungMale();
+			pop.agecat[slot] = i;
+			int change = getYoungMale() - youngMale;
+			if (residence != null && change != 0) { residence.addSum(AlcoholNeighborhood.SUM_YOUNGMALE, change); }
+		}
 		
-		public int getLastagecat() { return lastagecat; }
-		public void setLastagecat(int i) { this.lastagecat = i; }
+		public int getLastagecat() { return pop.lastagecat[slot]; }
+		public void setLastagecat(int i) { pop.lastagecat[slot] = i; }
 
-		public int getGender() { return gender; }
-		public void setGender( int i ) { gender = i; }	
+		public int getGender() { return pop.getFlag(AlcoholPopulation.MALE, slot); }
+		public void setGender( int i ) {
+			int youngMale = getYoungMale();
+			pop.setFlag(AlcoholPopulation.MALE, slot, i);
+			int change = getYoungMale() - youngMale;
+			if (residence != null && change != 0) { residence.addSum(AlcoholNeighborhood.SUM_YOUNGMALE, change); }
+		}
+		
+		// young male aged 18-24 yrs old (1 yes, 0 no)
+		public int getYoungMale() { return (getGender() == 1 && pop.agecat[slot] == 1) ? 1 : 0; }
 
-		public int getRace(){return race;}
-		public void setRace(int i) { race=i;}	
+		public int getRace(){return pop.race[slot];}
+		public void setRace(int i) { pop.race[slot]=i;}	
 
-		public int getEducation(){return education;}
-		public void setEducation(int i) { education=i;}	
+		public int getEducation(){return pop.education[slot];}
+		public void setEducation(int i) { pop.education[slot]=i;}	
 
-		public int getHouseincome(){return houseincome;}
-		public void setHouseincome(int i){houseincome=i;}
+		public int getHouseincome(){return pop.houseincome[slot];}
+		public void setHouseincome(int i){pop.houseincome[slot]=i;}
 		
-		public int getLastincome() { return lastincome; }
-		public void setLastincome( int i) { this.lastincome = i; }
+		public int getLastincome() { return pop.lastincome[slot]; }
+		public void setLastincome( int i) { pop.lastincome[slot] = i; }
 		
 		public int getHouseinc16(){ return houseinc16; }
-		public void setHouseinc16( int i) { houseinc16=i; }
+		public void setHouseinc16( int i) {
+			int incomeMid = getIncomeMid();
+			houseinc16=i;
+			int change = getIncomeMid() - incomeMid;
+			if (residence != null && change != 0) { residence.addSum(AlcoholNeighborhood.SUM_INCOME, change); }
+		}
+		
+		// midpoint of household income category (houseinc16)
+		// 1 < $10k, 2 $10-$14, 3 $15-$19, 4 $20-$24, 5 $25-$29, 6 $30-$34, 7 $35-$39, 8 $40-$44, 9 $45-$49
+		// 10 $50-$59, 11 $60-$74, 12 $75-$99, 13 $100-$124, 14 $125-$149, 15 $150-$199, 16 $200+
+		public int getIncomeMid() {
+			if (houseinc16 == 1) return 5000;
+			else if (houseinc16 == 2) return 12500;
+			else if (houseinc16 == 3) return 17500;
+			else if (houseinc16 == 4) return 22500;
+			else if (houseinc16 == 5) return 27500;
+			else if (houseinc16 == 6) return 32500;
+			else if (houseinc16 == 7) return 37500;
+			else if (houseinc16 == 8) return 42500;
+			else if (houseinc16 == 9) return 47500;
+			else if (houseinc16 == 10) return 55000;
+			else if (houseinc16 == 11) return 67500;
+			else if (houseinc16 == 12) return 87500;
+			else if (houseinc16 == 13) return 112500;
+			else if (houseinc16 == 14) return 137500;
+			else if (houseinc16 == 15) return 175000;
+			else return 225000;
+		}
 		
 		public int getBaseinc16() { return baseinc16; }
 		public void setBaseinc16(int i) { baseinc16=i; }
 		
-		public int getAge1() { return age1; }
-		public void setAge1( int i) { this.age1=i; }
+		public int getAge1() { return pop.getFlag(AlcoholPopulation.AGE1, slot); }
+		public void setAge1( int i) { pop.setFlag(AlcoholPopulation.AGE1, slot, i); }
 
-		public int getAge2() { return age2; }
-		public void setAge2(int i) { this.age2=i; }
+		public int getAge2() { return pop.getFlag(AlcoholPopulation.AGE2, slot); }
+		public void setAge2(int i) { pop.setFlag(AlcoholPopulation.AGE2, slot, i); }
 
-		public int getAge3() { return age3; }
-		public void setAge3(int i) { this.age3=i; }
+		public int getAge3() { return pop.getFlag(AlcoholPopulation.AGE3, slot); }
+		public void setAge3(int i) { pop.setFlag(AlcoholPopulation.AGE3, slot, i); }
 
-		public int getAge4() { return age4; }
-		public void setAge4(int i) { this.age4=i; }
+		public int getAge4() { return pop.getFlag(AlcoholPopulation.AGE4, slot); }
+		public void setAge4(int i) { pop.setFlag(AlcoholPopulation.AGE4, slot, i); }
 
-		public int getAge5() { return age5; }
-		public void setAge5(int i) { this.age5=i; }
+		public int getAge5() { return pop.getFlag(AlcoholPopulation.AGE5, slot); }
+		public void setAge5(int i) { pop.setFlag(AlcoholPopulation.AGE5, slot, i); }
 		
-		public int getAge6() { return age6; }
-		public void setAge6(int i) { this.age6=i; }
+		public int getAge6() { return pop.getFlag(AlcoholPopulation.AGE6, slot); }
+		public void setAge6(int i) { pop.setFlag(AlcoholPopulation.AGE6, slot, i); }
 
-		public int getWhite() { return white; }
-		public void setWhite( int i) { this.white=i; }
-		
-		public int getBlack() { return black; }
-		public void setBlack(int i) { this.black=i; }
+		public int getWhite() { return pop.getFlag(AlcoholPopulation.WHITE, slot); }
+		public void setWhite( int i) { pop.setFlag(AlcoholPopulation.WHITE, slot, i); }
+		
+		public int getBlack() { return pop.getFlag(AlcoholPopulation.BLACK, slot); }
+		public void setBlack(int i) {
+			int black = getBlack();
+			if (residence != null && i != black) { residence.addSum(AlcoholNeighborhood.SUM_BLACK, i - black); }
+			pop.setFlag(AlcoholPopulation.BLACK, slot, i);
+		}
 
-		public int getHisp() { return hisp; }
-		public void setHisp(int i) { this.hisp=i; }
+		public int getHisp() { return pop.getFlag(AlcoholPopulation.HISP, slot); }
+		public void setHisp(int i) {
+			int hisp = getHisp();
+			if (residence != null && i != hisp) { residence.addSum(AlcoholNeighborhood.SUM_HISP, i - hisp); }
+			pop.setFlag(AlcoholPopulation.HISP, slot, i);
+		}
 
-		public int getOtherRace() { return otherRace; }
-		public void setOtherRace(int i) { this.otherRace=i; }
+		public int getOtherRace() { return pop.getFlag(AlcoholPopulation.OTHERRACE, slot); }
+		public void setOtherRace(int i) { pop.setFlag(AlcoholPopulation.OTHERRACE, slot, i); }
 
-		public int getLesshs() { return lesshs; }
-		public void setLesshs( int i) { this.lesshs=i; }
+		public int getLesshs() { return pop.getFlag(AlcoholPopulation.LESSHS, slot); }
+		public void setLesshs( int i) { pop.setFlag(AlcoholPopulation.LESSHS, slot, i); }
 		
-		public int getHs() { return hs; }
-		public void setHs(int i) { this.hs=i; }
+		public int getHs() { return pop.getFlag(AlcoholPopulation.HS, slot); }
+		public void setHs(int i) { pop.setFlag(AlcoholPopulation.HS, slot, i); }
 
-		public int getMorehs() { return morehs; }
-		public void setMorehs(int i) { this.morehs=i; }
+		public int getMorehs() { return pop.getFlag(AlcoholPopulation.MOREHS, slot); }
+		public void setMorehs(int i) { pop.setFlag(AlcoholPopulation.MOREHS, slot, i); }
 
-		public int getInc1() { return inc1; }
-		public void setInc1( int i) { this.inc1=i; }
+		public int getInc1() { return pop.getFlag(AlcoholPopulation.INC1, slot); }
+		public void setInc1( int i) { pop.setFlag(AlcoholPopulation.INC1, slot, i); }
 		
-		public int getInc2() { return inc2; }
-		public void setInc2(int i) { this.inc2=i; }
+		public int getInc2() { return pop.getFlag(AlcoholPopulation.INC2, slot); }
+		public void setInc2(int i) { pop.setFlag(AlcoholPopulation.INC2, slot, i); }
 
-		public int getInc3() { return inc3; }
-		public void setInc3(int i) { this.inc3=i; }
+		public int getInc3() { return pop.getFlag(AlcoholPopulation.INC3, slot); }
+		public void setInc3(int i) { pop.setFlag(AlcoholPopulation.INC3, slot, i); }
 
-		public int getInc4() { return inc4; }
-		public void setInc4(int i) { this.inc4=i; }
+		public int getInc4() { return pop.getFlag(AlcoholPopulation.INC4, slot); }
+		public void setInc4(int i) { pop.setFlag(AlcoholPopulation.INC4, slot, i); }
 		
 		// mortality
 		public double getPMortality() { return pMortality; }
 		public void setPMortality(double i) { this.pMortality = i; }
 		
-		public int getDied() { return died; }
-		public void setDied(int i) { this.died = i; }
+		public int getDied() { return pop.getFlag(AlcoholPopulation.DIED, slot); }
+		public void setDied(int i) { pop.setFlag(AlcoholPopulation.DIED, slot, i); }
 		
-		public int getLastdied() { return lastdied; }
-		public void setLastdied(int i) { this.lastdied = i; }
+		public int getLastdied() { return pop.getFlag(AlcoholPopulation.LASTDIED, slot); }
+		public void setLastdied(int i) { pop.setFlag(AlcoholPopulation.LASTDIED, slot, i); }
 		
-		public int getDoNotCount() { return doNotCount; }
-		public void setDoNotCount(int i) { this.doNotCount = i; }
+		public int getDoNotCount() { return pop.getFlag(AlcoholPopulation.DONOTCOUNT, slot); }
+		public void setDoNotCount(int i) { pop.setFlag(AlcoholPopulation.DONOTCOUNT, slot, i); }
 		
 		// moving
-		public double getPMove() { return pMove; }
-		public void setPMove(double i) { this.pMove = i; }
+		public double getPMove() { return pop.pMove[slot]; }
+		public void setPMove(double i) { pop.pMove[slot] = i; }
 		
-		public int getMoved() { return moved; }
-		public void setMoved(int i) { this.moved = i; }
+		public int getMoved() { return pop.getFlag(AlcoholPopulation.MOVED, slot); }
+		public void setMoved(int i) { pop.setFlag(AlcoholPopulation.MOVED, slot, i); }
 		
-		public int getEverHighInc() { return everHighInc; }
-		public void setEverHighInc(int i) { this.everHighInc = i; }
+		public int getEverHighInc() { return pop.getFlag(AlcoholPopulation.EVERHIGHINC, slot); }
+		public void setEverHighInc(int i) { pop.setFlag(AlcoholPopulation.EVERHIGHINC, slot, i); }
 		
-		public int getEverLowInc() { return everLowInc; }
-		public void setEverLowInc(int i) { this.everLowInc = i; }
+		public int getEverLowInc() { return pop.getFlag(AlcoholPopulation.EVERLOWINC, slot); }
+		public void setEverLowInc(int i) { pop.setFlag(AlcoholPopulation.EVERLOWINC, slot, i); }
 		
-		public int getBaseIncHood() { return baseIncHood; }
-		public void setBaseIncHood( int i) { this.baseIncHood = i; }
+		public int getBaseIncHood() { return pop.baseIncHood[slot]; }
+		public void setBaseIncHood( int i) { pop.baseIncHood[slot] = i; }
 		
 		public int getDurationCat() { return durationCat; }
 		public void setDurationCat( int i) { this.durationCat = i; }
 		
-		public double getDurationRes() { return durationRes; }
-		public void setDurationRes( double i) { this.durationRes = i; }
+		public double getDurationRes() { return pop.durationRes[slot]; }
+		public void setDurationRes( double i) {
+			int stable = getStable();
+			pop.durationRes[slot] = i;
+			int change = getStable() - stable;
+			if (residence != null && change != 0) { residence.addSum(AlcoholNeighborhood.SUM_STABLE, change); }
+		}
+		
+		// lived in neighborhood for more than 1 year (1 yes, 0 no)
+		public int getStable() { return (pop.durationRes[slot] > 1) ? 1 : 0; }
 		
-		public int getDurRes1() { return durRes1; }
-		public void setDurRes1( int i) { this.durRes1 = i; }
+		public int getDurRes1() { return pop.getFlag(AlcoholPopulation.DURRES1, slot); }
+		public void setDurRes1( int i) { pop.setFlag(AlcoholPopulation.DURRES1, slot, i); }
 		
-		public int getDurRes2() { return durRes2; }
-		public void setDurRes2( int i) { this.durRes2 = i; }
+		public int getDurRes2() { return pop.getFlag(AlcoholPopulation.DURRES2, slot); }
+		public void setDurRes2( int i) { pop.setFlag(AlcoholPopulation.DURRES2, slot, i); }
 		
-		public int getDurRes3() { return durRes3; }
-		public void setDurRes3( int i) { this.durRes3 = i; }
+		public int getDurRes3() { return pop.getFlag(AlcoholPopulation.DURRES3, slot); }
+		public void setDurRes3( int i) { pop.setFlag(AlcoholPopulation.DURRES3, slot, i); }
 		
 		// drinking status
 		public double getProbNonDrk() { return probNonDrk; }
@@ -1696,23 +996,42 @@ public class AlcoholAgent implements Drawable {
 		public double getProbHeavyDrk() { return probHeavyDrk; }
 		public void setProbHeavyDrk( double i) { this.probHeavyDrk = i; }
 		
-		public int getDrinkStat() { return drinkStat; }
-		public void setDrinkStat( int i) { this.drinkStat = i; }
+		public int getDrinkStat() { return pop.drinkStat[slot]; }
+		public void setDrinkStat( int i) {
+			if (i != pop.drinkStat[slot]) { pop.markChanged(AlcoholPopulation.DRINKING_CHANGE, slot); }
+			pop.drinkStat[slot] = i;
+		}
+		
+		public int getLastDrinkStat() { return pop.lastDrinkStat[slot]; }
+		public void setLastDrinkStat(int i) { pop.lastDrinkStat[slot] = i; }
 		
-		public int getLastDrinkStat() { return lastDrinkStat; }
-		public void setLastDrinkStat(int i) { this.lastDrinkStat = i; }
+		public int getBaseDrinkStat() { return pop.baseDrinkStat[slot]; }
+		public void setBaseDrinkStat(int i) {
+			pop.baseDrinkStat[slot] = i;
+			pop.setFlag(AlcoholPopulation.BASENONDRINKER, slot, (i == 1) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.BASELIGHTDRINKER, slot, (i == 2) ? 1 : 0);
+			pop.setFlag(AlcoholPopulation.BASEHEAVYDRINKER, slot, (i == 3) ? 1 : 0);
+		}
 		
-		public int getNonDrinker() { return nonDrinker; }
-		public void setNonDrinker( int i) { this.nonDrinker = i; }
+		public int getNonDrinker() { return pop.getFlag(AlcoholPopulation.NONDRINKER, slot); }
+		public void setNonDrinker( int i) { pop.setFlag(AlcoholPopulation.NONDRINKER, slot, i); }
 		
-		public int getLightDrinker() { return lightDrinker; }
-		public void setLightDrinker( int i) { this.lightDrinker = i; }
+		public int getLightDrinker() { return pop.getFlag(AlcoholPopulation.LIGHTDRINKER, slot); }
+		public void setLightDrinker( int i) {
+			int lightDrinker = getLightDrinker();
+			if (residence != null && i != lightDrinker) { residence.addSum(AlcoholNeighborhood.SUM_LIGHT, i - lightDrinker); }
+			pop.setFlag(AlcoholPopulation.LIGHTDRINKER, slot, i);
+		}
 		
-		public int getHeavyDrinker() { return heavyDrinker; }
-		public void setHeavyDrinker( int i) { this.heavyDrinker = i; }
+		public int getHeavyDrinker() { return pop.getFlag(AlcoholPopulation.HEAVYDRINKER, slot); }
+		public void setHeavyDrinker( int i) {
+			int heavyDrinker = getHeavyDrinker();
+			if (residence != null && i != heavyDrinker) { residence.addSum(AlcoholNeighborhood.SUM_HEAVY, i - heavyDrinker); }
+			pop.setFlag(AlcoholPopulation.HEAVYDRINKER, slot, i);
+		}
 		
-		public int getEverHeavyDrk() { return everHeavyDrk; }
-		public void setEverHeavyDrk( int i) { this.everHeavyDrk = i; }
+		public int getEverHeavyDrk() { return pop.getFlag(AlcoholPopulation.EVERHEAVYDRK, slot); }
+		public void setEverHeavyDrk( int i) { pop.setFlag(AlcoholPopulation.EVERHEAVYDRK, slot, i); }
 		
 		
 		// beverage type
@@ -1725,14 +1044,14 @@ public class AlcoholAgent implements Drawable {
 		public double getProbAnySpirit() { return probAnySpirit; }
 		public void setProbAnySpirit( double i) { this.probAnySpirit = i; }
 		
-		public int getAnyBeer() { return anyBeer; }
-		public void setAnyBeer( int i) { this.anyBeer = i; }
+		public int getAnyBeer() { return pop.getFlag(AlcoholPopulation.ANYBEER, slot); }
+		public void setAnyBeer( int i) { pop.setFlag(AlcoholPopulation.ANYBEER, slot, i); }
 		
-		public int getAnyWine() { return anyWine; }
-		public void setAnyWine( int i) { this.anyWine = i; }
+		public int getAnyWine() { return pop.getFlag(AlcoholPopulation.ANYWINE, slot); }
+		public void setAnyWine( int i) { pop.setFlag(AlcoholPopulation.ANYWINE, slot, i); }
 		
-		public int getAnySpirit() { return anySpirit; }
-		public void setAnySpirit( int i) { this.anySpirit = i; }
+		public int getAnySpirit() { return pop.getFlag(AlcoholPopulation.ANYSPIRIT, slot); }
+		public void setAnySpirit( int i) { pop.setFlag(AlcoholPopulation.ANYSPIRIT, slot, i); }
 		
 		// preferred beverage type
 		public double getProbBeer() { return probBeer; }
@@ -1744,14 +1063,14 @@ public class AlcoholAgent implements Drawable {
 		public double getProbSpirit() { return probSpirit; }
 		public void setProbSpirit( double i) { this.probSpirit = i; }
 		
-		public int getPreferBeer() { return preferBeer; }
-		public void setPreferBeer( int i) { this.preferBeer = i; }
+		public int getPreferBeer() { return pop.getFlag(AlcoholPopulation.PREFERBEER, slot); }
+		public void setPreferBeer( int i) { pop.setFlag(AlcoholPopulation.PREFERBEER, slot, i); }
 		
-		public int getPreferWine() { return preferWine; }
-		public void setPreferWine( int i) { this.preferWine = i; }
+		public int getPreferWine() { return pop.getFlag(AlcoholPopulation.PREFERWINE, slot); }
+		public void setPreferWine( int i) { pop.setFlag(AlcoholPopulation.PREFERWINE, slot, i); }
 		
-		public int getPreferSpirit() { return preferSpirit; }
-		public void setPreferSpirit( int i) { this.preferSpirit = i; }
+		public int getPreferSpirit() { return pop.getFlag(AlcoholPopulation.PREFERSPIRIT, slot); }
+		public void setPreferSpirit( int i) { pop.setFlag(AlcoholPopulation.PREFERSPIRIT, slot, i); }
 		
 		// social network-related variables
 		public int getTotalFriends() {
@@ -1772,20 +1091,20 @@ public class AlcoholAgent implements Drawable {
 			return isfriend;
 		}
 		
-		public int getNumFrdNoDrk() { return numFrdNoDrk; }
-		public void setNumFrdNoDrk( int i) { this.numFrdNoDrk=i; }
+		public int getNumFrdNoDrk() { return pop.numFrdNoDrk[slot]; }
+		public void setNumFrdNoDrk( int i) { pop.numFrdNoDrk[slot]=i; }
 		
-		public int getNumFrdLightDrk() { return numFrdLightDrk; }
-		public void setNumFrdLightDrk( int i) { this.numFrdLightDrk=i; }
+		public int getNumFrdLightDrk() { return pop.numFrdLightDrk[slot]; }
+		public void setNumFrdLightDrk( int i) { pop.numFrdLightDrk[slot]=i; }
 		
-		public int getNumFrdHeavyDrk() { return numFrdHeavyDrk; }
-		public void setNumFrdHeavyDrk( int i) { this.numFrdHeavyDrk=i; }
+		public int getNumFrdHeavyDrk() { return pop.numFrdHeavyDrk[slot]; }
+		public void setNumFrdHeavyDrk( int i) { pop.numFrdHeavyDrk[slot]=i; }
 		
-		public int getNumFrdVictim() { return numFrdVictim; }
-		public void setNumFrdVictim( int i) { this.numFrdVictim=i; }
+		public int getNumFrdVictim() { return pop.numFrdVictim[slot]; }
+		public void setNumFrdVictim( int i) { pop.numFrdVictim[slot]=i; }
 		
-		public int getNumFrdPerp() { return numFrdPerp; }
-		public void setNumFrdPerp( int i) { this.numFrdPerp=i; }
+		public int getNumFrdPerp() { return pop.numFrdPerp[slot]; }
+		public void setNumFrdPerp( int i) { pop.numFrdPerp[slot]=i; }
 		
 		public double getFriendAgeSum() { return friendAgeSum; }
 		public void setFriendAgeSum( double i) { this.friendAgeSum=i; }
@@ -1853,59 +1172,73 @@ public class AlcoholAgent implements Drawable {
 		
 		
 		// violent victimization
-		public double getPviolvict(){return pviolvict;}
-		public void setPviolvict(double i) {pviolvict=i;}
+		public double getPviolvict(){return pop.pviolvict[slot];}
+		public void setPviolvict(double i) {pop.pviolvict[slot]=i;}
 
-		public int getPotviolvict() { return potviolvict; }
-		public void setPotviolvict(int i) { this.potviolvict=i; }
+		public int getPotviolvict() { return pop.getFlag(AlcoholPopulation.POTVIOLVICT, slot); }
+		public void setPotviolvict(int i) { pop.setFlag(AlcoholPopulation.POTVIOLVICT, slot, i); }
 
-		public int getViolvict() { return violvict; }
-		public void setViolvict(int i) { this.violvict=i; }
+		public int getViolvict() { return pop.getFlag(AlcoholPopulation.VIOLVICT, slot); }
+		public void setViolvict(int i) {
+			int violvict = getViolvict();
+			if (residence != null && i != violvict) { residence.addSum(AlcoholNeighborhood.SUM_VIOLVICT, i - violvict); }
+			if (i != violvict) { pop.markChanged(AlcoholPopulation.VIOLENCE_CHANGE, slot); }
+			pop.setFlag(AlcoholPopulation.VIOLVICT, slot, i);
+		}
 		
-		public int getPriorviolvict() { return priorviolvict; }
-		public void setPriorviolvict(int i) { this.priorviolvict=i; }
+		public int getPriorviolvict() { return pop.getFlag(AlcoholPopulation.PRIORVIOLVICT, slot); }
+		public void setPriorviolvict(int i) { pop.setFlag(AlcoholPopulation.PRIORVIOLVICT, slot, i); }
 		
-		public int getLastviolvict() { return lastviolvict; }
-		public void setLastviolvict(int i) { this.lastviolvict=i; }
+		public int getLastviolvict() { return pop.getFlag(AlcoholPopulation.LASTVIOLVICT, slot); }
+		public void setLastviolvict(int i) { pop.setFlag(AlcoholPopulation.LASTVIOLVICT, slot, i); }
 		
-		public int getAlcViol() { return alcViol; }
-		public void setAlcViol( int i) { this.alcViol=i; }
+		public int getAlcViol() { return pop.getFlag(AlcoholPopulation.ALCVIOL, slot); }
+		public void setAlcViol( int i) { pop.setFlag(AlcoholPopulation.ALCVIOL, slot, i); }
 
 		// violent perpetration
-		public double getPviolperp(){return pviolperp;}
-		public void setPviolperp(double i) {pviolperp=i;}
+		public double getPviolperp(){return pop.pviolperp[slot];}
+		public void setPviolperp(double i) {pop.pviolperp[slot]=i;}
 
-		public int getPotviolperp() { return potviolperp; }
-		public void setPotviolperp(int i) { this.potviolperp=i; }
+		public int getPotviolperp() { return pop.getFlag(AlcoholPopulation.POTVIOLPERP, slot); }
+		public void setPotviolperp(int i) { pop.setFlag(AlcoholPopulation.POTVIOLPERP, slot, i); }
 
-		public int getViolperp() { return violperp; }
-		public void setViolperp(int i) { this.violperp=i; }
+		public int getViolperp() { return pop.getFlag(AlcoholPopulation.VIOLPERP, slot); }
+		public void setViolperp(int i) {
+			int violperp = getViolperp();
+			if (residence != null && i != violperp) { residence.addSum(AlcoholNeighborhood.SUM_PERP, i - violperp); }
+			if (i != violperp) { pop.markChanged(AlcoholPopulation.VIOLENCE_CHANGE, slot); }
+			pop.setFlag(AlcoholPopulation.VIOLPERP, slot, i);
+		}
 
-		public int getPriorviolperp() { return priorviolperp; }
-		public void setPriorviolperp(int i) { this.priorviolperp=i; }
+		public int getPriorviolperp() { return pop.getFlag(AlcoholPopulation.PRIORVIOLPERP, slot); }
+		public void setPriorviolperp(int i) { pop.setFlag(AlcoholPopulation.PRIORVIOLPERP, slot, i); }
 
-		public int getLastviolperp() { return lastviolperp; }
-		public void setLastviolperp(int i) { this.lastviolperp=i; }
+		public int getLastviolperp() { return pop.getFlag(AlcoholPopulation.LASTVIOLPERP, slot); }
+		public void setLastviolperp(int i) { pop.setFlag(AlcoholPopulation.LASTVIOLPERP, slot, i); }
 		
 		// homicide
-		public double getProbHomicide() { return probHomicide; }
-		public void setProbHomicide(double i) { this.probHomicide=i; }
+		public double getProbHomicide() { return pop.probHomicide[slot]; }
+		public void setProbHomicide(double i) { pop.probHomicide[slot]=i; }
 		
-		public int getPothomicide() { return pothomicide; }
-		public void setPothomicide( int i) { this.pothomicide=i; }
+		public int getPothomicide() { return pop.getFlag(AlcoholPopulation.POTHOMICIDE, slot); }
+		public void setPothomicide( int i) { pop.setFlag(AlcoholPopulation.POTHOMICIDE, slot, i); }
 		
-		public int getHomicide() { return homicide; }
-		public void setHomicide(int i) { this.homicide=i; }
+		public int getHomicide() { return pop.getFlag(AlcoholPopulation.HOMICIDE, slot); }
+		public void setHomicide(int i) {
+			int homicide = getHomicide();
+			if (residence != null && i != homicide) { residence.addSum(AlcoholNeighborhood.SUM_HOMICIDE, i - homicide); }
+			pop.setFlag(AlcoholPopulation.HOMICIDE, slot, i);
+		}
 		
-		public int getAlcHomicide() { return alcHomicide; }
-		public void setAlcHomicide(int i) { this.alcHomicide=i; }
+		public int getAlcHomicide() { return pop.getFlag(AlcoholPopulation.ALCHOMICIDE, slot); }
+		public void setAlcHomicide(int i) {
+			int alcHomicide = getAlcHomicide();
+			if (residence != null && i != alcHomicide) { residence.addSum(AlcoholNeighborhood.SUM_ALCHOMICIDE, i - alcHomicide); }
+			pop.setFlag(AlcoholPopulation.ALCHOMICIDE, slot, i);
+		}
 		
 		// overall violence
-		public double getProbViolence() { return probViolence; }
-		public void setProbViolence( double i) { this.probViolence=i; }
-		
-		// probabilities of neighborhood residence
-		public double[] getPopDist() { return popDist; }
-		public void setPopDist( double[] i) { this.popDist = i; }
+		public double getProbViolence() { return pop.probViolence[slot]; }
+		public void setProbViolence( double i) { pop.probViolence[slot]=i; }
 
 } // end of Agent class
\ No newline at end of file
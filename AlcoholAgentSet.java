@@ -0,0 +1,147 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The agent set class is a list of agents in which each agent appears at most once, and which can find
+ * or remove an agent without searching the list. Every agent keeps its position in the sets it belongs to
+ * (AlcoholAgent.setIndex), one entry for each kind of set. An agent is in at most one set of each kind at a
+ * time (e.g., the agent list of one neighborhood), so one entry is enough for all the sets of that kind.
+ *
+ *     An agent is removed by moving the last agent of the list into its place. The order of the list is
+ * therefore changed only by removals (and swap()), and in the same way in every run with the same removals.
+ * Iterating backwards over the list while removing agents visits every agent once.
+ *
+ *     The set is not a java.util.List: it has only the operations that keep the agents' positions up to
+ * date, so operations such as sorting or inserting in the middle of the list cannot be used by mistake.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class AlcoholAgentSet implements Iterable<AlcoholAgent> {
+
+	// kinds of sets (index into AlcoholAgent.setIndex)
+	public static final int		ALL = 0;			// list of all agents
+	public static final int		HOOD = 1;			// neighborhood's list of agents
+	public static final int		TEMPHOOD = 2;		// neighborhood's temporary list of agents
+	public static final int		RACE = 3;			// list of agents of one race
+	public static final int		GENDER = 4;			// list of agents of one gender
+	public static final int		EDUCATION = 5;		// list of agents of one education level
+	public static final int		MORTALITY = 6;		// agents of one mortality stratum (see AlcoholMortality)
+	public static final int		NUM_KINDS = 7;
+
+	private final int			kind;
+	private AlcoholAgent[]		agents = new AlcoholAgent[16];
+	private int					size = 0;
+
+
+	// the AgentSet constructor
+	public AlcoholAgentSet(int kind) {
+		this.kind = kind;
+	}
+
+	// add()
+	// Add agent at end of list, if not already in the list
+	public boolean add(AlcoholAgent a) {
+		if (contains(a)) return false;
+		if (size == agents.length) agents = Arrays.copyOf(agents, 2 * size);
+		agents[size] = a;
+		a.setIndex[kind] = size;
+		size++;
+		return true;
+	}
+
+	// contains(), indexOf()
+	// Position of agent, read from the agent instead of searching the list
+	public boolean contains(AlcoholAgent a) {
+		return indexOf(a) >= 0;
+	}
+
+	public int indexOf(AlcoholAgent a) {
+		if (a == null) return -1;
+		int i = a.setIndex[kind];
+		return (i >= 0 && i < size && agents[i] == a) ? i : -1;
+	}
+
+	// remove()
+	// Remove agent by moving the last agent of the list into its place
+	public boolean remove(AlcoholAgent a) {
+		int i = indexOf(a);
+		if (i < 0) return false;
+		remove(i);
+		return true;
+	}
+
+	// Remove agent at position i, moving the last agent of the list into its place
+	public AlcoholAgent remove(int i) {
+		AlcoholAgent a = get(i);
+		AlcoholAgent last = agents[size - 1];
+		agents[size - 1] = null;
+		size--;
+		if (last != a) {
+			agents[i] = last;
+			last.setIndex[kind] = i;
+		}
+		a.setIndex[kind] = -1;
+		return a;
+	}
+
+	// swap()
+	// Exchange the agents at positions i and j (used when shuffling the list)
+	public void swap(int i, int j) {
+		AlcoholAgent a = get(i);
+		AlcoholAgent b = get(j);
+		agents[i] = b;
+		agents[j] = a;
+		b.setIndex[kind] = i;
+		a.setIndex[kind] = j;
+	}
+
+	public void clear() {
+		for (int i=0; i<size; i++) {
+			agents[i].setIndex[kind] = -1;
+			agents[i] = null;
+		}
+		size = 0;
+	}
+
+	// toList()
+	// Copy of the agents, in list order
+	public ArrayList<AlcoholAgent> toList() {
+		ArrayList<AlcoholAgent> list = new ArrayList<AlcoholAgent>(size);
+		for (int i=0; i<size; i++) { list.add(agents[i]); }
+		return list;
+	}
+
+	// iterator()
+	// Agents in list order; the set must not be changed while iterating
+	public Iterator<AlcoholAgent> iterator() {
+		return new Iterator<AlcoholAgent>() {
+			private int next = 0;
+			public boolean hasNext() { return next < size; }
+			public AlcoholAgent next() {
+				if (next >= size) throw new NoSuchElementException();
+				return agents[next++];
+			}
+		};
+	}
+
+	public AlcoholAgent get(int i) {
+		if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index " + i + ", size " + size);
+		return agents[i];
+	}
+
+	public int size() { return size; }
+	public boolean isEmpty() { return size == 0; }
+	public int getKind() { return kind; }
+
+}
@@ -0,0 +1,472 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The aggregator class computes the summary measures written to the output file at each time step.
+ * Each output column is declared once as a (filter, value) pair, i.e., the column is the average of the
+ * value among the agents (or neighborhoods) that pass the filter. All agent columns are computed together
+ * in a single pass over the agent list, instead of one pass per column.
+ *
+ *     Most columns are the share of a subgroup with some indicator (e.g., the proportion of black agents who
+ * died). Such indicators are declared as AgentIndicator values, and their columns with addRate(). Filters and
+ * indicators are bitsets indexed by population slot (see AlcoholPopulation), and each indicator column is
+ * counted 64 agents at a time with AND and Long.bitCount, instead of adding up the indicator for every agent
+ * of every subgroup. Filters and indicators that are flags of the population store (withFlag(), flag()) use
+ * the store's bitsets as they are; the others are evaluated once per agent in the pass over the agents and
+ * packed into bitsets, and filters combined by both() are the AND of their parts. Indicators that are not yet
+ * set hold -1, and are kept in a second bitset that is subtracted, so the columns are exactly the means of
+ * the values.
+ *
+ *     Tallies (e.g., AlcoholDrinkingCube) are given every agent in the same pass, and statistic columns are
+ * then calculated from them, for columns that are easier to count in one table than to declare one by one.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AlcoholAggregator {
+
+	// filter and value definitions for agent columns
+	public interface AgentFilter {
+		public boolean include(AlcoholAgent a);
+	}
+
+	public interface AgentValue {
+		public double value(AlcoholAgent a);
+	}
+
+	// indicator values (1 yes, 0 no, -1 not yet set) for agent columns
+	public interface AgentIndicator {
+		public int value(AlcoholAgent a);
+	}
+
+	// filter and value definitions for neighborhood columns
+	public interface HoodFilter {
+		public boolean include(AlcoholNeighborhood nb);
+	}
+
+	public interface HoodValue {
+		public double value(AlcoholNeighborhood nb);
+	}
+
+	// tallies filled in the pass over the agents, and columns calculated from them after the pass
+	public interface AgentTally {
+		public void clear();
+		public void add(AlcoholAgent a);
+	}
+
+	public interface Statistic {
+		public double value();
+	}
+
+	// filters that include all agents / all neighborhoods
+	public static final AgentFilter ALL_AGENTS = new AgentFilter() {
+		public boolean include(AlcoholAgent a) { return true; }
+	};
+	public static final HoodFilter ALL_HOODS = new HoodFilter() {
+		public boolean include(AlcoholNeighborhood nb) { return true; }
+	};
+
+	// withFlag(), flag()
+	// Filter of the agents with a flag of the population store equal to value (1 or 0), and indicator holding
+	// the flag (e.g., AlcoholPopulation.BLACK)
+	public static AgentFilter withFlag(int flag, int value) {
+		return new FlagFilter(flag, value);
+	}
+
+	public static AgentIndicator flag(int flag) {
+		return new FlagIndicator(flag);
+	}
+
+	private static class FlagFilter implements AgentFilter {
+		final int flag, value;
+		FlagFilter(int flag, int value) { this.flag = flag; this.value = value; }
+		public boolean include(AlcoholAgent a) { return a.getPopulation().getFlag(flag, a.getSlot()) == value; }
+		public boolean equals(Object o) { return o instanceof FlagFilter && ((FlagFilter) o).flag == flag && ((FlagFilter) o).value == value; }
+		public int hashCode() { return 2 * flag + value; }
+	}
+
+	private static class FlagIndicator implements AgentIndicator {
+		final int flag;
+		FlagIndicator(int flag) { this.flag = flag; }
+		public int value(AlcoholAgent a) { return a.getPopulation().getFlag(flag, a.getSlot()); }
+		public boolean equals(Object o) { return o instanceof FlagIndicator && ((FlagIndicator) o).flag == flag; }
+		public int hashCode() { return flag; }
+	}
+
+	// both()
+	// Combine two filters, i.e., agents must pass both filters (evaluated from the results of the two filters)
+	public static AgentFilter both(final AgentFilter f1, final AgentFilter f2) {
+		return new Both(f1, f2);
+	}
+
+	private static class Both implements AgentFilter {
+		final AgentFilter f1, f2;
+		Both(AgentFilter f1, AgentFilter f2) { this.f1 = f1; this.f2 = f2; }
+		public boolean include(AlcoholAgent a) { return f1.include(a) && f2.include(a); }
+	}
+
+	// column types
+	private static final int	AGENT_MEAN = 0;		// mean of value among agents passing filter
+	private static final int	AGENT_COUNT = 1;	// number of agents passing filter
+	private static final int	HOOD_MEAN = 2;		// mean of value among neighborhoods passing filter
+	private static final int	AGENT_RATE = 3;		// mean of indicator among agents passing filter
+	private static final int	STATISTIC = 4;		// statistic calculated after the pass over the agents
+
+	// column declarations, in output order
+	private ArrayList<String>		columnNames = new ArrayList<String>();
+	private ArrayList<Integer>		columnTypes = new ArrayList<Integer>();
+	private ArrayList<Integer>		columnFilters = new ArrayList<Integer>();	// index into agentFilters or hoodFilters
+	private ArrayList<Object>		columnValues = new ArrayList<Object>();		// AgentValue, AgentIndicator, HoodValue or Statistic
+	private ArrayList<AgentTally>	tallies = new ArrayList<AgentTally>();
+
+	// distinct filters, so that each filter is evaluated once per agent no matter how many columns use it
+	private ArrayList<AgentFilter>	agentFilters = new ArrayList<AgentFilter>();
+	private ArrayList<HoodFilter>	hoodFilters = new ArrayList<HoodFilter>();
+	private ArrayList<AgentIndicator> indicators = new ArrayList<AgentIndicator>();
+
+	// population store whose slots index the bitsets, and whose flags are used by flag filters and indicators
+	private AlcoholPopulation		population;
+
+	// compiled form of the agent columns, built on first sweep after columns are declared
+	private boolean					compiled = false;
+	private AgentFilter[]			filterArray;
+	private int[]					firstPart, secondPart;	// filters combined by both() (-1 if not combined)
+	private int[]					evaluated;			// filters evaluated agent by agent (not flags, not combined)
+	private AgentIndicator[]		indicatorArray;
+	private int[]					indicatorFlag;		// flag of each indicator (-1 if not a flag)
+	private int[]					evaluatedIndicators;	// indicators evaluated agent by agent (not flags)
+	private int[]					columnIndicator;	// indicator index of each column (-1 if not an indicator column)
+	private int[]					agentCols;			// column index of each agent mean column
+	private int[]					agentColFilter;		// filter index of each agent mean column
+	private AgentValue[]			agentColValue;		// value of each agent mean column
+	private long[]					filterCount;		// number of agents passing each filter in the last sweep
+	private double[]				sums;				// sum of each agent mean column in the last sweep
+
+	// bitsets of the last sweep, bit s for population slot s: agents in the list, agents passing each filter,
+	// and agents with each indicator (not a flag) equal to 1 (yes) or -1 (not yet set)
+	private long[]					memberBits = new long[0];
+	private long[][]				filterBits = new long[0][];
+	private long[][]				yesBits = new long[0][];
+	private long[][]				unsetBits = new long[0][];
+	private boolean[]				anyUnset;
+
+	// results of the last sweep
+	private double[]				results = new double[0];
+
+
+	// the Aggregator constructor
+	public AlcoholAggregator(AlcoholPopulation population) {
+		this.population = population;
+	}
+
+	// declare a column holding the mean of value among agents passing filter
+	public int addMean(String name, AgentFilter f, AgentValue v) {
+		return addColumn(name, AGENT_MEAN, agentFilterIndex(f), v);
+	}
+
+	// declare a column holding the rate of an indicator (the share with value 1) among agents passing filter
+	public int addRate(String name, AgentFilter f, AgentIndicator v) {
+		return addColumn(name, AGENT_RATE, agentFilterIndex(f), v);
+	}
+
+	// declare a column holding the number of agents passing filter
+	public int addCount(String name, AgentFilter f) {
+		return addColumn(name, AGENT_COUNT, agentFilterIndex(f), null);
+	}
+
+	// declare a column holding a statistic calculated from tallies (see addTally)
+	public int addStatistic(String name, Statistic s) {
+		return addColumn(name, STATISTIC, -1, s);
+	}
+
+	// declare a tally to be given every agent in each sweep
+	public void addTally(AgentTally t) {
+		if (!tallies.contains(t)) tallies.add(t);
+	}
+
+	// declare a column holding the mean of value among neighborhoods passing filter
+	public int addHoodMean(String name, HoodFilter f, HoodValue v) {
+		return addColumn(name, HOOD_MEAN, hoodFilterIndex(f), v);
+	}
+
+	private int addColumn(String name, int type, int filter, Object value) {
+		columnNames.add(name);
+		columnTypes.add(type);
+		columnFilters.add(filter);
+		columnValues.add(value);
+		compiled = false;
+		return columnNames.size() - 1;
+	}
+
+	private int agentFilterIndex(AgentFilter f) {
+		int i = agentFilters.indexOf(f);
+		if (i < 0) {
+			// filters combined by both() come after their parts, so the parts are evaluated first
+			if (f instanceof Both) {
+				agentFilterIndex(((Both) f).f1);
+				agentFilterIndex(((Both) f).f2);
+			}
+			agentFilters.add(f);
+			i = agentFilters.size() - 1;
+		}
+		return i;
+	}
+
+	private int indicatorIndex(AgentIndicator v) {
+		int i = indicators.indexOf(v);
+		if (i < 0) {
+			indicators.add(v);
+			i = indicators.size() - 1;
+		}
+		return i;
+	}
+
+	private int hoodFilterIndex(HoodFilter f) {
+		int i = hoodFilters.indexOf(f);
+		if (i < 0) {
+			hoodFilters.add(f);
+			i = hoodFilters.size() - 1;
+		}
+		return i;
+	}
+
+	// compile()
+	// Flatten the agent mean columns into arrays used in the inner loop of sweep()
+	private void compile() {
+		filterArray = agentFilters.toArray(new AgentFilter[agentFilters.size()]);
+		firstPart = new int[filterArray.length];
+		secondPart = new int[filterArray.length];
+		int numEvaluated = 0;
+		for (int f=0; f<filterArray.length; f++) {
+			firstPart[f] = -1;
+			secondPart[f] = -1;
+			if (filterArray[f] instanceof Both) {
+				firstPart[f] = agentFilters.indexOf(((Both) filterArray[f]).f1);
+				secondPart[f] = agentFilters.indexOf(((Both) filterArray[f]).f2);
+			}
+			else if (filterArray[f] != ALL_AGENTS && !(filterArray[f] instanceof FlagFilter)) numEvaluated += 1;
+		}
+		evaluated = new int[numEvaluated];
+		int e = 0;
+		for (int f=0; f<filterArray.length; f++) {
+			if (firstPart[f] < 0 && filterArray[f] != ALL_AGENTS && !(filterArray[f] instanceof FlagFilter)) evaluated[e++] = f;
+		}
+		filterCount = new long[filterArray.length];
+
+		columnIndicator = new int[columnTypes.size()];
+		for (int c=0; c<columnTypes.size(); c++) {
+			columnIndicator[c] = -1;
+			if (columnTypes.get(c) == AGENT_RATE) columnIndicator[c] = indicatorIndex((AgentIndicator)columnValues.get(c));
+		}
+		indicatorArray = indicators.toArray(new AgentIndicator[indicators.size()]);
+		indicatorFlag = new int[indicatorArray.length];
+		int numEvaluatedIndicators = 0;
+		for (int v=0; v<indicatorArray.length; v++) {
+			indicatorFlag[v] = (indicatorArray[v] instanceof FlagIndicator) ? ((FlagIndicator) indicatorArray[v]).flag : -1;
+			if (indicatorFlag[v] < 0) numEvaluatedIndicators += 1;
+		}
+		evaluatedIndicators = new int[numEvaluatedIndicators];
+		e = 0;
+		for (int v=0; v<indicatorArray.length; v++) {
+			if (indicatorFlag[v] < 0) evaluatedIndicators[e++] = v;
+		}
+		anyUnset = new boolean[indicatorArray.length];
+
+		int numAgentCols = 0;
+		for (int c=0; c<columnTypes.size(); c++) {
+			if (columnTypes.get(c) == AGENT_MEAN) numAgentCols += 1;
+		}
+		agentCols = new int[numAgentCols];
+		agentColFilter = new int[numAgentCols];
+		agentColValue = new AgentValue[numAgentCols];
+		int k = 0;
+		for (int c=0; c<columnTypes.size(); c++) {
+			if (columnTypes.get(c) == AGENT_MEAN) {
+				agentCols[k] = c;
+				agentColFilter[k] = columnFilters.get(c);
+				agentColValue[k] = (AgentValue)columnValues.get(c);
+				k += 1;
+			}
+		}
+		sums = new double[numAgentCols];
+
+		results = new double[columnNames.size()];
+		compiled = true;
+	}
+
+	// sweep()
+	// Compute all columns: one pass over the agents, bitset operations for the filters and indicators, and one
+	// pass over the neighborhoods
+	public void sweep(AlcoholAgentSet agents, List<AlcoholNeighborhood> hoods) {
+		if (!compiled) compile();
+
+		int numFilters = filterArray.length;
+		int numIndicators = indicatorArray.length;
+		int numAgentCols = agentCols.length;
+		int numWords = population.getNumWords();
+		if (memberBits.length < numWords) memberBits = new long[numWords];
+		Arrays.fill(memberBits, 0, numWords, 0L);
+		filterBits = clearBits(filterBits, numFilters, numWords);
+		yesBits = clearBits(yesBits, numIndicators, numWords);
+		unsetBits = clearBits(unsetBits, numIndicators, numWords);
+		Arrays.fill(sums, 0.0);
+		int numTallies = tallies.size();
+		for (int t=0; t<numTallies; t++) { tallies.get(t).clear(); }
+
+		// pass over the agents: agents in the list, and filters and indicators that are not flags, packed into
+		// bitsets at the agent's slot
+		int numEvaluated = evaluated.length;
+		int numEvaluatedIndicators = evaluatedIndicators.length;
+		for (int i=0; i<agents.size(); i++) {
+			AlcoholAgent a = agents.get(i);
+			int s = a.getSlot();
+			int w = s >>> 6;
+			long bit = 1L << s;
+			memberBits[w] |= bit;
+			for (int e=0; e<numEvaluated; e++) {
+				int f = evaluated[e];
+				if (filterArray[f].include(a)) filterBits[f][w] |= bit;
+			}
+			for (int e=0; e<numEvaluatedIndicators; e++) {
+				int v = evaluatedIndicators[e];
+				int x = indicatorArray[v].value(a);
+				if (x == 1) { yesBits[v][w] |= bit; }
+				else if (x == -1) { unsetBits[v][w] |= bit; }
+				else if (x != 0) { throw new IllegalStateException("indicator value " + x + " is not 1, 0 or -1"); }
+			}
+			for (int t=0; t<numTallies; t++) { tallies.get(t).add(a); }
+		}
+
+		// all-agent and flag filters from the agents in the list, and filters combined by both() from their parts
+		// (which come before them)
+		for (int f=0; f<numFilters; f++) {
+			long[] bits = filterBits[f];
+			if (firstPart[f] >= 0) {
+				long[] b1 = filterBits[firstPart[f]], b2 = filterBits[secondPart[f]];
+				for (int w=0; w<numWords; w++) { bits[w] = b1[w] & b2[w]; }
+			}
+			else if (filterArray[f] == ALL_AGENTS) {
+				System.arraycopy(memberBits, 0, bits, 0, numWords);
+			}
+			else if (filterArray[f] instanceof FlagFilter) {
+				int flag = ((FlagFilter) filterArray[f]).flag;
+				if (((FlagFilter) filterArray[f]).value == 1) {
+					for (int w=0; w<numWords; w++) { bits[w] = memberBits[w] & population.getFlagWord(flag, w); }
+				}
+				else {
+					for (int w=0; w<numWords; w++) {
+						bits[w] = memberBits[w] & ~population.getFlagWord(flag, w) & ~population.getUnsetWord(flag, w);
+					}
+				}
+			}
+			filterCount[f] = bitCount(bits, numWords);
+		}
+		for (int e=0; e<numEvaluatedIndicators; e++) {
+			int v = evaluatedIndicators[e];
+			anyUnset[v] = bitCount(unsetBits[v], numWords) > 0;
+		}
+
+		// agent mean columns: values added up over the agents passing the filter
+		if (numAgentCols > 0) {
+			for (int i=0; i<agents.size(); i++) {
+				AlcoholAgent a = agents.get(i);
+				int s = a.getSlot();
+				for (int k=0; k<numAgentCols; k++) {
+					if ((filterBits[agentColFilter[k]][s >>> 6] & (1L << s)) != 0) sums[k] += agentColValue[k].value(a);
+				}
+			}
+		}
+		for (int k=0; k<numAgentCols; k++) {
+			results[agentCols[k]] = sums[k] / (double) filterCount[agentColFilter[k]];
+		}
+
+		// indicator columns, statistics, agent counts and neighborhood columns
+		for (int c=0; c<columnTypes.size(); c++) {
+			int type = columnTypes.get(c);
+			if (type == AGENT_RATE) {
+				long[] in = filterBits[columnFilters.get(c)];
+				int v = columnIndicator[c];
+				long sum;
+				if (indicatorFlag[v] >= 0) {
+					sum = flagCount(in, indicatorFlag[v], numWords);
+				}
+				else {
+					sum = andCount(in, yesBits[v], numWords);
+					if (anyUnset[v]) sum -= andCount(in, unsetBits[v], numWords);
+				}
+				results[c] = (double) sum / (double) filterCount[columnFilters.get(c)];
+			}
+			else if (type == STATISTIC) {
+				results[c] = ((Statistic)columnValues.get(c)).value();
+			}
+			else if (type == AGENT_COUNT) {
+				results[c] = (double) filterCount[columnFilters.get(c)];
+			}
+			else if (type == HOOD_MEAN) {
+				HoodFilter f = hoodFilters.get(columnFilters.get(c));
+				HoodValue v = (HoodValue)columnValues.get(c);
+				int num = 0;
+				double sum = 0.0;
+				for (int j=0; j<hoods.size(); j++) {
+					AlcoholNeighborhood nb = hoods.get(j);
+					if (f.include(nb)) {
+						num += 1;
+						sum += v.value(nb);
+					}
+				}
+				results[c] = sum / (double) num;
+			}
+		}
+	}
+
+	// clearBits()
+	// Bitsets of numWords words, all bits 0 (reusing the bitsets of the last sweep where possible)
+	private static long[][] clearBits(long[][] bits, int numSets, int numWords) {
+		if (bits.length != numSets || (numSets > 0 && bits[0].length < numWords)) {
+			bits = new long[numSets][numWords];
+		}
+		for (int s=0; s<numSets; s++) { Arrays.fill(bits[s], 0, numWords, 0L); }
+		return bits;
+	}
+
+	// bitCount(), andCount()
+	// Number of bits set in a bitset, and in the intersection of two bitsets
+	private static long bitCount(long[] a, int numWords) {
+		long n = 0;
+		for (int w=0; w<numWords; w++) { n += Long.bitCount(a[w]); }
+		return n;
+	}
+
+	private static long andCount(long[] a, long[] b, int numWords) {
+		long n = 0;
+		for (int w=0; w<numWords; w++) { n += Long.bitCount(a[w] & b[w]); }
+		return n;
+	}
+
+	// flagCount()
+	// Sum of a flag of the population store over the agents of a bitset (agents with the flag not yet set
+	// count -1)
+	private long flagCount(long[] a, int flag, int numWords) {
+		long n = 0;
+		for (int w=0; w<numWords; w++) { n += Long.bitCount(a[w] & population.getFlagWord(flag, w)); }
+		if (population.canBeUnset(flag)) {
+			for (int w=0; w<numWords; w++) { n -= Long.bitCount(a[w] & population.getUnsetWord(flag, w)); }
+		}
+		return n;
+	}
+
+	// getters
+	public int getNumColumns() { return columnNames.size(); }
+	public String getColumnName(int c) { return columnNames.get(c); }
+	public double getValue(int c) { return results[c]; }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The cell grid class represents the physical space where agents reside. Each cell is identified by its
+ * index (y * width + x), and the attributes of all cells are held in primitive arrays indexed by cell, instead
+ * of one object per cell. Characteristics of the neighborhood in which a cell is located are not copied into
+ * the cell; they are looked up through the cell's neighborhood ID.
+ *
+ *     Any number of agents may be located on a cell. The agents on each cell are kept as a linked list of
+ * population slots (first agent of each cell, and next and previous agent of each slot), so an agent is
+ * added, moved, or removed without searching, and the memory used grows with the number of cells and agents
+ * rather than with agents per cell.
+ *
+ *     The victim indicators are reset at the start of each time step. Rather than visiting every cell, the
+ * grid keeps an epoch counter: a cell's indicator is set only if it was stamped with the current epoch, so
+ * resetting all cells is done by advancing the epoch.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.Arrays;
+
+public class AlcoholCellGrid {
+
+	private int			xSize, ySize;		// size of the physical space
+
+	private short[]		hoodID;				// ID number of neighborhood in which cell is located (-1 none)
+	private int[]		potVictim;			// epoch at which a potential victim was present on cell
+	private int[]		realVictim;			// epoch at which a confirmed victim was present on cell
+	private int[]		firstSlot;			// population slot of first agent located on cell (-1 none)
+	private int[]		nextSlot;			// next agent on same cell, by slot (-1 none)
+	private int[]		prevSlot;			// previous agent on same cell, by slot (-1 first)
+	private int[]		cellOf;				// cell where agent is located, by slot (-1 none)
+	private int			epoch;				// current time step's epoch
+
+
+	// the CellGrid constructor
+	public AlcoholCellGrid(int xSize, int ySize) {
+		this.xSize = xSize;
+		this.ySize = ySize;
+		hoodID = new short[xSize*ySize];
+		potVictim = new int[xSize*ySize];
+		realVictim = new int[xSize*ySize];
+		firstSlot = new int[xSize*ySize];
+		nextSlot = new int[0];
+		prevSlot = new int[0];
+		cellOf = new int[0];
+		Arrays.fill(hoodID, (short) -1);
+		Arrays.fill(firstSlot, -1);
+		epoch = 1;
+	}
+
+	// resetCellVars()
+	// Reset victim indicators of all cells at start of each time step
+	public void resetCellVars() {
+		epoch += 1;
+		if (epoch == Integer.MAX_VALUE) {
+			Arrays.fill(potVictim, 0);
+			Arrays.fill(realVictim, 0);
+			epoch = 1;
+		}
+	}
+
+	// placeAgent()
+	// Locate agent in population slot on cell, removing it from the cell where it was located
+	public void placeAgent(int slot, int cell) {
+		if (slot >= cellOf.length) growSlots(slot + 1);
+		if (cellOf[slot] == cell) return;
+		if (cellOf[slot] >= 0) removeAgent(slot);
+		int first = firstSlot[cell];
+		nextSlot[slot] = first;
+		prevSlot[slot] = -1;
+		if (first >= 0) prevSlot[first] = slot;
+		firstSlot[cell] = slot;
+		cellOf[slot] = cell;
+	}
+
+	// removeAgent()
+	// Remove agent in population slot from the cell where it is located
+	public void removeAgent(int slot) {
+		if (slot >= cellOf.length || cellOf[slot] < 0) return;
+		int next = nextSlot[slot], prev = prevSlot[slot];
+		if (prev >= 0) nextSlot[prev] = next; else firstSlot[cellOf[slot]] = next;
+		if (next >= 0) prevSlot[next] = prev;
+		nextSlot[slot] = -1;
+		prevSlot[slot] = -1;
+		cellOf[slot] = -1;
+	}
+
+	private void growSlots(int n) {
+		int old = cellOf.length;
+		n = Math.max(n, old * 2);
+		nextSlot = Arrays.copyOf(nextSlot, n);
+		prevSlot = Arrays.copyOf(prevSlot, n);
+		cellOf = Arrays.copyOf(cellOf, n);
+		Arrays.fill(nextSlot, old, n, -1);
+		Arrays.fill(prevSlot, old, n, -1);
+		Arrays.fill(cellOf, old, n, -1);
+	}
+
+	// cell index and coordinates
+	public int index(int x, int y) { return y*xSize + x; }
+	public int getX(int cell) { return cell % xSize; }
+	public int getY(int cell) { return cell / xSize; }
+
+	///////////////////////////// setters and getters
+
+	public int getXSize() { return xSize; }
+	public int getYSize() { return ySize; }
+
+	public int getHoodID(int cell) { return hoodID[cell]; }
+	public void setHoodID(int cell, int ID) {
+		if (ID < -1 || ID > Short.MAX_VALUE) throw new IllegalArgumentException("Neighborhood ID out of range: " + ID);
+		hoodID[cell] = (short) ID;
+	}
+
+	public int getPotVictim(int cell) { return potVictim[cell] == epoch ? 1 : 0; }
+	public void setPotVictim(int cell, int i) { potVictim[cell] = (i == 1) ? epoch : 0; }
+
+	public int getRealVictim(int cell) { return realVictim[cell] == epoch ? 1 : 0; }
+	public void setRealVictim(int cell, int i) { realVictim[cell] = (i == 1) ? epoch : 0; }
+
+	// agents located on cell: getFirstAgent(cell), then getNextAgent(slot) until -1
+	public int getFirstAgent(int cell) { return firstSlot[cell]; }
+	public int getNextAgent(int slot) { return nextSlot[slot]; }
+	public int getCell(int slot) { return (slot < cellOf.length) ? cellOf[slot] : -1; }
+
+}
@@ -0,0 +1,495 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The coefficients class holds the intercepts and coefficients of the model's logit equations, so that
+ * they can be calibrated without changing the code. The values below are the defaults; a coefficient file
+ * (see load) replaces any of them. The file is plain text, one value per line, "equation.term = value"
+ * (e.g., "homicide.intercept = -15.0"), with "#" starting a comment, and its first entry must be
+ * "version = " the version of this class. The file is read again at the start of each model run, so
+ * the coefficients can be changed between runs of a sweep without restarting.
+ *
+ *     Each equation is compiled into flat arrays: the logit is the intercept plus, for each term in the
+ * order it was defined, the coefficient times the value of its covariate (or the product of two covariates,
+ * for an interaction "a*b"). The covariates are given by position in a covariate vector (e.g.,
+ * AlcoholAgent.V_NAMES), so the terms are summed in the same order as the equations were written in the code.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+public class AlcoholCoefficients {
+
+	public static final int		VERSION = 1;			// version of the coefficient file
+
+	// logit equation compiled to flat arrays
+	public static class Equation {
+		private final String	name;
+		private final double	intercept;
+		private final double[]	coef;					// coefficient of each term
+		private final int[]		first, second;			// covariates of each term (second -1 if not an interaction)
+
+		Equation(String name, double intercept, double[] coef, int[] first, int[] second) {
+			this.name = name;
+			this.intercept = intercept;
+			this.coef = coef;
+			this.first = first;
+			this.second = second;
+		}
+
+		// logit()
+		// Value of equation for covariate vector x
+		public double logit(double[] x) {
+			double logit = intercept;
+			for (int k=0; k<coef.length; k++) {
+				if (second[k] < 0) { logit += coef[k]*x[first[k]]; }
+				else { logit += coef[k]*x[first[k]]*x[second[k]]; }
+			}
+			return logit;
+		}
+
+		public String getName() { return name; }
+	}
+
+	// definition of an equation: its covariate vector and its terms, in order of evaluation
+	private static class Definition {
+		String		name;
+		String[]	covariates;
+		String[]	terms;
+	}
+
+	private LinkedHashMap<String, Double>		values = new LinkedHashMap<String, Double>();	// by "equation.term"
+	private ArrayList<Definition>				definitions = new ArrayList<Definition>();
+	private LinkedHashMap<String, Equation>		equations = new LinkedHashMap<String, Equation>();
+	private String								source = "defaults";
+
+
+	// the Coefficients constructor
+	// Default coefficients
+	public AlcoholCoefficients() {
+		defineDefaults();
+		compile();
+	}
+
+	// load()
+	// Default coefficients, replaced by those in the coefficient file
+	public static AlcoholCoefficients load(String filename) {
+		AlcoholCoefficients c = new AlcoholCoefficients();
+		BufferedReader in;
+		try {
+			in = new BufferedReader(new FileReader(filename));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot open coefficient file " + filename);
+		}
+		try {
+			boolean versionRead = false;
+			int lineNum = 0;
+			String line;
+			while ((line = in.readLine()) != null) {
+				lineNum += 1;
+				int comment = line.indexOf('#');
+				if (comment >= 0) line = line.substring(0, comment);
+				line = line.trim();
+				if (line.length() == 0) continue;
+				int eq = line.indexOf('=');
+				if (eq < 0) throw new IllegalArgumentException(filename + " line " + lineNum + ": expected key = value");
+				String key = line.substring(0, eq).trim();
+				double value;
+				try {
+					value = Double.parseDouble(line.substring(eq + 1).trim());
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException(filename + " line " + lineNum + ": bad number for " + key);
+				}
+				if (!versionRead) {
+					if (!key.equals("version") || value != VERSION) {
+						throw new IllegalArgumentException(filename + ": coefficient file must start with version = " + VERSION);
+					}
+					versionRead = true;
+				}
+				else if (!c.values.containsKey(key)) {
+					throw new IllegalArgumentException(filename + " line " + lineNum + ": unknown coefficient " + key);
+				}
+				else c.values.put(key, value);
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot read coefficient file " + filename);
+		} finally {
+			try { in.close(); } catch (IOException e) { }
+		}
+		c.source = filename;
+		c.compile();
+		return c;
+	}
+
+	// write()
+	// Write all coefficients to a coefficient file
+	public void write(String filename) throws IOException {
+		PrintWriter out = new PrintWriter(new File(filename));
+		out.println("# Alcohol ABM coefficients (written from " + source + ")");
+		out.println("version = " + VERSION);
+		String lastEquation = "";
+		for (String key : values.keySet()) {
+			String equation = key.substring(0, key.indexOf('.'));
+			if (!equation.equals(lastEquation)) out.println();
+			lastEquation = equation;
+			out.println(key + " = " + values.get(key));
+		}
+		out.close();
+		if (out.checkError()) throw new IOException("Cannot write coefficient file " + filename);
+	}
+
+	// equation()
+	// Compiled equation by name
+	public Equation equation(String name) {
+		Equation e = equations.get(name);
+		if (e == null) throw new IllegalArgumentException("No equation " + name);
+		return e;
+	}
+
+	// get(), set()
+	// Single coefficient by key ("equation.term"); set recompiles the equations
+	public double get(String key) {
+		Double v = values.get(key);
+		if (v == null) throw new IllegalArgumentException("No coefficient " + key);
+		return v;
+	}
+
+	public void set(String key, double value) {
+		if (!values.containsKey(key)) throw new IllegalArgumentException("No coefficient " + key);
+		values.put(key, value);
+		compile();
+	}
+
+	public String getSource() { return source; }
+
+	// compile()
+	// Compile each equation into flat arrays of coefficients and covariate positions
+	private void compile() {
+		equations.clear();
+		for (int d=0; d<definitions.size(); d++) {
+			Definition def = definitions.get(d);
+			int n = def.terms.length;
+			double[] coef = new double[n];
+			int[] first = new int[n];
+			int[] second = new int[n];
+			for (int k=0; k<n; k++) {
+				coef[k] = values.get(def.name + "." + def.terms[k]);
+				String[] vars = def.terms[k].split("\\*");
+				first[k] = covariate(def, vars[0]);
+				second[k] = (vars.length > 1) ? covariate(def, vars[1]) : -1;
+			}
+			equations.put(def.name, new Equation(def.name, values.get(def.name + ".intercept"), coef, first, second));
+		}
+	}
+
+	private static int covariate(Definition def, String name) {
+		for (int i=0; i<def.covariates.length; i++) {
+			if (def.covariates[i].equals(name)) return i;
+		}
+		throw new IllegalArgumentException("Equation " + def.name + " has no covariate " + name);
+	}
+
+	// define()
+	// Define an equation; coefficients are the intercept followed by the coefficient of each term
+	private void define(String name, String[] covariates, String[] terms, double... coefficients) {
+		if (coefficients.length != terms.length + 1) throw new IllegalArgumentException("Equation " + name + ": wrong number of coefficients");
+		Definition def = new Definition();
+		def.name = name;
+		def.covariates = covariates;
+		def.terms = terms;
+		definitions.add(def);
+		values.put(name + ".intercept", coefficients[0]);
+		for (int k=0; k<terms.length; k++) { values.put(name + "." + terms[k], coefficients[k+1]); }
+	}
+
+	// scalar()
+	// Define a coefficient that is not part of a logit equation
+	private void scalar(String key, double value) {
+		values.put(key, value);
+	}
+
+
+	/////////////////////////// DEFAULT COEFFICIENTS
+
+	private void defineDefaults() {
+		String[] V = AlcoholAgent.V_NAMES;
+		String[] D = AlcoholAgent.D_NAMES;
+		String[] M = AlcoholAgent.M_NAMES;
+		String[] N = AlcoholNeighborhood.COVARIATE_NAMES;
+
+		/////////////// VIOLENCE -- INDIVIDUAL LEVEL
+
+		// homicide
+		// 12.5.2014 -- calibration: increase intercept from -12.8404 to -10.5, back to -12.25
+		//							 increase Inc1 coefficient from 2.1891 to 3.35, increase Age1 coefficient from 1.6775 to 2.5
+		// logitPhom = (double) -12.25 + (3.35*inc1) + (1.3085*inc2) + (-0.0753*inc3) +
+							// (1.8814*gender) + (2.5*age1) + (1.3167*age2) + (0.8021*age3) +
+							// (0.6588*age4) + (0.2296*age5);
+		// calibration: decrease intercept from -15.35 to -16.75
+		// 12.21.2015 -- calibration: trying equation above.
+		// 12.28.2015 -- note: equation above is bad, switching back.
+		// 12.28.2015 -- calibration: decrease intercept from -16.75 to -18.00
+		// 12.30.2015 -- calibration: decrease intercept from -18.00 to -22.00
+		// 1.4.2015 -- calibration: decrease intercept from -22 to -30
+		// 1.5.2015 -- calibration: decrease intercept from -30 to -40
+		// 1.6.2016 -- calibration: increase intercept from -40 to -35
+		// 1.7.2016 -- calibration: increase intercept from -35 to -30
+		// 1.11.2016 -- calibration: increase intercept from -30 to -15
+		define("homicide", V,
+				new String[] { "inc1", "inc2", "inc3", "gender", "age1", "age2", "age3", "age4", "age5" },
+				-15.00, 4.95, 3.15, 0.10, 1.8814, 3.0, 1.3167, 0.8021, 0.6588, 0.2296);
+		// increase probability of homicide if history of violence and/or heavy drinker
+		// and decrease probability of homicide if no history of violence and/or not heavy drinker
+		// 3.12.15 -- 50% increase for prior violence instead of 25%
+		//			  100% increase for heavy drinker instead of 20%
+		scalar("homicide.priorviolFactor", 1.50);
+		scalar("homicide.noPriorviolFactor", 0.75);
+		scalar("homicide.heavyDrinkerFactor", 2.0);
+		scalar("homicide.notHeavyDrinkerFactor", 0.80);
+
+		// non-fatal violent victimization
+		// 11.20.2014 -- revised equation to change reference groups
+		// calibration: decrease intercept from -3.8974 to -5.50
+		//				increase Lesshs coefficient from 0.8145 to 1.45
+		//				increase HS coefficient from -0.7195 to 0.90
+		//				increase Inc1 coefficient from 0.2534 to 1.75
+		//				increase Inc2 coefficient from 0.20 to 0.55
+		//				increase Age1 coefficient from 1.7068 to 2.2
+		// calibration: decrease intercept from -5.80 to -6.75
+		// 12.21.15 -- increase intercept from -6.75 to -5.80
+		// 12.30.15 -- increase intercept from -5.80 to -5.00
+		// 1.4.16 -- decrease intercept from -5.00 to -5.50
+		// 1.5.16 -- decrease intercept from -5.50 to -5.75
+		// 1.6.16 -- increase intercept from -5.75 to -5.65
+		// 1.7.16 -- decrease intercept from -5.65 to -5.70
+		define("violvict", V,
+				new String[] { "gender", "age1", "age2", "age3", "age4", "age5", "lesshs", "hs", "inc1", "inc2", "inc3",
+							   "lightDrinker", "heavyDrinker", "priorviolvict", "priorviolperp" },
+				-5.70, 0.2796, 2.2, 0.85, 0.5763, 0.0143, -0.17, 1.45, 0.90, 1.75, 0.55, 0.128,
+				-0.6113, 0.6341, 1.614, 0.4095);
+
+		// violent perpetration
+		// 11.20.2014 -- revised equation to change reference categories
+		// calibration: decrease intercept from -6.2805 to -6.75 to -7.50
+		//				increase coefficient for Age2 from 0.0985 to 1.25
+		//				increase coefficient for Age3 from -0.3876 to 0.15
+		//				increase coefficient for Lesshs from 0.3332 to 0.90 to 1.00
+		//				increase coefficient for HS from 0.2902 to 0.65
+		// 				increase coefficient for Inc1 from -0.1394 to 0.75 to 0.95
+		//				increase coefficient for Inc2 from -0.3918 to 0.40 to 0.55
+		// 				increase coefficient for Inc3 from -0.3904 to 0.125
+		//				increase coefficient for priorviolperp from 1.0548 to 1.25
+		// 12.21.2015   increase intercept from -8.50 to -7.50
+		// 1.5.2016     decrease intercept from -7.50 to -7.60
+		// 1.6.2016     decrease intercept from -7.60 to -7.70
+		// 1.7.2016     decrease intercept from -7.70 to -7.80
+		// 1.11.2016    decrease intercept from -7.80 to 8.00
+		define("violperp", V,
+				new String[] { "gender", "age1", "age2", "age3", "age4", "age5", "lesshs", "hs", "inc1", "inc2", "inc3",
+							   "lightDrinker", "heavyDrinker", "priorviolvict", "priorviolperp" },
+				-8.00, 1.0901, 1.1434, 1.25, 0.15, -0.9339, -2.3138, 1.00, 0.65, 0.95, 0.55, 0.125,
+				0.0072, 0.4521, 2.1887, 1.25);
+
+		/////////////// VIOLENCE -- NEIGHBORHOOD LEVEL
+
+		// homicide
+		// 12.5.2014 -- calibration: increase intercept from -11.0397 to -10.0
+		//							 increase PercBlack coefficient from 2.2516 to 3.15 to 3.50
+		// 1.22.2015 -- calibration: add percent foreign-born and percent man/prof occupations
+		// logNhom = (double) -10.4195 + (0.7292*nb.getHoodinc1()) + (0.6135*nb.getHoodinc2()) +
+						   // (0.3409*nb.getAvghoodviol()) + (-0.1699*nb.getPercLightDrk()) +
+						   // (-0.182*nb.getPercHeavyDrk()) + (2.045*nb.getPercBlack()) +
+						   // (1.3021*nb.getPercHisp()) + (-0.0125*nb.getPercFBorn()) +
+						   // (-0.0185*nb.getPercManProf());
+		// 3.12.15 -- calibration: increase hoodinc1 coefficient from 1.80 to 2.20
+		//			  increase hoodinc2 coefficient from 0.70 to 0.85
+		//			  increase avghoodviol coefficient from 0.90 to 1.25
+		// logNhom = (double) -9.75 + (2.20*nb.getHoodinc1()) + (0.85*nb.getHoodinc2()) +
+						 //  (1.25*nb.getAvghoodviol()) + (-0.10*nb.getPercLightDrk()) +
+						 //  (-0.12*nb.getPercHeavyDrk()) + (5.15*nb.getPercBlack()) +
+						 //  (3.0*nb.getPercHisp()) + (-0.025*nb.getPercFBorn()) +
+						 //  (-0.03*nb.getPercManProf());
+		// 3.12.15 -- calibration: increase intercept from -12.461 to -11.0
+		//			  increase hoodinc1 coefficient from 0.3880 to 2.50
+		//			  increase hoodinc2 coefficient from 0.5214 to 0.85
+		//			  increase avghoodviol coefficient from 0.0294 to 1.25
+		//			  increase percblack coefficient from 1.3834 to 5.75
+		// 			  increase perchisp coefficient from 0.1293 to 2.75
+		//			  decrease percmanprof coefficient from 0.0101 to -0.005
+		//			  decrease percstable coefficient from 1.2459 to 0.01
+		//			  increase percunemp from 1.4887 to 2.20
+		// 3.22.15 -- calibration: decrease intercept form -11.0 to -11.15
+		//			  decrease percblack coefficient from 5.75 to 5.30
+		//			  decrease percyoungmale coefficient from 8.4289 to 8.10
+		// 1.5.16 --  decrease percblack coefficient from 5.30 to 3.00
+		define("hoodHomicide", N,
+				new String[] { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk", "percBlack", "percHisp",
+							   "percFBorn", "percManProf", "percYoungMale", "percStable", "percUnemp", "percFemHHKids" },
+				-11.15, 2.50, 0.85, 1.25, -0.0834, -0.044, 3.00, 2.75, -0.007, -0.005, 8.10, 0.01, 2.20, 3.9179);
+
+		// non-fatal violent victimization
+		// 11.19.2014 -- calibration: increase intercept from -3.6763 to -3.00
+		// 12.4.2014 -- calibration: increase percblack coefficient from -0.5331 to 2.50
+		//							 increase perchisp coefficient from -1.5628 to 0.30
+		// logitN1 = (double) -3.00 + (0.3995*nb.getHoodinc1()) + (0.0248*nb.getHoodinc2()) +
+				//   (2.50*nb.getPercBlack()) + (0.30*nb.getPercHisp()) +
+				//   (14.7472*nb.getAvghoodviol());
+		// 3.12.2015 -- calibration: decrease intercept from 1.7728 to 0.25 to -2.20
+		//			    increase hoodinc1 coefficient from 0.6044 to 3.5
+		//				increase hoodinc2 coefficient from 0.0777 to 1.5
+		//				increase percblack coefficient from 0.0053 to 6.75
+		//				increase perchisp coefficient from -1.3231 to 2.50
+		//				decrease percyoungmale coefficient from 23.1486 to 10.0
+		//			    increase percstable coefficient from -7.6444 to -0.50
+		//				increase unemp coefficient from -9.0505 to 5.0
+		//				increase femhhkids coefficient from 0.3383 to 4.50
+		// 12.30.2015   increase percblack coefficient from 6.75 to 7.25
+		// 1.5.2016   increase percblack coefficient from 7.25 to 8.50
+		// 1.6.2016     increase percblack coefficient from 8.50 to 10.00
+		// 1.7.2016     increase percblack coefficient from 10.00 to 12.00
+		// 1.11.2016    increase percblack coefficient from 12 to 20
+		define("hoodViolvict", N,
+				new String[] { "hoodinc1", "hoodinc2", "percBlack", "percHisp", "avghoodviol", "percYoungMale", "percStable",
+							   "percUnemp", "percFemHHKids" },
+				-2.20, 3.5, 1.5, 20.00, 2.5, 16.4594, 10.0, -0.50, 5.00, 4.50);
+
+		// violent perpetration
+		// 11.19.2014 -- calibration: increase intercept from -4.9017 to -3.75
+		// 12.4.2014 -- calibration: increase percblack coefficient from -0.5331 to 2.50
+		//							 increase perchisp coefficient from -1.5628 to 0.30
+		// 12.28.2015 -- calibration: increase percblack coefficient from 6.75 to 7.00
+		// 1.4.2016 -- calibration: increase percblack coefficient from 7.00 to 8.00
+		// 1.5.2016 -- calibration: increase percblack coefficient from 8.00 to 10.00
+		// 1.6.2016 -- calibration: increase percblack coefficient from 10.00 to 12.00
+		// 1.11.2016 -- calibration: increase percblack coefficinet from 12 to 20.
+		// logitN2 = (double) -3.75 + (0.3995*nb.getHoodinc1()) + (0.0248*nb.getHoodinc2()) +
+				//  (2.50*nb.getPercBlack()) + (0.30*nb.getPercHisp()) +
+				//  (14.7472*nb.getAvghoodviol());
+		define("hoodViolperp", N,
+				new String[] { "hoodinc1", "hoodinc2", "percBlack", "percHisp", "avghoodviol", "percYoungMale", "percStable",
+							   "percUnemp", "percFemHHKids" },
+				-4.40, 3.5, 1.5, 20.00, 2.5, 16.4594, 10.0, -0.50, 5.00, 4.50);
+
+		/////////////// DRINKING STATUS (from wtc data)
+
+		// light drinker
+		// 10.23.2014 -- calibration: increase intercept from 0.8013 to 1.00, decrease coefficient for black from -0.4489 to -0.55
+		//							  increase coefficient for hisp from -0.1257 to -0.05
+		define("drinkLight", D,
+				new String[] { "gender", "age2", "age3", "age4", "age5", "black", "hisp", "otherRace", "hs", "morehs",
+							   "inc2", "inc3", "inc4" },
+				1.00, 0.2366, 0.0459, -0.5747, 0.1098, -0.3769, -0.55, -0.05, -0.6482, -0.9647, 0.071, -0.1861, -0.0348, 0.351);
+
+		// heavy drinker
+		// 10.23.2014 -- calibration: increase intercept from -1.0355 to -0.80, decrease coefficient for black from -0.6868 to -1.125
+		//							  decrease coefficient for hisp from -0.1231 to -0.375, decrease coefficient for otherrace from -0.6285 to -0.88
+		define("drinkHeavy", D,
+				new String[] { "gender", "age2", "age3", "age4", "age5", "black", "hisp", "otherRace", "hs", "morehs",
+							   "inc2", "inc3", "inc4" },
+				-0.80, 0.6944, 0.7533, 0.4989, 0.1481, -1.1003, -1.125, -0.375, -0.88, -0.2528, -1.1088, -0.2107, -0.7835, -0.3612);
+
+		// neighborhood level
+		define("hoodDrinkLight", N,
+				new String[] { "hoodinc1", "hoodinc2", "percBlack", "percHisp", "avghoodviol", "percLightDrk", "percHeavyDrk" },
+				-2.4707, 0.0196, 0.0138, -0.1922, -0.0186, -0.8008, 5.1653, 2.5315);
+		define("hoodDrinkHeavy", N,
+				new String[] { "hoodinc1", "hoodinc2", "percBlack", "percHisp", "avghoodviol", "percLightDrk", "percHeavyDrk" },
+				-3.9946, 0.7399, 0.6614, -1.5819, -2.5387, -0.8384, 2.7012, 14.4055);
+
+		/////////////// BEVERAGE TYPE (from NESARC data)
+
+		String[] beverageTerms = { "gender", "age2", "age3", "age4", "age5", "age6", "black", "hisp", "otherRace", "hs", "morehs",
+								   "inc2", "inc3", "inc4", "heavyDrinker" };
+		define("beer", D, beverageTerms,
+				-2.017, 1.378, 0.303, 0.215, 0.280, -0.039, -0.348, -0.004, -0.463, -0.293, -0.019, 0.127, -0.043, -0.104, 0.005, 1.553);
+		define("wine", D, beverageTerms,
+				-2.494, -0.199, 0.165, 0.032, 0.352, 0.470, 0.799, -0.443, -0.424, -0.388, 0.181, 0.808, -0.038, 0.076, 0.716, 0.259);
+		define("spirit", D, beverageTerms,
+				-2.997, 0.520, -0.231, -0.423, -0.245, 0.043, 0.495, 0.528, -0.625, -0.471, 0.287, 0.62, 0.002, 0.010, 0.139, 1.151);
+
+		/////////////// DRINKING TRANSITIONS
+
+		String[] transTerms = { "gender", "age2", "age3", "age4", "age5", "age6", "hs", "morehs", "inc2", "inc3", "inc4", "lastviolvict" };
+
+		// non-drinkers who become light/moderate drinkers
+		define("startLight", D, transTerms,
+				-0.5359, 0.2904, -0.0929, -0.6975, -0.4944, -0.9467, -1.0075, -0.4353, -0.136, -0.5011, 0.0282, 0.4882, 0.7624);
+		define("hoodStartLight", N,
+				new String[] { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk" },
+				-4.6586, -0.107, 0.4702, 3.1459, 5.994, 2.2168);
+
+		// light/moderate drinkers who become non-drinkers
+		define("quitDrk", D, transTerms,
+				-0.3288, -0.3634, -0.1896, -0.0468, -0.3016, 0.1488, 0.0493, -0.4643, -0.8307, -0.3614, -0.7598, -1.2792, 0.1279);
+		define("hoodQuitDrk", N,
+				new String[] { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk" },
+				0.3414, -0.4257, -0.4381, 3.2196, -3.532, 0.833);
+
+		// light/moderate drinkers who become heavy drinkers
+		// 11.5.2014 -- calibration: change male coefficient from 0.6978 to -0.0842
+		//				change lastviolvict from 0.3127 to 0.05
+		define("lightToHeavy", D, transTerms,
+				-0.2061, -0.0842, -1.0687, -1.4939, -2.2607, -2.3726, -2.8945, 0.1972, -1.0469, -0.1372, -0.8733, -0.1993, 0.05);
+		// 12.4.2014 -- added racial composition variables as predictors
+		//				calibration: increase coefficient for percBlack from -1.8849 to 1.25
+		define("hoodLightToHeavy", N,
+				new String[] { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk", "percBlack", "percHisp" },
+				-2.28, -0.2088, -0.0903, 1.9665, -2.5772, 13.8191, 1.25, 1.7474);
+
+		// heavy drinkers who become light/moderate drinkers
+		// 11.6.2014 -- calibration: include interaction between male gender and violent victimization
+		//				increase intercept from -1.1757 to -0.35, increase lastviolvict from -1.2021 to -0.35
+		//				reduce morehs coefficient from 2.0543 to 0.35
+		//				reduce gender coefficient from -0.2719 to -0.35
+		//				reduce age2 coefficient from -0.1278 to -0.075
+		//				reduce age4 coefficient from 0.985 to -0.15
+		//				reduce hs coefficient from 0.3849 to 0.15
+		// 				reduce morehs coefficient from 0.35 to 0.13
+		//				increase inc2 coefficient from -0.1163 to -0.05
+		//				reduce inc3 coefficient from -0.0219 to -0.10
+		//				reduce inc4 coefficient from -0.0633 to -0.1175 to -0.15
+		//				reduce interaction coefficient from 14.9931 to 8.75
+		// 11.20.2014 - revised equation to change referent groups (not used)
+		// 				calibration: increase intercept from 0.2707 to 0.45
+		//				increase lesshs coefficient from -1.8542 to -1.35
+		//				increase hs coefficient from -1.4524 to -1.00
+		// double ilogitP4 = (double) 0.45 + (-0.4162*gender) + (0.483*age1) +
+			//			  (0.4421*age2) + (-0.2216*age3) + (1.4761*age4) + (0.3926*age5) +
+			//			  (-1.35*lesshs) + (-1.400*hs) + (-0.0142*inc1) + (0.1136*inc2) +
+			//			  (0.0661*inc3) + (-1.3622*lastviolvict) + (15.2391*gender*lastviolvict);
+		define("heavyToLight", D,
+				new String[] { "gender", "age2", "age3", "age4", "age5", "age6", "hs", "morehs", "inc2", "inc3", "inc4",
+							   "lastviolvict", "gender*lastviolvict" },
+				0.35, -0.35, -0.075, -0.6443, -0.15, -1.0192, -0.5927, 0.15, 0.13, -0.05, -0.10, -0.15, -0.35, 8.75);
+		// 12.4.2014 -- included racial composition variables as predictors
+		//				calibration: increase coefficient for percBlack from 1.7344 to 6.5
+		//							 increase intercept from 0.8926 to 1.10
+		// double nlogitP4 = (double) -1.9461 + (-0.4184*nb.hoodinc1) + (-0.0205*nb.hoodinc2) +
+			//					   (-2.342*nb.avghoodviol) + (-2.9454*nb.percLightDrk) +
+			//					   (14.6423*nb.percHeavyDrk) + (-3.5637*nb.percBlack) +
+			//					   (2.0063*nb.percHisp) + (23.6114*nb.avghoodviol*nb.percBlack);
+		define("hoodHeavyToLight", N,
+				new String[] { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk", "percBlack", "percHisp" },
+				1.20, -1.0433, -1.906, -7.5086, 1.0108, -16.456, 6.5, 6.7193);
+
+		/////////////// MOVING
+
+		// 7.23.2014 -- calibration: reduce intercept from -3.783 to -4.25
+		define("move", M,
+				new String[] { "durRes1", "durRes2", "durRes3", "inc1", "inc2", "inc3", "lastviolvict" },
+				-4.25, 1.834, 0.782, -0.147, 0.855, 0.706, 0.597, 1.307);
+	}
+
+}
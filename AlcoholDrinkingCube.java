@@ -0,0 +1,109 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The drinking cube class counts agents by drinking status at baseline, at the last time step, and at the
+ * current time step, split by race and gender, in the aggregator's pass over the agents (AlcoholAggregator).
+ * The output columns on drinking status transitions (e.g., the proportion of light drinkers at the last time
+ * step who became heavy drinkers, among all agents or among blacks) are calculated from these counts, instead
+ * of being declared as one filter and one value each. Agents who replaced an agent who died at this time step
+ * have no drinking status at the last time step (AlcoholAgent.doNotCount). Agents who died and were not
+ * replaced (no agent recycling) are kept, with their drinking status when they died, in the baseline cohorts
+ * (columns with any last status), but not in the transitions.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+public class AlcoholDrinkingCube implements AlcoholAggregator.AgentTally {
+
+	public static final int		ANY = -1;				// any race, gender, or drinking status
+
+	private static final int	NUM_RACES = 5;			// 1 white, 2 black, 3 hispanic, 4 others (0 unknown)
+	private static final int	NUM_GENDERS = 2;		// 0 female, 1 male
+	private static final int	NUM_STATS = 4;			// 1 non-drinker, 2 light/mod drinker, 3 heavy drinker (0 none)
+
+	// number of agents, indexed by [race][gender][baseline status][last status][current status]
+	private int[][][][][]		count = new int[NUM_RACES][NUM_GENDERS][NUM_STATS][NUM_STATS][NUM_STATS];
+	// number of agents removed from the model, indexed by [race][gender][baseline status][status when removed]
+	// (kept for the whole run, not cleared)
+	private int[][][][]			removed = new int[NUM_RACES][NUM_GENDERS][NUM_STATS][NUM_STATS];
+
+
+	// clear()
+	// Set all counts to 0 before the pass over the agents
+	public void clear() {
+		for (int r=0; r<NUM_RACES; r++) {
+			for (int g=0; g<NUM_GENDERS; g++) {
+				for (int b=0; b<NUM_STATS; b++) {
+					for (int l=0; l<NUM_STATS; l++) {
+						for (int c=0; c<NUM_STATS; c++) { count[r][g][b][l][c] = 0; }
+					}
+				}
+			}
+		}
+	}
+
+	// add()
+	// Count agent in the cell of its race, gender, and drinking statuses
+	public void add(AlcoholAgent a) {
+		int lastStat = (a.getDoNotCount()==0) ? stat(a.getLastDrinkStat()) : 0;
+		count[race(a.getRace())][a.getGender()][stat(a.getBaseDrinkStat())][lastStat][stat(a.getDrinkStat())] += 1;
+	}
+
+	// remove()
+	// Keep agent, who is removed from the model, in its baseline cohort for the rest of the run
+	public void remove(AlcoholAgent a) {
+		removed[race(a.getRace())][a.getGender()][stat(a.getBaseDrinkStat())][stat(a.getDrinkStat())] += 1;
+	}
+
+	private static int race(int race) { return (race >= 1 && race < NUM_RACES) ? race : 0; }
+	private static int stat(int drinkStat) { return (drinkStat >= 1 && drinkStat < NUM_STATS) ? drinkStat : 0; }
+
+	// count()
+	// Number of agents with given race, gender, and drinking statuses (each may be ANY); with any last status,
+	// this includes the agents removed from the model
+	public int count(int race, int gender, int baseStat, int lastStat, int drinkStat) {
+		int n = 0;
+		for (int r=0; r<NUM_RACES; r++) {
+			if (race != ANY && race != r) continue;
+			for (int g=0; g<NUM_GENDERS; g++) {
+				if (gender != ANY && gender != g) continue;
+				for (int b=0; b<NUM_STATS; b++) {
+					if (baseStat != ANY && baseStat != b) continue;
+					for (int l=0; l<NUM_STATS; l++) {
+						if (lastStat != ANY && lastStat != l) continue;
+						for (int c=0; c<NUM_STATS; c++) {
+							if (drinkStat != ANY && drinkStat != c) continue;
+							n += count[r][g][b][l][c];
+						}
+					}
+					if (lastStat != ANY) continue;
+					for (int c=0; c<NUM_STATS; c++) {
+						if (drinkStat != ANY && drinkStat != c) continue;
+						n += removed[r][g][b][c];
+					}
+				}
+			}
+		}
+		return n;
+	}
+
+	// share()
+	// Output column: proportion of agents with current drinking status drinkStat, among agents with given race,
+	// gender, and baseline and last drinking statuses
+	public AlcoholAggregator.Statistic share(final int race, final int gender, final int baseStat, final int lastStat,
+											 final int drinkStat) {
+		return new AlcoholAggregator.Statistic() {
+			public double value() {
+				return (double) count(race, gender, baseStat, lastStat, drinkStat)
+						/ (double) count(race, gender, baseStat, lastStat, ANY);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The friend graph class holds the social network in compressed sparse row form once it has been
+ * created. The friends of the agent in population slot s are the slots friend[offset[s]] to
+ * friend[offset[s+1]-1], in the same order as the agent's friend list. Loops that count friends' drinking
+ * or violence at each time step read these two int arrays and the population columns, instead of following
+ * the friend lists from object to object. The social network does not change during a model run.
+ *
+ *     Friendships are mutual, so the agents who count slot s among their friends are the friends of s. The
+ * counts of friends' drinking and violence (AlcoholPopulation.numFrdNoDrk, etc.) are therefore kept up to date by
+ * pushing each change in an agent's drinking status or violence to its friends, instead of counting the
+ * friends of every agent again at each time step. The agent setters record the slots whose drinking status
+ * or violence changed (whatever changed them: drinking transitions, replacement of agents who died, or the
+ * reset of violence at each time step) in the population's change lists (AlcoholPopulation.takeChanges), so
+ * an update only visits those slots, and does work in proportion to the number of changes times the number
+ * of friends. The status last pushed from each slot is kept here, so a slot changed and changed back is not
+ * pushed. Updates are made in one thread; the counts are sums, so they do not depend on the order.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+public class AlcoholFriendGraph {
+
+	public int[]		offset;			// start of each slot's friends in friend (size numSlots + 1)
+	public int[]		friend;			// population slots of friends
+
+	private int[]		countedDrinkStat;	// drinking status of each slot, as counted by its friends
+	private int[]		countedViolvict;	// victimization of each slot (1 yes, 0 no), as counted by its friends
+	private int[]		countedViolperp;	// perpetration of each slot (1 yes, 0 no), as counted by its friends
+
+
+	// the FriendGraph constructor
+	// Freeze the friend lists of agents into compressed sparse row form
+	public AlcoholFriendGraph(AlcoholAgentSet agents, int numSlots) {
+		offset = new int[numSlots + 1];
+		for (int i=0; i<agents.size(); i++) {
+			AlcoholAgent a = agents.get(i);
+			offset[a.getSlot() + 1] = a.getTotalFriends();
+		}
+		for (int s=0; s<numSlots; s++) { offset[s+1] += offset[s]; }
+		friend = new int[offset[numSlots]];
+		for (int i=0; i<agents.size(); i++) {
+			AlcoholAgent a = agents.get(i);
+			int k = offset[a.getSlot()];
+			for (int w=0; w<a.getTotalFriends(); w++) { friend[k + w] = a.friendList.get(w).getSlot(); }
+		}
+		countedDrinkStat = new int[numSlots];
+		countedViolvict = new int[numSlots];
+		countedViolperp = new int[numSlots];
+	}
+
+	// countAll()
+	// Count the drinking and violence of the friends of every agent, once the network is created (changes
+	// recorded before are discarded)
+	public void countAll(AlcoholPopulation pop) {
+		pop.takeChanges(AlcoholPopulation.DRINKING_CHANGE);
+		pop.takeChanges(AlcoholPopulation.VIOLENCE_CHANGE);
+		for (int s=0; s<countedDrinkStat.length; s++) {
+			pushDrinking(pop, s);
+			pushViolence(pop, s);
+		}
+	}
+
+	// updateDrinking()
+	// Update the number of friends who are abstainers, light/moderate drinkers, and heavy drinkers, for
+	// every drinking status that changed since the last update
+	public void updateDrinking(AlcoholPopulation pop) {
+		int n = pop.takeChanges(AlcoholPopulation.DRINKING_CHANGE);
+		for (int c=0; c<n; c++) { pushDrinking(pop, pop.changes[c]); }
+	}
+
+	private void pushDrinking(AlcoholPopulation pop, int s) {
+		if (s >= countedDrinkStat.length) return;
+		int oldStat = countedDrinkStat[s], newStat = pop.drinkStat[s];
+		if (oldStat == newStat) return;
+		countedDrinkStat[s] = newStat;
+		for (int w=offset[s]; w<offset[s+1]; w++) {
+			addDrinker(pop, friend[w], oldStat, -1);
+			addDrinker(pop, friend[w], newStat, 1);
+		}
+	}
+
+	private static void addDrinker(AlcoholPopulation pop, int f, int drinkStat, int n) {
+		if (drinkStat==1) { pop.numFrdNoDrk[f] += n; }
+		else if (drinkStat==2) { pop.numFrdLightDrk[f] += n; }
+		else if (drinkStat==3) { pop.numFrdHeavyDrk[f] += n; }
+	}
+
+	// updateViolence()
+	// Update the number of friends who were victimized or who perpetrated violence, for every victimization
+	// and perpetration that changed since the last update
+	public void updateViolence(AlcoholPopulation pop) {
+		int n = pop.takeChanges(AlcoholPopulation.VIOLENCE_CHANGE);
+		for (int c=0; c<n; c++) { pushViolence(pop, pop.changes[c]); }
+	}
+
+	private void pushViolence(AlcoholPopulation pop, int s) {
+		if (s >= countedViolvict.length) return;
+		int dVict = (pop.getFlag(AlcoholPopulation.VIOLVICT, s)==1 ? 1 : 0) - countedViolvict[s];
+		int dPerp = (pop.getFlag(AlcoholPopulation.VIOLPERP, s)==1 ? 1 : 0) - countedViolperp[s];
+		if (dVict == 0 && dPerp == 0) return;
+		countedViolvict[s] += dVict;
+		countedViolperp[s] += dPerp;
+		for (int w=offset[s]; w<offset[s+1]; w++) {
+			pop.numFrdVictim[friend[w]] += dVict;
+			pop.numFrdPerp[friend[w]] += dPerp;
+		}
+	}
+
+	// getters
+	public int getNumFriends(int slot) { return offset[slot+1] - offset[slot]; }
+	public int getNumEdges() { return friend.length / 2; }
+
+}
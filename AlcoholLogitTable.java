@@ -0,0 +1,64 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The logit table class holds the values of individual-level equations for every pattern of their
+ * covariates. The covariates are dummy variables (0 or 1), so an agent's pattern is packed into an int key,
+ * bit k holding covariate k. The equations are evaluated for all patterns when the table is built, and agents
+ * then look up their probabilities by key instead of evaluating the equations (and Math.exp) themselves.
+ * A table may hold several values for each pattern (e.g., the probabilities of a multinomial model), stored
+ * next to each other. The equations are evaluated with the same terms in the same order, so the values are
+ * exactly those the agent would have calculated. Tables are built again only when the coefficients change
+ * (see AlcoholCoefficients).
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+public class AlcoholLogitTable {
+
+	// individual-level equations; x[k] is the value (0.0 or 1.0) of covariate k, and the values of the
+	// equations are stored in p
+	public interface Equation {
+		public void values(double[] x, double[] p);
+	}
+
+	private final int		numCovariates;
+	private final int		numValues;			// number of values for each covariate pattern
+	private final double[]	value;				// values of equations, indexed by key*numValues + value number
+
+
+	// the LogitTable constructor
+	// Evaluate equations for all 2^numCovariates covariate patterns
+	public AlcoholLogitTable(int numCovariates, int numValues, Equation equation) {
+		this.numCovariates = numCovariates;
+		this.numValues = numValues;
+		value = new double[(1 << numCovariates) * numValues];
+		double[] x = new double[numCovariates];
+		double[] p = new double[numValues];
+		for (int key=0; key < (1 << numCovariates); key++) {
+			for (int k=0; k<numCovariates; k++) { x[k] = (key >>> k) & 1; }
+			equation.values(x, p);
+			System.arraycopy(p, 0, value, key*numValues, numValues);
+		}
+	}
+
+	// get()
+	// Value v of the equations for the covariate pattern key
+	public double get(int key, int v) { return value[key*numValues + v]; }
+	public double get(int key) { return value[key*numValues]; }
+
+	public int getNumCovariates() { return numCovariates; }
+	public int getNumValues() { return numValues; }
+
+	// logistic()
+	// Probability from logit
+	public static double logistic(double logit) {
+		return Math.exp(logit)/(1 + Math.exp(logit));
+	}
+
+}
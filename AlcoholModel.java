@@ -45,19 +45,34 @@ import uchicago.src.sim.gui.DisplaySurface;
 import uchicago.src.sim.gui.Object2DDisplay;
 import uchicago.src.sim.space.Object2DGrid;
 import uchicago.src.sim.space.Object2DTorus;
-import uchicago.src.sim.util.Random;
-import uchicago.src.sim.util.SimUtilities;
 
 import cern.jet.math.*;
 
+import cbtModel.AlcoholAggregator.AgentFilter;
+import cbtModel.AlcoholAggregator.AgentIndicator;
+import cbtModel.AlcoholAggregator.AgentValue;
+import cbtModel.AlcoholAggregator.HoodFilter;
+import cbtModel.AlcoholAggregator.HoodValue;
+
 public class AlcoholModel extends SimModelImpl {
 
 		// variable declarations
 		private Schedule			schedule;
-		private Object2DGrid		agentSpace;
-		private Object2DGrid		hoodSpace;
+		private Object2DGrid		agentSpace;		// agents shown in the display (null if no display)
+		private AlcoholCellGrid		hoodSpace;
+		private AlcoholVictimIndex	victimIndex;	// cells with potential victims at current time step
+		private AlcoholParallel		parallel;		// runs agent updates on several threads
+		private AlcoholRandom		modelRng;		// model's own random number stream
+		private AlcoholRandom		eventRng;		// stream for events drawn for all agents at once
+		private AlcoholRareEvents	rareEvents;		// draws moves and potential violence
+		private AlcoholMortality	mortality;		// agents by mortality stratum, draws deaths
 		private DisplaySurface 		displaySurf;
 		private DataRecorder		recorder;
+		private AlcoholAggregator	aggregator;
+		private AlcoholDrinkingCube	drinkingCube;	// agents by drinking status, incl. removed agents in baseline cohorts
+		private AlcoholSnapshotWriter agentSnapshot;	// agent step report (see AlcoholSnapshotWriter)
+		private AlcoholOutputWriter	output;			// writes output files on a background thread
+		private Runnable			writeRecorder;	// output job: write the rows recorded so far
 		private OpenSequenceGraph	agentTime;		
 		private OpenSequenceGraph	agentNumber;
 		private OpenSequenceGraph	hoodTime;
@@ -87,6 +102,10 @@ public class AlcoholModel extends SimModelImpl {
 		private int			displayGUI=0;			// display grid of neighborhoods with agents pictured
 		private int			outputAgentSteps=0;		// output agent step report, to check model as needed
 		private int			outputHoodSteps=1;		// output neighborhood step report, to check model as needed
+		private int			numThreads=0;			// threads for agent updates (0 -- all processors, 1 -- single thread)
+		private long		masterSeed=0;			// seed of all random number streams (0 -- use seed of Repast controller)
+		private String		coefficientFile="coefficients.txt";	// coefficients of logit equations, read at start of each run (see AlcoholCoefficients)
+		private String		agentSnapshotFile="alcohol-agents.snap";	// binary agent step report, written when outputAgentSteps is 1
 
 		
 		// interventions
@@ -108,7 +127,8 @@ public class AlcoholModel extends SimModelImpl {
 					"StartAging", "StopModelRun", "DisplayGUI", "LookForVictims", "LookForPolice", "Alpha", "Network_alpha", 
 					"OutputAgentSteps", "OutputHoodSteps", "AllowDeath", "AgentRecycle",
 					"Intervention", "IntTarget", "IntChange", "IntDuration",
-					"LookForViolence", "LookForViolOutlets", "ReduceViol", "NumOutreach"};
+					"LookForViolence", "LookForViolOutlets", "ReduceViol", "NumOutreach", "NumThreads", "MasterSeed",
+					"CoefficientFile", "AgentSnapshotFile"};
 			return initParams;
 		}
 		
@@ -119,20 +139,50 @@ public class AlcoholModel extends SimModelImpl {
 	// CREATE LISTS OF AGENTS, NEIGHBORHOODS, AND OUTLETS	
 		
 		// Lists of agents and neighborhoods
-		public ArrayList<AlcoholAgent> agentList; 		// list of all agents
-		public ArrayList<AlcoholAgent> tempagentList;	// temporary list of all agents, to use when shuffling
-		public ArrayList<AlcoholAgent> wagentList;		// list of all white agents
-		public ArrayList<AlcoholAgent> bagentList;		// list of all black agents
-		public ArrayList<AlcoholAgent> hagentList;		// list of all hispanic agents
-		public ArrayList<AlcoholAgent> oagentList;		// list of all other race agents
-		public ArrayList<AlcoholAgent> magentList;		// list of male agents
-		public ArrayList<AlcoholAgent> fagentList;		// list of female agents
-		public ArrayList<AlcoholAgent> lesshsagentList;	// list of all agents with < high school education
-		public ArrayList<AlcoholAgent> hsagentList;		// list of all agents with high school education or equivalent
-		public ArrayList<AlcoholAgent> morehsagentList;	// list of all agents with more than a high school education
-		public ArrayList<AlcoholAgent> baseNonDrkList;	// list of all agents who were non-drinkers at baseline
-		public ArrayList<AlcoholAgent> baseLightDrkList;// list of all agents who were light/moderate drinkers at baseline
-		public ArrayList<AlcoholAgent> baseHeavyDrkList;// list of all agents who were heavy drinkers at baseline
+		public AlcoholAgentSet agentList; 				// list of all agents
+		public AlcoholPopulation population;			// columnar store of agent characteristics used at every time step
+		public AlcoholFriendGraph friendGraph;			// social network, by population slot
+		
+		// new neighborhood and location of each agent at current time step, applied after the parallel agent update
+		private static final int NO_MOVE = -2;			// agent did not move
+		private static final int STAY = -1;				// agent moved but found no other neighborhood
+		private int[] moveHood, moveX, moveY;
+		
+		// mortality stratum of each agent at current time step, applied to the mortality engine after the agent update
+		private int[] mortStratum;
+		
+		// probability of an event for each agent at current time step (see drawEvents)
+		private double[] eventProb;
+		
+		// positions in agentList of potential perpetrators at current time step, in the order they look for victims
+		private int[] perpQueue;
+		private int numPerps;
+		
+		// claims of perpetrators in perpQueue on potential victims, see claimVictims
+		private AlcoholVictimClaims victimClaims;
+		
+		// coefficients of logit equations, loaded by loadCoefficients()
+		private AlcoholCoefficients coefficients = new AlcoholCoefficients();
+		
+		// individual-level probabilities by covariate pattern, built by buildLogitTables()
+		private AlcoholLogitTable violenceTable;		// violence (by AlcoholAgent.getViolenceKey)
+		private static final int P_HOMICIDE = 0, P_VIOLVICT = 1, P_VIOLPERP = 2;
+		private AlcoholLogitTable drinkStatTable;		// drinking status (by AlcoholAgent.getDrinkingKey)
+		private static final int P_LIGHT = 0, P_HEAVY = 1;
+		private AlcoholLogitTable beverageTable;		// beverage preference (by AlcoholAgent.getDrinkingKey)
+		private static final int P_BEER = 0, P_WINE = 1, P_SPIRIT = 2;
+		private AlcoholLogitTable drinkTransTable;		// drinking transitions (by AlcoholAgent.getDrinkingKey)
+		private static final int P_START_LIGHT = 0, P_QUIT_DRK = 1, P_LIGHT_HEAVY = 2, P_HEAVY_LIGHT = 3;
+		private AlcoholLogitTable moveTable;			// moving (by AlcoholAgent.getMovingKey), given to agents by the population store
+		public AlcoholAgentSet wagentList;			// list of all white agents
+		public AlcoholAgentSet bagentList;			// list of all black agents
+		public AlcoholAgentSet hagentList;			// list of all hispanic agents
+		public AlcoholAgentSet oagentList;			// list of all other race agents
+		public AlcoholAgentSet magentList;			// list of male agents
+		public AlcoholAgentSet fagentList;			// list of female agents
+		public AlcoholAgentSet lesshsagentList;		// list of all agents with < high school education
+		public AlcoholAgentSet hsagentList;			// list of all agents with high school education or equivalent
+		public AlcoholAgentSet morehsagentList;		// list of all agents with more than a high school education
 		public ArrayList<AlcoholNeighborhood> hoodList;	// list of all neighborhoods
 		public ArrayList<AlcoholNeighborhood> temphoodList; // temporary list of all neighborhoods
 
@@ -184,6 +234,21 @@ public class AlcoholModel extends SimModelImpl {
 			// Reset world where agents are located
 			agentSpace = null;
 			hoodSpace = null;
+			victimIndex = null;
+			victimClaims = null;
+			friendGraph = null;
+			modelRng = null;
+			eventRng = null;
+			
+			// Restart agent ID numbers, so agents draw the same random numbers in every run with the same seed
+			AlcoholAgent.nextID = 0;
+			
+			// Stop threads of last model run
+			if (parallel != null) parallel.shutdown();
+			parallel = null;
+			
+			// Finish output files of last model run
+			finishOutput();
 			
 			// Only display grid with agent locations when not in multi-run (batch model) mode
 			if (displayGUI == 1) {
@@ -196,24 +261,19 @@ public class AlcoholModel extends SimModelImpl {
 			}
 				
 			// Reset list of agents
-			agentList = new ArrayList<AlcoholAgent>();
-			tempagentList = new ArrayList<AlcoholAgent>();
+			agentList = new AlcoholAgentSet(AlcoholAgentSet.ALL);
 			// Reset race-specific lists of agents
-			wagentList = new ArrayList<AlcoholAgent>();
-			bagentList = new ArrayList<AlcoholAgent>();
-			hagentList = new ArrayList<AlcoholAgent>();
-			oagentList = new ArrayList<AlcoholAgent>();
+			wagentList = new AlcoholAgentSet(AlcoholAgentSet.RACE);
+			bagentList = new AlcoholAgentSet(AlcoholAgentSet.RACE);
+			hagentList = new AlcoholAgentSet(AlcoholAgentSet.RACE);
+			oagentList = new AlcoholAgentSet(AlcoholAgentSet.RACE);
 			// Reset gender-specific lists of agents
-			magentList = new ArrayList<AlcoholAgent>();
-			fagentList = new ArrayList<AlcoholAgent>();
+			magentList = new AlcoholAgentSet(AlcoholAgentSet.GENDER);
+			fagentList = new AlcoholAgentSet(AlcoholAgentSet.GENDER);
 			// Reset education-specific lists of agents
-			lesshsagentList = new ArrayList<AlcoholAgent>();
-			hsagentList = new ArrayList<AlcoholAgent>();
-			morehsagentList = new ArrayList<AlcoholAgent>();
-			// Reset drinking-specific lists of agents
-			baseNonDrkList = new ArrayList<AlcoholAgent>();
-			baseLightDrkList = new ArrayList<AlcoholAgent>();
-			baseHeavyDrkList = new ArrayList<AlcoholAgent>();
+			lesshsagentList = new AlcoholAgentSet(AlcoholAgentSet.EDUCATION);
+			hsagentList = new AlcoholAgentSet(AlcoholAgentSet.EDUCATION);
+			morehsagentList = new AlcoholAgentSet(AlcoholAgentSet.EDUCATION);
 			// Reset social network list
 			SocialNetworkList = new ArrayList<AlcoholAgent>();
 			
@@ -263,22 +323,28 @@ public class AlcoholModel extends SimModelImpl {
 			buildModelStart();
 			
 		// 2 - CREATE PHYSICAL SPACE WHERE AGENTS RESIDE			
-			agentSpace = new Object2DGrid(worldXsize, worldYsize);
-			hoodSpace = new Object2DGrid(worldXsize, worldYsize);
+			if (displayGUI == 1) { agentSpace = new Object2DGrid(worldXsize, worldYsize); }
+			hoodSpace = new AlcoholCellGrid(worldXsize, worldYsize);
+			victimIndex = new AlcoholVictimIndex(hoodSpace, lookForVictims);
+			victimClaims = new AlcoholVictimClaims();
+			parallel = new AlcoholParallel(numThreads);
+			output = new AlcoholOutputWriter();
+			mortality = new AlcoholMortality();
 			
 		// 3 - CREATE DISPLAY SURFACE TO VIEW THE PHYSICAL SPACE DURING THE MODEL RUN
 			if (displayGUI == 1) {
-				displaySurf.addDisplayable(new Object2DDisplay(hoodSpace), "ViolenceCells");
 				displaySurf.addDisplayable(new Object2DDisplay(agentSpace), "AgentWorld");
 				displaySurf.display();
 			}
 			
 		// 4 - CREATE AGENTS - including assignment of household income
 			numNodes = numAgents;				// number of nodes for use in social network
+			population = new AlcoholPopulation(numAgents);
+			population.setMasterSeed(modelRng.getMasterSeed());
+			population.setMoveTable(moveTable);
 			for (int i=0; i<numAgents; i++) {
-				AlcoholAgent a = new AlcoholAgent();
+				AlcoholAgent a = new AlcoholAgent(population);
 				agentList.add(a);
-				tempagentList.add(a);
 			}
 			System.out.printf("Created %d agents \n", agentList.size());
 			
@@ -301,7 +367,7 @@ public class AlcoholModel extends SimModelImpl {
 				AlcoholNeighborhood nb = new AlcoholNeighborhood(j, hoodSpace);
 				hoodList.add(nb);
 				temphoodList.add(nb);
-				//System.out.printf("Created %d cells in neighborhood %d \n", nb.neighborhoodCellList.size(), nb.getID());
+				//System.out.printf("Created %d cells in neighborhood %d \n", nb.getNumCells(), nb.getID());
 			}
 			System.out.printf("Created %d neighborhoods \n", hoodList.size());
 			
@@ -310,27 +376,19 @@ public class AlcoholModel extends SimModelImpl {
 			// age, gender, race, household income, and population size
 			for (int i=0; i<agentList.size(); i++) {
 				AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-				double randPopProb = Random.uniform.nextDoubleFromTo(0, 1);
-				for (int j=0; j<hoodList.size(); j++) {
-					if (randPopProb > a.popDist[j] && randPopProb <= a.popDist[j+1]) {
-						a.setAgenthood(j);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(j);
-						nb.neighborhoodAgentList.add(a);
-						nb.temphoodAgentList.add(a);
-						a.setAgenthood(nb.getID());
-						a.setCdcode(nb.getCdcode());
-						// Select X, Y location for agent within neighborhood boundaries
-						int agentX= nb.getnb_minX() + (int)(Math.random() * (nb.getnb_maxX() - nb.getnb_minX()));
-						int agentY= nb.getnb_minY() + (int)(Math.random() * (nb.getnb_maxY() - nb.getnb_minY()));
-						a.setX(agentX);
-						a.setY(agentY);
-						agentSpace.putObjectAt(agentX, agentY, a);	
-						// Notify cell that agent is present
-						AlcoholCell newCell = (AlcoholCell)hoodSpace.getObjectAt(agentX, agentY);
-						newCell.setMyAgent(a);
-						newCell.setAgentIncome(a.getHouseincome());
-						break;
-					}
+				a.rng.start(AlcoholRandom.MOVING, 0);
+				double randPopProb = a.rng.nextDoubleFromTo(0, 1);
+				int j = a.drawBaselineHood(randPopProb);
+				if (j >= 0 && j < hoodList.size()) {
+					a.setAgenthood(j);
+					AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(j);
+					nb.addResident(a);
+					a.setAgenthood(nb.getID());
+					a.setCdcode(nb.getCdcode());
+					// Select X, Y location for agent within neighborhood boundaries
+					int agentX= nb.getnb_minX() + (int)(a.rng.nextDouble() * (nb.getnb_maxX() - nb.getnb_minX()));
+					int agentY= nb.getnb_minY() + (int)(a.rng.nextDouble() * (nb.getnb_maxY() - nb.getnb_minY()));
+					locateAgent(a, agentX, agentY);
 				}
 			}
 			
@@ -347,6 +405,7 @@ public class AlcoholModel extends SimModelImpl {
 				setNByoungmale(NB);
 				setNBheavydrk(NB);
 				setNBmeanage(NB);
+				setNBdrinkProb(NB);
 				
 				// calculate neighborhood alcohol outlet density
 
@@ -376,22 +435,12 @@ public class AlcoholModel extends SimModelImpl {
 				if (nb.getAvghoodviol() > getAvgHoodviol()) {nb.setHighhoodviol(1);}
 					else {nb.setHighhoodviol(0);}
 			}
-			
-			// Assign neighborhood characteristics to cells located in that neighborhood
-			for (int i=0; i<worldXsize; i++) {
-				for (int j=0; j<worldYsize; j++) {
-					AlcoholCell newCell = (AlcoholCell)hoodSpace.getObjectAt(i,j);
-					int cellID = newCell.getHoodID();
-					AlcoholNeighborhood cellHood = (AlcoholNeighborhood)hoodList.get(cellID);
-					newCell.setHighhoodinc(cellHood.getHighhoodinc());
-					newCell.setHighhoodviol(cellHood.getHighhoodviol());
-				}
-			}
+			// NOTE: cells look up neighborhood characteristics through their neighborhood ID
 			
 			// Identify whether agents live in high or low income neighborhoods at baseline
 			for (int i=0; i<agentList.size(); i++) {
 				AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-				AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.Agenthood);
+				AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
 				if (nb.getHighhoodinc()==1) { a.setEverHighInc(1); }
 				else if (nb.getHighhoodinc()==0) { a.setEverLowInc(1); }
 				if (a.getEverHighInc()==1) { a.setBaseIncHood(1); }
@@ -411,12 +460,11 @@ public class AlcoholModel extends SimModelImpl {
 				AlcoholAgent a = (AlcoholAgent)agentList.get(i);
 				
 				// drinking status
+				a.rng.start(AlcoholRandom.DRINKING, 0);
 				drinkingProb(a);
 				
-				// create lists of agents by drinking status at baseline
-				if (a.getDrinkStat()==1) { baseNonDrkList.add(a); }
-				else if (a.getDrinkStat()==2) { baseLightDrkList.add(a); }
-				else if (a.getDrinkStat()==3) { baseHeavyDrkList.add(a); }
+				// drinking status at baseline (baseline cohorts in the drinking cube)
+				a.setBaseDrinkStat(a.getDrinkStat());
 				
 				
 			}
@@ -427,6 +475,7 @@ public class AlcoholModel extends SimModelImpl {
 				AlcoholNeighborhood NB = (AlcoholNeighborhood)hoodList.get(t);
 				setNBlightdrk(NB);
 				setNBheavydrk(NB);
+				setNBdrinkProb(NB);
 			}
 			
 
@@ -438,19 +487,8 @@ public class AlcoholModel extends SimModelImpl {
 			createSocialNetwork();
 			
 			// Count number of friends who are abstainers, light/moderate drinkers, and heavy drinkers
-			// and proportion of friends with negative attitudes towards drinking
-			for (int i=0; i<agentList.size(); i++) {
-				int numNoDrk = 0, numLightDrk = 0, numHeavyDrk = 0, numNegAtt = 0;
-				AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-				for (int w=0; w<a.getTotalFriends(); w++) {
-					if (a.friendList.get(w).getDrinkStat()==1) { numNoDrk += 1; }
-					else if (a.friendList.get(w).getDrinkStat()==2) { numLightDrk += 1; }
-					else if (a.friendList.get(w).getDrinkStat()==3) { numHeavyDrk += 1; }
-				}
-				a.setNumFrdNoDrk(numNoDrk);
-				a.setNumFrdLightDrk(numLightDrk);
-				a.setNumFrdHeavyDrk(numHeavyDrk);
-			}
+			// (kept up to date from here on by pushing changes to friends, see AlcoholFriendGraph)
+			friendGraph.countAll(population);
 			
 		// 11 - CREATE OUTPUT FILES, STEP REPORTS, AND GRAPHS OF AGENT CHARACTERISTICS DURING THE MODEL RUN
 			
@@ -511,22 +549,7 @@ public class AlcoholModel extends SimModelImpl {
 			
 			// Create agent step report to check model run, as needed
 			if (outputAgentSteps == 1) {
-				if (agentStepReportFile != null) 
-					endStepReportFile();
-				if (agentStepReportFileName.length() > 0) {
-					agentStepReportFile = startAgentStepReportFile();
-				}
-				// header line for step report output file -- listing all variable names
-				String header;
-				header = String.format( "tick agentID agentX agentY agentHood age age2 age3 age4 age5 age6 ");
-				header += String.format("gender race black hisp otherrace education hs morehs ");
-				header += String.format("baseincome houseincome inc2 inc3 inc4 died pviolvict potviolvict violvict lastviolvict priorviolvict ");
-				header += String.format("pviolperp potviolperp violperp lastviolperp priorviolperp ");
-				header += String.format("probnondrk problightdrk probheavydrk ");
-				header += String.format("lastdrinkstat drinkstat nondrk lightdrk heavydrk alcviol probhom homicide alchom ");
-				header += String.format("probmove moved duration dur1 dur2 dur3 everhighinc everlowinc baseinchood ");
-				header += String.format("assignfrd numfrd nodrkfrd moddrkfrd heavydrkfrd friendids closeearly");
-				writeLineToStepReportFile ( header );
+				startAgentSnapshot();
 				stepReport();
 			}
 			
@@ -584,37 +607,64 @@ public class AlcoholModel extends SimModelImpl {
 				public void execute() {
 					
 			// 1 - Stop the model after the specified number of time steps
-					double currentTime = getTickCount();
+					final double currentTime = getTickCount();
 					System.out.println("Running step " + (int)getTickCount());
 					checkEndCondition();
 					
 			// 2 - Reset cell and neighborhood variables for current time step
 					
 					// Reset cell variables 
-					for (int i=0; i < worldXsize; i++) {
-						for (int j=0; j < worldYsize; j++) {
-							AlcoholCell cell = (AlcoholCell)hoodSpace.getObjectAt(i, j);
-							cell.resetCellVars();
-						}
-					}	
+					hoodSpace.resetCellVars();
 					
 
 				
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.Agenthood);
+			// 3 - Agents age one year (after burn-in period only)
+					// iterates the age column of the population store directly
+					if (getTickCount()>startAging) {
+						double[] age = population.age;
+						for (int i=0; i<population.size(); i++) { age[i] += 1; }
+						// every resident is one year older
+						for (int t=0; t<hoodList.size(); t++) {
+							AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(t);
+							nb.addAge(nb.getHoodSize());
+						}
+					}
+					
+					// Reset neighborhood counters for current time step
+					for (int t=0; t<hoodList.size(); t++) {
+						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(t);
 						nb.setTargetHood(0);
 						nb.setNumviolevent(0);
 						nb.setNumOutreach(0);
+					}
+					
+					// Replace agents who died at last time step, or remove them from agent lists if agents are not recycled
+					// (done here, before the parallel agent update, because it changes the shared lists; only the agents
+					// who died are visited, as kept by the mortality engine)
+					if (getTickCount()>startAging) {
+						ArrayList<AlcoholAgent> died = mortality.getDied();
+						for (int d=0; d<died.size(); d++) { resetDeath(died.get(d)); }
+						mortality.clearDied();
+					}
+					
+					// Agents' new neighborhoods and locations, applied to shared lists and grids after the agent update
+					if (moveHood == null || moveHood.length < agentList.size()) {
+						moveHood = new int[agentList.size()];
+						moveX = new int[agentList.size()];
+						moveY = new int[agentList.size()];
+						eventProb = new double[agentList.size()];
+						mortStratum = new int[agentList.size()];
+						perpQueue = new int[agentList.size()];
+					}
+					
+					// Agent update for steps 4 to 6, in parallel over agents
+					parallel.forEach(agentList, new AlcoholParallel.AgentTask() {
+						public void run(AlcoholAgent a, int i) {
 						
-			// 3 - Agents age one year (after burn-in period only)
-						if (getTickCount()>startAging){ a.age+=1;}	
+						moveHood[i] = NO_MOVE;
 						
 			// 4 - Reset agent variables for current time step
 						
-						// If agent died at last time step, reset relevant variables
-						if (getTickCount()>startAging && a.getDied()==1) { resetDeath(a); }
-						
 						// Reset dummy variables and other indicators for all agents
 						if (getTickCount()<=startAging || (getTickCount()>startAging && a.getDied()==0)) {
 							a.resetVars(currentTime);
@@ -623,11 +673,9 @@ public class AlcoholModel extends SimModelImpl {
 			// 5 - Identify agents who will die at this time step
 						
 						if (allowDeath == 1) {	
-							// Update mortality probabilities to account for changes in age category
-							a.mortalityProb();
-							
-							// Identify agents who die at the current time step (after burn-in period)
-							if (getTickCount()>startAging) {agentDeath(a);}
+							// Update mortality stratum and probability to account for changes in age category
+							// (agents who die at the current time step are drawn after the agent update)
+							mortStratum[i] = a.mortalityStratum();
 						}
 						
 			// 6 - Identify agents who move to a new neighborhood and find their new location
@@ -635,53 +683,83 @@ public class AlcoholModel extends SimModelImpl {
 						if (getTickCount()>startAging) {
 							
 							// Recalculate moving probability based on duration of residence, income, and violence at last time step
+							a.rng.start(AlcoholRandom.MOVING, (long)currentTime);
 							a.movingProb();
 							
-							// Identify agents who move
-							double randomPmove = Random.uniform.nextDoubleFromTo(0,1);
-							if (randomPmove < a.getPMove()) { a.setMoved(1); a.setDurationRes(0); }
-								else {a.setMoved(0); a.durationRes += 1;}
+							// Agents who move are drawn after the agent update
+							a.setMoved(0);
+						}	
 						
-							// Assign agents new location
-							if (a.getMoved()==1) {
+						}
+					}); // end of agent update
+					
+					// Identify agents who die (after burn-in period) and agents who move at the current time step
+					if (allowDeath == 1) {
+						for (int i=0; i<agentList.size(); i++) {
+							AlcoholAgent a = (AlcoholAgent)agentList.get(i);
+							if (mortStratum[i] != a.mortStratum) { mortality.update(a, mortStratum[i]); }
+						}
+						if (getTickCount()>startAging) { agentDeath((long)currentTime); }
+					}
+					if (getTickCount()>startAging) {
+						drawEvents(AlcoholRandom.MOVING, (long)currentTime, population.pMove);
+						for (int e=0; e<rareEvents.numEvents; e++) {
+							int s = ((AlcoholAgent)agentList.get(rareEvents.event[e])).getSlot();
+							population.setFlag(AlcoholPopulation.MOVED, s, 1);
+						}
+					}
+					
+					// Select new location for agents who move, in parallel over agents
+					parallel.forEach(agentList, new AlcoholParallel.AgentTask() {
+						public void run(AlcoholAgent a, int i) {
+						
+						if (getTickCount()>startAging) {
 							
-								// First, keep track of agent's old neighborhood but remove from agent list
-								AlcoholNeighborhood oldhood = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
-								oldhood.neighborhoodAgentList.remove(a);
-								oldhood.temphoodAgentList.remove(a);
+							if (a.getMoved()==1) { a.setDurationRes(0); }
+								else { a.setDurationRes(a.getDurationRes() + 1); }
+						
+							// Select new location for agents who move
+							if (a.getMoved()==1) {
 								
-								// Second, update probabilities of living in each neighborhood based on current characteristics
-								a.hoodProbDist3();
-								a.hoodProbDist4();
-							
-								// Third, select new neighborhood
-								double randPopProb = Random.uniform.nextDoubleFromTo(0, 1);
-								for (int j=0; j<hoodList.size(); j++) {
-									if (randPopProb > a.popDist[j] && randPopProb <= a.popDist[j+1] && j != a.getAgenthood()) {
-										a.setAgenthood(j);
-										AlcoholNeighborhood newhood = (AlcoholNeighborhood)hoodList.get(j);
-										newhood.neighborhoodAgentList.add(a);
-										newhood.temphoodAgentList.add(a);
-										a.setAgenthood(newhood.getID());
-										a.setCdcode(newhood.getCdcode());
-										// Select X, Y location for agent within neighborhood boundaries
-										int agentX= newhood.getnb_minX() + (int)(Math.random() * (newhood.getnb_maxX() - newhood.getnb_minX()));
-										int agentY= newhood.getnb_minY() + (int)(Math.random() * (newhood.getnb_maxY() - newhood.getnb_minY()));
-										a.setX(agentX);
-										a.setY(agentY);
-										agentSpace.putObjectAt(agentX, agentY, a);	
-										// Notify cell that agent is present
-										AlcoholCell newCell = (AlcoholCell)hoodSpace.getObjectAt(agentX, agentY);
-										newCell.setMyAgent(a);
-										newCell.setAgentIncome(a.getHouseincome());
-										break;
-									}
+								// Select new neighborhood (other than the old one) using probabilities based on current characteristics
+								int j = a.drawMovingHood();
+								if (j >= 0 && j < hoodList.size()) {
+									AlcoholNeighborhood newhood = (AlcoholNeighborhood)hoodList.get(j);
+									// Select X, Y location for agent within neighborhood boundaries
+									moveX[i] = newhood.getnb_minX() + (int)(a.rng.nextDouble() * (newhood.getnb_maxX() - newhood.getnb_minX()));
+									moveY[i] = newhood.getnb_minY() + (int)(a.rng.nextDouble() * (newhood.getnb_maxY() - newhood.getnb_minY()));
+									moveHood[i] = j;
 								}
+								else { moveHood[i] = STAY; }
 							}
 							
 						}	
 						
-					} // end of agent loop	
+						}
+					}); // end of agent update
+					
+					// Move agents to their new location, in agent order
+					for (int i=0; i<agentList.size(); i++) {
+						if (moveHood[i] == NO_MOVE) continue;
+						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
+						
+						// First, keep track of agent's old neighborhood but remove from agent list
+						AlcoholNeighborhood oldhood = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
+						oldhood.removeResident(a);
+						
+						// Second, add agent to new neighborhood
+						if (moveHood[i] != STAY) {
+							AlcoholNeighborhood newhood = (AlcoholNeighborhood)hoodList.get(moveHood[i]);
+							newhood.addResident(a);
+							a.setAgenthood(newhood.getID());
+							a.setCdcode(newhood.getCdcode());
+							locateAgent(a, moveX[i], moveY[i]);
+						}
+						else {
+							// no other neighborhood for this agent, so stay in old neighborhood
+							oldhood.addResident(a);
+						}
+					}
 					
 			// 7 - Update neighborhood characteristics to reflect new residents after movement between neighborhoods
 					
@@ -696,6 +774,7 @@ public class AlcoholModel extends SimModelImpl {
 						setNBracecomp(NB);
 						setNBmeanage(NB);
 						if (getTickCount()>startAging) {setNBincome(NB);}
+						setNBdrinkProb(NB);
 					}
 					
 					// Identify neighborhoods with high levels of income
@@ -707,20 +786,10 @@ public class AlcoholModel extends SimModelImpl {
 							else {nb.setHighhoodinc(0);}
 					}
 					
-					// Update neighborhood characteristics of cells located in that neighborhood
-					for (int i=0; i<worldXsize; i++) {
-						for (int j=0; j<worldYsize; j++) {
-							AlcoholCell newCell = (AlcoholCell)hoodSpace.getObjectAt(i,j);
-							int cellID = newCell.getHoodID();
-							AlcoholNeighborhood cellHood = (AlcoholNeighborhood)hoodList.get(cellID);
-							newCell.setHighhoodviol(cellHood.getHighhoodviol());
-						}
-					}	
-					
 					// Identify whether agents live in high or low income neighborhoods
 					for (int i=0; i<agentList.size(); i++) {
 						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.Agenthood);
+						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
 						if (a.getMoved()==1) {
 							if (nb.getHighhoodinc()==1) { a.setEverHighInc(1); }
 							else if (nb.getHighhoodinc()==0) { a.setEverLowInc(1); }
@@ -747,12 +816,12 @@ public class AlcoholModel extends SimModelImpl {
 
 						
 							
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
+					parallel.forEach(agentList, new AlcoholParallel.AgentTask() {
+						public void run(AlcoholAgent a, int i) {
 						
 						// Drinking transitions
 						// NOTE: ALCOHOL TAXATION INTERVENTION AFFECTS DRINKING TRANSITIONS IN THIS STEP
+						a.rng.start(AlcoholRandom.DRINKING, (long)currentTime);
 						if (getTickCount()>startAging) { drinkingTrans(a); }
 							
 						// Potential selection of a new preferred alcohol outlet
@@ -778,254 +847,105 @@ public class AlcoholModel extends SimModelImpl {
 							
 	
 						}
-					} // end of agent loop
+						}
+					}); // end of agent update
 					
 					// Update number of friends who are abstainers, light/moderate drinkers, and heavy drinkers
-					for (int i=0; i<agentList.size(); i++) {
-						int numNoDrk = 0, numLightDrk = 0, numHeavyDrk = 0;
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						for (int w=0; w<a.getTotalFriends(); w++) {
-							if (a.friendList.get(w).getDrinkStat()==1) { numNoDrk += 1; }
-							else if (a.friendList.get(w).getDrinkStat()==2) { numLightDrk += 1; }
-							else if (a.friendList.get(w).getDrinkStat()==3) { numHeavyDrk += 1; }
-						}
-						a.setNumFrdNoDrk(numNoDrk);
-						a.setNumFrdLightDrk(numLightDrk);
-						a.setNumFrdHeavyDrk(numHeavyDrk);
-					}
+					// (only agents whose drinking status changed update their friends)
+					friendGraph.updateDrinking(population);
 					
 	
 
 
 					
 			// 11 - Identify potential victims and perpetrators of violence, including homicide
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.Agenthood);	
-								
-						// Remember average level of violence and income in neighborhood at last time step
+					
+					// Remember average level of violence and income in neighborhood at last time step,
+					// and calculate neighborhood-level probabilities of violence for residents
+					for (int t=0; t<hoodList.size(); t++) {
+						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(t);
 						nb.setLastavghoodviol(nb.getAvghoodviol());
 						nb.setLastavghoodinc(nb.getAvghoodinc());
+						if (getTickCount()>startAging) { setNBviolProb(nb); }
+					}
+					
+					parallel.forEach(agentList, new AlcoholParallel.AgentTask() {
+						public void run(AlcoholAgent a, int i) {
+						// inputs and probabilities are read and written in the population columns by slot
+						int s = a.getSlot();
+						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(population.hood[s]);	
 						
 						// 12a - Calculate probabilities of homicide
-						double logitPhom, ihomP1, ihomP2, ihomP3, ihomP4, logNhom, nhomP, homP;
+						double ihomP3, nhomP, homP;
+						int key = population.key(s, AlcoholAgent.V_FLAGS);
 						
 						// Homicide 
 						
-						// INFLUENCE OF INDIVIDUAL LEVEL
-						// 12.5.2014 -- calibration: increase intercept from -12.8404 to -10.5, back to -12.25
-						//							 increase Inc1 coefficient from 2.1891 to 3.35, increase Age1 coefficient from 1.6775 to 2.5
-						// logitPhom = (double) -12.25 + (3.35*a.getInc1()) + (1.3085*a.getInc2()) + (-0.0753*a.getInc3()) +
-											// (1.8814*a.getGender()) + (2.5*a.getAge1()) + (1.3167*a.getAge2()) + (0.8021*a.getAge3()) + 
-											// (0.6588*a.getAge4()) + (0.2296*a.getAge5());
-						// calibration: decrease intercept from -15.35 to -16.75
-						// 12.21.2015 -- calibration: trying equation above.
-						// 12.28.2015 -- note: equation above is bad, switching back.
-						// 12.28.2015 -- calibration: decrease intercept from -16.75 to -18.00
-						// 12.30.2015 -- calibration: decrease intercept from -18.00 to -22.00
-						// 1.4.2015 -- calibration: decrease intercept from -22 to -30
-						// 1.5.2015 -- calibration: decrease intercept from -30 to -40
-						// 1.6.2016 -- calibration: increase intercept from -40 to -35
-						// 1.7.2016 -- calibration: increase intercept from -35 to -30
-						// 1.11.2016 -- calibration: increase intercept from -30 to -15
-						logitPhom = (double) -15.00 + (4.95*a.getInc1()) + (3.15*a.getInc2()) + (0.10*a.getInc3()) +
-								(1.8814*a.getGender()) + (3.0*a.getAge1()) + (1.3167*a.getAge2()) + (0.8021*a.getAge3()) + 
-								(0.6588*a.getAge4()) + (0.2296*a.getAge5());
-
-						ihomP1 = Math.exp(logitPhom)/(1 + Math.exp(logitPhom));
-						// increase probability of homicide if history of violence and/or heavy drinker
-						// and decrease probability of homicide if no history of violence and/or not heavy drinker
-						// 3.12.15 -- 50% increase for prior violence instead of 25%
-						//			  100% increase for heavy drinker instead of 20%
-						if (a.getPriorviolvict()==1 || a.getPriorviolperp()==1) { ihomP2 = ihomP1*1.50; } else { ihomP2 = ihomP1*0.75; }
-						if (a.getHeavyDrinker()==1) { ihomP3 = ihomP2*2.0; } else { ihomP3 = ihomP2*0.80; }
+						// INFLUENCE OF INDIVIDUAL LEVEL (looked up by covariate pattern, see buildLogitTables)
+						ihomP3 = violenceTable.get(key, P_HOMICIDE);
 						
 
 						
 						// INFLUENCE OF NEIGHBORHOOD LEVEL
-						// neighborhood influences begin after burn-in period
-						// 12.5.2014 -- calibration: increase intercept from -11.0397 to -10.0
-						//							 increase PercBlack coefficient from 2.2516 to 3.15 to 3.50
-						// 1.22.2015 -- calibration: add percent foreign-born and percent man/prof occupations
-						if (getTickCount()>startAging) {
-							// logNhom = (double) -10.4195 + (0.7292*nb.getHoodinc1()) + (0.6135*nb.getHoodinc2()) +
-											   // (0.3409*nb.getAvghoodviol()) + (-0.1699*nb.getPercLightDrk()) + 
-											   // (-0.182*nb.getPercHeavyDrk()) + (2.045*nb.getPercBlack()) + 
-											   // (1.3021*nb.getPercHisp()) + (-0.0125*nb.getPercFBorn()) + 
-											   // (-0.0185*nb.getPercManProf());
-							// 3.12.15 -- calibration: increase hoodinc1 coefficient from 1.80 to 2.20
-							//			  increase hoodinc2 coefficient from 0.70 to 0.85
-							//			  increase avghoodviol coefficient from 0.90 to 1.25
-							// logNhom = (double) -9.75 + (2.20*nb.getHoodinc1()) + (0.85*nb.getHoodinc2()) +
-											 //  (1.25*nb.getAvghoodviol()) + (-0.10*nb.getPercLightDrk()) + 
-											 //  (-0.12*nb.getPercHeavyDrk()) + (5.15*nb.getPercBlack()) + 
-											 //  (3.0*nb.getPercHisp()) + (-0.025*nb.getPercFBorn()) + 
-											 //  (-0.03*nb.getPercManProf());
-							// 3.12.15 -- calibration: increase intercept from -12.461 to -11.0
-							//			  increase hoodinc1 coefficient from 0.3880 to 2.50
-							//			  increase hoodinc2 coefficient from 0.5214 to 0.85
-							//			  increase avghoodviol coefficient from 0.0294 to 1.25
-							//			  increase percblack coefficient from 1.3834 to 5.75
-							// 			  increase perchisp coefficient from 0.1293 to 2.75
-							//			  decrease percmanprof coefficient from 0.0101 to -0.005
-							//			  decrease percstable coefficient from 1.2459 to 0.01
-							//			  increase percunemp from 1.4887 to 2.20
-							// 3.22.15 -- calibration: decrease intercept form -11.0 to -11.15
-							//			  decrease percblack coefficient from 5.75 to 5.30
-							//			  decrease percyoungmale coefficient from 8.4289 to 8.10
-							// 1.5.16 --  decrease percblack coefficient from 5.30 to 3.00
-							logNhom = (double) -11.15 + (2.50*nb.getHoodinc1()) + (0.85*nb.getHoodinc2()) +
-											   (1.25*nb.getAvghoodviol()) + (-0.0834*nb.getPercLightDrk()) +
-											   (-0.044*nb.getPercHeavyDrk()) + (3.00*nb.getPercBlack()) +
-											   (2.75*nb.getPercHisp()) + (-0.007*nb.getPercFBorn()) +
-											   (-0.005*nb.getPercManProf()) + (8.10*nb.getPercYoungMale()) +
-											   (0.01*nb.getPercStable()) + (2.20*nb.getPercUnemp()) +
-											   (3.9179*nb.getPercFemHHKids());
-							nhomP = Math.exp(logNhom);
-						} else nhomP = ihomP3;
+						// neighborhood influences begin after burn-in period (evaluated once per neighborhood in setNBviolProb)
+						if (getTickCount()>startAging) { nhomP = nb.getNProbHomicide(); }
+						else nhomP = ihomP3;
 						
 						// FINAL PROBABILITIY
 						if (getTickCount()>startAging) { homP = ((1 - getNetwork_alpha() - getAlpha())*(ihomP3)) + (getAlpha()*nhomP); }
 						else { homP = ((1 - getNetwork_alpha())*ihomP3); }
 						
-						a.setProbHomicide(homP);
+						population.probHomicide[s] = homP;
 						
 						// 12b - Calculate probabilities of violent victimization
-						double logitP1, logitP2;
-						double iviolP1, iviolP2, iviolP3, iviolP4;		// individual-level probabilities
-						double logitN1, logitN2;
+						double iviolP1, iviolP3;						// individual-level probabilities
 						double nviolP1, nviolP2;						// neighborhood-level probabilities
 						double violP1, violP2;
 						
 						// Non-fatal violent victimization
 						
-						// INFLUENCE OF INDIVIDUAL LEVEL
-						// 11.20.2014 -- revised equation to change reference groups
-						// calibration: decrease intercept from -3.8974 to -5.50
-						//				increase Lesshs coefficient from 0.8145 to 1.45
-						//				increase HS coefficient from -0.7195 to 0.90
-						//				increase Inc1 coefficient from 0.2534 to 1.75
-						//				increase Inc2 coefficient from 0.20 to 0.55
-						//				increase Age1 coefficient from 1.7068 to 2.2
-						// calibration: decrease intercept from -5.80 to -6.75
-						// 12.21.15 -- increase intercept from -6.75 to -5.80
-						// 12.30.15 -- increase intercept from -5.80 to -5.00
-						// 1.4.16 -- decrease intercept from -5.00 to -5.50
-						// 1.5.16 -- decrease intercept from -5.50 to -5.75
-						// 1.6.16 -- increase intercept from -5.75 to -5.65
-						// 1.7.16 -- decrease intercept from -5.65 to -5.70
-						logitP1 = (double) -5.70 + (0.2796*a.getGender()) + (2.2*a.getAge1()) +
-								(0.85*a.getAge2()) + (0.5763*a.getAge3()) + (0.0143*a.getAge4()) +
-								(-0.17*a.getAge5()) + (1.45*a.getLesshs()) + (0.90*a.getHs()) +
-								(1.75*a.getInc1()) + (0.55*a.getInc2()) + (0.128*a.getInc3()) +
-								(-0.6113*a.getLightDrinker()) + (0.6341*a.getHeavyDrinker()) +
-								(1.614*a.getPriorviolvict()) + (0.4095*a.getPriorviolperp());
-						iviolP1 = Math.exp(logitP1)/(1 + Math.exp(logitP1));
+						// INFLUENCE OF INDIVIDUAL LEVEL (looked up by covariate pattern, see buildLogitTables)
+						iviolP1 = violenceTable.get(key, P_VIOLVICT);
 						
 
 						
 						// INFLUENCE OF NEIGHBORHOOD LEVEL
-						// neighborhood influences begin after burn-in period
-						// 11.19.2014 -- calibration: increase intercept from -3.6763 to -3.00
-						// 12.4.2014 -- calibration: increase percblack coefficient from -0.5331 to 2.50
-						//							 increase perchisp coefficient from -1.5628 to 0.30
-						if (getTickCount()>startAging) {
-							// logitN1 = (double) -3.00 + (0.3995*nb.getHoodinc1()) + (0.0248*nb.getHoodinc2()) +
-									//   (2.50*nb.getPercBlack()) + (0.30*nb.getPercHisp()) + 
-									//   (14.7472*nb.getAvghoodviol());
-							// 3.12.2015 -- calibration: decrease intercept from 1.7728 to 0.25 to -2.20
-							//			    increase hoodinc1 coefficient from 0.6044 to 3.5
-							//				increase hoodinc2 coefficient from 0.0777 to 1.5
-							//				increase percblack coefficient from 0.0053 to 6.75
-							//				increase perchisp coefficient from -1.3231 to 2.50
-							//				decrease percyoungmale coefficient from 23.1486 to 10.0
-							//			    increase percstable coefficient from -7.6444 to -0.50
-							//				increase unemp coefficient from -9.0505 to 5.0
-							//				increase femhhkids coefficient from 0.3383 to 4.50
-							// 12.30.2015   increase percblack coefficient from 6.75 to 7.25
-							// 1.5.2016   increase percblack coefficient from 7.25 to 8.50
-							// 1.6.2016     increase percblack coefficient from 8.50 to 10.00
-							// 1.7.2016     increase percblack coefficient from 10.00 to 12.00
-							// 1.11.2016    increase percblack coefficient from 12 to 20
-							logitN1 = (double) -2.20 + (3.5*nb.getHoodinc1()) + (1.5*nb.getHoodinc2()) +
-									  (20.00*nb.getPercBlack()) + (2.5*nb.getPercHisp()) +
-									  (16.4594*nb.getAvghoodviol()) + (10.0*nb.getPercYoungMale()) +
-									  (-0.50*nb.getPercStable()) + (5.00*nb.getPercUnemp()) +
-									  (4.50*nb.getPercFemHHKids());
-							nviolP1 = Math.exp(logitN1)/(1 + Math.exp(logitN1));
-						} else nviolP1 = 0;
+						// neighborhood influences begin after burn-in period (evaluated once per neighborhood in setNBviolProb)
+						if (getTickCount()>startAging) { nviolP1 = nb.getNProbViolvict(); }
+						else nviolP1 = 0;
 						
 						// FINAL PROBABILITY
 						if (getTickCount()>startAging) { violP1 = ((1 - getAlpha() - getNetwork_alpha())*(iviolP1)) + (getAlpha()*nviolP1); }
 						else { violP1 = ((1 - getNetwork_alpha())*iviolP1); }
 						
-						a.setPviolvict(violP1);
+						population.pviolvict[s] = violP1;
 						
 						// 12c - Calculate probability of violent perpetration
 						
-						// INFLUENCE OF INDIVIDUAL LEVEL
-						// 11.20.2014 -- revised equation to change reference categories
-						// calibration: decrease intercept from -6.2805 to -6.75 to -7.50
-						//				increase coefficient for Age2 from 0.0985 to 1.25
-						//				increase coefficient for Age3 from -0.3876 to 0.15
-						//				increase coefficient for Lesshs from 0.3332 to 0.90 to 1.00
-						//				increase coefficient for HS from 0.2902 to 0.65
-						// 				increase coefficient for Inc1 from -0.1394 to 0.75 to 0.95
-						//				increase coefficient for Inc2 from -0.3918 to 0.40 to 0.55
-						// 				increase coefficient for Inc3 from -0.3904 to 0.125
-						//				increase coefficient for priorviolperp from 1.0548 to 1.25
-						// 12.21.2015   increase intercept from -8.50 to -7.50
-						// 1.5.2016     decrease intercept from -7.50 to -7.60
-						// 1.6.2016     decrease intercept from -7.60 to -7.70
-						// 1.7.2016     decrease intercept from -7.70 to -7.80
-						// 1.11.2016    decrease intercept from -7.80 to 8.00
-						//              
-						logitP2 = (double) -8.00 + (1.0901*a.getGender()) + (1.1434*a.getAge1()) +
-								(1.25*a.getAge2()) + (0.15*a.getAge3()) + (-0.9339*a.getAge4()) +
-								(-2.3138*a.getAge5()) + (1.00*a.getLesshs()) + (0.65*a.getHs()) +
-								(0.95*a.getInc1()) + (0.55*a.getInc2()) + (0.125*a.getInc3()) +
-								(0.0072*a.getLightDrinker()) + (0.4521*a.getHeavyDrinker()) +
-								(2.1887*a.getPriorviolvict()) + (1.25*a.getPriorviolperp());
-						iviolP3 = Math.exp(logitP2)/(1 + Math.exp(logitP2));
+						// INFLUENCE OF INDIVIDUAL LEVEL (looked up by covariate pattern, see buildLogitTables)
+						iviolP3 = violenceTable.get(key, P_VIOLPERP);
 						
 
 						
 						// INFLUENCE OF NEIGHBORHOOD LEVEL
-						// neighborhood influences begin after burn-in period
-						// 11.19.2014 -- calibration: increase intercept from -4.9017 to -3.75
-						// 12.4.2014 -- calibration: increase percblack coefficient from -0.5331 to 2.50
-						//							 increase perchisp coefficient from -1.5628 to 0.30
-						// 12.28.2015 -- calibration: increase percblack coefficient from 6.75 to 7.00
-						// 1.4.2016 -- calibration: increase percblack coefficient from 7.00 to 8.00
-						// 1.5.2016 -- calibration: increase percblack coefficient from 8.00 to 10.00
-						// 1.6.2016 -- calibration: increase percblack coefficient from 10.00 to 12.00
-						// 1.11.2016 -- calibration: increase percblack coefficinet from 12 to 20.
-			
-						if (getTickCount()>startAging) {
-							// logitN2 = (double) -3.75 + (0.3995*nb.getHoodinc1()) + (0.0248*nb.getHoodinc2()) +
-									//  (2.50*nb.getPercBlack()) + (0.30*nb.getPercHisp()) + 
-									//  (14.7472*nb.getAvghoodviol());
-							logitN2 = (double) -4.40 + (3.5*nb.getHoodinc1()) + (1.5*nb.getHoodinc2()) +
-									  (20.00*nb.getPercBlack()) + (2.5*nb.getPercHisp()) +
-									  (16.4594*nb.getAvghoodviol()) + (10.0*nb.getPercYoungMale()) +
-									  (-0.50*nb.getPercStable()) + (5.00*nb.getPercUnemp()) +
-									  (4.50*nb.getPercFemHHKids());
-							nviolP2 = Math.exp(logitN2)/(1 + Math.exp(logitN2));
-						} else nviolP2 = 0;
+						// neighborhood influences begin after burn-in period (evaluated once per neighborhood in setNBviolProb)
+						if (getTickCount()>startAging) { nviolP2 = nb.getNProbViolperp(); }
+						else nviolP2 = 0;
 						
 						// FINAL PROBABILITY
 						if (getTickCount()>startAging) { violP2 = ((1 - getAlpha() - getNetwork_alpha())*(iviolP3)) + (getAlpha()*nviolP2); }
 						else { violP2 = ((1 - getNetwork_alpha())*iviolP3); }
 						
-						a.setPviolperp(violP2);
+						population.pviolperp[s] = violP2;
 						
 						// Variable containing highest probability of violence
-						double max1 = Math.max(a.getProbHomicide(), a.getPviolvict());
-						double max2 = Math.max(a.getPviolvict(), a.getPviolperp());
+						double max1 = Math.max(homP, violP1);
+						double max2 = Math.max(violP1, violP2);
 						double max3 = Math.max(max1, max2);
-						a.setProbViolence(max3);
+						population.probViolence[s] = max3;
 						
-					} // close the agent loop
+						}
+					}); // end of agent update
 					
 
 					////////////// IF VIOLENCE INTERRUPTER INTERVENTION IS IN EFFECT
@@ -1034,29 +954,46 @@ public class AlcoholModel extends SimModelImpl {
 					// Discount probabilities of violence by half for these agents
 
 					
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i); 
+					// Draw potential victims and perpetrators for all agents at once (see drawEvents)
+					// (the flags are cleared for all slots at once)
+					population.clearFlag(AlcoholPopulation.POTHOMICIDE);
+					population.clearFlag(AlcoholPopulation.POTVIOLVICT);
+					population.clearFlag(AlcoholPopulation.POTVIOLPERP);
 					
-						// 12d - Potential victim of homicide
-						double randomPhom = Random.uniform.nextDoubleFromTo(0,1);
-						if (randomPhom < a.getProbHomicide()) {a.setPothomicide(1);}
-							else {a.setPothomicide(0);}
-						
-						// 12e - Potential victim of violence
-						double randomP1 = Random.uniform.nextDoubleFromTo(0,1);
-						if (randomP1 < a.getPviolvict()) {a.setPotviolvict(1);}
-							else {a.setPotviolvict(0);}
-						
-						// 12f - Potential perpetrator of violence
-						double randomP2 = Random.uniform.nextDoubleFromTo(0,1);
-						if (randomP2 < a.getPviolperp()) {a.setPotviolperp(1);}
-							else {a.setPotviolperp(0);}
+					// 12d - Potential victim of homicide
+					drawEvents(AlcoholRandom.HOMICIDE, (long)currentTime, population.probHomicide);
+					for (int e=0; e<rareEvents.numEvents; e++) {
+						population.setFlag(AlcoholPopulation.POTHOMICIDE, ((AlcoholAgent)agentList.get(rareEvents.event[e])).getSlot(), 1);
+					}
+					
+					// 12e - Potential victim of violence
+					drawEvents(AlcoholRandom.VICTIMIZATION, (long)currentTime, population.pviolvict);
+					for (int e=0; e<rareEvents.numEvents; e++) {
+						population.setFlag(AlcoholPopulation.POTVIOLVICT, ((AlcoholAgent)agentList.get(rareEvents.event[e])).getSlot(), 1);
+					}
+					
+					// 12f - Potential perpetrator of violence
+					drawEvents(AlcoholRandom.PERPETRATION, (long)currentTime, population.pviolperp);
+					numPerps = 0;
+					for (int e=0; e<rareEvents.numEvents; e++) {
+						population.setFlag(AlcoholPopulation.POTVIOLPERP, ((AlcoholAgent)agentList.get(rareEvents.event[e])).getSlot(), 1);
+						perpQueue[numPerps++] = rareEvents.event[e];
+					}
+					
+					victimIndex.clear();
+					for (int i=0; i<agentList.size(); i++) {
+						int s = ((AlcoholAgent)agentList.get(i)).getSlot();
 					
 						// 12g - Notify agent's cell that there is a potential victim present
-						AlcoholCell victimCell = (AlcoholCell)hoodSpace.getObjectAt(a.getX(), a.getY());
-						if (a.getPotviolvict() == 1 || a.getPothomicide() == 1) { victimCell.setPotVictim(1);}
+						// and add the cell (once) to the index of potential-victim cells
+						int victimCell = hoodSpace.index(population.x[s], population.y[s]);
+						if (population.getFlag(AlcoholPopulation.POTVIOLVICT, s) == 1 || population.getFlag(AlcoholPopulation.POTHOMICIDE, s) == 1) {
+							if (hoodSpace.getPotVictim(victimCell) == 0) { victimIndex.add(victimCell); }
+							hoodSpace.setPotVictim(victimCell, 1);
+						}
 						
 					}	
+					victimIndex.build();
 							
 			// 13 - Actual violent incidents
 					
@@ -1064,27 +1001,23 @@ public class AlcoholModel extends SimModelImpl {
 					// to see if there are any potential victims of violence
 					// within the specified distance
 					// if there are, they become true victims and a proportion of the nearby agents witness the assault
-					// NOTE: first shuffle agent list so same agents aren't always perpetrating first
-					SimUtilities.shuffle(tempagentList);				
-					for (int i=0; i<tempagentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)tempagentList.get(i);
-						if (a.getPotviolperp()==1) {findVictims(a);}
-					}
+					// NOTE: first shuffle potential perpetrators (collected in 12f) so same agents aren't always perpetrating first
+					modelRng.start(AlcoholRandom.VIOLENCE, (long)currentTime);
+					modelRng.shuffle(perpQueue, numPerps);
+					
+					// perpetrators claim victims in parallel, then the claims are applied in cell order
+					victimClaims.ensureCapacity(population.size());
+					parallel.forEach(numPerps, 16, new AlcoholParallel.IndexTask() {
+						public void run(int q) { claimVictims(q); }
+					});
+					resolveVictims();
 					
 					// 13b - Update violent characteristics of alcohol outlets
 
 					
 					// 13c - Update number of friends who were victimized or who perpetrated violence
-					for (int i=0; i<agentList.size(); i++) {
-						int numVictim = 0, numPerp = 0;
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						for (int w=0; w<a.getTotalFriends(); w++) {
-							if (a.friendList.get(w).getViolvict()==1) { numVictim += 1; }
-							if (a.friendList.get(w).getViolperp()==1) { numPerp += 1; }
-						}
-						a.setNumFrdVictim(numVictim);
-						a.setNumFrdPerp(numPerp);
-					}
+					// (only agents victimized or perpetrating at this or the last time step update their friends)
+					friendGraph.updateViolence(population);
 					
 			// 14 - Update average neighborhood characteristics
 					for (int t=0; t<hoodList.size(); t++) {
@@ -1096,6 +1029,7 @@ public class AlcoholModel extends SimModelImpl {
 						setNBmeanage(NB);
 						setNByoungmale(NB);
 						if (getTickCount()>startAging) {setNBincome(NB);}
+						setNBdrinkProb(NB);
 					}
 					
 					// Identify neighborhoods with high levels of violence and income
@@ -1107,16 +1041,6 @@ public class AlcoholModel extends SimModelImpl {
 							else {nb.setHighhoodinc(0);}
 					}
 					
-					// Update neighborhood characteristics of cells located in that neighborhood
-					for (int i=0; i<worldXsize; i++) {
-						for (int j=0; j<worldYsize; j++) {
-							AlcoholCell newCell = (AlcoholCell)hoodSpace.getObjectAt(i,j);
-							int cellID = newCell.getHoodID();
-							AlcoholNeighborhood cellHood = (AlcoholNeighborhood)hoodList.get(cellID);
-							newCell.setHighhoodviol(cellHood.getHighhoodviol());
-						}
-					}
-					
 
 					
 			// 15 - Update grid of agent locations, real-time graphs, and output file
@@ -1133,8 +1057,10 @@ public class AlcoholModel extends SimModelImpl {
 					}
 				
 					// Record output to file
-					recorder.record();
-					recorder.writeToFile();
+					// (values are recorded here, and written to the files on the output writer's thread)
+					aggregator.sweep(agentList, hoodList);
+					synchronized (recorder) { recorder.record(); }
+					output.submit(writeRecorder);
 					
 					// Output agent characteristics at each time step, as needed
 					if (outputAgentSteps == 1) stepReport();
@@ -1150,56 +1076,144 @@ public class AlcoholModel extends SimModelImpl {
 			
 			schedule.scheduleActionBeginning(0, new ViolenceStep());
 			
+			// Wait until all output is written when the model run ends, whether at stopModelRun or stopped early
+			schedule.scheduleActionAtEnd(new BasicAction() {
+				public void execute() { finishOutput(); }
+			});
+			
 		} // end of buildSchedule
 		
 		
 		/////////////////////////////// FUNCTIONS CALLED ABOVE
 		
 		// buildModelStart()
-		// Set random number generators
+		// Set random number generators and build tables of individual-level probabilities
 		public void buildModelStart() {
-			uchicago.src.sim.util.Random.createUniform();
-			uchicago.src.sim.util.Random.createNormal( 0.0, 1.0 );
-			uchicago.src.sim.util.Random.createBeta(2,5);
+			long seed = masterSeed;
+			if (seed == 0) { seed = uchicago.src.sim.util.Random.getSeed(); }
+			modelRng = new AlcoholRandom(seed, AlcoholRandom.MODEL);
+			eventRng = new AlcoholRandom(seed, AlcoholRandom.EVENTS);
+			rareEvents = new AlcoholRareEvents();
+			System.out.println("Master seed = " + seed);
+			loadCoefficients();
+			buildLogitTables();
+		}
+		
+		// loadCoefficients()
+		// Read coefficients of logit equations from the coefficient file, so they can be changed between runs;
+		// default coefficients are used if there is no coefficient file
+		public void loadCoefficients() {
+			if (coefficientFile == null || coefficientFile.length() == 0 || !new File(coefficientFile).exists()) {
+				System.out.println("No coefficient file " + coefficientFile + ", using default coefficients");
+				coefficients = new AlcoholCoefficients();
+			}
+			else {
+				coefficients = AlcoholCoefficients.load(coefficientFile);
+				System.out.println("Coefficients read from " + coefficientFile);
+			}
 		}
 		
+		// buildLogitTables()
+		// Build tables of individual-level probabilities of violence and drinking, by covariate pattern
+		// (see AlcoholLogitTable), from the compiled equations in coefficients; must be called again if the
+		// coefficients are changed
+		public void buildLogitTables() {
+			final AlcoholCoefficients c = coefficients;
+			
+			// homicide, non-fatal violent victimization, and violent perpetration
+			final AlcoholCoefficients.Equation homicide = c.equation("homicide"), violvict = c.equation("violvict"),
+											   violperp = c.equation("violperp");
+			final double priorviolFactor = c.get("homicide.priorviolFactor"), noPriorviolFactor = c.get("homicide.noPriorviolFactor"),
+						 heavyDrinkerFactor = c.get("homicide.heavyDrinkerFactor"), notHeavyDrinkerFactor = c.get("homicide.notHeavyDrinkerFactor");
+			violenceTable = new AlcoholLogitTable(AlcoholAgent.NUM_V, 3, new AlcoholLogitTable.Equation() {
+				public void values(double[] x, double[] p) {
+					// homicide
+					double ihomP1 = AlcoholLogitTable.logistic(homicide.logit(x));
+					// increase probability of homicide if history of violence and/or heavy drinker
+					// and decrease probability of homicide if no history of violence and/or not heavy drinker
+					double ihomP2, ihomP3;
+					if (x[AlcoholAgent.V_PRIORVIOLVICT]==1 || x[AlcoholAgent.V_PRIORVIOLPERP]==1) { ihomP2 = ihomP1*priorviolFactor; }
+					else { ihomP2 = ihomP1*noPriorviolFactor; }
+					if (x[AlcoholAgent.V_HEAVY]==1) { ihomP3 = ihomP2*heavyDrinkerFactor; } else { ihomP3 = ihomP2*notHeavyDrinkerFactor; }
+					p[P_HOMICIDE] = ihomP3;
+					
+					// non-fatal violent victimization
+					p[P_VIOLVICT] = AlcoholLogitTable.logistic(violvict.logit(x));
+					
+					// violent perpetration
+					p[P_VIOLPERP] = AlcoholLogitTable.logistic(violperp.logit(x));
+				}
+			});
+			
+			// being a current light/moderate or heavy drinker (from wtc data)
+			final AlcoholCoefficients.Equation drinkLight = c.equation("drinkLight"), drinkHeavy = c.equation("drinkHeavy");
+			drinkStatTable = new AlcoholLogitTable(AlcoholAgent.NUM_D, 2, new AlcoholLogitTable.Equation() {
+				public void values(double[] x, double[] p) {
+					double ilogitPLight = drinkLight.logit(x);
+					double ilogitPHeavy = drinkHeavy.logit(x);
+					p[P_LIGHT] = (Math.exp(ilogitPLight)/(1 + Math.exp(ilogitPLight) + Math.exp(ilogitPHeavy)));
+					p[P_HEAVY] = (Math.exp(ilogitPHeavy)/(1 + Math.exp(ilogitPLight) + Math.exp(ilogitPHeavy)));
+				}
+			});
+			
+			// drinking beer, wine, and spirits (from NESARC data)
+			final AlcoholCoefficients.Equation beer = c.equation("beer"), wine = c.equation("wine"), spirit = c.equation("spirit");
+			beverageTable = new AlcoholLogitTable(AlcoholAgent.NUM_D, 3, new AlcoholLogitTable.Equation() {
+				public void values(double[] x, double[] p) {
+					p[P_BEER] = AlcoholLogitTable.logistic(beer.logit(x));
+					p[P_WINE] = AlcoholLogitTable.logistic(wine.logit(x));
+					p[P_SPIRIT] = AlcoholLogitTable.logistic(spirit.logit(x));
+				}
+			});
+			
+			// drinking transitions
+			final AlcoholCoefficients.Equation startLight = c.equation("startLight"), quitDrk = c.equation("quitDrk"),
+											   lightToHeavy = c.equation("lightToHeavy"), heavyToLight = c.equation("heavyToLight");
+			drinkTransTable = new AlcoholLogitTable(AlcoholAgent.NUM_D, 4, new AlcoholLogitTable.Equation() {
+				public void values(double[] x, double[] p) {
+					// non-drinkers who become light/moderate drinkers
+					p[P_START_LIGHT] = AlcoholLogitTable.logistic(startLight.logit(x));
+					
+					// light/moderate drinkers who become non-drinkers or heavy drinkers
+					double ilogitP2 = quitDrk.logit(x);
+					double ilogitP3 = lightToHeavy.logit(x);
+					p[P_QUIT_DRK] = (Math.exp(ilogitP2)/(1 + Math.exp(ilogitP2) + Math.exp(ilogitP3)));
+					p[P_LIGHT_HEAVY] = (Math.exp(ilogitP3)/(1 + Math.exp(ilogitP2) + Math.exp(ilogitP3)));
+					
+					// heavy drinkers who become light/moderate drinkers
+					p[P_HEAVY_LIGHT] = AlcoholLogitTable.logistic(heavyToLight.logit(x));
+				}
+			});
+			
+			// moving
+			moveTable = AlcoholAgent.buildMoveTable(c);
+			if (population != null) population.setMoveTable(moveTable);
+		} // end of buildLogitTables()
+		
 		// checkEndCondition()
 		// Stop model run when end time is reached
 		public void checkEndCondition() {
 			if (getTickCount()>=stopModelRun) { System.out.println("End of model run"); this.stop();}
 		}
 		
+		// finishOutput()
+		// Wait until all output has been written and close the output files (flush barrier); called when the
+		// model run ends (after the output of the last time step, see buildSchedule) and before a new model run
+		public void finishOutput() {
+			if (agentSnapshot != null) agentSnapshot.close();
+			agentSnapshot = null;
+			if (output != null) output.close();
+			output = null;
+		}
+		
 		// setNBincome()
 		// Calculate average neighborhood income among agent residents at baseline
+		// NOTE: income of residents is summed by the neighborhood as agents arrive and leave
 		public void setNBincome( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalAgentIncome = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalAgentIncome = nb.getSum(AlcoholNeighborhood.SUM_INCOME);
 			double avgAgentIncome = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				// assign midpoint values of agent income categories
-				// 1 < $10k, 2 $10-$14, 3 $15-$19, 4 $20-$24, 5 $25-$29, 6 $30-$34, 7 $35-$39, 8 $40-$44, 9 $45-$49
-				// 10 $50-$59, 11 $60-$74, 12 $75-$99, 13 $100-$124, 14 $125-$149, 15 $150-$199, 16 $200+
-				int AgentInc = 0;
-				if (a.getHouseinc16() == 1) {AgentInc = 5000;}
-					else if (a.getHouseinc16() == 2) {AgentInc = 12500;}
-					else if (a.getHouseinc16() == 3) {AgentInc = 17500;}
-					else if (a.getHouseinc16() == 4) {AgentInc = 22500;}
-					else if (a.getHouseinc16() == 5) {AgentInc = 27500;}
-					else if (a.getHouseinc16() == 6) {AgentInc = 32500;}
-					else if (a.getHouseinc16() == 7) {AgentInc = 37500;}
-					else if (a.getHouseinc16() == 8) {AgentInc = 42500;}
-					else if (a.getHouseinc16() == 9) {AgentInc = 47500;}
-					else if (a.getHouseinc16() == 10) {AgentInc = 55000;}
-					else if (a.getHouseinc16() == 11) {AgentInc = 67500;}
-					else if (a.getHouseinc16() == 12) {AgentInc = 87500;}
-					else if (a.getHouseinc16() == 13) {AgentInc = 112500;}
-					else if (a.getHouseinc16() == 14) {AgentInc = 137500;}
-					else if (a.getHouseinc16() == 15) {AgentInc = 175000;}
-					else {AgentInc = 225000;}
-				totalAgentIncome += AgentInc;
-			}
 			// calculate average income of agents in neighborhood
 			if (totalAgentNum>0) {
 				avgAgentIncome = (double) totalAgentIncome/totalAgentNum;
@@ -1220,19 +1234,13 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate average level of violence and homicide rate among agent residents
 		public void setNBviol( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalAgentViol = 0;
-			int totalHom = 0;
-			int totalAlcHom = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalAgentViol = nb.getSum(AlcoholNeighborhood.SUM_VIOLVICT);
+			long totalHom = nb.getSum(AlcoholNeighborhood.SUM_HOMICIDE);
+			long totalAlcHom = nb.getSum(AlcoholNeighborhood.SUM_ALCHOMICIDE);
 			double avgAgentViol = -1;
 			double avgHom = -1;
 			double avgAlcHom = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				totalAgentViol += a.getViolvict();
-				totalHom += a.getHomicide();
-				totalAlcHom += a.getAlcHomicide();
-			}
 			// calculate rates of violence and homicide among agents in neighborhood, expressed as proportion
 			if (totalAgentNum>0) {
 				avgAgentViol = (double) totalAgentViol/totalAgentNum;
@@ -1248,16 +1256,11 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate percent Black and Hispanic neighborhood residents
 		public void setNBracecomp( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalBlackAgent = 0;
-			int totalHispAgent = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalBlackAgent = nb.getSum(AlcoholNeighborhood.SUM_BLACK);
+			long totalHispAgent = nb.getSum(AlcoholNeighborhood.SUM_HISP);
 			double avgPBlack = -1;
 			double avgPHisp = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				totalBlackAgent += a.getBlack();
-				totalHispAgent += a.getHisp();
-			}
 			// calculate percent black and hispanic agents in neighborhood, expressed as proportion
 			if (totalAgentNum>0) {
 				avgPBlack = (double) totalBlackAgent/totalAgentNum;
@@ -1271,13 +1274,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate average age of neighborhood residents
 		public void setNBmeanage( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalAge = 0;
+			int totalAgentNum = nb.getHoodSize();
+			double totalAge = nb.getSumAge();
 			double avgAge = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = (AlcoholAgent)nb.getNeighborhoodAgentList().get(n);
-				totalAge += a.getAge();
-			}
 			if (totalAgentNum > 0) {
 				avgAge = (double) totalAge/totalAgentNum;
 			}
@@ -1288,13 +1287,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate percent young males aged 18-24 yrs old
 		public void setNByoungmale( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalYMale = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalYMale = nb.getSum(AlcoholNeighborhood.SUM_YOUNGMALE);
 			double avgPYMale = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				if (a.getGender() == 1 && a.getAgecat() == 1) { totalYMale += 1; }
-			}
 			// calculate percent young males aged 18-24 yrs old
 			if (totalAgentNum>0) {
 				avgPYMale = (double) totalYMale/totalAgentNum;
@@ -1306,13 +1301,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate percent who lived in neighborhood for at least 1 year
 		public void setNBstability( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalStable = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalStable = nb.getSum(AlcoholNeighborhood.SUM_STABLE);
 			double avgPStable = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				if (a.getDurationRes() > 1) { totalStable += 1; }
-			}
 			// calculate percent who lived in neighborhood for at least 1 year
 			if (totalAgentNum>0) {
 				avgPStable = (double) totalStable/totalAgentNum;
@@ -1324,13 +1315,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate percent light/moderate drinkers
 		public void setNBlightdrk( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalLight = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalLight = nb.getSum(AlcoholNeighborhood.SUM_LIGHT);
 			double avgPLight = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				totalLight += a.getLightDrinker();
-			}
 			// calculate percent light/moderate drinkers in neighborhood, expressed as proportion
 			if (totalAgentNum>0) {
 				avgPLight = (double) totalLight/totalAgentNum;
@@ -1342,13 +1329,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate percent heavy drinkers
 		public void setNBheavydrk( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalHeavy = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalHeavy = nb.getSum(AlcoholNeighborhood.SUM_HEAVY);
 			double avgPHeavy = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				totalHeavy += a.getHeavyDrinker();
-			}
 			// calculate percent heavy drinkers in neighborhood, expressed as proportion
 			if (totalAgentNum>0) {
 				avgPHeavy = (double) totalHeavy/totalAgentNum;
@@ -1360,13 +1343,9 @@ public class AlcoholModel extends SimModelImpl {
 		// Calculate average level of perpetration among agent residents
 		public void setNBperp( AlcoholNeighborhood NB) {
 			AlcoholNeighborhood nb = NB;
-			int totalAgentNum = nb.getNeighborhoodAgentList().size();
-			int totalAgentPerp = 0;
+			int totalAgentNum = nb.getHoodSize();
+			long totalAgentPerp = nb.getSum(AlcoholNeighborhood.SUM_PERP);
 			double avgAgentPerp = -1;
-			for (int n=0; n<totalAgentNum; n++) {
-				AlcoholAgent a = nb.getNeighborhoodAgentList().get(n);
-				totalAgentPerp += a.getViolperp();
-			}
 			// calculate rate of perpetration among agents in neighborhood, expressed as proportion
 			if (totalAgentNum>0) {
 				avgAgentPerp = (double) totalAgentPerp/totalAgentNum;
@@ -1374,52 +1353,76 @@ public class AlcoholModel extends SimModelImpl {
 			nb.setAvghoodperp(avgAgentPerp);
 		} // end of setNBperp()
 		
+		// setNBdrinkProb()
+		// Calculate neighborhood-level probabilities of drinking status and drinking transitions,
+		// once per neighborhood after its characteristics are updated (used by drinkingProb and drinkingTrans)
+		public void setNBdrinkProb( AlcoholNeighborhood NB) {
+			AlcoholNeighborhood nb = NB;
+			double[] x = nb.getCovariates();
+			
+			// being a current light/moderate or heavy drinker (from wtc data)
+			double nlogitPLight = coefficients.equation("hoodDrinkLight").logit(x);
+			double nlogitPHeavy = coefficients.equation("hoodDrinkHeavy").logit(x);
+			nb.setNProbLightDrk(Math.exp(nlogitPLight)/(1 + Math.exp(nlogitPLight) + Math.exp(nlogitPHeavy)));
+			nb.setNProbHeavyDrk(Math.exp(nlogitPHeavy)/(1 + Math.exp(nlogitPLight) + Math.exp(nlogitPHeavy)));
+			
+			// non-drinkers who become light/moderate drinkers
+			double nlogitP1 = coefficients.equation("hoodStartLight").logit(x);
+			nb.setNProbStartLight(Math.exp(nlogitP1)/(1 + Math.exp(nlogitP1)));
+			
+			// light/moderate drinkers who become non-drinkers or heavy drinkers
+			double nlogitP2 = coefficients.equation("hoodQuitDrk").logit(x);
+			double nlogitP3 = coefficients.equation("hoodLightToHeavy").logit(x);
+			nb.setNProbQuitDrk(Math.exp(nlogitP2)/(1 + Math.exp(nlogitP2) + Math.exp(nlogitP3)));
+			nb.setNProbLightHeavy(Math.exp(nlogitP3)/(1 + Math.exp(nlogitP2) + Math.exp(nlogitP3)));
+			
+			// heavy drinkers who become light/moderate drinkers
+			double nlogitP4 = coefficients.equation("hoodHeavyToLight").logit(x);
+			nb.setNProbHeavyLight(Math.exp(nlogitP4)/(1 + Math.exp(nlogitP4)));
+		} // end of setNBdrinkProb()
+		
+		// setNBviolProb()
+		// Calculate neighborhood-level probabilities of homicide, violent victimization and violent perpetration,
+		// once per neighborhood at each time step (used in step 12 of the violence step)
+		public void setNBviolProb( AlcoholNeighborhood NB) {
+			AlcoholNeighborhood nb = NB;
+			double[] x = nb.getCovariates();
+			
+			// homicide
+			double logNhom = coefficients.equation("hoodHomicide").logit(x);
+			nb.setNProbHomicide(Math.exp(logNhom));
+			
+			// non-fatal violent victimization
+			double logitN1 = coefficients.equation("hoodViolvict").logit(x);
+			nb.setNProbViolvict(Math.exp(logitN1)/(1 + Math.exp(logitN1)));
+			
+			// violent perpetration
+			double logitN2 = coefficients.equation("hoodViolperp").logit(x);
+			nb.setNProbViolperp(Math.exp(logitN2)/(1 + Math.exp(logitN2)));
+		} // end of setNBviolProb()
+		
 		
 		// drinkingProb
 		// Calculate drinking probabilities and identify those who are current light/moderate and heavy drinkers at baseline
 		public void drinkingProb(AlcoholAgent a) {
 							
-			// calculate individual-level probabilities of being a current light/moderate or heavy drinker (from wtc data)
+			// individual-level probabilities of being a current light/moderate or heavy drinker (from buildLogitTables)
 					
-			// light drinker
-			// 10.23.2014 -- calibration: increase intercept from 0.8013 to 1.00, decrease coefficient for black from -0.4489 to -0.55
-			//							  increase coefficient for hisp from -0.1257 to -0.05
-			double ilogitPLight = (double) 1.00 + (0.2366*a.gender) + (0.0459*a.age2) + (-0.5747*a.age3) +
-											 (0.1098*a.age4) + (-0.3769*a.age5) + (-0.55*a.black) + (-0.05*a.hisp) + (-0.6482*a.otherRace) +
-											 (-0.9647*a.hs) + (0.071*a.morehs) + (-0.1861*a.inc2) + (-0.0348*a.inc3) + (0.351*a.inc4);
+			int key = a.getDrinkingKey();
+			double iProbLightDrk = drinkStatTable.get(key, P_LIGHT);
+			double iProbHeavyDrk = drinkStatTable.get(key, P_HEAVY);
 			
-			// heavy drinker
-			// 10.23.2014 -- calibration: increase intercept from -1.0355 to -0.80, decrease coefficient for black from -0.6868 to -1.125
-			//							  decrease coefficient for hisp from -0.1231 to -0.375, decrease coefficient for otherrace from -0.6285 to -0.88
-			double ilogitPHeavy = (double) -0.80 + (0.6944*a.gender) + (0.7533*a.age2) + (0.4989*a.age3) +
-											 (0.1481*a.age4) + (-1.1003*a.age5) + (-1.125*a.black) + (-0.375*a.hisp) + (-0.88*a.otherRace) +
-											 (-0.2528*a.hs) + (-1.1088*a.morehs) + (-0.2107*a.inc2) + (-0.7835*a.inc3) + (-0.3612*a.inc4);
-			
-			double iProbLightDrk = (Math.exp(ilogitPLight)/(1 + Math.exp(ilogitPLight) + Math.exp(ilogitPHeavy)));
-			double iProbHeavyDrk = (Math.exp(ilogitPHeavy)/(1 + Math.exp(ilogitPLight) + Math.exp(ilogitPHeavy)));
-			
-			// calculate neighborhood-level probabilities of being a current light/moderate or heavy drinker (from wtc data)
+			// neighborhood-level probabilities of being a current light/moderate or heavy drinker (from setNBdrinkProb)
 			AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
-			
-			// light drinker
-			double nlogitPLight = (double) -2.4707 + (0.0196*nb.hoodinc1) + (0.0138*nb.hoodinc2) + 
-								  (-0.1922*nb.percBlack) + (-0.0186*nb.percHisp) + (-0.8008*nb.avghoodviol) + 
-								  (5.1653*nb.percLightDrk) + (2.5315*nb.percHeavyDrk);
-			
-			// heavy drinker
-			double nlogitPHeavy = (double) -3.9946 + (0.7399*nb.hoodinc1) + (0.6614*nb.hoodinc2) + 
-								  (-1.5819*nb.percBlack) + (-2.5387*nb.percHisp) + (-0.8384*nb.avghoodviol) + 
-								  (2.7012*nb.percLightDrk) + (14.4055*nb.percHeavyDrk); 
-			
-			double nProbLightDrk = (Math.exp(nlogitPLight)/(1 + Math.exp(nlogitPLight) + Math.exp(nlogitPHeavy)));
-			double nProbHeavyDrk = (Math.exp(nlogitPHeavy)/(1 + Math.exp(nlogitPLight) + Math.exp(nlogitPHeavy)));
+			double nProbLightDrk = nb.getNProbLightDrk();
+			double nProbHeavyDrk = nb.getNProbHeavyDrk();
 			
 			a.setProbLightDrk(((1 - alpha)*iProbLightDrk) + (alpha*nProbLightDrk));
 			a.setProbHeavyDrk(((1 - alpha)*iProbHeavyDrk) + (alpha*nProbHeavyDrk));
 			a.setProbNonDrk(1 - a.getProbLightDrk() - a.getProbHeavyDrk());
 					
 			// determine whether agent is a non-drinker, light/moderate drinker, or heavy drinker
-			double randomProb = Random.uniform.nextDoubleFromTo(0,1);
+			double randomProb = a.rng.nextDoubleFromTo(0,1);
 			if (randomProb < a.getProbNonDrk()) { a.setDrinkStat(1); }
 				else if (randomProb < (a.getProbNonDrk() + a.getProbLightDrk())) { a.setDrinkStat(2); }
 				else { a.setDrinkStat(3); }
@@ -1435,36 +1438,26 @@ public class AlcoholModel extends SimModelImpl {
 		// Update probability of drinking beer, wine, and spirits among current drinkers
 		public void drinkTypeUpdate(AlcoholAgent a) {
 					
-			// based on individual-level characteristics (calculated from NESARC data)
+			// based on individual-level characteristics (calculated from NESARC data), looked up by covariate pattern
 					
+			int key = a.getDrinkingKey();
+			
 			// beer
-			double drinkBeer = (double) -2.017 + (1.378*a.gender) + (0.303*a.age2) + (0.215*a.age3) +
-							   (0.280*a.age4) + (-0.039*a.age5) + (-0.348*a.age6) + (-0.004*a.black) + 
-							   (-0.463*a.hisp) + (-0.293*a.otherRace) + (-0.019*a.hs) + (0.127*a.morehs) + 
-							   (-0.043*a.inc2) + (-0.104*a.inc3) + (0.005*a.inc4) + (1.553*a.heavyDrinker);
-			double probBeer = (Math.exp(drinkBeer)/(1 + Math.exp(drinkBeer)));
+			double probBeer = beverageTable.get(key, P_BEER);
 			a.setProbBeer(probBeer);
 					
 			// wine
-			double drinkWine = (double) -2.494 + (-0.199*a.gender) + (0.165*a.age2) + (0.032*a.age3) +
-							   (0.352*a.age4) + (0.470*a.age5) + (0.799*a.age6) + (-0.443*a.black) + 
-							   (-0.424*a.hisp) + (-0.388*a.otherRace) + (0.181*a.hs) + (0.808*a.morehs) + 
-							   (-0.038*a.inc2) + (0.076*a.inc3)+ (0.716*a.inc4) + (0.259*a.heavyDrinker);
-			double probWine = (Math.exp(drinkWine)/(1 + Math.exp(drinkWine)));
+			double probWine = beverageTable.get(key, P_WINE);
 			a.setProbWine(probWine);
 					
 			// spirits
-			double drinkSpirit = (double) -2.997 + (0.520*a.gender)+ (-0.231*a.age2) + (-0.423*a.age3) +
-								 (-0.245*a.age4) + (0.043*a.age5) + (0.495*a.age6) + (0.528*a.black) + 
-								 (-0.625*a.hisp) + (-0.471*a.otherRace) + (0.287*a.hs) + (0.62*a.morehs) + 
-								 (0.002*a.inc2) + (0.010*a.inc3) + (0.139*a.inc4) + (1.151*a.heavyDrinker);
-			double probSpirit = (Math.exp(drinkSpirit)/(1 + Math.exp(drinkSpirit)));
+			double probSpirit = beverageTable.get(key, P_SPIRIT);
 			a.setProbSpirit(probSpirit);
 					
 			// determine whether agent prefers each beverage
-			double randomBeer = Random.uniform.nextDoubleFromTo(0,1);
-			double randomWine = Random.uniform.nextDoubleFromTo(0,1);
-			double randomSpirit = Random.uniform.nextDoubleFromTo(0,1);
+			double randomBeer = a.rng.nextDoubleFromTo(0,1);
+			double randomWine = a.rng.nextDoubleFromTo(0,1);
+			double randomSpirit = a.rng.nextDoubleFromTo(0,1);
 			if (randomBeer < a.getProbBeer()) { a.setPreferBeer(1); }
 				else { a.setPreferBeer(0); }
 			if (randomWine < a.getProbWine()) { a.setPreferWine(1); }
@@ -1479,8 +1472,11 @@ public class AlcoholModel extends SimModelImpl {
 		
 		// createSocialNetwork
 		public void createSocialNetwork() {
-			SocialNetworkList = new ArrayList<AlcoholAgent>(agentList); // add all agents to temporary social network list
-			AlcoholNetwork baselineNetwork = new AlcoholNetwork();
+			SocialNetworkList = agentList.toList(); // add all agents to temporary social network list
+			AlcoholNetwork baselineNetwork = new AlcoholNetwork(modelRng);
+			
+			// Freeze social network for use at each time step
+			friendGraph = new AlcoholFriendGraph(agentList, population.size());
 			
 			// Calibrating baseline social network characteristics
 			System.out.println("Printed from build model");
@@ -1674,17 +1670,29 @@ public class AlcoholModel extends SimModelImpl {
 		}
 		
 		// agentDeath
-		// Identify agents who die at current time step and notify their social network members
-		// and replace with new agent, if recycling is desired
-		public void agentDeath(AlcoholAgent a) {
+		// Identify agents who die at current time step, by number of deaths in each mortality stratum
+		// (see AlcoholMortality); the agents are replaced or removed at the next time step
+		public void agentDeath(long tick) {
 					
-			// Does agent die at this time step?
-			double deathP = Random.uniform.nextDoubleFromTo(0,1);
-			if (deathP <= a.getPMortality()) {
-				a.setDied(1);	
+			// Which agents die at this time step?
+			eventRng.start(AlcoholRandom.MORTALITY, tick);
+			ArrayList<AlcoholAgent> died = mortality.draw(eventRng);
+			for (int d=0; d<died.size(); d++) {
+				died.get(d).setDied(1);
 			}
 			
 		} // end of agentDeath
+		
+		// drawEvents()
+		// Draw which agents have an event at the current time step, given the probability of each (a column of
+		// the population store, by slot), with a random number for each event rather than for each agent (see
+		// AlcoholRareEvents); the positions in agentList of the agents with the event are rareEvents.event[0]
+		// to rareEvents.event[numEvents-1]
+		public int drawEvents(int subStream, long tick, double[] prob) {
+			for (int i=0; i<agentList.size(); i++) { eventProb[i] = prob[((AlcoholAgent)agentList.get(i)).getSlot()]; }
+			eventRng.start(subStream, tick);
+			return rareEvents.sample(eventProb, agentList.size(), eventRng);
+		}
 			
 		// resetDeath
 		// Replace agents who died at last time step with new agent, if recycling is desired
@@ -1693,9 +1701,15 @@ public class AlcoholModel extends SimModelImpl {
 				// if agent will not be replaced, remove from all lists
 				if (agentRecycle == 0) {
 					agentList.remove(a);
+					wagentList.remove(a); bagentList.remove(a); hagentList.remove(a); oagentList.remove(a);
+					magentList.remove(a); fagentList.remove(a);
+					lesshsagentList.remove(a); hsagentList.remove(a); morehsagentList.remove(a);
+					mortality.remove(a);
+					drinkingCube.remove(a);
+					hoodSpace.removeAgent(a.getSlot());
+					if (agentSpace != null && agentSpace.getObjectAt(a.getX(), a.getY()) == a) { agentSpace.putObjectAt(a.getX(), a.getY(), null); }
 					AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
-					nb.neighborhoodAgentList.remove(a);
-					nb.temphoodAgentList.remove(a);
+					nb.removeResident(a);
 				}
 						
 				// if agent recycling is allowed
@@ -1711,6 +1725,7 @@ public class AlcoholModel extends SimModelImpl {
 					a.setLastviolperp(0);
 					// reset initial substance use status
 					a.setEverHeavyDrk(0);
+					a.rng.start(AlcoholRandom.DEMOGRAPHICS, (long)getTickCount());
 					drinkingProb(a);
 				}
 				
@@ -1733,89 +1748,66 @@ public class AlcoholModel extends SimModelImpl {
 		// AND EFFECTS OF EARLIER CLOSING TIMES ALSO OCCUR HERE WHEN IN EFFECT
 		public void drinkingTrans(AlcoholAgent a) {
 			
-			AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.getAgenthood());
+			// inputs read from the population columns by slot
+			int s = a.getSlot();
+			AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(population.hood[s]);
+			int houseincome = population.houseincome[s];
+			int anyBeer = population.getFlag(AlcoholPopulation.ANYBEER, s);
+			int preferBeer = population.getFlag(AlcoholPopulation.PREFERBEER, s);
+			int preferWine = population.getFlag(AlcoholPopulation.PREFERWINE, s);
+			int preferSpirit = population.getFlag(AlcoholPopulation.PREFERSPIRIT, s);
 									
 			/////////////////////////////// non-drinkers who become light/moderate drinkers
 			
-			if (a.getLastDrinkStat()==1) {
+			if (population.lastDrinkStat[s]==1) {
 				
-				// INFLUENCE OF INDIVIDUAL-LEVEL
-				double ilogitP1 = (double) -0.5359 + (0.2904*a.gender) + (-0.0929*a.age2) + (-0.6975*a.age3) + 
-								 (-0.4944*a.age4) + (-0.9467*a.age5) + (-1.0075*a.age6) +  (-0.4353*a.hs) + 
-								 (-0.136*a.morehs) + (-0.5011*a.inc2) + (0.0282*a.inc3) + (0.4882*a.inc4) + 
-								 (0.7624*a.lastviolvict);
-				double iprobLight1 = (Math.exp(ilogitP1)/(1 + Math.exp(ilogitP1)));
+				// INFLUENCE OF INDIVIDUAL-LEVEL (looked up by covariate pattern, see buildLogitTables)
+				double iprobLight1 = drinkTransTable.get(population.key(s, AlcoholAgent.D_FLAGS), P_START_LIGHT);
 				
 				// INFLUENCE OF SOCIAL NETWORK AND DRINKERS AT PREFERRED OUTLET
 				// adjust individual-level probability for influence of social network - adjusted prob will count for 15% of final prob
-				double adjAbstainProb1 = Random.normal.nextDouble(0.11, 0.0153);
-				double adjModProb1 = Random.normal.nextDouble(0.06, 0.0179);
-				double iprobLight2 = ((( adjModProb1*a.numFrdLightDrk) - (adjAbstainProb1*a.numFrdNoDrk)) + 1)*iprobLight1;
+				double adjAbstainProb1 = a.rng.nextNormal(0.11, 0.0153);
+				double adjModProb1 = a.rng.nextNormal(0.06, 0.0179);
+				double iprobLight2 = ((( adjModProb1*population.numFrdLightDrk[s]) - (adjAbstainProb1*population.numFrdNoDrk[s])) + 1)*iprobLight1;
 				
 
 				
-				// INFLUENCE OF NEIGHBORHOOD
-				double nlogitP1 = (double) -4.6586 + (-0.107*nb.hoodinc1) + (0.4702*nb.hoodinc2) + 
-						  (3.1459*nb.avghoodviol) + (5.994*nb.percLightDrk) + (2.2168*nb.percHeavyDrk);
-				double nprobLight1 = (Math.exp(nlogitP1)/(1 + Math.exp(nlogitP1)));
+				// INFLUENCE OF NEIGHBORHOOD (from setNBdrinkProb)
+				double nprobLight1 = nb.getNProbStartLight();
 				
 				// FINAL PROBABILITY
 				double probLight1 = ((1 - alpha - network_alpha)*iprobLight1) + (network_alpha*iprobLight2) + (alpha*nprobLight1);
 				
-				double randomProb1 = Random.uniform.nextDoubleFromTo(0,1);
+				double randomProb1 = a.rng.nextDoubleFromTo(0,1);
 				if (randomProb1 < probLight1) { a.setDrinkStat(2); } else { a.setDrinkStat(1); }
 			}
 					
 			////////////////////////////// light drinkers who become non-drinker or heavy drinkers
-			if (a.getLastDrinkStat()==2) {
+			if (population.lastDrinkStat[s]==2) {
 				
 				///////////////////////////////// becoming non-drinker
 				
-				// INFLUENCE OF INDIVIDUAL LEVEL on becoming non-drinker
-				double ilogitP2 = (double) -0.3288 + (-0.3634*a.gender) + (-0.1896*a.age2) + (-0.0468*a.age3) + 
-								 (-0.3016*a.age4) + (0.1488*a.age5) + (0.0493*a.age6) + 
-								 (-0.4643*a.hs) + (-0.8307*a.morehs) + (-0.3614*a.inc2) + (-0.7598*a.inc3) + 
-								 (-1.2792*a.inc4) + (0.1279*a.lastviolvict);
-				
-				// INFLUENCE OF INDIVIDUAL LEVEL on becoming heavy drinker
-				// 11.5.2014 -- calibration: change male coefficient from 0.6978 to -0.0842
-				//				change lastviolvict from 0.3127 to 0.05
-				double ilogitP3 = (double) -0.2061 + (-0.0842*a.gender) + (-1.0687*a.age2) + (-1.4939*a.age3) + 
-								 (-2.2607*a.age4) + (-2.3726*a.age5) + (-2.8945*a.age6) + 
-								 (0.1972*a.hs) + (-1.0469*a.morehs) + (-0.1372*a.inc2) + (-0.8733*a.inc3) + 
-								 (-0.1993*a.inc4) + (0.05*a.lastviolvict);
-				
-				// calculation of individual-level probabilities
-				double iprobNonDrk = (Math.exp(ilogitP2)/(1 + Math.exp(ilogitP2) + Math.exp(ilogitP3)));
-				double iprobHeavy = (Math.exp(ilogitP3)/(1 + Math.exp(ilogitP2) + Math.exp(ilogitP3)));
+				// INFLUENCE OF INDIVIDUAL LEVEL on becoming non-drinker or heavy drinker (looked up by covariate pattern)
+				int key = population.key(s, AlcoholAgent.D_FLAGS);
+				double iprobNonDrk = drinkTransTable.get(key, P_QUIT_DRK);
+				double iprobHeavy = drinkTransTable.get(key, P_LIGHT_HEAVY);
 				
 				// INFLUENCE OF SOCIAL NETWORK AND DRINKERS AT PREFERRED OUTLET on becoming non-drinker
-				double adjAbstainProb2 = Random.normal.nextDouble(0.22, 0.0281);
-				double adjModProb2 = Random.normal.nextDouble(0.05, 0.0179);
-				double adjHeavyProb2 = Random.normal.nextDouble(0.07, 0.0255);
-				double iprobNonDrk2 = (((adjAbstainProb2*a.numFrdNoDrk) - ( adjModProb2*a.numFrdLightDrk) - (adjHeavyProb2*a.numFrdHeavyDrk)) + 1)*iprobNonDrk;
+				double adjAbstainProb2 = a.rng.nextNormal(0.22, 0.0281);
+				double adjModProb2 = a.rng.nextNormal(0.05, 0.0179);
+				double adjHeavyProb2 = a.rng.nextNormal(0.07, 0.0255);
+				double iprobNonDrk2 = (((adjAbstainProb2*population.numFrdNoDrk[s]) - ( adjModProb2*population.numFrdLightDrk[s]) - (adjHeavyProb2*population.numFrdHeavyDrk[s])) + 1)*iprobNonDrk;
 				
 				// INFLUENCE OF SOCIAL NETWORK AND DRINKERS AT PREFERRED OUTLET on becoming heavy drinker
-				double adjAbstainProb3 = Random.normal.nextDouble(0.10, 0.0281);
-				double adjHeavyProb3 = Random.normal.nextDouble(0.18, 0.0357);
-				double iprobHeavy2 = (((adjHeavyProb3*a.numFrdHeavyDrk) - (adjAbstainProb3*a.numFrdNoDrk)) + 1)*iprobHeavy;
+				double adjAbstainProb3 = a.rng.nextNormal(0.10, 0.0281);
+				double adjHeavyProb3 = a.rng.nextNormal(0.18, 0.0357);
+				double iprobHeavy2 = (((adjHeavyProb3*population.numFrdHeavyDrk[s]) - (adjAbstainProb3*population.numFrdNoDrk[s])) + 1)*iprobHeavy;
 				
 
 				
-				// INFLUENCE OF NEIGHBORHOOD on becoming non-drinker
-				double nlogitP2 = (double) 0.3414 + (-0.4257*nb.hoodinc1) + (-0.4381*nb.hoodinc2) + 
-						  (3.2196*nb.avghoodviol) + (-3.532*nb.percLightDrk) + (0.833*nb.percHeavyDrk);
-						
-				// INFLUENCE OF NEIGHBORHOOD on becoming heavy drinker
-				// 12.4.2014 -- added racial composition variables as predictors
-				//				calibration: increase coefficient for percBlack from -1.8849 to 1.25
-				double nlogitP3 = (double) -2.28 + (-0.2088*nb.hoodinc1) + (-0.0903*nb.hoodinc2) + 
-						  (1.9665*nb.avghoodviol) + (-2.5772*nb.percLightDrk) + (13.8191*nb.percHeavyDrk) +
-						  (1.25*nb.percBlack)+ (1.7474*nb.percHisp);
-				
-				// calculation of neighborhood-level probabilities
-				double nprobNonDrk = (Math.exp(nlogitP2)/(1 + Math.exp(nlogitP2) + Math.exp(nlogitP3)));
-				double nprobHeavy = (Math.exp(nlogitP3)/(1 + Math.exp(nlogitP2) + Math.exp(nlogitP3)));
+				// INFLUENCE OF NEIGHBORHOOD on becoming non-drinker or heavy drinker (from setNBdrinkProb)
+				double nprobNonDrk = nb.getNProbQuitDrk();
+				double nprobHeavy = nb.getNProbLightHeavy();
 				
 				// FINAL PROBABILITIES
 				double probNonDrk = ((1 - alpha - network_alpha)*iprobNonDrk) + (network_alpha*iprobNonDrk2) + (alpha*nprobNonDrk);
@@ -1824,89 +1816,65 @@ public class AlcoholModel extends SimModelImpl {
 					// MODIFY PROBABILITY OF LIGHT DRINKER BECOMING HEAVY DRINKER IF ALCOHOL TAXATION INTERVENTION IN EFFECT
 					if (intervention == 6 && intTarget == 0 && getTickCount()>startAging+1) {
 						double decreaseProb = 0;
-						if (a.getPreferBeer()==0 && a.getPreferWine()==0 && a.getPreferSpirit()==0) {
+						if (preferBeer==0 && preferWine==0 && preferSpirit==0) {
 							decreaseProb = intChange*0.53;
-							if (a.getHouseincome()==1) { decreaseProb = decreaseProb*1.6; }
-							if (a.getHouseincome()==2) { decreaseProb = decreaseProb*1.08; }
-							if (a.getHouseincome()==3) { decreaseProb = decreaseProb*0.76; }
-							if (a.getHouseincome()==4) { decreaseProb = decreaseProb*0.27; }
+							if (houseincome==1) { decreaseProb = decreaseProb*1.6; }
+							if (houseincome==2) { decreaseProb = decreaseProb*1.08; }
+							if (houseincome==3) { decreaseProb = decreaseProb*0.76; }
+							if (houseincome==4) { decreaseProb = decreaseProb*0.27; }
 						}
-						if (a.getPreferBeer()==1 || a.getPreferWine()==1 || a.getPreferSpirit()==1) {
+						if (preferBeer==1 || preferWine==1 || preferSpirit==1) {
 							decreaseProb = intChange*0.53*0.50;
-							if (a.getHouseincome()==1) { decreaseProb = decreaseProb*1.6; }
-							if (a.getHouseincome()==2) { decreaseProb = decreaseProb*1.08; }
-							if (a.getHouseincome()==3) { decreaseProb = decreaseProb*0.76; }
-							if (a.getHouseincome()==4) { decreaseProb = decreaseProb*0.27; }
+							if (houseincome==1) { decreaseProb = decreaseProb*1.6; }
+							if (houseincome==2) { decreaseProb = decreaseProb*1.08; }
+							if (houseincome==3) { decreaseProb = decreaseProb*0.76; }
+							if (houseincome==4) { decreaseProb = decreaseProb*0.27; }
 						}
 						probHeavy = probHeavy - (probHeavy*decreaseProb);
 					}
 					if (intervention == 6 && intTarget == 1 && getTickCount()>startAging+1) {
 						double decreaseProb = 0;
-						if (a.getAnyBeer() == 1 && a.getPreferBeer()==0) {
+						if (anyBeer == 1 && preferBeer==0) {
 							decreaseProb = intChange*0.53;
-							if (a.getHouseincome()==1) { decreaseProb = decreaseProb*1.6; }
-							if (a.getHouseincome()==2) { decreaseProb = decreaseProb*1.08; }
-							if (a.getHouseincome()==3) { decreaseProb = decreaseProb*0.76; }
-							if (a.getHouseincome()==4) { decreaseProb = decreaseProb*0.27; }	
+							if (houseincome==1) { decreaseProb = decreaseProb*1.6; }
+							if (houseincome==2) { decreaseProb = decreaseProb*1.08; }
+							if (houseincome==3) { decreaseProb = decreaseProb*0.76; }
+							if (houseincome==4) { decreaseProb = decreaseProb*0.27; }	
 						}
-						if (a.getAnyBeer()==1 && a.getPreferBeer()==1) {
+						if (anyBeer==1 && preferBeer==1) {
 							decreaseProb = intChange*0.53*0.50;
-							if (a.getHouseincome()==1) { decreaseProb = decreaseProb*1.6; }
-							if (a.getHouseincome()==2) { decreaseProb = decreaseProb*1.08; }
-							if (a.getHouseincome()==3) { decreaseProb = decreaseProb*0.76; }
-							if (a.getHouseincome()==4) { decreaseProb = decreaseProb*0.27; }	
+							if (houseincome==1) { decreaseProb = decreaseProb*1.6; }
+							if (houseincome==2) { decreaseProb = decreaseProb*1.08; }
+							if (houseincome==3) { decreaseProb = decreaseProb*0.76; }
+							if (houseincome==4) { decreaseProb = decreaseProb*0.27; }	
 						}
 						probHeavy = probHeavy - (probHeavy*decreaseProb);
 					}
 					
 					// MODIFY PROBABILITY OF LIGHT DRINKER BECOMING HEAVY DRINKER IF EARLIER CLOSING TIMES AT OUTLET
 					if ((intervention == 7 || intervention == 10)) {
-						double decreaseProb = Random.normal.nextDouble(0.037, 0.01);
+						double decreaseProb = a.rng.nextNormal(0.037, 0.01);
 						probHeavy = probHeavy - (probHeavy*decreaseProb);
 					}
 				double probLight2 = 1 - probNonDrk - probHeavy;
 				
-				double randomProb2 = Random.uniform.nextDoubleFromTo(0,1);
+				double randomProb2 = a.rng.nextDoubleFromTo(0,1);
 				if (randomProb2 < probLight2) { a.setDrinkStat(2); }
 					else if (randomProb2 < (probLight2 + probNonDrk)) { a.setDrinkStat(1); }
 					else { a.setDrinkStat(3); }
 			}
 					
 			///////////////////////////////// heavy drinkers who become light/moderate drinkers
-			if (a.getLastDrinkStat()==3) {
+			if (population.lastDrinkStat[s]==3) {
 				
-				// INFLUENCE OF INDIVIDUAL LEVEL
-				// 11.6.2014 -- calibration: include interaction between male gender and violent victimization
-				//				increase intercept from -1.1757 to -0.35, increase lastviolvict from -1.2021 to -0.35
-				//				reduce morehs coefficient from 2.0543 to 0.35
-				//				reduce gender coefficient from -0.2719 to -0.35
-				//				reduce age2 coefficient from -0.1278 to -0.075
-				//				reduce age4 coefficient from 0.985 to -0.15
-				//				reduce hs coefficient from 0.3849 to 0.15
-				// 				reduce morehs coefficient from 0.35 to 0.13
-				//				increase inc2 coefficient from -0.1163 to -0.05
-				//				reduce inc3 coefficient from -0.0219 to -0.10
-				//				reduce inc4 coefficient from -0.0633 to -0.1175 to -0.15
-				//				reduce interaction coefficient from 14.9931 to 8.75
-				double ilogitP4 = (double) 0.35 + (-0.35*a.gender) + (-0.075*a.age2) + 
-					 			 (-0.6443*a.age3) + (-0.15*a.age4) + (-1.0192*a.age5) + (-0.5927*a.age6) + 
-								 (0.15*a.hs) + (0.13*a.morehs) + (-0.05*a.inc2) + (-0.10*a.inc3) + 
-								 (-0.15*a.inc4) + (-0.35*a.lastviolvict) + (8.75*a.gender*a.lastviolvict);
-				// 11.20.2014 - revised equation to change referent groups
-				// 				calibration: increase intercept from 0.2707 to 0.45
-				//				increase lesshs coefficient from -1.8542 to -1.35
-				//				increase hs coefficient from -1.4524 to -1.00
-				// double ilogitP4 = (double) 0.45 + (-0.4162*a.gender) + (0.483*a.age1) +
-					//			  (0.4421*a.age2) + (-0.2216*a.age3) + (1.4761*a.age4) + (0.3926*a.age5) +
-					//			  (-1.35*a.lesshs) + (-1.400*a.hs) + (-0.0142*a.inc1) + (0.1136*a.inc2) +
-					//			  (0.0661*a.inc3) + (-1.3622*a.lastviolvict) + (15.2391*a.gender*a.lastviolvict);
-				double iprobLight3 = (Math.exp(ilogitP4)/(1 + Math.exp(ilogitP4)));
+				// INFLUENCE OF INDIVIDUAL LEVEL (looked up by covariate pattern, see buildLogitTables)
+				double iprobLight3 = drinkTransTable.get(population.key(s, AlcoholAgent.D_FLAGS), P_HEAVY_LIGHT);
 				
 				// INFLUENCE OF SOCIAL NETWORK AND DRINKERS AT PREFERRED OUTLET
 				// adjust individual-level probability for influence of social network
-				double adjAbstainProb4 = Random.normal.nextDouble(0.11, 0.0153);
-				double adjModProb4 = Random.normal.nextDouble(0.06, 0.0179);
-				double iprobLight4 = ((( adjModProb4*a.numFrdLightDrk) - (adjAbstainProb4*a.numFrdNoDrk)) + 1)*iprobLight3;
+				double adjAbstainProb4 = a.rng.nextNormal(0.11, 0.0153);
+				double adjModProb4 = a.rng.nextNormal(0.06, 0.0179);
+				double iprobLight4 = ((( adjModProb4*population.numFrdLightDrk[s]) - (adjAbstainProb4*population.numFrdNoDrk[s])) + 1)*iprobLight3;
 				// 3.27.2014 -- probability also influenced by proportion of heavy drinkers at associated outlet
 				if (a.getMyOutlet() != null) { 
 					AlcoholOutlet myOutlet = (AlcoholOutlet)a.getMyOutlet();
@@ -1914,18 +1882,8 @@ public class AlcoholModel extends SimModelImpl {
 					if (myOutlet.getPLightDrk() >= 0.50) { iprobLight4 = iprobLight4 - (0.25*iprobLight4); }
 				}
 				
-				// INFLUENCE OF NEIGHBORHOOD LEVEL
-				// 12.4.2014 -- included racial composition variables as predictors
-				//				calibration: increase coefficient for percBlack from 1.7344 to 6.5
-				//							 increase intercept from 0.8926 to 1.10
-				double nlogitP4 = (double) 1.20 + (-1.0433*nb.hoodinc1) + (-1.906*nb.hoodinc2) + 
-								  (-7.5086*nb.avghoodviol) + (1.0108*nb.percLightDrk) + (-16.456*nb.percHeavyDrk) +
-								  (6.5*nb.percBlack) + (6.7193*nb.percHisp);
-				// double nlogitP4 = (double) -1.9461 + (-0.4184*nb.hoodinc1) + (-0.0205*nb.hoodinc2) +
-					//					   (-2.342*nb.avghoodviol) + (-2.9454*nb.percLightDrk) + 
-					//					   (14.6423*nb.percHeavyDrk) + (-3.5637*nb.percBlack) +
-					//					   (2.0063*nb.percHisp) + (23.6114*nb.avghoodviol*nb.percBlack);
-				double nprobLight3 = (Math.exp(nlogitP4)/(1 + Math.exp(nlogitP4)));
+				// INFLUENCE OF NEIGHBORHOOD LEVEL (from setNBdrinkProb)
+				double nprobLight3 = nb.getNProbHeavyLight();
 				
 				// FINAL PROBABILITY
 				double probLight3 = ((1 - alpha - network_alpha)*iprobLight3) + (network_alpha*iprobLight4) + (alpha*nprobLight3);
@@ -1933,54 +1891,56 @@ public class AlcoholModel extends SimModelImpl {
 				// MODIFY PROBABILITY OF HEAVY DRINKER BECOMING LIGHT DRINKER IF ALCOHOL TAXATION INTERVENTION IN EFFECT
 				if (intervention == 6 && intTarget == 0 && getTickCount()>startAging+1) {
 					double increaseProb = 0;
-					if (a.getPreferBeer()==0 && a.getPreferWine()==0 && a.getPreferSpirit()==0) {
+					if (preferBeer==0 && preferWine==0 && preferSpirit==0) {
 						increaseProb = intChange*0.53;
-						if (a.getHouseincome()==1) { increaseProb = increaseProb*1.6; }
-						if (a.getHouseincome()==2) { increaseProb = increaseProb*1.08; }
-						if (a.getHouseincome()==3) { increaseProb = increaseProb*0.76; }
-						if (a.getHouseincome()==4) { increaseProb = increaseProb*0.27; }
+						if (houseincome==1) { increaseProb = increaseProb*1.6; }
+						if (houseincome==2) { increaseProb = increaseProb*1.08; }
+						if (houseincome==3) { increaseProb = increaseProb*0.76; }
+						if (houseincome==4) { increaseProb = increaseProb*0.27; }
 					}
-					if (a.getPreferBeer()==1 || a.getPreferWine()==1 || a.getPreferSpirit()==1) {
+					if (preferBeer==1 || preferWine==1 || preferSpirit==1) {
 						increaseProb = intChange*0.53*0.50;
-						if (a.getHouseincome()==1) { increaseProb = increaseProb*1.6; }
-						if (a.getHouseincome()==2) { increaseProb = increaseProb*1.08; }
-						if (a.getHouseincome()==3) { increaseProb = increaseProb*0.76; }
-						if (a.getHouseincome()==4) { increaseProb = increaseProb*0.27; }
+						if (houseincome==1) { increaseProb = increaseProb*1.6; }
+						if (houseincome==2) { increaseProb = increaseProb*1.08; }
+						if (houseincome==3) { increaseProb = increaseProb*0.76; }
+						if (houseincome==4) { increaseProb = increaseProb*0.27; }
 					}
 					probLight3 = probLight3 + (probLight3*increaseProb);
 				}
 				if (intervention == 6 && intTarget == 1 && getTickCount()>startAging+1) {
 					double increaseProb = 0;
-					if (a.getAnyBeer() == 1 && a.getPreferBeer()==0) {
+					if (anyBeer == 1 && preferBeer==0) {
 						increaseProb = intChange*0.53;
-						if (a.getHouseincome()==1) { increaseProb = increaseProb*1.6; }
-						if (a.getHouseincome()==2) { increaseProb = increaseProb*1.08; }
-						if (a.getHouseincome()==3) { increaseProb = increaseProb*0.76; }
-						if (a.getHouseincome()==4) { increaseProb = increaseProb*0.27; }	
+						if (houseincome==1) { increaseProb = increaseProb*1.6; }
+						if (houseincome==2) { increaseProb = increaseProb*1.08; }
+						if (houseincome==3) { increaseProb = increaseProb*0.76; }
+						if (houseincome==4) { increaseProb = increaseProb*0.27; }	
 					}
-					if (a.getAnyBeer()==1 && a.getPreferBeer()==1) {
+					if (anyBeer==1 && preferBeer==1) {
 						increaseProb = intChange*0.53*0.50;
-						if (a.getHouseincome()==1) { increaseProb = increaseProb*1.6; }
-						if (a.getHouseincome()==2) { increaseProb = increaseProb*1.08; }
-						if (a.getHouseincome()==3) { increaseProb = increaseProb*0.76; }
-						if (a.getHouseincome()==4) { increaseProb = increaseProb*0.27; }	
+						if (houseincome==1) { increaseProb = increaseProb*1.6; }
+						if (houseincome==2) { increaseProb = increaseProb*1.08; }
+						if (houseincome==3) { increaseProb = increaseProb*0.76; }
+						if (houseincome==4) { increaseProb = increaseProb*0.27; }	
 					}
 					probLight3 = probLight3 + (probLight3*increaseProb);
 				}
 				// MODIFY PROBABILITY OF HEAVY DRINKER BECOMING LIGHT DRINKER IF EARLIER CLOSING TIMES AT OUTLET
 				if ((intervention == 7 || intervention == 10) && a.getOutletEarly()==1) {
-					double increaseProb = Random.normal.nextDouble(0.037,0.01);
+					double increaseProb = a.rng.nextNormal(0.037,0.01);
 					probLight3 = probLight3 + (probLight3*increaseProb);
 				}
 				
-				double randomProb3 = Random.uniform.nextDoubleFromTo(0,1);
+				double randomProb3 = a.rng.nextDoubleFromTo(0,1);
 				if (randomProb3 < probLight3) { a.setDrinkStat(2); } else { a.setDrinkStat(3); }
 			}
 					
 			// update dummy variables for current drinking status
-			if (a.getDrinkStat()==1) { a.setNonDrinker(1); } else { a.setNonDrinker(0); }
-			if (a.getDrinkStat()==2) { a.setLightDrinker(1); } else { a.setLightDrinker(0); }
-			if (a.getDrinkStat()==3) { a.setHeavyDrinker(1); } else { a.setHeavyDrinker(0); }
+			// (through the setters, which keep the neighborhood sums)
+			int drinkStat = population.drinkStat[s];
+			if (drinkStat==1) { a.setNonDrinker(1); } else { a.setNonDrinker(0); }
+			if (drinkStat==2) { a.setLightDrinker(1); } else { a.setLightDrinker(0); }
+			if (drinkStat==3) { a.setHeavyDrinker(1); } else { a.setHeavyDrinker(0); }
 									
 		} // end of drinkingTrans()
 		
@@ -1990,46 +1950,75 @@ public class AlcoholModel extends SimModelImpl {
 
 				
 		
-		// findVictims()
-		// Identify true victims of non-fatal violence and homicide and true perpetrators at each time step
-		public void findVictims( AlcoholAgent a) {
+		// locateAgent()
+		// Put agent on cell (x, y) of the physical space, and in the display when it is shown
+		// (the display holds one agent per cell, the cell grid holds all of them)
+		public void locateAgent(AlcoholAgent a, int x, int y) {
+			if (agentSpace != null) {
+				if (agentSpace.getObjectAt(a.getX(), a.getY()) == a) { agentSpace.putObjectAt(a.getX(), a.getY(), null); }
+				agentSpace.putObjectAt(x, y, a);
+			}
+			a.setX(x);
+			a.setY(y);
+			hoodSpace.placeAgent(a.getSlot(), hoodSpace.index(x, y));
+		}
+		
+		// claimVictims()
+		// Identify potential victims within range of the potential perpetrator at position q of perpQueue
+		// Perpetrators claim victims at the same time on different threads. A victim keeps the claim of the
+		// perpetrator earliest in perpQueue (see AlcoholVictimClaims), which gives the same victims and
+		// perpetrators as perpetrators looking for victims one by one in the order of perpQueue
+		public void claimVictims(int q) {
+			AlcoholAgent a = (AlcoholAgent)agentList.get(perpQueue[q]);
 			int lookDistance = getLookForVictims();
-			// list of cells within range of perpetrator
-			Vector neighbors = hoodSpace.getMooreNeighbors(a.getX(), a.getY(), lookDistance, lookDistance, false);
+			// visit cells with potential victims within range of perpetrator
 			// do any cells contain potential victims?
 			// if so, and they have not already been assaulted by someone else
 			// they will be this perpetrator's victims
 			// note that each perpetrator can have multiple victims
 			// but each victim can have only one perpetrator
 			// 4.16.2014 -- if police officer is present near potential victim, violent act is prevented
-			for (int i=0; i<neighbors.size(); i++) {
-				AlcoholCell nextCell = (AlcoholCell)neighbors.elementAt(i);
-				if (nextCell.getPotVictim() == 1 & nextCell.getRealVictim() == 0) {
+			victimClaims.claim(q, a.getX(), a.getY(), lookDistance, victimIndex, hoodSpace, new AlcoholVictimClaims.VictimTest() {
+				public boolean canBeVictim(int slot) {
+					if (population.getFlag(AlcoholPopulation.POTHOMICIDE, slot) != 1
+							&& population.getFlag(AlcoholPopulation.POTVIOLVICT, slot) != 1) return false;
+					
 					// is a police officer nearby?
 					int violPrevented = 0;
 
 					// is a violence interrupter nearby?
 
-					// if no police officer or violence interrupter is nearby, violent act occurs
-					if (violPrevented == 0) {
-						// confirm perpetrator status of index agent
-						a.setViolperp(1);
-						// confirm that there is a true victim in this cell
-						nextCell.setRealVictim(1);
-						// confirm victim status of agent located in cell
-						AlcoholAgent victim = nextCell.getMyAgent();
-						if (victim.getPothomicide() == 1) { victim.setHomicide(1); }
-						else if (victim.getPotviolvict() == 1) { victim.setViolvict(1); }
-						// alcohol-related violence if either perpetrator or victim is heavy drinker
-						if (victim.getPothomicide() == 1 & (victim.getHeavyDrinker() == 1 || a.getHeavyDrinker() == 1)) { victim.setAlcHomicide(1); }
-						if (victim.getPotviolvict() == 1 & (victim.getHeavyDrinker() == 1 || a.getHeavyDrinker() == 1)) { victim.setAlcViol(1); }
-						// add violent event to number of violent events in victim's neighborhood
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(victim.getAgenthood());
-						nb.setNumviolevent(nb.getNumviolevent() + 1);
-					}
+					// if no police officer or violence interrupter is nearby, claim victim
+					return violPrevented == 0;
+				}
+			});
+		} // end of claimVictims()
+		
+		// resolveVictims()
+		// Identify true victims of non-fatal violence and homicide and true perpetrators at each time step,
+		// from the claims of claimVictims (serially, so counters are updated in the same order for any number of threads)
+		public void resolveVictims() {
+			victimClaims.resolve(victimIndex, hoodSpace, new AlcoholVictimClaims.ClaimVisitor() {
+				public void visit(int slot, int nextCell, int q) {
+					AlcoholAgent victim = population.getAgent(slot);
+					AlcoholAgent a = (AlcoholAgent)agentList.get(perpQueue[q]);
+					
+					// confirm perpetrator status of perpetrator
+					a.setViolperp(1);
+					// confirm that there is a true victim in this cell
+					hoodSpace.setRealVictim(nextCell, 1);
+					// confirm victim status of agent
+					if (victim.getPothomicide() == 1) { victim.setHomicide(1); }
+					else if (victim.getPotviolvict() == 1) { victim.setViolvict(1); }
+					// alcohol-related violence if either perpetrator or victim is heavy drinker
+					if (victim.getPothomicide() == 1 & (victim.getHeavyDrinker() == 1 || a.getHeavyDrinker() == 1)) { victim.setAlcHomicide(1); }
+					if (victim.getPotviolvict() == 1 & (victim.getHeavyDrinker() == 1 || a.getHeavyDrinker() == 1)) { victim.setAlcViol(1); }
+					// add violent event to number of violent events in victim's neighborhood
+					AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(victim.getAgenthood());
+					nb.setNumviolevent(nb.getNumviolevent() + 1);
 				}
-			} 
-		} // end of findVictims()
+			});
+		} // end of resolveVictims()
 		
 		// countViolence()
 		// Calculate number of violent incidents that took place in close proximity to each outlet 
@@ -2177,123 +2166,86 @@ public class AlcoholModel extends SimModelImpl {
 		////////////////////////////////////FUNCTIONS FOR AGENT STEP REPORT
 		
 		// Start agent step report
-		public PrintWriter startAgentStepReportFile() {
+		// Declare the columns of the agent snapshot file (one value of each agent at each time step) and create
+		// the file; use AlcoholSnapshotReader to export selected columns and time steps to text
+		public void startAgentSnapshot() {
 			System.out.println( "Agent Step Report started" );
-			agentStepReportFile = null;
-			agentStepReportFile = IOUtils.openFileToWrite( outputDirName, agentStepReportFileName, "r");
-			writeLineToStepReportFile( "# begin report file" );
-			return agentStepReportFile;
-		}
-		
-		// End agent step report
-		public void endStepReportFile() {
-			writeLineToStepReportFile( "# end report file" );
-		}
-		
-		// Write each line to agent step report
-		public void writeLineToStepReportFile( String line) {
-			agentStepReportFile.println( line );
+			agentSnapshot = new AlcoholSnapshotWriter(agentSnapshotFile, output);
+			agentSnapshot.addInt("agentID", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getID(); } });
+			agentSnapshot.addInt("agentX", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getX(); } });
+			agentSnapshot.addInt("agentY", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getY(); } });
+			agentSnapshot.addInt("agentHood", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAgenthood(); } });
+			agentSnapshot.addDouble("age", new AgentValue() { public double value(AlcoholAgent a) { return a.getAge(); } });
+			agentSnapshot.addInt("age2", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAge2(); } });
+			agentSnapshot.addInt("age3", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAge3(); } });
+			agentSnapshot.addInt("age4", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAge4(); } });
+			agentSnapshot.addInt("age5", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAge5(); } });
+			agentSnapshot.addInt("age6", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAge6(); } });
+			agentSnapshot.addInt("gender", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getGender(); } });
+			agentSnapshot.addInt("race", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getRace(); } });
+			agentSnapshot.addInt("black", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getBlack(); } });
+			agentSnapshot.addInt("hisp", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getHisp(); } });
+			agentSnapshot.addInt("otherrace", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getOtherRace(); } });
+			agentSnapshot.addInt("education", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getEducation(); } });
+			agentSnapshot.addInt("hs", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getHs(); } });
+			agentSnapshot.addInt("morehs", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getMorehs(); } });
+			agentSnapshot.addInt("baseincome", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getBaseinc16(); } });
+			agentSnapshot.addInt("houseincome", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getHouseincome(); } });
+			agentSnapshot.addInt("inc2", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getInc2(); } });
+			agentSnapshot.addInt("inc3", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getInc3(); } });
+			agentSnapshot.addInt("inc4", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getInc4(); } });
+			agentSnapshot.addInt("died", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getDied(); } });
+			agentSnapshot.addDouble("pviolvict", new AgentValue() { public double value(AlcoholAgent a) { return a.getPviolvict(); } });
+			agentSnapshot.addInt("potviolvict", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getPotviolvict(); } });
+			agentSnapshot.addInt("violvict", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getViolvict(); } });
+			agentSnapshot.addInt("lastviolvict", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getLastviolvict(); } });
+			agentSnapshot.addInt("priorviolvict", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getPriorviolvict(); } });
+			agentSnapshot.addDouble("pviolperp", new AgentValue() { public double value(AlcoholAgent a) { return a.getPviolperp(); } });
+			agentSnapshot.addInt("potviolperp", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getPotviolperp(); } });
+			agentSnapshot.addInt("violperp", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getViolperp(); } });
+			agentSnapshot.addInt("lastviolperp", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getLastviolperp(); } });
+			agentSnapshot.addInt("priorviolperp", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getPriorviolperp(); } });
+			agentSnapshot.addDouble("probnondrk", new AgentValue() { public double value(AlcoholAgent a) { return a.getProbNonDrk(); } });
+			agentSnapshot.addDouble("problightdrk", new AgentValue() { public double value(AlcoholAgent a) { return a.getProbLightDrk(); } });
+			agentSnapshot.addDouble("probheavydrk", new AgentValue() { public double value(AlcoholAgent a) { return a.getProbHeavyDrk(); } });
+			agentSnapshot.addInt("lastdrinkstat", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getLastDrinkStat(); } });
+			agentSnapshot.addInt("drinkstat", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getDrinkStat(); } });
+			agentSnapshot.addInt("nondrk", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getNonDrinker(); } });
+			agentSnapshot.addInt("lightdrk", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getLightDrinker(); } });
+			agentSnapshot.addInt("heavydrk", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getHeavyDrinker(); } });
+			agentSnapshot.addInt("alcviol", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAlcViol(); } });
+			agentSnapshot.addDouble("probhom", new AgentValue() { public double value(AlcoholAgent a) { return a.getProbHomicide(); } });
+			agentSnapshot.addInt("homicide", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getHomicide(); } });
+			agentSnapshot.addInt("alchom", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getAlcHomicide(); } });
+			agentSnapshot.addDouble("probmove", new AgentValue() { public double value(AlcoholAgent a) { return a.getPMove(); } });
+			agentSnapshot.addInt("moved", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getMoved(); } });
+			agentSnapshot.addDouble("duration", new AgentValue() { public double value(AlcoholAgent a) { return a.getDurationRes(); } });
+			agentSnapshot.addInt("dur1", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getDurRes1(); } });
+			agentSnapshot.addInt("dur2", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getDurRes2(); } });
+			agentSnapshot.addInt("dur3", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getDurRes3(); } });
+			agentSnapshot.addInt("everhighinc", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getEverHighInc(); } });
+			agentSnapshot.addInt("everlowinc", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getEverLowInc(); } });
+			agentSnapshot.addInt("baseinchood", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getBaseIncHood(); } });
+			agentSnapshot.addInt("assignfrd", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getFinalfriendsize(); } });
+			agentSnapshot.addInt("numfrd", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.friendList.size(); } });
+			agentSnapshot.addInt("nodrkfrd", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getNumFrdNoDrk(); } });
+			agentSnapshot.addInt("moddrkfrd", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getNumFrdLightDrk(); } });
+			agentSnapshot.addInt("heavydrkfrd", new AlcoholSnapshotWriter.AgentInt() { public int value(AlcoholAgent a) { return a.getNumFrdHeavyDrk(); } });
+			for (int w=0; w<9; w++) {
+				// IDs of first nine friends (99999 -- no such friend)
+				final int k = w;
+				agentSnapshot.addInt("friend" + (k+1) + "id", new AlcoholSnapshotWriter.AgentInt() {
+					public int value(AlcoholAgent a) { return (a.friendList.size() > k) ? a.friendList.get(k).ID : 99999; } });
+			}
+			agentSnapshot.open();
 		}
 		
 		// Agent step report
 		// Outputs specified characteristics for each agent at each time step
 		// This will only be used to check that all variables are being calculated and set correctly
 		public void stepReport() {
-			String s;
 			System.out.printf( "==> Agent stepReport %.0f:\n", getTickCount() );
-			
-			// agent characteristics of interest
-			for (int i=0; i<agentList.size(); i++) {
-				AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-				double agentID = (double) a.getID();
-				double agentX = (double) a.getX();
-				double agentY = (double) a.getY();
-				double agentHood = (double) a.getAgenthood();
-				double age = (double) a.getAge();
-				double age2 = (double) a.getAge2();
-				double age3 = (double) a.getAge3();
-				double age4 = (double) a.getAge4();
-				double age5 = (double) a.getAge5();
-				double gender = (double) a.getGender();
-				double race = (double) a.getRace();
-				double black = (double) a.getBlack();
-				double hisp = (double) a.getHisp();
-				double otherRace = (double) a.getOtherRace();
-				double education = (double) a.getEducation();
-				double hs = (double) a.getHs();
-				double morehs = (double) a.getMorehs();
-				double houseincome = (double) a.getHouseincome();
-				double inc2 = (double) a.getInc2();
-				double inc3 = (double) a.getInc3();
-				double inc4 = (double) a.getInc4();
-				double died = (double) a.getDied();
-				double baseinc16 = (double) a.getBaseinc16();
-				double pviolvict = (double) a.getPviolvict();
-				double potviolvict = (double) a.getPotviolvict();
-				double violvict = (double) a.getViolvict();
-				double pviolperp = (double) a.getPviolperp();
-				double potviolperp = (double) a.getPotviolperp();
-				double violperp = (double) a.getViolperp();
-				double lastviolvict = (double) a.getLastviolvict();
-				double priorviolvict = (double) a.getPriorviolvict();
-				double priorviolperp = (double) a.getPriorviolperp();
-				double lastviolperp = (double) a.getLastviolperp();
-				double probnondrk = (double) a.getProbNonDrk();
-				double problightdrk = (double) a.getProbLightDrk();
-				double probheavydrk = (double) a.getProbHeavyDrk();
-				double lastdrinkstat = (double) a.getLastDrinkStat();
-				double drinkstat = (double) a.getDrinkStat();
-				double nondrinker = (double) a.getNonDrinker();
-				double lightdrinker = (double) a.getLightDrinker();
-				double heavydrinker = (double) a.getHeavyDrinker();
-				double alcviol = (double) a.getAlcViol();
-				double probhom = (double) a.getProbHomicide();
-				double homicide = (double) a.getHomicide();
-				double alchom = (double) a.getAlcHomicide();
-				double probmove = (double) a.getPMove();
-				double moved = (double) a.getMoved();
-				double duration = (double) a.getDurationRes();
-				double dur1 = (double) a.getDurRes1();
-				double dur2 = (double) a.getDurRes2();
-				double dur3 = (double) a.getDurRes3();
-				double everhigh = (double) a.getEverHighInc();
-				double everlow = (double) a.getEverLowInc();
-				double baseinchood = (double) a.getBaseIncHood();
-				double assignfrd = (double) a.getFinalfriendsize();
-				double numfrd = (double) a.friendList.size();
-				double nodrkfrd = (double) a.getNumFrdNoDrk();
-				double moddrkfrd = (double) a.getNumFrdLightDrk();
-				double heavydrkfrd = (double) a.getNumFrdHeavyDrk();
-				double friend1id = (double) a.friendList.get(0).ID;
-				double friend2id = (double) 99999; if (a.friendList.size() >= 2) { friend2id = (double) a.friendList.get(1).ID; } 
-				double friend3id = (double) 99999; if (a.friendList.size() >= 3) { friend3id = (double) a.friendList.get(2).ID; } 
-				double friend4id = (double) 99999; if (a.friendList.size() >= 4) { friend4id = (double) a.friendList.get(3).ID; }
-				double friend5id = (double) 99999; if (a.friendList.size() >= 5) { friend5id = (double) a.friendList.get(4).ID; }
-				double friend6id = (double) 99999; if (a.friendList.size() >= 6) { friend6id = (double) a.friendList.get(5).ID; }
-				double friend7id = (double) 99999; if (a.friendList.size() >= 7) { friend7id = (double) a.friendList.get(6).ID; }
-				double friend8id = (double) 99999; if (a.friendList.size() >= 8) { friend8id = (double) a.friendList.get(7).ID; }
-				double friend9id = (double) 99999; if (a.friendList.size() >= 9) { friend9id = (double) a.friendList.get(8).ID; }
-				double closeearly = (double) a.getOutletEarly();
-				
-				s = String.format( "%5.0f ", getTickCount() );
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f ", agentID, agentX, agentY, agentHood);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f ", age, age2, age3, age4, age5);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f ", gender, race, black, hisp, otherRace);
-				s += String.format( "%5.0f %5.0f %5.0f ", education, hs, morehs);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f ", baseinc16, houseincome, inc2, inc3, inc4);
-				s += String.format( "%5.0f %5.3f %5.0f %5.0f %5.0f %5.0f ", died, pviolvict, potviolvict, violvict, lastviolvict, priorviolvict);
-				s += String.format( "%5.3f %5.0f %5.0f %5.0f %5.0f ", pviolperp, potviolperp, violperp, lastviolperp, priorviolperp);
-				s += String.format( "%5.3f %5.3f %5.3f ", probnondrk, problightdrk, probheavydrk);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f ", lastdrinkstat, drinkstat, nondrinker, lightdrinker, heavydrinker);
-				s += String.format( "%5.0f %5.3f %5.0f %5.0f ", alcviol, probhom, homicide, alchom);
-				s += String.format( "%5.3f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f ", probmove, moved, duration, dur1, dur2, dur3, everhigh, everlow, baseinchood);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f ", assignfrd, numfrd, nodrkfrd, moddrkfrd, heavydrkfrd);
-				s += String.format( "%5.0f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f %5.0f ", friend1id, friend2id, friend3id, friend4id, friend5id, friend6id, friend7id, friend8id, friend9id);
-				s += String.format( "%5.0f ", closeearly);
-				
-				writeLineToStepReportFile( s );
-				agentStepReportFile.flush();
-			}
+			agentSnapshot.write((int)getTickCount(), agentList);
 		} // end of stepReport
 		
 		/////////////////////////////////// FUNCTIONS FOR NEIGHBORHOOD STEP REPORT
@@ -2321,49 +2273,40 @@ public class AlcoholModel extends SimModelImpl {
 		// Outputs specified characteristics for each neighborhood at each time step
 		// This will only be used to check that all variables are being calculated and set correctly
 		public void hoodStepReport() {
-			String s; 
 			System.out.printf( "==> Neighborhood stepReport %.0f:\n", getTickCount() );
 
-				// neighborhood characteristics of interest
+				// neighborhood characteristics of interest (copied here, formatted on the output writer's thread)
+				final double tick = getTickCount();
+				final double[][] rows = new double[hoodList.size()][];
 				for ( int t=0; t<hoodList.size(); t++ ){	
 					AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(t);
-					double hoodID = (double) nb.getID();
-					double avghoodinc = (double) nb.getAvghoodinc();
-					double lastavghoodinc = (double) nb.getLastavghoodinc();
-					double changeinc = (double) nb.getChangeIncome();
-					double hoodinc = (double) nb.getHoodinc();
-					double hoodinc1 = (double) nb.getHoodinc1();
-					double hoodinc2 = (double) nb.getHoodinc2();
-					double highhoodinc = (double) nb.getHighhoodinc();
-					double avghoodviol = (double) nb.getAvghoodviol();
-					double lastavghoodviol = (double) nb.getLastavghoodviol();
-					double changeviol = (double) nb.getChangeViol();
-					double highhoodviol = (double) nb.getHighhoodviol();
-					double avghoodperp = (double) nb.getAvghoodperp();
-					double targethood = (double) nb.getTargetHood();
-					double pblack = (double) nb.getPercBlack();
-					double phisp = (double) nb.getPercHisp();
-					double pstable = (double) nb.getPercStable();
-					double police = (double) nb.getNumPolice();
-					double plight = (double) nb.getPercLightDrk();
-					double pheavy = (double) nb.getPercHeavyDrk();
-					double avgage = (double) nb.getAvgAge();
-					double homrate = (double) nb.getHomrate();
-					double alchomrate = (double) nb.getAlchomrate();
-					double numagent = (double) nb.getNeighborhoodAgentList().size();
-					double numcell = (double) nb.getNeighborhoodCellList().size();
-					
-					s = String.format( "%5.0f ", getTickCount() );
-					s += String.format( "%5.0f %5.3f %5.3f %5.3f ", hoodID, avghoodinc, lastavghoodinc, changeinc); 
-					s += String.format( "%5.0f %5.0f %5.0f %5.0f ", hoodinc, hoodinc1, hoodinc2, highhoodinc);
-					s += String.format( "%5.3f %5.3f %5.3f %5.0f ", avghoodviol, lastavghoodviol, changeviol, highhoodviol);
-					s += String.format( "%5.3f %5.0f %5.3f %5.3f %5.3f ", avghoodperp, targethood, pblack, phisp, pstable);
-					s += String.format( "%5.0f %5.3f %5.3f %5.3f ", police, plight, pheavy, avgage);
-					s += String.format( "%5.3f %5.3f %5.0f %5.3f %5.3f %5.3f %5.0f ", homrate, alchomrate, numagent, numcell);
-					writeLineToNBStepReportFile( s );
-					hoodStepReportFile.flush();
+					rows[t] = new double[] {
+						(double) nb.getID(), (double) nb.getAvghoodinc(), (double) nb.getLastavghoodinc(), (double) nb.getChangeIncome(),
+						(double) nb.getHoodinc(), (double) nb.getHoodinc1(), (double) nb.getHoodinc2(), (double) nb.getHighhoodinc(),
+						(double) nb.getAvghoodviol(), (double) nb.getLastavghoodviol(), (double) nb.getChangeViol(), (double) nb.getHighhoodviol(),
+						(double) nb.getAvghoodperp(), (double) nb.getTargetHood(), (double) nb.getPercBlack(), (double) nb.getPercHisp(), (double) nb.getPercStable(),
+						(double) nb.getNumPolice(), (double) nb.getPercLightDrk(), (double) nb.getPercHeavyDrk(), (double) nb.getAvgAge(),
+						(double) nb.getHomrate(), (double) nb.getAlchomrate(), (double) nb.getNeighborhoodAgentList().size(), (double) nb.getNumCells() };
 				}
 				
+				output.submit(new Runnable() {
+					public void run() {
+						for (int t=0; t<rows.length; t++) {
+							double[] r = rows[t];
+							String s;
+							s = String.format( "%5.0f ", tick );
+							s += String.format( "%5.0f %5.3f %5.3f %5.3f ", r[0], r[1], r[2], r[3]); 
+							s += String.format( "%5.0f %5.0f %5.0f %5.0f ", r[4], r[5], r[6], r[7]);
+							s += String.format( "%5.3f %5.3f %5.3f %5.0f ", r[8], r[9], r[10], r[11]);
+							s += String.format( "%5.3f %5.0f %5.3f %5.3f %5.3f ", r[12], r[13], r[14], r[15], r[16]);
+							s += String.format( "%5.0f %5.3f %5.3f %5.3f ", r[17], r[18], r[19], r[20]);
+							s += String.format( "%5.3f %5.3f %5.0f %5.0f ", r[21], r[22], r[23], r[24]);
+							writeLineToNBStepReportFile( s );
+						}
+						hoodStepReportFile.flush();
+					}
+				});
+				
 		} // end of hoodStepReport	
 		
 		/////////////////////////////////// FUNCTIONS FOR ALCOHOL OUTLET STEP REPORT
@@ -2430,6 +2373,19 @@ public class AlcoholModel extends SimModelImpl {
 		public int getOutputHoodSteps() { return outputHoodSteps; }
 		public void setOutputHoodSteps( int ohs) { this.outputHoodSteps = ohs; }
 		
+		public int getNumThreads() { return numThreads; }
+		public void setNumThreads( int nt) { this.numThreads = nt; }
+		
+		public long getMasterSeed() { return masterSeed; }
+		public void setMasterSeed( long ms) { this.masterSeed = ms; }
+		
+		public String getCoefficientFile() { return coefficientFile; }
+		public void setCoefficientFile( String cf) { this.coefficientFile = cf; }
+		public String getAgentSnapshotFile() { return agentSnapshotFile; }
+		public void setAgentSnapshotFile( String asf) { this.agentSnapshotFile = asf; }
+		
+		public AlcoholCoefficients getCoefficients() { return coefficients; }
+		
 		public int getAllowDeath() { return allowDeath; }
 		public void setAllowDeath( int i) { this.allowDeath=i; }
 		
@@ -2462,1666 +2418,369 @@ public class AlcoholModel extends SimModelImpl {
 
 		// Make the data recorder that writes file output
 		// Outputs summary measures across agents at each time step
+		// Each column is declared in the aggregator as a (filter, value) pair; all columns are computed in one
+		// pass over the agents (aggregator.sweep) before each recorder.record(), and the recorder only reads the results
 		public void recordOutput() {
-			
-		// String	recorderName = "alcohol-oct-baselineagent.txt";	
+
+		// String	recorderName = "alcohol-oct-baselineagent.txt";
 		String 	recorderName = "alcohol-final" + "-intervention-" + (int)(intervention) + "-intTarget-" + (int)(intTarget) + "-intChange-" + (int)(intChange*100) + "-intDuration-" + (int)(intDuration) + "-numOutreach-" + (int)(numOutreach) + "calib.txt";
 		// String 	recorderName = "alcohol-apr" + "-intervention-" + (int)(intervention) + "-intTarget-" + (int)(intTarget) + "-intChange-" + (int)(intChange*100) + "-intDuration-" + (int)(intDuration) + "calib.txt";
 		recorder = new DataRecorder(recorderName, this);
+		aggregator = new AlcoholAggregator(population);
+
+		// Filters (which agents are included in the average)
+		final AgentFilter all = AlcoholAggregator.ALL_AGENTS;
+		final AgentFilter white = AlcoholAggregator.withFlag(AlcoholPopulation.WHITE, 1);
+		final AgentFilter black = AlcoholAggregator.withFlag(AlcoholPopulation.BLACK, 1);
+		final AgentFilter hisp = AlcoholAggregator.withFlag(AlcoholPopulation.HISP, 1);
+		final AgentFilter other = AlcoholAggregator.withFlag(AlcoholPopulation.OTHERRACE, 1);
+		final AgentFilter male = AlcoholAggregator.withFlag(AlcoholPopulation.MALE, 1);
+		final AgentFilter female = AlcoholAggregator.withFlag(AlcoholPopulation.MALE, 0);
+		final AgentFilter lesshs = AlcoholAggregator.withFlag(AlcoholPopulation.LESSHS, 1);
+		final AgentFilter hs = AlcoholAggregator.withFlag(AlcoholPopulation.HS, 1);
+		final AgentFilter morehs = AlcoholAggregator.withFlag(AlcoholPopulation.MOREHS, 1);
+		final AgentFilter age1 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE1, 1);
+		final AgentFilter age2 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE2, 1);
+		final AgentFilter age3 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE3, 1);
+		final AgentFilter age4 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE4, 1);
+		final AgentFilter age5 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE5, 1);
+		final AgentFilter age6 = AlcoholAggregator.withFlag(AlcoholPopulation.AGE6, 1);
+		final AgentFilter inc1 = AlcoholAggregator.withFlag(AlcoholPopulation.INC1, 1);
+		final AgentFilter inc2 = AlcoholAggregator.withFlag(AlcoholPopulation.INC2, 1);
+		final AgentFilter inc3 = AlcoholAggregator.withFlag(AlcoholPopulation.INC3, 1);
+		final AgentFilter inc4 = AlcoholAggregator.withFlag(AlcoholPopulation.INC4, 1);
+		final AgentFilter drinker = new AgentFilter() { public boolean include(AlcoholAgent a) { return a.getDrinkStat()==2 || a.getDrinkStat()==3; } };
+		final AgentFilter anyBeer = AlcoholAggregator.withFlag(AlcoholPopulation.ANYBEER, 1);
+		final AgentFilter anyWine = AlcoholAggregator.withFlag(AlcoholPopulation.ANYWINE, 1);
+		final AgentFilter anySpirit = AlcoholAggregator.withFlag(AlcoholPopulation.ANYSPIRIT, 1);
+		final AgentFilter targetHood = new AgentFilter() { public boolean include(AlcoholAgent a) { return ((AlcoholNeighborhood)hoodList.get(a.getAgenthood())).getTargetHood()==1; } };
+		final AgentFilter baseHighInc = new AgentFilter() { public boolean include(AlcoholAgent a) { return a.getBaseIncHood()==1; } };
+		final AgentFilter baseLowInc = new AgentFilter() { public boolean include(AlcoholAgent a) { return a.getBaseIncHood()==2; } };
+
+		// Values (what is averaged; indicators of 1 yes, 0 no, -1 not yet set are counted from bitsets, those that
+		// are flags of the population store from its own bitsets)
+		final AgentValue age = new AgentValue() { public double value(AlcoholAgent a) { return a.getAge(); } };
+		final AgentIndicator died = AlcoholAggregator.flag(AlcoholPopulation.DIED);
+		final AgentIndicator nonDrinker = AlcoholAggregator.flag(AlcoholPopulation.NONDRINKER);
+		final AgentIndicator lightDrinker = AlcoholAggregator.flag(AlcoholPopulation.LIGHTDRINKER);
+		final AgentIndicator heavyDrinker = AlcoholAggregator.flag(AlcoholPopulation.HEAVYDRINKER);
+		final AgentIndicator anyBeerVal = AlcoholAggregator.flag(AlcoholPopulation.ANYBEER);
+		final AgentIndicator anyWineVal = AlcoholAggregator.flag(AlcoholPopulation.ANYWINE);
+		final AgentIndicator anySpiritVal = AlcoholAggregator.flag(AlcoholPopulation.ANYSPIRIT);
+		final AgentIndicator preferBeer = AlcoholAggregator.flag(AlcoholPopulation.PREFERBEER);
+		final AgentIndicator preferWine = AlcoholAggregator.flag(AlcoholPopulation.PREFERWINE);
+		final AgentIndicator preferSpirit = AlcoholAggregator.flag(AlcoholPopulation.PREFERSPIRIT);
+		final AgentIndicator violvict = AlcoholAggregator.flag(AlcoholPopulation.VIOLVICT);
+		final AgentIndicator alcViol = AlcoholAggregator.flag(AlcoholPopulation.ALCVIOL);
+		final AgentIndicator priorviolvict = AlcoholAggregator.flag(AlcoholPopulation.PRIORVIOLVICT);
+		final AgentIndicator violperp = AlcoholAggregator.flag(AlcoholPopulation.VIOLPERP);
+		final AgentIndicator priorviolperp = AlcoholAggregator.flag(AlcoholPopulation.PRIORVIOLPERP);
+		final AgentIndicator homicide = AlcoholAggregator.flag(AlcoholPopulation.HOMICIDE);
+		final AgentIndicator alcHomicide = AlcoholAggregator.flag(AlcoholPopulation.ALCHOMICIDE);
+		final AgentIndicator everLowInc = AlcoholAggregator.flag(AlcoholPopulation.EVERLOWINC);
+		final AgentIndicator everHighInc = AlcoholAggregator.flag(AlcoholPopulation.EVERHIGHINC);
 
 		// Number of agents
-		recorder.addNumericDataSource("numAgents", new NumericDataSource() {
-			public double execute() {
-				int currAgents = agentList.size();
-				return currAgents;
-			}
-		});
-		
+		aggregator.addCount("numAgents", all);
+
 		// Socio-demographic characteristics of agents
-		recorder.createAverageDataSource("meanage", agentList, "getAge");
-		recorder.createAverageDataSource("pmale", agentList, "getGender");
-		recorder.createAverageDataSource("page1", agentList, "getAge1");
-		recorder.createAverageDataSource("page2", agentList, "getAge2");
-		recorder.createAverageDataSource("page3", agentList, "getAge3");
-		recorder.createAverageDataSource("page4", agentList, "getAge4");
-		recorder.createAverageDataSource("page5", agentList, "getAge5");
-		recorder.createAverageDataSource("page6", agentList, "getAge6");
-		recorder.createAverageDataSource("pwhite", agentList, "getWhite");
-		recorder.createAverageDataSource("pblack", agentList, "getBlack");
-		recorder.createAverageDataSource("phisp", agentList, "getHisp");
-		recorder.createAverageDataSource("pother", agentList, "getOtherRace");
-		recorder.createAverageDataSource("plesshs", agentList, "getLesshs");
-		recorder.createAverageDataSource("phs", agentList, "getHs");
-		recorder.createAverageDataSource("pmorehs", agentList, "getMorehs");
-		recorder.createAverageDataSource("pinc1", agentList, "getInc1");
-		recorder.createAverageDataSource("pinc2", agentList, "getInc2");
-		recorder.createAverageDataSource("pinc3", agentList, "getInc3");
-		recorder.createAverageDataSource("pinc4", agentList, "getInc4");
-		recorder.createAverageDataSource("pdurres1", agentList, "getDurRes1");
-		recorder.createAverageDataSource("pdurres2", agentList, "getDurRes2");
-		recorder.createAverageDataSource("pdurres3", agentList, "getDurRes3");
-		recorder.createAverageDataSource("pmoved", agentList, "getMoved");
-		
+		aggregator.addMean("meanage", all, age);
+		aggregator.addRate("pmale", all, AlcoholAggregator.flag(AlcoholPopulation.MALE));
+		aggregator.addRate("page1", all, AlcoholAggregator.flag(AlcoholPopulation.AGE1));
+		aggregator.addRate("page2", all, AlcoholAggregator.flag(AlcoholPopulation.AGE2));
+		aggregator.addRate("page3", all, AlcoholAggregator.flag(AlcoholPopulation.AGE3));
+		aggregator.addRate("page4", all, AlcoholAggregator.flag(AlcoholPopulation.AGE4));
+		aggregator.addRate("page5", all, AlcoholAggregator.flag(AlcoholPopulation.AGE5));
+		aggregator.addRate("page6", all, AlcoholAggregator.flag(AlcoholPopulation.AGE6));
+		aggregator.addRate("pwhite", all, AlcoholAggregator.flag(AlcoholPopulation.WHITE));
+		aggregator.addRate("pblack", all, AlcoholAggregator.flag(AlcoholPopulation.BLACK));
+		aggregator.addRate("phisp", all, AlcoholAggregator.flag(AlcoholPopulation.HISP));
+		aggregator.addRate("pother", all, AlcoholAggregator.flag(AlcoholPopulation.OTHERRACE));
+		aggregator.addRate("plesshs", all, AlcoholAggregator.flag(AlcoholPopulation.LESSHS));
+		aggregator.addRate("phs", all, AlcoholAggregator.flag(AlcoholPopulation.HS));
+		aggregator.addRate("pmorehs", all, AlcoholAggregator.flag(AlcoholPopulation.MOREHS));
+		aggregator.addRate("pinc1", all, AlcoholAggregator.flag(AlcoholPopulation.INC1));
+		aggregator.addRate("pinc2", all, AlcoholAggregator.flag(AlcoholPopulation.INC2));
+		aggregator.addRate("pinc3", all, AlcoholAggregator.flag(AlcoholPopulation.INC3));
+		aggregator.addRate("pinc4", all, AlcoholAggregator.flag(AlcoholPopulation.INC4));
+		aggregator.addRate("pdurres1", all, AlcoholAggregator.flag(AlcoholPopulation.DURRES1));
+		aggregator.addRate("pdurres2", all, AlcoholAggregator.flag(AlcoholPopulation.DURRES2));
+		aggregator.addRate("pdurres3", all, AlcoholAggregator.flag(AlcoholPopulation.DURRES3));
+		aggregator.addRate("pmoved", all, AlcoholAggregator.flag(AlcoholPopulation.MOVED));
+
 		// mortality
-		recorder.createAverageDataSource("pdied", agentList, "getDied");
+		aggregator.addRate("pdied", all, died);
 			// race-specific mortality
-			recorder.createAverageDataSource("pwdied", wagentList, "getDied");
-			recorder.createAverageDataSource("pbdied", bagentList, "getDied");
-			recorder.createAverageDataSource("phdied", hagentList, "getDied");
-			recorder.createAverageDataSource("podied", oagentList, "getDied");
+			aggregator.addRate("pwdied", white, died);
+			aggregator.addRate("pbdied", black, died);
+			aggregator.addRate("phdied", hisp, died);
+			aggregator.addRate("podied", other, died);
 			// gender-specific mortality
-			recorder.createAverageDataSource("pmdied", magentList, "getDied");
-			recorder.createAverageDataSource("pfdied", fagentList, "getDied");
+			aggregator.addRate("pmdied", male, died);
+			aggregator.addRate("pfdied", female, died);
 			// age-specific mortality
-			recorder.addNumericDataSource("page1died", new NumericDataSource() {
-				public double execute() {
-					int numage1 = 0;
-					double avgage1died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge1()==1) {
-							numage1 += 1;
-							avgage1died += a.getDied();
-						}
-					}
-					avgage1died /= (double) numage1;
-					return avgage1died;
-				}
-			});
-			recorder.addNumericDataSource("page2died", new NumericDataSource() {
-				public double execute() {
-					int numage2 = 0;
-					double avgage2died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge2()==1) {
-							numage2 += 1;
-							avgage2died += a.getDied();
-						}
-					}
-					avgage2died /= (double) numage2;
-					return avgage2died;
-				}
-			});
-			recorder.addNumericDataSource("page3died", new NumericDataSource() {
-				public double execute() {
-					int numage3 = 0;
-					double avgage3died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge3()==1) {
-							numage3 += 1;
-							avgage3died += a.getDied();
-						}
-					}
-					avgage3died /= (double) numage3;
-					return avgage3died;
-				}
-			});
-			recorder.addNumericDataSource("page4died", new NumericDataSource() {
-				public double execute() {
-					int numage4 = 0;
-					double avgage4died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge4()==1) {
-							numage4 += 1;
-							avgage4died += a.getDied();
-						}
-					}
-					avgage4died /= (double) numage4;
-					return avgage4died;
-				}
-			});
-			recorder.addNumericDataSource("page5died", new NumericDataSource() {
-				public double execute() {
-					int numage5 = 0;
-					double avgage5died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge5()==1) {
-							numage5 += 1;
-							avgage5died += a.getDied();
-						}
-					}
-					avgage5died /= (double) numage5;
-					return avgage5died;
-				}
-			});
-			recorder.addNumericDataSource("page6died", new NumericDataSource() {
-				public double execute() {
-					int numage6 = 0;
-					double avgage6died = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						if (a.getAge6()==1) {
-							numage6 += 1;
-							avgage6died += a.getDied();
-						}
-					}
-					avgage6died /= (double) numage6;
-					return avgage6died;
-				}
-			});
-					
-	
+			aggregator.addRate("page1died", age1, died);
+			aggregator.addRate("page2died", age2, died);
+			aggregator.addRate("page3died", age3, died);
+			aggregator.addRate("page4died", age4, died);
+			aggregator.addRate("page5died", age5, died);
+			aggregator.addRate("page6died", age6, died);
 
 					// drinking status -- non-drinker
-					recorder.createAverageDataSource("pnondrk", agentList, "getNonDrinker");
+					aggregator.addRate("pnondrk", all, nonDrinker);
 						// race-specific non drinking status
-						recorder.createAverageDataSource("pwnondrk", wagentList, "getNonDrinker");
-						recorder.createAverageDataSource("pbnondrk", bagentList, "getNonDrinker");
-						recorder.createAverageDataSource("phnondrk", hagentList, "getNonDrinker");
-						recorder.createAverageDataSource("ponondrk", oagentList, "getNonDrinker");
-					
+						aggregator.addRate("pwnondrk", white, nonDrinker);
+						aggregator.addRate("pbnondrk", black, nonDrinker);
+						aggregator.addRate("phnondrk", hisp, nonDrinker);
+						aggregator.addRate("ponondrk", other, nonDrinker);
+
 					// drinking status -- light/moderate drinker
-					recorder.createAverageDataSource("plight", agentList, "getLightDrinker");
+					aggregator.addRate("plight", all, lightDrinker);
 						// race-specific light drinking status
-						recorder.createAverageDataSource("pwlight", wagentList, "getLightDrinker");
-						recorder.createAverageDataSource("pblight", bagentList, "getLightDrinker");
-						recorder.createAverageDataSource("phlight", hagentList, "getLightDrinker");
-						recorder.createAverageDataSource("polight", oagentList, "getLightDrinker");
+						aggregator.addRate("pwlight", white, lightDrinker);
+						aggregator.addRate("pblight", black, lightDrinker);
+						aggregator.addRate("phlight", hisp, lightDrinker);
+						aggregator.addRate("polight", other, lightDrinker);
 						// gender-specific light drinking status
-						recorder.createAverageDataSource("pmlight", magentList, "getLightDrinker");
-						recorder.createAverageDataSource("pflight", fagentList, "getLightDrinker");
+						aggregator.addRate("pmlight", male, lightDrinker);
+						aggregator.addRate("pflight", female, lightDrinker);
 						// education-specific light drinking status
-						recorder.createAverageDataSource("plesshslight", lesshsagentList, "getLightDrinker");
-						recorder.createAverageDataSource("phslight",  hsagentList,  "getLightDrinker");
-						recorder.createAverageDataSource("pmorehslight", morehsagentList, "getLightDrinker");
+						aggregator.addRate("plesshslight", lesshs, lightDrinker);
+						aggregator.addRate("phslight", hs, lightDrinker);
+						aggregator.addRate("pmorehslight", morehs, lightDrinker);
 						// age-specific light drinking status
-						recorder.addNumericDataSource("page1light", new NumericDataSource() {
-							public double execute() {
-								int numage1 = 0;
-								double avgage1light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getAge1()==1) {
-										numage1 += 1;
-										avgage1light += a.getLightDrinker();
-									}
-								}
-								avgage1light /= (double) numage1;
-								return avgage1light;
-							}
-						});
-						recorder.addNumericDataSource("page2light", new NumericDataSource() {
-							public double execute() {
-								int numage2 = 0;
-								double avgage2light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getAge2()==1) {
-										numage2 += 1;
-										avgage2light += a.getLightDrinker();
-									}
-								}
-								avgage2light /= (double) numage2;
-								return avgage2light;
-							}
-						});
-						recorder.addNumericDataSource("page3light", new NumericDataSource() {
-							public double execute() {
-								int numage3 = 0;
-								double avgage3light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getAge3()==1) {
-										numage3 += 1;
-										avgage3light += a.getLightDrinker();
-									}
-								}
-								avgage3light /= (double) numage3;
-								return avgage3light;
-							}
-						});
-						recorder.addNumericDataSource("page4light", new NumericDataSource() {
-							public double execute() {
-								int numage4 = 0;
-								double avgage4light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getAge4()==1) {
-										numage4 += 1;
-										avgage4light += a.getLightDrinker();
-									}
-								}
-								avgage4light /= (double) numage4;
-								return avgage4light;
-							}
-						});
-						recorder.addNumericDataSource("page5light", new NumericDataSource() {
-							public double execute() {
-								int numage5 = 0;
-								double avgage5light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getAge5()==1) {
-										numage5 += 1;
-										avgage5light += a.getLightDrinker();
-									}
-								}
-								avgage5light /= (double) numage5;
-								return avgage5light;
-							}
-						});
+						aggregator.addRate("page1light", age1, lightDrinker);
+						aggregator.addRate("page2light", age2, lightDrinker);
+						aggregator.addRate("page3light", age3, lightDrinker);
+						aggregator.addRate("page4light", age4, lightDrinker);
+						aggregator.addRate("page5light", age5, lightDrinker);
 						// income-specific light drinking status
-						recorder.addNumericDataSource("pinc1light", new NumericDataSource() {
-							public double execute() {
-								int numinc1 = 0;
-								double avginc1light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getInc1()==1) {
-										numinc1 += 1;
-										avginc1light += a.getLightDrinker();
-									}
-								}
-								avginc1light /= (double) numinc1;
-								return avginc1light;
-							}
-						});
-						recorder.addNumericDataSource("pinc2light", new NumericDataSource() {
-							public double execute() {
-								int numinc2 = 0;
-								double avginc2light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getInc2()==1) {
-										numinc2 += 1;
-										avginc2light += a.getLightDrinker();
-									}
-								}
-								avginc2light /= (double) numinc2;
-								return avginc2light;
-							}
-						});
-						recorder.addNumericDataSource("pinc3light", new NumericDataSource() {
-							public double execute() {
-								int numinc3 = 0;
-								double avginc3light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getInc3()==1) {
-										numinc3 += 1;
-										avginc3light += a.getLightDrinker();
-									}
-								}
-								avginc3light /= (double) numinc3;
-								return avginc3light;
-							}
-						});
-						recorder.addNumericDataSource("pinc4light", new NumericDataSource() {
-							public double execute() {
-								int numinc4 = 0;
-								double avginc4light = 0.0;
-								for (int i=0; i<agentList.size(); i++) {
-									AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-									if (a.getInc4()==1) {
-										numinc4 += 1;
-										avginc4light += a.getLightDrinker();
-									}
-								}
-								avginc4light /= (double) numinc4;
-								return avginc4light;
-							}
-						});
-					
+						aggregator.addRate("pinc1light", inc1, lightDrinker);
+						aggregator.addRate("pinc2light", inc2, lightDrinker);
+						aggregator.addRate("pinc3light", inc3, lightDrinker);
+						aggregator.addRate("pinc4light", inc4, lightDrinker);
+
 						// drinking status -- heavy drinker
-						recorder.createAverageDataSource("pheavy", agentList, "getHeavyDrinker");
+						aggregator.addRate("pheavy", all, heavyDrinker);
 							// race-specific heavy drinking status
-							recorder.createAverageDataSource("pwheavy", wagentList, "getHeavyDrinker");
-							recorder.createAverageDataSource("pbheavy", bagentList, "getHeavyDrinker");
-							recorder.createAverageDataSource("phheavy", hagentList, "getHeavyDrinker");
-							recorder.createAverageDataSource("poheavy", oagentList, "getHeavyDrinker");
+							aggregator.addRate("pwheavy", white, heavyDrinker);
+							aggregator.addRate("pbheavy", black, heavyDrinker);
+							aggregator.addRate("phheavy", hisp, heavyDrinker);
+							aggregator.addRate("poheavy", other, heavyDrinker);
 							// gender-specific heavy drinking status
-							recorder.createAverageDataSource("pmheavy", magentList, "getHeavyDrinker");
-							recorder.createAverageDataSource("pfheavy", fagentList, "getHeavyDrinker");
+							aggregator.addRate("pmheavy", male, heavyDrinker);
+							aggregator.addRate("pfheavy", female, heavyDrinker);
 							// education-specific heavy drinking status
-							recorder.createAverageDataSource("plesshsheavy", lesshsagentList, "getHeavyDrinker");
-							recorder.createAverageDataSource("phsheavy",  hsagentList,  "getHeavyDrinker");
-							recorder.createAverageDataSource("pmorehsheavy", morehsagentList, "getHeavyDrinker");
+							aggregator.addRate("plesshsheavy", lesshs, heavyDrinker);
+							aggregator.addRate("phsheavy", hs, heavyDrinker);
+							aggregator.addRate("pmorehsheavy", morehs, heavyDrinker);
 							// age-specific heavy drinking status
-							recorder.addNumericDataSource("page1heavy", new NumericDataSource() {
-								public double execute() {
-									int numage1 = 0;
-									double avgage1heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getAge1()==1) {
-											numage1 += 1;
-											avgage1heavy += a.getHeavyDrinker();
-										}
-									}
-									avgage1heavy /= (double) numage1;
-									return avgage1heavy;
-								}
-							});
-							recorder.addNumericDataSource("page2heavy", new NumericDataSource() {
-								public double execute() {
-									int numage2 = 0;
-									double avgage2heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getAge2()==1) {
-											numage2 += 1;
-											avgage2heavy += a.getHeavyDrinker();
-										}
-									}
-									avgage2heavy /= (double) numage2;
-									return avgage2heavy;
-								}
-							});
-							recorder.addNumericDataSource("page3heavy", new NumericDataSource() {
-								public double execute() {
-									int numage3 = 0;
-									double avgage3heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getAge3()==1) {
-											numage3 += 1;
-											avgage3heavy += a.getHeavyDrinker();
-										}
-									}
-									avgage3heavy /= (double) numage3;
-									return avgage3heavy;
-								}
-							});
-							recorder.addNumericDataSource("page4heavy", new NumericDataSource() {
-								public double execute() {
-									int numage4 = 0;
-									double avgage4heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getAge4()==1) {
-											numage4 += 1;
-											avgage4heavy += a.getHeavyDrinker();
-										}
-									}
-									avgage4heavy /= (double) numage4;
-									return avgage4heavy;
-								}
-							});
-							recorder.addNumericDataSource("page5heavy", new NumericDataSource() {
-								public double execute() {
-									int numage5 = 0;
-									double avgage5heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getAge5()==1) {
-											numage5 += 1;
-											avgage5heavy += a.getHeavyDrinker();
-										}
-									}
-									avgage5heavy /= (double) numage5;
-									return avgage5heavy;
-								}
-							});
+							aggregator.addRate("page1heavy", age1, heavyDrinker);
+							aggregator.addRate("page2heavy", age2, heavyDrinker);
+							aggregator.addRate("page3heavy", age3, heavyDrinker);
+							aggregator.addRate("page4heavy", age4, heavyDrinker);
+							aggregator.addRate("page5heavy", age5, heavyDrinker);
 							// income-specific heavy drinking status
-							recorder.addNumericDataSource("pinc1heavy", new NumericDataSource() {
-								public double execute() {
-									int numinc1 = 0;
-									double avginc1heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getInc1()==1) {
-											numinc1 += 1;
-											avginc1heavy += a.getHeavyDrinker();
-										}
-									}
-									avginc1heavy /= (double) numinc1;
-									return avginc1heavy;
-								}
-							});
-							recorder.addNumericDataSource("pinc2heavy", new NumericDataSource() {
-								public double execute() {
-									int numinc2 = 0;
-									double avginc2heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getInc2()==1) {
-											numinc2 += 1;
-											avginc2heavy += a.getHeavyDrinker();
-										}
-									}
-									avginc2heavy /= (double) numinc2;
-									return avginc2heavy;
-								}
-							});
-							recorder.addNumericDataSource("pinc3heavy", new NumericDataSource() {
-								public double execute() {
-									int numinc3 = 0;
-									double avginc3heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getInc3()==1) {
-											numinc3 += 1;
-											avginc3heavy += a.getHeavyDrinker();
-										}
-									}
-									avginc3heavy /= (double) numinc3;
-									return avginc3heavy;
-								}
-							});
-							recorder.addNumericDataSource("pinc4heavy", new NumericDataSource() {
-								public double execute() {
-									int numinc4 = 0;
-									double avginc4heavy = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getInc4()==1) {
-											numinc4 += 1;
-											avginc4heavy += a.getHeavyDrinker();
-										}
-									}
-									avginc4heavy /= (double) numinc4;
-									return avginc4heavy;
-								}
-							});
-						
-		// beverage type -- any drinking in past year
-							recorder.addNumericDataSource("anybeer", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getDrinkStat()==2 || a.getDrinkStat()==3) {
-											num += 1;
-											avg += a.getAnyBeer();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("anywine", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getDrinkStat()==2 || a.getDrinkStat()==3) {
-											num += 1;
-											avg += a.getAnyWine();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("anyspirit", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if (a.getDrinkStat()==2 || a.getDrinkStat()==3) {
-											num += 1;
-											avg += a.getAnySpirit();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-												
-							recorder.addNumericDataSource("pwanybeer", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getWhite()==1) {
-											num += 1;
-											avg += a.getAnyBeer();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("pwanywine", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getWhite()==1) {
-											num += 1;
-											avg += a.getAnyWine();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("pwanyspirit", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getWhite()==1) {
-											num += 1;
-											avg += a.getAnySpirit();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							
-							recorder.addNumericDataSource("pbanybeer", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getBlack()==1) {
-											num += 1;
-											avg += a.getAnyBeer();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("pbanywine", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getBlack()==1) {
-											num += 1;
-											avg += a.getAnyWine();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							recorder.addNumericDataSource("pbanyspirit", new NumericDataSource() {
-								public double execute() {
-									int num = 0;
-									double avg = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getBlack()==1) {
-											num += 1;
-											avg += a.getAnySpirit();
-										}
-									}
-									avg /= (double) num;
-									return avg;
-								}
-							});	
-							
-							recorder.addNumericDataSource("pinc1anybeer", new NumericDataSource() {
-								public double execute() {
-									int numinc1 = 0;
-									double avginc1 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc1()==1) {
-											numinc1 += 1;
-											avginc1 += a.getAnyBeer();
-										}
-									}
-									avginc1 /= (double) numinc1;
-									return avginc1;
-								}
-							});
-							recorder.addNumericDataSource("pinc2anybeer", new NumericDataSource() {
-								public double execute() {
-									int numinc2 = 0;
-									double avginc2 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc2()==1) {
-											numinc2 += 1;
-											avginc2 += a.getAnyBeer();
-										}
-									}
-									avginc2 /= (double) numinc2;
-									return avginc2;
-								}
-							});
-							recorder.addNumericDataSource("pinc3anybeer", new NumericDataSource() {
-								public double execute() {
-									int numinc3 = 0;
-									double avginc3 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc3()==1) {
-											numinc3 += 1;
-											avginc3 += a.getAnyBeer();
-										}
-									}
-									avginc3 /= (double) numinc3;
-									return avginc3;
-								}
-							});
-							recorder.addNumericDataSource("pinc4anybeer", new NumericDataSource() {
-								public double execute() {
-									int numinc4 = 0;
-									double avginc4 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc4()==1) {
-											numinc4 += 1;
-											avginc4 += a.getAnyBeer();
-										}
-									}
-									avginc4 /= (double) numinc4;
-									return avginc4;
-								}
-							});
-							
-							recorder.addNumericDataSource("pinc1anywine", new NumericDataSource() {
-								public double execute() {
-									int numinc1 = 0;
-									double avginc1 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc1()==1) {
-											numinc1 += 1;
-											avginc1 += a.getAnyWine();
-										}
-									}
-									avginc1 /= (double) numinc1;
-									return avginc1;
-								}
-							});
-							recorder.addNumericDataSource("pinc2anywine", new NumericDataSource() {
-								public double execute() {
-									int numinc2 = 0;
-									double avginc2 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc2()==1) {
-											numinc2 += 1;
-											avginc2 += a.getAnyWine();
-										}
-									}
-									avginc2 /= (double) numinc2;
-									return avginc2;
-								}
-							});
-							recorder.addNumericDataSource("pinc3anywine", new NumericDataSource() {
-								public double execute() {
-									int numinc3 = 0;
-									double avginc3 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc3()==1) {
-											numinc3 += 1;
-											avginc3 += a.getAnyWine();
-										}
-									}
-									avginc3 /= (double) numinc3;
-									return avginc3;
-								}
-							});
-							recorder.addNumericDataSource("pinc4anywine", new NumericDataSource() {
-								public double execute() {
-									int numinc4 = 0;
-									double avginc4 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc4()==1) {
-											numinc4 += 1;
-											avginc4 += a.getAnyWine();
-										}
-									}
-									avginc4 /= (double) numinc4;
-									return avginc4;
-								}
-							});
-							
-							recorder.addNumericDataSource("pinc1anyspirit", new NumericDataSource() {
-								public double execute() {
-									int numinc1 = 0;
-									double avginc1 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc1()==1) {
-											numinc1 += 1;
-											avginc1 += a.getAnySpirit();
-										}
-									}
-									avginc1 /= (double) numinc1;
-									return avginc1;
-								}
-							});
-							recorder.addNumericDataSource("pinc2anyspirit", new NumericDataSource() {
-								public double execute() {
-									int numinc2 = 0;
-									double avginc2 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc2()==1) {
-											numinc2 += 1;
-											avginc2 += a.getAnySpirit();
-										}
-									}
-									avginc2 /= (double) numinc2;
-									return avginc2;
-								}
-							});
-							recorder.addNumericDataSource("pinc3anyspirit", new NumericDataSource() {
-								public double execute() {
-									int numinc3 = 0;
-									double avginc3 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc3()==1) {
-											numinc3 += 1;
-											avginc3 += a.getAnySpirit();
-										}
-									}
-									avginc3 /= (double) numinc3;
-									return avginc3;
-								}
-							});
-							recorder.addNumericDataSource("pinc4anyspirit", new NumericDataSource() {
-								public double execute() {
-									int numinc4 = 0;
-									double avginc4 = 0.0;
-									for (int i=0; i<agentList.size(); i++) {
-										AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-										if ((a.getDrinkStat()==2 || a.getDrinkStat()==3) && a.getInc4()==1) {
-											numinc4 += 1;
-											avginc4 += a.getAnySpirit();
-										}
-									}
-									avginc4 /= (double) numinc4;
-									return avginc4;
-								}
-							});
-							
-							
-		// preferred beverage type
-		recorder.addNumericDataSource("preferbeer", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getAnyBeer()==1) {
-						num += 1;
-						avg += a.getPreferBeer();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("preferwine", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getAnyWine()==1) {
-						num += 1;
-						avg += a.getPreferWine();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("preferspirit", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getAnySpirit()==1) {
-						num += 1;
-						avg += a.getPreferSpirit();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-							
-		recorder.addNumericDataSource("pwbeer", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getWhite()==1) {
-						num += 1;
-						avg += a.getPreferBeer();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("pwwine", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getWhite()==1) {
-						num += 1;
-						avg += a.getPreferWine();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("pwspirit", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getWhite()==1) {
-						num += 1;
-						avg += a.getPreferSpirit();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		
-		recorder.addNumericDataSource("pbbeer", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getBlack()==1) {
-						num += 1;
-						avg += a.getPreferBeer();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("pbwine", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getBlack()==1) {
-						num += 1;
-						avg += a.getPreferWine();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		recorder.addNumericDataSource("pbspirit", new NumericDataSource() {
-			public double execute() {
-				int num = 0;
-				double avg = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getBlack()==1) {
-						num += 1;
-						avg += a.getPreferSpirit();
-					}
-				}
-				avg /= (double) num;
-				return avg;
-			}
-		});	
-		
-		recorder.addNumericDataSource("pinc1beer", new NumericDataSource() {
-			public double execute() {
-				int numinc1 = 0;
-				double avginc1 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getInc1()==1) {
-						numinc1 += 1;
-						avginc1 += a.getPreferBeer();
-					}
-				}
-				avginc1 /= (double) numinc1;
-				return avginc1;
-			}
-		});
-		recorder.addNumericDataSource("pinc2beer", new NumericDataSource() {
-			public double execute() {
-				int numinc2 = 0;
-				double avginc2 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getInc2()==1) {
-						numinc2 += 1;
-						avginc2 += a.getPreferBeer();
-					}
-				}
-				avginc2 /= (double) numinc2;
-				return avginc2;
-			}
-		});
-		recorder.addNumericDataSource("pinc3beer", new NumericDataSource() {
-			public double execute() {
-				int numinc3 = 0;
-				double avginc3 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getInc3()==1) {
-						numinc3 += 1;
-						avginc3 += a.getPreferBeer();
-					}
-				}
-				avginc3 /= (double) numinc3;
-				return avginc3;
-			}
-		});
-		recorder.addNumericDataSource("pinc4beer", new NumericDataSource() {
-			public double execute() {
-				int numinc4 = 0;
-				double avginc4 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyBeer()==1) && a.getInc4()==1) {
-						numinc4 += 1;
-						avginc4 += a.getPreferBeer();
-					}
-				}
-				avginc4 /= (double) numinc4;
-				return avginc4;
-			}
-		});
-		
-		recorder.addNumericDataSource("pinc1wine", new NumericDataSource() {
-			public double execute() {
-				int numinc1 = 0;
-				double avginc1 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getInc1()==1) {
-						numinc1 += 1;
-						avginc1 += a.getPreferWine();
-					}
-				}
-				avginc1 /= (double) numinc1;
-				return avginc1;
-			}
-		});
-		recorder.addNumericDataSource("pinc2wine", new NumericDataSource() {
-			public double execute() {
-				int numinc2 = 0;
-				double avginc2 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getInc2()==1) {
-						numinc2 += 1;
-						avginc2 += a.getPreferWine();
-					}
-				}
-				avginc2 /= (double) numinc2;
-				return avginc2;
-			}
-		});
-		recorder.addNumericDataSource("pinc3wine", new NumericDataSource() {
-			public double execute() {
-				int numinc3 = 0;
-				double avginc3 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getInc3()==1) {
-						numinc3 += 1;
-						avginc3 += a.getPreferWine();
-					}
-				}
-				avginc3 /= (double) numinc3;
-				return avginc3;
-			}
-		});
-		recorder.addNumericDataSource("pinc4wine", new NumericDataSource() {
-			public double execute() {
-				int numinc4 = 0;
-				double avginc4 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnyWine()==1) && a.getInc4()==1) {
-						numinc4 += 1;
-						avginc4 += a.getPreferWine();
-					}
-				}
-				avginc4 /= (double) numinc4;
-				return avginc4;
-			}
-		});
-		
-		recorder.addNumericDataSource("pinc1spirit", new NumericDataSource() {
-			public double execute() {
-				int numinc1 = 0;
-				double avginc1 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getInc1()==1) {
-						numinc1 += 1;
-						avginc1 += a.getPreferSpirit();
-					}
-				}
-				avginc1 /= (double) numinc1;
-				return avginc1;
-			}
-		});
-		recorder.addNumericDataSource("pinc2spirit", new NumericDataSource() {
-			public double execute() {
-				int numinc2 = 0;
-				double avginc2 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getInc2()==1) {
-						numinc2 += 1;
-						avginc2 += a.getPreferSpirit();
-					}
-				}
-				avginc2 /= (double) numinc2;
-				return avginc2;
-			}
-		});
-		recorder.addNumericDataSource("pinc3spirit", new NumericDataSource() {
-			public double execute() {
-				int numinc3 = 0;
-				double avginc3 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getInc3()==1) {
-						numinc3 += 1;
-						avginc3 += a.getPreferSpirit();
-					}
-				}
-				avginc3 /= (double) numinc3;
-				return avginc3;
-			}
-		});
-		recorder.addNumericDataSource("pinc4spirit", new NumericDataSource() {
-			public double execute() {
-				int numinc4 = 0;
-				double avginc4 = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if ((a.getAnySpirit()==1) && a.getInc4()==1) {
-						numinc4 += 1;
-						avginc4 += a.getPreferSpirit();
-					}
-				}
-				avginc4 /= (double) numinc4;
-				return avginc4;
-			}
-		});
-							
+							aggregator.addRate("pinc1heavy", inc1, heavyDrinker);
+							aggregator.addRate("pinc2heavy", inc2, heavyDrinker);
+							aggregator.addRate("pinc3heavy", inc3, heavyDrinker);
+							aggregator.addRate("pinc4heavy", inc4, heavyDrinker);
+
+		// beverage type -- any drinking in past year (among current drinkers)
+		final AgentFilter wdrinker = AlcoholAggregator.both(drinker, white);
+		final AgentFilter bdrinker = AlcoholAggregator.both(drinker, black);
+		final AgentFilter inc1drinker = AlcoholAggregator.both(drinker, inc1);
+		final AgentFilter inc2drinker = AlcoholAggregator.both(drinker, inc2);
+		final AgentFilter inc3drinker = AlcoholAggregator.both(drinker, inc3);
+		final AgentFilter inc4drinker = AlcoholAggregator.both(drinker, inc4);
+		aggregator.addRate("anybeer", drinker, anyBeerVal);
+		aggregator.addRate("anywine", drinker, anyWineVal);
+		aggregator.addRate("anyspirit", drinker, anySpiritVal);
+		aggregator.addRate("pwanybeer", wdrinker, anyBeerVal);
+		aggregator.addRate("pwanywine", wdrinker, anyWineVal);
+		aggregator.addRate("pwanyspirit", wdrinker, anySpiritVal);
+		aggregator.addRate("pbanybeer", bdrinker, anyBeerVal);
+		aggregator.addRate("pbanywine", bdrinker, anyWineVal);
+		aggregator.addRate("pbanyspirit", bdrinker, anySpiritVal);
+		aggregator.addRate("pinc1anybeer", inc1drinker, anyBeerVal);
+		aggregator.addRate("pinc2anybeer", inc2drinker, anyBeerVal);
+		aggregator.addRate("pinc3anybeer", inc3drinker, anyBeerVal);
+		aggregator.addRate("pinc4anybeer", inc4drinker, anyBeerVal);
+		aggregator.addRate("pinc1anywine", inc1drinker, anyWineVal);
+		aggregator.addRate("pinc2anywine", inc2drinker, anyWineVal);
+		aggregator.addRate("pinc3anywine", inc3drinker, anyWineVal);
+		aggregator.addRate("pinc4anywine", inc4drinker, anyWineVal);
+		aggregator.addRate("pinc1anyspirit", inc1drinker, anySpiritVal);
+		aggregator.addRate("pinc2anyspirit", inc2drinker, anySpiritVal);
+		aggregator.addRate("pinc3anyspirit", inc3drinker, anySpiritVal);
+		aggregator.addRate("pinc4anyspirit", inc4drinker, anySpiritVal);
+
+		// preferred beverage type (among those who drank each type)
+		final AgentFilter wanyBeer = AlcoholAggregator.both(anyBeer, white);
+		final AgentFilter wanyWine = AlcoholAggregator.both(anyWine, white);
+		final AgentFilter wanySpirit = AlcoholAggregator.both(anySpirit, white);
+		final AgentFilter banyBeer = AlcoholAggregator.both(anyBeer, black);
+		final AgentFilter banyWine = AlcoholAggregator.both(anyWine, black);
+		final AgentFilter banySpirit = AlcoholAggregator.both(anySpirit, black);
+		aggregator.addRate("preferbeer", anyBeer, preferBeer);
+		aggregator.addRate("preferwine", anyWine, preferWine);
+		aggregator.addRate("preferspirit", anySpirit, preferSpirit);
+		aggregator.addRate("pwbeer", wanyBeer, preferBeer);
+		aggregator.addRate("pwwine", wanyWine, preferWine);
+		aggregator.addRate("pwspirit", wanySpirit, preferSpirit);
+		aggregator.addRate("pbbeer", banyBeer, preferBeer);
+		aggregator.addRate("pbwine", banyWine, preferWine);
+		aggregator.addRate("pbspirit", banySpirit, preferSpirit);
+		aggregator.addRate("pinc1beer", AlcoholAggregator.both(anyBeer, inc1), preferBeer);
+		aggregator.addRate("pinc2beer", AlcoholAggregator.both(anyBeer, inc2), preferBeer);
+		aggregator.addRate("pinc3beer", AlcoholAggregator.both(anyBeer, inc3), preferBeer);
+		aggregator.addRate("pinc4beer", AlcoholAggregator.both(anyBeer, inc4), preferBeer);
+		aggregator.addRate("pinc1wine", AlcoholAggregator.both(anyWine, inc1), preferWine);
+		aggregator.addRate("pinc2wine", AlcoholAggregator.both(anyWine, inc2), preferWine);
+		aggregator.addRate("pinc3wine", AlcoholAggregator.both(anyWine, inc3), preferWine);
+		aggregator.addRate("pinc4wine", AlcoholAggregator.both(anyWine, inc4), preferWine);
+		aggregator.addRate("pinc1spirit", AlcoholAggregator.both(anySpirit, inc1), preferSpirit);
+		aggregator.addRate("pinc2spirit", AlcoholAggregator.both(anySpirit, inc2), preferSpirit);
+		aggregator.addRate("pinc3spirit", AlcoholAggregator.both(anySpirit, inc3), preferSpirit);
+		aggregator.addRate("pinc4spirit", AlcoholAggregator.both(anySpirit, inc4), preferSpirit);
+
 		///////////////////////// drinking status transitions
+		// (counted by baseline, last, and current drinking status in the drinking cube)
+		drinkingCube = new AlcoholDrinkingCube();
+		final int ANY = AlcoholDrinkingCube.ANY;
+		aggregator.addTally(drinkingCube);
 		// among baseline non-drinkers
-		recorder.createAverageDataSource("pnondrk1", baseNonDrkList, "getNonDrinker");
-		recorder.createAverageDataSource("pnondrk2", baseNonDrkList, "getLightDrinker");
-		recorder.createAverageDataSource("pnondrk3", baseNonDrkList, "getHeavyDrinker");
+		aggregator.addStatistic("pnondrk1", drinkingCube.share(ANY, ANY, 1, ANY, 1));
+		aggregator.addStatistic("pnondrk2", drinkingCube.share(ANY, ANY, 1, ANY, 2));
+		aggregator.addStatistic("pnondrk3", drinkingCube.share(ANY, ANY, 1, ANY, 3));
 		// among baseline light/moderate drinkers
-		recorder.createAverageDataSource("plightdrk1", baseLightDrkList, "getNonDrinker");
-		recorder.createAverageDataSource("plightdrk2", baseLightDrkList, "getLightDrinker");
-		recorder.createAverageDataSource("plightdrk3", baseLightDrkList, "getHeavyDrinker");
+		aggregator.addStatistic("plightdrk1", drinkingCube.share(ANY, ANY, 2, ANY, 1));
+		aggregator.addStatistic("plightdrk2", drinkingCube.share(ANY, ANY, 2, ANY, 2));
+		aggregator.addStatistic("plightdrk3", drinkingCube.share(ANY, ANY, 2, ANY, 3));
 		// among baseline heavy drinkers
-		recorder.createAverageDataSource("pheavydrk1", baseHeavyDrkList, "getNonDrinker");
-		recorder.createAverageDataSource("pheavydrk2", baseHeavyDrkList, "getLightDrinker");
-		recorder.createAverageDataSource("pheavydrk3", baseHeavyDrkList, "getHeavyDrinker");
-		
-		///////////////// annual transitions 
-		
-		// non-drinkers who become light drinkers
-		recorder.addNumericDataSource("pnon2light", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPLight = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPLight += a.getLightDrinker();
-					}
-				}
-				avgPLight /= (double) numNonDrk;
-				return avgPLight;
-			}
-		});
-		
-		// non-drinkers who remain non-drinkers
-		recorder.addNumericDataSource("pnon2non", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numNonDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who become non-drinkers
-		recorder.addNumericDataSource("plight2non", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numLightDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who remained light drinkers
-		recorder.addNumericDataSource("plight2light", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numLightDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// light drinkers who became heavy drinkers
-		recorder.addNumericDataSource("plight2heavy", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numLightDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
-		// heavy drinkers who became light drinkers
-		recorder.addNumericDataSource("pheavy2light", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numHeavyDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// heavy drinkers who remained heavy drinkers
-		recorder.addNumericDataSource("pheavy2heavy", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numHeavyDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
+		aggregator.addStatistic("pheavydrk1", drinkingCube.share(ANY, ANY, 3, ANY, 1));
+		aggregator.addStatistic("pheavydrk2", drinkingCube.share(ANY, ANY, 3, ANY, 2));
+		aggregator.addStatistic("pheavydrk3", drinkingCube.share(ANY, ANY, 3, ANY, 3));
+
+		///////////////// annual transitions
+		aggregator.addStatistic("pnon2light", drinkingCube.share(ANY, ANY, ANY, 1, 2));	// non-drinkers who become light drinkers
+		aggregator.addStatistic("pnon2non", drinkingCube.share(ANY, ANY, ANY, 1, 1));	// non-drinkers who remain non-drinkers
+		aggregator.addStatistic("plight2non", drinkingCube.share(ANY, ANY, ANY, 2, 1));	// light drinkers who become non-drinkers
+		aggregator.addStatistic("plight2light", drinkingCube.share(ANY, ANY, ANY, 2, 2));	// light drinkers who remained light drinkers
+		aggregator.addStatistic("plight2heavy", drinkingCube.share(ANY, ANY, ANY, 2, 3));	// light drinkers who became heavy drinkers
+		aggregator.addStatistic("pheavy2light", drinkingCube.share(ANY, ANY, ANY, 3, 2));	// heavy drinkers who became light drinkers
+		aggregator.addStatistic("pheavy2heavy", drinkingCube.share(ANY, ANY, ANY, 3, 3));	// heavy drinkers who remained heavy drinkers
+
 		/////////////// DRINKING TRANSITIONS AMONG WHITES
-		// non-drinkers who become light drinkers
-		recorder.addNumericDataSource("wpnon2light", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPLight = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPLight += a.getLightDrinker();
-					}
-				}
-				avgPLight /= (double) numNonDrk;
-				return avgPLight;
-			}
-		});
-		
-		// non-drinkers who remain non-drinkers
-		recorder.addNumericDataSource("wpnon2non", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numNonDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who become non-drinkers
-		recorder.addNumericDataSource("wplight2non", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numLightDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who remained light drinkers
-		recorder.addNumericDataSource("wplight2light", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numLightDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// light drinkers who became heavy drinkers
-		recorder.addNumericDataSource("wplight2heavy", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numLightDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
-		// heavy drinkers who became light drinkers
-		recorder.addNumericDataSource("wpheavy2light", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numHeavyDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// heavy drinkers who remained heavy drinkers
-		recorder.addNumericDataSource("wpheavy2heavy", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<wagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)wagentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numHeavyDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
+		aggregator.addStatistic("wpnon2light", drinkingCube.share(1, ANY, ANY, 1, 2));
+		aggregator.addStatistic("wpnon2non", drinkingCube.share(1, ANY, ANY, 1, 1));
+		aggregator.addStatistic("wplight2non", drinkingCube.share(1, ANY, ANY, 2, 1));
+		aggregator.addStatistic("wplight2light", drinkingCube.share(1, ANY, ANY, 2, 2));
+		aggregator.addStatistic("wplight2heavy", drinkingCube.share(1, ANY, ANY, 2, 3));
+		aggregator.addStatistic("wpheavy2light", drinkingCube.share(1, ANY, ANY, 3, 2));
+		aggregator.addStatistic("wpheavy2heavy", drinkingCube.share(1, ANY, ANY, 3, 3));
+
 		/////////////// DRINKING TRANSITIONS AMONG BLACKS
-		// non-drinkers who become light drinkers
-		recorder.addNumericDataSource("bpnon2light", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPLight = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPLight += a.getLightDrinker();
-					}
-				}
-				avgPLight /= (double) numNonDrk;
-				return avgPLight;
-			}
-		});
-		
-		// non-drinkers who remain non-drinkers
-		recorder.addNumericDataSource("bpnon2non", new NumericDataSource() {
-			public double execute() {
-				int numNonDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==1 && a.getDoNotCount()==0) {
-						numNonDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numNonDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who become non-drinkers
-		recorder.addNumericDataSource("bplight2non", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPNonDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPNonDrk += a.getNonDrinker();
-					}
-				}
-				avgPNonDrk /= (double) numLightDrk;
-				return avgPNonDrk;
-			}
-		});
-		
-		// light drinkers who remained light drinkers
-		recorder.addNumericDataSource("bplight2light", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numLightDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// light drinkers who became heavy drinkers
-		recorder.addNumericDataSource("bplight2heavy", new NumericDataSource() {
-			public double execute() {
-				int numLightDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==2 && a.getDoNotCount()==0) {
-						numLightDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numLightDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
-		// heavy drinkers who became light drinkers
-		recorder.addNumericDataSource("bpheavy2light", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPLightDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPLightDrk += a.getLightDrinker();
-					}
-				}
-				avgPLightDrk /= (double) numHeavyDrk;
-				return avgPLightDrk;
-			}
-		});
-		
-		// heavy drinkers who remained heavy drinkers
-		recorder.addNumericDataSource("bpheavy2heavy", new NumericDataSource() {
-			public double execute() {
-				int numHeavyDrk = 0;
-				double avgPHeavyDrk = 0.0;
-				for (int i=0; i<bagentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)bagentList.get(i);
-					if (a.getLastDrinkStat()==3 && a.getDoNotCount()==0) {
-						numHeavyDrk += 1;
-						avgPHeavyDrk += a.getHeavyDrinker();
-					}
-				}
-				avgPHeavyDrk /= (double) numHeavyDrk;
-				return avgPHeavyDrk;
-			}
-		});
-		
-		
+		aggregator.addStatistic("bpnon2light", drinkingCube.share(2, ANY, ANY, 1, 2));
+		aggregator.addStatistic("bpnon2non", drinkingCube.share(2, ANY, ANY, 1, 1));
+		aggregator.addStatistic("bplight2non", drinkingCube.share(2, ANY, ANY, 2, 1));
+		aggregator.addStatistic("bplight2light", drinkingCube.share(2, ANY, ANY, 2, 2));
+		aggregator.addStatistic("bplight2heavy", drinkingCube.share(2, ANY, ANY, 2, 3));
+		aggregator.addStatistic("bpheavy2light", drinkingCube.share(2, ANY, ANY, 3, 2));
+		aggregator.addStatistic("bpheavy2heavy", drinkingCube.share(2, ANY, ANY, 3, 3));
+
+
 		// Violence and trauma among agents
-		recorder.createAverageDataSource("ppotviolvict", agentList, "getPotviolvict");
-		recorder.createAverageDataSource("pviolvict", agentList, "getViolvict");
-		recorder.createAverageDataSource("palcviol", agentList, "getAlcViol");
-		recorder.createAverageDataSource("peverviolvict", agentList, "getPriorviolvict");
-		recorder.createAverageDataSource("ppotviolperp", agentList, "getPotviolperp");
-		recorder.createAverageDataSource("pviolperp", agentList, "getViolperp");
-		recorder.createAverageDataSource("peverviolperp", agentList, "getPriorviolperp");
-		recorder.createAverageDataSource("phom", agentList, "getHomicide");
-		recorder.createAverageDataSource("palchom", agentList, "getAlcHomicide");
-		
-		
+		aggregator.addRate("ppotviolvict", all, AlcoholAggregator.flag(AlcoholPopulation.POTVIOLVICT));
+		aggregator.addRate("pviolvict", all, violvict);
+		aggregator.addRate("palcviol", all, alcViol);
+		aggregator.addRate("peverviolvict", all, priorviolvict);
+		aggregator.addRate("ppotviolperp", all, AlcoholAggregator.flag(AlcoholPopulation.POTVIOLPERP));
+		aggregator.addRate("pviolperp", all, violperp);
+		aggregator.addRate("peverviolperp", all, priorviolperp);
+		aggregator.addRate("phom", all, homicide);
+		aggregator.addRate("palchom", all, alcHomicide);
+
 			// violent victimization in neighborhoods targeted in intervention
-			recorder.addNumericDataSource("pvioltarget", new NumericDataSource() {
-				public double execute() {
-					int targetpop = 0;
-					double avgviol = 0.0;
-					for (int i=0; i<agentList.size(); i++) {
-						AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(a.Agenthood);
-						if (nb.getTargetHood() == 1) {
-							targetpop += 1;
-							avgviol += a.getViolvict();
-						}
-					}
-					avgviol /= (double) targetpop;
-					return avgviol;
-				}
-			});
-			
+			aggregator.addRate("pvioltarget", targetHood, violvict);
+
 			// average number of violent events in each neighborhood targeted in intervention
-			recorder.addNumericDataSource("numvioltarget",  new NumericDataSource() {
-				public double execute() {
-					int numhood = 0;
-					double avgnum = 0.0;
-					for (int j=0; j<hoodList.size(); j++) {
-						AlcoholNeighborhood nb = (AlcoholNeighborhood)hoodList.get(j);
-						if (nb.getTargetHood() == 1) {
-							numhood += 1;
-							avgnum += nb.getNumviolevent();
-						}
-					}
-					avgnum /= (double) numhood;
-					return avgnum;
-				}
-			});
-		
+			aggregator.addHoodMean("numvioltarget",
+					new HoodFilter() { public boolean include(AlcoholNeighborhood nb) { return nb.getTargetHood()==1; } },
+					new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getNumviolevent(); } });
+
 		// movement from high- to low-income neighborhoods
-		recorder.addNumericDataSource("phigh2low", new NumericDataSource() {
-			public double execute() {
-				int numhighhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getBaseIncHood()==1) {
-						numhighhood += 1;
-						avgmove += a.getEverLowInc();
-					}
-				}
-				avgmove /= (double) numhighhood;
-				return avgmove;
-			}
-		});
-		
-		// WHITES
-		recorder.addNumericDataSource("wphigh2low", new NumericDataSource() {
-			public double execute() {
-				int numhighhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getRace()==1 && a.getBaseIncHood()==1) {
-						numhighhood += 1;
-						avgmove += a.getEverLowInc();
-					}
-				}
-				avgmove /= (double) numhighhood;
-				return avgmove;
-			}
-		});
-		
-		// BLACKS
-		recorder.addNumericDataSource("bphigh2low", new NumericDataSource() {
-			public double execute() {
-				int numhighhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getRace()==2 && a.getBaseIncHood()==1) {
-						numhighhood += 1;
-						avgmove += a.getEverLowInc();
-					}
-				}
-				avgmove /= (double) numhighhood;
-				return avgmove;
-			}
-		});
-		
-		
+		aggregator.addRate("phigh2low", baseHighInc, everLowInc);
+		aggregator.addRate("wphigh2low", AlcoholAggregator.both(white, baseHighInc), everLowInc);		// WHITES
+		aggregator.addRate("bphigh2low", AlcoholAggregator.both(black, baseHighInc), everLowInc);		// BLACKS
+
 		// movement from low- to high-income neighborhoods
-		recorder.addNumericDataSource("plow2high", new NumericDataSource() {
-			public double execute() {
-				int numlowhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getBaseIncHood()==2) {
-						numlowhood += 1;
-						avgmove += a.getEverHighInc();
-					}
-				}
-				avgmove /= (double) numlowhood;
-				return avgmove;
-			}
-		});
-		
-		// WHITES
-		recorder.addNumericDataSource("wplow2high", new NumericDataSource() {
-			public double execute() {
-				int numlowhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getRace()==1 && a.getBaseIncHood()==2) {
-						numlowhood += 1;
-						avgmove += a.getEverHighInc();
-					}
-				}
-				avgmove /= (double) numlowhood;
-				return avgmove;
-			}
-		});
-		
-		// BLACKS
-		recorder.addNumericDataSource("bplow2high", new NumericDataSource() {
-			public double execute() {
-				int numlowhood = 0;
-				double avgmove = 0.0;
-				for (int i=0; i<agentList.size(); i++) {
-					AlcoholAgent a = (AlcoholAgent)agentList.get(i);
-					if (a.getRace()==2 && a.getBaseIncHood()==2) {
-						numlowhood += 1;
-						avgmove += a.getEverHighInc();
-					}
-				}
-				avgmove /= (double) numlowhood;
-				return avgmove;
-			}
-		});
-		
-		
+		aggregator.addRate("plow2high", baseLowInc, everHighInc);
+		aggregator.addRate("wplow2high", AlcoholAggregator.both(white, baseLowInc), everHighInc);		// WHITES
+		aggregator.addRate("bplow2high", AlcoholAggregator.both(black, baseLowInc), everHighInc);		// BLACKS
+
 		// Racial disparities in violence and outcomes
-		
+
 		// Outcomes among WHITES
-		recorder.createAverageDataSource("wviolvict", wagentList, "getViolvict");
-		recorder.createAverageDataSource("walcviol", wagentList, "getAlcViol");
-		recorder.createAverageDataSource("weverviolvict", wagentList, "getPriorviolvict");
-		recorder.createAverageDataSource("wviolperp", wagentList, "getViolperp");
-		recorder.createAverageDataSource("weverviolperp", wagentList, "getPriorviolperp");
-		recorder.createAverageDataSource("whom", wagentList, "getHomicide");
-		recorder.createAverageDataSource("walchom", wagentList, "getAlcHomicide");
-		
+		aggregator.addRate("wviolvict", white, violvict);
+		aggregator.addRate("walcviol", white, alcViol);
+		aggregator.addRate("weverviolvict", white, priorviolvict);
+		aggregator.addRate("wviolperp", white, violperp);
+		aggregator.addRate("weverviolperp", white, priorviolperp);
+		aggregator.addRate("whom", white, homicide);
+		aggregator.addRate("walchom", white, alcHomicide);
+
 		// Outcomes among BLACKS
-		recorder.createAverageDataSource("bviolvict", bagentList, "getViolvict");
-		recorder.createAverageDataSource("balcviol", bagentList, "getAlcViol");
-		recorder.createAverageDataSource("beverviolvict", bagentList, "getPriorviolvict");
-		recorder.createAverageDataSource("bviolperp", bagentList, "getViolperp");
-		recorder.createAverageDataSource("beverviolperp", bagentList, "getPriorviolperp");
-		recorder.createAverageDataSource("bhom", bagentList, "getHomicide");
-		recorder.createAverageDataSource("balchom", bagentList, "getAlcHomicide");
-		
+		aggregator.addRate("bviolvict", black, violvict);
+		aggregator.addRate("balcviol", black, alcViol);
+		aggregator.addRate("beverviolvict", black, priorviolvict);
+		aggregator.addRate("bviolperp", black, violperp);
+		aggregator.addRate("beverviolperp", black, priorviolperp);
+		aggregator.addRate("bhom", black, homicide);
+		aggregator.addRate("balchom", black, alcHomicide);
+
 		// Neighborhood characteristics
-		recorder.createAverageDataSource("hoodviol", hoodList, "getAvghoodviol");
-		recorder.createAverageDataSource("avghoodinc", hoodList, "getAvghoodinc");
-		recorder.createAverageDataSource("hoodinc1", hoodList, "getHoodinc1");
-		recorder.createAverageDataSource("hoodinc2", hoodList, "getHoodinc2");
-		recorder.createAverageDataSource("hoodblack", hoodList, "getPercBlack");
-		recorder.createAverageDataSource("hoodhisp", hoodList, "getPercHisp");
-		recorder.createAverageDataSource("police", hoodList, "getNumPolice");
+		final HoodFilter allHoods = AlcoholAggregator.ALL_HOODS;
+		aggregator.addHoodMean("hoodviol", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getAvghoodviol(); } });
+		aggregator.addHoodMean("avghoodinc", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getAvghoodinc(); } });
+		aggregator.addHoodMean("hoodinc1", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getHoodinc1(); } });
+		aggregator.addHoodMean("hoodinc2", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getHoodinc2(); } });
+		aggregator.addHoodMean("hoodblack", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getPercBlack(); } });
+		aggregator.addHoodMean("hoodhisp", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getPercHisp(); } });
+		aggregator.addHoodMean("police", allHoods, new HoodValue() { public double value(AlcoholNeighborhood nb) { return nb.getNumPolice(); } });
+
+		// Output job writing the rows recorded so far (the recorder is locked while rows are recorded or written)
+		writeRecorder = new Runnable() {
+			public void run() {
+				synchronized (recorder) { recorder.writeToFile(); }
+			}
+		};
+
+		// Register each aggregator column with the data recorder, in declaration order
+		for (int c=0; c<aggregator.getNumColumns(); c++) {
+			final int column = c;
+			recorder.addNumericDataSource(aggregator.getColumnName(c), new NumericDataSource() {
+				public double execute() {
+					return aggregator.getValue(column);
+				}
+			});
+		}
 
 
 		} // end of recordOutput()
 		
+		// hoodMean()
+		// Data source: mean of value among the agents of a neighborhood's agent list
+		private NumericDataSource hoodMean(final AlcoholAgentSet agents, final AgentValue v) {
+			return new NumericDataSource() {
+				public double execute() {
+					double sum = 0;
+					for (int i=0; i<agents.size(); i++) { sum += v.value(agents.get(i)); }
+					return sum / agents.size();
+				}
+			};
+		}
+		
 		// Record output for each neighborhood just to make sure that neighborhood composition matches expected distributions
 		public void recordHoodOutput() {
 
@@ -4137,24 +2796,24 @@ public class AlcoholModel extends SimModelImpl {
 				recorder.createNumericDataSource("numAgents"+s, nb, "getHoodSize");
 				
 				// socio-demographic characteristics
-				recorder.createAverageDataSource("pmale"+s, nb.neighborhoodAgentList, "getGender");
-				recorder.createAverageDataSource("page1"+s, nb.neighborhoodAgentList, "getAge1");
-				recorder.createAverageDataSource("page2"+s, nb.neighborhoodAgentList, "getAge2");
-				recorder.createAverageDataSource("page3"+s, nb.neighborhoodAgentList, "getAge3");
-				recorder.createAverageDataSource("page4"+s, nb.neighborhoodAgentList, "getAge4");
-				recorder.createAverageDataSource("page5"+s, nb.neighborhoodAgentList, "getAge5");
-				recorder.createAverageDataSource("pwhite"+s, nb.neighborhoodAgentList, "getWhite");
-				recorder.createAverageDataSource("pblack"+s, nb.neighborhoodAgentList, "getBlack");
-				recorder.createAverageDataSource("phisp"+s, nb.neighborhoodAgentList, "getHisp");
-				recorder.createAverageDataSource("pother"+s, nb.neighborhoodAgentList, "getOtherRace");
-				recorder.createAverageDataSource("pinc1"+s, nb.neighborhoodAgentList, "getInc1");
-				recorder.createAverageDataSource("pinc2"+s, nb.neighborhoodAgentList, "getInc2");
-				recorder.createAverageDataSource("pinc3"+s, nb.neighborhoodAgentList, "getInc3");
-				recorder.createAverageDataSource("pinc4"+s, nb.neighborhoodAgentList, "getInc4");
+				recorder.addNumericDataSource("pmale"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getGender(); } }));
+				recorder.addNumericDataSource("page1"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getAge1(); } }));
+				recorder.addNumericDataSource("page2"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getAge2(); } }));
+				recorder.addNumericDataSource("page3"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getAge3(); } }));
+				recorder.addNumericDataSource("page4"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getAge4(); } }));
+				recorder.addNumericDataSource("page5"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getAge5(); } }));
+				recorder.addNumericDataSource("pwhite"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getWhite(); } }));
+				recorder.addNumericDataSource("pblack"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getBlack(); } }));
+				recorder.addNumericDataSource("phisp"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getHisp(); } }));
+				recorder.addNumericDataSource("pother"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getOtherRace(); } }));
+				recorder.addNumericDataSource("pinc1"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getInc1(); } }));
+				recorder.addNumericDataSource("pinc2"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getInc2(); } }));
+				recorder.addNumericDataSource("pinc3"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getInc3(); } }));
+				recorder.addNumericDataSource("pinc4"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getInc4(); } }));
 				recorder.createNumericDataSource("income"+s, nb, "getAvghoodinc");
 
 				// violent victimization
-				// recorder.createAverageDataSource("pviolvict"+s, nb.neighborhoodAgentList, "getViolvict");
+				// recorder.addNumericDataSource("pviolvict"+s, hoodMean(nb.neighborhoodAgentList, new AgentValue() { public double value(AlcoholAgent a) { return a.getViolvict(); } }));
 				
 				// alcohol outlet density
 				// recorder.createNumericDataSource("alcdens"+s, nb, "getAlcDensity");
@@ -0,0 +1,76 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The mortality class decides which agents die at each time step. The probability of dying depends only
+ * on the agent's gender, race, and age band (AlcoholDistributions.mortalityStratum), so agents are kept in one
+ * list for each stratum, and are moved to another list when they age into the next band or are replaced by a
+ * new agent. At each time step, the number of deaths in each stratum is drawn from the binomial distribution,
+ * and that many agents of the stratum are chosen at random (partial Fisher-Yates shuffle of its list). This
+ * gives the same distribution of deaths as a random number for each agent, with random numbers drawn only in
+ * proportion to the number of deaths. The agents who died are kept for the next time step, when they are
+ * replaced or removed (AlcoholModel.resetDeath).
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.ArrayList;
+
+public class AlcoholMortality {
+
+	private AlcoholAgentSet[]		stratum = new AlcoholAgentSet[AlcoholDistributions.NUM_MORTALITY_STRATA];
+	private ArrayList<AlcoholAgent>	died = new ArrayList<AlcoholAgent>();	// agents who died at last draw
+
+
+	// the Mortality constructor
+	public AlcoholMortality() {
+		for (int s=0; s<stratum.length; s++) { stratum[s] = new AlcoholAgentSet(AlcoholAgentSet.MORTALITY); }
+	}
+
+	// update()
+	// Keep agent in list of stratum s (-1 -- in no list, so agent does not die)
+	public void update(AlcoholAgent a, int s) {
+		if (s == a.mortStratum) return;
+		if (a.mortStratum >= 0) stratum[a.mortStratum].remove(a);
+		a.mortStratum = s;
+		if (s >= 0) stratum[s].add(a);
+	}
+
+	// remove()
+	// Remove agent who is no longer in the model
+	public void remove(AlcoholAgent a) {
+		update(a, -1);
+	}
+
+	// draw()
+	// Choose agents who die at current time step
+	public ArrayList<AlcoholAgent> draw(AlcoholRandom rng) {
+		died.clear();
+		for (int s=0; s<stratum.length; s++) {
+			AlcoholAgentSet agents = stratum[s];
+			int n = agents.size();
+			if (n == 0) continue;
+			int deaths = rng.nextBinomial(n, AlcoholDistributions.mortalityProb(s));
+			for (int j=0; j<deaths; j++) {
+				int k = rng.nextIntFromTo(j, n - 1);
+				AlcoholAgent a = agents.get(k);
+				if (k != j) agents.swap(k, j);
+				died.add(a);
+			}
+		}
+		return died;
+	}
+
+	// getDied(), clearDied()
+	// Agents who died at last draw, until they are replaced or removed
+	public ArrayList<AlcoholAgent> getDied() { return died; }
+	public void clearDied() { died.clear(); }
+
+	public int getStratumSize(int s) { return stratum[s].size(); }
+
+}
@@ -21,7 +21,6 @@
 package cbtModel;
 
 import java.awt.Color;
-import java.util.ArrayList;
 import java.util.Vector;
 
 import uchicago.src.sim.gui.Drawable;
@@ -47,7 +46,7 @@ public class AlcoholNeighborhood {
 		public int				nb_maxX;		// neighborhood boundaries
 		public int				nb_minY;		// neighborhood boundaries
 		public int				nb_maxY;		// neighborhood boundaries
-		private Object2DGrid 	hoodSpace;
+		private AlcoholCellGrid	cellGrid;
 		public int				cdcode;			// actual CD ID number for each neighborhood
 		public int				hoodSize;		// total agent population in each neighborhood
 
@@ -94,25 +93,57 @@ public class AlcoholNeighborhood {
 		// dummy variables for neighborhood characteristics
 		public int		hoodinc1, hoodinc2;	// $58k+ (hoodinc=3) is referent
 		public int		targetHood;			// neighborhood targeted for policing intervention
+		
+		// neighborhood-level probabilities, calculated once per time step by the model and read by residents
+		public double	nProbLightDrk;		// being a light/moderate drinker
+		public double	nProbHeavyDrk;		// being a heavy drinker
+		public double	nProbStartLight;	// non-drinker becoming light/moderate drinker
+		public double	nProbQuitDrk;		// light/moderate drinker becoming non-drinker
+		public double	nProbLightHeavy;	// light/moderate drinker becoming heavy drinker
+		public double	nProbHeavyLight;	// heavy drinker becoming light/moderate drinker
+		public double	nProbHomicide;		// homicide
+		public double	nProbViolvict;		// violent victimization
+		public double	nProbViolperp;		// violent perpetration
+		
+		// covariates of neighborhood-level equations (see AlcoholCoefficients), in order of getCovariates()
+		public static final String[]	COVARIATE_NAMES = { "hoodinc1", "hoodinc2", "avghoodviol", "percLightDrk", "percHeavyDrk",
+															"percBlack", "percHisp", "percFBorn", "percManProf", "percYoungMale",
+															"percStable", "percUnemp", "percFemHHKids" };
 
 		// list of agents in each neighborhood
-		public ArrayList<AlcoholAgent>         neighborhoodAgentList=new ArrayList<AlcoholAgent>();
-		public ArrayList<AlcoholAgent>		   temphoodAgentList=new ArrayList<AlcoholAgent>();
+		public AlcoholAgentSet                 neighborhoodAgentList=new AlcoholAgentSet(AlcoholAgentSet.HOOD);
+		public AlcoholAgentSet				   temphoodAgentList=new AlcoholAgentSet(AlcoholAgentSet.TEMPHOOD);
+		
+		// number of cells in each neighborhood
+		public int								numCells;
 		
-		// list of cells in each neighborhood
-		public ArrayList<AlcoholCell>		  	neighborhoodCellList = new ArrayList<AlcoholCell>();
+		// running sums of resident characteristics, kept up to date as residents arrive, leave, or change,
+		// so that neighborhood averages do not need a pass over the residents
+		public static final int	SUM_BLACK = 0;			// black residents
+		public static final int	SUM_HISP = 1;			// Hispanic residents
+		public static final int	SUM_YOUNGMALE = 2;		// young men aged 18-24 yrs old
+		public static final int	SUM_STABLE = 3;			// residents who lived in neighborhood for more than 1 year
+		public static final int	SUM_LIGHT = 4;			// light/moderate drinkers
+		public static final int	SUM_HEAVY = 5;			// heavy drinkers
+		public static final int	SUM_INCOME = 6;			// household income (category midpoints)
+		public static final int	SUM_VIOLVICT = 7;		// violent victimization at current time step
+		public static final int	SUM_HOMICIDE = 8;		// homicide at current time step
+		public static final int	SUM_ALCHOMICIDE = 9;	// alcohol-related homicide at current time step
+		public static final int	SUM_PERP = 10;			// violent perpetration at current time step
+		private long[]			sums = new long[11];
+		private double			sumAge;					// age of residents
 		
 
 		
 		
 		// the Neighborhood constructor
-		public AlcoholNeighborhood (int nbID, Object2DGrid cellSpace, double percBars) {
+		public AlcoholNeighborhood (int nbID, AlcoholCellGrid cellSpace, double percBars) {
 			ID = nbID;	// ID starts from 0
-			hoodSpace = cellSpace;
+			cellGrid = cellSpace;
 
 			// Array to hold list of agents in neighborhood
-			neighborhoodAgentList=new ArrayList<AlcoholAgent>();
-			temphoodAgentList=new ArrayList<AlcoholAgent>();
+			neighborhoodAgentList=new AlcoholAgentSet(AlcoholAgentSet.HOOD);
+			temphoodAgentList=new AlcoholAgentSet(AlcoholAgentSet.TEMPHOOD);
 			
 
 			// Assign neighborhood boundaries
@@ -186,15 +217,15 @@ public class AlcoholNeighborhood {
 			
 
 			
-			// Create cells within neighborhood
+			// Assign cells within neighborhood boundaries to neighborhood
+			numCells = 0;
 			for (int i=nb_minX; i < nb_maxX; i++) {
 				for (int j=nb_minY; j < nb_maxY; j++) {
-					AlcoholCell newSpace = new AlcoholCell(i, j, ID);
-					hoodSpace.putObjectAt(i, j, newSpace);
-					neighborhoodCellList.add(newSpace);
+					cellGrid.setHoodID(cellGrid.index(i, j), ID);
+					numCells += 1;
 				}
 			}
-			// System.out.printf("Created %d cells in neighborhood %d \n", neighborhoodCellList.size(), ID);
+			// System.out.printf("Created %d cells in neighborhood %d \n", numCells, ID);
 			
 
 			// System.out.printf("Created %d outlets in neighborhood %d \n", neighborhoodOutletList.size(), ID);
@@ -529,6 +560,46 @@ public class AlcoholNeighborhood {
 			else if (cdcode ==	503	) { percFemHHKids = 	0.037290558	; }
 		}
 		
+		// addResident()
+		// Add agent to neighborhood's lists of agents and to its running sums
+		public synchronized void addResident(AlcoholAgent a) {
+			neighborhoodAgentList.add(a);
+			temphoodAgentList.add(a);
+			a.residence = this;
+			addResidentSums(a, 1);
+		}
+		
+		// removeResident()
+		// Remove agent from neighborhood's lists of agents and from its running sums
+		public synchronized void removeResident(AlcoholAgent a) {
+			neighborhoodAgentList.remove(a);
+			temphoodAgentList.remove(a);
+			if (a.residence == this) {
+				a.residence = null;
+				addResidentSums(a, -1);
+			}
+		}
+		
+		private void addResidentSums(AlcoholAgent a, int sign) {
+			sums[SUM_BLACK] += sign*a.getBlack();
+			sums[SUM_HISP] += sign*a.getHisp();
+			sums[SUM_YOUNGMALE] += sign*a.getYoungMale();
+			sums[SUM_STABLE] += sign*a.getStable();
+			sums[SUM_LIGHT] += sign*a.getLightDrinker();
+			sums[SUM_HEAVY] += sign*a.getHeavyDrinker();
+			sums[SUM_INCOME] += sign*a.getIncomeMid();
+			sums[SUM_VIOLVICT] += sign*a.getViolvict();
+			sums[SUM_HOMICIDE] += sign*a.getHomicide();
+			sums[SUM_ALCHOMICIDE] += sign*a.getAlcHomicide();
+			sums[SUM_PERP] += sign*a.getViolperp();
+			sumAge += sign*a.getAge();
+		}
+		
+		// addSum(), addAge()
+		// Pass on a change in a resident's characteristic (called by the agent's setters, possibly from several threads)
+		public synchronized void addSum(int sum, int change) { sums[sum] += change; }
+		public synchronized void addAge(double change) { sumAge += change; }
+		
 		///////////////////////////// setters and getters
 
 		public int getID() { return ID; }	
@@ -630,14 +701,42 @@ public class AlcoholNeighborhood {
 		public int getTargetHood() { return targetHood; }
 		public void setTargetHood(int i) { this.targetHood=i; }
 		
-		public ArrayList<AlcoholAgent> getNeighborhoodAgentList(){return neighborhoodAgentList;}
-		public void setNeighborhoodAgentList(ArrayList<AlcoholAgent> i){ neighborhoodAgentList=i;}
-		
-		public ArrayList<AlcoholAgent> getTemphoodAgentList(){return temphoodAgentList;}
-		public void setTemphoodAgentList(ArrayList<AlcoholAgent> i){ temphoodAgentList=i;}
+		public AlcoholAgentSet getNeighborhoodAgentList(){return neighborhoodAgentList;}
+		public void setNeighborhoodAgentList(AlcoholAgentSet i){ neighborhoodAgentList=i;}
+		
+		public AlcoholAgentSet getTemphoodAgentList(){return temphoodAgentList;}
+		public void setTemphoodAgentList(AlcoholAgentSet i){ temphoodAgentList=i;}
+		
+		public int getNumCells() { return numCells; }
+		
+		public double getNProbLightDrk() { return nProbLightDrk; }
+		public void setNProbLightDrk( double i) { this.nProbLightDrk=i; }
+		public double getNProbHeavyDrk() { return nProbHeavyDrk; }
+		public void setNProbHeavyDrk( double i) { this.nProbHeavyDrk=i; }
+		public double getNProbStartLight() { return nProbStartLight; }
+		public void setNProbStartLight( double i) { this.nProbStartLight=i; }
+		public double getNProbQuitDrk() { return nProbQuitDrk; }
+		public void setNProbQuitDrk( double i) { this.nProbQuitDrk=i; }
+		public double getNProbLightHeavy() { return nProbLightHeavy; }
+		public void setNProbLightHeavy( double i) { this.nProbLightHeavy=i; }
+		public double getNProbHeavyLight() { return nProbHeavyLight; }
+		public void setNProbHeavyLight( double i) { this.nProbHeavyLight=i; }
+		public double getNProbHomicide() { return nProbHomicide; }
+		public void setNProbHomicide( double i) { this.nProbHomicide=i; }
+		public double getNProbViolvict() { return nProbViolvict; }
+		public void setNProbViolvict( double i) { this.nProbViolvict=i; }
+		public double getNProbViolperp() { return nProbViolperp; }
+		public void setNProbViolperp( double i) { this.nProbViolperp=i; }
+		
+		// getCovariates()
+		// Covariate vector of neighborhood-level equations, in order of COVARIATE_NAMES
+		public double[] getCovariates() {
+			return new double[] { hoodinc1, hoodinc2, avghoodviol, percLightDrk, percHeavyDrk, percBlack, percHisp,
+								  percFBorn, percManProf, percYoungMale, percStable, percUnemp, percFemHHKids };
+		}
 		
-		public ArrayList<AlcoholCell> getNeighborhoodCellList() { return neighborhoodCellList; }
-		public void setNeighborhoodCellList(ArrayList<AlcoholCell> i) { neighborhoodCellList = i; }
+		public synchronized long getSum(int sum) { return sums[sum]; }
+		public synchronized double getSumAge() { return sumAge; }
 		
 		
 		public int getHoodSize() { return neighborhoodAgentList.size(); }
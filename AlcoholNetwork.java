@@ -6,217 +6,352 @@
  *
  *     The network class creates the social network linking agents to each other. Linked agents influence
  * each other's drinking behaviors.
- * 
- * Revised May 27, 2014
- * 
+ *
+ *     Each agent looks for friends until it reaches its target number of friends (finalfriendsize). In each
+ * attempt, the agent uses spatial matching (25% of the time) or demographic matching (75% of the time).
+ * A candidate is drawn at random from the agents still in the network list and accepted with a probability
+ * that depends on whether the two agents match in age (within 10 years), gender, race, education, and
+ * drinking status; spatial matching also requires the candidate to live within 100 cells. An attempt gives
+ * up after 10,000 candidates.
+ *
+ *     Rather than drawing candidates one at a time and rejecting most of them, the agents are grouped into
+ * strata by gender, race, education, and drinking status, and by age within each stratum. The total
+ * acceptance probability of every stratum is computed from the stratum counts, a friend is drawn directly
+ * in proportion to these probabilities, and the number of candidates the rejection loop would have used
+ * is drawn from the geometric distribution. Each pair of agents is thus accepted with the same probability
+ * as in the rejection loop, and an attempt gives up with the same probability (that of 10,000 rejections).
+ *
+ * Revised Oct 17, 2026
+ *
  * Revisions: (1) Add consideration of drinking status when forming social network - 5/27/2014
- * 
+ *            (2) Draw friends from strata instead of rejection sampling - 10/17/2026
+ *
  */
 
 package cbtModel;
 
 import java.util.ArrayList;
-import uchicago.src.sim.util.Random;
-import java.util.Iterator;
+import java.util.Arrays;
 
 public class AlcoholNetwork {
 
 	// Start with zero edges
 	public static int	numEdges = 0;
 	public int numNodes;
-	
+
 	// Keep track of the degree of each node
 	ArrayList<Integer> socialrelationships = new ArrayList<Integer>();
-	
+
+	// Random number stream used to form links
+	private AlcoholRandom rng;
+
+	// Matching rules: probability that a candidate passes each check when the agents do not match
+	// (a candidate who matches always passes)
+	private static final double	AGE_PASS = 0.185;		// age difference more than 10 years
+	private static final double	GENDER_PASS = 0.995;	// different gender
+	private static final double	RACE_PASS = 0.01;		// different race
+	private static final double	EDU_PASS = 0.25;		// different education
+	private static final double	DRINK_PASS = 0.85;		// different drinking status
+	private static final double	AGE_RANGE = 10;			// largest age difference that matches
+	private static final int	SPACE_RANGE = 100;		// largest distance in X and Y for spatial matching
+	private static final int	MAX_CYCLES = 10000;		// candidates (and attempts) before giving up
+
+	// Strata of agents, by gender (2), race (0-4), education (0-3), and drinking status (0-3)
+	private static final int	NUM_GROUPS = 2*5*4*4;
+	private int[]		groupOf;			// stratum of each agent (by slot)
+	private int[]		ageOf;				// index of each agent's age in ages (by slot)
+	private double[]	ages;				// distinct ages, in increasing order
+
+	// Agents still available as friends, grouped into buckets by stratum and age (bucket = group*numAges + age)
+	// Members of bucket k are at positions bucketStart[k] to bucketStart[k]+bucketCount[k]-1 of members
+	private int			numAges;
+	private int[]		members;			// slots of agents, grouped by bucket
+	private int[]		position;			// position of each agent in members (-1 no longer available)
+	private int[]		bucketStart;
+	private int[]		bucketCount;
+	private int[][]		ageTree;			// number of available agents at each age in each stratum (Fenwick tree)
+	private int[]		groupCount;			// number of available agents in each stratum
+	private AlcoholAgent[] agentOf;			// agent in each slot
+	private int			listSize;			// number of agents in the network list
+
+	// friends of the agent looking for friends are marked with that agent's slot + 1 (by slot)
+	private int[]		friendMark;
+
+	// acceptance weight of each stratum for the agent looking for friends
+	private double[]	groupWeight = new double[NUM_GROUPS];
+	private double[]	groupWinWeight = new double[NUM_GROUPS];
+
 	// the Alcohol Social Network Constructor
-	public AlcoholNetwork() {
-		
+	public AlcoholNetwork(AlcoholRandom rng) {
+
+		// draw from the network sub-stream
+		this.rng = rng;
+		rng.start(AlcoholRandom.NETWORK, 0);
+
 		// create lists of connected agents;
 		SocialNetworkPopulate();
-	
+
 	} // end of Alcohol Social Network constructor
-	
+
 	public void SocialNetworkPopulate() {
 		System.out.println("Populate Social Network Method called");
-		
+
+		ArrayList<AlcoholAgent> nodes = AlcoholModel.SocialNetworkList;
+		buildStrata(nodes);
+
 		// Outer loop i is the node currently being attached to the network
-		Iterator<AlcoholAgent> iter = AlcoholModel.SocialNetworkList.iterator();
-		while(iter.hasNext()) {
-			
+		ArrayList<AlcoholAgent> remaining = new ArrayList<AlcoholAgent>();
+		for (int i=0; i<nodes.size(); i++) {
+
 			// "a" is the node being added
-			AlcoholAgent a = iter.next();
-			
+			AlcoholAgent a = nodes.get(i);
+			int mark = a.getSlot() + 1;
+			for (int w=0; w<a.getTotalFriends(); w++) { friendMark[a.friendList.get(w).getSlot()] = mark; }
+
 			// Cycle through "while" loop as long as agent has less than allotted friends
 			// NOTE: attempt to find target friends for 10,000 iterations, then give up
 			int outCycleInt = 0;
-			while (a.getTotalFriends() < a.finalfriendsize && outCycleInt < 10000) {
-				
+			while (a.getTotalFriends() < a.finalfriendsize && outCycleInt < MAX_CYCLES) {
+
 				outCycleInt++;
-				
-				// Begin match algorithm
-				// FIRST CHOICE: Spatial or demographics match
-				double space_demo_choice = Random.uniform.nextDoubleFromTo(0, 1);
-				
-				int cycle = 0;
-				// Spatial match algorithm implemented 25% of the time
-				if (space_demo_choice <= 0.25) {
-					while (cycle < 10000) {
-						
-						// Select an agent at random for a potential match
-						int nodestart = 0 + (int)(Math.random() * ((AlcoholModel.SocialNetworkList.size()-1 - 0) + 1));
-						// "b" is the agent under evaluation as a potential match
-						AlcoholAgent b = (AlcoholAgent)AlcoholModel.SocialNetworkList.get(nodestart);
-						
-						// Check if (1) trying to add itself, (2) add to maxed-out node, (3) add to a node that has already been added
-						// If so, do nothing
-						if (a.getID()==b.getID() || (b.getTotalFriends()>b.finalfriendsize) || a.isFriend(b)) {
-							// do nothing
-						} 
-						else {
-							int xA = a.getX();
-							int yA = a.getY();
-							int xB = b.getX();
-							int yB = b.getY();
-							
-							if (Math.abs(xA-xB) <= 100 && Math.abs(yA-yB) <= 100) {
-								boolean Match1 = true, Match2 = true, Match3 = true, Match4 = true, Match5 = true;;
-							
-								// Age check
-								double age_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								double Age_A = a.getAge();
-								double Age_B = b.getAge();
-								if (age_choice > 0.185) {
-									if (Math.abs(Age_A-Age_B)<=10) { Match1 = true; } else { Match1 = false; }
-								}
-								
-								// Gender check
-								double gender_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Gender_A = a.getGender();
-								int Gender_B = b.getGender();
-								if (gender_choice > 0.995) {
-									if (Gender_A == Gender_B) { Match2 = true; } else { Match2 = false; }
-								}
-								
-								// Race check
-								double race_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Race_A = a.getRace();
-								int Race_B = b.getRace();
-								if (race_choice > 0.01) {
-									if (Race_A == Race_B) { Match3 = true; } else { Match3 = false; }
-								}
-								
-								// Education check
-								double education_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Edu_A = a.getEducation();
-								int Edu_B = b.getEducation();
-								if (education_choice > 0.25) {
-									if (Edu_A == Edu_B) { Match4 = true; } else { Match4 = false; }
-								}
-								
-								// Drinking status check
-								double drinking_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Drk_A = a.getDrinkStat();
-								int Drk_B = b.getDrinkStat();
-								if (drinking_choice <= 0.15) {
-									if (Drk_A == Drk_B) { Match5 = true; } else { Match5 = false; }
-								}
-								
-								// Match node
-								if (Match1 && Match2 && Match3 && Match4 && Match5) {
-									b.setFriend(a);
-									a.setFriend(b);
-									numEdges+=1;
-									break;
-								}
-							} // spatial loop
-						} // end of else loop
-						
-						cycle += 1;
-						
-						} // end of while loop		
-					} // end of spatial matching
-			
-					// Demographic match algorithm implemented 75% of the time
-					cycle = 0;
-					if (space_demo_choice > 0.25) {
-						while (cycle < 10000) {
-							
-							// Select an agent at random for a potential match
-							int nodestart = 0 + (int)(Math.random() * ((AlcoholModel.SocialNetworkList.size()-1 - 0) + 1));
-							// "b" is the agent under evaluation as a potential match
-							AlcoholAgent b = (AlcoholAgent)AlcoholModel.SocialNetworkList.get(nodestart);
-							
-							// Check if (1) trying to add itself, (2) add to maxed-out node, (3) add to a node that has already been added
-							// If so, do nothing
-							if (a.getID()==b.getID() || (b.getTotalFriends()>b.finalfriendsize) || a.isFriend(b)) {
-								// do nothing
-							} 
-							else {
-								boolean Match1 = true, Match2 = true, Match3 = true, Match4 = true, Match5 = true;
-								
-								// Age check
-								double age_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								double Age_A = a.getAge();
-								double Age_B = b.getAge();
-								if (age_choice > 0.185) {
-									if (Math.abs(Age_A-Age_B)<=10) { Match1 = true; } else { Match1 = false; }
-								}
-								
-								// Gender check
-								double gender_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Gender_A = a.getGender();
-								int Gender_B = b.getGender();
-								if (gender_choice > 0.995) {
-									if (Gender_A == Gender_B) { Match2 = true; } else { Match2 = false; }
-								}
-								
-								// Race check
-								double race_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Race_A = a.getRace();
-								int Race_B = b.getRace();
-								if (race_choice > 0.01) {
-									if (Race_A == Race_B) { Match3 = true; } else { Match3 = false; }
-								}
-								
-								// Education check
-								double education_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Edu_A = a.getEducation();
-								int Edu_B = b.getEducation();
-								if (education_choice > 0.25) {
-									if (Edu_A == Edu_B) { Match4 = true; } else { Match4 = false; }
-								}
-								
-								// Drinking status check
-								double drinking_choice = Random.uniform.nextDoubleFromTo(0, 1);
-								int Drk_A = a.getDrinkStat();
-								int Drk_B = b.getDrinkStat();
-								if (drinking_choice <= 0.15) {
-									if (Drk_A == Drk_B) { Match5 = true; } else { Match5 = false; }
-								}
-								
-								// Match node
-								if (Match1 && Match2 && Match3 && Match4 && Match5) {
-									b.setFriend(a);
-									a.setFriend(b);
-									numEdges+=1;
-									break;
-								}
-							} // end of else loop
-							
-							cycle += 1;
-							
-						} // end of while loop
-					} // end of demographic matching
+
+				// FIRST CHOICE: Spatial match (25% of the time) or demographic match (75% of the time)
+				boolean spatial = rng.nextDoubleFromTo(0, 1) <= 0.25;
+
+				// Match node
+				AlcoholAgent b = findFriend(a, spatial);
+				if (b != null) {
+					b.setFriend(a);
+					a.setFriend(b);
+					friendMark[b.getSlot()] = mark;
+					numEdges+=1;
+					if (b.getTotalFriends() > b.finalfriendsize) { removeAvailable(b); }
+				}
 			} // end of attempt to reach target number of friends (while loop)
-			
+
 			// remove this agent ("node") if she/he has enough friends
-			if (a.getTotalFriends() == a.finalfriendsize) { iter.remove(); }
-			
-		} // end of iterator
-		
+			if (a.getTotalFriends() == a.finalfriendsize) {
+				removeAvailable(a);
+				listSize -= 1;
+			}
+			else { remaining.add(a); }
+
+		} // end of agent loop
+
+		// agents left in the network list
+		nodes.clear();
+		nodes.addAll(remaining);
+
 	} // end of SocialNetworkPopulate()
-	
+
+	// findFriend()
+	// Draw the friend found by one attempt of agent a, or null if the attempt gives up after 10,000 candidates
+	private AlcoholAgent findFriend(AlcoholAgent a, boolean spatial) {
+
+		// Total acceptance probability of all available agents, by stratum
+		int aGroup = groupOf[a.getSlot()];
+		int lo = lowerAge(a.getAge() - AGE_RANGE);
+		int hi = upperAge(a.getAge() + AGE_RANGE);
+		double total = 0;
+		for (int g=0; g<NUM_GROUPS; g++) {
+			if (groupCount[g] == 0) { groupWeight[g] = 0; groupWinWeight[g] = 0; continue; }
+			double p = matchProb(aGroup, g);
+			int inRange = ageSum(g, hi) - ageSum(g, lo - 1);
+			groupWeight[g] = p * AGE_PASS * groupCount[g];
+			groupWinWeight[g] = p * (1 - AGE_PASS) * inRange;
+			total += groupWeight[g] + groupWinWeight[g];
+		}
+
+		// Agent cannot choose itself or an existing friend
+		double eligible = total;
+		if (position[a.getSlot()] >= 0) { eligible -= acceptProb(a, a); }
+		for (int w=0; w<a.getTotalFriends(); w++) {
+			AlcoholAgent f = a.friendList.get(w);
+			if (position[f.getSlot()] >= 0) { eligible -= acceptProb(a, f); }
+		}
+
+		// Chance that a single random candidate is accepted
+		double p = eligible / listSize;
+		if (p <= 1e-12) { return null; }
+
+		int cycle = 0;
+		while (true) {
+			// number of candidates until one passes the demographic checks
+			if (p < 1) {
+				double u = rng.nextDouble();
+				cycle += 1 + (int)Math.min(MAX_CYCLES, Math.floor(Math.log(u) / Math.log1p(-p)));
+			}
+			else { cycle += 1; }
+			if (cycle > MAX_CYCLES) { return null; }
+
+			AlcoholAgent b = drawAvailable(total, lo, hi);
+			while (b == a || friendMark[b.getSlot()] == a.getSlot() + 1) { b = drawAvailable(total, lo, hi); }
+
+			// spatial matching also requires the candidate to be nearby
+			if (!spatial || (Math.abs(a.getX()-b.getX()) <= SPACE_RANGE && Math.abs(a.getY()-b.getY()) <= SPACE_RANGE)) {
+				return b;
+			}
+		}
+	}
+
+	// drawAvailable()
+	// Draw an available agent in proportion to the acceptance weights of its stratum
+	private AlcoholAgent drawAvailable(double total, int lo, int hi) {
+		double r = rng.nextDouble() * total;
+		int g = -1;
+		for (int h=0; h<NUM_GROUPS; h++) {
+			double w = groupWeight[h] + groupWinWeight[h];
+			if (w <= 0) continue;
+			g = h;
+			if (r < w) break;
+			r -= w;
+		}
+		// agent of any age, or agent within age range
+		int k;
+		if (r < groupWeight[g] || groupWinWeight[g] == 0) {
+			k = rng.nextIntFromTo(0, groupCount[g] - 1);
+		}
+		else {
+			k = ageSum(g, lo - 1) + rng.nextIntFromTo(0, ageSum(g, hi) - ageSum(g, lo - 1) - 1);
+		}
+		int bucket = g*numAges + findAge(g, k);
+		int offset = k - ageSum(g, bucket - g*numAges - 1);
+		return agentOf[members[bucketStart[bucket] + offset]];
+	}
+
+	// acceptProb()
+	// Probability that candidate b passes all of agent a's matching checks
+	private double acceptProb(AlcoholAgent a, AlcoholAgent b) {
+		double p = matchProb(groupOf[a.getSlot()], groupOf[b.getSlot()]);
+		if (Math.abs(a.getAge() - b.getAge()) > AGE_RANGE) { p *= AGE_PASS; }
+		return p;
+	}
+
+	// matchProb()
+	// Probability of passing the gender, race, education, and drinking checks, for agents in strata g and h
+	private double matchProb(int g, int h) {
+		double p = 1;
+		if (g % 2 != h % 2) { p *= GENDER_PASS; }
+		if ((g / 2) % 5 != (h / 2) % 5) { p *= RACE_PASS; }
+		if ((g / 10) % 4 != (h / 10) % 4) { p *= EDU_PASS; }
+		if (g / 40 != h / 40) { p *= DRINK_PASS; }
+		return p;
+	}
+
+	private static int group(AlcoholAgent a) {
+		int gender = Math.min(Math.max(a.getGender(), 0), 1);
+		int race = Math.min(Math.max(a.getRace(), 0), 4);
+		int edu = Math.min(Math.max(a.getEducation(), 0), 3);
+		int drk = Math.min(Math.max(a.getDrinkStat(), 0), 3);
+		return gender + 2*race + 10*edu + 40*drk;
+	}
+
+	// buildStrata()
+	// Place all agents in the network list in their stratum and age bucket
+	private void buildStrata(ArrayList<AlcoholAgent> nodes) {
+		int maxSlot = 0;
+		for (int i=0; i<nodes.size(); i++) { maxSlot = Math.max(maxSlot, nodes.get(i).getSlot()); }
+		groupOf = new int[maxSlot + 1];
+		ageOf = new int[maxSlot + 1];
+		position = new int[maxSlot + 1];
+		agentOf = new AlcoholAgent[maxSlot + 1];
+		friendMark = new int[maxSlot + 1];
+		Arrays.fill(position, -1);
+
+		// distinct ages
+		double[] all = new double[nodes.size()];
+		for (int i=0; i<nodes.size(); i++) { all[i] = nodes.get(i).getAge(); }
+		Arrays.sort(all);
+		int n = 0;
+		for (int i=0; i<all.length; i++) {
+			if (n == 0 || all[i] != all[n-1]) { all[n++] = all[i]; }
+		}
+		ages = Arrays.copyOf(all, Math.max(n, 1));
+		numAges = ages.length;
+
+		// count agents in each bucket, then place them
+		bucketStart = new int[NUM_GROUPS*numAges + 1];
+		bucketCount = new int[NUM_GROUPS*numAges];
+		ageTree = new int[NUM_GROUPS][numAges + 1];
+		groupCount = new int[NUM_GROUPS];
+		for (int i=0; i<nodes.size(); i++) {
+			AlcoholAgent a = nodes.get(i);
+			int s = a.getSlot();
+			agentOf[s] = a;
+			groupOf[s] = group(a);
+			ageOf[s] = Arrays.binarySearch(ages, a.getAge());
+			bucketCount[groupOf[s]*numAges + ageOf[s]] += 1;
+		}
+		for (int k=0; k<bucketCount.length; k++) { bucketStart[k+1] = bucketStart[k] + bucketCount[k]; }
+		members = new int[nodes.size()];
+		Arrays.fill(bucketCount, 0);
+		listSize = 0;
+		for (int i=0; i<nodes.size(); i++) {
+			AlcoholAgent a = nodes.get(i);
+			int s = a.getSlot();
+			int bucket = groupOf[s]*numAges + ageOf[s];
+			position[s] = bucketStart[bucket] + bucketCount[bucket];
+			members[position[s]] = s;
+			bucketCount[bucket] += 1;
+			groupCount[groupOf[s]] += 1;
+			ageAdd(groupOf[s], ageOf[s], 1);
+			listSize += 1;
+			// an agent who already has more than the target number of friends is not available
+			if (a.getTotalFriends() > a.finalfriendsize) { removeAvailable(a); }
+		}
+	}
+
+	// removeAvailable()
+	// Agent can no longer be chosen as a friend (swap with last member of its bucket)
+	private void removeAvailable(AlcoholAgent a) {
+		int s = a.getSlot();
+		if (position[s] < 0) return;
+		int bucket = groupOf[s]*numAges + ageOf[s];
+		int last = bucketStart[bucket] + bucketCount[bucket] - 1;
+		int moved = members[last];
+		members[position[s]] = moved;
+		position[moved] = position[s];
+		members[last] = s;
+		position[s] = -1;
+		bucketCount[bucket] -= 1;
+		groupCount[groupOf[s]] -= 1;
+		ageAdd(groupOf[s], ageOf[s], -1);
+	}
+
+	// Fenwick tree over ages: add, prefix sum of ages 0 to i, and age holding the k-th agent (from 0)
+	private void ageAdd(int g, int i, int d) {
+		for (i++; i<=numAges; i += i & -i) { ageTree[g][i] += d; }
+	}
+
+	private int ageSum(int g, int i) {
+		int sum = 0;
+		for (i++; i>0; i -= i & -i) { sum += ageTree[g][i]; }
+		return sum;
+	}
+
+	private int findAge(int g, int k) {
+		int i = 0;
+		for (int step = Integer.highestOneBit(numAges); step>0; step >>= 1) {
+			if (i + step <= numAges && ageTree[g][i + step] <= k) {
+				i += step;
+				k -= ageTree[g][i];
+			}
+		}
+		return i;
+	}
+
+	// index of first age >= x, and of last age <= x
+	private int lowerAge(double x) {
+		int i = Arrays.binarySearch(ages, x);
+		return i >= 0 ? i : -i - 1;
+	}
+
+	private int upperAge(double x) {
+		int i = Arrays.binarySearch(ages, x);
+		return i >= 0 ? i : -i - 2;
+	}
+
 	///////////////// SETTERS AND GETTERS
 	public int getEdges() { return numEdges; }
-	
+
 } // end of AlcoholNetwork class
@@ -0,0 +1,127 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The output writer class formats and writes output files on a background thread, so the model can go
+ * on to the next time step while the output of the last one is written. At the end of a time step the model
+ * copies what is to be written (the values of agents or neighborhoods, or filled buffers; never the agents
+ * themselves) and hands a job to the writer over a bounded queue. The jobs are run one at a time in the order
+ * they were given, so each file is written in time step order. If the writer falls behind and the queue is
+ * full, the model waits (backpressure) instead of holding ever more output in memory.
+ *
+ *     flush() is a barrier: it returns when all jobs given so far are done, and must be called before the
+ * files are read or the model run ends; the model does this in AlcoholModel.finishOutput(), when the run
+ * ends (normally or stopped early) and before a new run. An error in a job stops the writing and is thrown
+ * in the model at the next submit() or flush().
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+public class AlcoholOutputWriter {
+
+	private static final int	QUEUE_SIZE = 8;		// jobs waiting to be written before the model waits
+
+	// job that marks a point in the queue; run even after an error, so flush() always returns
+	private static class Barrier implements Runnable {
+		final CountDownLatch done = new CountDownLatch(1);
+		public void run() { done.countDown(); }
+	}
+
+	// job that stops the writer thread
+	private static final Runnable STOP = new Runnable() {
+		public void run() { }
+	};
+
+	private final ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<Runnable>(QUEUE_SIZE);
+	private final Thread		thread;
+	private volatile Throwable	failure;			// first error in a job (null -- none)
+	private volatile boolean	closed = false;
+
+
+	// the OutputWriter constructor
+	// Start the writer thread
+	public AlcoholOutputWriter() {
+		thread = new Thread(new Runnable() {
+			public void run() { writeJobs(); }
+		}, "AlcoholOutputWriter");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	// writeJobs()
+	// Run jobs until the writer is closed (on the writer thread)
+	private void writeJobs() {
+		while (true) {
+			Runnable job;
+			try {
+				job = queue.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (job == STOP) return;
+			if (failure != null && !(job instanceof Barrier)) continue;
+			try {
+				job.run();
+			} catch (Throwable t) {
+				failure = t;
+			}
+		}
+	}
+
+	// submit()
+	// Give a job to the writer thread, waiting if the queue is full
+	public void submit(Runnable job) {
+		if (closed) throw new IllegalStateException("Output writer is closed");
+		checkFailure();
+		try {
+			queue.put(job);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for output writer");
+		}
+	}
+
+	// flush()
+	// Wait until all jobs given so far are done
+	public void flush() {
+		Barrier barrier = new Barrier();
+		submit(barrier);
+		try {
+			barrier.done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for output writer");
+		}
+		checkFailure();
+	}
+
+	// close()
+	// Finish all jobs and stop the writer thread at the end of a model run
+	public void close() {
+		if (closed) return;
+		closed = true;
+		try {
+			queue.put(STOP);
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for output writer");
+		}
+		checkFailure();
+	}
+
+	// checkFailure()
+	// Throw the first error in a job, if any
+	public void checkFailure() {
+		if (failure != null) throw new IllegalStateException("Cannot write output: " + failure, failure);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The parallel class runs an update over all agents on several threads. The agent list is split into
+ * ranges (fork-join), and each range is updated by one thread. Tasks may only change the agent they are given;
+ * changes to shared objects (neighborhood lists, the grids) are recorded by the task and applied afterwards
+ * by the model in agent order (or, for violence, resolved by priority; see AlcoholModel.claimVictims). Each
+ * agent draws from its own random stream (AlcoholRandom), so the results are the same for any number of
+ * threads.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class AlcoholParallel {
+
+	// update of a single agent; i is the agent's position in the list
+	public interface AgentTask {
+		public void run(AlcoholAgent a, int i);
+	}
+
+	// task for a single index i, 0 to n-1
+	public interface IndexTask {
+		public void run(int i);
+	}
+
+	private static final int	GRAIN = 4096;		// smallest range split off to another thread
+
+	private int					numThreads;
+	private ForkJoinPool		pool;				// null when running on a single thread
+
+
+	// the Parallel constructor
+	// numThreads of 0 or less uses all available processors
+	public AlcoholParallel(int numThreads) {
+		if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+		this.numThreads = numThreads;
+		if (numThreads > 1) pool = new ForkJoinPool(numThreads);
+	}
+
+	// forEach()
+	// Run task for every agent in list, returning when all agents are done
+	public void forEach(AlcoholAgentSet agents, AgentTask task) {
+		if (pool == null || agents.size() <= GRAIN) {
+			for (int i=0; i<agents.size(); i++) { task.run(agents.get(i), i); }
+		}
+		else {
+			pool.invoke(new AgentRange(agents, task, 0, agents.size()));
+		}
+	}
+
+	// Run task for every index 0 to n-1, returning when all are done; grain is the smallest range
+	// split off to another thread (smaller than GRAIN for tasks that each do a lot of work)
+	public void forEach(int n, int grain, IndexTask task) {
+		if (pool == null || n <= grain) {
+			for (int i=0; i<n; i++) { task.run(i); }
+		}
+		else {
+			pool.invoke(new IndexRange(task, Math.max(1, grain), 0, n));
+		}
+	}
+
+	// shutdown()
+	// Stop the worker threads at the end of a model run
+	public void shutdown() {
+		if (pool != null) pool.shutdown();
+		pool = null;
+	}
+
+	public int getNumThreads() { return numThreads; }
+
+	// range of agents, split in half until small enough to run on one thread
+	private static class AgentRange extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final AlcoholAgentSet	agents;
+		private final AgentTask				task;
+		private final int					lo, hi;
+
+		AgentRange(AlcoholAgentSet agents, AgentTask task, int lo, int hi) {
+			this.agents = agents;
+			this.task = task;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		protected void compute() {
+			if (hi - lo <= GRAIN) {
+				for (int i=lo; i<hi; i++) { task.run(agents.get(i), i); }
+			}
+			else {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new AgentRange(agents, task, lo, mid), new AgentRange(agents, task, mid, hi));
+			}
+		}
+	}
+
+	// range of indices, split in half until small enough to run on one thread
+	private static class IndexRange extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final IndexTask		task;
+		private final int			grain, lo, hi;
+
+		IndexRange(IndexTask task, int grain, int lo, int hi) {
+			this.task = task;
+			this.grain = grain;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		protected void compute() {
+			if (hi - lo <= grain) {
+				for (int i=lo; i<hi; i++) { task.run(i); }
+			}
+			else {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new IndexRange(task, grain, lo, mid), new IndexRange(task, grain, mid, hi));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The population class is a columnar store for the agent characteristics used in every time step.
+ * Each characteristic is held in one primitive array indexed by the agent's slot number, instead of
+ * being spread across more than 500,000 agent objects. Agents read and write these characteristics
+ * through their getters and setters, which index into the arrays here; loops that only need these
+ * characteristics can iterate the arrays directly.
+ *
+ *     Everything an agent uses or changes at each time step is held here: characteristics, location,
+ * residence, drinking status, counts of friends' drinking and violence, probabilities of moving and
+ * violence, and the indicators below. The agent objects keep only their slot, random number stream and set
+ * positions, and what is drawn once when an agent is created (initial distributions, income in 16
+ * categories, drinking and beverage probabilities, the friend list and the variables used to build it). The
+ * loops of a time step read and write the columns by slot; aging iterates the age column alone.
+ *
+ *     The indicators (gender, the age, race, education and income dummies, death, moving and residence
+ * duration, drinking status dummies, beverage types, and violence and its history) are held as flags, one
+ * bit per slot: bit (slot & 63) of word (slot >>> 6) of the flag's bitset. Counts over groups of agents are
+ * then the number of bits set in the AND of bitsets, 64 agents at a time (see AlcoholAggregator). Flags that can be not yet set (-1) keep a
+ * second bitset of the unset slots. Agents on different threads share the words of the bitsets, so the bits
+ * are changed by compare-and-set.
+ *
+ *     Changes in drinking status and violence are also recorded here, so that they can be pushed to the
+ * agent's friends (AlcoholFriendGraph) without looking at every slot. The setters mark the slot as changed
+ * and add it to a change list of the thread making the change (agents are updated on several threads, and
+ * each agent only by the thread updating it); takeChanges() collects the lists.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AlcoholPopulation {
+
+	// kinds of changes pushed to friends (see AlcoholFriendGraph)
+	public static final int		DRINKING_CHANGE = 0;	// drinking status
+	public static final int		VIOLENCE_CHANGE = 1;	// violent victimization or perpetration
+	private static final int	NUM_CHANGES = 2;
+
+	// flags (1 yes, 0 no; those in UNSET_FLAGS can also be -1, not yet set)
+	public static final int		MALE = 0;
+	public static final int		AGE1 = 1, AGE2 = 2, AGE3 = 3, AGE4 = 4, AGE5 = 5, AGE6 = 6;
+	public static final int		WHITE = 7, BLACK = 8, HISP = 9, OTHERRACE = 10;
+	public static final int		LESSHS = 11, HS = 12, MOREHS = 13;
+	public static final int		INC1 = 14, INC2 = 15, INC3 = 16, INC4 = 17;
+	public static final int		DIED = 18, LASTDIED = 19, DONOTCOUNT = 20;
+	public static final int		MOVED = 21, EVERHIGHINC = 22, EVERLOWINC = 23;
+	public static final int		NONDRINKER = 24, LIGHTDRINKER = 25, HEAVYDRINKER = 26, EVERHEAVYDRK = 27;
+	public static final int		BASENONDRINKER = 28, BASELIGHTDRINKER = 29, BASEHEAVYDRINKER = 30;
+	public static final int		POTVIOLVICT = 31, VIOLVICT = 32, ALCVIOL = 33, PRIORVIOLVICT = 34, LASTVIOLVICT = 35;
+	public static final int		POTVIOLPERP = 36, VIOLPERP = 37, PRIORVIOLPERP = 38, LASTVIOLPERP = 39;
+	public static final int		POTHOMICIDE = 40, HOMICIDE = 41, ALCHOMICIDE = 42;
+	public static final int		DURRES1 = 43, DURRES2 = 44, DURRES3 = 45;
+	public static final int		ANYBEER = 46, ANYWINE = 47, ANYSPIRIT = 48, PREFERBEER = 49, PREFERWINE = 50, PREFERSPIRIT = 51;
+	public static final int		NUM_FLAGS = 52;
+	private static final int[]	UNSET_FLAGS = { NONDRINKER, LIGHTDRINKER, HEAVYDRINKER, POTVIOLVICT, VIOLVICT, LASTVIOLVICT,
+												POTVIOLPERP, VIOLPERP, LASTVIOLPERP, POTHOMICIDE, HOMICIDE };
+
+	// slots changed by one thread since the last takeChanges(), for each kind of change
+	private static class ChangeList {
+		int[][]		slots = new int[NUM_CHANGES][64];
+		int[]		size = new int[NUM_CHANGES];
+	}
+
+	private int			size;			// number of slots in use
+	private int			capacity;		// number of slots allocated
+	private long		masterSeed;		// seed of the random streams of agents (see AlcoholRandom)
+	private AlcoholLogitTable moveTable;	// probabilities of moving (see AlcoholAgent.buildMoveTable)
+
+	// changed slots: flag for each kind of change and slot (slot is in a change list), and the change list of
+	// each thread that has made changes
+	private boolean[][]	changed;
+	private final ArrayList<ChangeList> changeLists = new ArrayList<ChangeList>();
+	private final ThreadLocal<ChangeList> threadChanges = new ThreadLocal<ChangeList>() {
+		protected ChangeList initialValue() {
+			ChangeList list = new ChangeList();
+			synchronized (changeLists) { changeLists.add(list); }
+			return list;
+		}
+	};
+
+	// slots changed, from takeChanges(): changes[0] to changes[numChanges-1]
+	public int[]		changes = new int[0];
+	public int			numChanges;
+
+	// agent holding each slot
+	public AlcoholAgent[] agent;
+
+	// flag bitsets, and bitsets of the unset slots of the flags that can be unset (null for the others)
+	private AtomicLongArray[] flagBits = new AtomicLongArray[NUM_FLAGS];
+	private AtomicLongArray[] unsetBits = new AtomicLongArray[NUM_FLAGS];
+
+	// socio-demographic characteristics
+	public double[]		age;
+	public int[]		agecat;			// 1 18-24, 2 25-34, 3 35-44, 4 45-54, 5 55-64, 6 65+
+	public int[]		lastagecat;		// age category at last time step
+	public int[]		race;			// 1 white, 2 black, 3 hispanic, 4 others
+	public int[]		education;		// 1 < high school, 2 high school, 3 > high school
+	public int[]		houseincome;	// 1 < 20k, 2 $20k-$39k, 3 $40k-$74k, 4 $75k+
+	public int[]		lastincome;		// income category at last time step
+
+	// location and moving
+	public int[]		x, y;			// x, y coordinates of agent
+	public int[]		hood;			// neighborhood ID of agent (0-58)
+	public double[]		durationRes;	// number of time steps in current neighborhood
+	public int[]		baseIncHood;	// income level of baseline neighborhood (1 high, 2 low)
+	public double[]		pMove;			// probability of moving to another neighborhood at current time step
+
+	// drinking
+	public int[]		drinkStat;		// current drinking status (1 non-drinker, 2 light/mod drinker, 3 heavy drinker)
+	public int[]		lastDrinkStat;	// drinking status at last time step
+	public int[]		baseDrinkStat;	// drinking status at baseline
+
+	// friends: number who are non-drinkers, light/moderate and heavy drinkers, and who were victimized or
+	// perpetrated violence at last time step (see AlcoholFriendGraph)
+	public int[]		numFrdNoDrk, numFrdLightDrk, numFrdHeavyDrk;
+	public int[]		numFrdVictim, numFrdPerp;
+
+	// probabilities of homicide, violent victimization and perpetration, and the highest of them
+	public double[]		probHomicide, pviolvict, pviolperp, probViolence;
+
+
+	// the Population constructor
+	public AlcoholPopulation(int initialCapacity) {
+		size = 0;
+		capacity = Math.max(1, initialCapacity);
+		agent = new AlcoholAgent[capacity];
+		age = new double[capacity];
+		agecat = new int[capacity];
+		lastagecat = new int[capacity];
+		race = new int[capacity];
+		education = new int[capacity];
+		houseincome = new int[capacity];
+		lastincome = new int[capacity];
+		x = new int[capacity];
+		y = new int[capacity];
+		hood = new int[capacity];
+		durationRes = new double[capacity];
+		baseIncHood = new int[capacity];
+		pMove = new double[capacity];
+		drinkStat = new int[capacity];
+		lastDrinkStat = new int[capacity];
+		baseDrinkStat = new int[capacity];
+		numFrdNoDrk = new int[capacity];
+		numFrdLightDrk = new int[capacity];
+		numFrdHeavyDrk = new int[capacity];
+		numFrdVictim = new int[capacity];
+		numFrdPerp = new int[capacity];
+		probHomicide = new double[capacity];
+		pviolvict = new double[capacity];
+		pviolperp = new double[capacity];
+		probViolence = new double[capacity];
+		changed = new boolean[NUM_CHANGES][capacity];
+		int numWords = (capacity + 63) >>> 6;
+		for (int f=0; f<NUM_FLAGS; f++) { flagBits[f] = new AtomicLongArray(numWords); }
+		for (int k=0; k<UNSET_FLAGS.length; k++) { unsetBits[UNSET_FLAGS[k]] = new AtomicLongArray(numWords); }
+	}
+
+	// allocate()
+	// Reserve the next slot for a new agent, growing the columns if needed
+	public int allocate(AlcoholAgent a) {
+		if (size == capacity) grow(capacity * 2);
+		agent[size] = a;
+		size += 1;
+		return size - 1;
+	}
+
+	private void grow(int newCapacity) {
+		agent = Arrays.copyOf(agent, newCapacity);
+		age = Arrays.copyOf(age, newCapacity);
+		agecat = Arrays.copyOf(agecat, newCapacity);
+		lastagecat = Arrays.copyOf(lastagecat, newCapacity);
+		race = Arrays.copyOf(race, newCapacity);
+		education = Arrays.copyOf(education, newCapacity);
+		houseincome = Arrays.copyOf(houseincome, newCapacity);
+		lastincome = Arrays.copyOf(lastincome, newCapacity);
+		x = Arrays.copyOf(x, newCapacity);
+		y = Arrays.copyOf(y, newCapacity);
+		hood = Arrays.copyOf(hood, newCapacity);
+		durationRes = Arrays.copyOf(durationRes, newCapacity);
+		baseIncHood = Arrays.copyOf(baseIncHood, newCapacity);
+		pMove = Arrays.copyOf(pMove, newCapacity);
+		drinkStat = Arrays.copyOf(drinkStat, newCapacity);
+		lastDrinkStat = Arrays.copyOf(lastDrinkStat, newCapacity);
+		baseDrinkStat = Arrays.copyOf(baseDrinkStat, newCapacity);
+		numFrdNoDrk = Arrays.copyOf(numFrdNoDrk, newCapacity);
+		numFrdLightDrk = Arrays.copyOf(numFrdLightDrk, newCapacity);
+		numFrdHeavyDrk = Arrays.copyOf(numFrdHeavyDrk, newCapacity);
+		numFrdVictim = Arrays.copyOf(numFrdVictim, newCapacity);
+		numFrdPerp = Arrays.copyOf(numFrdPerp, newCapacity);
+		probHomicide = Arrays.copyOf(probHomicide, newCapacity);
+		pviolvict = Arrays.copyOf(pviolvict, newCapacity);
+		pviolperp = Arrays.copyOf(pviolperp, newCapacity);
+		probViolence = Arrays.copyOf(probViolence, newCapacity);
+		for (int k=0; k<NUM_CHANGES; k++) { changed[k] = Arrays.copyOf(changed[k], newCapacity); }
+		int numWords = (newCapacity + 63) >>> 6;
+		for (int f=0; f<NUM_FLAGS; f++) {
+			flagBits[f] = copyOf(flagBits[f], numWords);
+			if (unsetBits[f] != null) unsetBits[f] = copyOf(unsetBits[f], numWords);
+		}
+		capacity = newCapacity;
+	}
+
+	private static AtomicLongArray copyOf(AtomicLongArray bits, int numWords) {
+		AtomicLongArray copy = new AtomicLongArray(numWords);
+		for (int w=0; w<bits.length(); w++) { copy.set(w, bits.get(w)); }
+		return copy;
+	}
+
+	// getFlag()
+	// Value of a flag in slot: 1 yes, 0 no, -1 not yet set
+	public int getFlag(int flag, int slot) {
+		int w = slot >>> 6;
+		long bit = 1L << slot;
+		if ((flagBits[flag].get(w) & bit) != 0) return 1;
+		if (unsetBits[flag] != null && (unsetBits[flag].get(w) & bit) != 0) return -1;
+		return 0;
+	}
+
+	// setFlag()
+	// Set a flag in slot to 1 (yes), 0 (no) or -1 (not yet set, for the flags that can be unset); may be called
+	// for different slots at once
+	public void setFlag(int flag, int slot, int value) {
+		if (value != 0 && value != 1 && (value != -1 || unsetBits[flag] == null)) {
+			throw new IllegalArgumentException("value " + value + " of flag " + flag + " is not 1, 0" + (unsetBits[flag] != null ? " or -1" : ""));
+		}
+		int w = slot >>> 6;
+		long bit = 1L << slot;
+		setBit(flagBits[flag], w, bit, value == 1);
+		if (unsetBits[flag] != null) setBit(unsetBits[flag], w, bit, value == -1);
+	}
+
+	private static void setBit(AtomicLongArray bits, int w, long bit, boolean on) {
+		long word = bits.get(w);
+		while (((word & bit) != 0) != on) {
+			if (bits.compareAndSet(w, word, word ^ bit)) return;
+			word = bits.get(w);
+		}
+	}
+
+	// clearFlag()
+	// Set a flag to 0 in every slot (on one thread, when no agents are being updated)
+	public void clearFlag(int flag) {
+		for (int w=0; w<flagBits[flag].length(); w++) { flagBits[flag].set(w, 0L); }
+		if (unsetBits[flag] != null) {
+			for (int w=0; w<unsetBits[flag].length(); w++) { unsetBits[flag].set(w, 0L); }
+		}
+	}
+
+	// key()
+	// Covariate pattern key of slot, bit k holding flag flags[k] (for looking up probabilities in an
+	// AlcoholLogitTable; flags not yet set count as 0)
+	public int key(int slot, int[] flags) {
+		int w = slot >>> 6;
+		long bit = 1L << slot;
+		int key = 0;
+		for (int k=0; k<flags.length; k++) {
+			if ((flagBits[flags[k]].get(w) & bit) != 0) key |= 1 << k;
+		}
+		return key;
+	}
+
+	// getFlagWord(), getUnsetWord()
+	// Word w of a flag's bitset, and of its bitset of unset slots (0 for flags that cannot be unset); bits of
+	// slots not in use are 0
+	public long getFlagWord(int flag, int w) { return flagBits[flag].get(w); }
+	public long getUnsetWord(int flag, int w) { return (unsetBits[flag] != null) ? unsetBits[flag].get(w) : 0L; }
+	public boolean canBeUnset(int flag) { return unsetBits[flag] != null; }
+	public int getNumWords() { return (size + 63) >>> 6; }
+
+	// markChanged()
+	// Record a change of the given kind in slot, in the change list of the current thread (once per slot
+	// until the next takeChanges())
+	public void markChanged(int kind, int slot) {
+		if (changed[kind][slot]) return;
+		changed[kind][slot] = true;
+		ChangeList list = threadChanges.get();
+		int n = list.size[kind];
+		if (n == list.slots[kind].length) list.slots[kind] = Arrays.copyOf(list.slots[kind], 2 * n);
+		list.slots[kind][n] = slot;
+		list.size[kind] = n + 1;
+	}
+
+	// takeChanges()
+	// Collect the slots with changes of the given kind since the last call, from the lists of all threads,
+	// into changes[0] to changes[numChanges-1]; returns numChanges. Called on one thread, when no agents are
+	// being updated. The slots are in no particular order.
+	public int takeChanges(int kind) {
+		numChanges = 0;
+		synchronized (changeLists) {
+			for (int t=0; t<changeLists.size(); t++) {
+				ChangeList list = changeLists.get(t);
+				int n = list.size[kind];
+				if (numChanges + n > changes.length) changes = Arrays.copyOf(changes, Math.max(numChanges + n, 2 * changes.length));
+				for (int j=0; j<n; j++) {
+					int slot = list.slots[kind][j];
+					changed[kind][slot] = false;
+					changes[numChanges++] = slot;
+				}
+				list.size[kind] = 0;
+			}
+		}
+		return numChanges;
+	}
+
+	// getters and setters
+	public long getMasterSeed() { return masterSeed; }
+	public void setMasterSeed(long seed) { masterSeed = seed; }
+	public AlcoholLogitTable getMoveTable() { return moveTable; }
+	public void setMoveTable(AlcoholLogitTable table) { moveTable = table; }
+	public int size() { return size; }
+	public int getCapacity() { return capacity; }
+	public AlcoholAgent getAgent(int slot) { return agent[slot]; }
+
+}
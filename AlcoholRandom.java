@@ -0,0 +1,149 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The random class is the source of all random numbers in the model. Each agent has its own stream, and
+ * the model has streams of its own (streams MODEL and EVENTS) for draws that do not belong to an agent. A stream is
+ * divided into named sub-streams, one for each part of the model (demographics, network, mortality, moving,
+ * drinking, violence). Before drawing, the stream is keyed by the master seed, the sub-stream, the stream ID
+ * and the time step, and the numbers are then generated from that key with a counter (SplitMix64).
+ *
+ *     Because a draw depends only on its key and on how many numbers were drawn before it under that key,
+ * the results are the same no matter how the agents are divided among threads, and a change in one part
+ * of the model (e.g., an intervention that changes drinking) does not shift the random numbers used by
+ * the other parts. Runs with the same master seed can therefore be compared on common random numbers.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.List;
+
+public class AlcoholRandom {
+
+	private static final long	GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	private static final double	DOUBLE_UNIT = 1.0 / (1L << 52);
+
+	// named sub-streams
+	public static final int		DEMOGRAPHICS = 1;	// initial and recycled agent characteristics
+	public static final int		NETWORK = 2;		// social network
+	public static final int		MORTALITY = 3;		// agent deaths
+	public static final int		MOVING = 4;			// residential location and moves
+	public static final int		DRINKING = 5;		// drinking status and beverage preference
+	public static final int		VIOLENCE = 6;		// violence and homicide
+	public static final int		HOMICIDE = 7;		// potential victims of homicide (stream EVENTS)
+	public static final int		VICTIMIZATION = 8;	// potential victims of violence (stream EVENTS)
+	public static final int		PERPETRATION = 9;	// potential perpetrators of violence (stream EVENTS)
+
+	// ID of the model's own streams (agents' streams use the agent ID)
+	public static final long	MODEL = -1;
+	public static final long	EVENTS = -2;		// events drawn for all agents at once (see AlcoholRareEvents)
+
+	private final long			masterSeed;			// seed shared by all streams in a model run
+	private long				stream;				// ID of stream (agent ID, or MODEL)
+	private long				state;				// key of current sub-stream, advanced by each draw
+
+
+	// the Random constructor
+	// The stream starts at the demographics sub-stream of time step 0
+	public AlcoholRandom(long masterSeed, long streamID) {
+		this.masterSeed = masterSeed;
+		stream = streamID;
+		start(DEMOGRAPHICS, 0);
+	}
+
+	// start()
+	// Re-key the stream to the start of a sub-stream at a time step
+	public void start(int subStream, long tick) {
+		state = mix64(masterSeed + GOLDEN_GAMMA*mix64(subStream + GOLDEN_GAMMA*mix64(stream + GOLDEN_GAMMA*mix64(tick))));
+	}
+
+	// nextLong()
+	// Next 64 random bits (SplitMix64)
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix64(state);
+	}
+
+	// nextDouble()
+	// Uniform random number in the open interval (0, 1); 52 random bits, so that the largest value
+	// (1 - 2^-53) is exactly representable and never rounds up to 1
+	public double nextDouble() {
+		return ((nextLong() >>> 12) + 0.5) * DOUBLE_UNIT;
+	}
+
+	// nextDoubleFromTo()
+	// Uniform random number in the open interval (from, to)
+	public double nextDoubleFromTo(double from, double to) {
+		return from + (to - from)*nextDouble();
+	}
+
+	// nextIntFromTo()
+	// Uniform random integer in the closed interval [from, to] (the product may round up to the size of a
+	// large interval, so it is kept below it)
+	public int nextIntFromTo(int from, int to) {
+		long size = (long)to - from + 1;
+		return (int)(from + Math.min((long)(nextDouble() * size), size - 1));
+	}
+
+	// nextNormal()
+	// Normal random number with given mean and standard deviation (Box-Muller)
+	public double nextNormal(double mean, double sd) {
+		double u1 = nextDouble();
+		double u2 = nextDouble();
+		return mean + sd*Math.sqrt(-2.0*Math.log(u1))*Math.cos(2.0*Math.PI*u2);
+	}
+
+	// nextBinomial()
+	// Number of successes in n trials with probability p, found by skipping from one success to the next
+	// (geometric distribution), so the number of draws is one more than the number of successes
+	public int nextBinomial(int n, double p) {
+		if (p >= 1) return n;
+		if (!(p > 0)) return 0;
+		double logNotP = Math.log1p(-p);
+		int k = 0;
+		double trial = -1;					// trial of last success
+		while (true) {
+			trial += 1 + Math.floor(Math.log(nextDouble()) / logNotP);
+			if (trial >= n) return k;
+			k += 1;
+		}
+	}
+
+	// shuffle()
+	// Put list in random order (Fisher-Yates)
+	public <T> void shuffle(List<T> list) {
+		for (int i=list.size()-1; i>0; i--) {
+			int j = nextIntFromTo(0, i);
+			T t = list.get(i);
+			list.set(i, list.get(j));
+			list.set(j, t);
+		}
+	}
+
+	// Put first n entries of array in random order (Fisher-Yates)
+	public void shuffle(int[] a, int n) {
+		for (int i=n-1; i>0; i--) {
+			int j = nextIntFromTo(0, i);
+			int t = a[i];
+			a[i] = a[j];
+			a[j] = t;
+		}
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	// getters and setters
+	public long getMasterSeed() { return masterSeed; }
+
+	public long getStream() { return stream; }
+
+}
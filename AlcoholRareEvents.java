@@ -0,0 +1,98 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The rare events class decides which agents have an event (moving, homicide, violence) at a time
+ * step, when every agent i has the event independently with probability p[i]. Instead of drawing a random
+ * number for every agent, agents are grouped by probability: group k holds the agents with p in
+ * [2^-k, 2^-(k-1)), and is sampled as if every member had probability q = 2^-(k-1). The number of members
+ * skipped before the next candidate is drawn from the geometric distribution, and each candidate has the
+ * event with probability p[i]/q (at least 1/2). Each agent therefore has the event with probability exactly
+ * p[i], independently of the others, as in the loop over agents, but the random numbers drawn are in
+ * proportion to the number of events. Agents with p of 1 or more always have the event, and agents with
+ * p of 0 never do.
+ *
+ *     The events are drawn from one stream, group by group and in agent order within each group, so they are
+ * the same for any number of threads. A change in the probability of one agent may change which other agents
+ * have the same kind of event.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.Arrays;
+
+public class AlcoholRareEvents {
+
+	private static final int	CERTAIN = 0;			// group of agents with p of 1 or more
+	private static final int	NUM_GROUPS = 1024;		// groups 1 to 1023 cover all positive p below 1
+
+	private int[]				start = new int[NUM_GROUPS + 1];	// start of each group in member
+	private int[]				member = new int[0];				// positions of agents, by group
+
+	public int[]				event = new int[0];		// positions of agents with the event (from sample)
+	public int					numEvents;
+
+
+	// sample()
+	// Find agents 0 to n-1 who have the event, given the probability of each; returns the number of events,
+	// and the positions of the agents are event[0] to event[numEvents-1]
+	public int sample(double[] p, int n, AlcoholRandom rng) {
+		if (member.length < n) {
+			member = new int[n];
+			event = new int[n];
+		}
+		numEvents = 0;
+
+		// group agents by probability (counting sort, in agent order within each group)
+		Arrays.fill(start, 0);
+		for (int i=0; i<n; i++) {
+			int k = group(p[i]);
+			if (k >= 0) start[k + 1] += 1;
+		}
+		for (int k=0; k<NUM_GROUPS; k++) { start[k+1] += start[k]; }
+		int[] next = start.clone();
+		for (int i=0; i<n; i++) {
+			int k = group(p[i]);
+			if (k >= 0) member[next[k]++] = i;
+		}
+
+		// agents who always have the event
+		for (int j=start[CERTAIN]; j<start[CERTAIN+1]; j++) { event[numEvents++] = member[j]; }
+
+		// probabilities of at least 1/2, drawn for each agent
+		for (int j=start[1]; j<start[2]; j++) {
+			if (rng.nextDouble() < p[member[j]]) { event[numEvents++] = member[j]; }
+		}
+
+		// smaller probabilities, drawn by skipping to the next candidate
+		for (int k=2; k<NUM_GROUPS; k++) {
+			int lo = start[k], hi = start[k+1];
+			if (lo == hi) continue;
+			double q = Math.scalb(1.0, 1 - k);
+			double logNotQ = Math.log1p(-q);
+			int j = lo - 1;
+			while (true) {
+				double skip = Math.floor(Math.log(rng.nextDouble()) / logNotQ);
+				if (skip >= hi - 1 - j) break;
+				j += 1 + (int) skip;
+				int i = member[j];
+				if (rng.nextDouble()*q < p[i]) { event[numEvents++] = i; }
+			}
+		}
+		return numEvents;
+	}
+
+	// group()
+	// Group of agents with probability p (-1 if p is 0, so the agent never has the event)
+	private static int group(double p) {
+		if (p >= 1) return CERTAIN;
+		if (!(p > 0)) return -1;
+		return Math.min(-Math.getExponent(p), NUM_GROUPS - 1);
+	}
+
+}
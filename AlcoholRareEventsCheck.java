@@ -0,0 +1,98 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The rare events check draws events with AlcoholRareEvents for a population of agents with probabilities
+ * in every kind of group (p of 0 or less, p of 1 or more, group 1, p exactly at and just under a power of two,
+ * and small p in high groups), mixed together in agent order, over many time steps. It then compares the
+ * number of events of each kind of agent with the number expected from p, and checks that no agent has the
+ * event twice in a time step. Run as
+ *
+ *     java cbtModel.AlcoholRareEventsCheck [seed] [ticks]
+ *
+ * The check prints one line for each probability and exits with status 1 if any observed count is more than
+ * 5 standard deviations from the expected count, or if p of 0 or 1 is not always or never an event.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+public class AlcoholRareEventsCheck {
+
+	private static final int	AGENTS_PER_PROB = 20000;	// agents with each probability
+	private static final double	MAX_Z = 5;				// largest accepted difference, in standard deviations
+
+	// probabilities checked: certain and impossible events, group 1, powers of two and just below them (the
+	// upper and lower bounds of a group), values inside groups, and small probabilities
+	private static final double[] PROBS = {
+		-0.1, 0, 1, 1.5,
+		0.75, 0.5, Math.nextDown(0.5),
+		0.3, 0.25, Math.nextDown(0.25), Math.nextDown(0.125),
+		0.01, Math.scalb(1.0, -10), 3e-4, 1e-5,
+	};
+
+
+	public static void main(String[] args) {
+		long seed = (args.length > 0) ? Long.parseLong(args[0]) : 1;
+		int ticks = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+		System.exit(check(seed, ticks) ? 0 : 1);
+	}
+
+	// check()
+	// Draw events for the given number of time steps and compare the counts with p; returns true if all agree
+	public static boolean check(long seed, int ticks) {
+		int numProbs = PROBS.length;
+		int n = numProbs * AGENTS_PER_PROB;
+
+		// agent i has probability PROBS[i % numProbs], so the groups are interleaved in agent order
+		double[] p = new double[n];
+		for (int i=0; i<n; i++) { p[i] = PROBS[i % numProbs]; }
+
+		AlcoholRareEvents events = new AlcoholRareEvents();
+		AlcoholRandom rng = new AlcoholRandom(seed, AlcoholRandom.EVENTS);
+		long[] observed = new long[numProbs];
+		int[] lastTick = new int[n];
+		boolean ok = true;
+		for (int t=1; t<=ticks; t++) {
+			rng.start(AlcoholRandom.VICTIMIZATION, t);
+			int numEvents = events.sample(p, n, rng);
+			for (int e=0; e<numEvents; e++) {
+				int i = events.event[e];
+				if (lastTick[i] == t) {
+					System.out.println("FAIL: agent " + i + " has the event twice at time step " + t);
+					ok = false;
+				}
+				lastTick[i] = t;
+				observed[i % numProbs] += 1;
+			}
+		}
+
+		// compare with the expected counts
+		System.out.println(String.format("%-24s %14s %14s %8s", "p", "expected", "observed", "z"));
+		for (int k=0; k<numProbs; k++) {
+			double prob = Math.min(Math.max(PROBS[k], 0), 1);
+			double trials = (double) AGENTS_PER_PROB * ticks;
+			double expected = trials * prob;
+			double sd = Math.sqrt(trials * prob * (1 - prob));
+			boolean agrees;
+			double z = 0;
+			if (sd == 0) {
+				agrees = (observed[k] == expected);
+			}
+			else {
+				z = (observed[k] - expected) / sd;
+				agrees = Math.abs(z) <= MAX_Z;
+			}
+			System.out.println(String.format("%-24s %14.1f %14d %8.2f%s", Double.toString(PROBS[k]), expected, observed[k], z,
+					agrees ? "" : "  FAIL"));
+			ok &= agrees;
+		}
+		System.out.println(ok ? "OK" : "FAILED");
+		return ok;
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The snapshot reader class exports selected columns and time steps of an agent snapshot file (written by
+ * AlcoholSnapshotWriter) to a text file with one line per agent and time step, and a header line with the
+ * column names, which can be read in R with read.table(file, header=TRUE). Run as
+ *
+ *     java cbtModel.AlcoholSnapshotReader snapshotFile textFile [columns] [ticks]
+ *
+ * where columns is a comma-separated list of column names (default all columns) and ticks is a comma-separated
+ * list of time steps or ranges of time steps, e.g. 0,10-20 (default all time steps). The tick is always the
+ * first column of the text file.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+public class AlcoholSnapshotReader {
+
+	private String[]		columnNames;
+	private byte[]			columnTypes;
+
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2 || args.length > 4) {
+			System.out.println("usage: java cbtModel.AlcoholSnapshotReader snapshotFile textFile [columns] [ticks]");
+			return;
+		}
+		new AlcoholSnapshotReader().export(args[0], args[1], args.length > 2 ? args[2] : null, args.length > 3 ? args[3] : null);
+	}
+
+	// export()
+	// Write the selected columns (null -- all) and time steps (null -- all) of the snapshot file to a text file
+	public void export(String snapshotFile, String textFile, String columns, String ticks) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile), 1 << 20));
+		PrintWriter out = new PrintWriter(textFile);
+		try {
+			readHeader(in, snapshotFile);
+			int[] selected = selectColumns(columns);
+			int[][] tickRanges = parseTicks(ticks);
+
+			// header line
+			StringBuilder line = new StringBuilder("tick");
+			for (int k=0; k<selected.length; k++) { line.append(' ').append(columnNames[selected[k]]); }
+			out.println(line);
+
+			int[][] intValues = new int[columnNames.length][];
+			double[][] doubleValues = new double[columnNames.length][];
+			while (true) {
+				int tick, n;
+				try {
+					tick = in.readInt();
+				} catch (EOFException e) {
+					break;
+				}
+				n = in.readInt();
+				boolean wanted = inRanges(tick, tickRanges);
+
+				// read the selected columns of this time step, and skip the others
+				for (int c=0; c<columnNames.length; c++) {
+					int size = (columnTypes[c] == AlcoholSnapshotWriter.INT) ? 4 : 8;
+					if (!wanted || !contains(selected, c)) {
+						skipFully(in, (long) n * size);
+					}
+					else if (columnTypes[c] == AlcoholSnapshotWriter.INT) {
+						if (intValues[c] == null || intValues[c].length < n) intValues[c] = new int[n];
+						for (int i=0; i<n; i++) { intValues[c][i] = in.readInt(); }
+					}
+					else {
+						if (doubleValues[c] == null || doubleValues[c].length < n) doubleValues[c] = new double[n];
+						for (int i=0; i<n; i++) { doubleValues[c][i] = in.readDouble(); }
+					}
+				}
+				if (!wanted) continue;
+
+				// one line for each agent
+				for (int i=0; i<n; i++) {
+					line.setLength(0);
+					line.append(tick);
+					for (int k=0; k<selected.length; k++) {
+						int c = selected[k];
+						line.append(' ');
+						if (columnTypes[c] == AlcoholSnapshotWriter.INT) { line.append(intValues[c][i]); }
+						else { line.append(doubleValues[c][i]); }
+					}
+					out.println(line);
+				}
+			}
+		} finally {
+			in.close();
+			out.close();
+		}
+		if (out.checkError()) throw new IOException("Cannot write text file " + textFile);
+	}
+
+	// readHeader()
+	// Read the column names and types
+	private void readHeader(DataInputStream in, String snapshotFile) throws IOException {
+		if (in.readInt() != AlcoholSnapshotWriter.MAGIC) {
+			throw new IllegalArgumentException(snapshotFile + " is not an agent snapshot file");
+		}
+		int version = in.readInt();
+		if (version != AlcoholSnapshotWriter.VERSION) {
+			throw new IllegalArgumentException(snapshotFile + ": snapshot version " + version + ", expected " + AlcoholSnapshotWriter.VERSION);
+		}
+		int numColumns = in.readInt();
+		columnNames = new String[numColumns];
+		columnTypes = new byte[numColumns];
+		for (int c=0; c<numColumns; c++) {
+			columnTypes[c] = in.readByte();
+			byte[] name = new byte[in.readShort()];
+			in.readFully(name);
+			columnNames[c] = new String(name, StandardCharsets.UTF_8);
+		}
+	}
+
+	// selectColumns()
+	// Positions of the named columns (all columns if names is null)
+	private int[] selectColumns(String names) {
+		if (names == null) {
+			int[] all = new int[columnNames.length];
+			for (int c=0; c<all.length; c++) { all[c] = c; }
+			return all;
+		}
+		ArrayList<Integer> selected = new ArrayList<Integer>();
+		for (String name : names.split(",")) {
+			name = name.trim();
+			if (name.equals("tick")) continue;
+			int c = 0;
+			while (c < columnNames.length && !columnNames[c].equals(name)) { c++; }
+			if (c == columnNames.length) throw new IllegalArgumentException("No column " + name + " in snapshot file");
+			selected.add(c);
+		}
+		int[] result = new int[selected.size()];
+		for (int k=0; k<result.length; k++) { result[k] = selected.get(k); }
+		return result;
+	}
+
+	// parseTicks()
+	// Ranges of time steps, e.g. "0,10-20" (null if ticks is null, i.e., all time steps)
+	private static int[][] parseTicks(String ticks) {
+		if (ticks == null) return null;
+		String[] parts = ticks.split(",");
+		int[][] ranges = new int[parts.length][2];
+		for (int r=0; r<parts.length; r++) {
+			String part = parts[r].trim();
+			int dash = part.indexOf('-', 1);
+			try {
+				ranges[r][0] = Integer.parseInt(dash < 0 ? part : part.substring(0, dash).trim());
+				ranges[r][1] = Integer.parseInt(dash < 0 ? part : part.substring(dash + 1).trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Bad time steps " + part);
+			}
+		}
+		return ranges;
+	}
+
+	private static boolean inRanges(int tick, int[][] ranges) {
+		if (ranges == null) return true;
+		for (int r=0; r<ranges.length; r++) {
+			if (tick >= ranges[r][0] && tick <= ranges[r][1]) return true;
+		}
+		return false;
+	}
+
+	private static boolean contains(int[] a, int x) {
+		for (int k=0; k<a.length; k++) { if (a[k] == x) return true; }
+		return false;
+	}
+
+	private static void skipFully(DataInputStream in, long bytes) throws IOException {
+		while (bytes > 0) {
+			long skipped = in.skip(bytes);
+			if (skipped <= 0) {
+				in.readByte();
+				skipped = 1;
+			}
+			bytes -= skipped;
+		}
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The snapshot writer class writes the characteristics of every agent at each time step (the agent step
+ * report) to a binary file, instead of a formatted text line for each agent. Each column is declared once as
+ * an int or double value of the agent. The file starts with a header describing the columns:
+ *
+ *     int MAGIC, int VERSION, int number of columns, and for each column: byte type (INT or DOUBLE),
+ *     short length and UTF-8 bytes of its name
+ *
+ * followed by one block for each time step:
+ *
+ *     int tick, int number of agents n, and for each column in header order: n values (4-byte int or
+ *     8-byte double), in the order of the agent list
+ *
+ * All numbers are big-endian. The blocks are built in a large direct buffer and written through a file channel
+ * when the buffer is full, so nothing is formatted and the file is not flushed for each agent. Use
+ * AlcoholSnapshotReader to export selected columns and time steps to text.
+ *
+ *     With an output writer (AlcoholOutputWriter), full buffers are written on the writer thread, and the model
+ * goes on filling the next of a few buffers; it waits for a buffer only when all of them are being written.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class AlcoholSnapshotWriter {
+
+	// int values of agents (double values are AlcoholAggregator.AgentValue)
+	public interface AgentInt {
+		public int value(AlcoholAgent a);
+	}
+
+	public static final int		MAGIC = 0x414C4353;		// "ALCS"
+	public static final int		VERSION = 1;
+	public static final byte	INT = 'I';
+	public static final byte	DOUBLE = 'D';
+
+	private static final int	BUFFER_SIZE = 8 << 20;	// bytes buffered between writes
+	private static final int	NUM_BUFFERS = 4;		// buffers filled or being written, with an output writer
+
+	// column declarations, in output order
+	private ArrayList<String>	columnNames = new ArrayList<String>();
+	private ArrayList<Byte>		columnTypes = new ArrayList<Byte>();
+	private ArrayList<Object>	columnValues = new ArrayList<Object>();	// AgentInt or AgentValue
+
+	private final String		fileName;
+	private final AlcoholOutputWriter output;		// writes full buffers (null -- written by the model)
+	private FileChannel			channel;
+	private ByteBuffer			buffer;				// buffer being filled
+	private ArrayBlockingQueue<ByteBuffer> freeBuffers;	// buffers written out, ready to be filled again
+
+
+	// the SnapshotWriter constructor
+	// output of null writes the file on the model's thread
+	public AlcoholSnapshotWriter(String fileName, AlcoholOutputWriter output) {
+		this.fileName = fileName;
+		this.output = output;
+	}
+
+	public AlcoholSnapshotWriter(String fileName) {
+		this(fileName, null);
+	}
+
+	// declare a column holding an int or double value of each agent
+	public void addInt(String name, AgentInt v) { addColumn(name, INT, v); }
+	public void addDouble(String name, AlcoholAggregator.AgentValue v) { addColumn(name, DOUBLE, v); }
+
+	private void addColumn(String name, byte type, Object value) {
+		if (channel != null) throw new IllegalStateException("Snapshot columns must be declared before the file is opened");
+		columnNames.add(name);
+		columnTypes.add(type);
+		columnValues.add(value);
+	}
+
+	// open()
+	// Create the file and write the header
+	public void open() {
+		try {
+			channel = new FileOutputStream(fileName).getChannel();
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot open snapshot file " + fileName);
+		}
+		buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		if (output != null) {
+			freeBuffers = new ArrayBlockingQueue<ByteBuffer>(NUM_BUFFERS);
+			for (int b=1; b<NUM_BUFFERS; b++) { freeBuffers.add(ByteBuffer.allocateDirect(BUFFER_SIZE)); }
+		}
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(columnNames.size());
+		for (int c=0; c<columnNames.size(); c++) {
+			byte[] name = columnNames.get(c).getBytes(StandardCharsets.UTF_8);
+			buffer.put(columnTypes.get(c));
+			buffer.putShort((short) name.length);
+			buffer.put(name);
+		}
+	}
+
+	// write()
+	// Write the block of one time step: each column in turn, for all agents
+	public void write(int tick, AlcoholAgentSet agents) {
+		int n = agents.size();
+		reserve(8);
+		buffer.putInt(tick);
+		buffer.putInt(n);
+		for (int c=0; c<columnNames.size(); c++) {
+			if (columnTypes.get(c) == INT) {
+				AgentInt v = (AgentInt)columnValues.get(c);
+				for (int i=0; i<n; i++) {
+					reserve(4);
+					buffer.putInt(v.value(agents.get(i)));
+				}
+			}
+			else {
+				AlcoholAggregator.AgentValue v = (AlcoholAggregator.AgentValue)columnValues.get(c);
+				for (int i=0; i<n; i++) {
+					reserve(8);
+					buffer.putDouble(v.value(agents.get(i)));
+				}
+			}
+		}
+	}
+
+	// reserve()
+	// Make room for the next value, writing out the buffer if it is full
+	private void reserve(int bytes) {
+		if (buffer.remaining() < bytes) drain();
+	}
+
+	private void drain() {
+		buffer.flip();
+		if (output == null) {
+			writeBuffer(buffer);
+			buffer.clear();
+			return;
+		}
+
+		// write this buffer on the writer thread, and fill the next free buffer meanwhile; the buffer is
+		// returned even if the write fails
+		final ByteBuffer full = buffer;
+		output.submit(new Runnable() {
+			public void run() {
+				try {
+					writeBuffer(full);
+				} finally {
+					full.clear();
+					freeBuffers.add(full);
+				}
+			}
+		});
+
+		// wait for a free buffer; after an error the writer skips the jobs still queued, so their buffers
+		// never come back, and the error is thrown here instead
+		try {
+			buffer = null;
+			while (buffer == null) {
+				buffer = freeBuffers.poll(100, TimeUnit.MILLISECONDS);
+				if (buffer == null) output.checkFailure();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for snapshot buffer");
+		}
+	}
+
+	private void writeBuffer(ByteBuffer b) {
+		try {
+			while (b.hasRemaining()) { channel.write(b); }
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot write snapshot file " + fileName);
+		}
+	}
+
+	// close()
+	// Write out what is left in the buffer and close the file (waiting for the output writer, if any)
+	public void close() {
+		if (channel == null) return;
+		final FileChannel c = channel;
+		Runnable closeFile = new Runnable() {
+			public void run() {
+				try {
+					c.close();
+				} catch (IOException e) {
+					throw new IllegalStateException("Cannot close snapshot file " + fileName);
+				}
+			}
+		};
+		if (output == null) {
+			drain();
+			closeFile.run();
+		}
+		else {
+			final ByteBuffer last = buffer;
+			last.flip();
+			output.submit(new Runnable() {
+				public void run() { writeBuffer(last); }
+			});
+			output.submit(closeFile);
+			output.flush();
+		}
+		channel = null;
+		buffer = null;
+		freeBuffers = null;
+	}
+
+	// getters
+	public String getFileName() { return fileName; }
+	public int getNumColumns() { return columnNames.size(); }
+	public String getColumnName(int c) { return columnNames.get(c); }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The victim claims class assigns potential victims of violence to perpetrators. The perpetrators are
+ * taken in the order of a (shuffled) queue, and each one takes every potential victim within range that no
+ * perpetrator before it has taken, so each victim goes to the perpetrator earliest in the queue that can
+ * reach it. The perpetrators search at the same time on different threads (claim()): each potential victim
+ * in range is claimed with the position of the perpetrator in the queue, and keeps the smallest position
+ * (lock-free, by compare-and-set). The claims are then applied serially (resolve()), in the order of the
+ * potential-victim cells of the victim index, so the results are the same for any number of threads. Run
+ * AlcoholVictimClaimsCheck to compare the claims with perpetrators searching one by one.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class AlcoholVictimClaims {
+
+	// agent in population slot can be a victim at the current time step
+	public interface VictimTest {
+		public boolean canBeVictim(int slot);
+	}
+
+	// victim in population slot, on cell, claimed by the perpetrator at position perp of the queue
+	public interface ClaimVisitor {
+		public void visit(int slot, int cell, int perp);
+	}
+
+	// claim on each agent (by population slot): 1 + position in the queue of the first perpetrator to reach
+	// the agent (0 -- not reached)
+	private AtomicIntegerArray		claim = new AtomicIntegerArray(0);
+
+
+	// ensureCapacity()
+	// Make room for claims on population slots 0 to numSlots-1
+	public void ensureCapacity(int numSlots) {
+		if (claim.length() < numSlots) claim = new AtomicIntegerArray(numSlots);
+	}
+
+	// claim()
+	// Claim every victim within distance d of the perpetrator at position perp of the queue, located at (x, y),
+	// unless a perpetrator earlier in the queue has claimed it; may be called for several perpetrators at once
+	public void claim(int perp, int x, int y, int d, AlcoholVictimIndex index, final AlcoholCellGrid grid,
+					  final VictimTest test) {
+		final int c = perp + 1;
+		index.search(x, y, d, new AlcoholVictimIndex.CellVisitor() {
+			public void visit(int cell) {
+				// every agent located in the cell, since there may be several
+				for (int slot=grid.getFirstAgent(cell); slot>=0; slot=grid.getNextAgent(slot)) {
+					if (!test.canBeVictim(slot)) continue;
+					int current = claim.get(slot);
+					while ((current == 0 || c < current) && !claim.compareAndSet(slot, current, c)) {
+						current = claim.get(slot);
+					}
+				}
+			}
+		});
+	}
+
+	// resolve()
+	// Visit the claimed victims, cell by cell in the order the cells were added to the index, and clear the
+	// claims for the next time step (on one thread, after all claims are made)
+	public void resolve(AlcoholVictimIndex index, AlcoholCellGrid grid, ClaimVisitor visitor) {
+		for (int i=0; i<index.size(); i++) {
+			int cell = index.getCell(i);
+			for (int slot=grid.getFirstAgent(cell); slot>=0; slot=grid.getNextAgent(slot)) {
+				int c = claim.get(slot);
+				if (c == 0) continue;
+				claim.set(slot, 0);
+				visitor.visit(slot, cell, c - 1);
+			}
+		}
+	}
+
+}
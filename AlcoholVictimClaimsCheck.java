@@ -0,0 +1,128 @@
+/*
+ * Alcohol ABM
+ *
+ *     The victim claims check compares the victims assigned by AlcoholVictimClaims, with perpetrators
+ * claiming at the same time on several threads, with perpetrators searching one by one in the order of the
+ * queue (each taking every potential victim in range not yet taken). It places agents at random on small
+ * grids, makes some of them potential victims, and picks a queue of perpetrators, several of them often in
+ * range of the same victims. The claims are made with the queue in its order and in reverse order on the
+ * thread pool, and must give every victim the same perpetrator as the serial search. Run as
+ *
+ *     java cbtModel.AlcoholVictimClaimsCheck [seed] [grids] [threads]
+ *
+ * (defaults 1, 200 grids, 8 threads). The check exits with status 1 if any assignment differs.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.Arrays;
+
+public class AlcoholVictimClaimsCheck {
+
+	public static void main(String[] args) {
+		long seed = (args.length > 0) ? Long.parseLong(args[0]) : 1;
+		int grids = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : 8;
+		System.exit(check(seed, grids, threads) ? 0 : 1);
+	}
+
+	// check()
+	// Compare the parallel claims with the serial search on the given number of random grids
+	public static boolean check(long seed, int grids, int threads) {
+		AlcoholRandom rng = new AlcoholRandom(seed, AlcoholRandom.MODEL);
+		AlcoholParallel parallel = new AlcoholParallel(threads);
+		AlcoholVictimClaims claims = new AlcoholVictimClaims();		// reused, so claims must be cleared by resolve()
+		int mismatches = 0;
+		long victims = 0;
+		try {
+			for (int g=0; g<grids; g++) {
+				rng.start(AlcoholRandom.VIOLENCE, g);
+
+				// grid, agents and potential victims
+				final int size = rng.nextIntFromTo(20, 80);
+				final int d = rng.nextIntFromTo(1, 6);
+				final int numAgents = rng.nextIntFromTo(100, 3000);
+				final AlcoholCellGrid grid = new AlcoholCellGrid(size, size);
+				AlcoholVictimIndex index = new AlcoholVictimIndex(grid, d);
+				final boolean[] potential = new boolean[numAgents];
+				final int[] x = new int[numAgents], y = new int[numAgents];
+				double pVictim = rng.nextDoubleFromTo(0.01, 0.3);
+				boolean[] added = new boolean[size*size];
+				for (int i=0; i<numAgents; i++) {
+					x[i] = rng.nextIntFromTo(0, size - 1);
+					y[i] = rng.nextIntFromTo(0, size - 1);
+					int cell = grid.index(x[i], y[i]);
+					grid.placeAgent(i, cell);
+					potential[i] = rng.nextDouble() < pVictim;
+					if (potential[i] && !added[cell]) {
+						index.add(cell);
+						added[cell] = true;
+					}
+				}
+				index.build();
+				AlcoholVictimClaims.VictimTest test = new AlcoholVictimClaims.VictimTest() {
+					public boolean canBeVictim(int slot) { return potential[slot]; }
+				};
+
+				// queue of perpetrators, in shuffled order
+				final int numPerps = rng.nextIntFromTo(1, numAgents / 5);
+				final int[] queue = new int[numAgents];
+				for (int i=0; i<numAgents; i++) { queue[i] = i; }
+				rng.shuffle(queue, numAgents);
+
+				// serial search: each perpetrator in turn takes every potential victim in range not yet taken
+				final int[] expected = new int[numAgents];
+				Arrays.fill(expected, -1);
+				for (int q=0; q<numPerps; q++) {
+					final int perp = q;
+					index.search(x[queue[q]], y[queue[q]], d, new AlcoholVictimIndex.CellVisitor() {
+						public void visit(int cell) {
+							for (int slot=grid.getFirstAgent(cell); slot>=0; slot=grid.getNextAgent(slot)) {
+								if (potential[slot] && expected[slot] < 0) expected[slot] = perp;
+							}
+						}
+					});
+				}
+
+				// parallel claims, with the queue taken forwards and backwards
+				for (int order=0; order<2; order++) {
+					final boolean reverse = (order == 1);
+					final AlcoholVictimClaims c = claims;
+					final AlcoholVictimIndex idx = index;
+					final AlcoholVictimClaims.VictimTest t = test;
+					claims.ensureCapacity(numAgents);
+					parallel.forEach(numPerps, 1, new AlcoholParallel.IndexTask() {
+						public void run(int k) {
+							int q = reverse ? numPerps - 1 - k : k;
+							c.claim(q, x[queue[q]], y[queue[q]], d, idx, grid, t);
+						}
+					});
+					final int[] found = new int[numAgents];
+					Arrays.fill(found, -1);
+					claims.resolve(index, grid, new AlcoholVictimClaims.ClaimVisitor() {
+						public void visit(int slot, int cell, int perp) { found[slot] = perp; }
+					});
+					for (int i=0; i<numAgents; i++) {
+						if (found[i] != expected[i]) {
+							if (mismatches < 10) {
+								System.out.println("FAIL: grid " + g + (reverse ? " (reverse)" : "") + ", agent " + i
+										+ ": perpetrator " + found[i] + ", expected " + expected[i]);
+							}
+							mismatches += 1;
+						}
+						if (order == 0 && expected[i] >= 0) victims += 1;
+					}
+				}
+			}
+		} finally {
+			parallel.shutdown();
+		}
+		System.out.println(grids + " grids, " + victims + " victims, " + threads + " threads: "
+				+ (mismatches == 0 ? "OK" : mismatches + " assignments differ"));
+		return mismatches == 0;
+	}
+
+}
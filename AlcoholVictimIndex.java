@@ -0,0 +1,133 @@
+/*
+ * Alcohol ABM
+ *
+ *     This model will compare interventions aimed at reducing racial disparities in alcohol-related
+ * homicide, using New York City as the place and population of interest.
+ *
+ *     The victim index class is a spatial index of the cells holding potential victims of violence at the
+ * current time step. The physical space is divided into square tiles, and the potential-victim cells are
+ * stored grouped by tile. A search around a perpetrator only visits the tiles that overlap the search
+ * square, so it scales with the number of potential victims nearby rather than with the size of the
+ * search square. The index is rebuilt once per time step and reuses its arrays. Once built, it is only read,
+ * so several perpetrators can search it at the same time on different threads.
+ *
+ * Revised Oct 17, 2026
+ *
+ */
+
+package cbtModel;
+
+import java.util.Arrays;
+
+public class AlcoholVictimIndex {
+
+	private AlcoholCellGrid	cellGrid;			// the physical space
+	private int				xSize, ySize;		// size of the physical space
+	private int				tileSize;			// width and height of each tile
+	private int				tilesX, tilesY;		// number of tiles in each direction
+
+	// potential-victim cells added at the current time step, in the order added
+	private int[]			added = new int[64];
+	private int				numAdded;
+
+	// the same cells grouped by tile: cells of tile t are at positions tileStart[t] to tileStart[t+1]-1
+	private int[]			cells = new int[64];
+	private int[]			cellX = new int[64];
+	private int[]			cellY = new int[64];
+	private int[]			tileStart;
+
+	// cell found by a search
+	public interface CellVisitor {
+		public void visit(int cell);
+	}
+
+
+	// the VictimIndex constructor
+	// tileSize is usually the search distance, so that a search visits at most 3 x 3 tiles
+	public AlcoholVictimIndex(AlcoholCellGrid grid, int tileSize) {
+		cellGrid = grid;
+		xSize = grid.getXSize();
+		ySize = grid.getYSize();
+		this.tileSize = Math.max(1, tileSize);
+		tilesX = (xSize + this.tileSize - 1) / this.tileSize;
+		tilesY = (ySize + this.tileSize - 1) / this.tileSize;
+		tileStart = new int[tilesX*tilesY + 1];
+	}
+
+	// clear()
+	// Remove all cells, at the start of building the index for a new time step
+	public void clear() {
+		numAdded = 0;
+	}
+
+	// add()
+	// Add a cell holding a potential victim; each cell should be added once per time step
+	public void add(int cell) {
+		if (numAdded == added.length) added = Arrays.copyOf(added, added.length * 2);
+		added[numAdded++] = cell;
+	}
+
+	// build()
+	// Group the added cells by tile (counting sort), once all potential victims have been added
+	public void build() {
+		if (cells.length < numAdded) {
+			int n = Math.max(numAdded, cells.length * 2);
+			cells = new int[n];
+			cellX = new int[n];
+			cellY = new int[n];
+		}
+		Arrays.fill(tileStart, 0);
+		for (int i=0; i<numAdded; i++) {
+			tileStart[tileOf(cellGrid.getX(added[i]), cellGrid.getY(added[i])) + 1] += 1;
+		}
+		for (int t=0; t<tilesX*tilesY; t++) {
+			tileStart[t+1] += tileStart[t];
+		}
+		// place each cell at the next free position of its tile, then restore tileStart
+		for (int i=0; i<numAdded; i++) {
+			int cell = added[i];
+			int x = cellGrid.getX(cell), y = cellGrid.getY(cell);
+			int pos = tileStart[tileOf(x, y)]++;
+			cells[pos] = cell;
+			cellX[pos] = x;
+			cellY[pos] = y;
+		}
+		for (int t=tilesX*tilesY; t>0; t--) {
+			tileStart[t] = tileStart[t-1];
+		}
+		tileStart[0] = 0;
+	}
+
+	// search()
+	// Visit the potential-victim cells within distance d of (x, y), not including (x, y) itself,
+	// i.e., the same cells as the Moore neighborhood of (x, y) with extent d; returns the number found
+	public int search(int x, int y, int d, CellVisitor visitor) {
+		int numFound = 0;
+		int minX = Math.max(0, x - d), maxX = Math.min(xSize - 1, x + d);
+		int minY = Math.max(0, y - d), maxY = Math.min(ySize - 1, y + d);
+		if (minX > maxX || minY > maxY) return 0;
+		for (int ty = minY / tileSize; ty <= maxY / tileSize; ty++) {
+			for (int tx = minX / tileSize; tx <= maxX / tileSize; tx++) {
+				int t = ty*tilesX + tx;
+				for (int i=tileStart[t]; i<tileStart[t+1]; i++) {
+					int cx = cellX[i], cy = cellY[i];
+					if (cx >= minX && cx <= maxX && cy >= minY && cy <= maxY && (cx != x || cy != y)) {
+						visitor.visit(cells[i]);
+						numFound += 1;
+					}
+				}
+			}
+		}
+		return numFound;
+	}
+
+	private int tileOf(int x, int y) {
+		return (y / tileSize)*tilesX + (x / tileSize);
+	}
+
+	// getters
+	// potential-victim cells in the order they were added
+	public int getCell(int i) { return added[i]; }
+	public int size() { return numAdded; }
+
+}